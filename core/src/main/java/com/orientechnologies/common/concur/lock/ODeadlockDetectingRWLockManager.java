@@ -0,0 +1,432 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.common.concur.lock;
+
+import com.orientechnologies.common.exception.OException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Read-write lock manager which detects deadlocks. Each lock is acquired on behalf of an owner, for example a session, which may
+ * be served by different threads, and only the owner may release the lock. Methods of {@link OSimpleRWLockManager} use the current
+ * thread as an owner. Owners which hold and wait for locks are tracked to build the graph of owners which wait for each other.
+ * <p>
+ * The graph is checked each time when an owner has to wait for a lock. If the wait closes a cycle, one of the owners of the cycle
+ * is chosen as a victim and gets {@link ODeadlockException}. The victim is the owner which holds the least amount of locks, so the
+ * least amount of work is lost, if several owners hold the same amount of locks the owner which requests the lock is chosen.
+ * <p>
+ * Time spent waiting for locks is gathered into a histogram. Index of bucket of histogram is the amount of significant bits of
+ * the wait time in microseconds, so bucket <code>i</code> contains waits which took <code>[2^(i-1), 2^i)</code> microseconds.
+ */
+public class ODeadlockDetectingRWLockManager<T> implements OSimpleRWLockManager<T> {
+  /**
+   * Amount of buckets in histogram of wait times.
+   */
+  public static final int HISTOGRAM_BUCKETS = 32;
+
+  private final Lock                   lock      = new ReentrantLock();
+  private final Map<T, LockGuard>      map       = new HashMap<>();
+  private final Map<Object, Waiter<T>> waiters   = new HashMap<>();
+  private final Map<Object, Integer>   heldLocks = new HashMap<>();
+
+  private final AtomicLongArray waitTimeHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+  private final AtomicLong      deadlocks         = new AtomicLong();
+
+  private final Function<Object, String> ownerNames;
+
+  public ODeadlockDetectingRWLockManager() {
+    this(owner -> null);
+  }
+
+  /**
+   * @param ownerNames Provides names of owners which are shown in the state of locks, threads are shown by their names if it
+   *                   returns <code>null</code>.
+   */
+  public ODeadlockDetectingRWLockManager(Function<Object, String> ownerNames) {
+    this.ownerNames = ownerNames;
+  }
+
+  private final class LockGuard {
+    private final Condition            condition = lock.newCondition();
+    private final boolean              shared;
+    private final Map<Object, Integer> holders   = new LinkedHashMap<>();
+    private int                        count;
+
+    private LockGuard(boolean shared) {
+      this.shared = shared;
+    }
+  }
+
+  private static final class Waiter<T> {
+    private final T       key;
+    private final boolean shared;
+    private final long    start;
+    private boolean       victim;
+
+    private Waiter(T key, boolean shared, long start) {
+      this.key = key;
+      this.shared = shared;
+      this.start = start;
+    }
+  }
+
+  /**
+   * State of lock of single resource.
+   */
+  public static final class LockInfo<T> {
+    private final T                key;
+    private final Boolean          shared;
+    private final List<String>     holders;
+    private final List<WaiterInfo> waiters = new ArrayList<>();
+
+    private LockInfo(T key, Boolean shared, List<String> holders) {
+      this.key = key;
+      this.shared = shared;
+      this.holders = holders;
+    }
+
+    public T getKey() {
+      return key;
+    }
+
+    /**
+     * @return <code>true</code> if lock is held in shared mode, <code>false</code> if it is held in exclusive mode and
+     * <code>null</code> if lock is not held but there are threads which wait for it.
+     */
+    public Boolean isShared() {
+      return shared;
+    }
+
+    /**
+     * @return names of owners which hold the lock
+     */
+    public List<String> getHolders() {
+      return holders;
+    }
+
+    public List<WaiterInfo> getWaiters() {
+      return waiters;
+    }
+  }
+
+  /**
+   * Owner which waits for a lock.
+   */
+  public static final class WaiterInfo {
+    private final String  owner;
+    private final boolean shared;
+    private final long    waitTime;
+
+    private WaiterInfo(String owner, boolean shared, long waitTime) {
+      this.owner = owner;
+      this.shared = shared;
+      this.waitTime = waitTime;
+    }
+
+    public String getOwner() {
+      return owner;
+    }
+
+    public boolean isShared() {
+      return shared;
+    }
+
+    /**
+     * @return time in milliseconds which owner already spent waiting for the lock
+     */
+    public long getWaitTime() {
+      return waitTime;
+    }
+  }
+
+  /**
+   * Acquires lock on behalf of the given owner.
+   *
+   * @param timeout time to wait for the lock in milliseconds, <code>0</code> means to wait infinitely
+   *
+   * @throws ODeadlockException if waiting for the lock closes a cycle and the owner is chosen as a victim
+   */
+  public void lock(T key, Object owner, boolean shared, long timeout) {
+    lock.lock();
+    try {
+      Waiter<T> waiter = null;
+      try {
+        while (true) {
+          LockGuard guard = map.get(key);
+          if (guard == null) {
+            guard = new LockGuard(shared);
+            map.put(key, guard);
+          } else if (!(guard.shared && shared)) {
+            if (waiter == null) {
+              waiter = new Waiter<>(key, shared, System.nanoTime());
+              waiters.put(owner, waiter);
+            } else if (waiter.victim)
+              throw new ODeadlockException(
+                  String.format("Deadlock detected while acquiring lock for resource: '%s', thread is chosen as a victim", key));
+
+            if (resolveDeadlock(owner, guard))
+              throw new ODeadlockException(
+                  String.format("Deadlock detected while acquiring lock for resource: '%s', thread is chosen as a victim", key));
+
+            if (timeout == 0)
+              guard.condition.await();
+            else {
+              final long remaining = TimeUnit.MILLISECONDS.toNanos(timeout) - (System.nanoTime() - waiter.start);
+              if (remaining <= 0 || !guard.condition.await(remaining, TimeUnit.NANOSECONDS))
+                throw new OLockException(String.format("Time out acquire lock for resource: '%s' ", key));
+            }
+
+            continue;
+          }
+
+          guard.count++;
+          guard.holders.merge(owner, 1, Integer::sum);
+          heldLocks.merge(owner, 1, Integer::sum);
+          return;
+        }
+      } catch (InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("Interrupted Lock"), e);
+      } finally {
+        if (waiter != null) {
+          waiters.remove(owner);
+          waitTimeHistogram.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - waiter.start)));
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases lock acquired on behalf of the given owner, thread which releases the lock may differ from the one which acquired it.
+   */
+  public void unlock(T key, Object owner, boolean shared) {
+    lock.lock();
+    try {
+      final LockGuard guard = map.get(key);
+      if (guard == null || guard.shared != shared || !guard.holders.containsKey(owner)) {
+        throw new OLockException("Impossible to release a not acquired lock");
+      }
+
+      decrement(guard.holders, owner);
+      decrement(heldLocks, owner);
+
+      guard.count--;
+      if (guard.count == 0) {
+        map.remove(key);
+        guard.condition.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void acquireReadLock(T key, long timeout) {
+    lock(key, Thread.currentThread(), true, timeout);
+  }
+
+  @Override
+  public void acquireWriteLock(T key, long timeout) {
+    lock(key, Thread.currentThread(), false, timeout);
+  }
+
+  @Override
+  public void releaseReadLock(T key) {
+    unlock(key, Thread.currentThread(), true);
+  }
+
+  @Override
+  public void releaseWriteLock(T key) {
+    unlock(key, Thread.currentThread(), false);
+  }
+
+  /**
+   * @return histogram of time spent waiting for locks, see class description for format of histogram
+   */
+  public long[] getWaitTimeHistogram() {
+    final long[] result = new long[HISTOGRAM_BUCKETS];
+    for (int i = 0; i < result.length; i++)
+      result[i] = waitTimeHistogram.get(i);
+
+    return result;
+  }
+
+  /**
+   * @return amount of deadlocks detected since creation of the manager
+   */
+  public long getDeadlocksCount() {
+    return deadlocks.get();
+  }
+
+  /**
+   * @return state of all locks which are held or waited for at the moment
+   */
+  public List<LockInfo<T>> getLocks() {
+    final long now = System.nanoTime();
+    final Map<T, LockInfo<T>> locks = new LinkedHashMap<>();
+
+    lock.lock();
+    try {
+      for (Map.Entry<T, LockGuard> entry : map.entrySet()) {
+        final List<String> holders = new ArrayList<>();
+        for (Object holder : entry.getValue().holders.keySet())
+          holders.add(ownerName(holder));
+
+        locks.put(entry.getKey(), new LockInfo<>(entry.getKey(), entry.getValue().shared, holders));
+      }
+
+      for (Map.Entry<Object, Waiter<T>> entry : waiters.entrySet()) {
+        final Waiter<T> waiter = entry.getValue();
+
+        LockInfo<T> info = locks.get(waiter.key);
+        if (info == null) {
+          info = new LockInfo<>(waiter.key, null, Collections.emptyList());
+          locks.put(waiter.key, info);
+        }
+
+        info.waiters.add(new WaiterInfo(ownerName(entry.getKey()), waiter.shared,
+            TimeUnit.NANOSECONDS.toMillis(now - waiter.start)));
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    return new ArrayList<>(locks.values());
+  }
+
+  /**
+   * Looks for the cycle in the graph of owners which wait for each other, which is closed if the current owner waits for the
+   * given lock. If such cycle exists, the victim is chosen. If the victim is another owner, it is woken up to fail its wait.
+   *
+   * @return <code>true</code> if the current owner is chosen as a victim.
+   */
+  private boolean resolveDeadlock(Object current, LockGuard guard) {
+    final List<Object> cycle = findCycle(current, guard);
+    if (cycle == null)
+      return false;
+
+    Object victim = current;
+    int victimLocks = heldLocks.getOrDefault(current, 0);
+    for (Object owner : cycle) {
+      final Waiter<T> waiter = waiters.get(owner);
+      if (waiter.victim)
+        // deadlock is already being resolved, victim is just not woken up yet
+        return false;
+
+      final int locks = heldLocks.getOrDefault(owner, 0);
+      if (locks < victimLocks) {
+        victim = owner;
+        victimLocks = locks;
+      }
+    }
+
+    deadlocks.incrementAndGet();
+    if (victim == current)
+      return true;
+
+    final Waiter<T> waiter = waiters.get(victim);
+    waiter.victim = true;
+    map.get(waiter.key).condition.signalAll();
+
+    return false;
+  }
+
+  /**
+   * @return owners of cycle, current owner included, or <code>null</code> if there is no cycle
+   */
+  private List<Object> findCycle(Object current, LockGuard guard) {
+    final Map<Object, Object> waitsFor = new HashMap<>();
+    final Deque<Object> stack = new ArrayDeque<>();
+
+    for (Object holder : guard.holders.keySet()) {
+      // owner waits for the lock which it holds in incompatible mode
+      if (holder.equals(current))
+        return Collections.singletonList(current);
+
+      waitsFor.put(holder, current);
+      stack.push(holder);
+    }
+
+    while (!stack.isEmpty()) {
+      final Object owner = stack.pop();
+      final Waiter<T> waiter = waiters.get(owner);
+      if (waiter == null)
+        continue;
+
+      final LockGuard blocking = map.get(waiter.key);
+      // lock may be released already or be compatible with the requested one, then owner just is not woken up yet
+      if (blocking == null || (blocking.shared && waiter.shared))
+        continue;
+
+      for (Object holder : blocking.holders.keySet()) {
+        if (holder.equals(current)) {
+          final List<Object> cycle = new ArrayList<>();
+          for (Object member = owner; !member.equals(current); member = waitsFor.get(member))
+            cycle.add(member);
+
+          cycle.add(current);
+          return cycle;
+        }
+
+        if (!waitsFor.containsKey(holder)) {
+          waitsFor.put(holder, owner);
+          stack.push(holder);
+        }
+      }
+    }
+
+    return null;
+  }
+
+  private static void decrement(Map<Object, Integer> counters, Object owner) {
+    final int counter = counters.getOrDefault(owner, 0);
+    if (counter <= 1)
+      counters.remove(owner);
+    else
+      counters.put(owner, counter - 1);
+  }
+
+  private String ownerName(Object owner) {
+    final String name = ownerNames.apply(owner);
+    if (name != null)
+      return name;
+
+    return owner instanceof Thread ? ((Thread) owner).getName() : String.valueOf(owner);
+  }
+
+  private static int bucket(long value) {
+    return Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.common.concur.lock;
+
+/**
+ * Thrown to the thread which is chosen as victim of deadlock of locks. The thread should release all locks which it holds, for
+ * example by rollback of the transaction, and may retry the operation after that.
+ */
+public class ODeadlockException extends OLockException {
+  private static final long serialVersionUID = 1L;
+
+  public ODeadlockException(ODeadlockException exception) {
+    super(exception);
+  }
+
+  public ODeadlockException(String message) {
+    super(message);
+  }
+}
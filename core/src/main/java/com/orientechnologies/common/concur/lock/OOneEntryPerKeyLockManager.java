@@ -104,10 +104,81 @@ public class OOneEntryPerKeyLockManager<T> implements OLockManager<T> {
     if (!enabled)
       return null;
 
-    T immutableResource = getImmutableResourceId(iResourceId);
+    final T immutableResource = toImmutableResourceId(iResourceId);
+    final CountableLock lock = retainLock(immutableResource);
+
+    try {
+      if (iTimeout <= 0) {
+        if (iLockType == LOCK.SHARED)
+          lock.readWriteLock.readLock().lock();
+        else
+          lock.readWriteLock.writeLock().lock();
+      } else {
+        try {
+          if (iLockType == LOCK.SHARED) {
+            if (!lock.readWriteLock.readLock().tryLock(iTimeout, TimeUnit.MILLISECONDS))
+              throw new OLockException(
+                  "Timeout (" + iTimeout + "ms) on acquiring resource '" + iResourceId + "' because is locked from another thread");
+          } else {
+            if (!lock.readWriteLock.writeLock().tryLock(iTimeout, TimeUnit.MILLISECONDS))
+              throw new OLockException(
+                  "Timeout (" + iTimeout + "ms) on acquiring resource '" + iResourceId + "' because is locked from another thread");
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException
+              .wrapException(new OLockException("Thread interrupted while waiting for resource '" + iResourceId + "'"), e);
+        }
+      }
+
+      return new CountableLockWrapper(lock, iLockType == LOCK.SHARED);
+    } catch (RuntimeException e) {
+      abandonLock(immutableResource, lock);
+      throw e;
+    }
+  }
+
+  /**
+   * Acquires lock on the resource only if it is not held by other threads at the time of invocation.
+   *
+   * @return <code>true</code> if lock was acquired, the lock has to be released by {@link #releaseLock(Object, Object, LOCK)}.
+   */
+  public boolean tryAcquireLock(final T iResourceId, final LOCK iLockType) {
+    if (!enabled)
+      return true;
+
+    final T immutableResource = toImmutableResourceId(iResourceId);
+    final CountableLock lock = retainLock(immutableResource);
+
+    final boolean locked;
+    if (iLockType == LOCK.SHARED)
+      locked = lock.readWriteLock.readLock().tryLock();
+    else
+      locked = lock.readWriteLock.writeLock().tryLock();
+
+    if (!locked)
+      abandonLock(immutableResource, lock);
+
+    return locked;
+  }
+
+  private T toImmutableResourceId(final T iResourceId) {
+    final T immutableResource = getImmutableResourceId(iResourceId);
     if (immutableResource == null)
-      immutableResource = (T) NULL_KEY;
+      return (T) NULL_KEY;
+
+    return immutableResource;
+  }
 
+  private void abandonLock(final T immutableResource, final CountableLock lock) {
+    final int usages = lock.countLocks.decrementAndGet();
+
+    // lock may be retained by other thread at the same time, so it is removed in the same way as during eviction of cached locks
+    if (usages == 0 && lock.countLocks.compareAndSet(0, -1))
+      map.remove(immutableResource, lock);
+  }
+
+  private CountableLock retainLock(final T immutableResource) {
     CountableLock lock;
     do {
       lock = map.get(immutableResource);
@@ -162,38 +233,7 @@ public class OOneEntryPerKeyLockManager<T> implements OLockManager<T> {
       }
     }
 
-    try {
-      if (iTimeout <= 0) {
-        if (iLockType == LOCK.SHARED)
-          lock.readWriteLock.readLock().lock();
-        else
-          lock.readWriteLock.writeLock().lock();
-      } else {
-        try {
-          if (iLockType == LOCK.SHARED) {
-            if (!lock.readWriteLock.readLock().tryLock(iTimeout, TimeUnit.MILLISECONDS))
-              throw new OLockException(
-                  "Timeout (" + iTimeout + "ms) on acquiring resource '" + iResourceId + "' because is locked from another thread");
-          } else {
-            if (!lock.readWriteLock.writeLock().tryLock(iTimeout, TimeUnit.MILLISECONDS))
-              throw new OLockException(
-                  "Timeout (" + iTimeout + "ms) on acquiring resource '" + iResourceId + "' because is locked from another thread");
-          }
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw OException
-              .wrapException(new OLockException("Thread interrupted while waiting for resource '" + iResourceId + "'"), e);
-        }
-      }
-
-      return new CountableLockWrapper(lock, iLockType == LOCK.SHARED);
-    } catch (RuntimeException e) {
-      final int usages = lock.countLocks.decrementAndGet();
-      if (usages == 0)
-        map.remove(immutableResource);
-
-      throw e;
-    }
+    return lock;
   }
 
   public void releaseLock(final Object iRequester, T iResourceId, final LOCK iLockType) throws OLockException {
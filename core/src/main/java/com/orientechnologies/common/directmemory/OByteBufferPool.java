@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.common.directmemory;
 
+import com.orientechnologies.common.jna.ONative;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 
@@ -27,8 +28,12 @@ import javax.management.ObjectName;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.*;
@@ -37,6 +42,15 @@ import java.util.concurrent.atomic.*;
  * Object of this class works at the same time as factory for <code>DirectByteBuffer</code> objects and pool for
  * <code>DirectByteBuffer</code> objects which were used and now are free to be reused by other parts of the code.
  * All <code>DirectByteBuffer</code> objects have the same size which is specified in objects constructor as "page size".
+ * <p>
+ * To avoid contention between threads free pages are kept in two levels. Each thread caches small amount of released pages in its
+ * own magazine which is accessed without contention with other threads. Pages which do not fit into the magazine are put into the
+ * partition of pool which belongs to the CPU core (or NUMA node if {@link OGlobalConfiguration#DIRECT_MEMORY_POOL_NUMA_AWARE} is
+ * set) on which releasing thread is running. Pages are taken from partitions of other cores only if local partition is empty, so
+ * pages mostly stay in memory which is local to the threads which use them.
+ * <p>
+ * If {@link OGlobalConfiguration#DIRECT_MEMORY_HUGE_PAGES} is set pages are allocated in arenas backed by huge pages, such pages are
+ * never returned to the OS one by one, but only together with all other pages when pool is cleared.
  *
  * @see ODirectMemoryAllocator
  */
@@ -62,6 +76,12 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
    */
   private static final String MBEAN_NAME = "com.orientechnologies.common.directmemory:type=OByteBufferPoolMXBean";
 
+  /**
+   * Amount of requests of local partition after which CPU of the thread is detected again. Detection of CPU is a native call, while
+   * threads are moved between CPUs rarely comparing to the frequency of acquisition of pages.
+   */
+  private static final int CPU_DETECTION_INTERVAL = 1024;
+
   /**
    * @return Singleton instance
    */
@@ -90,13 +110,59 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
   private final ConcurrentHashMap<ByteBufferHolder, PointerHolder> bufferPointerMapping = new ConcurrentHashMap<>();
 
   /**
-   * Pool of already allocated pages.
+   * Partitions of pool of already allocated pages.
+   */
+  private final ConcurrentLinkedQueue<OPointer>[] partitions;
+
+  /**
+   * Maps index of CPU to the index of partition of pool if pool is partitioned by NUMA nodes, otherwise index of CPU is used as
+   * index of partition.
    */
-  private final ConcurrentLinkedQueue<OPointer> pointersPool     = new ConcurrentLinkedQueue<>();
+  private final int[] cpuPartitions;
+
+  /**
+   * Partitions of pool which belong to the CPUs on which threads were running last time it was detected, <code>null</code> if pool
+   * consists of single partition.
+   */
+  private final ThreadLocal<LocalPartition> localPartitions;
+
   /**
    * Size of the pool of pages is kept in separate counter because it is slow to ask pool itself and count all links in the pool.
+   * Pages cached in the thread local magazines are counted too.
+   */
+  private final AtomicInteger pointersPoolSize = new AtomicInteger();
+
+  /**
+   * Maximum amount of pages which are cached by each thread.
+   */
+  private final int magazineSize;
+
+  /**
+   * Thread local caches of released pages, <code>null</code> if thread local caching is switched off.
+   */
+  private final ThreadLocal<Magazine> magazines;
+
+  /**
+   * All magazines created by pool, are used to free memory during clear of pool and to reuse pages cached by other threads.
+   * Magazines of terminated threads are removed once new magazine is created.
+   */
+  private final Set<Magazine> allMagazines = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Whether pages should be allocated in arenas backed by huge pages.
+   */
+  private volatile boolean hugePages;
+
+  /**
+   * Arenas allocated by pool, guarded by itself.
    */
-  private final AtomicInteger                   pointersPoolSize = new AtomicInteger();
+  private final List<OPointer> arenas = new ArrayList<>();
+  private       OPointer       currentArena;
+  private       int            currentArenaOffset;
+
+  private final LongAdder threadLocalHitsCount = new LongAdder();
+  private final LongAdder sharedPoolHitsCount  = new LongAdder();
+  private final LongAdder allocationsCount     = new LongAdder();
 
   /**
    * Direct memory allocator.
@@ -107,9 +173,7 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
    * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by pool.
    */
   public OByteBufferPool(int pageSize) {
-    this.pageSize = pageSize;
-    this.allocator = ODirectMemoryAllocator.instance();
-    this.poolSize = OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger();
+    this(pageSize, ODirectMemoryAllocator.instance(), OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger());
   }
 
   /**
@@ -118,9 +182,67 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
    * @param poolSize  Size of the page pool
    */
   public OByteBufferPool(int pageSize, ODirectMemoryAllocator allocator, int poolSize) {
+    this(pageSize, allocator, poolSize, OGlobalConfiguration.DIRECT_MEMORY_POOL_MAGAZINE_SIZE.getValueAsInteger(),
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_NUMA_AWARE.getValueAsBoolean(),
+        OGlobalConfiguration.DIRECT_MEMORY_HUGE_PAGES.getValueAsBoolean());
+  }
+
+  /**
+   * @param allocator    Direct memory allocator to use.
+   * @param pageSize     Size of single page (instance of <code>DirectByteBuffer</code>) returned by pool.
+   * @param poolSize     Size of the page pool
+   * @param magazineSize Maximum amount of pages cached by each thread, 0 means that pages are not cached by threads
+   * @param numaAware    Whether pool should be partitioned by NUMA nodes instead of CPU cores
+   * @param hugePages    Whether pages should be allocated in arenas backed by huge pages
+   */
+  public OByteBufferPool(int pageSize, ODirectMemoryAllocator allocator, int poolSize, int magazineSize, boolean numaAware,
+      boolean hugePages) {
     this.pageSize = pageSize;
     this.allocator = allocator;
     this.poolSize = poolSize;
+    this.magazineSize = Math.max(0, magazineSize);
+    this.hugePages = hugePages && pageSize <= ONative.HUGE_PAGE_SIZE / 2;
+
+    final int[] cpuNodes = numaAware ? ONative.instance().getCpuNumaNodes() : null;
+    final int partitionsCount;
+
+    if (cpuNodes != null) {
+      int maxNode = 0;
+      for (int node : cpuNodes) {
+        maxNode = Math.max(maxNode, node);
+      }
+
+      partitionsCount = maxNode + 1;
+      cpuPartitions = cpuNodes;
+    } else {
+      partitionsCount = Runtime.getRuntime().availableProcessors();
+      cpuPartitions = null;
+    }
+
+    partitions = newPartitions(partitionsCount);
+    localPartitions = partitionsCount > 1 ? ThreadLocal.withInitial(LocalPartition::new) : null;
+
+    if (this.magazineSize > 0) {
+      magazines = ThreadLocal.withInitial(() -> {
+        removeTerminatedMagazines();
+
+        final Magazine magazine = new Magazine(this.magazineSize, Thread.currentThread());
+        allMagazines.add(magazine);
+        return magazine;
+      });
+    } else {
+      magazines = null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ConcurrentLinkedQueue<OPointer>[] newPartitions(int partitionsCount) {
+    final ConcurrentLinkedQueue<OPointer>[] partitions = (ConcurrentLinkedQueue<OPointer>[]) new ConcurrentLinkedQueue<?>[partitionsCount];
+    for (int i = 0; i < partitionsCount; i++) {
+      partitions[i] = new ConcurrentLinkedQueue<>();
+    }
+
+    return partitions;
   }
 
   /**
@@ -133,11 +255,30 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
    * @return Direct memory buffer instance.
    */
   public ByteBuffer acquireDirect(boolean clear) {
-    OPointer pointer = pointersPool.poll();
+    OPointer pointer = null;
+
+    if (magazines != null) {
+      pointer = magazines.get().poll();
+
+      if (pointer != null) {
+        threadLocalHitsCount.increment();
+      }
+    }
+
+    if (pointer == null) {
+      pointer = pollPartitions();
+    }
+
+    //pages may be cached by other threads, we take them before we allocate new memory
+    if (pointer == null && magazines != null && pointersPoolSize.get() > 0) {
+      pointer = pollMagazines();
+    }
+
     if (pointer != null) {
       pointersPoolSize.decrementAndGet();
     } else {
-      pointer = allocator.allocate(pageSize);
+      pointer = allocatePage();
+      allocationsCount.increment();
     }
 
     if (clear) {
@@ -165,15 +306,150 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
       throw new IllegalArgumentException(String.format("Buffer %X is not acquired", System.identityHashCode(buffer)));
     }
 
+    final OPointer pointer = holder.pointer;
+
     long poolSize = pointersPoolSize.incrementAndGet();
-    if (poolSize > this.poolSize) {
+    //pages allocated inside of arenas can not be deallocated one by one
+    if (poolSize > this.poolSize && !pointer.isSlice()) {
       pointersPoolSize.decrementAndGet();
-      allocator.deallocate(holder.pointer);
+      allocator.deallocate(pointer);
+    } else if (magazines == null || !magazines.get().offer(pointer)) {
+      partitions[localPartition()].add(pointer);
+    }
+  }
+
+  /**
+   * Takes page from the partition of current CPU or from partitions of other CPUs if local one is empty.
+   */
+  private OPointer pollPartitions() {
+    final int localPartition = localPartition();
+
+    for (int i = 0; i < partitions.length; i++) {
+      final OPointer pointer = partitions[(localPartition + i) % partitions.length].poll();
+
+      if (pointer != null) {
+        sharedPoolHitsCount.increment();
+        return pointer;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Takes page from the magazines of other threads. Pages of magazines of terminated threads are moved into the partitions of
+   * pool.
+   */
+  private OPointer pollMagazines() {
+    OPointer result = null;
+
+    for (Magazine magazine : allMagazines) {
+      if (!magazine.isAlive()) {
+        removeMagazine(magazine);
+        continue;
+      }
+
+      if (result == null) {
+        result = magazine.poll();
+      }
+    }
+
+    if (result == null) {
+      result = pollPartitions();
     } else {
-      pointersPool.add(holder.pointer);
+      sharedPoolHitsCount.increment();
+    }
+
+    return result;
+  }
+
+  /**
+   * Removes magazines of terminated threads, so pages cached by them are not lost.
+   */
+  private void removeTerminatedMagazines() {
+    for (Magazine magazine : allMagazines) {
+      if (!magazine.isAlive()) {
+        removeMagazine(magazine);
+      }
+    }
+  }
+
+  /**
+   * Removes magazine of terminated thread and moves its pages into the partitions of pool.
+   */
+  private void removeMagazine(Magazine magazine) {
+    if (!allMagazines.remove(magazine)) {
+      return;
+    }
+
+    for (OPointer pointer : magazine.drain()) {
+      partitions[localPartition()].add(pointer);
     }
   }
 
+  /**
+   * @return Index of partition of pool which belongs to the CPU on which current thread was running last time it was detected.
+   */
+  private int localPartition() {
+    if (localPartitions == null) {
+      return 0;
+    }
+
+    final LocalPartition localPartition = localPartitions.get();
+    if (localPartition.requestsLeft == 0) {
+      localPartition.partition = cpuPartition();
+      localPartition.requestsLeft = CPU_DETECTION_INTERVAL;
+    }
+
+    localPartition.requestsLeft--;
+    return localPartition.partition;
+  }
+
+  /**
+   * @return Index of partition of pool which belongs to the CPU on which current thread is running.
+   */
+  private int cpuPartition() {
+    final int cpu = ONative.instance().getCurrentCpu();
+    if (cpu < 0) {
+      return (int) (Thread.currentThread().getId() % partitions.length);
+    }
+
+    if (cpuPartitions != null) {
+      return cpu < cpuPartitions.length ? cpuPartitions[cpu] : 0;
+    }
+
+    return cpu % partitions.length;
+  }
+
+  /**
+   * Allocates new page from the current arena or directly from the allocator if huge pages are not used.
+   */
+  private OPointer allocatePage() {
+    if (hugePages) {
+      synchronized (arenas) {
+        if (currentArena == null || currentArenaOffset + pageSize > currentArena.getSize()) {
+          currentArena = allocator.allocateHugePagesArena();
+          currentArenaOffset = 0;
+
+          if (currentArena == null) {
+            OLogManager.instance()
+                .warnNoDb(this, "Huge pages are not supported by the system, pages of direct memory pool will be allocated as usual");
+            hugePages = false;
+            return allocator.allocate(pageSize);
+          }
+
+          arenas.add(currentArena);
+        }
+
+        final OPointer pointer = currentArena.slice(currentArenaOffset, pageSize);
+        currentArenaOffset += pageSize;
+        return pointer;
+      }
+    }
+
+    return allocator.allocate(pageSize);
+  }
+
   /**
    * @inheritDoc
    */
@@ -182,6 +458,45 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
     return pointersPoolSize.get();
   }
 
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public int getPartitionsCount() {
+    return partitions.length;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getThreadLocalHitsCount() {
+    return threadLocalHitsCount.sum();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getSharedPoolHitsCount() {
+    return sharedPoolHitsCount.sum();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getAllocationsCount() {
+    return allocationsCount.sum();
+  }
+
+  /**
+   * @return Amount of thread local magazines registered in pool.
+   */
+  int getMagazinesCount() {
+    return allMagazines.size();
+  }
+
   /**
    * Writes passed in message into the log with provided {@link ByteBuffer} identity hash code and checks whether buffer was released
    * to pool.
@@ -225,11 +540,19 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
    * Clears pool and dealocates memory.
    */
   public void clear() {
-    for (OPointer pointer : pointersPool) {
-      allocator.deallocate(pointer);
+    for (Magazine magazine : allMagazines) {
+      for (OPointer pointer : magazine.drain()) {
+        deallocate(pointer);
+      }
+    }
+
+    for (ConcurrentLinkedQueue<OPointer> partition : partitions) {
+      OPointer pointer;
+      while ((pointer = partition.poll()) != null) {
+        deallocate(pointer);
+      }
     }
 
-    pointersPool.clear();
     pointersPoolSize.set(0);
 
     if (!TRACK && !bufferPointerMapping.isEmpty()) {
@@ -242,10 +565,29 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
     }
 
     for (PointerHolder holder : bufferPointerMapping.values()) {
-      allocator.deallocate(holder.pointer);
+      deallocate(holder.pointer);
     }
 
     bufferPointerMapping.clear();
+
+    synchronized (arenas) {
+      for (OPointer arena : arenas) {
+        allocator.deallocate(arena);
+      }
+
+      arenas.clear();
+      currentArena = null;
+      currentArenaOffset = 0;
+    }
+  }
+
+  /**
+   * Deallocates page, pages allocated inside of arenas are deallocated together with arena.
+   */
+  private void deallocate(OPointer pointer) {
+    if (!pointer.isSlice()) {
+      allocator.deallocate(pointer);
+    }
   }
 
   /**
@@ -286,6 +628,66 @@ public class OByteBufferPool implements OByteBufferPoolMXBean {
     }
   }
 
+  /**
+   * Thread local cache of released pages. Magazine is accessed by other threads only if they need to reuse pages of other threads
+   * or pool is cleared, so its lock is almost never contended.
+   */
+  private static final class Magazine {
+    private final OPointer[]            pointers;
+    private final WeakReference<Thread> owner;
+    private       int                   size;
+
+    Magazine(int capacity, Thread owner) {
+      this.pointers = new OPointer[capacity];
+      this.owner = new WeakReference<>(owner);
+    }
+
+    synchronized OPointer poll() {
+      if (size == 0) {
+        return null;
+      }
+
+      size--;
+      final OPointer pointer = pointers[size];
+      pointers[size] = null;
+      return pointer;
+    }
+
+    synchronized boolean offer(OPointer pointer) {
+      if (size == pointers.length) {
+        return false;
+      }
+
+      pointers[size] = pointer;
+      size++;
+      return true;
+    }
+
+    synchronized List<OPointer> drain() {
+      final List<OPointer> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add(pointers[i]);
+        pointers[i] = null;
+      }
+
+      size = 0;
+      return result;
+    }
+
+    boolean isAlive() {
+      final Thread thread = owner.get();
+      return thread != null && thread.isAlive();
+    }
+  }
+
+  /**
+   * Partition of pool which is used by the thread and amount of requests of it left till the next detection of CPU of the thread.
+   */
+  private static final class LocalPartition {
+    private int partition;
+    private int requestsLeft;
+  }
+
   /**
    * Holder which is used to compare byte buffers by object's identity not by content
    */
@@ -28,4 +28,24 @@ public interface OByteBufferPoolMXBean {
    * @return Current size of the memory pool
    */
   int getPoolSize();
+
+  /**
+   * @return Amount of partitions of the memory pool, each partition keeps pages released on the single CPU core or NUMA node
+   */
+  int getPartitionsCount();
+
+  /**
+   * @return Amount of pages which were reused from the cache of the thread which requested them
+   */
+  long getThreadLocalHitsCount();
+
+  /**
+   * @return Amount of pages which were reused from the partitions of the memory pool
+   */
+  long getSharedPoolHitsCount();
+
+  /**
+   * @return Amount of pages for which new direct memory was allocated
+   */
+  long getAllocationsCount();
 }
@@ -21,6 +21,7 @@
 package com.orientechnologies.common.directmemory;
 
 import com.orientechnologies.common.exception.ODirectMemoryAllocationFailedException;
+import com.orientechnologies.common.jna.ONative;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.sun.jna.Native;
@@ -88,6 +89,16 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
    */
   private final LongAdder memoryConsumption = new LongAdder();
 
+  /**
+   * Amount of direct memory allocated in huge pages by using this allocator.
+   */
+  private final LongAdder hugePagesMemoryConsumption = new LongAdder();
+
+  /**
+   * Amount of allocations of direct memory performed by this allocator.
+   */
+  private final LongAdder allocationsCount = new LongAdder();
+
   /**
    * @return singleton instance.
    */
@@ -132,6 +143,32 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
 
     final OPointer ptr = new OPointer(new Pointer(pointer), size);
     memoryConsumption.add(size);
+    allocationsCount.increment();
+
+    return track(ptr);
+  }
+
+  /**
+   * Allocates arena of direct memory of {@link ONative#HUGE_PAGE_SIZE} size which is aligned to the boundary of huge page and is
+   * backed by transparent huge pages if they are supported by OS. Arena is split on pages by users of allocator and is deallocated
+   * as a whole.
+   *
+   * @return Pointer to allocated arena or <code>null</code> if huge pages are not supported on current platform.
+   *
+   * @see OPointer#slice(int, int)
+   */
+  public OPointer allocateHugePagesArena() {
+    final int size = ONative.HUGE_PAGE_SIZE;
+
+    final long pointer = ONative.instance().allocateHugePagesMemory(size);
+    if (pointer == 0) {
+      return null;
+    }
+
+    final OPointer ptr = new OPointer(new Pointer(pointer), size, true, false);
+    memoryConsumption.add(size);
+    hugePagesMemoryConsumption.add(size);
+    allocationsCount.increment();
 
     return track(ptr);
   }
@@ -144,9 +181,17 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
       throw new IllegalArgumentException("Null value is passed");
     }
 
+    if (pointer.isSlice()) {
+      throw new IllegalArgumentException("Part of memory chunk can not be deallocated");
+    }
+
     final Pointer ptr = pointer.getNativePointer();
     Native.free(Pointer.nativeValue(ptr));
     memoryConsumption.add(-pointer.getSize());
+
+    if (pointer.isHugePages()) {
+      hugePagesMemoryConsumption.add(-pointer.getSize());
+    }
     untrack(pointer);
   }
 
@@ -158,6 +203,22 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     return memoryConsumption.longValue();
   }
 
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getHugePagesMemoryConsumption() {
+    return hugePagesMemoryConsumption.longValue();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getAllocationsCount() {
+    return allocationsCount.longValue();
+  }
+
   /**
    * Verifies that all pointers which were allocated by allocator are freed.
    */
@@ -25,4 +25,14 @@ public interface ODirectMemoryAllocatorMXBean {
    * @return Amount of direct memory allocated using this allocator
    */
   long getMemoryConsumption();
+
+  /**
+   * @return Amount of direct memory allocated in huge pages using this allocator
+   */
+  long getHugePagesMemoryConsumption();
+
+  /**
+   * @return Amount of allocations of direct memory performed by this allocator
+   */
+  long getAllocationsCount();
 }
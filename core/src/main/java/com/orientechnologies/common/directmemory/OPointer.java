@@ -9,9 +9,35 @@ public class OPointer {
   private final Pointer pointer;
   private final int     size;
 
+  /**
+   * Whether memory is allocated in huge pages.
+   */
+  private final boolean hugePages;
+
+  /**
+   * Whether this pointer points to the part of bigger chunk of memory, such pointers can not be deallocated by itself.
+   */
+  private final boolean slice;
+
   public OPointer(Pointer pointer, int size) {
+    this(pointer, size, false, false);
+  }
+
+  OPointer(Pointer pointer, int size, boolean hugePages, boolean slice) {
     this.pointer = pointer;
     this.size = size;
+    this.hugePages = hugePages;
+    this.slice = slice;
+  }
+
+  /**
+   * @return Pointer to the part of memory referenced by this pointer.
+   */
+  OPointer slice(int offset, int size) {
+    if (offset < 0 || size <= 0 || offset + size > this.size)
+      throw new IllegalArgumentException("Slice [" + offset + ", " + (offset + size) + ") is out of bounds of memory chunk");
+
+    return new OPointer(pointer.share(offset, size), size, hugePages, true);
   }
 
   public void clear() {
@@ -30,6 +56,14 @@ public class OPointer {
     return size;
   }
 
+  boolean isHugePages() {
+    return hugePages;
+  }
+
+  boolean isSlice() {
+    return slice;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
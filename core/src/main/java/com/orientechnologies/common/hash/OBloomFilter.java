@@ -0,0 +1,119 @@
+/*
+  *
+  *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://orientdb.com
+  *
+  */
+
+package com.orientechnologies.common.hash;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of binary keys. Positions of bits of the key are derived from two halves of 64-bit murmur hash of the key, so only
+ * single hash is calculated for each key. Bits may be set concurrently with each other and with checks of keys.
+ */
+public class OBloomFilter {
+  private static final int SEED = 0x3c074a61;
+
+  private final AtomicLongArray bits;
+  private final long            bitsCount;
+  private final int             hashFunctions;
+
+  /**
+   * @param expectedKeys      Amount of keys which are expected to be added into the filter.
+   * @param falsePositiveRate Probability with which {@link #mightContain(byte[])} returns <code>true</code> for the key which was not
+   *                          added, once all expected keys are added.
+   */
+  public OBloomFilter(long expectedKeys, double falsePositiveRate) {
+    if (expectedKeys < 1)
+      expectedKeys = 1;
+
+    final double ln2 = Math.log(2);
+    final long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+    final int words = (int) Math.max(1, Math.min(1 << 25, (optimalBits + 63) >>> 6));
+
+    bits = new AtomicLongArray(words);
+    bitsCount = (long) words << 6;
+    hashFunctions = (int) Math.max(1, Math.min(16, Math.round((double) bitsCount / expectedKeys * ln2)));
+  }
+
+  private OBloomFilter(AtomicLongArray bits, int hashFunctions) {
+    this.bits = bits;
+    this.bitsCount = (long) bits.length() << 6;
+    this.hashFunctions = hashFunctions;
+  }
+
+  /**
+   * Reads filter written by {@link #write(DataOutput)}.
+   */
+  public static OBloomFilter read(DataInput input) throws IOException {
+    final int hashFunctions = input.readInt();
+    final int words = input.readInt();
+    if (hashFunctions < 1 || words < 1)
+      throw new IOException("Invalid header of bloom filter");
+
+    final AtomicLongArray bits = new AtomicLongArray(words);
+    for (int i = 0; i < words; i++)
+      bits.set(i, input.readLong());
+
+    return new OBloomFilter(bits, hashFunctions);
+  }
+
+  public void write(DataOutput output) throws IOException {
+    output.writeInt(hashFunctions);
+    output.writeInt(bits.length());
+
+    for (int i = 0; i < bits.length(); i++)
+      output.writeLong(bits.get(i));
+  }
+
+  public void add(byte[] key) {
+    final long hash = OMurmurHash3.murmurHash3_x64_64(key, SEED);
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+
+    for (int i = 1; i <= hashFunctions; i++) {
+      final long bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitsCount;
+      final int word = (int) (bit >>> 6);
+      final long mask = 1L << bit;
+
+      long value = bits.get(word);
+      while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask))
+        value = bits.get(word);
+    }
+  }
+
+  /**
+   * @return <code>false</code> if key was never added into the filter, <code>true</code> if key was added or may be added.
+   */
+  public boolean mightContain(byte[] key) {
+    final long hash = OMurmurHash3.murmurHash3_x64_64(key, SEED);
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+
+    for (int i = 1; i <= hashFunctions; i++) {
+      final long bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitsCount;
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+        return false;
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+  *
+  *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://orientdb.com
+  *
+  */
+
+package com.orientechnologies.common.hash;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.zip.Checksum;
+
+/**
+ * CRC32C (Castagnoli) checksum.
+ * <p>
+ * On Java 9 and later {@link #create()} returns <code>java.util.zip.CRC32C</code> which is intrinsified by JIT and uses
+ * hardware instructions where they are available. On Java 8 table driven "slicing-by-8" implementation of this class is used.
+ * Both implementations produce the same values.
+ */
+public final class OCRC32C implements Checksum {
+  private static final int POLYNOMIAL = 0x82F63B78;
+
+  private static final int[][] TABLES = new int[8][256];
+
+  private static final MethodHandle JDK_CONSTRUCTOR;
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      int crc = i;
+      for (int n = 0; n < 8; n++) {
+        if ((crc & 1) != 0)
+          crc = (crc >>> 1) ^ POLYNOMIAL;
+        else
+          crc = crc >>> 1;
+      }
+
+      TABLES[0][i] = crc;
+    }
+
+    for (int i = 0; i < 256; i++) {
+      for (int k = 1; k < 8; k++) {
+        final int prev = TABLES[k - 1][i];
+        TABLES[k][i] = (prev >>> 8) ^ TABLES[0][prev & 0xFF];
+      }
+    }
+
+    MethodHandle constructor;
+    try {
+      final Class<?> jdkClass = Class.forName("java.util.zip.CRC32C");
+      constructor = MethodHandles.publicLookup().findConstructor(jdkClass, MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Checksum.class));
+    } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+      constructor = null;
+    }
+
+    JDK_CONSTRUCTOR = constructor;
+  }
+
+  private int crc = 0xFFFFFFFF;
+
+  /**
+   * @return New instance of CRC32C checksum, JDK implementation is preferred if it is present.
+   */
+  public static Checksum create() {
+    if (JDK_CONSTRUCTOR != null) {
+      try {
+        return (Checksum) JDK_CONSTRUCTOR.invokeExact();
+      } catch (Throwable e) {
+        // fall back to our own implementation
+      }
+    }
+
+    return new OCRC32C();
+  }
+
+  /**
+   * @return <code>true</code> if {@link #create()} returns JDK implementation of CRC32C.
+   */
+  public static boolean isJdkImplementationUsed() {
+    return JDK_CONSTRUCTOR != null;
+  }
+
+  @Override
+  public void update(int b) {
+    crc = (crc >>> 8) ^ TABLES[0][(crc ^ b) & 0xFF];
+  }
+
+  @Override
+  public void update(byte[] b, int off, int len) {
+    final int[] t0 = TABLES[0];
+    final int[] t1 = TABLES[1];
+    final int[] t2 = TABLES[2];
+    final int[] t3 = TABLES[3];
+    final int[] t4 = TABLES[4];
+    final int[] t5 = TABLES[5];
+    final int[] t6 = TABLES[6];
+    final int[] t7 = TABLES[7];
+
+    int c = crc;
+    int i = off;
+    final int end = off + len;
+
+    while (end - i >= 8) {
+      c ^= (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8 | (b[i + 2] & 0xFF) << 16 | (b[i + 3] & 0xFF) << 24;
+      c = t7[c & 0xFF] ^ t6[(c >>> 8) & 0xFF] ^ t5[(c >>> 16) & 0xFF] ^ t4[c >>> 24] ^ t3[b[i + 4] & 0xFF] ^ t2[b[i + 5] & 0xFF]
+          ^ t1[b[i + 6] & 0xFF] ^ t0[b[i + 7] & 0xFF];
+      i += 8;
+    }
+
+    while (i < end) {
+      c = (c >>> 8) ^ t0[(c ^ b[i]) & 0xFF];
+      i++;
+    }
+
+    crc = c;
+  }
+
+  public void update(byte[] b) {
+    update(b, 0, b.length);
+  }
+
+  @Override
+  public long getValue() {
+    return (~crc) & 0xFFFFFFFFL;
+  }
+
+  @Override
+  public void reset() {
+    crc = 0xFFFFFFFF;
+  }
+}
@@ -2,8 +2,10 @@ package com.orientechnologies.common.jna;
 
 import com.sun.jna.LastErrorException;
 import com.sun.jna.Library;
+import com.sun.jna.Pointer;
 import com.sun.jna.Structure;
 import com.sun.jna.platform.unix.Resource;
+import com.sun.jna.ptr.PointerByReference;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,6 +24,11 @@ public interface OCLibrary extends Library {
    */
   int RLIM_INFINITY = 0;
 
+  /**
+   * Advice to enable transparent huge pages for the range of memory.
+   */
+  int MADV_HUGEPAGE = 14;
+
   class Rlimit extends Structure {
     public static final List<String> FIELDS = createFieldsOrder("rlim_cur", "rlim_max");
 
@@ -60,4 +67,13 @@ public interface OCLibrary extends Library {
   int fallocate(int fd, int mode, long offset, long len) throws LastErrorException;
 
   int close(int fd) throws LastErrorException;
+
+  // see man(3) sched_getcpu
+  int sched_getcpu() throws LastErrorException;
+
+  // see man(3) posix_memalign
+  int posix_memalign(PointerByReference memptr, long alignment, long size);
+
+  // see man(2) madvise
+  int madvise(Pointer addr, long length, int advice) throws LastErrorException;
 }
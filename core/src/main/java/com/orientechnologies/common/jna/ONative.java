@@ -24,6 +24,8 @@ import com.orientechnologies.common.util.OMemory;
 import com.sun.jna.LastErrorException;
 import com.sun.jna.Native;
 import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
 
 import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
@@ -42,6 +44,14 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class ONative {
+  /**
+   * Size of huge page and alignment of memory allocated by {@link #allocateHugePagesMemory(long)}.
+   */
+  public static final int HUGE_PAGE_SIZE = 2 * 1024 * 1024;
+
+  private static final int FALLOC_FL_KEEP_SIZE  = 0x01;
+  private static final int FALLOC_FL_PUNCH_HOLE = 0x02;
+
   private static volatile OCLibrary C_LIBRARY;
   private static final    String    DEFAULT_MEMORY_CGROUP_PATH = "/sys/fs/memory";
 
@@ -218,10 +228,95 @@ public class ONative {
     return C_LIBRARY.fallocate(fd, 0, offset, len);
   }
 
+  /**
+   * Deallocates space of the given region of the file without change of its size, region is read as zeros after that.
+   */
+  public int punchHole(int fd, long offset, long len) throws LastErrorException {
+    return C_LIBRARY.fallocate(fd, FALLOC_FL_KEEP_SIZE | FALLOC_FL_PUNCH_HOLE, offset, len);
+  }
+
   public int close(int fd) throws LastErrorException {
     return C_LIBRARY.close(fd);
   }
 
+  /**
+   * @return Index of CPU on which current thread is running or -1 if it can not be detected.
+   */
+  public int getCurrentCpu() {
+    if (C_LIBRARY == null)
+      return -1;
+
+    try {
+      return C_LIBRARY.sched_getcpu();
+    } catch (LastErrorException | UnsatisfiedLinkError e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Reads NUMA topology of the system from <code>/sys/devices/system/cpu</code>.
+   *
+   * @return Array which maps index of CPU to index of NUMA node it belongs to or <code>null</code> if topology can not be detected.
+   */
+  public int[] getCpuNumaNodes() {
+    if (!Platform.isLinux())
+      return null;
+
+    final File[] cpus = new File("/sys/devices/system/cpu").listFiles((dir, name) -> name.matches("cpu\\d+"));
+    if (cpus == null || cpus.length == 0)
+      return null;
+
+    int maxCpu = -1;
+    for (File cpu : cpus) {
+      maxCpu = Math.max(maxCpu, Integer.parseInt(cpu.getName().substring("cpu".length())));
+    }
+
+    final int[] nodes = new int[maxCpu + 1];
+    boolean nodesFound = false;
+
+    for (File cpu : cpus) {
+      final File[] cpuNodes = cpu.listFiles((dir, name) -> name.matches("node\\d+"));
+      if (cpuNodes != null && cpuNodes.length > 0) {
+        nodes[Integer.parseInt(cpu.getName().substring("cpu".length()))] = Integer
+            .parseInt(cpuNodes[0].getName().substring("node".length()));
+        nodesFound = true;
+      }
+    }
+
+    return nodesFound ? nodes : null;
+  }
+
+  /**
+   * Allocates memory aligned to the {@link #HUGE_PAGE_SIZE} and advises kernel to back it by transparent huge pages. Allocated
+   * memory should be released by {@link Native#free(long)}.
+   *
+   * @param size Size of memory to allocate
+   *
+   * @return Address of allocated memory or 0 if memory can not be allocated.
+   */
+  public long allocateHugePagesMemory(final long size) {
+    if (C_LIBRARY == null)
+      return 0;
+
+    final PointerByReference memory = new PointerByReference();
+    try {
+      if (C_LIBRARY.posix_memalign(memory, HUGE_PAGE_SIZE, size) != 0)
+        return 0;
+    } catch (UnsatisfiedLinkError e) {
+      return 0;
+    }
+
+    final Pointer pointer = memory.getValue();
+    try {
+      C_LIBRARY.madvise(pointer, size, OCLibrary.MADV_HUGEPAGE);
+    } catch (LastErrorException e) {
+      //memory is still usable, but it is backed by usual pages
+      OLogManager.instance().debugNoDb(this, "Transparent huge pages are not supported by the system", e);
+    }
+
+    return Pointer.nativeValue(pointer);
+  }
+
   private long updateMemoryLimit(long memoryLimit, final long newMemoryLimit) {
     if (newMemoryLimit <= 0) {
       return memoryLimit;
@@ -0,0 +1,265 @@
+/*
+  *
+  *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://www.orientechnologies.com
+  *
+  */
+package com.orientechnologies.orient.core.compression.impl;
+
+/**
+ * Pure Java implementation of LZ4 block format. Compression speed is preferred over compression ratio, so it is suitable for
+ * compression of pages of disk cache on each flush. Compressed content is prefixed by length of original content (4 bytes) which
+ * is followed by single LZ4 block.
+ */
+public class OLZ4Compression extends OAbstractCompression {
+  public static final String NAME = "lz4";
+
+  public static final OLZ4Compression INSTANCE = new OLZ4Compression();
+
+  private static final int MIN_MATCH     = 4;
+  private static final int LAST_LITERALS = 5;
+  private static final int MF_LIMIT      = 12;
+  private static final int MAX_DISTANCE  = 0xFFFF;
+
+  private static final int HASH_LOG        = 12;
+  private static final int RUN_MASK        = 0xF;
+  private static final int ML_MASK         = 0xF;
+  private static final int ML_BITS         = 4;
+  private static final int HEADER_SIZE     = 4;
+
+  @Override
+  public byte[] compress(final byte[] content, final int offset, final int length) {
+    final byte[] dest = new byte[HEADER_SIZE + maxCompressedLength(length)];
+    writeInt(dest, 0, length);
+
+    final int compressedLength = compressBlock(content, offset, length, dest, HEADER_SIZE);
+
+    final byte[] result = new byte[HEADER_SIZE + compressedLength];
+    System.arraycopy(dest, 0, result, 0, result.length);
+    return result;
+  }
+
+  @Override
+  public byte[] uncompress(final byte[] content, final int offset, final int length) {
+    if (length < HEADER_SIZE)
+      throw new IllegalStateException("Compressed content is too short");
+
+    final int originalLength = readInt(content, offset);
+    if (originalLength < 0)
+      throw new IllegalStateException("Invalid length of original content " + originalLength);
+
+    final byte[] result = new byte[originalLength];
+    final int decompressed = decompressBlock(content, offset + HEADER_SIZE, length - HEADER_SIZE, result);
+    if (decompressed != originalLength)
+      throw new IllegalStateException(
+          "Invalid length of decompressed content " + decompressed + " while " + originalLength + " was expected");
+
+    return result;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  private static int maxCompressedLength(final int length) {
+    return length + length / 255 + 16;
+  }
+
+  private static int compressBlock(final byte[] src, final int srcOff, final int srcLen, final byte[] dest, final int destOff) {
+    final int srcEnd = srcOff + srcLen;
+    final int matchLimit = srcEnd - LAST_LITERALS;
+    final int mfLimit = srcEnd - MF_LIMIT;
+
+    int dOff = destOff;
+    int anchor = srcOff;
+
+    if (srcLen >= MF_LIMIT + 1) {
+      //positions are stored incremented by one, so zero means empty slot
+      final int[] hashTable = new int[1 << HASH_LOG];
+
+      int sOff = srcOff + 1;
+      hashTable[hash(readIntLE(src, srcOff))] = srcOff + 1;
+
+      while (sOff < mfLimit) {
+        final int h = hash(readIntLE(src, sOff));
+        final int ref = hashTable[h] - 1;
+        hashTable[h] = sOff + 1;
+
+        if (ref < 0 || sOff - ref > MAX_DISTANCE || readIntLE(src, ref) != readIntLE(src, sOff)) {
+          sOff++;
+          continue;
+        }
+
+        int matchRef = ref;
+        //extend match backward
+        while (sOff > anchor && matchRef > srcOff && src[sOff - 1] == src[matchRef - 1]) {
+          sOff--;
+          matchRef--;
+        }
+
+        int matchLen = MIN_MATCH;
+        while (sOff + matchLen < matchLimit && src[sOff + matchLen] == src[matchRef + matchLen]) {
+          matchLen++;
+        }
+
+        dOff = writeSequence(src, anchor, sOff - anchor, sOff - matchRef, matchLen, dest, dOff);
+
+        sOff += matchLen;
+        anchor = sOff;
+
+        if (sOff < mfLimit)
+          hashTable[hash(readIntLE(src, sOff - 2))] = sOff - 2 + 1;
+      }
+    }
+
+    dOff = writeLastLiterals(src, anchor, srcEnd - anchor, dest, dOff);
+    return dOff - destOff;
+  }
+
+  private static int writeSequence(final byte[] src, final int literalsOff, final int literalsLen, final int matchOffset,
+      final int matchLen, final byte[] dest, int dOff) {
+    final int tokenOff = dOff++;
+    int token;
+
+    if (literalsLen >= RUN_MASK) {
+      token = RUN_MASK << ML_BITS;
+      dOff = writeLength(literalsLen - RUN_MASK, dest, dOff);
+    } else
+      token = literalsLen << ML_BITS;
+
+    System.arraycopy(src, literalsOff, dest, dOff, literalsLen);
+    dOff += literalsLen;
+
+    dest[dOff++] = (byte) matchOffset;
+    dest[dOff++] = (byte) (matchOffset >>> 8);
+
+    final int len = matchLen - MIN_MATCH;
+    if (len >= ML_MASK) {
+      token |= ML_MASK;
+      dOff = writeLength(len - ML_MASK, dest, dOff);
+    } else
+      token |= len;
+
+    dest[tokenOff] = (byte) token;
+    return dOff;
+  }
+
+  private static int writeLastLiterals(final byte[] src, final int literalsOff, final int literalsLen, final byte[] dest,
+      int dOff) {
+    if (literalsLen >= RUN_MASK) {
+      dest[dOff++] = (byte) (RUN_MASK << ML_BITS);
+      dOff = writeLength(literalsLen - RUN_MASK, dest, dOff);
+    } else
+      dest[dOff++] = (byte) (literalsLen << ML_BITS);
+
+    System.arraycopy(src, literalsOff, dest, dOff, literalsLen);
+    return dOff + literalsLen;
+  }
+
+  private static int writeLength(int length, final byte[] dest, int dOff) {
+    while (length >= 0xFF) {
+      dest[dOff++] = (byte) 0xFF;
+      length -= 0xFF;
+    }
+
+    dest[dOff++] = (byte) length;
+    return dOff;
+  }
+
+  private static int decompressBlock(final byte[] src, final int srcOff, final int srcLen, final byte[] dest) {
+    final int srcEnd = srcOff + srcLen;
+    int sOff = srcOff;
+    int dOff = 0;
+
+    while (sOff < srcEnd) {
+      final int token = src[sOff++] & 0xFF;
+
+      int literalsLen = token >>> ML_BITS;
+      if (literalsLen == RUN_MASK) {
+        int len;
+        do {
+          checkBounds(sOff < srcEnd);
+          len = src[sOff++] & 0xFF;
+          literalsLen += len;
+        } while (len == 0xFF);
+      }
+
+      checkBounds(literalsLen >= 0 && sOff + literalsLen <= srcEnd && dOff + literalsLen <= dest.length);
+      System.arraycopy(src, sOff, dest, dOff, literalsLen);
+      sOff += literalsLen;
+      dOff += literalsLen;
+
+      //last sequence contains only literals
+      if (sOff == srcEnd)
+        break;
+
+      checkBounds(sOff + 2 <= srcEnd);
+      final int matchOffset = (src[sOff] & 0xFF) | ((src[sOff + 1] & 0xFF) << 8);
+      sOff += 2;
+      checkBounds(matchOffset > 0 && matchOffset <= dOff);
+
+      int matchLen = token & ML_MASK;
+      if (matchLen == ML_MASK) {
+        int len;
+        do {
+          checkBounds(sOff < srcEnd);
+          len = src[sOff++] & 0xFF;
+          matchLen += len;
+        } while (len == 0xFF);
+      }
+      matchLen += MIN_MATCH;
+
+      checkBounds(matchLen > 0 && dOff + matchLen <= dest.length);
+
+      //regions may overlap, so bytes are copied one by one
+      final int matchStart = dOff - matchOffset;
+      for (int i = 0; i < matchLen; i++) {
+        dest[dOff + i] = dest[matchStart + i];
+      }
+
+      dOff += matchLen;
+    }
+
+    return dOff;
+  }
+
+  private static void checkBounds(final boolean condition) {
+    if (!condition)
+      throw new IllegalStateException("Malformed LZ4 compressed content");
+  }
+
+  private static int hash(final int value) {
+    return (value * -1640531535) >>> (32 - HASH_LOG);
+  }
+
+  private static int readIntLE(final byte[] buffer, final int offset) {
+    return (buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8) | ((buffer[offset + 2] & 0xFF) << 16) | (
+        (buffer[offset + 3] & 0xFF) << 24);
+  }
+
+  private static int readInt(final byte[] buffer, final int offset) {
+    return ((buffer[offset] & 0xFF) << 24) | ((buffer[offset + 1] & 0xFF) << 16) | ((buffer[offset + 2] & 0xFF) << 8) | (
+        buffer[offset + 3] & 0xFF);
+  }
+
+  private static void writeInt(final byte[] buffer, final int offset, final int value) {
+    buffer[offset] = (byte) (value >>> 24);
+    buffer[offset + 1] = (byte) (value >>> 16);
+    buffer[offset + 2] = (byte) (value >>> 8);
+    buffer[offset + 3] = (byte) value;
+  }
+}
@@ -91,6 +91,18 @@ public enum OGlobalConfiguration {
   DIRECT_MEMORY_POOL_LIMIT("memory.pool.limit",
       "Limit of the pages cached inside of direct memory pool to avoid frequent reallocation of memory in OS", Integer.class, 256),
 
+  DIRECT_MEMORY_POOL_MAGAZINE_SIZE("memory.pool.magazineSize",
+      "Maximum amount of free pages of direct memory pool which are cached by each thread, "
+          + "such pages are reused without synchronization with other threads. 0 disables thread local caching", Integer.class, 32),
+
+  DIRECT_MEMORY_POOL_NUMA_AWARE("memory.pool.numaAware",
+      "Indicates whether free pages of direct memory pool are partitioned by NUMA nodes instead of CPU cores, "
+          + "so pages are reused by threads which run on the same NUMA node where pages were released", Boolean.class, false),
+
+  DIRECT_MEMORY_HUGE_PAGES("memory.directMemory.hugePages",
+      "Indicates whether pages of direct memory pool are allocated in 2 megabytes arenas which are backed by transparent huge pages "
+          + "(Linux only). Memory of arenas is returned to OS only when pool is cleared", Boolean.class, false),
+
   DIRECT_MEMORY_TRACK_MODE("memory.directMemory.trackMode",
       "Activates the direct memory pool [leak detector](Leak-Detector.md). This detector causes a large overhead and should be used for debugging "
           + "purposes only. It's also a good idea to pass the "
@@ -122,6 +134,12 @@ public enum OGlobalConfiguration {
       + " if this percent is reached next pages will be left in unpinned state. You can not set value more than 50", Integer.class,
       20, false),
 
+  DISK_CACHE_READ_CACHE_IMPLEMENTATION("storage.diskCache.readCacheImplementation",
+      "Implementation of read cache which is used by disk based storages. Possible values: '2Q' (default) - 2Q cache which is guarded "
+          + "by global cache lock; 'W-TinyLFU' - scan resistant cache with W-TinyLFU admission and eviction policy, "
+          + "which does not acquire shared locks if page is already loaded into cache. Can not be changed at runtime", String.class,
+      "2Q", false),
+
   DISK_CACHE_SIZE("storage.diskCache.bufferSize", "Size of disk buffer in megabytes, disk size may be changed at runtime, "
       + "but if does not enough to contain all pinned pages exception will be thrown", Integer.class, 4 * 1024,
       new OConfigurationChangeCallback() {
@@ -222,6 +240,11 @@ public enum OGlobalConfiguration {
       "If this flag is set metadata which contains rids of changed records is added at the end of each atomic operation",
       Boolean.class, false),
 
+  STORAGE_CLUSTER_LOGICAL_WAL("storage.cluster.logicalWAL",
+      "If this flag is set, addition, update and deletion of records inside of clusters are logged into WAL as logical operations "
+          + "instead of changes of page content, which reduces amount of data written into WAL",
+      Boolean.class, false),
+
   STORAGE_INTERNAL_JOURNALED_TX_STREAMING_PORT("storage.internal.journaled.tx.streaming.port", "Activates journaled tx streaming "
       + "on the given TCP/IP port. Used for internal testing purposes only. Never touch it if you don't know what you doing.",
       Integer.class, null),
@@ -251,6 +274,21 @@ public enum OGlobalConfiguration {
 
   WAL_COMMIT_TIMEOUT("storage.wal.commitTimeout", "Maximum interval between WAL commits (in ms.)", Integer.class, 1000),
 
+  WAL_GROUP_COMMIT("storage.wal.groupCommit",
+      "Should commit of transaction wait till its records are synced to the disk. Records of transactions which are committed "
+          + "concurrently are synced together by single fsync of WAL", Boolean.class, false),
+
+  WAL_RECORD_COMPRESSION("storage.wal.recordCompression",
+      "Name of compression algorithm which is applied to WAL records bigger than 'storage.wal.recordCompressionThreshold' "
+          + "(for example 'lz4'). 'nothing' means that records are stored as is", String.class, "nothing"),
+
+  WAL_RECORD_COMPRESSION_THRESHOLD("storage.wal.recordCompressionThreshold",
+      "Minimum size of WAL record (in bytes) which is compressed if compression of WAL records is enabled", Integer.class, 512),
+
+  WAL_PAGE_CRC32C("storage.wal.pageCRC32C",
+      "Use CRC32C instead of CRC32 to calculate checksums of WAL pages. CRC32C is calculated by hardware instructions on Java 9 "
+          + "and later. Pages written using any of both checksums are read back regardless of this setting", Boolean.class, true),
+
   WAL_SHUTDOWN_TIMEOUT("storage.wal.shutdownTimeout", "Maximum wait interval between events, when the background flush thread"
       + "receives a shutdown command and when the background flush will be stopped (in ms.)", Integer.class, 10000),
 
@@ -264,6 +302,11 @@ public enum OGlobalConfiguration {
   WAL_RESTORE_BATCH_SIZE("storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure", Integer.class, 1000),
 
+  WAL_RESTORE_THREADS("storage.wal.restore.threads",
+      "Amount of threads which apply changes of pages during a restore procedure. Changes of the same page are applied by the same"
+          + " thread in order of their LSNs. If set to 1, changes are applied by the thread which reads WAL", Integer.class,
+      Math.min(8, Runtime.getRuntime().availableProcessors())),
+
   @Deprecated WAL_READ_CACHE_SIZE("storage.wal.readCacheSize", "Size of WAL read cache in amount of pages", Integer.class, 1000),
 
   WAL_FUZZY_CHECKPOINT_SHUTDOWN_TIMEOUT("storage.wal.fuzzyCheckpointShutdownWait",
@@ -282,6 +325,11 @@ public enum OGlobalConfiguration {
   DISK_CACHE_WAL_SIZE_TO_START_FLUSH("storage.diskCache.walSizeToStartFlush",
       "WAL size after which pages in write cache will be started to flush", Long.class, 6 * 1024L * 1024 * 1024),
 
+  DISK_CACHE_ADAPTIVE_FLUSH("storage.diskCache.adaptiveFlush",
+      "Flush pages of write cache continuously at the pace of WAL growth once distance between the oldest not flushed change "
+          + "and the end of WAL exceeds 'storage.diskCache.walSizeToStopFlush', instead of flushing all pages in bursts "
+          + "once it exceeds 'storage.diskCache.walSizeToStartFlush'", Boolean.class, false),
+
   DISK_CACHE_EXCLUSIVE_FLUSH_BOUNDARY("storage.diskCache.exclusiveFlushBoundary",
       "If portion of exclusive pages into cache exceeds this value we start to flush only exclusive pages from disk cache",
       Float.class, 0.9),
@@ -289,6 +337,63 @@ public enum OGlobalConfiguration {
   DISK_CACHE_CHUNK_SIZE("storage.diskCache.chunkSize",
       "Maximum distance between two pages after which they are not treated as single continous chunk", Integer.class, 256),
 
+  DISK_CACHE_FLUSH_WRITERS("storage.diskCache.flushWriters",
+      "Amount of threads which write pages flushed from write cache to the disk. Continuous dirty pages are written by single "
+          + "gathering write, writes to different files are performed in parallel, all writes to the same file are performed "
+          + "by the same thread", Integer.class, Math.min(4, Runtime.getRuntime().availableProcessors()), false),
+
+  DISK_CACHE_FLUSH_WRITES_IN_FLIGHT("storage.diskCache.flushWritesInFlight",
+      "Maximum amount of chunks of pages per writer thread which are copied from write cache but not written to the disk yet",
+      Integer.class, 2, false),
+
+  DISK_CACHE_MMAP_READS("storage.diskCache.mmapReads",
+      "Pages which are not present in disk cache are not copied from data files but accessed directly through memory mapped "
+          + "files. Page is copied into the cache buffer only when it is changed for the first time. Intended for read-mostly "
+          + "storages on 64-bit JVMs because data files are mapped into virtual memory of the process", Boolean.class, false,
+      false),
+
+  DISK_CACHE_READ_AHEAD("storage.diskCache.readAhead",
+      "Detect sequential scans of clusters and indexes and load following pages into the disk cache in background threads. "
+          + "If disabled, amount of pages defined by 'query.scanPrefetchPages' is loaded synchronously instead", Boolean.class,
+      false, false),
+
+  DISK_CACHE_READ_AHEAD_MIN_PAGES("storage.diskCache.readAheadMinPages",
+      "Amount of pages which are read ahead once sequential scan is detected, each next read ahead request is twice bigger "
+          + "than previous one", Integer.class, 8, false),
+
+  DISK_CACHE_READ_AHEAD_MAX_PAGES("storage.diskCache.readAheadMaxPages",
+      "Maximum amount of pages which are read ahead by single request", Integer.class, 256, false),
+
+  DISK_CACHE_READ_AHEAD_THREADS("storage.diskCache.readAheadThreads", "Amount of threads which read pages ahead of scans",
+      Integer.class, 2, false),
+
+  DISK_CACHE_SECOND_TIER_PATH("storage.diskCache.secondTierPath",
+      "Path to the file on fast local drive (for example SSD) which is used as second tier of 2Q read cache, "
+          + "clean pages evicted from memory are kept there instead of being dropped. Empty value disables second tier",
+      String.class, "", false),
+
+  DISK_CACHE_SECOND_TIER_SIZE("storage.diskCache.secondTierSize", "Maximum size of second tier of read cache in megabytes",
+      Long.class, 4096, false),
+
+  DISK_CACHE_SECOND_TIER_QUEUE_SIZE("storage.diskCache.secondTierQueueSize",
+      "Maximum amount of evicted pages which wait to be written into second tier of read cache. Pages evicted while queue is "
+          + "full are dropped", Integer.class, 1024, false),
+
+  DISK_CACHE_PAGE_COMPRESSION("storage.diskCache.pageCompression",
+      "Name of compression algorithm which is applied to pages when they are flushed to data files (for example 'lz4'). Page "
+          + "which is compressed at least by single file system block occupies its usual place in data file but rest of that place "
+          + "is deallocated, so data files become sparse. 'nothing' means that pages are stored as is", String.class, "nothing",
+      false),
+
+  DISK_CACHE_DOUBLE_WRITE_LOG("storage.diskCache.doubleWriteLog",
+      "Pages flushed from write cache are appended to the double write log and the log is forced to the disk before pages are "
+          + "written to data files. Pages which are partially written because of process crash are restored from the log during "
+          + "the next open of the storage", Boolean.class, false),
+
+  DISK_CACHE_DOUBLE_WRITE_LOG_MAX_SIZE("storage.diskCache.doubleWriteLogMaxSize",
+      "Maximum size of double write log in megabytes. Once it is reached data files are forced to the disk and log is truncated",
+      Integer.class, 128),
+
   DISK_CACHE_EXCLUSIVE_PAGES_BOUNDARY("storage.diskCache.exclusiveBoundary",
       "Portion of exclusive pages in write cache after which we will start to flush only exclusive pages", Float.class, 0.7),
 
@@ -302,10 +407,20 @@ public enum OGlobalConfiguration {
   PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY("storage.lowestFreeListBound",
       "The least amount of free space (in kb) in a page, which is tracked in paginated storage", Integer.class, 16),
 
+  STORAGE_CLUSTER_COMPACTION_BATCH_SIZE("storage.cluster.compaction.batchSize",
+      "Amount of records which are moved by online cluster compaction inside of single atomic operation", Integer.class, 100),
+
+  STORAGE_CLUSTER_COMPACTION_BATCH_DELAY("storage.cluster.compaction.batchDelay",
+      "Pause (in ms) between batches of online cluster compaction, used to throttle compaction", Integer.class, 0, true),
+
   STORAGE_LOCK_TIMEOUT("storage.lockTimeout", "Maximum amount of time (in ms) to lock the storage", Integer.class, 0),
 
   STORAGE_RECORD_LOCK_TIMEOUT("storage.record.lockTimeout", "Maximum of time (in ms) to lock a shared record", Integer.class, 2000),
 
+  STORAGE_RECORD_VERSION_CACHE_SIZE("storage.record.versionCacheSize",
+      "Maximum amount of records which latest versions are cached by storage, so versions of records may be checked during commit "
+          + "without reading of them from clusters. 0 to disable the cache", Integer.class, 100000),
+
   @Deprecated STORAGE_USE_TOMBSTONES("storage.useTombstones",
       "When a record is deleted, the space in the cluster will not be freed, but rather tombstoned", Boolean.class, false),
 
@@ -355,6 +470,10 @@ public enum OGlobalConfiguration {
   TX_PAGE_CACHE_SIZE("tx.pageCacheSize",
       "The size of a per-transaction page cache in pages, 12 by default, 0 to disable the cache.", Integer.class, 12),
 
+  TX_SPILL_THRESHOLD("tx.spillThreshold",
+      "Amount of records created or updated in a transaction which are kept in heap, once it is exceeded content of the records is moved "
+          + "to a temporary file till commit of the transaction. 0 to keep all records in heap", Integer.class, 0),
+
   // INDEX
   INDEX_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD("index.embeddedToSbtreeBonsaiThreshold",
       "Amount of values, after which the index implementation will use an sbtree as a values container. Set to -1, to disable and force using an sbtree",
@@ -399,6 +518,30 @@ public enum OGlobalConfiguration {
 
   INDEX_CURSOR_PREFETCH_SIZE("index.cursor.prefetchSize", "Default prefetch size of index cursor", Integer.class, 10000),
 
+  INDEX_BULK_LOAD("index.bulkLoad",
+      "Build unique indexes during their creation and rebuild by sorting of keys of all records and writing of pages of the tree "
+          + "bottom-up instead of insertion of keys one by one", Boolean.class, true),
+
+  INDEX_BULK_LOAD_THREADS("index.bulkLoad.threads",
+      "Maximum amount of threads which scan clusters in parallel during bulk load of index", Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
+  INDEX_BULK_LOAD_BUFFER_SIZE("index.bulkLoad.bufferSize",
+      "Size (in megabytes) of buffer of keys of each thread which scans clusters during bulk load of index, once buffer is filled "
+          + "keys are sorted and written into temporary file", Integer.class, 16),
+
+  INDEX_LSM_MEMTABLE_SIZE("index.lsm.memtableSize",
+      "Amount of changes of LSM index which are accumulated in its memtable, before memtable is frozen and merged in background "
+          + "into sorted immutable runs", Integer.class, 100000),
+
+  INDEX_LSM_BLOOM_FILTER_FALSE_POSITIVE_RATE("index.lsm.bloomFilterFalsePositiveRate",
+      "Probability with which bloom filter of immutable run of LSM index does not skip the run during look up of the key which "
+          + "is absent in it", Float.class, 0.01),
+
+  INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE("index.bloomFilter.falsePositiveRate",
+      "Probability with which bloom filter of SB-tree index, created with \"bloomFilter\" metadata flag, does not reject look up of "
+          + "the key which is absent in the index", Float.class, 0.01),
+
   // SBTREE
   SBTREE_MAX_DEPTH("sbtree.maxDepth",
       "Maximum depth of sbtree, which will be traversed during key look up until it will be treated as broken (64 by default)",
@@ -411,6 +554,15 @@ public enum OGlobalConfiguration {
       "Maximum size of value which can be put in an SBTree without creation link to a standalone page in bytes (40960 by default)",
       Integer.class, 40960),
 
+  SBTREE_PAGE_LATCHING("sbtree.pageLatching",
+      "Allows transactions to change the same unique SBTree index concurrently. Small sets of changes lock only the leaf pages "
+          + "they modify instead of the whole index till commit, pages are split in separate atomic operations (false by default)",
+      Boolean.class, false),
+
+  SBTREE_PAGE_LOCK_TIMEOUT("sbtree.pageLockTimeout",
+      "Maximum time (in ms) to wait for the lock of an SBTree page held by another transaction if page latching is enabled, "
+          + "0 means no timeout", Integer.class, 10000),
+
   SBTREEBONSAI_BUCKET_SIZE("sbtreebonsai.bucketSize",
       "Size of bucket in OSBTreeBonsai (in kB). Contract: bucketSize < storagePageSize, storagePageSize % bucketSize == 0",
       Integer.class, 2),
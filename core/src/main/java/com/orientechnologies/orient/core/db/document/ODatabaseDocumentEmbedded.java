@@ -1214,9 +1214,9 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     OTransactionAbstract transaction = (OTransactionAbstract) getTransaction();
     if (!transaction.isLockedRecord(iRecord)) {
       if (lockingStrategy == OStorage.LOCKING_STRATEGY.EXCLUSIVE_LOCK)
-        ((OAbstractPaginatedStorage) getStorage().getUnderlying()).acquireWriteLock(rid, timeout);
+        ((OAbstractPaginatedStorage) getStorage().getUnderlying()).acquireWriteLock(rid, this, timeout);
       else if (lockingStrategy == OStorage.LOCKING_STRATEGY.SHARED_LOCK)
-        ((OAbstractPaginatedStorage) getStorage().getUnderlying()).acquireReadLock(rid, timeout);
+        ((OAbstractPaginatedStorage) getStorage().getUnderlying()).acquireReadLock(rid, this, timeout);
       else
         throw new IllegalStateException("Unsupported locking strategy " + lockingStrategy);
     }
@@ -1231,9 +1231,9 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     OStorage.LOCKING_STRATEGY strategy = transaction.trackUnlockRecord(rid);
 
     if (strategy == OStorage.LOCKING_STRATEGY.EXCLUSIVE_LOCK)
-      ((OAbstractPaginatedStorage) getStorage().getUnderlying()).releaseWriteLock(rid);
+      ((OAbstractPaginatedStorage) getStorage().getUnderlying()).releaseWriteLock(rid, this);
     else if (strategy == OStorage.LOCKING_STRATEGY.SHARED_LOCK)
-      ((OAbstractPaginatedStorage) getStorage().getUnderlying()).releaseReadLock(rid);
+      ((OAbstractPaginatedStorage) getStorage().getUnderlying()).releaseReadLock(rid, this);
 
   }
 
@@ -21,6 +21,7 @@
 package com.orientechnologies.orient.core.engine.local;
 
 import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.jna.ONative;
@@ -30,10 +31,15 @@ import com.orientechnologies.orient.core.engine.OEngineAbstract;
 import com.orientechnologies.orient.core.engine.OMemoryAndLocalPaginatedEnginesInitializer;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.OSecondTierCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
 
 /**
@@ -43,7 +49,9 @@ import java.util.Map;
 public class OEngineLocalPaginated extends OEngineAbstract {
   public static final String NAME = "plocal";
 
-  private volatile O2QCache readCache;
+  private volatile OReadCache readCache;
+
+  private volatile OSecondTierCache secondTierCache;
 
   protected final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(getOpenFilesLimit());
 
@@ -71,11 +79,53 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     OMemoryAndLocalPaginatedEnginesInitializer.INSTANCE.initialize();
     super.startup();
 
-    readCache = new O2QCache(calculateReadCacheMaxMemory(OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024),
-        OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024, true,
+    readCache = createReadCache(calculateReadCacheMaxMemory(OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024),
+        OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024,
         OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger());
   }
 
+  /**
+   * Creates read cache implementation selected by {@link OGlobalConfiguration#DISK_CACHE_READ_CACHE_IMPLEMENTATION}.
+   */
+  private OReadCache createReadCache(final long readCacheMaxMemory, final int pageSize, final int percentOfPinnedPages) {
+    final String implementation = OGlobalConfiguration.DISK_CACHE_READ_CACHE_IMPLEMENTATION.getValueAsString();
+
+    if (OWTinyLFUCache.NAME.equalsIgnoreCase(implementation)) {
+      OLogManager.instance().infoNoDb(this, "%s read cache is used by disk based storages", OWTinyLFUCache.NAME);
+      return new OWTinyLFUCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages);
+    }
+
+    if (implementation != null && !O2QCache.NAME.equalsIgnoreCase(implementation)) {
+      OLogManager.instance()
+          .warnNoDb(this, "Unknown read cache implementation '%s', %s read cache will be used instead", implementation,
+              O2QCache.NAME);
+    }
+
+    secondTierCache = createSecondTierCache(pageSize);
+    return new O2QCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages, secondTierCache);
+  }
+
+  /**
+   * Creates second tier of read cache if {@link OGlobalConfiguration#DISK_CACHE_SECOND_TIER_PATH} is set. If file of the tier
+   * cannot be opened cache works without second tier.
+   */
+  private OSecondTierCache createSecondTierCache(final int pageSize) {
+    final String path = OGlobalConfiguration.DISK_CACHE_SECOND_TIER_PATH.getValueAsString();
+    if (path == null || path.isEmpty())
+      return null;
+
+    final long size = OGlobalConfiguration.DISK_CACHE_SECOND_TIER_SIZE.getValueAsLong() * 1024 * 1024;
+    try {
+      final OSecondTierCache tier = new OSecondTierCache(Paths.get(path), size, pageSize, OByteBufferPool.instance());
+      OLogManager.instance().infoNoDb(this, "Second tier of read cache of %d megabytes is placed in %s",
+          OGlobalConfiguration.DISK_CACHE_SECOND_TIER_SIZE.getValueAsLong(), path);
+      return tier;
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Cannot open second tier of read cache placed in %s, it will not be used", e, path);
+      return null;
+    }
+  }
+
   private long calculateReadCacheMaxMemory(final long cacheSize) {
     return (long) (cacheSize * ((100 - OGlobalConfiguration.DISK_WRITE_CACHE_PART.getValueAsInteger()) / 100.0));
   }
@@ -83,7 +133,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
   /**
    * @param cacheSize Cache size in bytes.
    *
-   * @see O2QCache#changeMaximumAmountOfMemory(long)
+   * @see OReadCache#changeMaximumAmountOfMemory(long)
    */
   public void changeCacheSize(final long cacheSize) {
     if (readCache != null)
@@ -109,7 +159,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     return NAME;
   }
 
-  public O2QCache getReadCache() {
+  public OReadCache getReadCache() {
     return readCache;
   }
 
@@ -123,6 +173,16 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     try {
       readCache.clear();
       files.clear();
+
+      final OSecondTierCache tier = secondTierCache;
+      if (tier != null) {
+        secondTierCache = null;
+        try {
+          tier.close();
+        } catch (IOException e) {
+          OLogManager.instance().error(this, "Error during close of second tier of read cache", e);
+        }
+      }
     } finally {
       super.shutdown();
     }
@@ -0,0 +1,19 @@
+package com.orientechnologies.orient.core.exception;
+
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterFreeSpaceMap;
+
+/**
+ * Thrown when free space map of paginated cluster can not be read or updated.
+ */
+public class OClusterFreeSpaceMapException extends ODurableComponentException {
+
+  private static final long serialVersionUID = -2277536004475627952L;
+
+  public OClusterFreeSpaceMapException(OClusterFreeSpaceMapException exception) {
+    super(exception);
+  }
+
+  public OClusterFreeSpaceMapException(String message, OClusterFreeSpaceMap component) {
+    super(message, component);
+  }
+}
@@ -27,6 +27,9 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -34,30 +37,44 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTreeBulkLoader;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainer;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -503,11 +520,15 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
         iProgressListener.onBegin(this, documentTotal, rebuild);
 
       // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
-      }
+      final OSBTreeBulkLoader<Object, Object> bulkLoader = createBulkLoader();
+      if (bulkLoader != null)
+        documentIndexed = bulkIndexClusters(bulkLoader, iProgressListener, documentTotal);
+      else
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
 
       if (iProgressListener != null)
         iProgressListener.onCompletition(this, true);
@@ -519,6 +540,187 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return documentIndexed;
   }
 
+  /**
+   * @return validator which resolves duplicated keys during bulk load of the index, or <code>null</code> if index can not be
+   * filled by bulk load
+   */
+  protected OIndexEngine.Validator<Object, OIdentifiable> getBulkLoadValidator() {
+    return null;
+  }
+
+  private OSBTreeBulkLoader<Object, Object> createBulkLoader() {
+    if (getBulkLoadValidator() == null || !getDatabase().getConfiguration().getValueAsBoolean(OGlobalConfiguration.INDEX_BULK_LOAD))
+      return null;
+
+    while (true)
+      try {
+        return storage.createIndexBulkLoader(indexId);
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+  }
+
+  /**
+   * Fills the empty index by bulk load. Clusters are scanned by several threads, each of them uses its own copy of the database and
+   * writes extracted keys into its own writer of the loader. Once all clusters are scanned, sorted keys are written into the index
+   * bottom-up. Keys which are <code>null</code> are put into the index one by one after the load.
+   *
+   * @return amount of indexed documents
+   */
+  private long bulkIndexClusters(final OSBTreeBulkLoader<Object, Object> bulkLoader, final OProgressListener iProgressListener,
+      final long documentTotal) {
+    final AtomicLong documentNum = new AtomicLong();
+    final AtomicLong documentIndexed = new AtomicLong();
+    final Collection<ORID> nullKeyRecords = new ConcurrentLinkedQueue<ORID>();
+
+    try {
+      final ODatabaseDocumentInternal database = getDatabase();
+      final int threads = Math.min(clustersToIndex.size(),
+          database.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_THREADS));
+
+      if (threads <= 1) {
+        final OSBTreeBulkLoader<Object, Object>.Writer writer = bulkLoader.newWriter();
+        for (final String clusterName : clustersToIndex)
+          extractKeys(database, clusterName, writer, nullKeyRecords, documentNum, documentIndexed, iProgressListener, documentTotal);
+
+        writer.flush();
+      } else
+        extractKeysInParallel(database, threads, bulkLoader, nullKeyRecords, documentNum, documentIndexed, iProgressListener,
+            documentTotal);
+
+      while (true)
+        try {
+          storage.bulkLoadIndex(indexId, bulkLoader, getBulkLoadValidator());
+          break;
+        } catch (OInvalidIndexEngineIdException ignore) {
+          doReloadIndexEngine();
+        }
+    } finally {
+      bulkLoader.close();
+    }
+
+    for (final ORID rid : nullKeyRecords)
+      put(null, rid);
+
+    return documentIndexed.get();
+  }
+
+  private void extractKeysInParallel(final ODatabaseDocumentInternal database, final int threads,
+      final OSBTreeBulkLoader<Object, Object> bulkLoader, final Collection<ORID> nullKeyRecords, final AtomicLong documentNum,
+      final AtomicLong documentIndexed, final OProgressListener iProgressListener, final long documentTotal) {
+    final Queue<String> clusters = new ConcurrentLinkedQueue<String>(clustersToIndex);
+    final ExecutorService executor = new OThreadPoolExecutorWithLogging(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<Runnable>(), new BulkLoadThreadFactory(name));
+
+    try {
+      final List<Future<Void>> jobs = new ArrayList<Future<Void>>(threads);
+      for (int i = 0; i < threads; i++) {
+        final ODatabaseDocumentInternal localDatabase = database.copy();
+
+        jobs.add(executor.submit(() -> {
+          localDatabase.activateOnCurrentThread();
+          try {
+            final OSBTreeBulkLoader<Object, Object>.Writer writer = bulkLoader.newWriter();
+
+            String clusterName;
+            while ((clusterName = clusters.poll()) != null)
+              extractKeys(localDatabase, clusterName, writer, nullKeyRecords, documentNum, documentIndexed, null, documentTotal);
+
+            writer.flush();
+          } finally {
+            localDatabase.close();
+            ODatabaseRecordThreadLocal.instance().remove();
+          }
+
+          return null;
+        }));
+      }
+
+      database.activateOnCurrentThread();
+
+      // all jobs are completed even if some of them fail, so none of them uses the loader once it is closed
+      RuntimeException exception = null;
+      for (Future<Void> job : jobs) {
+        try {
+          job.get();
+        } catch (ExecutionException e) {
+          if (exception == null)
+            exception = e.getCause() instanceof RuntimeException ?
+                (RuntimeException) e.getCause() :
+                OException.wrapException(new OIndexException("Error during extraction of keys of index '" + name + "'"), e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          clusters.clear();
+
+          if (exception == null)
+            exception = new OCommandExecutionException("The index rebuild has been interrupted");
+        }
+
+        if (iProgressListener != null)
+          iProgressListener.onProgress(this, documentNum.get(), (float) (documentNum.get() * 100.0 / documentTotal));
+      }
+
+      if (exception != null)
+        throw exception;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void extractKeys(final ODatabaseDocumentInternal database, final String clusterName,
+      final OSBTreeBulkLoader<Object, Object>.Writer writer, final Collection<ORID> nullKeyRecords, final AtomicLong documentNum,
+      final AtomicLong documentIndexed, final OProgressListener iProgressListener, final long documentTotal) {
+    try {
+      for (final ORecord record : database.browseCluster(clusterName)) {
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+        if (record instanceof ODocument) {
+          final ODocument doc = (ODocument) record;
+
+          if (indexDefinition == null)
+            throw new OConfigurationException(
+                "Index '" + name + "' cannot be rebuilt because has no a valid definition (" + indexDefinition + ")");
+
+          final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+
+          if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
+            if (fieldValue instanceof Collection) {
+              for (final Object fieldValueItem : (Collection<?>) fieldValue)
+                addBulkLoadEntry(writer, fieldValueItem, doc.getIdentity(), nullKeyRecords);
+            } else
+              addBulkLoadEntry(writer, fieldValue, doc.getIdentity(), nullKeyRecords);
+
+            documentIndexed.incrementAndGet();
+          }
+        }
+
+        final long num = documentNum.incrementAndGet();
+        if (iProgressListener != null)
+          iProgressListener.onProgress(this, num, (float) (num * 100.0 / documentTotal));
+      }
+    } catch (NoSuchElementException ignore) {
+      // END OF CLUSTER REACHED, IGNORE IT
+    }
+  }
+
+  private void addBulkLoadEntry(final OSBTreeBulkLoader<Object, Object>.Writer writer, Object key, final ORID rid,
+      final Collection<ORID> nullKeyRecords) {
+    key = getCollatingValue(key);
+    if (key == null) {
+      nullKeyRecords.add(rid);
+      return;
+    }
+
+    try {
+      writer.add(key, rid);
+    } catch (OTooBigIndexKeyException e) {
+      OLogManager.instance().error(this,
+          "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+              + " Rebuild will continue from this point", e, key, rid);
+    }
+  }
+
   public boolean remove(Object key, final OIdentifiable value) {
     return remove(key);
   }
@@ -980,6 +1182,24 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     rwLock.acquireReadLock();
   }
 
+  private static final class BulkLoadThreadFactory implements ThreadFactory {
+    private final String        indexName;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private BulkLoadThreadFactory(String indexName) {
+      this.indexName = indexName;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Index Bulk Load Thread " + indexName + " " + counter.incrementAndGet());
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    }
+  }
+
   private void removeValuesContainer() {
     if (valueContainerAlgorithm.equals(ODefaultIndexFactory.SBTREEBONSAI_VALUE_CONTAINER)) {
 
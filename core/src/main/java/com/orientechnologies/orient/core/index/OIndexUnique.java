@@ -78,6 +78,11 @@ public class OIndexUnique extends OIndexOneValue {
     }
   }
 
+  @Override
+  protected OIndexEngine.Validator<Object, OIdentifiable> getBulkLoadValidator() {
+    return UNIQUE_VALIDATOR;
+  }
+
   @Override
   public boolean canBeUsedInEqualityOperators() {
     return true;
@@ -0,0 +1,119 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.exception.OConfigurationException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.index.engine.OLSMIndexEngine;
+import com.orientechnologies.orient.core.storage.index.engine.ORemoteIndexEngine;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Factory of indexes which are backed by log-structured merge tree, see {@link OLSMIndexEngine}.<br>
+ * Supports index types:
+ * <ul>
+ * <li>UNIQUE</li>
+ * <li>DICTIONARY</li>
+ * </ul>
+ */
+public class OLSMIndexFactory implements OIndexFactory {
+
+  public static final String LSM_ALGORITHM = "LSM";
+
+  private static final Set<String> TYPES;
+  private static final Set<String> ALGORITHMS;
+
+  static {
+    final Set<String> types = new HashSet<String>();
+    types.add(OClass.INDEX_TYPE.UNIQUE.toString());
+    types.add(OClass.INDEX_TYPE.DICTIONARY.toString());
+    TYPES = Collections.unmodifiableSet(types);
+  }
+
+  static {
+    final Set<String> algorithms = new HashSet<String>();
+    algorithms.add(LSM_ALGORITHM);
+    ALGORITHMS = Collections.unmodifiableSet(algorithms);
+  }
+
+  /**
+   * Index types:
+   * <ul>
+   * <li>UNIQUE</li>
+   * <li>DICTIONARY</li>
+   * </ul>
+   */
+  public Set<String> getTypes() {
+    return TYPES;
+  }
+
+  public Set<String> getAlgorithms() {
+    return ALGORITHMS;
+  }
+
+  public OIndexInternal<?> createIndex(String name, OStorage storage, String indexType, String algorithm,
+      String valueContainerAlgorithm, ODocument metadata, int version) throws OConfigurationException {
+    if (valueContainerAlgorithm == null)
+      valueContainerAlgorithm = ODefaultIndexFactory.NONE_VALUE_CONTAINER;
+
+    if (version < 0)
+      version = getLastVersion();
+
+    if (OClass.INDEX_TYPE.UNIQUE.toString().equals(indexType))
+      return new OIndexUnique(name, indexType, algorithm, version, (OAbstractPaginatedStorage) storage.getUnderlying(),
+          valueContainerAlgorithm, metadata);
+    else if (OClass.INDEX_TYPE.DICTIONARY.toString().equals(indexType))
+      return new OIndexDictionary(name, indexType, algorithm, version, (OAbstractPaginatedStorage) storage.getUnderlying(),
+          valueContainerAlgorithm, metadata);
+
+    throw new OConfigurationException("Unsupported type: " + indexType);
+  }
+
+  @Override
+  public int getLastVersion() {
+    return OLSMIndexEngine.VERSION;
+  }
+
+  @Override
+  public OIndexEngine createIndexEngine(final String algorithm, final String name, final Boolean durableInNonTxMode,
+      final OStorage storage, final int version, final Map<String, String> engineProperties) {
+    final OIndexEngine indexEngine;
+
+    final String storageType = storage.getType();
+    if (storageType.equals("memory") || storageType.equals("plocal"))
+      indexEngine = new OLSMIndexEngine(name, (OAbstractPaginatedStorage) storage, version);
+    else if (storageType.equals("distributed"))
+      // DISTRIBUTED CASE: HANDLE IT AS FOR LOCAL
+      indexEngine = new OLSMIndexEngine(name, (OAbstractPaginatedStorage) storage.getUnderlying(), version);
+    else if (storageType.equals("remote"))
+      indexEngine = new ORemoteIndexEngine(name);
+    else
+      throw new OIndexException("Unsupported storage type: " + storageType);
+
+    return indexEngine;
+  }
+}
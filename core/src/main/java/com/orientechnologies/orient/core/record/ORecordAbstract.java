@@ -142,6 +142,8 @@ public abstract class ORecordAbstract implements ORecord {
     }
 
     _contentChanged = true;
+    if (_status != STATUS.UNMARSHALLING)
+      invokeListenerEvent(ORecordListener.EVENT.CONTENT_CHANGED);
     return this;
   }
 
@@ -107,6 +107,10 @@ public class ORecordInternal {
     rec.clearSource();
   }
 
+  public static void addListener(final ORecord record, final ORecordListener listener) {
+    ((ORecordAbstract) record).addListener(listener);
+  }
+
   public static void addIdentityChangeListener(final ORecord record, final OIdentityChangeListener identityChangeListener) {
     ((ORecordAbstract) record).addIdentityChangeListener(identityChangeListener);
   }
@@ -29,7 +29,7 @@ package com.orientechnologies.orient.core.record;
 @Deprecated
 public interface ORecordListener {
   enum EVENT {
-    CLEAR, RESET, MARSHALL, UNMARSHALL, UNLOAD, IDENTITY_CHANGED
+    CLEAR, RESET, MARSHALL, UNMARSHALL, UNLOAD, IDENTITY_CHANGED, CONTENT_CHANGED
   }
 
   void onEvent(ORecord iDocument, EVENT iEvent);
@@ -72,6 +72,7 @@ public abstract class OCommandExecutorSQLAbstract extends OCommandExecutorAbstra
   public static final String METADATA_INDEXMGR        = "INDEXMANAGER";
   public static final String METADATA_STORAGE         = "STORAGE";
   public static final String METADATA_DATABASE        = "DATABASE";
+  public static final String METADATA_LOCKS           = "LOCKS";
 
   public static final String DEFAULT_PARAM_USER       = "$user";
 
@@ -326,7 +326,8 @@ public class OCommandExecutorSQLDelete extends OCommandExecutorSQLAbstract
       return false;
     } finally {
       if (lockStrategy.equalsIgnoreCase("RECORD"))
-        ((OAbstractPaginatedStorage) getDatabase().getStorage()).releaseWriteLock(record.getIdentity());
+        ((OAbstractPaginatedStorage) getDatabase().getStorage())
+            .releaseWriteLock(record.getIdentity(), getDatabase().getTransaction().getDatabase());
     }
   }
 
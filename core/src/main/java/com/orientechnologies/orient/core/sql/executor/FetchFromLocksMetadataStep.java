@@ -0,0 +1,124 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.concur.lock.ODeadlockDetectingRWLockManager;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Returns an OResult for each record lock which is held or waited for at the moment, together with the owners which hold the
+ * lock and the owners which wait for it
+ */
+public class FetchFromLocksMetadataStep extends AbstractExecutionStep {
+
+  private Iterator<OResult> locks;
+  private long              cost = 0;
+
+  public FetchFromLocksMetadataStep(OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (locks == null)
+      locks = fetchLocks(ctx).iterator();
+
+    return new OResultSet() {
+      private int served = 0;
+
+      @Override
+      public boolean hasNext() {
+        return served < nRecords && locks.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          if (!hasNext())
+            throw new IllegalStateException();
+
+          served++;
+          return locks.next();
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private List<OResult> fetchLocks(OCommandContext ctx) {
+    if (!(ctx.getDatabase() instanceof ODatabaseInternal))
+      return Collections.emptyList();
+
+    final OStorage storage = ((ODatabaseInternal) ctx.getDatabase()).getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage))
+      return Collections.emptyList();
+
+    final List<OResult> result = new ArrayList<>();
+    for (ODeadlockDetectingRWLockManager.LockInfo<ORID> lock : ((OAbstractPaginatedStorage) storage).getRecordLockManager()
+        .getLocks()) {
+      final OResultInternal item = new OResultInternal();
+      item.setProperty("rid", lock.getKey());
+      item.setProperty("mode", lock.isShared() == null ? null : (lock.isShared() ? "shared" : "exclusive"));
+      item.setProperty("holders", lock.getHolders());
+
+      final List<OResult> waiters = new ArrayList<>();
+      for (ODeadlockDetectingRWLockManager.WaiterInfo waiter : lock.getWaiters()) {
+        final OResultInternal waiterItem = new OResultInternal();
+        waiterItem.setProperty("owner", waiter.getOwner());
+        waiterItem.setProperty("mode", waiter.isShared() ? "shared" : "exclusive");
+        waiterItem.setProperty("waitTime", waiter.getWaitTime());
+        waiters.add(waiterItem);
+      }
+      item.setProperty("waiters", waiters);
+
+      result.add(item);
+    }
+
+    return result;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ FETCH RECORD LOCKS METADATA";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+}
@@ -0,0 +1,154 @@
+/* Generated By:JJTree: Do not edit this line. OCompactClusterStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.common.listener.OProgressListener;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.util.Map;
+
+public class OCompactClusterStatement extends OSimpleExecStatement {
+
+  public static final String KEYWORD_COMPACT = "COMPACT";
+
+  public OIdentifier clusterName;
+  public OInteger    clusterNumber;
+
+  public OCompactClusterStatement(int id) {
+    super(id);
+  }
+
+  public OCompactClusterStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  //new execution logic
+  @Override public OResultSet executeSimple(OCommandContext ctx) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final int clusterId = getClusterId(database);
+
+    OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "compact cluster");
+    result.setProperty("clusterName", database.getClusterNameById(clusterId));
+    result.setProperty("clusterId", clusterId);
+    result.setProperty("removedPages", compact(database, clusterId));
+
+    OInternalResultSet rs = new OInternalResultSet();
+    rs.add(result);
+    return rs;
+  }
+
+  //old execution logic
+  @Override public Object execute(OSQLAsynchQuery<ODocument> request, OCommandContext context, OProgressListener progressListener) {
+    try {
+      final ODatabaseDocumentInternal database = getDatabase();
+      final int clusterId = getClusterId(database);
+
+      ODocument result = new ODocument();
+      result.field("clusterName", database.getClusterNameById(clusterId));
+      result.field("clusterId", clusterId);
+      result.field("removedPages", compact(database, clusterId));
+      request.getResultListener().result(result);
+
+      return getResult(request);
+    } finally {
+      if (request.getResultListener() != null) {
+        request.getResultListener().end();
+      }
+    }
+  }
+
+  private int getClusterId(ODatabaseDocumentInternal database) {
+    final int clusterId;
+    if (clusterNumber != null) {
+      clusterId = clusterNumber.getValue().intValue();
+    } else {
+      clusterId = database.getClusterIdByName(clusterName.getStringValue());
+    }
+
+    if (clusterId < 0 || database.getClusterNameById(clusterId) == null) {
+      throw new OCommandExecutionException("Cluster " + (clusterName != null ? clusterName : clusterNumber) + " does not exist");
+    }
+
+    return clusterId;
+  }
+
+  private long compact(ODatabaseDocumentInternal database, int clusterId) {
+    final String name = database.getClusterNameById(clusterId);
+    database.checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_UPDATE, name);
+
+    final OStorage storage = database.getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      throw new OCommandExecutionException("Compaction of clusters is not supported by storage " + storage.getName());
+    }
+
+    return ((OAbstractPaginatedStorage) storage)
+        .compactCluster(clusterId, iText -> OLogManager.instance().info(this, "%s", iText));
+  }
+
+  protected Object getResult(OSQLAsynchQuery<ODocument> request) {
+    if (request instanceof OSQLSynchQuery)
+      return ((OSQLSynchQuery<ODocument>) request).getResult();
+
+    return null;
+  }
+
+  @Override public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("COMPACT CLUSTER ");
+    if (clusterName != null) {
+      clusterName.toString(params, builder);
+    } else if (clusterNumber != null) {
+      clusterNumber.toString(params, builder);
+    }
+  }
+
+  @Override public OCompactClusterStatement copy() {
+    OCompactClusterStatement result = new OCompactClusterStatement(-1);
+    result.clusterName = clusterName == null ? null : clusterName.copy();
+    result.clusterNumber = clusterNumber == null ? null : clusterNumber.copy();
+    return result;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OCompactClusterStatement that = (OCompactClusterStatement) o;
+
+    if (clusterName != null ? !clusterName.equals(that.clusterName) : that.clusterName != null)
+      return false;
+    if (clusterNumber != null ? !clusterNumber.equals(that.clusterNumber) : that.clusterNumber != null)
+      return false;
+
+    return true;
+  }
+
+  @Override public int hashCode() {
+    int result = clusterName != null ? clusterName.hashCode() : 0;
+    result = 31 * result + (clusterNumber != null ? clusterNumber.hashCode() : 0);
+    return result;
+  }
+
+  /**
+   * Accept the visitor.
+   **/
+  public Object jjtAccept(OrientSqlVisitor visitor, Object data) {
+    return visitor.visit(this, data);
+  }
+}
+/* JavaCC - OriginalChecksum=d77db98cdf29e595aed5f6797e6cd081 (do not edit this line) */
@@ -29,7 +29,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(263);
+        jj_consume_token(264);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -158,6 +158,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -450,6 +451,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case OPTIMIZE:
         token = jj_consume_token(OPTIMIZE);
         break;
+      case COMPACT:
+        token = jj_consume_token(COMPACT);
+        break;
       case LINK:
         token = jj_consume_token(LINK);
         break;
@@ -812,7 +816,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));OStatement result = null;
     try {
-      if (jj_2_46(2)) {
+      if (jj_2_47(2)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
         case TRAVERSE:
@@ -885,18 +889,20 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                   } else if (jj_2_29(2147483647)) {
                     result = TruncateRecordStatement();
                   } else if (jj_2_30(2)) {
+                    result = CompactClusterStatement();
+                  } else if (jj_2_31(2)) {
                     result = AlterSequenceStatement();
-                  } else if (jj_2_31(2147483647)) {
+                  } else if (jj_2_32(2147483647)) {
                     result = AlterClassStatement();
-                  } else if (jj_2_32(2)) {
+                  } else if (jj_2_33(2)) {
                     result = DropSequenceStatement();
-                  } else if (jj_2_33(2147483647)) {
-                    result = DropClassStatement();
                   } else if (jj_2_34(2147483647)) {
-                    result = DropViewStatement();
+                    result = DropClassStatement();
                   } else if (jj_2_35(2147483647)) {
-                    result = AlterPropertyStatement();
+                    result = DropViewStatement();
                   } else if (jj_2_36(2147483647)) {
+                    result = AlterPropertyStatement();
+                  } else if (jj_2_37(2147483647)) {
                     result = DropPropertyStatement();
                   } else {
                     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -905,13 +911,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                       break;
                     default:
                       jj_la1[12] = jj_gen;
-                      if (jj_2_37(2)) {
+                      if (jj_2_38(2)) {
                         result = DropIndexStatement();
-                      } else if (jj_2_38(2147483647)) {
+                      } else if (jj_2_39(2147483647)) {
                         result = AlterClusterStatement();
-                      } else if (jj_2_39(2)) {
-                        result = DropClusterStatement();
                       } else if (jj_2_40(2)) {
+                        result = DropClusterStatement();
+                      } else if (jj_2_41(2)) {
                         result = AlterDatabaseStatement();
                       } else {
                         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -947,15 +953,15 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                           break;
                         default:
                           jj_la1[13] = jj_gen;
-                          if (jj_2_41(2147483647)) {
+                          if (jj_2_42(2147483647)) {
                             result = HaRemoveServerStatement();
-                          } else if (jj_2_42(2147483647)) {
-                            result = HaStatusStatement();
                           } else if (jj_2_43(2147483647)) {
-                            result = HaSyncDatabaseStatement();
+                            result = HaStatusStatement();
                           } else if (jj_2_44(2147483647)) {
-                            result = HaSyncClusterStatement();
+                            result = HaSyncDatabaseStatement();
                           } else if (jj_2_45(2147483647)) {
+                            result = HaSyncClusterStatement();
+                          } else if (jj_2_46(2147483647)) {
                             result = HaSetStatement();
                           } else {
                             jj_consume_token(-1);
@@ -977,7 +983,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[14] = jj_gen;
-          if (jj_2_47(2147483647)) {
+          if (jj_2_48(2147483647)) {
             result = ProfileStatement();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1026,7 +1032,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));OStatement result;
     try {
-      if (jj_2_48(2147483647)) {
+      if (jj_2_49(2147483647)) {
         result = SelectStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1041,7 +1047,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[16] = jj_gen;
-          if (jj_2_49(2147483647)) {
+          if (jj_2_50(2147483647)) {
             result = FindReferencesStatement();
           } else {
             jj_consume_token(-1);
@@ -1302,6 +1308,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -1364,7 +1371,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
         jjtn000.projection = Projection();
         break;
       default:
@@ -1614,6 +1621,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -1803,7 +1811,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
       }
       jj_consume_token(RETURN);
-      if (jj_2_50(2)) {
+      if (jj_2_51(2)) {
         jj_consume_token(DISTINCT);
                            jjtn000.returnDistinct = true;
         lastReturn = Expression();
@@ -1816,7 +1824,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jj_la1[54] = jj_gen;
           ;
         }
-      } else if (jj_2_51(2147483647)) {
+      } else if (jj_2_52(2147483647)) {
         lastReturn = Expression();
                                          lastReturnAlias = null;
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2108,15 +2116,15 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));ODeleteEdgeStatement result;
     try {
-      if (jj_2_52(2147483647)) {
+      if (jj_2_53(2147483647)) {
         result = DeleteEdgeByRidStatement();
-      } else if (jj_2_53(2147483647)) {
-        result = DeleteEdgeFromToStatement();
       } else if (jj_2_54(2147483647)) {
-        result = DeleteEdgeVToStatement();
+        result = DeleteEdgeFromToStatement();
       } else if (jj_2_55(2147483647)) {
-        result = DeleteEdgeToStatement();
+        result = DeleteEdgeVToStatement();
       } else if (jj_2_56(2147483647)) {
+        result = DeleteEdgeToStatement();
+      } else if (jj_2_57(2147483647)) {
         result = DeleteEdgeWhereStatement();
       } else {
         jj_consume_token(-1);
@@ -2162,7 +2170,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 263:
+      case 264:
         jjtn000.rid = Rid();
         break;
       case LBRACKET:
@@ -2171,7 +2179,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 263:
+        case 264:
           lastRid = Rid();
                     jjtn000.rids = new ArrayList();
                     jjtn000.rids.add(lastRid);
@@ -2306,6 +2314,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2617,6 +2626,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2838,6 +2848,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -2900,7 +2911,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3115,6 +3126,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3177,7 +3189,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3671,7 +3683,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     try {
       jj_consume_token(INSERT);
       jj_consume_token(INTO);
-      if (jj_2_57(2147483647)) {
+      if (jj_2_58(2147483647)) {
         jjtn000.targetIndex = IndexIdentifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3735,6 +3747,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3801,7 +3814,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           throw new ParseException();
         }
       }
-      if (jj_2_58(2147483647)) {
+      if (jj_2_59(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -3830,7 +3843,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
-          if (jj_2_59(2147483647)) {
+          if (jj_2_60(2147483647)) {
             jjtn000.selectStatement = SelectStatement();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3846,9 +3859,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[130] = jj_gen;
-          if (jj_2_61(2)) {
+          if (jj_2_62(2)) {
             jj_consume_token(LPAREN);
-            if (jj_2_60(2147483647)) {
+            if (jj_2_61(2147483647)) {
               jjtn000.selectStatement = SelectStatement();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3918,7 +3931,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     OExpression lastExpression;
     List<OExpression> lastExpressionList;
     try {
-      if (jj_2_62(3)) {
+      if (jj_2_63(3)) {
         jj_consume_token(LPAREN);
         lastIdentifier = Identifier();
                     jjtn000.identifierList = new ArrayList<OIdentifier>();
@@ -3992,7 +4005,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           }
           jj_consume_token(RPAREN);
         }
-      } else if (jj_2_63(3)) {
+      } else if (jj_2_64(3)) {
         jj_consume_token(SET);
                     jjtn000.setExpressions = new ArrayList<OInsertSetExpression>();
                     OInsertSetExpression lastSetExpr = new OInsertSetExpression();
@@ -4133,7 +4146,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     try {
       jj_consume_token(CREATE);
       jj_consume_token(VERTEX);
-      if (jj_2_64(2147483647)) {
+      if (jj_2_65(2147483647)) {
         jjtn000.targetClass = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case CLUSTER:
@@ -4144,7 +4157,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jj_la1[140] = jj_gen;
           ;
         }
-      } else if (jj_2_65(2147483647)) {
+      } else if (jj_2_66(2147483647)) {
         jjtn000.targetCluster = Cluster();
       } else {
         jj_consume_token(-1);
@@ -4159,7 +4172,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jj_la1[141] = jj_gen;
         ;
       }
-      if (jj_2_66(2147483647)) {
+      if (jj_2_67(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -4373,6 +4386,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -4646,6 +4660,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -4748,7 +4763,7 @@ Token token;
     jjtn000.jjtSetFirstToken(getToken(1));java.util.List<OProjectionItem> items = new java.util.ArrayList<OProjectionItem>();
     OProjectionItem lastItem = null;
     try {
-      if (jj_2_67(2147483647)) {
+      if (jj_2_68(2147483647)) {
         lastItem = ProjectionItem();
                                          items.add(lastItem);
         label_17:
@@ -5011,6 +5026,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5073,7 +5089,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BANG:
           jj_consume_token(BANG);
@@ -5150,11 +5166,11 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_68(2147483647)) {
+      if (jj_2_69(2147483647)) {
         jjtn000.rid = Rid();
-      } else if (jj_2_69(2147483647)) {
-        jjtn000.inputParam = InputParameter();
       } else if (jj_2_70(2147483647)) {
+        jjtn000.inputParam = InputParameter();
+      } else if (jj_2_71(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -5194,9 +5210,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));Token tokenVal;
     try {
-      if (jj_2_71(2147483647)) {
+      if (jj_2_72(2147483647)) {
         jjtn000.inputValue = InputParameter();
-      } else if (jj_2_72(2147483647)) {
+      } else if (jj_2_73(2147483647)) {
         tokenVal = jj_consume_token(INTEGER_LITERAL);
                                        jjtn000.integer = Integer.parseInt(tokenVal.image);
       } else {
@@ -5482,6 +5498,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5601,6 +5618,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5663,7 +5681,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
         lastExpression = Expression();
                                            jjtn000.params.add(lastExpression);
         label_21:
@@ -5785,6 +5803,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5847,7 +5866,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
         lastExpression = Expression();
                                             jjtn000.params.add(lastExpression);
         label_22:
@@ -5904,7 +5923,7 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_73(2147483647)) {
+      if (jj_2_74(2147483647)) {
         jjtn000.functionCall = FunctionCall();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5914,7 +5933,7 @@ Token token;
           break;
         default:
           jj_la1[173] = jj_gen;
-          if (jj_2_74(2147483647)) {
+          if (jj_2_75(2147483647)) {
             jjtn000.collection = Collection();
           } else {
             jj_consume_token(-1);
@@ -5956,9 +5975,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_75(2147483647)) {
+      if (jj_2_76(2147483647)) {
         jjtn000.identifier = Identifier();
-      } else if (jj_2_76(2147483647)) {
+      } else if (jj_2_77(2147483647)) {
         jjtn000.recordAttribute = RecordAttribute();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6006,9 +6025,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_77(2147483647)) {
+      if (jj_2_78(2147483647)) {
         jjtn000.levelZero = LevelZeroIdentifier();
-      } else if (jj_2_78(2147483647)) {
+      } else if (jj_2_79(2147483647)) {
         jjtn000.suffix = SuffixIdentifier();
       } else {
         jj_consume_token(-1);
@@ -6052,13 +6071,13 @@ Token token;
       case LBRACKET:
         jj_consume_token(LBRACKET);
                              jjtn000.squareBrackets = true;
-        if (jj_2_79(2147483647)) {
+        if (jj_2_80(2147483647)) {
           jjtn000.rightBinaryCondition = RightBinaryCondition();
-        } else if (jj_2_80(2147483647)) {
-          jjtn000.arrayRange = ArrayRangeSelector();
         } else if (jj_2_81(2147483647)) {
-          jjtn000.condition = OrBlock();
+          jjtn000.arrayRange = ArrayRangeSelector();
         } else if (jj_2_82(2147483647)) {
+          jjtn000.condition = OrBlock();
+        } else if (jj_2_83(2147483647)) {
           jjtn000.arraySingleValues = ArraySingleValuesSelector();
         } else {
           jj_consume_token(-1);
@@ -6068,7 +6087,7 @@ Token token;
         break;
       default:
         jj_la1[175] = jj_gen;
-        if (jj_2_83(2147483647)) {
+        if (jj_2_84(2147483647)) {
           jjtn000.methodCall = MethodCall();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6083,7 +6102,7 @@ Token token;
           }
         }
       }
-      if (jj_2_84(2147483647)) {
+      if (jj_2_85(2147483647)) {
         jjtn000.next = Modifier();
       } else {
         ;
@@ -6122,7 +6141,7 @@ Token token;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));Token token;
     try {
-      if (jj_2_85(2147483647)) {
+      if (jj_2_86(2147483647)) {
         jjtn000.arrayConcatExpression = ArrayConcatExpression();
                                                                   jjtn000.value = jjtn000.arrayConcatExpression;
       } else {
@@ -6141,10 +6160,10 @@ Token token;
           break;
         default:
           jj_la1[177] = jj_gen;
-          if (jj_2_86(2147483647)) {
+          if (jj_2_87(2147483647)) {
             jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
-          } else if (jj_2_87(2147483647)) {
+          } else if (jj_2_88(2147483647)) {
             jjtn000.mathExpression = MathExpression();
                                                     jjtn000.value = jjtn000.mathExpression;
           } else {
@@ -6261,10 +6280,10 @@ Token token;
         break;
       default:
         jj_la1[180] = jj_gen;
-        if (jj_2_88(2147483647)) {
+        if (jj_2_89(2147483647)) {
           jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
-        } else if (jj_2_89(2147483647)) {
+        } else if (jj_2_90(2147483647)) {
           jjtn000.mathExpression = MathExpression();
                                                     jjtn000.value = jjtn000.mathExpression;
         } else {
@@ -6319,7 +6338,7 @@ Token token;
                                            jjtn000.getChildExpressions().add(sub);
       label_24:
       while (true) {
-        if (jj_2_90(2)) {
+        if (jj_2_91(2)) {
           ;
         } else {
           break label_24;
@@ -6415,9 +6434,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));OMathExpression expr;
     try {
-      if (jj_2_91(2147483647)) {
+      if (jj_2_92(2147483647)) {
         expr = ParenthesisExpression();
-      } else if (jj_2_92(2147483647)) {
+      } else if (jj_2_93(2147483647)) {
         expr = BaseExpression();
       } else {
         jj_consume_token(-1);
@@ -6458,7 +6477,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(LPAREN);
-      if (jj_2_93(2)) {
+      if (jj_2_94(2)) {
         jjtn000.statement = QueryStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6523,6 +6542,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -6585,7 +6605,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
           jjtn000.expression = Expression();
           break;
         case INSERT:
@@ -6698,6 +6718,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -6749,7 +6770,7 @@ Token token;
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
         jjtn000.identifier = BaseIdentifier();
-        if (jj_2_94(2147483647)) {
+        if (jj_2_95(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6758,7 +6779,7 @@ Token token;
       case HOOK:
       case COLON:
         jjtn000.inputParam = InputParameter();
-        if (jj_2_95(2147483647)) {
+        if (jj_2_96(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6781,7 +6802,7 @@ Token token;
           jj_consume_token(-1);
           throw new ParseException();
         }
-        if (jj_2_96(2147483647)) {
+        if (jj_2_97(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6914,7 +6935,7 @@ Token token;
     try {
       jjtn000.varName = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_97(2147483647)) {
+      if (jj_2_98(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6970,13 +6991,13 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 263:
+      case 264:
         lastRid = Rid();
                           jjtn000.rids.add(lastRid);
         break;
       default:
         jj_la1[192] = jj_gen;
-        if (jj_2_101(2)) {
+        if (jj_2_102(2)) {
           jj_consume_token(LBRACKET);
           lastRid = Rid();
                                          jjtn000.rids.add(lastRid);
@@ -7051,7 +7072,7 @@ Token token;
             break;
           default:
             jj_la1[193] = jj_gen;
-            if (jj_2_102(2147483647)) {
+            if (jj_2_103(2147483647)) {
               jjtn000.index = IndexIdentifier();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -7062,7 +7083,7 @@ Token token;
                 jj_consume_token(LPAREN);
                 jjtn000.statement = QueryStatement();
                 jj_consume_token(RPAREN);
-                if (jj_2_98(2147483647)) {
+                if (jj_2_99(2147483647)) {
                   jjtn000.modifier = Modifier();
                 } else {
                   ;
@@ -7074,9 +7095,9 @@ Token token;
                 break;
               default:
                 jj_la1[194] = jj_gen;
-                if (jj_2_103(2)) {
+                if (jj_2_104(2)) {
                   jjtn000.functionCall = FunctionCall();
-                  if (jj_2_99(2147483647)) {
+                  if (jj_2_100(2147483647)) {
                     jjtn000.modifier = Modifier();
                   } else {
                     ;
@@ -7143,6 +7164,7 @@ Token token;
                   case ID:
                   case DATABASE:
                   case OPTIMIZE:
+                  case COMPACT:
                   case LINK:
                   case TYPE:
                   case INVERSE:
@@ -7189,7 +7211,7 @@ Token token;
                   case IDENTIFIER:
                   case QUOTED_IDENTIFIER:
                     jjtn000.identifier = Identifier();
-                    if (jj_2_100(2147483647)) {
+                    if (jj_2_101(2147483647)) {
                       jjtn000.modifier = Modifier();
                     } else {
                       ;
@@ -7338,6 +7360,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7464,8 +7487,8 @@ Token token;
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 264:
-        jj_consume_token(264);
+      case 265:
+        jj_consume_token(265);
                              builder.append("__@recordmap@___");
         break;
       default:
@@ -7744,9 +7767,9 @@ Token token;
       case NOT:
         jj_consume_token(NOT);
                jjtn000.negate = true;
-        if (jj_2_104(2147483647)) {
+        if (jj_2_105(2147483647)) {
           jjtn000.sub = ConditionBlock();
-        } else if (jj_2_105(2147483647)) {
+        } else if (jj_2_106(2147483647)) {
           jjtn000.sub = ParenthesisBlock();
         } else {
           jj_consume_token(-1);
@@ -7814,6 +7837,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7876,10 +7900,10 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
-        if (jj_2_106(2147483647)) {
+      case 264:
+        if (jj_2_107(2147483647)) {
           jjtn000.sub = ConditionBlock();
-        } else if (jj_2_107(2147483647)) {
+        } else if (jj_2_108(2147483647)) {
           jjtn000.sub = ParenthesisBlock();
         } else {
           jj_consume_token(-1);
@@ -7962,37 +7986,37 @@ Token token;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));OBooleanExpression result = null;
     try {
-      if (jj_2_108(2147483647)) {
+      if (jj_2_109(2147483647)) {
         result = IsNotNullCondition();
-      } else if (jj_2_109(2147483647)) {
-        result = IsNullCondition();
       } else if (jj_2_110(2147483647)) {
-        result = IsNotDefinedCondition();
+        result = IsNullCondition();
       } else if (jj_2_111(2147483647)) {
-        result = IsDefinedCondition();
+        result = IsNotDefinedCondition();
       } else if (jj_2_112(2147483647)) {
-        result = InCondition();
+        result = IsDefinedCondition();
       } else if (jj_2_113(2147483647)) {
-        result = NotInCondition();
+        result = InCondition();
       } else if (jj_2_114(2147483647)) {
-        result = BinaryCondition();
+        result = NotInCondition();
       } else if (jj_2_115(2147483647)) {
-        result = BetweenCondition();
+        result = BinaryCondition();
       } else if (jj_2_116(2147483647)) {
-        result = ContainsCondition();
+        result = BetweenCondition();
       } else if (jj_2_117(2147483647)) {
-        result = ContainsValueCondition();
+        result = ContainsCondition();
       } else if (jj_2_118(2147483647)) {
-        result = ContainsAllCondition();
+        result = ContainsValueCondition();
       } else if (jj_2_119(2147483647)) {
-        result = ContainsAnyCondition();
+        result = ContainsAllCondition();
       } else if (jj_2_120(2147483647)) {
-        result = ContainsTextCondition();
+        result = ContainsAnyCondition();
       } else if (jj_2_121(2147483647)) {
-        result = MatchesCondition();
+        result = ContainsTextCondition();
       } else if (jj_2_122(2147483647)) {
-        result = IndexMatchCondition();
+        result = MatchesCondition();
       } else if (jj_2_123(2147483647)) {
+        result = IndexMatchCondition();
+      } else if (jj_2_124(2147483647)) {
         result = InstanceofCondition();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -8541,11 +8565,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jjtn000.operator = ContainsValueOperator();
-      if (jj_2_124(3)) {
+      if (jj_2_125(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_125(2147483647)) {
+      } else if (jj_2_126(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -8648,6 +8672,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -8824,6 +8849,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -8886,7 +8912,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_32:
@@ -8976,6 +9002,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9038,7 +9065,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_33:
@@ -9125,6 +9152,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9187,7 +9215,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
           lastExpression = Expression();
                                                     jjtn000.rightExpressions.add(lastExpression);
           label_34:
@@ -9441,11 +9469,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINS);
-      if (jj_2_126(3)) {
+      if (jj_2_127(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_127(2147483647)) {
+      } else if (jj_2_128(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9508,9 +9536,9 @@ Token token;
     try {
       jjtn000.left = Expression();
       jjtn000.operator = InOperator();
-      if (jj_2_129(2)) {
+      if (jj_2_130(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_128(2147483647)) {
+        if (jj_2_129(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -9524,7 +9552,7 @@ Token token;
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_130(2)) {
+      } else if (jj_2_131(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -9590,6 +9618,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9694,9 +9723,9 @@ Token token;
       jjtn000.left = Expression();
       jj_consume_token(NOT);
       InOperator();
-      if (jj_2_132(2)) {
+      if (jj_2_133(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_131(2147483647)) {
+        if (jj_2_132(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -9710,7 +9739,7 @@ Token token;
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_133(2)) {
+      } else if (jj_2_134(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -9776,6 +9805,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9879,11 +9909,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSALL);
-      if (jj_2_134(3)) {
+      if (jj_2_135(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_135(2147483647)) {
+      } else if (jj_2_136(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9925,11 +9955,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSANY);
-      if (jj_2_136(3)) {
+      if (jj_2_137(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_137(2147483647)) {
+      } else if (jj_2_138(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10128,6 +10158,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -10177,7 +10208,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
                     lastItem = new OOrderByItem();
                     jjtn000.items.add(lastItem);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10241,6 +10272,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10302,7 +10334,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 263:
+        case 264:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10411,6 +10443,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10472,7 +10505,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 263:
+        case 264:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10594,6 +10627,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10643,7 +10677,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 263:
+        case 264:
                         lastItem = new OOrderByItem();
                         jjtn000.items.add(lastItem);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10707,6 +10741,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10768,7 +10803,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 263:
+          case 264:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -10877,6 +10912,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10938,7 +10974,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 263:
+          case 264:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11492,6 +11528,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -11554,7 +11591,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
         lastExpression = Expression();
                                             jjtn000.expressions.add(lastExpression);
         label_38:
@@ -11677,6 +11714,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -11833,6 +11871,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -11989,7 +12028,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_138(2147483647)) {
+      if (jj_2_139(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -12091,6 +12130,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -12202,6 +12242,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -12343,6 +12384,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -12466,13 +12508,13 @@ Token token;
           jj_la1[270] = jj_gen;
           break label_42;
         }
-        if (jj_2_139(3)) {
+        if (jj_2_140(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_140(3)) {
-          nextItem = MultiMatchPathItemArrows();
         } else if (jj_2_141(3)) {
+          nextItem = MultiMatchPathItemArrows();
+        } else if (jj_2_142(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_142(2147483647)) {
+        } else if (jj_2_143(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -12481,7 +12523,7 @@ Token token;
             break;
           default:
             jj_la1[271] = jj_gen;
-            if (jj_2_143(2147483647)) {
+            if (jj_2_144(2147483647)) {
               nextItem = BothPathItem();
             } else {
               jj_consume_token(-1);
@@ -12617,7 +12659,7 @@ Token token;
                                               jjtn000.items.add(nextItem);
       label_43:
       while (true) {
-        if (jj_2_144(2147483647)) {
+        if (jj_2_145(2147483647)) {
           ;
         } else {
           break label_43;
@@ -12673,13 +12715,13 @@ Token token;
       jj_consume_token(LPAREN);
       label_44:
       while (true) {
-        if (jj_2_145(2147483647)) {
+        if (jj_2_146(2147483647)) {
           nextItem = OutPathItemOpt();
                                                jjtn000.items.add(nextItem);
-        } else if (jj_2_146(2147483647)) {
+        } else if (jj_2_147(2147483647)) {
           nextItem = InPathItemOpt();
                                               jjtn000.items.add(nextItem);
-        } else if (jj_2_147(2147483647)) {
+        } else if (jj_2_148(2147483647)) {
           nextItem = BothPathItemOpt();
                                                 jjtn000.items.add(nextItem);
         } else {
@@ -12890,6 +12932,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13124,6 +13167,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13297,6 +13341,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13468,6 +13513,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13639,6 +13685,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13819,6 +13866,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13997,6 +14045,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14265,6 +14314,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -14357,6 +14407,160 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
+  final public OCompactClusterStatement CompactClusterStatement() throws ParseException {
+ /*@bgen(jjtree) CompactClusterStatement */
+  OCompactClusterStatement jjtn000 = new OCompactClusterStatement(JJTCOMPACTCLUSTERSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(COMPACT);
+      jj_consume_token(CLUSTER);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case TO:
+      case VALUE:
+      case VALUES:
+      case SET:
+      case ADD:
+      case PUT:
+      case MERGE:
+      case CONTENT:
+      case REMOVE:
+      case ORDER:
+      case GROUP:
+      case OFFSET:
+      case RECORD:
+      case CACHE:
+      case CYCLE:
+      case NOLIMIT:
+      case NOCYCLE:
+      case LUCENE:
+      case NEAR:
+      case WITHIN:
+      case MINDEPTH:
+      case CLASS:
+      case SUPERCLASS:
+      case CLASSES:
+      case SUPERCLASSES:
+      case VIEW:
+      case UPDATABLE:
+      case EXCEPTION:
+      case PROFILE:
+      case STORAGE:
+      case ON:
+      case OFF:
+      case TRUNCATE:
+      case FIND:
+      case REFERENCES:
+      case EXTENDS:
+      case CLUSTERS:
+      case ABSTRACT:
+      case ALTER:
+      case NAME:
+      case SHORTNAME:
+      case OVERSIZE:
+      case STRICTMODE:
+      case ADDCLUSTER:
+      case REMOVECLUSTER:
+      case CUSTOM:
+      case CLUSTERSELECTION:
+      case DESCRIPTION:
+      case ENCRYPTION:
+      case DROP:
+      case PROPERTY:
+      case FORCE:
+      case METADATA:
+      case INDEX:
+      case COLLATE:
+      case ENGINE:
+      case REBUILD:
+      case ID:
+      case DATABASE:
+      case OPTIMIZE:
+      case COMPACT:
+      case LINK:
+      case TYPE:
+      case INVERSE:
+      case EXPLAIN:
+      case GRANT:
+      case REVOKE:
+      case READ:
+      case EXECUTE:
+      case ALL:
+      case NONE:
+      case FUNCTION:
+      case PARAMETERS:
+      case IDEMPOTENT:
+      case LANGUAGE:
+      case BEGIN:
+      case COMMIT:
+      case ROLLBACK:
+      case IF:
+      case ISOLATION:
+      case SLEEP:
+      case CONSOLE:
+      case BLOB:
+      case SHARED:
+      case DEFAULT_:
+      case SEQUENCE:
+      case START:
+      case OPTIONAL:
+      case COUNT:
+      case HA:
+      case STATUS:
+      case SERVER:
+      case SYNC:
+      case EXISTS:
+      case MOVE:
+      case DEPTH_ALIAS:
+      case PATH_ALIAS:
+      case IDENTIFIED:
+      case ROLE:
+      case USER:
+      case RID:
+      case DEFAULTCLUSTER:
+      case IN:
+      case KEY:
+      case IDENTIFIER:
+      case QUOTED_IDENTIFIER:
+        jjtn000.clusterName = Identifier();
+        break;
+      case INTEGER_LITERAL:
+      case MINUS:
+        jjtn000.clusterNumber = Integer();
+        break;
+      default:
+        jj_la1[303] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+          if (jjtc000) {
+            jjtree.clearNodeScope(jjtn000);
+            jjtc000 = false;
+          } else {
+            jjtree.popNode();
+          }
+          if (jjte000 instanceof RuntimeException) {
+            {if (true) throw (RuntimeException)jjte000;}
+          }
+          if (jjte000 instanceof ParseException) {
+            {if (true) throw (ParseException)jjte000;}
+          }
+          {if (true) throw (Error)jjte000;}
+    } finally {
+          if (jjtc000) {
+            jjtree.closeNodeScope(jjtn000, true);
+            jjtn000.jjtSetLastToken(getToken(0));
+          }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   final public OTruncateRecordStatement TruncateRecordStatement() throws ParseException {
  /*@bgen(jjtree) TruncateRecordStatement */
   OTruncateRecordStatement jjtn000 = new OTruncateRecordStatement(JJTTRUNCATERECORDSTATEMENT);
@@ -14370,7 +14574,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 263:
+      case 264:
         jjtn000.record = Rid();
         break;
       case LBRACKET:
@@ -14380,7 +14584,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 263:
+        case 264:
           lastRecord = Rid();
                                                      jjtn000.records.add(lastRecord);
           label_46:
@@ -14390,7 +14594,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[303] = jj_gen;
+              jj_la1[304] = jj_gen;
               break label_46;
             }
             jj_consume_token(COMMA);
@@ -14399,13 +14603,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[304] = jj_gen;
+          jj_la1[305] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[305] = jj_gen;
+        jj_la1[306] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14449,7 +14653,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 263:
+      case 264:
         jjtn000.rid = Rid();
         break;
       case LPAREN:
@@ -14458,7 +14662,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[306] = jj_gen;
+        jj_la1[307] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14527,6 +14731,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14579,7 +14784,7 @@ Token token;
           lastTarget = Cluster();
           break;
         default:
-          jj_la1[307] = jj_gen;
+          jj_la1[308] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14591,7 +14796,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[308] = jj_gen;
+            jj_la1[309] = jj_gen;
             break label_47;
           }
           jj_consume_token(COMMA);
@@ -14656,6 +14861,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -14708,7 +14914,7 @@ Token token;
             lastTarget = Cluster();
             break;
           default:
-            jj_la1[309] = jj_gen;
+            jj_la1[310] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -14717,7 +14923,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[310] = jj_gen;
+        jj_la1[311] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14766,7 +14972,7 @@ Token token;
                                         jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[311] = jj_gen;
+        jj_la1[312] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14781,7 +14987,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[312] = jj_gen;
+            jj_la1[313] = jj_gen;
             break label_48;
           }
           jj_consume_token(COMMA);
@@ -14790,7 +14996,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[313] = jj_gen;
+        jj_la1[314] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14805,7 +15011,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[314] = jj_gen;
+            jj_la1[315] = jj_gen;
             break label_49;
           }
           jj_consume_token(COMMA);
@@ -14814,7 +15020,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[315] = jj_gen;
+        jj_la1[316] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14823,7 +15029,7 @@ Token token;
         jjtn000.totalClusterNo = Integer();
         break;
       default:
-        jj_la1[316] = jj_gen;
+        jj_la1[317] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14832,7 +15038,7 @@ Token token;
                                jjtn000.abstractClass = true;
         break;
       default:
-        jj_la1[317] = jj_gen;
+        jj_la1[318] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -14880,7 +15086,7 @@ Token token;
                                         jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[318] = jj_gen;
+        jj_la1[319] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -14893,7 +15099,7 @@ Token token;
         jjtn000.metadata = Json();
         break;
       default:
-        jj_la1[319] = jj_gen;
+        jj_la1[320] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15006,6 +15212,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15057,7 +15264,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[320] = jj_gen;
+          jj_la1[321] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15078,13 +15285,13 @@ Token token;
                                                  jjtn000.remove = true;
             break;
           default:
-            jj_la1[321] = jj_gen;
+            jj_la1[322] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[322] = jj_gen;
+          jj_la1[323] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15148,6 +15355,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15200,7 +15408,7 @@ Token token;
                                          jjtn000.identifierValue = null;
           break;
         default:
-          jj_la1[323] = jj_gen;
+          jj_la1[324] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15270,6 +15478,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15324,7 +15533,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[324] = jj_gen;
+              jj_la1[325] = jj_gen;
               break label_50;
             }
             jj_consume_token(COMMA);
@@ -15337,7 +15546,7 @@ Token token;
                                          jjtn000.identifierListValue = null;
           break;
         default:
-          jj_la1[325] = jj_gen;
+          jj_la1[326] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15360,7 +15569,7 @@ Token token;
                                                   jjtn000.booleanValue = false;
           break;
         default:
-          jj_la1[326] = jj_gen;
+          jj_la1[327] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15429,6 +15638,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15481,7 +15691,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[327] = jj_gen;
+          jj_la1[328] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15550,6 +15760,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15602,7 +15813,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[328] = jj_gen;
+          jj_la1[329] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15627,7 +15838,7 @@ Token token;
                                                   jjtn000.booleanValue = false;
           break;
         default:
-          jj_la1[329] = jj_gen;
+          jj_la1[330] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15696,6 +15907,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15743,8 +15955,8 @@ Token token;
         case QUOTED_IDENTIFIER:
           jjtn000.identifierValue = Identifier();
           break;
-        case 265:
-          jj_consume_token(265);
+        case 266:
+          jj_consume_token(266);
                                                 jjtn000.customString = "round-robin";
           break;
         case RID_STRING:
@@ -15753,7 +15965,7 @@ Token token;
                                                                     jjtn000.customString = jjtn000.customString.substring(1, jjtn000.customString.length() - 1);
           break;
         default:
-          jj_la1[330] = jj_gen;
+          jj_la1[331] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15822,6 +16034,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15873,7 +16086,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[331] = jj_gen;
+          jj_la1[332] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15942,6 +16155,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15993,7 +16207,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[332] = jj_gen;
+          jj_la1[333] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16065,6 +16279,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16113,13 +16328,13 @@ Token token;
           jjtn000.defaultClusterName = Identifier();
           break;
         default:
-          jj_la1[333] = jj_gen;
+          jj_la1[334] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[334] = jj_gen;
+        jj_la1[335] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16129,7 +16344,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[335] = jj_gen;
+        jj_la1[336] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16176,7 +16391,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[336] = jj_gen;
+        jj_la1[337] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16185,7 +16400,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[337] = jj_gen;
+        jj_la1[338] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16232,7 +16447,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[338] = jj_gen;
+        jj_la1[339] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16292,7 +16507,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_148(3)) {
+      if (jj_2_149(3)) {
         IfNotExists();
                                                    jjtn000.ifNotExists = true;
       } else {
@@ -16360,6 +16575,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -16408,7 +16624,7 @@ Token token;
         jjtn000.linkedType = Identifier();
         break;
       default:
-        jj_la1[339] = jj_gen;
+        jj_la1[340] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16423,7 +16639,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[340] = jj_gen;
+            jj_la1[341] = jj_gen;
             break label_51;
           }
           jj_consume_token(COMMA);
@@ -16433,7 +16649,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[341] = jj_gen;
+        jj_la1[342] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16442,7 +16658,7 @@ Token token;
                              jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[342] = jj_gen;
+        jj_la1[343] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16524,7 +16740,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_149(3)) {
+      if (jj_2_150(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -16591,6 +16807,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16640,7 +16857,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[343] = jj_gen;
+          jj_la1[344] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16691,7 +16908,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[344] = jj_gen;
+        jj_la1[345] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16700,7 +16917,7 @@ Token token;
                     jjtn000.force = true;
         break;
       default:
-        jj_la1[345] = jj_gen;
+        jj_la1[346] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16742,7 +16959,7 @@ Token token;
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_151(4)) {
+      if (jj_2_152(4)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case IF:
           jj_consume_token(IF);
@@ -16751,7 +16968,7 @@ Token token;
                                    jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[346] = jj_gen;
+          jj_la1[347] = jj_gen;
           ;
         }
         jj_consume_token(ON);
@@ -16818,6 +17035,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16875,7 +17093,7 @@ Token token;
                     jjtn000.propertyList.add(lastProperty);
           break;
         default:
-          jj_la1[347] = jj_gen;
+          jj_la1[348] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16892,13 +17110,13 @@ Token token;
                               lastProperty.byValue = true;
             break;
           default:
-            jj_la1[348] = jj_gen;
+            jj_la1[349] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[349] = jj_gen;
+          jj_la1[350] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16907,7 +17125,7 @@ Token token;
           lastProperty.collate = Identifier();
           break;
         default:
-          jj_la1[350] = jj_gen;
+          jj_la1[351] = jj_gen;
           ;
         }
         label_52:
@@ -16917,7 +17135,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[351] = jj_gen;
+            jj_la1[352] = jj_gen;
             break label_52;
           }
           jj_consume_token(COMMA);
@@ -16982,6 +17200,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -17039,7 +17258,7 @@ Token token;
                         jjtn000.propertyList.add(lastProperty);
             break;
           default:
-            jj_la1[352] = jj_gen;
+            jj_la1[353] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -17056,13 +17275,13 @@ Token token;
                                   lastProperty.byValue = true;
               break;
             default:
-              jj_la1[353] = jj_gen;
+              jj_la1[354] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[354] = jj_gen;
+            jj_la1[355] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17071,7 +17290,7 @@ Token token;
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[355] = jj_gen;
+            jj_la1[356] = jj_gen;
             ;
           }
         }
@@ -17139,6 +17358,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17184,7 +17404,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_150(3)) {
+          if (jj_2_151(3)) {
             jj_consume_token(IF);
             jj_consume_token(NOT);
             jj_consume_token(EXISTS);
@@ -17252,6 +17472,7 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case COMPACT:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17300,19 +17521,19 @@ Token token;
               jjtn000.type = Identifier();
               break;
             default:
-              jj_la1[356] = jj_gen;
+              jj_la1[357] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[357] = jj_gen;
+          jj_la1[358] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
-      if (jj_2_154(2)) {
+      if (jj_2_155(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17376,6 +17597,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17421,7 +17643,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_152(2)) {
+          if (jj_2_153(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -17486,6 +17708,7 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case COMPACT:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17540,7 +17763,7 @@ Token token;
                   ;
                   break;
                 default:
-                  jj_la1[358] = jj_gen;
+                  jj_la1[359] = jj_gen;
                   break label_53;
                 }
                 jj_consume_token(COMMA);
@@ -17553,19 +17776,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[359] = jj_gen;
+                jj_la1[360] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[360] = jj_gen;
+              jj_la1[361] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[361] = jj_gen;
+          jj_la1[362] = jj_gen;
           ;
         }
       } else {
@@ -17630,6 +17853,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17675,7 +17899,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_153(2)) {
+          if (jj_2_154(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -17740,6 +17964,7 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case COMPACT:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17794,7 +18019,7 @@ Token token;
                   ;
                   break;
                 default:
-                  jj_la1[362] = jj_gen;
+                  jj_la1[363] = jj_gen;
                   break label_54;
                 }
                 jj_consume_token(COMMA);
@@ -17807,19 +18032,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[363] = jj_gen;
+                jj_la1[364] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[364] = jj_gen;
+              jj_la1[365] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[365] = jj_gen;
+          jj_la1[366] = jj_gen;
           ;
         }
       }
@@ -17920,6 +18145,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -17965,7 +18191,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 264:
+      case 265:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -17973,7 +18199,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[366] = jj_gen;
+        jj_la1[367] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18074,6 +18300,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18119,7 +18346,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 264:
+      case 265:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18127,7 +18354,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[367] = jj_gen;
+        jj_la1[368] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18138,7 +18365,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[368] = jj_gen;
+        jj_la1[369] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18186,7 +18413,7 @@ Token token;
                                  jjtn000.blob = true;
         break;
       default:
-        jj_la1[369] = jj_gen;
+        jj_la1[370] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18199,7 +18426,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[370] = jj_gen;
+        jj_la1[371] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18208,7 +18435,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[371] = jj_gen;
+        jj_la1[372] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18254,7 +18481,7 @@ Token token;
                    jjtn000.starred = true;
         break;
       default:
-        jj_la1[372] = jj_gen;
+        jj_la1[373] = jj_gen;
         ;
       }
       jjtn000.attributeName = Identifier();
@@ -18356,6 +18583,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18408,7 +18636,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[373] = jj_gen;
+        jj_la1[374] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18419,7 +18647,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[374] = jj_gen;
+        jj_la1[375] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18458,7 +18686,7 @@ Token token;
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_155(3)) {
+      if (jj_2_156(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -18525,6 +18753,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -18574,7 +18803,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[375] = jj_gen;
+          jj_la1[376] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -18658,7 +18887,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[376] = jj_gen;
+          jj_la1[377] = jj_gen;
           break label_55;
         }
         lastOption = CommandLineOption();
@@ -18767,6 +18996,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18818,7 +19048,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[377] = jj_gen;
+        jj_la1[378] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18886,6 +19116,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18937,7 +19168,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[378] = jj_gen;
+        jj_la1[379] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18947,7 +19178,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[379] = jj_gen;
+        jj_la1[380] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19086,7 +19317,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[380] = jj_gen;
+        jj_la1[381] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19179,6 +19410,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19227,7 +19459,7 @@ Token token;
         jjtn000.identifier = Identifier();
         break;
       default:
-        jj_la1[381] = jj_gen;
+        jj_la1[382] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19277,7 +19509,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[382] = jj_gen;
+          jj_la1[383] = jj_gen;
           break label_56;
         }
         jj_consume_token(DOT);
@@ -19332,7 +19564,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[383] = jj_gen;
+          jj_la1[384] = jj_gen;
           break label_57;
         }
         jj_consume_token(DOT);
@@ -19395,7 +19627,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[384] = jj_gen;
+            jj_la1[385] = jj_gen;
             break label_58;
           }
           jj_consume_token(COMMA);
@@ -19405,7 +19637,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[385] = jj_gen;
+        jj_la1[386] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19421,13 +19653,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[386] = jj_gen;
+          jj_la1[387] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[387] = jj_gen;
+        jj_la1[388] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19436,7 +19668,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[388] = jj_gen;
+        jj_la1[389] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19540,6 +19772,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19592,7 +19825,7 @@ Token token;
         jjtn000.passwordString = String();
         break;
       default:
-        jj_la1[389] = jj_gen;
+        jj_la1[390] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19660,6 +19893,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -19771,6 +20005,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -19825,7 +20060,7 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[390] = jj_gen;
+                jj_la1[391] = jj_gen;
                 break label_59;
               }
               jj_consume_token(COMMA);
@@ -19834,19 +20069,19 @@ Token token;
             }
             break;
           default:
-            jj_la1[391] = jj_gen;
+            jj_la1[392] = jj_gen;
             ;
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[392] = jj_gen;
+          jj_la1[393] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[393] = jj_gen;
+        jj_la1[394] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19923,9 +20158,9 @@ Token token;
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_156(2147483647)) {
+      if (jj_2_157(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_157(2147483647)) {
+      } else if (jj_2_158(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -19972,7 +20207,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[394] = jj_gen;
+        jj_la1[395] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20016,7 +20251,7 @@ Token token;
         jjtn000.retry = Integer();
         break;
       default:
-        jj_la1[395] = jj_gen;
+        jj_la1[396] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20137,6 +20372,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -20199,11 +20435,11 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 263:
+      case 264:
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[396] = jj_gen;
+        jj_la1[397] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20265,6 +20501,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -20281,10 +20518,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[397] = jj_gen;
+          jj_la1[398] = jj_gen;
           break label_60;
         }
-        if (jj_2_158(2147483647)) {
+        if (jj_2_159(2147483647)) {
           last = StatementSemicolon();
                                           jjtn000.statements.add(last);
         } else {
@@ -20305,7 +20542,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[398] = jj_gen;
+            jj_la1[399] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -20431,7 +20668,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[399] = jj_gen;
+        jj_la1[400] = jj_gen;
         ;
       }
       jj_consume_token(TYPE);
@@ -20456,7 +20693,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[400] = jj_gen;
+          jj_la1[401] = jj_gen;
           break label_61;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -20484,7 +20721,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[401] = jj_gen;
+            jj_la1[402] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -20502,7 +20739,7 @@ Token token;
                        jjtn000.positive = false;
           break;
         default:
-          jj_la1[402] = jj_gen;
+          jj_la1[403] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20558,7 +20795,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[403] = jj_gen;
+          jj_la1[404] = jj_gen;
           break label_62;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -20586,7 +20823,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[404] = jj_gen;
+            jj_la1[405] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -20608,7 +20845,7 @@ Token token;
                           jjtn000.turnLimitOff = true;
           break;
         default:
-          jj_la1[405] = jj_gen;
+          jj_la1[406] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20657,7 +20894,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[406] = jj_gen;
+        jj_la1[407] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20699,48 +20936,48 @@ Token token;
       label_63:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 266:
         case 267:
         case 268:
         case 269:
         case 270:
         case 271:
+        case 272:
           ;
           break;
         default:
-          jj_la1[407] = jj_gen;
+          jj_la1[408] = jj_gen;
           break label_63;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 266:
-          token = jj_consume_token(266);
-                                 jjtn000.servers = true;
-          break;
         case 267:
           token = jj_consume_token(267);
-                            jjtn000.db = true;
+                                 jjtn000.servers = true;
           break;
         case 268:
           token = jj_consume_token(268);
-                                 jjtn000.latency = true;
+                            jjtn000.db = true;
           break;
         case 269:
           token = jj_consume_token(269);
-                                  jjtn000.messages = true;
+                                 jjtn000.latency = true;
           break;
         case 270:
           token = jj_consume_token(270);
+                                  jjtn000.messages = true;
+          break;
+        case 271:
+          token = jj_consume_token(271);
                 jjtn000.servers = true;
                 jjtn000.db = true;
                 jjtn000.latency = true;
                 jjtn000.messages = true;
           break;
-        case 271:
-          token = jj_consume_token(271);
+        case 272:
+          token = jj_consume_token(272);
                                      jjtn000.outputText = true;
           break;
         default:
-          jj_la1[408] = jj_gen;
+          jj_la1[409] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20809,25 +21046,25 @@ Token token;
       label_64:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 272:
         case 273:
+        case 274:
           ;
           break;
         default:
-          jj_la1[409] = jj_gen;
+          jj_la1[410] = jj_gen;
           break label_64;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 272:
-          jj_consume_token(272);
-                      jjtn000.force = true;
-          break;
         case 273:
           jj_consume_token(273);
+                      jjtn000.force = true;
+          break;
+        case 274:
+          jj_consume_token(274);
                       jjtn000.full = true;
           break;
         default:
-          jj_la1[410] = jj_gen;
+          jj_la1[411] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20857,25 +21094,25 @@ Token token;
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 274:
       case 275:
+      case 276:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 274:
-          jj_consume_token(274);
-                                 jjtn000.modeFull = true;
-          break;
         case 275:
           jj_consume_token(275);
+                                 jjtn000.modeFull = true;
+          break;
+        case 276:
+          jj_consume_token(276);
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[411] = jj_gen;
+          jj_la1[412] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[412] = jj_gen;
+        jj_la1[413] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20979,6 +21216,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -20995,10 +21233,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[413] = jj_gen;
+          jj_la1[414] = jj_gen;
           break label_65;
         }
-        if (jj_2_159(2147483647)) {
+        if (jj_2_160(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -21019,7 +21257,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[414] = jj_gen;
+            jj_la1[415] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21085,6 +21323,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -21101,10 +21340,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[415] = jj_gen;
+          jj_la1[416] = jj_gen;
           break label_66;
         }
-        if (jj_2_160(2147483647)) {
+        if (jj_2_161(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -21125,7 +21364,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[416] = jj_gen;
+            jj_la1[417] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22279,249 +22518,251 @@ Token token;
     finally { jj_save(159, xla); }
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_149()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_686()) { jj_scanpos = xsp; break; }
-    }
-    return false;
+  private boolean jj_2_161(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_161(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(160, xla); }
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_686() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
+  private boolean jj_3R_433() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_585()) jj_scanpos = xsp;
+    if (jj_3R_586()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_586()) jj_scanpos = xsp;
+    if (jj_3R_587()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_685()) { jj_scanpos = xsp; break; }
+      if (jj_3R_686()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_431() {
-    if (jj_3R_422()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_423()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_584()) jj_scanpos = xsp;
+    if (jj_3R_585()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_436() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
+  private boolean jj_3R_210() {
     if (jj_scan_token(KEY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_431()) {
+    if (jj_3R_432()) {
     jj_scanpos = xsp;
-    if (jj_3R_432()) return true;
+    if (jj_3R_433()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_434() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_435() {
+    if (jj_3R_584()) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_434() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_125() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3_126() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_433()) {
-    jj_scanpos = xsp;
     if (jj_3R_434()) {
     jj_scanpos = xsp;
-    if (jj_3R_435()) return true;
+    if (jj_3R_435()) {
+    jj_scanpos = xsp;
+    if (jj_3R_436()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_124() {
+  private boolean jj_3_125() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_149()) return true;
-    if (jj_3R_424()) return true;
+  private boolean jj_3R_205() {
+    if (jj_3R_150()) return true;
+    if (jj_3R_425()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_124()) {
+    if (jj_3_125()) {
     jj_scanpos = xsp;
-    if (jj_3R_425()) return true;
+    if (jj_3R_426()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_201() {
-    if (jj_3R_149()) return true;
-    if (jj_3R_422()) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_202() {
+    if (jj_3R_150()) return true;
+    if (jj_3R_423()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
+  private boolean jj_3R_543() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_374() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_542()) jj_scanpos = xsp;
-    if (jj_3R_419()) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_543()) jj_scanpos = xsp;
+    if (jj_3R_420()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_372() {
-    if (jj_3R_422()) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_423()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_171() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_372()) {
+    if (jj_3R_373()) {
     jj_scanpos = xsp;
-    if (jj_3R_373()) return true;
+    if (jj_3R_374()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_763() {
+  private boolean jj_3R_764() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_763() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_673() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_762()) {
+    if (jj_3R_763()) {
     jj_scanpos = xsp;
-    if (jj_3R_763()) return true;
+    if (jj_3R_764()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_424() {
+  private boolean jj_3R_425() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_681() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_685() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_682() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_680() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_679() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_678() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_677() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
+  private boolean jj_3R_676() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
+  private boolean jj_3R_675() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_673() {
+  private boolean jj_3R_674() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
+  private boolean jj_3R_583() {
+    if (jj_3R_685()) return true;
+    return false;
+  }
+
   private boolean jj_3R_582() {
     if (jj_3R_684()) return true;
     return false;
@@ -22537,13 +22778,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_681()) return true;
+  private boolean jj_3R_571() {
+    if (jj_3R_673()) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_3R_672()) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_681()) return true;
     return false;
   }
 
@@ -22582,31 +22823,24 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_571() {
-    if (jj_3R_673()) return true;
-    return false;
-  }
-
-  private boolean jj_3_122() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3_123() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3_123() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3_124() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3_121() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3_122() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
+  private boolean jj_3R_423() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_570()) {
-    jj_scanpos = xsp;
     if (jj_3R_571()) {
     jj_scanpos = xsp;
     if (jj_3R_572()) {
@@ -22629,7 +22863,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_581()) {
     jj_scanpos = xsp;
-    if (jj_3R_582()) return true;
+    if (jj_3R_582()) {
+    jj_scanpos = xsp;
+    if (jj_3R_583()) return true;
     }
     }
     }
@@ -22645,16 +22881,36 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_418() {
+  private boolean jj_3R_419() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
+  private boolean jj_3R_418() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
+  private boolean jj_3_121() {
+    if (jj_3R_208()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_416() {
+    if (jj_3R_210()) return true;
+    return false;
+  }
+
+  private boolean jj_3_119() {
+    if (jj_3R_206()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_417() {
+    if (jj_3R_211()) return true;
+    return false;
+  }
+
   private boolean jj_3_120() {
     if (jj_3R_207()) return true;
     return false;
@@ -22670,13 +22926,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3_117() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3_119() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3_116() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
@@ -22685,13 +22941,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_117() {
-    if (jj_3R_204()) return true;
-    return false;
-  }
-
-  private boolean jj_3_116() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
@@ -22710,18 +22961,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_114() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3_113() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3_114() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
@@ -22735,11 +22986,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_113() {
-    if (jj_3R_200()) return true;
-    return false;
-  }
-
   private boolean jj_3R_408() {
     if (jj_3R_202()) return true;
     return false;
@@ -22750,33 +22996,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_201()) return true;
-    return false;
-  }
-
   private boolean jj_3_110() {
     if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3_109() {
-    if (jj_3R_196()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3_109() {
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3_108() {
-    if (jj_3R_195()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_200()) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
@@ -22795,21 +23036,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_401() {
+  private boolean jj_3_108() {
     if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3_107() {
-    if (jj_3R_194()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_401()) {
-    jj_scanpos = xsp;
     if (jj_3R_402()) {
     jj_scanpos = xsp;
     if (jj_3R_403()) {
@@ -22842,7 +23076,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_417()) {
     jj_scanpos = xsp;
-    if (jj_3R_418()) return true;
+    if (jj_3R_418()) {
+    jj_scanpos = xsp;
+    if (jj_3R_419()) return true;
     }
     }
     }
@@ -22863,421 +23099,419 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_106() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3_107() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3_106() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3_105() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_749() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_750() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_749() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_748() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_661() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_748()) {
+    if (jj_3R_749()) {
     jj_scanpos = xsp;
-    if (jj_3R_749()) return true;
+    if (jj_3R_750()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_746() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_747() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_660() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_746()) {
+    if (jj_3R_747()) {
     jj_scanpos = xsp;
-    if (jj_3R_747()) return true;
+    if (jj_3R_748()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_547() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_659()) {
+    if (jj_3R_660()) {
     jj_scanpos = xsp;
-    if (jj_3R_660()) return true;
+    if (jj_3R_661()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_548() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_546()) return true;
+    if (jj_3R_547()) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
+  private boolean jj_3R_379() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_377()) return true;
+    if (jj_3R_378()) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_546()) return true;
+  private boolean jj_3R_378() {
+    if (jj_3R_547()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_547()) { jj_scanpos = xsp; break; }
+      if (jj_3R_548()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_172() {
-    if (jj_3R_377()) return true;
+  private boolean jj_3R_173() {
+    if (jj_3R_378()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_378()) { jj_scanpos = xsp; break; }
+      if (jj_3R_379()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_463() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_533() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_532() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_531() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
+  private boolean jj_3R_353() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_530()) {
-    jj_scanpos = xsp;
     if (jj_3R_531()) {
     jj_scanpos = xsp;
-    if (jj_3R_532()) return true;
+    if (jj_3R_532()) {
+    jj_scanpos = xsp;
+    if (jj_3R_533()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_351() {
+  private boolean jj_3R_352() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_529()) return true;
+    if (jj_3R_530()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_156() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_351()) {
+    if (jj_3R_352()) {
     jj_scanpos = xsp;
-    if (jj_3R_352()) return true;
+    if (jj_3R_353()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_741() {
+  private boolean jj_3R_742() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_741() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
+  private boolean jj_3R_650() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) {
+    if (jj_3R_741()) {
     jj_scanpos = xsp;
-    if (jj_3R_741()) return true;
+    if (jj_3R_742()) return true;
     }
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
-    if (jj_scan_token(264)) return true;
+  private boolean jj_3R_649() {
+    if (jj_scan_token(265)) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
+  private boolean jj_3R_530() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_648()) jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
+    if (jj_3R_649()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_649()) { jj_scanpos = xsp; break; }
+      if (jj_3R_650()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_937() {
+  private boolean jj_3R_940() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_837() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_937()) { jj_scanpos = xsp; break; }
+      if (jj_3R_940()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) jj_scanpos = xsp;
+    if (jj_3R_837()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
+  private boolean jj_3R_357() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_100() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3R_356() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_99() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_100() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_355()) {
+    if (jj_3R_356()) {
     jj_scanpos = xsp;
-    if (jj_3R_356()) return true;
+    if (jj_3R_357()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_702() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_703() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_98() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_99() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_702() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_702()) jj_scanpos = xsp;
+    if (jj_3R_703()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_700() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_701() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_166()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_701()) jj_scanpos = xsp;
+    if (jj_3R_702()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_610() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_155()) return true;
-    return false;
+  private boolean jj_3_103() {
+    if (jj_3R_156()) return true;
+    return false;
   }
 
-  private boolean jj_3R_608() {
+  private boolean jj_3R_609() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_192()) return true;
+    if (jj_3R_193()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_700()) jj_scanpos = xsp;
+    if (jj_3R_701()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_3R_699()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_700()) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_607() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
-    if (jj_3R_539()) return true;
+  private boolean jj_3R_836() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_698()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_699()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_634() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_632()) return true;
+    if (jj_3R_633()) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_698() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_832()) {
+    if (jj_3R_835()) {
     jj_scanpos = xsp;
-    if (jj_3R_833()) return true;
+    if (jj_3R_836()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_538()) return true;
+    if (jj_3R_539()) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
-    if (jj_3R_539()) return true;
+  private boolean jj_3R_697() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
-    if (jj_3R_538()) return true;
+  private boolean jj_3R_696() {
+    if (jj_3R_539()) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_695() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
+  private boolean jj_3R_604() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_695()) {
+    if (jj_3R_696()) {
     jj_scanpos = xsp;
-    if (jj_3R_696()) return true;
+    if (jj_3R_697()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_697()) { jj_scanpos = xsp; break; }
+      if (jj_3R_698()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
+  private boolean jj_3_102() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_694()) { jj_scanpos = xsp; break; }
+      if (jj_3R_695()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_458() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_602()) {
-    jj_scanpos = xsp;
-    if (jj_3_101()) {
-    jj_scanpos = xsp;
     if (jj_3R_603()) {
     jj_scanpos = xsp;
+    if (jj_3_102()) {
+    jj_scanpos = xsp;
     if (jj_3R_604()) {
     jj_scanpos = xsp;
     if (jj_3R_605()) {
@@ -23290,9 +23524,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_609()) {
     jj_scanpos = xsp;
-    if (jj_3_103()) {
+    if (jj_3R_610()) {
     jj_scanpos = xsp;
-    if (jj_3R_610()) return true;
+    if (jj_3_104()) {
+    jj_scanpos = xsp;
+    if (jj_3R_611()) return true;
     }
     }
     }
@@ -23306,147 +23542,152 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_97() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3_98() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_719() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_192()) return true;
+    if (jj_3R_193()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_718() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_633() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_717()) {
+    if (jj_3R_718()) {
     jj_scanpos = xsp;
-    if (jj_3R_718()) return true;
+    if (jj_3R_719()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_96() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_97() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
+  private boolean jj_3R_515() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_632()) return true;
+    if (jj_3R_633()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_633()) { jj_scanpos = xsp; break; }
+      if (jj_3R_634()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_457()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_568() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_96() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_566() {
+  private boolean jj_3R_567() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_584()) return true;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_564() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_565() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
+  private boolean jj_3R_396() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_565()) {
+    if (jj_3R_566()) {
     jj_scanpos = xsp;
-    if (jj_3R_566()) return true;
+    if (jj_3R_567()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_567()) jj_scanpos = xsp;
+    if (jj_3R_568()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_564() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_395() {
+    if (jj_3R_165()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_564()) jj_scanpos = xsp;
+    if (jj_3R_565()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_3R_562()) return true;
+  private boolean jj_3R_394() {
+    if (jj_3R_563()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_563()) jj_scanpos = xsp;
+    if (jj_3R_564()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_485()) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_192() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_392()) {
-    jj_scanpos = xsp;
     if (jj_3R_393()) {
     jj_scanpos = xsp;
     if (jj_3R_394()) {
     jj_scanpos = xsp;
-    if (jj_3R_395()) return true;
+    if (jj_3R_395()) {
+    jj_scanpos = xsp;
+    if (jj_3R_396()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_391() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_3R_298()) return true;
+  private boolean jj_3R_392() {
+    if (jj_3R_299()) return true;
+    return false;
+  }
+
+  private boolean jj_3_94() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
@@ -23460,106 +23701,99 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_190()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_190() {
+  private boolean jj_3R_191() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_93()) {
+    if (jj_3_94()) {
     jj_scanpos = xsp;
-    if (jj_3R_390()) {
+    if (jj_3R_391()) {
     jj_scanpos = xsp;
-    if (jj_3R_391()) return true;
+    if (jj_3R_392()) return true;
     }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3R_390() {
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_3R_190()) return true;
+  private boolean jj_3R_389() {
+    if (jj_3R_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_190() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_388()) {
+    if (jj_3R_389()) {
     jj_scanpos = xsp;
-    if (jj_3R_389()) return true;
+    if (jj_3R_390()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_188() {
+  private boolean jj_3R_189() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
+  private boolean jj_3R_188() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_187() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_185() {
+  private boolean jj_3R_186() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
+  private boolean jj_3R_185() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
+  private boolean jj_3R_184() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
+  private boolean jj_3R_183() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_182() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
+  private boolean jj_3R_181() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
+  private boolean jj_3R_180() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_179() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
+  private boolean jj_3_91() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_178()) {
-    jj_scanpos = xsp;
     if (jj_3R_179()) {
     jj_scanpos = xsp;
     if (jj_3R_180()) {
@@ -23578,7 +23812,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_187()) {
     jj_scanpos = xsp;
-    if (jj_3R_188()) return true;
+    if (jj_3R_188()) {
+    jj_scanpos = xsp;
+    if (jj_3R_189()) return true;
     }
     }
     }
@@ -23589,65 +23825,63 @@ Token token;
     }
     }
     }
-    if (jj_3R_189()) return true;
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_177() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3R_178() {
+    if (jj_3R_190()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_90()) { jj_scanpos = xsp; break; }
+      if (jj_3_91()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3_90() {
+    if (jj_3R_178()) return true;
+    return false;
+  }
+
   private boolean jj_3_89() {
-    if (jj_3R_177()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
   private boolean jj_3R_561() {
-    if (jj_3R_227()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
   private boolean jj_3R_560() {
-    if (jj_3R_177()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
   private boolean jj_3R_559() {
-    if (jj_3R_163()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_558() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
+  private boolean jj_3R_558() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_556() {
+  private boolean jj_3R_557() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
+  private boolean jj_3R_387() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_556()) {
-    jj_scanpos = xsp;
     if (jj_3R_557()) {
     jj_scanpos = xsp;
     if (jj_3R_558()) {
@@ -23656,7 +23890,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_560()) {
     jj_scanpos = xsp;
-    if (jj_3R_561()) return true;
+    if (jj_3R_561()) {
+    jj_scanpos = xsp;
+    if (jj_3R_562()) return true;
     }
     }
     }
@@ -23665,98 +23901,96 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_387() {
+  private boolean jj_3R_388() {
     if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_386()) return true;
+    if (jj_3R_387()) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
-    if (jj_3R_386()) return true;
-    Token xsp;
+  private boolean jj_3R_177() {
     if (jj_3R_387()) return true;
+    Token xsp;
+    if (jj_3R_388()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_387()) { jj_scanpos = xsp; break; }
+      if (jj_3R_388()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3_87() {
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_333() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
   private boolean jj_3R_332() {
-    if (jj_3R_227()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3_86() {
     if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
   private boolean jj_3R_330() {
-    if (jj_3R_163()) return true;
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
   private boolean jj_3R_329() {
-    if (jj_scan_token(FALSE)) return true;
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3R_328() {
-    if (jj_scan_token(TRUE)) return true;
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3_85() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_326() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_327() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3_83() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3_84() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
+  private boolean jj_3R_150() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_326()) {
-    jj_scanpos = xsp;
     if (jj_3R_327()) {
     jj_scanpos = xsp;
     if (jj_3R_328()) {
@@ -23767,7 +24001,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_331()) {
     jj_scanpos = xsp;
-    if (jj_3R_332()) return true;
+    if (jj_3R_332()) {
+    jj_scanpos = xsp;
+    if (jj_3R_333()) return true;
     }
     }
     }
@@ -23777,24 +24013,34 @@ Token token;
     return false;
   }
 
+  private boolean jj_3_81() {
+    if (jj_3R_172()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_386() {
+    if (jj_3R_176()) return true;
+    return false;
+  }
+
   private boolean jj_3_80() {
     if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3R_385() {
-    if (jj_3R_175()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_556() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
   private boolean jj_3R_384() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
@@ -23803,11 +24049,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
   private boolean jj_3R_554() {
     if (jj_3R_172()) return true;
     return false;
@@ -23818,22 +24059,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_382() {
+  private boolean jj_3R_383() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_552()) {
-    jj_scanpos = xsp;
     if (jj_3R_553()) {
     jj_scanpos = xsp;
     if (jj_3R_554()) {
     jj_scanpos = xsp;
-    if (jj_3R_555()) return true;
+    if (jj_3R_555()) {
+    jj_scanpos = xsp;
+    if (jj_3R_556()) return true;
     }
     }
     }
@@ -23841,34 +24077,39 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3R_541() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_176() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_382()) {
-    jj_scanpos = xsp;
     if (jj_3R_383()) {
     jj_scanpos = xsp;
-    if (jj_3R_384()) return true;
+    if (jj_3R_384()) {
+    jj_scanpos = xsp;
+    if (jj_3R_385()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_385()) jj_scanpos = xsp;
+    if (jj_3R_386()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_670() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
@@ -23877,296 +24118,271 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_668() {
+  private boolean jj_3_77() {
     if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3_76() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3_75() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
+  private boolean jj_3R_563() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_668()) {
+    if (jj_3R_669()) {
     jj_scanpos = xsp;
-    if (jj_3R_669()) return true;
+    if (jj_3R_670()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_371() {
+  private boolean jj_3R_372() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_371() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3_75() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_370() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_170() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_369()) {
-    jj_scanpos = xsp;
     if (jj_3R_370()) {
     jj_scanpos = xsp;
-    if (jj_3R_371()) return true;
+    if (jj_3R_371()) {
+    jj_scanpos = xsp;
+    if (jj_3R_372()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_369() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
+  private boolean jj_3R_368() {
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_367() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3R_169() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_366()) {
-    jj_scanpos = xsp;
     if (jj_3R_367()) {
     jj_scanpos = xsp;
-    if (jj_3R_368()) return true;
+    if (jj_3R_368()) {
+    jj_scanpos = xsp;
+    if (jj_3R_369()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_551()) { jj_scanpos = xsp; break; }
+      if (jj_3R_552()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_175() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_381()) jj_scanpos = xsp;
+    if (jj_3R_382()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_364() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_540()) { jj_scanpos = xsp; break; }
+      if (jj_3R_541()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_363() {
+  private boolean jj_3R_364() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_363() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_166() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_362()) {
+    if (jj_3R_363()) {
     jj_scanpos = xsp;
-    if (jj_3R_363()) return true;
+    if (jj_3R_364()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_364()) jj_scanpos = xsp;
+    if (jj_3R_365()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_168() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_538() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
+  private boolean jj_3R_546() {
     if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_543()) return true;
+  private boolean jj_3R_377() {
+    if (jj_3R_544()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_544()) {
+    if (jj_3R_545()) {
     jj_scanpos = xsp;
-    if (jj_3R_545()) return true;
+    if (jj_3R_546()) return true;
     }
-    if (jj_3R_543()) return true;
+    if (jj_3R_544()) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
+  private boolean jj_3R_376() {
     if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
+  private boolean jj_3R_375() {
     if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_374()) {
-    jj_scanpos = xsp;
     if (jj_3R_375()) {
     jj_scanpos = xsp;
-    if (jj_3R_376()) return true;
+    if (jj_3R_376()) {
+    jj_scanpos = xsp;
+    if (jj_3R_377()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_380() {
+  private boolean jj_3R_381() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_379()) return true;
-    return false;
-  }
-
-  private boolean jj_3_72() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_173() {
-    if (jj_3R_379()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_380()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3_71() {
-    if (jj_3R_164()) return true;
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3_160() {
+  private boolean jj_3_161() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_992() {
-    if (jj_3R_973()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_658() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_995() {
+    if (jj_3R_976()) return true;
     return false;
   }
 
-  private boolean jj_3R_991() {
-    if (jj_3R_974()) return true;
+  private boolean jj_3_73() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3_70() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_174() {
+    if (jj_3R_380()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_381()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_994() {
+    if (jj_3R_977()) return true;
     return false;
   }
 
-  private boolean jj_3R_990() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3R_993() {
+    if (jj_3R_311()) return true;
     return false;
   }
 
-  private boolean jj_3_69() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_72() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_989() {
+  private boolean jj_3R_992() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
+  private boolean jj_3R_989() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_989()) {
+    if (jj_3R_992()) {
     jj_scanpos = xsp;
-    if (jj_3R_990()) {
+    if (jj_3R_993()) {
     jj_scanpos = xsp;
-    if (jj_3R_991()) {
+    if (jj_3R_994()) {
     jj_scanpos = xsp;
-    if (jj_3R_992()) {
+    if (jj_3R_995()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(191)) return true;
+    if (jj_scan_token(192)) return true;
     }
     }
     }
@@ -24174,112 +24390,108 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_68() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_659() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_657()) {
-    jj_scanpos = xsp;
-    if (jj_3R_658()) return true;
-    }
+  private boolean jj_3_71() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_658() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
+  private boolean jj_3R_976() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_986()) { jj_scanpos = xsp; break; }
+      if (jj_3R_989()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_70() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3_69() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
-    if (jj_3R_68()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_379() {
+  private boolean jj_3R_544() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_548()) {
-    jj_scanpos = xsp;
-    if (jj_3R_549()) {
+    if (jj_3R_658()) {
     jj_scanpos = xsp;
-    if (jj_3R_550()) return true;
-    }
+    if (jj_3R_659()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_996() {
-    if (jj_3R_973()) return true;
+  private boolean jj_3_160() {
+    if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_995() {
-    if (jj_3R_974()) return true;
+  private boolean jj_3R_551() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3R_999() {
+    if (jj_3R_976()) return true;
     return false;
   }
 
-  private boolean jj_3R_745() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_998() {
+    if (jj_3R_977()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_993() {
+  private boolean jj_3R_997() {
+    if (jj_3R_311()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_549() {
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_996() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_987() {
+  private boolean jj_3R_990() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_993()) {
+    if (jj_3R_996()) {
     jj_scanpos = xsp;
-    if (jj_3R_994()) {
+    if (jj_3R_997()) {
     jj_scanpos = xsp;
-    if (jj_3R_995()) {
+    if (jj_3R_998()) {
     jj_scanpos = xsp;
-    if (jj_3R_996()) {
+    if (jj_3R_999()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(191)) return true;
+    if (jj_scan_token(192)) return true;
     }
     }
     }
@@ -24287,232 +24499,241 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_380() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_549()) {
+    jj_scanpos = xsp;
+    if (jj_3R_550()) {
+    jj_scanpos = xsp;
+    if (jj_3R_551()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_977() {
+    if (jj_scan_token(FOREACH)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(IN)) return true;
+    if (jj_3R_150()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_990()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_746() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_874() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_745() {
+    if (jj_3R_537()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_873() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_162()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_744() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_870()) jj_scanpos = xsp;
-    if (jj_3R_149()) return true;
+    if (jj_3R_873()) jj_scanpos = xsp;
+    if (jj_3R_150()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_871()) jj_scanpos = xsp;
+    if (jj_3R_874()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_742() {
+  private boolean jj_3R_743() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_974() {
-    if (jj_scan_token(FOREACH)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(IN)) return true;
-    if (jj_3R_149()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_987()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_651() {
+  private boolean jj_3R_652() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_742()) {
+    if (jj_3R_743()) {
     jj_scanpos = xsp;
-    if (jj_3R_743()) return true;
+    if (jj_3R_744()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_745()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_746()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_692() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_162()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_109() {
+  private boolean jj_3R_110() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_160()) return true;
+    if (jj_3R_150()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_651()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_scan_token(275)) return true;
+  private boolean jj_3R_510() {
+    if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3R_298() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_508()) {
+    if (jj_3R_509()) {
     jj_scanpos = xsp;
-    if (jj_3R_509()) return true;
+    if (jj_3R_510()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_scan_token(274)) return true;
+  private boolean jj_3R_509() {
+    if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_651()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_652()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_653() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_652()) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3R_109() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_297()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_507() {
-    if (jj_scan_token(273)) return true;
+    if (jj_3R_298()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_537()) return true;
+  private boolean jj_3R_508() {
+    if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_297() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_506()) {
+    if (jj_3R_507()) {
     jj_scanpos = xsp;
-    if (jj_3R_507()) return true;
+    if (jj_3R_508()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_scan_token(272)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_357() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_507() {
+    if (jj_scan_token(273)) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_537() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_652()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_653()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_107() {
+  private boolean jj_3R_108() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_296()) { jj_scanpos = xsp; break; }
+      if (jj_3R_297()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_359() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_538()) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_162()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_693()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_358() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_106() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_scan_token(271)) return true;
+  private boolean jj_3R_506() {
+    if (jj_scan_token(272)) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_163() {
+    if (jj_3R_150()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_692()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_358()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_359()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_452() {
+  private boolean jj_3_68() {
+    if (jj_3R_163()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_505() {
+    if (jj_scan_token(271)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_600() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_163()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_598()) {
-    jj_scanpos = xsp;
-    if (jj_3R_599()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_694()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -24532,26 +24753,19 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_501() {
-    if (jj_scan_token(267)) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_163()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_693()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_scan_token(SKIP2)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_656() {
-    if (jj_scan_token(FROM)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_295() {
+  private boolean jj_3R_296() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_500()) {
-    jj_scanpos = xsp;
     if (jj_3R_501()) {
     jj_scanpos = xsp;
     if (jj_3R_502()) {
@@ -24560,7 +24774,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_504()) {
     jj_scanpos = xsp;
-    if (jj_3R_505()) return true;
+    if (jj_3R_505()) {
+    jj_scanpos = xsp;
+    if (jj_3R_506()) return true;
     }
     }
     }
@@ -24569,179 +24785,173 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_500() {
-    if (jj_scan_token(266)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_653() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_501() {
+    if (jj_scan_token(267)) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_453() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_599()) {
+    jj_scanpos = xsp;
+    if (jj_3R_600()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_106() {
+  private boolean jj_3R_107() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(STATUS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_295()) { jj_scanpos = xsp; break; }
+      if (jj_3R_296()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_817() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_655() {
+    if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_653()) {
-    jj_scanpos = xsp;
-    if (jj_3R_654()) {
-    jj_scanpos = xsp;
-    if (jj_3R_655()) {
-    jj_scanpos = xsp;
-    if (jj_3R_656()) return true;
-    }
-    }
-    }
+  private boolean jj_3R_657() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_654() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
+  private boolean jj_3R_656() {
+    if (jj_scan_token(LIMIT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_820() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_97() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_817()) jj_scanpos = xsp;
+    if (jj_3R_820()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_540() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_654()) {
+    jj_scanpos = xsp;
+    if (jj_3R_655()) {
+    jj_scanpos = xsp;
+    if (jj_3R_656()) {
+    jj_scanpos = xsp;
+    if (jj_3R_657()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_928() {
+  private boolean jj_3R_931() {
     if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_3R_539()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_927() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_972() {
+  private boolean jj_3R_975() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_360() {
-    if (jj_3R_538()) return true;
+  private boolean jj_3R_454() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
+  private boolean jj_3R_929() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
+  private boolean jj_3R_928() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_971() {
+  private boolean jj_3R_974() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_360()) {
-    jj_scanpos = xsp;
-    if (jj_3R_361()) return true;
-    }
+  private boolean jj_3R_539() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_924() {
+  private boolean jj_3R_361() {
+    if (jj_3R_539()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_927() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_971()) {
+    if (jj_3R_974()) {
     jj_scanpos = xsp;
-    if (jj_3R_972()) return true;
+    if (jj_3R_975()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_455()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_246() {
-    if (jj_3R_454()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_923() {
+  private boolean jj_3R_926() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_925() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_165() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_361()) {
+    jj_scanpos = xsp;
+    if (jj_3R_362()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_819() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_921()) {
-    jj_scanpos = xsp;
-    if (jj_3R_922()) {
-    jj_scanpos = xsp;
-    if (jj_3R_923()) {
-    jj_scanpos = xsp;
     if (jj_3R_924()) {
     jj_scanpos = xsp;
     if (jj_3R_925()) {
@@ -24750,7 +24960,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_927()) {
     jj_scanpos = xsp;
-    if (jj_3R_928()) return true;
+    if (jj_3R_928()) {
+    jj_scanpos = xsp;
+    if (jj_3R_929()) {
+    jj_scanpos = xsp;
+    if (jj_3R_930()) {
+    jj_scanpos = xsp;
+    if (jj_3R_931()) return true;
     }
     }
     }
@@ -24761,353 +24977,353 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_453()) jj_scanpos = xsp;
+  private boolean jj_3R_248() {
+    if (jj_3R_456()) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
+  private boolean jj_3R_247() {
+    if (jj_3R_455()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_246() {
+    if (jj_3R_157()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_95() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_816()) { jj_scanpos = xsp; break; }
+      if (jj_3R_819()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_920() {
+  private boolean jj_3R_245() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_244() {
+    if (jj_3R_160()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_454()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_923() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
+  private boolean jj_3R_973() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_922() {
+    if (jj_scan_token(ASC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_921() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_972() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
   private boolean jj_3R_87() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_243()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_244()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_149()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_149()) return true;
     xsp = jj_scanpos;
     if (jj_3R_245()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_150()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_150()) return true;
     xsp = jj_scanpos;
     if (jj_3R_246()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_247()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_248()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_249()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_970() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_816() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_815() {
+    if (jj_3R_459()) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_920() {
+    if (jj_scan_token(CYCLE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_972()) {
+    jj_scanpos = xsp;
+    if (jj_3R_973()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_918() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_919() {
+    if (jj_scan_token(LIMIT)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_918() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_969() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_813() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3R_812() {
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_917() {
-    if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_969()) {
+    if (jj_3R_917()) {
     jj_scanpos = xsp;
-    if (jj_3R_970()) return true;
+    if (jj_3R_918()) {
+    jj_scanpos = xsp;
+    if (jj_3R_919()) {
+    jj_scanpos = xsp;
+    if (jj_3R_920()) {
+    jj_scanpos = xsp;
+    if (jj_3R_921()) {
+    jj_scanpos = xsp;
+    if (jj_3R_922()) {
+    jj_scanpos = xsp;
+    if (jj_3R_923()) return true;
+    }
+    }
+    }
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_916() {
-    if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_917() {
+    if (jj_scan_token(START)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_915() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_813() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_457()) return true;
+    if (jj_3R_458()) return true;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_812()) {
+    if (jj_3R_813()) {
     jj_scanpos = xsp;
-    if (jj_3R_813()) return true;
+    if (jj_3R_814()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_814()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_815()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_816()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_156()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_811() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_914()) {
-    jj_scanpos = xsp;
-    if (jj_3R_915()) {
-    jj_scanpos = xsp;
-    if (jj_3R_916()) {
-    jj_scanpos = xsp;
-    if (jj_3R_917()) {
-    jj_scanpos = xsp;
-    if (jj_3R_918()) {
-    jj_scanpos = xsp;
-    if (jj_3R_919()) {
-    jj_scanpos = xsp;
-    if (jj_3R_920()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3_67() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_914() {
-    if (jj_scan_token(START)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_811() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_242() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3_64() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_65() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_240() {
+  private boolean jj_3R_241() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_452()) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_240() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
   private boolean jj_3R_83() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_156()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_810() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_238() {
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_451()) jj_scanpos = xsp;
+    if (jj_3R_157()) return true;
     return false;
   }
 
   private boolean jj_3R_82() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_810()) jj_scanpos = xsp;
+    if (jj_3R_811()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_811()) { jj_scanpos = xsp; break; }
+      if (jj_3R_812()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_84() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_239() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_238()) {
-    jj_scanpos = xsp;
-    if (jj_3R_239()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_241()) jj_scanpos = xsp;
+    if (jj_3R_452()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_309() {
+  private boolean jj_3R_310() {
     if (jj_scan_token(CONSOLE)) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_3R_149()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_242() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_85() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_242()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
+  private boolean jj_3R_309() {
     if (jj_scan_token(SLEEP)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3_158() {
+  private boolean jj_3_159() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
-    if (jj_3R_974()) return true;
+  private boolean jj_3R_84() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_239()) {
+    jj_scanpos = xsp;
+    if (jj_3R_240()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_241()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_242()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_243() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
-    if (jj_3R_973()) return true;
+  private boolean jj_3R_939() {
+    if (jj_3R_977()) return true;
     return false;
   }
 
-  private boolean jj_3R_934() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3R_938() {
+    if (jj_3R_976()) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_scan_token(CONTENT)) return true;
-    if (jj_3R_227()) return true;
+  private boolean jj_3R_937() {
+    if (jj_3R_311()) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_85() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_160()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_243()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_834() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_933()) {
+    if (jj_3R_936()) {
     jj_scanpos = xsp;
-    if (jj_3R_934()) {
+    if (jj_3R_937()) {
     jj_scanpos = xsp;
-    if (jj_3R_935()) {
+    if (jj_3R_938()) {
     jj_scanpos = xsp;
-    if (jj_3R_936()) {
+    if (jj_3R_939()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(191)) return true;
+    if (jj_scan_token(192)) return true;
     }
     }
     }
@@ -25115,268 +25331,318 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_933() {
+  private boolean jj_3R_936() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
+  private boolean jj_3R_86() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_354() {
+    if (jj_scan_token(CONTENT)) return true;
+    if (jj_3R_228()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_536() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_311() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_831()) { jj_scanpos = xsp; break; }
+      if (jj_3R_834()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_650() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_308() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_514()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_63() {
+  private boolean jj_3R_651() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3_64() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_535()) { jj_scanpos = xsp; break; }
+      if (jj_3R_536()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3R_307() {
-    if (jj_scan_token(RETURN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_513()) jj_scanpos = xsp;
+    if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_513() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_67()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_535() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_650()) { jj_scanpos = xsp; break; }
+      if (jj_3R_651()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
   private boolean jj_3R_306() {
-    if (jj_scan_token(ROLLBACK)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_512() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_160() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_305() {
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_512()) jj_scanpos = xsp;
+    if (jj_3R_513()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_157() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3_158() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
+  private boolean jj_3R_512() {
     if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_156() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_157() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_161() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_305() {
     if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_511()) jj_scanpos = xsp;
+    if (jj_3R_512()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_692() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
   private boolean jj_3R_691() {
-    if (jj_3R_149()) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3_62() {
+  private boolean jj_3_63() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_160()) { jj_scanpos = xsp; break; }
+      if (jj_3R_161()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_533()) { jj_scanpos = xsp; break; }
+      if (jj_3R_534()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_534()) { jj_scanpos = xsp; break; }
+      if (jj_3R_535()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_690() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_598() {
+    if (jj_scan_token(LET)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(EQ)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_691()) {
+    jj_scanpos = xsp;
+    if (jj_3R_692()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3_61() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_750() {
+  private boolean jj_3R_751() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_157() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_62()) {
-    jj_scanpos = xsp;
     if (jj_3_63()) {
     jj_scanpos = xsp;
-    if (jj_3R_353()) return true;
+    if (jj_3_64()) {
+    jj_scanpos = xsp;
+    if (jj_3R_354()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_158() {
-    if (jj_3R_354()) return true;
+  private boolean jj_3R_988() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_scan_token(LET)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(EQ)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_690()) {
-    jj_scanpos = xsp;
-    if (jj_3R_691()) return true;
-    }
+  private boolean jj_3R_159() {
+    if (jj_3R_355()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_81() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_158() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_667() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_971() {
+    if (jj_3R_160()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_988()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_985() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3_60() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_668() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
-    if (jj_3R_354()) return true;
+  private boolean jj_3R_889() {
+    if (jj_3R_355()) return true;
     return false;
   }
 
-  private boolean jj_3_61() {
+  private boolean jj_3R_916() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_971()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3_62() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_157()) {
+    if (jj_3R_158()) {
     jj_scanpos = xsp;
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_885() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_888() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_968() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_915() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_753() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_985()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_888()) {
+    jj_scanpos = xsp;
+    if (jj_3R_889()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_752() {
+  private boolean jj_3_59() {
+    if (jj_3R_157()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_810() {
+    if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_885()) {
+    if (jj_3R_915()) {
     jj_scanpos = xsp;
-    if (jj_3R_886()) return true;
+    if (jj_3R_916()) return true;
     }
     return false;
   }
@@ -25386,504 +25652,509 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_809() {
+    if (jj_3R_584()) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_968()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_752() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_808() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_666() {
+  private boolean jj_3R_667() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_751()) jj_scanpos = xsp;
+    if (jj_3R_752()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_752()) {
+    if (jj_3R_753()) {
     jj_scanpos = xsp;
-    if (jj_3_61()) return true;
+    if (jj_3_62()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_664() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_663() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_750()) jj_scanpos = xsp;
+    if (jj_3R_751()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_666() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_452()) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_912() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_665() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_662() {
     if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_845() {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3R_80() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_912()) {
+    if (jj_3R_808()) {
     jj_scanpos = xsp;
-    if (jj_3R_913()) return true;
+    if (jj_3R_809()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_810()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_808() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_807() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_914() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_913() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_299() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_661()) {
-    jj_scanpos = xsp;
     if (jj_3R_662()) {
     jj_scanpos = xsp;
-    if (jj_3R_663()) return true;
+    if (jj_3R_663()) {
+    jj_scanpos = xsp;
+    if (jj_3R_664()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_664()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_665()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_666()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_667()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_668()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_80() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
+  private boolean jj_3R_806() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_807()) {
+    if (jj_3R_913()) {
     jj_scanpos = xsp;
-    if (jj_3R_808()) return true;
+    if (jj_3R_914()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_809()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_806() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_910() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_912() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3R_805() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_910()) {
-    jj_scanpos = xsp;
-    if (jj_3R_911()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_912()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_706() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_713() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_714() {
+    if (jj_3R_150()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_842()) jj_scanpos = xsp;
+    if (jj_3R_845()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_841() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_844() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_3R_584()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_909()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_805()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_806()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_807()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_711() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_712() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_841()) jj_scanpos = xsp;
+    if (jj_3R_844()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_833() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_831()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_3R_583()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_804()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_805()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_806()) jj_scanpos = xsp;
+  private boolean jj_3R_843() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_842() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_841() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_472() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_835() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_838() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_828()) return true;
+  private boolean jj_3R_304() {
+    if (jj_scan_token(REVOKE)) return true;
+    if (jj_3R_511()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_831()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_833()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_715() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_713()) return true;
+    if (jj_3R_714()) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_832() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_831()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_704() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_835()) jj_scanpos = xsp;
+    if (jj_3R_838()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_836()) {
+    if (jj_3R_839()) {
     jj_scanpos = xsp;
-    if (jj_3R_837()) {
+    if (jj_3R_840()) {
     jj_scanpos = xsp;
-    if (jj_3R_838()) {
+    if (jj_3R_841()) {
     jj_scanpos = xsp;
-    if (jj_3R_839()) {
+    if (jj_3R_842()) {
     jj_scanpos = xsp;
-    if (jj_3R_840()) return true;
+    if (jj_3R_843()) return true;
     }
     }
     }
     }
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_scan_token(REVOKE)) return true;
-    if (jj_3R_510()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_828()) return true;
+  private boolean jj_3R_713() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_712()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_616() {
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_3R_714()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_830()) { jj_scanpos = xsp; break; }
+      if (jj_3R_715()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_711()) return true;
+  private boolean jj_3R_711() {
+    if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_713()) return true;
+  private boolean jj_3R_710() {
+    if (jj_scan_token(INCREMENT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_303() {
+    if (jj_scan_token(GRANT)) return true;
+    if (jj_3R_511()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_831()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_714()) { jj_scanpos = xsp; break; }
+      if (jj_3R_832()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_scan_token(ADD)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_829() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_828()) return true;
+  private boolean jj_3R_935() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3R_709() {
-    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
-    if (jj_scan_token(CONTENT)) return true;
+  private boolean jj_3R_934() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
+  private boolean jj_3R_615() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_709()) {
+    if (jj_3R_710()) {
     jj_scanpos = xsp;
-    if (jj_3R_710()) return true;
-    }
     if (jj_3R_711()) return true;
+    }
+    if (jj_3R_712()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_712()) { jj_scanpos = xsp; break; }
+      if (jj_3R_713()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_scan_token(GRANT)) return true;
-    if (jj_3R_510()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_828()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_829()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_933() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_707() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_705()) return true;
+    if (jj_3R_706()) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3R_831() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_933()) {
+    jj_scanpos = xsp;
+    if (jj_3R_934()) {
+    jj_scanpos = xsp;
+    if (jj_3R_935()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_932() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_471() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_613() {
+  private boolean jj_3R_614() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) {
+    if (jj_3R_708()) {
     jj_scanpos = xsp;
-    if (jj_3R_708()) return true;
+    if (jj_3R_709()) return true;
     }
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_931() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_632() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_631() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_703()) return true;
+    if (jj_3R_704()) return true;
     return false;
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_630() {
+    if (jj_scan_token(EXECUTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_629() {
+    if (jj_scan_token(DELETE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_613() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_705()) return true;
+    if (jj_3R_706()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_706()) { jj_scanpos = xsp; break; }
+      if (jj_3R_707()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_828() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_930()) {
-    jj_scanpos = xsp;
-    if (jj_3R_931()) {
-    jj_scanpos = xsp;
-    if (jj_3R_932()) return true;
-    }
-    }
+  private boolean jj_3R_628() {
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_627() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
-    if (jj_scan_token(ALL)) return true;
+  private boolean jj_3R_626() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_611() {
+  private boolean jj_3R_612() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_703()) return true;
+    if (jj_3R_704()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_704()) { jj_scanpos = xsp; break; }
+      if (jj_3R_705()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_629() {
-    if (jj_scan_token(EXECUTE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_628() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_627() {
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_511() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_626()) {
+    jj_scanpos = xsp;
+    if (jj_3R_627()) {
+    jj_scanpos = xsp;
+    if (jj_3R_628()) {
+    jj_scanpos = xsp;
+    if (jj_3R_629()) {
+    jj_scanpos = xsp;
+    if (jj_3R_630()) {
+    jj_scanpos = xsp;
+    if (jj_3R_631()) {
+    jj_scanpos = xsp;
+    if (jj_3R_632()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_458() {
+  private boolean jj_3R_459() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) {
-    jj_scanpos = xsp;
     if (jj_3R_612()) {
     jj_scanpos = xsp;
     if (jj_3R_613()) {
     jj_scanpos = xsp;
     if (jj_3R_614()) {
     jj_scanpos = xsp;
-    if (jj_3R_615()) return true;
+    if (jj_3R_615()) {
+    jj_scanpos = xsp;
+    if (jj_3R_616()) return true;
     }
     }
     }
@@ -25891,174 +26162,147 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_626() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_625() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_477() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_147() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
+  private boolean jj_3R_461() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
+  private boolean jj_3R_476() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_625()) {
-    jj_scanpos = xsp;
-    if (jj_3R_626()) {
-    jj_scanpos = xsp;
-    if (jj_3R_627()) {
-    jj_scanpos = xsp;
-    if (jj_3R_628()) {
-    jj_scanpos = xsp;
-    if (jj_3R_629()) {
-    jj_scanpos = xsp;
-    if (jj_3R_630()) {
-    jj_scanpos = xsp;
-    if (jj_3R_631()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_475() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
   private boolean jj_3R_474() {
-    if (jj_scan_token(NONE)) return true;
+    if (jj_scan_token(RECORD)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_597() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
   private boolean jj_3R_473() {
-    if (jj_scan_token(RECORD)) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_803() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_804() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
+  private boolean jj_3R_262() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_473()) {
-    jj_scanpos = xsp;
     if (jj_3R_474()) {
     jj_scanpos = xsp;
     if (jj_3R_475()) {
     jj_scanpos = xsp;
-    if (jj_3R_476()) return true;
+    if (jj_3R_476()) {
+    jj_scanpos = xsp;
+    if (jj_3R_477()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_260() {
+  private boolean jj_3R_261() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_802() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_470() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
+  private boolean jj_3R_260() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_469()) {
-    jj_scanpos = xsp;
     if (jj_3R_470()) {
     jj_scanpos = xsp;
-    if (jj_3R_471()) return true;
+    if (jj_3R_471()) {
+    jj_scanpos = xsp;
+    if (jj_3R_472()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_472()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_258() {
-    if (jj_scan_token(UPSERT)) return true;
+    if (jj_3R_473()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_230()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_257() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_801() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_259() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_800() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_258() {
+    if (jj_3R_459()) return true;
     return false;
   }
 
   private boolean jj_3R_89() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_249()) return true;
+    if (jj_3R_250()) return true;
     Token xsp;
-    if (jj_3R_257()) return true;
+    if (jj_3R_258()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_257()) { jj_scanpos = xsp; break; }
+      if (jj_3R_258()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_258()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_259()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_260()) jj_scanpos = xsp;
@@ -26068,16 +26312,13 @@ Token token;
     if (jj_3R_262()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_263()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_264()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_800() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_799() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_257() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
@@ -26086,144 +26327,149 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_462() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_461() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_467() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
   private boolean jj_3R_466() {
-    if (jj_scan_token(DEFAULT_)) return true;
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_78() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(LINK)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(TYPE)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(DOT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_800()) {
+    jj_scanpos = xsp;
+    if (jj_3R_801()) return true;
+    }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(DOT)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_802()) {
+    jj_scanpos = xsp;
+    if (jj_3R_803()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_804()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_464() {
+  private boolean jj_3R_830() {
+    if (jj_3R_932()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_465() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
+  private boolean jj_3R_464() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_460() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
+  private boolean jj_3R_255() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_463()) {
-    jj_scanpos = xsp;
     if (jj_3R_464()) {
     jj_scanpos = xsp;
     if (jj_3R_465()) {
     jj_scanpos = xsp;
-    if (jj_3R_466()) return true;
+    if (jj_3R_466()) {
+    jj_scanpos = xsp;
+    if (jj_3R_467()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_253() {
+  private boolean jj_3R_254() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
+  private boolean jj_3R_253() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_459()) {
+    if (jj_3R_460()) {
     jj_scanpos = xsp;
-    if (jj_3R_460()) return true;
+    if (jj_3R_461()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_461()) jj_scanpos = xsp;
+    if (jj_3R_462()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_78() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(LINK)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3R_302() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_799()) {
-    jj_scanpos = xsp;
-    if (jj_3R_800()) return true;
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(DOT)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_801()) {
-    jj_scanpos = xsp;
-    if (jj_3R_802()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_830()) { jj_scanpos = xsp; break; }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_803()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_827() {
-    if (jj_3R_929()) return true;
+  private boolean jj_3R_252() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
   private boolean jj_3R_251() {
-    if (jj_scan_token(UPSERT)) return true;
+    if (jj_3R_459()) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_932() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
-    if (jj_scan_token(OPTIMIZE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_827()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_829() {
+    if (jj_3R_160()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
   private boolean jj_3R_88() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_249()) return true;
-    Token xsp;
     if (jj_3R_250()) return true;
+    Token xsp;
+    if (jj_3R_251()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_250()) { jj_scanpos = xsp; break; }
+      if (jj_3R_251()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_251()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_252()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_253()) jj_scanpos = xsp;
@@ -26233,203 +26479,177 @@ Token token;
     if (jj_3R_255()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_256()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_257()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_351() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
   private boolean jj_3R_350() {
-    if (jj_3R_456()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
   private boolean jj_3R_349() {
-    if (jj_3R_467()) return true;
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
   private boolean jj_3R_348() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_929() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3_156() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_105() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_156()) {
+    jj_scanpos = xsp;
+    if (jj_3R_829()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_827() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
   private boolean jj_3R_826() {
-    if (jj_3R_159()) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_828() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_155() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_347()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_348()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_349()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_350()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_351()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_155() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_344() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
   private boolean jj_3R_343() {
-    if (jj_3R_456()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
   private boolean jj_3R_104() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_155()) {
+    if (jj_3R_826()) {
     jj_scanpos = xsp;
-    if (jj_3R_826()) return true;
+    if (jj_3R_827()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_828()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_342() {
-    if (jj_3R_467()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_824() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_341() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_825() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_295() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
   private boolean jj_3R_103() {
-    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) {
-    jj_scanpos = xsp;
-    if (jj_3R_824()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_825()) jj_scanpos = xsp;
+    if (jj_3R_295()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3R_153() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_341()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_342()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_343()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_344()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_294() {
-    if (jj_scan_token(STAR)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_346() {
-    if (jj_3R_456()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_345() {
-    if (jj_3R_467()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_344() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+  private boolean jj_3R_799() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_294()) jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
   private boolean jj_3R_798() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_797() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
+  private boolean jj_3R_346() {
+    if (jj_3R_468()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_238() {
     if (jj_scan_token(BLOB)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_149()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_344()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_345()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_346()) jj_scanpos = xsp;
+  private boolean jj_3R_345() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
@@ -26437,987 +26657,1027 @@ Token token;
     if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(251)) {
+    if (jj_scan_token(252)) {
     jj_scanpos = xsp;
-    if (jj_3R_237()) return true;
+    if (jj_3R_238()) return true;
     }
-    if (jj_3R_159()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
     xsp = jj_scanpos;
     if (jj_3R_798()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_799()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_340() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_824() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_825() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_338() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+  private boolean jj_3R_154() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_150()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_345()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_346()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_347()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_823() {
+    if (jj_3R_530()) return true;
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_340() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_3R_529()) return true;
+  private boolean jj_3R_339() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_338() {
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
+  private boolean jj_3R_102() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_820()) {
+    if (jj_3R_823()) {
     jj_scanpos = xsp;
-    if (jj_3R_821()) return true;
+    if (jj_3R_824()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_822()) jj_scanpos = xsp;
+    if (jj_3R_825()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_819() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_529()) return true;
+  private boolean jj_3R_821() {
+    if (jj_3R_530()) return true;
     return false;
   }
 
-  private boolean jj_3R_984() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_227()) return true;
+  private boolean jj_3R_337() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_983() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_987() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_986() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_149()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_337()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_338()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_339()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_340()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_335() {
-    if (jj_3R_456()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_300() {
+  private boolean jj_3R_301() {
     if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_818()) {
+    if (jj_3R_821()) {
     jj_scanpos = xsp;
-    if (jj_3R_819()) return true;
+    if (jj_3R_822()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_970() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_647()) { jj_scanpos = xsp; break; }
+      if (jj_3R_986()) { jj_scanpos = xsp; break; }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_987()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_967() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_648() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_152() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_983()) { jj_scanpos = xsp; break; }
-    }
     xsp = jj_scanpos;
-    if (jj_3R_984()) jj_scanpos = xsp;
+    if (jj_3R_337()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_150()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_338()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_339()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_340()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_341()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_153() {
+  private boolean jj_3R_336() {
+    if (jj_3R_457()) return true;
+    return false;
+  }
+
+  private boolean jj_3_154() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
+  private boolean jj_3R_911() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_153()) {
+    if (jj_3_154()) {
     jj_scanpos = xsp;
-    if (jj_3R_967()) return true;
+    if (jj_3R_970()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_982() {
+  private boolean jj_3R_985() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_981() {
+  private boolean jj_3R_984() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_529() {
+    if (jj_3R_164()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_528()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_333() {
-    if (jj_3R_163()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_648()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_797() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_908()) jj_scanpos = xsp;
+    if (jj_3R_911()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_966() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_969() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_981()) { jj_scanpos = xsp; break; }
+      if (jj_3R_984()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_982()) jj_scanpos = xsp;
+    if (jj_3R_985()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_56() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_335() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_529()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_55() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_334() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3_152() {
+  private boolean jj_3_153() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_227()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_907() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_152()) {
-    jj_scanpos = xsp;
-    if (jj_3R_966()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3_54() {
-    if (jj_3R_152()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
+  private boolean jj_3R_910() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_333()) {
+    if (jj_3_153()) {
     jj_scanpos = xsp;
-    if (jj_3R_334()) return true;
+    if (jj_3R_969()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_335()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_53() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3_57() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
+  private boolean jj_3_56() {
     if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3_52() {
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_235() {
-    if (jj_3R_153()) return true;
-    return false;
-  }
-
-  private boolean jj_3_154() {
+  private boolean jj_3_155() {
     if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_907()) jj_scanpos = xsp;
+    if (jj_3R_910()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_909() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_151() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_334()) {
+    jj_scanpos = xsp;
+    if (jj_3R_335()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_336()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_150() {
+  private boolean jj_3_151() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_980() {
+  private boolean jj_3_54() {
+    if (jj_3R_152()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_983() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_965() {
+  private boolean jj_3R_968() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_237() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_979() {
+  private boolean jj_3R_982() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_150()) {
-    jj_scanpos = xsp;
-    if (jj_3R_906()) return true;
-    }
+  private boolean jj_3_53() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
+  private boolean jj_3R_796() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_232()) {
-    jj_scanpos = xsp;
-    if (jj_3R_233()) {
-    jj_scanpos = xsp;
-    if (jj_3R_234()) {
-    jj_scanpos = xsp;
-    if (jj_3R_235()) {
+    if (jj_3_151()) {
     jj_scanpos = xsp;
-    if (jj_3R_236()) return true;
-    }
-    }
-    }
+    if (jj_3R_909()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_979()) {
-    jj_scanpos = xsp;
-    if (jj_3R_980()) return true;
-    }
+  private boolean jj_3R_236() {
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+  private boolean jj_3R_235() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_967() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_982()) {
+    jj_scanpos = xsp;
+    if (jj_3R_983()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_234() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_780() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_233() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_966() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_72() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_233()) {
+    jj_scanpos = xsp;
+    if (jj_3R_234()) {
+    jj_scanpos = xsp;
+    if (jj_3R_235()) {
+    jj_scanpos = xsp;
+    if (jj_3R_236()) {
+    jj_scanpos = xsp;
+    if (jj_3R_237()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_783() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_965() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_782() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_777() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+  private boolean jj_3R_785() {
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_780()) jj_scanpos = xsp;
-    if (jj_3R_249()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_781()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_782()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_783()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_784()) jj_scanpos = xsp;
+  private boolean jj_3R_781() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_784() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_908() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_962()) {
+    if (jj_3R_965()) {
     jj_scanpos = xsp;
-    if (jj_3R_963()) return true;
+    if (jj_3R_966()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_964()) jj_scanpos = xsp;
+    if (jj_3R_967()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_965()) jj_scanpos = xsp;
+    if (jj_3R_968()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_961() {
+  private boolean jj_3R_964() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
+  private boolean jj_3R_907() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
+  private boolean jj_3R_963() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_884() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_780() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
-    if (jj_3R_639()) return true;
+  private boolean jj_3R_779() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
-    if (jj_3R_517()) return true;
+  private boolean jj_3R_778() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
+  private boolean jj_3R_71() {
     if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_249()) return true;
+    if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_776()) jj_scanpos = xsp;
+    if (jj_3R_781()) jj_scanpos = xsp;
+    if (jj_3R_250()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_777()) jj_scanpos = xsp;
+    if (jj_3R_782()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_778()) jj_scanpos = xsp;
+    if (jj_3R_783()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_779()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_881() {
-    if (jj_3R_516()) return true;
+    if (jj_3R_784()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_785()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_880() {
-    if (jj_3R_515()) return true;
+  private boolean jj_3R_777() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
+  private boolean jj_3R_906() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_960()) {
+    if (jj_3R_963()) {
     jj_scanpos = xsp;
-    if (jj_3R_961()) return true;
+    if (jj_3R_964()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_956() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_887() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_886() {
+    if (jj_3R_640()) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_885() {
+    if (jj_3R_518()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_70() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_250()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
+    if (jj_3R_777()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_956()) jj_scanpos = xsp;
+    if (jj_3R_778()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_779()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_780()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_884() {
+    if (jj_3R_517()) return true;
     return false;
   }
 
-  private boolean jj_3_51() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_883() {
+    if (jj_3R_516()) return true;
     return false;
   }
 
-  private boolean jj_3R_954() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_226() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_959() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
+  private boolean jj_3R_958() {
+    if (jj_3R_537()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_225() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_953() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_882() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_150()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_958()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_959()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_877() {
-    if (jj_3R_149()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_954()) jj_scanpos = xsp;
+  private boolean jj_3_52() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_151() {
+  private boolean jj_3R_957() {
+    if (jj_3R_537()) return true;
+    return false;
+  }
+
+  private boolean jj_3_152() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) jj_scanpos = xsp;
+    if (jj_3R_225()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_225()) {
+    if (jj_3R_226()) {
     jj_scanpos = xsp;
-    if (jj_3R_226()) return true;
+    if (jj_3R_227()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_903()) jj_scanpos = xsp;
+    if (jj_3R_906()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_904()) jj_scanpos = xsp;
+    if (jj_3R_907()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_905()) { jj_scanpos = xsp; break; }
+      if (jj_3R_908()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_50() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_149()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_953()) jj_scanpos = xsp;
+  private boolean jj_3R_881() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3R_76() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_529()) return true;
+    if (jj_3R_530()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_151()) {
+    if (jj_3_152()) {
     jj_scanpos = xsp;
-    if (jj_3R_795()) return true;
+    if (jj_3R_796()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_154()) {
+    if (jj_3_155()) {
     jj_scanpos = xsp;
-    if (jj_3R_796()) return true;
+    if (jj_3R_797()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_952() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_3R_671()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_951() {
-    if (jj_3R_671()) return true;
+  private boolean jj_3R_956() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_880() {
+    if (jj_3R_150()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_951()) {
-    jj_scanpos = xsp;
-    if (jj_3R_952()) return true;
-    }
+    if (jj_3R_957()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_293() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_3R_159()) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3_51() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_150()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_956()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_955() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_3R_672()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_954() {
+    if (jj_3R_672()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_292() {
+    if (jj_3R_160()) return true;
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_101() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_292()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_293()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_294()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_569() {
+  private boolean jj_3R_879() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_954()) {
+    jj_scanpos = xsp;
+    if (jj_3R_955()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_150() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_570() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_671()) return true;
+    if (jj_3R_672()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_876()) { jj_scanpos = xsp; break; }
+      if (jj_3R_879()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_50()) {
+    if (jj_3_51()) {
     jj_scanpos = xsp;
-    if (jj_3R_877()) return true;
+    if (jj_3R_880()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_878()) jj_scanpos = xsp;
+    if (jj_3R_881()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_879()) { jj_scanpos = xsp; break; }
+      if (jj_3R_882()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_880()) jj_scanpos = xsp;
+    if (jj_3R_883()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_881()) jj_scanpos = xsp;
+    if (jj_3R_884()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_882()) jj_scanpos = xsp;
+    if (jj_3R_885()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_883()) jj_scanpos = xsp;
+    if (jj_3R_886()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_884()) jj_scanpos = xsp;
+    if (jj_3R_887()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_949() {
+  private boolean jj_3R_952() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_951() {
+    if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_948() {
-    if (jj_scan_token(DEPTH_FIRST)) return true;
+  private boolean jj_3R_100() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_160()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_150()) {
+    jj_scanpos = xsp;
+    if (jj_3R_292()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_948()) {
+    if (jj_3R_951()) {
     jj_scanpos = xsp;
-    if (jj_3R_949()) return true;
+    if (jj_3R_952()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_874() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_877() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_950() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_754()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_875() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_753()) return true;
+  private boolean jj_3R_962() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_753()) return true;
+  private boolean jj_3R_671() {
+    if (jj_3R_754()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_947()) { jj_scanpos = xsp; break; }
+      if (jj_3R_950()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_642() {
+    if (jj_3R_640()) return true;
+    return false;
+  }
+
   private boolean jj_3R_641() {
-    if (jj_3R_639()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_149()) {
-    jj_scanpos = xsp;
-    if (jj_3R_291()) return true;
-    }
+  private boolean jj_3R_795() {
+    if (jj_scan_token(UNSAFE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_905() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_904()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_793() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_959() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_794() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_904()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_905()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
+  private boolean jj_3R_904() {
+    if (jj_3R_160()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_962()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_569() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_670()) jj_scanpos = xsp;
+    if (jj_3R_671()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_249()) return true;
+    if (jj_3R_250()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_872()) jj_scanpos = xsp;
+    if (jj_3R_875()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_873()) jj_scanpos = xsp;
+    if (jj_3R_876()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_874()) jj_scanpos = xsp;
+    if (jj_3R_877()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) jj_scanpos = xsp;
+    if (jj_3R_878()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_524() {
+  private boolean jj_3_149() {
+    if (jj_3R_224()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_525() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
+  private boolean jj_3R_323() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
+  private boolean jj_3R_524() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
+  private boolean jj_3R_322() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
-    if (jj_scan_token(UNSAFE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_902() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_901()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_522() {
+  private boolean jj_3R_523() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_521() {
+  private boolean jj_3R_522() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_901()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_902()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_901() {
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_959()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_148() {
-    if (jj_3R_223()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_958() {
-    if (jj_3R_639()) return true;
+  private boolean jj_3R_961() {
+    if (jj_3R_640()) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_520() {
+    if (jj_3R_468()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_641()) jj_scanpos = xsp;
+    if (jj_3R_642()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_320() {
+  private boolean jj_3R_321() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_521()) {
-    jj_scanpos = xsp;
     if (jj_3R_522()) {
     jj_scanpos = xsp;
     if (jj_3R_523()) {
     jj_scanpos = xsp;
-    if (jj_3R_524()) return true;
+    if (jj_3R_524()) {
+    jj_scanpos = xsp;
+    if (jj_3R_525()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_319() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_320() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
+  private boolean jj_3R_318() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_518()) {
+    if (jj_3R_519()) {
     jj_scanpos = xsp;
-    if (jj_3R_519()) return true;
+    if (jj_3R_520()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_3R_639()) return true;
+  private boolean jj_3R_519() {
+    if (jj_3R_640()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_640()) jj_scanpos = xsp;
+    if (jj_3R_641()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_318() {
-    if (jj_3R_520()) return true;
+  private boolean jj_3R_319() {
+    if (jj_3R_521()) return true;
     return false;
   }
 
-  private boolean jj_3R_957() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_960() {
+    if (jj_3R_468()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_75() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_160()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_149()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_793()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_794()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_795()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_317() {
+    if (jj_3R_518()) return true;
     return false;
   }
 
@@ -27432,54 +27692,51 @@ Token token;
   }
 
   private boolean jj_3R_314() {
-    if (jj_3R_515()) return true;
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
   private boolean jj_3R_313() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_515()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_224() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
   private boolean jj_3R_312() {
-    if (jj_3R_514()) return true;
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_291() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_99() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(VIEW)) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_148()) jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_792()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_793()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_794()) jj_scanpos = xsp;
+    if (jj_3R_291()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_147() {
+  private boolean jj_3R_148() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_311()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_249()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_312()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_250()) return true;
     xsp = jj_scanpos;
     if (jj_3R_313()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -27500,201 +27757,196 @@ Token token;
     if (jj_3R_321()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_322()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_888() {
-    if (jj_3R_467()) return true;
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_756() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_887()) {
-    jj_scanpos = xsp;
-    if (jj_3R_888()) return true;
-    }
+    if (jj_3R_323()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_887() {
-    if (jj_3R_639()) return true;
+  private boolean jj_3R_891() {
+    if (jj_3R_468()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_957()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_892() {
-    if (jj_scan_token(DEFAULT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_223() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_961()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_290() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_761() {
-    if (jj_scan_token(NOCACHE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_891() {
-    if (jj_scan_token(SHARED)) return true;
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_760() {
-    if (jj_scan_token(PARALLEL)) return true;
+  private boolean jj_3R_757() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_890()) {
+    jj_scanpos = xsp;
+    if (jj_3R_891()) return true;
+    }
     return false;
   }
 
   private boolean jj_3R_890() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_98() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_640()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_290()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_889() {
-    if (jj_scan_token(RECORD)) return true;
+    if (jj_3R_960()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_289() {
-    if (jj_scan_token(UNSAFE)) return true;
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_895() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
-    if (jj_scan_token(LOCK)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_889()) {
-    jj_scanpos = xsp;
-    if (jj_3R_890()) {
-    jj_scanpos = xsp;
-    if (jj_3R_891()) {
-    jj_scanpos = xsp;
-    if (jj_3R_892()) return true;
-    }
-    }
-    }
+  private boolean jj_3R_762() {
+    if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_894() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_498() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
+  private boolean jj_3R_761() {
+    if (jj_scan_token(PARALLEL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_98() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_288()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_289()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_290()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_757() {
-    if (jj_3R_520()) return true;
+  private boolean jj_3R_893() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_892() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
+  private boolean jj_3R_500() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_288() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
+  private boolean jj_3R_499() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_497() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_3R_517()) return true;
+  private boolean jj_3R_760() {
+    if (jj_scan_token(LOCK)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_892()) {
+    jj_scanpos = xsp;
+    if (jj_3R_893()) {
+    jj_scanpos = xsp;
+    if (jj_3R_894()) {
+    jj_scanpos = xsp;
+    if (jj_3R_895()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_3R_514()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
-  private boolean jj_3_49() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_758() {
+    if (jj_3R_521()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_496() {
+    if (jj_3R_584()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_287() {
+    if (jj_scan_token(DEFAULTCLUSTER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_499()) {
+    jj_scanpos = xsp;
+    if (jj_3R_500()) return true;
+    }
     return false;
   }
 
   private boolean jj_3R_495() {
-    if (jj_3R_583()) return true;
+    if (jj_scan_token(266)) return true;
     return false;
   }
 
   private boolean jj_3R_286() {
-    if (jj_scan_token(DEFAULTCLUSTER)) return true;
+    if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_498()) {
     jj_scanpos = xsp;
-    if (jj_3R_499()) return true;
+    if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
   private boolean jj_3R_494() {
-    if (jj_scan_token(265)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_756() {
+    if (jj_3R_518()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_755() {
+    if (jj_3R_515()) return true;
+    return false;
+  }
+
+  private boolean jj_3_50() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
   private boolean jj_3R_285() {
-    if (jj_scan_token(ENCRYPTION)) return true;
+    if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_497()) {
@@ -27704,13 +27956,16 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_354() {
+  private boolean jj_3R_493() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_355() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_452()) return true;
+    if (jj_3R_453()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_754()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_755()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_756()) jj_scanpos = xsp;
@@ -27724,77 +27979,82 @@ Token token;
     if (jj_3R_760()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_761()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_762()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3_48() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_492() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
+  private boolean jj_3_49() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_569()) return true;
+  private boolean jj_3R_401() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_3R_568()) return true;
+  private boolean jj_3R_400() {
+    if (jj_3R_570()) return true;
     return false;
   }
 
   private boolean jj_3R_284() {
-    if (jj_scan_token(DESCRIPTION)) return true;
+    if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_496()) {
+    if (jj_3R_494()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(37)) return true;
+    if (jj_3R_495()) {
+    jj_scanpos = xsp;
+    if (jj_3R_496()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_399() {
+    if (jj_3R_569()) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_354()) return true;
+  private boolean jj_3R_398() {
+    if (jj_3R_355()) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_397() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
   private boolean jj_3R_491() {
-    if (jj_scan_token(TRUE)) return true;
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_490() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_193() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_396()) {
-    jj_scanpos = xsp;
     if (jj_3R_397()) {
     jj_scanpos = xsp;
     if (jj_3R_398()) {
     jj_scanpos = xsp;
     if (jj_3R_399()) {
     jj_scanpos = xsp;
-    if (jj_3R_400()) return true;
+    if (jj_3R_400()) {
+    jj_scanpos = xsp;
+    if (jj_3R_401()) return true;
     }
     }
     }
@@ -27802,548 +28062,502 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3_46() {
+    if (jj_3R_110()) return true;
+    return false;
+  }
+
+  private boolean jj_3_48() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
   private boolean jj_3R_283() {
-    if (jj_scan_token(CLUSTERSELECTION)) return true;
+    if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_493()) {
-    jj_scanpos = xsp;
-    if (jj_3R_494()) {
+    if (jj_3R_492()) {
     jj_scanpos = xsp;
-    if (jj_3R_495()) return true;
-    }
+    if (jj_3R_493()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_3R_146()) return true;
-    return false;
-  }
-
-  private boolean jj_3_44() {
-    if (jj_3R_108()) return true;
-    return false;
-  }
-
-  private boolean jj_3_43() {
-    if (jj_3R_107()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_450() {
-    if (jj_3R_597()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_490() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3_42() {
-    if (jj_3R_106()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_145() {
+  private boolean jj_3_45() {
     if (jj_3R_109()) return true;
     return false;
   }
 
   private boolean jj_3R_489() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_449() {
-    if (jj_3R_146()) return true;
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3_44() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_488() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
-    if (jj_3R_596()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_598()) return true;
     return false;
   }
 
   private boolean jj_3R_282() {
-    if (jj_scan_token(ABSTRACT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_491()) {
-    jj_scanpos = xsp;
-    if (jj_3R_492()) return true;
-    }
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
+  private boolean jj_3_43() {
     if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_142() {
-    if (jj_3R_106()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_487() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_450() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3_42() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_309()) return true;
+  private boolean jj_3R_449() {
+    if (jj_3R_597()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_3R_308()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_489()) {
+    if (jj_3R_490()) {
     jj_scanpos = xsp;
-    if (jj_3R_490()) return true;
+    if (jj_3R_491()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_3R_307()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_136() {
-    if (jj_3R_306()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
+  private boolean jj_3R_623() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_305()) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_3R_304()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_311()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_303()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_310()) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) {
+    if (jj_3R_488()) {
     jj_scanpos = xsp;
-    if (jj_3R_488()) return true;
+    if (jj_3R_489()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_302()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_309()) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_138() {
+    if (jj_3R_308()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_3R_301()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_307()) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_484() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_104()) return true;
-    return false;
-  }
-
-  private boolean jj_3_39() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_136() {
+    if (jj_3R_306()) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_305()) return true;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_304()) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_279() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_485()) {
+    if (jj_3R_486()) {
     jj_scanpos = xsp;
-    if (jj_3R_486()) return true;
+    if (jj_3R_487()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_303()) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_483() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_622()) { jj_scanpos = xsp; break; }
+      if (jj_3R_623()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_302()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_300()) return true;
+  private boolean jj_3R_278() {
+    if (jj_scan_token(OVERSIZE)) return true;
+    if (jj_3R_485()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
-    if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_484()) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_482() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_481() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_301()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_622() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
+  private boolean jj_3R_480() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_620()) {
+    if (jj_3R_621()) {
     jj_scanpos = xsp;
-    if (jj_3R_621()) return true;
+    if (jj_3R_622()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_620() {
+  private boolean jj_3R_621() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_128() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
+  private boolean jj_3R_277() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_483()) {
     jj_scanpos = xsp;
-    if (jj_3R_483()) return true;
+    if (jj_3R_484()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_91()) return true;
-    return false;
-  }
-
-  private boolean jj_3_30() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3_32() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_127() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_126() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_479() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3_28() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_3R_299()) return true;
+  private boolean jj_3_30() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
+  private boolean jj_3R_276() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_479()) jj_scanpos = xsp;
+    if (jj_3R_480()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_480()) {
+    if (jj_3R_481()) {
     jj_scanpos = xsp;
-    if (jj_3R_481()) return true;
+    if (jj_3R_482()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_86()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_118() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3R_124() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_123() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3R_122() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
+  private boolean jj_3R_275() {
     if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_479()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
+  private boolean jj_3R_121() {
+    if (jj_3R_90()) return true;
+    return false;
+  }
+
+  private boolean jj_3_23() {
+    if (jj_3R_87()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_120() {
+    if (jj_3R_300()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_274() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3_22() {
     if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
+  private boolean jj_3R_119() {
+    if (jj_3R_89()) return true;
+    return false;
+  }
+
+  private boolean jj_3_21() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_118() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
+  private boolean jj_3_20() {
     if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3R_117() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3R_116() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_95() {
+  private boolean jj_3R_96() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_273()) {
-    jj_scanpos = xsp;
     if (jj_3R_274()) {
     jj_scanpos = xsp;
     if (jj_3R_275()) {
@@ -28368,7 +28582,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_285()) {
     jj_scanpos = xsp;
-    if (jj_3R_286()) return true;
+    if (jj_3R_286()) {
+    jj_scanpos = xsp;
+    if (jj_3R_287()) return true;
     }
     }
     }
@@ -28383,82 +28599,82 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_287()) jj_scanpos = xsp;
+    if (jj_3R_288()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3R_115() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_792() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_114() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_791() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_113() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_903() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_77()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_902() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
+  private boolean jj_3R_790() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
+  private boolean jj_3R_788() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_67()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_900()) { jj_scanpos = xsp; break; }
+      if (jj_3R_903()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_788() {
+  private boolean jj_3R_789() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_67()) return true;
     return false;
@@ -28467,90 +28683,103 @@ Token token;
   private boolean jj_3R_74() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_790()) jj_scanpos = xsp;
+    if (jj_3R_791()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_192()) return true;
+    if (jj_3R_193()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_791()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_10() {
-    if (jj_3R_74()) return true;
+    if (jj_3R_792()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_3R_298()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
+  private boolean jj_3R_787() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_899()) { jj_scanpos = xsp; break; }
+      if (jj_3R_902()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_13() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3_12() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3_11() {
+    if (jj_3R_75()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_786() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_70()) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_646() {
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3_9() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
   private boolean jj_3R_645() {
-    if (jj_3R_161()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_112() {
+    if (jj_3R_299()) return true;
+    return false;
+  }
+
+  private boolean jj_3_8() {
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3_7() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
   private boolean jj_3R_73() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_785()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_786()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_787()) jj_scanpos = xsp;
@@ -28558,13 +28787,36 @@ Token token;
     if (jj_3R_788()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_789()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_790()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_46() {
+  private boolean jj_3_6() {
+    if (jj_3R_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_111() {
+    if (jj_3R_193()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_528() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_645()) {
+    jj_scanpos = xsp;
+    if (jj_3R_646()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_47() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_110()) {
+    if (jj_3R_111()) {
     jj_scanpos = xsp;
     if (jj_3_6()) {
     jj_scanpos = xsp;
@@ -28572,7 +28824,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_111()) {
+    if (jj_3R_112()) {
     jj_scanpos = xsp;
     if (jj_3_9()) {
     jj_scanpos = xsp;
@@ -28594,8 +28846,6 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_18()) {
     jj_scanpos = xsp;
-    if (jj_3R_112()) {
-    jj_scanpos = xsp;
     if (jj_3R_113()) {
     jj_scanpos = xsp;
     if (jj_3R_114()) {
@@ -28618,14 +28868,16 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_123()) {
     jj_scanpos = xsp;
-    if (jj_3_30()) {
-    jj_scanpos = xsp;
     if (jj_3R_124()) {
     jj_scanpos = xsp;
-    if (jj_3_32()) {
+    if (jj_3_30()) {
+    jj_scanpos = xsp;
+    if (jj_3_31()) {
     jj_scanpos = xsp;
     if (jj_3R_125()) {
     jj_scanpos = xsp;
+    if (jj_3_33()) {
+    jj_scanpos = xsp;
     if (jj_3R_126()) {
     jj_scanpos = xsp;
     if (jj_3R_127()) {
@@ -28634,15 +28886,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_129()) {
     jj_scanpos = xsp;
-    if (jj_3_37()) {
-    jj_scanpos = xsp;
     if (jj_3R_130()) {
     jj_scanpos = xsp;
-    if (jj_3_39()) {
+    if (jj_3_38()) {
+    jj_scanpos = xsp;
+    if (jj_3R_131()) {
     jj_scanpos = xsp;
     if (jj_3_40()) {
     jj_scanpos = xsp;
-    if (jj_3R_131()) {
+    if (jj_3_41()) {
     jj_scanpos = xsp;
     if (jj_3R_132()) {
     jj_scanpos = xsp;
@@ -28670,7 +28922,10 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_144()) {
     jj_scanpos = xsp;
-    if (jj_3R_145()) return true;
+    if (jj_3R_145()) {
+    jj_scanpos = xsp;
+    if (jj_3R_146()) return true;
+    }
     }
     }
     }
@@ -28727,41 +28982,74 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_527() {
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_620() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_526() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_231() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_46()) {
-    jj_scanpos = xsp;
-    if (jj_3R_448()) {
+    if (jj_3_47()) {
     jj_scanpos = xsp;
     if (jj_3R_449()) {
     jj_scanpos = xsp;
-    if (jj_3R_450()) return true;
+    if (jj_3R_450()) {
+    jj_scanpos = xsp;
+    if (jj_3R_451()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_326() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_644()) {
+    if (jj_3R_526()) {
     jj_scanpos = xsp;
-    if (jj_3R_645()) return true;
+    if (jj_3R_527()) return true;
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_528()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_478() {
+    if (jj_3R_164()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_620()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3R_68() {
-    if (jj_3R_230()) return true;
+    if (jj_3R_231()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_325() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_231()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
@@ -28770,14 +29058,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_525() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_324() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
@@ -28786,141 +29068,125 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_228() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_229() {
+    if (jj_3R_231()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(191)) jj_scanpos = xsp;
+    if (jj_scan_token(192)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_149() {
+    if (jj_scan_token(FIND)) return true;
+    if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_525()) {
+    if (jj_3R_324()) {
     jj_scanpos = xsp;
-    if (jj_3R_526()) return true;
-    }
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_527()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_477() {
-    if (jj_3R_163()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_619()) { jj_scanpos = xsp; break; }
+    if (jj_3R_325()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_326()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_624() {
+  private boolean jj_3R_625() {
     if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
+  private boolean jj_3R_624() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_230()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_273() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_478()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_485() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_623()) {
+    if (jj_3R_624()) {
     jj_scanpos = xsp;
-    if (jj_3R_624()) return true;
+    if (jj_3R_625()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_232() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_scan_token(FIND)) return true;
-    if (jj_scan_token(REFERENCES)) return true;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(TRUNCATE)) return true;
+    if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_323()) {
+    if (jj_3R_272()) {
     jj_scanpos = xsp;
-    if (jj_3R_324()) return true;
+    if (jj_3R_273()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_325()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_69() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_231()) jj_scanpos = xsp;
-    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
+  private boolean jj_3R_818() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_69() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_477()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_271() {
-    if (jj_3R_163()) return true;
+    if (jj_3R_232()) jj_scanpos = xsp;
+    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_817() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(TRUNCATE)) return true;
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_94() {
+    if (jj_scan_token(COMPACT)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_271()) {
+    if (jj_3R_817()) {
     jj_scanpos = xsp;
-    if (jj_3R_272()) return true;
+    if (jj_3R_818()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_269() {
+  private boolean jj_3R_270() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_230() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
+  private boolean jj_3R_269() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_271() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -28928,7 +29194,7 @@ Token token;
   private boolean jj_3R_67() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_229()) jj_scanpos = xsp;
+    if (jj_3R_230()) jj_scanpos = xsp;
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
@@ -28938,26 +29204,26 @@ Token token;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_268()) {
+    if (jj_3R_269()) {
     jj_scanpos = xsp;
-    if (jj_3R_269()) return true;
+    if (jj_3R_270()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_270()) jj_scanpos = xsp;
+    if (jj_3R_271()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_268() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_267() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_266() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
@@ -28965,16 +29231,16 @@ Token token;
   private boolean jj_3R_91() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_266()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_267()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_268()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_264() {
+  private boolean jj_3R_265() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
@@ -28984,215 +29250,215 @@ Token token;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_264()) {
+    if (jj_3R_265()) {
     jj_scanpos = xsp;
-    if (jj_3R_265()) return true;
+    if (jj_3R_266()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_596() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
+  private boolean jj_3R_447() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_595()) jj_scanpos = xsp;
+    if (jj_3R_596()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
+  private boolean jj_3R_223() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_446()) {
+    if (jj_3R_447()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(212)) return true;
+    if (jj_scan_token(213)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_447()) jj_scanpos = xsp;
+    if (jj_3R_448()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_595() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_446() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_594()) jj_scanpos = xsp;
+    if (jj_3R_595()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
+  private boolean jj_3R_222() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_444()) {
+    if (jj_3R_445()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(212)) return true;
+    if (jj_scan_token(213)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_445()) jj_scanpos = xsp;
+    if (jj_3R_446()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_594() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_443() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_593()) jj_scanpos = xsp;
+    if (jj_3R_594()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
+  private boolean jj_3R_221() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_442()) {
+    if (jj_3R_443()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(212)) return true;
+    if (jj_scan_token(213)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_443()) jj_scanpos = xsp;
+    if (jj_3R_444()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_592() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_593() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
+  private boolean jj_3R_441() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_592()) jj_scanpos = xsp;
+    if (jj_3R_593()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
+  private boolean jj_3R_220() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_440()) {
+    if (jj_3R_441()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(212)) return true;
+    if (jj_scan_token(213)) return true;
     }
-    if (jj_3R_439()) return true;
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_1002() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_1005() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_1003() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1002()) jj_scanpos = xsp;
+    if (jj_3R_1005()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_988() {
+  private boolean jj_3R_991() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1000()) {
+    if (jj_3R_1003()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(212)) return true;
+    if (jj_scan_token(213)) return true;
     }
-    if (jj_3R_439()) return true;
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_591() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
+  private boolean jj_3R_439() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_590()) jj_scanpos = xsp;
+    if (jj_3R_591()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
+  private boolean jj_3R_219() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_438()) {
+    if (jj_3R_439()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(212)) return true;
+    if (jj_scan_token(213)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_439()) return true;
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_775() {
+  private boolean jj_3R_776() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
+  private boolean jj_3R_901() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
+  private boolean jj_3R_900() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_775() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_160() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(252)) {
+    if (jj_scan_token(253)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(238)) {
+    if (jj_scan_token(239)) {
     jj_scanpos = xsp;
     if (jj_scan_token(28)) {
     jj_scanpos = xsp;
@@ -29208,7 +29474,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(39)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(249)) {
+    if (jj_scan_token(250)) {
     jj_scanpos = xsp;
     if (jj_scan_token(45)) {
     jj_scanpos = xsp;
@@ -29358,6 +29624,8 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(139)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(140)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(59)) {
     jj_scanpos = xsp;
     if (jj_scan_token(60)) {
@@ -29366,13 +29634,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(63)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(140)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(141)) {
     jj_scanpos = xsp;
     if (jj_scan_token(142)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(144)) {
+    if (jj_scan_token(143)) {
     jj_scanpos = xsp;
     if (jj_scan_token(145)) {
     jj_scanpos = xsp;
@@ -29382,7 +29648,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(148)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(150)) {
+    if (jj_scan_token(149)) {
     jj_scanpos = xsp;
     if (jj_scan_token(151)) {
     jj_scanpos = xsp;
@@ -29398,7 +29664,10 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(157)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(253)) return true;
+    if (jj_scan_token(158)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(254)) return true;
+    }
     }
     }
     }
@@ -29506,40 +29775,40 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_773() {
+  private boolean jj_3R_774() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_897()) {
+    if (jj_3R_900()) {
     jj_scanpos = xsp;
-    if (jj_3R_898()) return true;
+    if (jj_3R_901()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
+  private boolean jj_3R_584() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(180)) {
+    if (jj_scan_token(181)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(161)) return true;
+    if (jj_scan_token(162)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_771() {
+  private boolean jj_3R_772() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_463()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
@@ -29549,110 +29818,94 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_770() {
+  private boolean jj_3R_771() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_462()) return true;
+    if (jj_3R_463()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_770() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_899() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
+  private boolean jj_3R_898() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_769() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
+  private boolean jj_3R_897() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_896() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_768() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_895()) {
+    if (jj_3R_898()) {
     jj_scanpos = xsp;
-    if (jj_3R_896()) return true;
+    if (jj_3R_899()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_767() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_893()) {
+    if (jj_3R_896()) {
     jj_scanpos = xsp;
-    if (jj_3R_894()) return true;
+    if (jj_3R_897()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_765() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_690() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_688()) return true;
+    if (jj_3R_689()) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_765() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_149()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_359() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(160)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(161)) return true;
-    }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_149()) return true;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_689() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_764()) {
-    jj_scanpos = xsp;
     if (jj_3R_765()) {
     jj_scanpos = xsp;
     if (jj_3R_766()) {
@@ -29673,7 +29926,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_774()) {
     jj_scanpos = xsp;
-    if (jj_3R_775()) return true;
+    if (jj_3R_775()) {
+    jj_scanpos = xsp;
+    if (jj_3R_776()) return true;
     }
     }
     }
@@ -29688,13 +29943,27 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_688()) return true;
+  private boolean jj_3R_592() {
+    if (jj_3R_689()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_689()) { jj_scanpos = xsp; break; }
+      if (jj_3R_690()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_360() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(161)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(162)) return true;
     }
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_150()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
@@ -29706,13 +29975,18 @@ Token token;
   }
 
   private boolean jj_3_1() {
-    if (jj_scan_token(263)) return true;
+    if (jj_scan_token(264)) return true;
     if (jj_3R_67()) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
+  private boolean jj_3_148() {
+    if (jj_3R_223()) return true;
+    return false;
+  }
+
   private boolean jj_3_147() {
     if (jj_3R_222()) return true;
     return false;
@@ -29723,35 +29997,35 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_440() {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1()) {
-    jj_scanpos = xsp;
-    if (jj_3_2()) {
-    jj_scanpos = xsp;
-    if (jj_3R_359()) return true;
-    }
-    }
+    if (jj_3R_592()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_1000() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_591()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3_1()) {
+    jj_scanpos = xsp;
+    if (jj_3_2()) {
+    jj_scanpos = xsp;
+    if (jj_3R_360()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_997() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_590() {
+    if (jj_3R_223()) return true;
     return false;
   }
 
@@ -29765,116 +30039,116 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_587() {
-    if (jj_3R_220()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_436() {
+  private boolean jj_3R_437() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_587()) {
-    jj_scanpos = xsp;
     if (jj_3R_588()) {
     jj_scanpos = xsp;
-    if (jj_3R_589()) return true;
+    if (jj_3R_589()) {
+    jj_scanpos = xsp;
+    if (jj_3R_590()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3_145() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
+  private boolean jj_3R_217() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_436()) return true;
+    if (jj_3R_437()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_436()) { jj_scanpos = xsp; break; }
+      if (jj_3R_437()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_997()) jj_scanpos = xsp;
+    if (jj_3R_1000()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_999() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_1002() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_1001() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
+  private boolean jj_3R_218() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_437()) return true;
+    if (jj_3R_438()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_998()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1001()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_999()) jj_scanpos = xsp;
+    if (jj_3R_1002()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1001() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_1004() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3_143() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3_144() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_437() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_438() {
+    if (jj_3R_166()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1001()) jj_scanpos = xsp;
+    if (jj_3R_1004()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_440()) return true;
     return false;
   }
 
-  private boolean jj_3_142() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3_143() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_978() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_981() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_441()) jj_scanpos = xsp;
+    if (jj_3R_442()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_977() {
-    if (jj_3R_988()) return true;
+  private boolean jj_3R_980() {
+    if (jj_3R_991()) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
+  private boolean jj_3R_979() {
+    if (jj_3R_219()) return true;
+    return false;
+  }
+
+  private boolean jj_3_142() {
     if (jj_3R_218()) return true;
     return false;
   }
@@ -29889,25 +30163,20 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_139() {
-    if (jj_3R_215()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_950() {
+  private boolean jj_3R_953() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_139()) {
-    jj_scanpos = xsp;
     if (jj_3_140()) {
     jj_scanpos = xsp;
     if (jj_3_141()) {
     jj_scanpos = xsp;
-    if (jj_3R_976()) {
+    if (jj_3_142()) {
+    jj_scanpos = xsp;
+    if (jj_3R_979()) {
     jj_scanpos = xsp;
-    if (jj_3R_977()) {
+    if (jj_3R_980()) {
     jj_scanpos = xsp;
-    if (jj_3R_978()) return true;
+    if (jj_3R_981()) return true;
     }
     }
     }
@@ -29916,998 +30185,1008 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_946() {
+  private boolean jj_3R_949() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_672() {
+    if (jj_3R_440()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_950()) { jj_scanpos = xsp; break; }
+      if (jj_3R_953()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_872() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_871() {
+    if (jj_3R_584()) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_870() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_869() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_740() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_866()) {
+    if (jj_3R_869()) {
     jj_scanpos = xsp;
-    if (jj_3R_867()) {
+    if (jj_3R_870()) {
     jj_scanpos = xsp;
-    if (jj_3R_868()) {
+    if (jj_3R_871()) {
     jj_scanpos = xsp;
-    if (jj_3R_869()) return true;
+    if (jj_3R_872()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
+  private boolean jj_3R_739() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_864() {
+  private boolean jj_3R_867() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_738() {
+    if (jj_3R_584()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
+  private boolean jj_3R_737() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_736() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_647() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) {
-    jj_scanpos = xsp;
     if (jj_3R_736()) {
     jj_scanpos = xsp;
     if (jj_3R_737()) {
     jj_scanpos = xsp;
-    if (jj_3R_738()) return true;
+    if (jj_3R_738()) {
+    jj_scanpos = xsp;
+    if (jj_3R_739()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_739()) { jj_scanpos = xsp; break; }
+      if (jj_3R_740()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_138() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_139() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_228() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_646()) jj_scanpos = xsp;
+    if (jj_3R_647()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_975() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_978() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_3R_562()) return true;
+  private boolean jj_3R_754() {
+    if (jj_3R_563()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_975()) jj_scanpos = xsp;
+    if (jj_3R_978()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_865() {
+  private boolean jj_3R_868() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_946()) jj_scanpos = xsp;
+    if (jj_3R_949()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_945() {
+  private boolean jj_3R_948() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
+  private boolean jj_3R_947() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
+  private boolean jj_3R_866() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_944()) {
+    if (jj_3R_947()) {
     jj_scanpos = xsp;
-    if (jj_3R_945()) return true;
+    if (jj_3R_948()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_735() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_863()) jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
+    if (jj_3R_866()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_864()) jj_scanpos = xsp;
+    if (jj_3R_867()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_865()) { jj_scanpos = xsp; break; }
+      if (jj_3R_868()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_733() {
+  private boolean jj_3R_734() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_643() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_733()) {
+    if (jj_3R_734()) {
     jj_scanpos = xsp;
-    if (jj_3R_734()) return true;
+    if (jj_3R_735()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
-    if (jj_3R_642()) return true;
+  private boolean jj_3R_644() {
+    if (jj_3R_643()) return true;
     return false;
   }
 
-  private boolean jj_3R_520() {
+  private boolean jj_3R_521() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_642()) return true;
+    if (jj_3R_643()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_643()) { jj_scanpos = xsp; break; }
+      if (jj_3R_644()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_541() {
+  private boolean jj_3R_542() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_541()) { jj_scanpos = xsp; break; }
+      if (jj_3R_542()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_167() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_365()) jj_scanpos = xsp;
+    if (jj_3R_366()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
+  private boolean jj_3R_455() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
+  private boolean jj_3R_717() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_456() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
+  private boolean jj_3R_619() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_715()) {
+    if (jj_3R_716()) {
     jj_scanpos = xsp;
-    if (jj_3R_716()) return true;
+    if (jj_3R_717()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_715() {
+  private boolean jj_3R_716() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_469() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_67()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_618()) jj_scanpos = xsp;
+    if (jj_3R_619()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
+  private boolean jj_3R_601() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_865() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_864() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_457() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_600()) {
+    if (jj_3R_601()) {
     jj_scanpos = xsp;
-    if (jj_3R_601()) return true;
+    if (jj_3R_602()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_860() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_863() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3R_862() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_733() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_861()) {
+    if (jj_3R_864()) {
     jj_scanpos = xsp;
-    if (jj_3R_862()) return true;
+    if (jj_3R_865()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_943() {
+  private boolean jj_3R_946() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_732() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_859()) {
+    if (jj_3R_862()) {
     jj_scanpos = xsp;
-    if (jj_3R_860()) return true;
+    if (jj_3R_863()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_640() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_731()) {
+    if (jj_3R_732()) {
     jj_scanpos = xsp;
-    if (jj_3R_732()) return true;
+    if (jj_3R_733()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_616() {
+  private boolean jj_3R_617() {
     if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
+  private boolean jj_3R_943() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_468() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_616()) {
+    if (jj_3R_617()) {
     jj_scanpos = xsp;
-    if (jj_3R_617()) return true;
+    if (jj_3R_618()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_639() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
+  private boolean jj_3R_635() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_518() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_638()) { jj_scanpos = xsp; break; }
+      if (jj_3R_639()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_941() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_944() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_858() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_858() {
+  private boolean jj_3R_861() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_860() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_942()) {
+    if (jj_3R_945()) {
     jj_scanpos = xsp;
-    if (jj_3R_943()) return true;
+    if (jj_3R_946()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_945() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_851() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_854() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_857() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_941()) jj_scanpos = xsp;
+    if (jj_3R_944()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_515() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_634()) { jj_scanpos = xsp; break; }
+      if (jj_3R_635()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_938() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_941() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_854() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_853() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
+  private boolean jj_3R_856() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_855() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_939()) {
+    if (jj_3R_942()) {
     jj_scanpos = xsp;
-    if (jj_3R_940()) return true;
+    if (jj_3R_943()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_939() {
+  private boolean jj_3R_942() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_854()) {
+    if (jj_3R_857()) {
     jj_scanpos = xsp;
-    if (jj_3R_855()) {
+    if (jj_3R_858()) {
     jj_scanpos = xsp;
-    if (jj_3R_856()) return true;
+    if (jj_3R_859()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_857()) jj_scanpos = xsp;
+    if (jj_3R_860()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_858()) jj_scanpos = xsp;
+    if (jj_3R_861()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_848() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_852() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) jj_scanpos = xsp;
+    if (jj_3R_941()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_729() {
+  private boolean jj_3R_730() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_849()) {
+    if (jj_3R_852()) {
     jj_scanpos = xsp;
-    if (jj_3R_850()) {
+    if (jj_3R_853()) {
     jj_scanpos = xsp;
-    if (jj_3R_851()) return true;
+    if (jj_3R_854()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_852()) jj_scanpos = xsp;
+    if (jj_3R_855()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_853()) jj_scanpos = xsp;
+    if (jj_3R_856()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_638() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_729()) {
+    if (jj_3R_730()) {
     jj_scanpos = xsp;
-    if (jj_3R_730()) return true;
+    if (jj_3R_731()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_846() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_849() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
+  private boolean jj_3R_727() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_726() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
+  private boolean jj_3R_728() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_847()) {
+    if (jj_3R_850()) {
     jj_scanpos = xsp;
-    if (jj_3R_848()) return true;
+    if (jj_3R_851()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_725() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_846()) jj_scanpos = xsp;
+    if (jj_3R_849()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_843() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_846() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
+  private boolean jj_3R_722() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_721() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_724() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_723() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_844()) {
+    if (jj_3R_847()) {
     jj_scanpos = xsp;
-    if (jj_3R_845()) return true;
+    if (jj_3R_848()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_637() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_724()) {
-    jj_scanpos = xsp;
     if (jj_3R_725()) {
     jj_scanpos = xsp;
-    if (jj_3R_726()) return true;
+    if (jj_3R_726()) {
+    jj_scanpos = xsp;
+    if (jj_3R_727()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_727()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_728()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_729()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_720() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_843()) jj_scanpos = xsp;
+    if (jj_3R_846()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_635() {
+  private boolean jj_3R_636() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_719()) {
-    jj_scanpos = xsp;
     if (jj_3R_720()) {
     jj_scanpos = xsp;
-    if (jj_3R_721()) return true;
+    if (jj_3R_721()) {
+    jj_scanpos = xsp;
+    if (jj_3R_722()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_722()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_723()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_724()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_516() {
+  private boolean jj_3R_517() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
+    if (jj_3R_636()) {
     jj_scanpos = xsp;
-    if (jj_3R_636()) return true;
+    if (jj_3R_637()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_637()) { jj_scanpos = xsp; break; }
+      if (jj_3R_638()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
+  private boolean jj_3R_430() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_584()) return true;
     return false;
   }
 
-  private boolean jj_3_137() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3_138() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_428()) {
-    jj_scanpos = xsp;
     if (jj_3R_429()) {
     jj_scanpos = xsp;
-    if (jj_3R_430()) return true;
+    if (jj_3R_430()) {
+    jj_scanpos = xsp;
+    if (jj_3R_431()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_136() {
+  private boolean jj_3_137() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_135() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3_136() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_207() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_136()) {
+    if (jj_3_137()) {
     jj_scanpos = xsp;
-    if (jj_3R_427()) return true;
+    if (jj_3R_428()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_134() {
+  private boolean jj_3_135() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_131() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3_132() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_134()) {
+    if (jj_3_135()) {
     jj_scanpos = xsp;
-    if (jj_3R_426()) return true;
+    if (jj_3R_427()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_422() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_354()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_355()) return true;
     return false;
   }
 
-  private boolean jj_3_133() {
+  private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_165()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3_132() {
+  private boolean jj_3_133() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_213()) {
+    if (jj_3R_214()) {
     jj_scanpos = xsp;
-    if (jj_3R_214()) return true;
+    if (jj_3R_215()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_128() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3_129() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_201() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_419()) return true;
+    if (jj_3R_420()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_132()) {
-    jj_scanpos = xsp;
     if (jj_3_133()) {
     jj_scanpos = xsp;
-    if (jj_3R_421()) return true;
+    if (jj_3_134()) {
+    jj_scanpos = xsp;
+    if (jj_3R_422()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_354()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_355()) return true;
     return false;
   }
 
-  private boolean jj_3_130() {
+  private boolean jj_3_131() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_165()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_420() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3_129() {
+  private boolean jj_3_130() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_211()) {
+    if (jj_3R_212()) {
     jj_scanpos = xsp;
-    if (jj_3R_212()) return true;
+    if (jj_3R_213()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_127() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3_128() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_3R_149()) return true;
-    if (jj_3R_419()) return true;
+  private boolean jj_3R_200() {
+    if (jj_3R_150()) return true;
+    if (jj_3R_420()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_129()) {
-    jj_scanpos = xsp;
     if (jj_3_130()) {
     jj_scanpos = xsp;
-    if (jj_3R_420()) return true;
+    if (jj_3_131()) {
+    jj_scanpos = xsp;
+    if (jj_3R_421()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_419() {
+  private boolean jj_3R_420() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_126() {
+  private boolean jj_3_127() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_204() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_126()) {
+    if (jj_3_127()) {
     jj_scanpos = xsp;
-    if (jj_3R_423()) return true;
+    if (jj_3R_424()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_197() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_198() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_199() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_196() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_197() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_688() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_150()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_687()) { jj_scanpos = xsp; break; }
+      if (jj_3R_688()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_203() {
+    if (jj_3R_150()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_149()) return true;
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_586() {
+    if (jj_3R_150()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_687()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
@@ -30921,7 +31200,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[417];
+  final private int[] jj_la1 = new int[418];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -30943,33 +31222,33 @@ Token token;
       jj_la1_init_8();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x109f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0xfc400000,0x109f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x109f800,0x1000000,0x109f800,0x1000000,};
+      jj_la1_0 = new int[] {0x0,0x0,0x109f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0xfc400000,0x109f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x109f800,0x1000000,0x109f800,0x1000000,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x2000000,0xd88021a3,0x4080000,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,0x4080000,0x0,};
+      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x2000000,0xd88021a3,0x4080000,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,0x4080000,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0x21440000,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x21440000,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0x21440000,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x21440000,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x1c48100,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x1840000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x10000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x200000,0x1e000000,0xffffffff,0x0,0x0,0x0,0x40000000,0x0,0x80000000,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0xffffffff,0x1c48100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1c48100,0x0,0x1c48100,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0x38c8100,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x3040000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x10000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x400000,0x3c000000,0xffffffff,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0xffffffff,0x38c8100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x38c8100,0x0,0x38c8100,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0x6100de,0x200010,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0xde,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600,0x0,0x0,0x0,0xffdfffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600,0x0,0x0,0x0,0x0,0xffdfffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfffff,0x0,0x0,0x600,0x0,0x0,0x0,0x0,0x0,0x4000,0xffdfffff,0x0,0x0,0x600,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0xffdfffff,0x0,0x0,0x0,0x0,0x0,0x3fdfffff,0x0,0xffdfffff,0x0,0xffdfffff,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfffff,0x0,0xffdfffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfffff,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0xffdfffff,0x0,0xffdfffff,0x0,0xffdfffff,0x0,0x0,0xffdfffff,0x0,0xffdfffff,0x0,0x0,0xbfdf7fff,0x0,0x0,0x0,0x0,0xbfdf7fff,0x0,0x0,0x0,0xbfdf7fff,0x0,0x0,0xbfdf7fff,0x0,0x0,0x0,0x0,0xbfdf7fff,0x0,0x0,0x0,0xbfdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfffff,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0xbfdf7fff,0x0,0xbfdf7fff,0xbfdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x11802000,0x3fdf7fff,0x0,0x0,0x11802000,0x3fdf7fff,0x0,0x3fdf7fff,0x0,0x3fdf7fff,0x0,0x3fdf7fff,0x0,0x0,0x3fdf7fff,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x3fdf7fff,0x0,0x3fdf7fff,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x3fdf7fff,0x0,0x0,0x3fdf7fff,0x0,0x3fdf7fff,0x0,0x3fdf7fff,0x3fdf7fff,0x0,0x3fdf7fff,0x3fdf7fff,0x3fdf7fff,0x3fdf7fff,0x20000000,0x0,0x10,0x0,0x10,0x3fdf7fff,0x0,0x0,0x0,0x3fdf7fff,0x10,0x0,0x10,0xbfdf7fff,0x0,0x0,0x0,0x0,0xbfdf7fff,0x0,0x0,0x0,0x3fdf7fff,0x3fdf7fff,0x0,0x0,0x3fdf7fff,0x3fdf7fff,0x0,0x0,0x3fdf7fff,0x3fdf7fff,0x3fdf7fff,0x3fdf7fff,0x10,0x100,0x10,0x0,0x0,0x3fdf7fff,0x10,0x3fdf7fff,0x0,0xbfdf7fff,0xbfdf7fff,0x0,0x0,0x3fdf7fff,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x3fdf7fff,0x0,0x3fdf7fff,0x3fdf7fff,0x4000000,0x20,0x0,0xffdfffff,0x6100de,0x200010,0x10,0x1000,0x0,0x1000,0x1000,0x0,0x1000,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x6100de,0x200010,0x6100de,0x200010,};
+      jj_la1_4 = new int[] {0x0,0x0,0xc201bc,0x400020,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x1bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc00,0x0,0x0,0x0,0xffbfffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc00,0x0,0x0,0x0,0x0,0xffbfffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffbfffff,0x0,0x0,0xc00,0x0,0x0,0x0,0x0,0x0,0x8000,0xffbfffff,0x0,0x0,0xc00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0xffbfffff,0x0,0x0,0x0,0x0,0x0,0x7fbfffff,0x0,0xffbfffff,0x0,0xffbfffff,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffbfffff,0x0,0xffbfffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffbfffff,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0xffbfffff,0x0,0xffbfffff,0x0,0xffbfffff,0x0,0x0,0xffbfffff,0x0,0xffbfffff,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffbfffff,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x7fbeffff,0x0,0x7fbeffff,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x23004000,0x7fbeffff,0x0,0x0,0x23004000,0x7fbeffff,0x0,0x7fbeffff,0x0,0x7fbeffff,0x0,0x7fbeffff,0x0,0x0,0x7fbeffff,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x7fbeffff,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x7fbeffff,0x0,0x0,0x7fbeffff,0x0,0x7fbeffff,0x0,0x7fbeffff,0x7fbeffff,0x0,0x7fbeffff,0x7fbeffff,0x7fbeffff,0x7fbeffff,0x40000000,0x0,0x20,0x0,0x20,0x7fbeffff,0x0,0x0,0x0,0x7fbeffff,0x20,0x0,0x20,0x7fbeffff,0x0,0x0,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x7fbeffff,0x7fbeffff,0x0,0x0,0x7fbeffff,0x7fbeffff,0x0,0x0,0x7fbeffff,0x7fbeffff,0x7fbeffff,0x7fbeffff,0x20,0x200,0x20,0x0,0x0,0x7fbeffff,0x20,0x7fbeffff,0x0,0x7fbeffff,0x7fbeffff,0x0,0x0,0x7fbeffff,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0x7fbeffff,0x0,0x7fbeffff,0x7fbeffff,0x8000000,0x40,0x0,0xffbfffff,0xc201bc,0x400020,0x20,0x2000,0x0,0x2000,0x2000,0x0,0x2000,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0xc201bc,0x400020,0xc201bc,0x400020,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x3,0x8000000,0x80000000,0x80000000,0x100002,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b984402,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000400,0x28000400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b984402,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b984402,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b984402,0x0,0x0,0x0,0x0,0x600400,0x0,0x0,0x2b984402,0x0,0x2b984402,0x0,0x0,0x20000000,0x0,0x1800000,0x8000000,0x0,0x1800000,0x8000000,0x0,0x2b984402,0x180002,0x20184402,0x0,0x2000000,0x0,0x0,0x0,0x0,0x8000400,0x20000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b984402,0x1800000,0x0,0x0,0x0,0x0,0x180002,0x0,0x2b984402,0x0,0x2b984402,0x0,0x2b984402,0x0,0x0,0x22184402,0x0,0x22184402,0x180002,0x20000000,0x8000400,0x0,0x0,0x0,0x20000000,0x8000400,0x0,0x0,0x0,0xa000400,0x0,0x20000000,0x8000400,0x0,0x0,0x0,0x20000000,0x8000400,0x0,0x0,0x0,0xa000400,0x0,0x0,0x400,0x400,0x400,0x0,0x400,0x0,0x0,0x0,0x2b984402,0x20000000,0x400,0x20000000,0x0,0x0,0x0,0x20000000,0x180002,0x0,0x180002,0x180002,0x0,0x0,0x8000000,0x8000000,0x8000000,0x0,0x8000000,0x0,0x0,0x400,0x0,0x1800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x0,0x400,0x0,0x0,0x8000400,0x28000400,0xa000400,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0x400,0x400,0x1800000,0x100002,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0x0,0x0,0x100002,0x0,0x0,0x20000000,0x0,0x0,0x0,0x2b984402,0x80000000,0x80000000,0x0,0x0,0x1800000,0x0,0x0,0x1800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x80000000,0x80000000,};
+      jj_la1_5 = new int[] {0x6,0x10000000,0x0,0x0,0x200004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x57308805,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000001,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000800,0x50000800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x57308805,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x57308805,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x57308805,0x0,0x0,0x0,0x0,0xc00800,0x0,0x0,0x57308805,0x0,0x57308805,0x0,0x0,0x40000000,0x0,0x3000000,0x10000000,0x0,0x3000000,0x10000000,0x0,0x57308805,0x300004,0x40308805,0x0,0x4000000,0x0,0x0,0x0,0x0,0x10000800,0x40000000,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x57308805,0x3000000,0x0,0x0,0x0,0x0,0x300004,0x0,0x57308805,0x0,0x57308805,0x0,0x57308805,0x0,0x0,0x44308805,0x0,0x44308805,0x300004,0x40000000,0x10000801,0x0,0x0,0x0,0x40000000,0x10000801,0x0,0x0,0x0,0x14000801,0x0,0x40000000,0x10000801,0x0,0x0,0x0,0x40000000,0x10000801,0x0,0x0,0x0,0x14000801,0x0,0x0,0x800,0x800,0x800,0x0,0x800,0x0,0x0,0x0,0x57308805,0x40000000,0x800,0x40000000,0x0,0x0,0x0,0x40000000,0x300005,0x0,0x300005,0x300005,0x0,0x0,0x10000000,0x10000000,0x10000000,0x0,0x10000000,0x0,0x0,0x800,0x0,0x3000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x10000000,0x0,0x0,0x10000000,0x0,0x0,0x0,0x800,0x0,0x800,0x0,0x10000800,0x50000800,0x14000800,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000000,0x800,0x800,0x3000000,0x200004,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000000,0x0,0x0,0x200004,0x0,0x0,0x40000000,0x0,0x0,0x0,0x57308805,0x0,0x0,0x0,0x0,0x3000000,0x0,0x0,0x3000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x800000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1000,0x1000,0x0,0x1,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x400000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01800,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x0,0x2,0xc0000020,0x2,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x1,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800,0x0,0x1,0x1,0x0,0x1000,0x0,0x1,0x200,0x800000,0xc01a00,0x1000,0x0,0x1,0x0,0x1800,0x0,0x1,0xc01800,0x1,0xc01800,0x0,0x800000,0x0,0x2,0x0,0x0,0x20000,0x0,0x0,0x3fe00000,0xc01800,0x0,0xc01800,0x1,0x0,0x1,0x1800,0x1001,0x1001,0x400000,0x0,0x1800,0x0,0x0,0x1,0x0,0x0,0x400002,0x400002,0x0,0x0,0x0,0x0,0xc01800,0x0,0x5e1e0,0x60,0x0,0x5e1e0,0x0,0x1,0xc01800,0x1,0xc01800,0x1,0xc01800,0x5e1e0,0x0,0xc01800,0x0,0xc01800,0x1800,0x2,0x400000,0x0,0x0,0x0,0x2,0x400000,0x0,0x0,0x0,0x400000,0x1,0x2,0x400000,0x0,0x0,0x0,0x2,0x400000,0x0,0x0,0x0,0x400000,0x1,0x1,0x401800,0x401800,0x401800,0x0,0x401800,0x0,0x0,0x1,0xc01800,0x800000,0xc00000,0x0,0x800000,0x2,0x800000,0x800000,0x0,0x1,0x0,0x0,0x500082,0x80,0x0,0x0,0x0,0x500080,0x0,0x1,0x0,0x400000,0x0,0x0,0x0,0x0,0x500000,0x0,0x500000,0x0,0x500000,0x0,0x500000,0x0,0x0,0x500000,0x0,0x0,0x500000,0x0,0x0,0x0,0x0,0x400000,0x0,0x1,0x400000,0x400000,0x400000,0x0,0x1,0x0,0x0,0x0,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x600000,0x600000,0x0,0x1,0x0,0x0,0x400000,0x400000,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x800000,0x400000,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x800000,0x2,0x2,0x1,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0xc01800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_6 = new int[] {0x0,0x0,0x1,0x1,0x0,0x0,0x800000,0x800000,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1803000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x1000000,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x2000,0x2000,0x0,0x2,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1803000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1803000,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x0,0x2,0x2,0x0,0x4,0x80000040,0x4,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x2,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x2,0x2,0x0,0x2000,0x0,0x2,0x400,0x1000000,0x1803400,0x2000,0x0,0x2,0x0,0x3000,0x0,0x2,0x1803000,0x2,0x1803000,0x0,0x1000000,0x0,0x4,0x0,0x0,0x40000,0x0,0x0,0x7fc00000,0x1803000,0x0,0x1803000,0x2,0x0,0x2,0x3000,0x2002,0x2002,0x800000,0x0,0x3000,0x0,0x0,0x2,0x0,0x0,0x800004,0x800004,0x0,0x0,0x0,0x0,0x1803000,0x0,0xbc3c0,0xc0,0x0,0xbc3c0,0x0,0x2,0x1803000,0x2,0x1803000,0x2,0x1803000,0xbc3c0,0x0,0x1803000,0x0,0x1803000,0x3000,0x4,0x800000,0x0,0x0,0x0,0x4,0x800000,0x0,0x0,0x0,0x800000,0x2,0x4,0x800000,0x0,0x0,0x0,0x4,0x800000,0x0,0x0,0x0,0x800000,0x2,0x2,0x803000,0x803000,0x803000,0x0,0x803000,0x0,0x0,0x2,0x1803000,0x1000000,0x1800000,0x0,0x1000000,0x4,0x1000000,0x1000000,0x0,0x2,0x0,0x0,0xa00104,0x100,0x0,0x0,0x0,0xa00100,0x0,0x2,0x0,0x800000,0x0,0x0,0x0,0x0,0xa00000,0x0,0xa00000,0x0,0xa00000,0x0,0xa00000,0x0,0x0,0xa00000,0x0,0x0,0xa00000,0x0,0x0,0x0,0x0,0x800000,0x0,0x800000,0x2,0x800000,0x800000,0x800000,0x0,0x2,0x0,0x0,0x0,0x2,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0xc00000,0xc00000,0x0,0x2,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x1000000,0x1000000,0x0,0x0,0x0,0x0,0x1000000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x1000000,0x4,0x4,0x2,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x1803000,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x1,0x1,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x8000000,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x8000000,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x1800,0x0,0x32004000,0x0,0x32004000,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600,0x32004000,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x32004000,0x0,0x0,0x32004000,0x0,0x0,0x0,0x80000000,0xc0000000,0x0,0x0,0x32006000,0x0,0x208000,0x0,0x2000,0x20e000,0x32004000,0x0,0x32004000,0x0,0x32004000,0x0,0x32004000,0x228000,0x0,0x32004000,0x0,0x32004000,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x32004000,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x32004000,0x0,0x0,0x0,0x0,0x0,0x32004000,0x32004000,0x0,0x32004000,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x32004000,0x0,0x0,0x8000000,0x32004000,0x0,0x32004000,0x0,0x32004000,0x0,0x32004000,0x0,0x0,0x32004000,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x32004000,0x0,0x32004000,0x0,0x32004000,0x32004000,0x0,0x32004000,0x32004000,0x32004000,0x32004000,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x32004000,0x2000000,0x0,0x0,0x0,0x32004000,0x2000000,0x0,0x0,0x32004000,0x32004000,0x0,0x0,0x32004000,0x32004000,0x0,0x0,0x32004000,0x32004000,0x32004000,0x32004000,0x0,0x8000000,0x0,0x0,0x0,0x32004000,0x0,0x32004000,0x0,0x32004000,0x32004000,0x0,0x0,0x3a004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x32004000,0x0,0x32004000,0x32004000,0x0,0x0,0x0,0x32004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x10000000,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x10000000,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x3000,0x0,0x64008000,0x0,0x64008000,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc00,0x64008000,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x64008000,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x6400c000,0x0,0x410000,0x0,0x4000,0x41c000,0x64008000,0x0,0x64008000,0x0,0x64008000,0x0,0x64008000,0x450000,0x0,0x64008000,0x0,0x64008000,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x64008000,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x64008000,0x0,0x0,0x0,0x0,0x0,0x64008000,0x64008000,0x0,0x64008000,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x64008000,0x0,0x0,0x10000000,0x64008000,0x0,0x64008000,0x0,0x64008000,0x0,0x64008000,0x0,0x0,0x64008000,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x64008000,0x0,0x0,0x0,0x0,0x64008000,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x64008000,0x0,0x64008000,0x0,0x64008000,0x64008000,0x0,0x64008000,0x64008000,0x64008000,0x64008000,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x64008000,0x4000000,0x0,0x0,0x0,0x64008000,0x4000000,0x0,0x0,0x64008000,0x64008000,0x0,0x0,0x64008000,0x64008000,0x0,0x0,0x64008000,0x64008000,0x64008000,0x64008000,0x0,0x10000000,0x0,0x0,0x0,0x64008000,0x0,0x64008000,0x0,0x64008000,0x64008000,0x0,0x0,0x74008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64008000,0x0,0x64008000,0x64008000,0x0,0x0,0x0,0x64008000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0xc,0x10,0x0,0xc,0x0,0x0,0x100,0x0,0x0,0x3,0x3,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x80,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x80,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0xc,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x80,0xc,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc00,0xfc00,0x30000,0x30000,0xc0000,0xc0000,0x0,0x0,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x18,0x20,0x0,0x18,0x0,0x0,0x200,0x0,0x0,0x7,0x7,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x100,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18,0x0,0x18,0x0,0x18,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x100,0x18,0x0,0x18,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f800,0x1f800,0x60000,0x60000,0x180000,0x180000,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[160];
+  final private JJCalls[] jj_2_rtns = new JJCalls[161];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -30979,7 +31258,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 417; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 418; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -30990,7 +31269,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 417; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 418; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31000,7 +31279,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 417; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 418; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31011,7 +31290,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 417; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 418; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31123,12 +31402,12 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[276];
+    boolean[] la1tokens = new boolean[277];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 417; i++) {
+    for (int i = 0; i < 418; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -31161,7 +31440,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 276; i++) {
+    for (int i = 0; i < 277; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -31188,7 +31467,7 @@ Token token;
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 160; i++) {
+    for (int i = 0; i < 161; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -31355,6 +31634,7 @@ Token token;
             case 157: jj_3_158(); break;
             case 158: jj_3_159(); break;
             case 159: jj_3_160(); break;
+            case 160: jj_3_161(); break;
           }
         }
         p = p.next;
@@ -147,55 +147,56 @@ public interface OrientSqlTreeConstants
   public int JJTPROFILESTORAGESTATEMENT = 141;
   public int JJTTRUNCATECLASSSTATEMENT = 142;
   public int JJTTRUNCATECLUSTERSTATEMENT = 143;
-  public int JJTTRUNCATERECORDSTATEMENT = 144;
-  public int JJTFINDREFERENCESSTATEMENT = 145;
-  public int JJTCREATECLASSSTATEMENT = 146;
-  public int JJTCREATEVIEWSTATEMENT = 147;
-  public int JJTALTERCLASSSTATEMENT = 148;
-  public int JJTDROPCLASSSTATEMENT = 149;
-  public int JJTDROPVIEWSTATEMENT = 150;
-  public int JJTIFNOTEXISTS = 151;
-  public int JJTCREATEPROPERTYSTATEMENT = 152;
-  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 153;
-  public int JJTALTERPROPERTYSTATEMENT = 154;
-  public int JJTDROPPROPERTYSTATEMENT = 155;
-  public int JJTCREATEINDEXSTATEMENT = 156;
-  public int JJTREBUILDINDEXSTATEMENT = 157;
-  public int JJTDROPINDEXSTATEMENT = 158;
-  public int JJTCREATECLUSTERSTATEMENT = 159;
-  public int JJTALTERCLUSTERSTATEMENT = 160;
-  public int JJTDROPCLUSTERSTATEMENT = 161;
-  public int JJTALTERDATABASESTATEMENT = 162;
-  public int JJTCOMMANDLINEOPTION = 163;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 164;
-  public int JJTCREATELINKSTATEMENT = 165;
-  public int JJTEXPLAINSTATEMENT = 166;
-  public int JJTPROFILESTATEMENT = 167;
-  public int JJTPERMISSION = 168;
-  public int JJTRESOURCEPATHITEM = 169;
-  public int JJTGRANTSTATEMENT = 170;
-  public int JJTREVOKESTATEMENT = 171;
-  public int JJTCREATEFUNCTIONSTATEMENT = 172;
-  public int JJTCREATEUSERSTATEMENT = 173;
-  public int JJTDROPUSERSTATEMENT = 174;
-  public int JJTLETSTATEMENT = 175;
-  public int JJTBEGINSTATEMENT = 176;
-  public int JJTCOMMITSTATEMENT = 177;
-  public int JJTROLLBACKSTATEMENT = 178;
-  public int JJTRETURNSTATEMENT = 179;
-  public int JJTIFSTATEMENT = 180;
-  public int JJTSLEEPSTATEMENT = 181;
-  public int JJTCONSOLESTATEMENT = 182;
-  public int JJTCREATESEQUENCESTATEMENT = 183;
-  public int JJTALTERSEQUENCESTATEMENT = 184;
-  public int JJTDROPSEQUENCESTATEMENT = 185;
-  public int JJTHASTATUSSTATEMENT = 186;
-  public int JJTHAREMOVESERVERSTATEMENT = 187;
-  public int JJTHASYNCDATABASESTATEMENT = 188;
-  public int JJTHASYNCCLUSTERSTATEMENT = 189;
-  public int JJTHASETSTATEMENT = 190;
-  public int JJTFOREACHBLOCK = 191;
-  public int JJTWHILEBLOCK = 192;
+  public int JJTCOMPACTCLUSTERSTATEMENT = 144;
+  public int JJTTRUNCATERECORDSTATEMENT = 145;
+  public int JJTFINDREFERENCESSTATEMENT = 146;
+  public int JJTCREATECLASSSTATEMENT = 147;
+  public int JJTCREATEVIEWSTATEMENT = 148;
+  public int JJTALTERCLASSSTATEMENT = 149;
+  public int JJTDROPCLASSSTATEMENT = 150;
+  public int JJTDROPVIEWSTATEMENT = 151;
+  public int JJTIFNOTEXISTS = 152;
+  public int JJTCREATEPROPERTYSTATEMENT = 153;
+  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 154;
+  public int JJTALTERPROPERTYSTATEMENT = 155;
+  public int JJTDROPPROPERTYSTATEMENT = 156;
+  public int JJTCREATEINDEXSTATEMENT = 157;
+  public int JJTREBUILDINDEXSTATEMENT = 158;
+  public int JJTDROPINDEXSTATEMENT = 159;
+  public int JJTCREATECLUSTERSTATEMENT = 160;
+  public int JJTALTERCLUSTERSTATEMENT = 161;
+  public int JJTDROPCLUSTERSTATEMENT = 162;
+  public int JJTALTERDATABASESTATEMENT = 163;
+  public int JJTCOMMANDLINEOPTION = 164;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 165;
+  public int JJTCREATELINKSTATEMENT = 166;
+  public int JJTEXPLAINSTATEMENT = 167;
+  public int JJTPROFILESTATEMENT = 168;
+  public int JJTPERMISSION = 169;
+  public int JJTRESOURCEPATHITEM = 170;
+  public int JJTGRANTSTATEMENT = 171;
+  public int JJTREVOKESTATEMENT = 172;
+  public int JJTCREATEFUNCTIONSTATEMENT = 173;
+  public int JJTCREATEUSERSTATEMENT = 174;
+  public int JJTDROPUSERSTATEMENT = 175;
+  public int JJTLETSTATEMENT = 176;
+  public int JJTBEGINSTATEMENT = 177;
+  public int JJTCOMMITSTATEMENT = 178;
+  public int JJTROLLBACKSTATEMENT = 179;
+  public int JJTRETURNSTATEMENT = 180;
+  public int JJTIFSTATEMENT = 181;
+  public int JJTSLEEPSTATEMENT = 182;
+  public int JJTCONSOLESTATEMENT = 183;
+  public int JJTCREATESEQUENCESTATEMENT = 184;
+  public int JJTALTERSEQUENCESTATEMENT = 185;
+  public int JJTDROPSEQUENCESTATEMENT = 186;
+  public int JJTHASTATUSSTATEMENT = 187;
+  public int JJTHAREMOVESERVERSTATEMENT = 188;
+  public int JJTHASYNCDATABASESTATEMENT = 189;
+  public int JJTHASYNCCLUSTERSTATEMENT = 190;
+  public int JJTHASETSTATEMENT = 191;
+  public int JJTFOREACHBLOCK = 192;
+  public int JJTWHILEBLOCK = 193;
 
 
   public String[] jjtNodeName = {
@@ -343,6 +344,7 @@ public interface OrientSqlTreeConstants
     "ProfileStorageStatement",
     "TruncateClassStatement",
     "TruncateClusterStatement",
+    "CompactClusterStatement",
     "TruncateRecordStatement",
     "FindReferencesStatement",
     "CreateClassStatement",
@@ -394,4 +396,4 @@ public interface OrientSqlTreeConstants
     "WhileBlock",
   };
 }
-/* JavaCC - OriginalChecksum=3d1915b3abd744c652b0f305af1781af (do not edit this line) */
+/* JavaCC - OriginalChecksum=9962b722a91be38203a42ec9d7ef10da (do not edit this line) */
@@ -45,8 +45,14 @@ public class OCachePointer {
 
   private volatile WritersListener writersListener;
 
-  private final ByteBuffer      buffer;
-  private final OByteBufferPool bufferPool;
+  private volatile ByteBuffer      buffer;
+  private final    OByteBufferPool bufferPool;
+
+  /**
+   * Whether {@link #buffer} is read-only view of the page which is mapped into memory directly from the file. Such buffer is
+   * replaced by the copy allocated from {@link #bufferPool} once exclusive lock is acquired.
+   */
+  private volatile boolean mapped;
 
   private long version;
 
@@ -54,8 +60,18 @@ public class OCachePointer {
   private final long pageIndex;
 
   public OCachePointer(final ByteBuffer buffer, final OByteBufferPool bufferPool, final long fileId, final long pageIndex) {
+    this(buffer, bufferPool, fileId, pageIndex, false);
+  }
+
+  /**
+   * @param mapped Whether passed in buffer is read-only view of the page mapped into memory from the file, in such case buffer is
+   *               not returned into the pool once pointer is released.
+   */
+  public OCachePointer(final ByteBuffer buffer, final OByteBufferPool bufferPool, final long fileId, final long pageIndex,
+      final boolean mapped) {
     this.buffer = buffer;
     this.bufferPool = bufferPool;
+    this.mapped = mapped;
 
     this.fileId = fileId;
     this.pageIndex = pageIndex;
@@ -163,6 +179,13 @@ public class OCachePointer {
     decrementReferrer();
   }
 
+  /**
+   * @return Amount of writers of this page, page which has writers is kept in write cache and is not flushed to the disk yet.
+   */
+  public int getWritersReferrer() {
+    return getWriters(readersWritersReferrer.get());
+  }
+
   /**
    * DEBUG only !!!
    *
@@ -178,7 +201,7 @@ public class OCachePointer {
 
   public void decrementReferrer() {
     final int rf = referrersCount.decrementAndGet();
-    if (rf == 0 && buffer != null) {
+    if (rf == 0 && buffer != null && !mapped) {
       bufferPool.release(buffer);
     }
 
@@ -198,9 +221,17 @@ public class OCachePointer {
     return buffer.duplicate().order(ByteOrder.nativeOrder());
   }
 
+  public boolean isMapped() {
+    return mapped;
+  }
+
   public void acquireExclusiveLock() {
     readWriteLock.writeLock().lock();
     version++;
+
+    if (mapped) {
+      copyMappedBuffer();
+    }
   }
 
   public boolean tryAcquireExclusiveLock() {
@@ -208,11 +239,32 @@ public class OCachePointer {
 
     if (result) {
       version++;
+
+      if (mapped) {
+        copyMappedBuffer();
+      }
     }
 
     return result;
   }
 
+  /**
+   * Replaces read-only view of the mapped file by the copy of page allocated from the pool, so page can be changed without
+   * changing of the file content. Called under exclusive lock so none of the readers use the view at the moment.
+   */
+  private void copyMappedBuffer() {
+    final ByteBuffer mappedBuffer = buffer.duplicate();
+    final ByteBuffer copy = bufferPool.acquireDirect(false);
+
+    mappedBuffer.position(0);
+    copy.position(0);
+    copy.put(mappedBuffer);
+    copy.position(0);
+
+    buffer = copy;
+    mapped = false;
+  }
+
   public long getVersion() {
     return version;
   }
@@ -249,10 +301,10 @@ public class OCachePointer {
       OLogManager.instance().error(this, "OCachePointer.finalize: writers != 0", null);
     }
 
-    if (needInfo && buffer != null)
+    if (needInfo && buffer != null && !mapped)
       bufferPool.logTrackedBufferInfo("finalizing", buffer);
 
-    if (referrersCount.get() > 0 && buffer != null) {
+    if (referrersCount.get() > 0 && buffer != null && !mapped) {
       if (!needInfo) // not logged yet
         bufferPool.logTrackedBufferInfo("finalizing", buffer);
       bufferPool.release(buffer);
@@ -80,10 +80,27 @@ public interface OReadCache {
 
   long getUsedMemory();
 
+  /**
+   * Changes amount of memory which may be used by given cache.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
+   */
+  void changeMaximumAmountOfMemory(long readCacheMaxMemory) throws IllegalStateException;
+
   void clear();
 
   void truncateFile(long fileId, OWriteCache writeCache) throws IOException;
 
+  /**
+   * Removes all pages of the file starting from the page with index <code>pageCount</code> both from this cache and from the
+   * write cache.
+   *
+   * @see OWriteCache#shrinkFile(long, long)
+   */
+  void shrinkFile(long fileId, long pageCount, OWriteCache writeCache) throws IOException;
+
   void closeFile(long fileId, boolean flush, OWriteCache writeCache);
 
   void deleteFile(long fileId, OWriteCache writeCache) throws IOException;
@@ -108,6 +108,16 @@ public interface OWriteCache {
 
   void truncateFile(long fileId) throws IOException;
 
+  /**
+   * Removes all pages of the file starting from the page with index <code>pageCount</code>. Content of removed pages is discarded
+   * even if it was not flushed yet, so caller should guarantee that removed pages are not used and are not going to be restored
+   * from WAL.
+   *
+   * @param fileId    Id of the file to shrink.
+   * @param pageCount Amount of pages which should be left in the file.
+   */
+  void shrinkFile(long fileId, long pageCount) throws IOException;
+
   void renameFile(long fileId, String newFileName) throws IOException;
 
   /**
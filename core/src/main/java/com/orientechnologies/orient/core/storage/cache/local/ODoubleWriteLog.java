@@ -0,0 +1,324 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.log.OLogManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Double write log protects pages of data files from torn writes. Chunk of pages is appended to the log and log is forced to the
+ * disk before pages are written in place, so if process is terminated in the middle of in place write the latest complete image
+ * of the page is still present in the log and is written back to the data file by {@link #restore(PageRestorer)} during the next
+ * open of the storage.
+ * <p>
+ * Each record of the log contains internal id of the file, index of the first page, amount of continuous pages, content of the
+ * pages and CRC32 of all previous fields. Records are only appended, so the latest image of the page is the last one.
+ * <p>
+ * Content of the log is needed only till pages are forced to the data files, so once log size exceeds the limit, or when data
+ * file is truncated or deleted, all files which have pages in the log are forced to the disk and the log is truncated. Such
+ * operation is called checkpoint of the log.
+ */
+public final class ODoubleWriteLog {
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+
+  private final Path              path;
+  private final long              maxSize;
+  private final int               pageSize;
+  private final FilesSynchronizer filesSynchronizer;
+
+  /**
+   * Shared lock is held by writers from the moment when pages are appended to the log till the moment when they are written in
+   * place, exclusive lock is held during checkpoint, so log is never truncated if there are in place writes in progress.
+   */
+  private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+
+  private final Object forceLock = new Object();
+
+  /**
+   * Internal ids of files which have pages in the log.
+   */
+  private final Set<Integer> files = ConcurrentHashMap.newKeySet();
+
+  private FileChannel channel;
+
+  private long size;
+
+  /**
+   * Size of the log which is guaranteed to be forced to the disk, guarded by {@link #forceLock}.
+   */
+  private long forcedSize;
+
+  public ODoubleWriteLog(final Path path, final long maxSize, final int pageSize, final FilesSynchronizer filesSynchronizer) {
+    this.path = path;
+    this.maxSize = maxSize;
+    this.pageSize = pageSize;
+    this.filesSynchronizer = filesSynchronizer;
+  }
+
+  public void open() throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    size = channel.size();
+    forcedSize = size;
+  }
+
+  /**
+   * Appends pages to the log and forces them to the disk. Forces of concurrent writers are merged, so each writer waits only till
+   * the log is forced at least till the end of its own record.
+   * <p>
+   * Has to be followed by {@link #completeWrite()} once pages are written in place.
+   *
+   * @param intId          Internal id of the file of the pages.
+   * @param startPageIndex Index of the first page.
+   * @param pages          Content of continuous pages starting from the given page, positions of buffers are not changed.
+   */
+  public void startWrite(final int intId, final long startPageIndex, final ByteBuffer[] pages) throws IOException {
+    final long recordSize = RECORD_HEADER_SIZE + (long) pages.length * pageSize + Integer.BYTES;
+    if (getSize() + recordSize > maxSize)
+      checkpoint();
+
+    final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE).order(ByteOrder.nativeOrder());
+    header.putInt(intId);
+    header.putLong(startPageIndex);
+    header.putInt(pages.length);
+    header.flip();
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(header.duplicate());
+
+    final ByteBuffer[] buffers = new ByteBuffer[pages.length + 2];
+    buffers[0] = header;
+
+    for (int i = 0; i < pages.length; i++) {
+      final ByteBuffer page = pages[i].duplicate();
+      page.position(0);
+      page.limit(pageSize);
+
+      crc32.update(page.duplicate());
+      buffers[i + 1] = page;
+    }
+
+    final ByteBuffer crc = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.nativeOrder());
+    crc.putInt(0, (int) crc32.getValue());
+    buffers[buffers.length - 1] = crc;
+
+    checkpointLock.readLock().lock();
+    try {
+      files.add(intId);
+
+      final long recordEnd;
+      synchronized (this) {
+        channel.position(size);
+
+        long written = 0;
+        while (written < recordSize) {
+          written += channel.write(buffers);
+        }
+
+        size += recordSize;
+        recordEnd = size;
+      }
+
+      force(recordEnd);
+    } catch (IOException | RuntimeException e) {
+      checkpointLock.readLock().unlock();
+      throw e;
+    }
+  }
+
+  /**
+   * Notifies log that pages passed in {@link #startWrite(int, long, ByteBuffer[])} are written in place.
+   */
+  public void completeWrite() {
+    checkpointLock.readLock().unlock();
+  }
+
+  private void force(final long recordEnd) throws IOException {
+    synchronized (forceLock) {
+      if (forcedSize >= recordEnd)
+        return;
+
+      final long currentSize;
+      synchronized (this) {
+        currentSize = size;
+      }
+
+      channel.force(false);
+      forcedSize = currentSize;
+    }
+  }
+
+  /**
+   * Forces all files which have pages in the log and truncates the log. Waits till all writes started by
+   * {@link #startWrite(int, long, ByteBuffer[])} are completed.
+   */
+  public void checkpoint() throws IOException {
+    checkpointLock.writeLock().lock();
+    try {
+      if (size == 0)
+        return;
+
+      filesSynchronizer.synch(new ArrayList<>(files));
+      files.clear();
+
+      synchronized (forceLock) {
+        synchronized (this) {
+          channel.truncate(0);
+          channel.force(true);
+
+          size = 0;
+          forcedSize = 0;
+        }
+      }
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Passes the latest complete images of the pages stored in the log to the restorer. Log is read till the first broken record,
+   * such record was not forced completely so its pages were not written in place. Log is not truncated by this method, so
+   * {@link #checkpoint()} should be called once all pages are restored.
+   *
+   * @return Amount of restored pages.
+   */
+  public int restore(final PageRestorer restorer) throws IOException {
+    checkpointLock.writeLock().lock();
+    try {
+      final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE).order(ByteOrder.nativeOrder());
+      final ByteBuffer crc = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.nativeOrder());
+
+      int restoredPages = 0;
+      long position = 0;
+
+      while (position + RECORD_HEADER_SIZE <= size) {
+        header.clear();
+        readFully(header, position);
+
+        final int intId = header.getInt(0);
+        final long startPageIndex = header.getLong(Integer.BYTES);
+        final int pageCount = header.getInt(Integer.BYTES + Long.BYTES);
+
+        final long recordSize = RECORD_HEADER_SIZE + (long) pageCount * pageSize + Integer.BYTES;
+        if (pageCount <= 0 || startPageIndex < 0 || position + recordSize > size)
+          break;
+
+        final ByteBuffer pages = ByteBuffer.allocate(pageCount * pageSize).order(ByteOrder.nativeOrder());
+        readFully(pages, position + RECORD_HEADER_SIZE);
+
+        crc.clear();
+        readFully(crc, position + recordSize - Integer.BYTES);
+
+        final CRC32 crc32 = new CRC32();
+        header.position(0);
+        crc32.update(header);
+        pages.position(0);
+        crc32.update(pages);
+
+        if ((int) crc32.getValue() != crc.getInt(0)) {
+          OLogManager.instance().warnNoDb(this, "Double write log %s is broken at position %d, the rest of log is skipped", path,
+              position);
+          break;
+        }
+
+        files.add(intId);
+
+        for (int i = 0; i < pageCount; i++) {
+          pages.limit((i + 1) * pageSize);
+          pages.position(i * pageSize);
+
+          restorer.restorePage(intId, startPageIndex + i, pages.slice().order(ByteOrder.nativeOrder()));
+          restoredPages++;
+        }
+
+        pages.clear();
+        position += recordSize;
+      }
+
+      return restoredPages;
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+  }
+
+  private void readFully(final ByteBuffer buffer, final long position) throws IOException {
+    int read = 0;
+    while (buffer.hasRemaining()) {
+      final int r = channel.read(buffer, position + read);
+      if (r < 0)
+        throw new IOException("Unexpected end of double write log " + path);
+
+      read += r;
+    }
+
+    buffer.flip();
+  }
+
+  /**
+   * Performs checkpoint and closes the log, empty log file remains on the disk.
+   */
+  public void close() throws IOException {
+    checkpoint();
+    channel.close();
+  }
+
+  /**
+   * Closes and deletes the log file without checkpoint.
+   */
+  public void delete() throws IOException {
+    if (channel.isOpen())
+      channel.close();
+
+    Files.deleteIfExists(path);
+  }
+
+  public long getSize() {
+    synchronized (this) {
+      return size;
+    }
+  }
+
+  /**
+   * Forces content of the data files to the disk.
+   */
+  public interface FilesSynchronizer {
+    void synch(Collection<Integer> intIds) throws IOException;
+  }
+
+  /**
+   * Writes image of the page stored in the log back to the data file.
+   */
+  public interface PageRestorer {
+    void restorePage(int intId, long pageIndex, ByteBuffer page) throws IOException;
+  }
+}
@@ -0,0 +1,303 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Detects sequential access to the pages of each file of the storage and loads pages which are going to be requested next into the
+ * read cache in background threads.
+ * <p>
+ * Components notify manager about each page which is read during scan by call of {@link #pageRead(long, long)}. Once several pages
+ * of the same file are read one after another, manager starts to read ahead window of pages which follow the last requested page.
+ * Next window is requested once half of the previous one is consumed, and size of each next window is doubled till it reaches
+ * {@link OGlobalConfiguration#DISK_CACHE_READ_AHEAD_MAX_PAGES}. Any non sequential access resets window to its minimal size.
+ * <p>
+ * Pages are loaded through the read cache, so prefetched pages are subject to the usual eviction policy and pages which are
+ * already cached are not read again.
+ */
+public final class OReadAheadManager {
+  /**
+   * Amount of sequential page reads after which read ahead is started.
+   */
+  private static final int SEQUENTIAL_READS_THRESHOLD = 2;
+
+  /**
+   * Maximum distance between two page indexes which is still treated as sequential access, it allows to skip pages which are not
+   * needed by scan (for example pages of cluster which do not contain start chunks of records).
+   */
+  private static final int MAX_SEQUENTIAL_GAP = 2;
+
+  /**
+   * Executor which performs read ahead requests of all storages. Queue of requests is bounded, if it is full request is dropped,
+   * so slow disks do not cause growth of memory consumption.
+   */
+  private static final ExecutorService readAheadExecutor;
+
+  static {
+    final int threads = Math.max(1, OGlobalConfiguration.DISK_CACHE_READ_AHEAD_THREADS.getValueAsInteger());
+    readAheadExecutor = new OThreadPoolExecutorWithLogging(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(64 * threads), new ReadAheadThreadFactory());
+  }
+
+  private final OReadCache  readCache;
+  private final OWriteCache writeCache;
+
+  private final int minPages;
+  private final int maxPages;
+
+  private final ConcurrentHashMap<Long, FileStream> streams = new ConcurrentHashMap<>();
+
+  /**
+   * Read ahead tasks hold shared lock during execution, exclusive lock is acquired on close to wait till all running tasks are
+   * completed, otherwise pages of already closed storage could be put into the read cache.
+   */
+  private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+  private volatile boolean closed;
+
+  private final LongAdder requestsCount        = new LongAdder();
+  private final LongAdder pagesCount           = new LongAdder();
+  private final LongAdder droppedRequestsCount = new LongAdder();
+
+  public OReadAheadManager(final OReadCache readCache, final OWriteCache writeCache) {
+    this(readCache, writeCache, OGlobalConfiguration.DISK_CACHE_READ_AHEAD_MIN_PAGES.getValueAsInteger(),
+        OGlobalConfiguration.DISK_CACHE_READ_AHEAD_MAX_PAGES.getValueAsInteger());
+  }
+
+  public OReadAheadManager(final OReadCache readCache, final OWriteCache writeCache, final int minPages, final int maxPages) {
+    this.readCache = readCache;
+    this.writeCache = writeCache;
+    this.minPages = Math.max(1, minPages);
+    this.maxPages = Math.max(this.minPages, maxPages);
+  }
+
+  /**
+   * Registers read of the page during scan of the file and starts read ahead of following pages if sequential access is detected.
+   *
+   * @param fileId    Id of the file to which page belongs
+   * @param pageIndex Index of the page which is read
+   */
+  public void pageRead(final long fileId, final long pageIndex) {
+    if (closed)
+      return;
+
+    final FileStream stream = streams.computeIfAbsent(fileId, (id) -> new FileStream(minPages));
+
+    final long readAheadStart;
+    final int readAheadSize;
+
+    synchronized (stream) {
+      final long distance = pageIndex - stream.lastPageIndex;
+      if (distance == 0)
+        return;
+
+      stream.lastPageIndex = pageIndex;
+
+      if (distance < 0 || distance > MAX_SEQUENTIAL_GAP) {
+        stream.sequentialReads = 0;
+        stream.window = minPages;
+        stream.lastRequestSize = 0;
+        stream.readAheadEnd = pageIndex + 1;
+        return;
+      }
+
+      stream.sequentialReads++;
+      if (stream.sequentialReads < SEQUENTIAL_READS_THRESHOLD)
+        return;
+
+      //request next window once half of the previous one is consumed
+      if (stream.readAheadEnd - pageIndex > stream.lastRequestSize / 2)
+        return;
+
+      readAheadStart = Math.max(stream.readAheadEnd, pageIndex + 1);
+      readAheadSize = stream.window;
+
+      stream.readAheadEnd = readAheadStart + readAheadSize;
+      stream.lastRequestSize = readAheadSize;
+      stream.window = Math.min(maxPages, 2 * stream.window);
+    }
+
+    try {
+      readAheadExecutor.execute(new ReadAheadTask(stream, fileId, readAheadStart, readAheadSize));
+      requestsCount.increment();
+    } catch (RejectedExecutionException e) {
+      droppedRequestsCount.increment();
+    }
+  }
+
+  /**
+   * Cancels pending read ahead requests of the file and waits till running requests of this file are completed. Should be called
+   * before the file is closed, truncated, shrunk or deleted, otherwise pages which are read ahead may be still in use by read ahead
+   * threads or may be loaded from the file which is already removed.
+   *
+   * @param fileId Id of the file read ahead of which is cancelled
+   */
+  public void cancelReadAhead(final long fileId) {
+    final FileStream stream = streams.remove(fileId);
+    if (stream == null)
+      return;
+
+    final Lock lock = stream.tasksLock.writeLock();
+    lock.lock();
+    try {
+      stream.cancelled = true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops read ahead of pages and waits till all running read ahead requests are completed. Should be called before read and write
+   * caches of storage are closed.
+   */
+  public void close() {
+    final Lock lock = closeLock.writeLock();
+    lock.lock();
+    try {
+      closed = true;
+      streams.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return Amount of read ahead requests which were submitted for execution
+   */
+  public long getRequestsCount() {
+    return requestsCount.sum();
+  }
+
+  /**
+   * @return Amount of pages which were requested to be read ahead
+   */
+  public long getPagesCount() {
+    return pagesCount.sum();
+  }
+
+  /**
+   * @return Amount of read ahead requests which were dropped because queue of read ahead requests was full
+   */
+  public long getDroppedRequestsCount() {
+    return droppedRequestsCount.sum();
+  }
+
+  private static final class FileStream {
+    /**
+     * Read ahead tasks of the file hold shared lock during execution, exclusive lock is acquired once read ahead of the file is
+     * cancelled, see {@link #cancelReadAhead(long)}.
+     */
+    private final ReadWriteLock tasksLock = new ReentrantReadWriteLock();
+    private       boolean       cancelled;
+
+    private long lastPageIndex = -1;
+    private int  sequentialReads;
+    private int  window;
+    private int  lastRequestSize;
+    private long readAheadEnd;
+
+    private FileStream(final int window) {
+      this.window = window;
+    }
+  }
+
+  private final class ReadAheadTask implements Runnable {
+    private final FileStream stream;
+    private final long       fileId;
+    private final long       startPageIndex;
+    private final int        pageCount;
+
+    private ReadAheadTask(final FileStream stream, final long fileId, final long startPageIndex, final int pageCount) {
+      this.stream = stream;
+      this.fileId = fileId;
+      this.startPageIndex = startPageIndex;
+      this.pageCount = pageCount;
+    }
+
+    @Override
+    public void run() {
+      final Lock lock = closeLock.readLock();
+      if (!lock.tryLock())
+        return;
+
+      final Lock streamLock = stream.tasksLock.readLock();
+      streamLock.lock();
+      try {
+        if (closed || stream.cancelled)
+          return;
+
+        final long endPageIndex = Math.min(startPageIndex + pageCount, writeCache.getFilledUpTo(fileId));
+
+        //if first page of the range is already cached only this page is returned by the cache,
+        //so we move through the range till all of the requested pages are loaded
+        for (long pageIndex = startPageIndex; pageIndex < endPageIndex; pageIndex++) {
+          final OCacheEntry cacheEntry = readCache
+              .loadForRead(fileId, pageIndex, false, writeCache, (int) (endPageIndex - pageIndex), true);
+          if (cacheEntry == null)
+            break;
+
+          readCache.releaseFromRead(cacheEntry, writeCache);
+        }
+
+        if (endPageIndex > startPageIndex)
+          pagesCount.add(endPageIndex - startPageIndex);
+      } catch (IOException | RuntimeException e) {
+        //file may be deleted or truncated concurrently, read ahead is only a hint so we just skip it
+        OLogManager.instance().debug(this, "Read ahead of pages of file %d was skipped", e, fileId);
+      } finally {
+        streamLock.unlock();
+        lock.unlock();
+      }
+    }
+  }
+
+  private static final class ReadAheadThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Read Ahead Thread " + counter.incrementAndGet());
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    }
+  }
+}
@@ -38,6 +38,9 @@ import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OTriple;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -68,6 +71,7 @@ import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -75,6 +79,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -93,6 +98,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -131,16 +138,35 @@ import java.util.zip.CRC32;
 public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCachePointer.WritersListener {
   /**
    * If distance between last WAL log record and WAL record changes of which are for sure present in data files bigger than this
-   * value we switch flush mode to {@link FLUSH_MODE#LSN} if current mode is {@link FLUSH_MODE#IDLE}
+   * value we switch flush mode to {@link FLUSH_MODE#LSN} if current mode is {@link FLUSH_MODE#IDLE}. If adaptive flush is used
+   * pages are flushed as fast as possible once this distance is reached.
    */
   private static final long WAL_SIZE_TO_START_FLUSH = OGlobalConfiguration.DISK_CACHE_WAL_SIZE_TO_START_FLUSH.getValueAsLong();
 
   /**
    * If distance between last WAL log record and WAL record changes of which are for sure present in data files is less than this
-   * value we switch from {@link FLUSH_MODE#LSN} flush mode to {@link FLUSH_MODE#IDLE}
+   * value we switch from {@link FLUSH_MODE#LSN} flush mode to {@link FLUSH_MODE#IDLE}. If adaptive flush is used pages are not
+   * flushed till this distance is reached.
    */
   private static final long WAL_SIZE_TO_STOP_FLUSH = OGlobalConfiguration.DISK_CACHE_WAL_SIZE_TO_STOP_FLUSH.getValueAsLong();
 
+  /**
+   * If <code>true</code> flush modes based on {@link #WAL_SIZE_TO_START_FLUSH} and {@link #WAL_SIZE_TO_STOP_FLUSH} are replaced by
+   * continuous flush of dirty pages, see {@link #adaptiveFlushPages(long, long, long, int, double)}.
+   */
+  private static final boolean ADAPTIVE_FLUSH = OGlobalConfiguration.DISK_CACHE_ADAPTIVE_FLUSH.getValueAsBoolean();
+
+  /**
+   * Amount of flush intervals during which distance between the oldest not flushed change and the end of WAL is reduced to the lower
+   * boundary of adaptive flush if WAL does not grow.
+   */
+  private static final int ADAPTIVE_FLUSH_IDLE_INTERVALS = 1000;
+
+  /**
+   * Weight of the last measurement in moving averages of WAL growth and flush rates.
+   */
+  private static final double RATE_SMOOTHING_FACTOR = 0.25;
+
   /**
    * If portion of exclusive pages in write cache is bigger than this value which we switch flush mode to {@link
    * FLUSH_MODE#EXCLUSIVE} and back to {@link FLUSH_MODE#IDLE} if portion of exclusive pages less than this boundary
@@ -166,11 +192,26 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
    */
   private static final int CHUNK_SIZE = 32;
 
+  /**
+   * Maximum amount of chunks per writer thread which are copied from write cache but not written to the disk yet.
+   */
+  private static final int WRITES_IN_FLIGHT_PER_WRITER = Math
+      .max(1, OGlobalConfiguration.DISK_CACHE_FLUSH_WRITES_IN_FLIGHT.getValueAsInteger());
+
   /**
    * Extension for the file which contains mapping between file name and file id
    */
   public static final String NAME_ID_MAP_EXTENSION = ".cm";
 
+  /**
+   * Extension for the file of double write log
+   *
+   * @see ODoubleWriteLog
+   */
+  public static final String DOUBLE_WRITE_LOG_EXTENSION = ".dwl";
+
+  private static final String DOUBLE_WRITE_LOG = "double_write" + DOUBLE_WRITE_LOG_EXTENSION;
+
   /**
    * Name for file which contains first version of binary format
    */
@@ -213,6 +254,23 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   private static final int PAGE_OFFSET_TO_CHECKSUM_FROM = OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE;
 
+  /**
+   * Marks pages which are stored in compressed form. Such page contains length of compressed content, name of compression
+   * algorithm (length of name in single byte is followed by name itself) and compressed content of the page. Magic number and
+   * checksum of original page are part of compressed content.
+   */
+  private static final long MAGIC_NUMBER_COMPRESSED = 0x5A1C0DE5L;
+
+  private static final int COMPRESSED_LENGTH_OFFSET = MAGIC_NUMBER_OFFSET + OLongSerializer.LONG_SIZE;
+
+  private static final int COMPRESSION_NAME_OFFSET = COMPRESSED_LENGTH_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  /**
+   * Size of the block of file system. Page is stored in compressed form only if at least single block of the page is not used
+   * and may be deallocated, taking into account that pages are not aligned to the blocks inside of the files.
+   */
+  private static final int FS_BLOCK_SIZE = 4 * 1024;
+
   /**
    * Limit of free space on disk after which database will be switched to "read only" mode
    */
@@ -223,6 +281,27 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
    */
   private final int diskSizeCheckInterval = OGlobalConfiguration.DISC_CACHE_FREE_SPACE_CHECK_INTERVAL_IN_PAGES.getValueAsInteger();
 
+  /**
+   * Whether pages loaded from files are accessed through memory mapped files instead of copying them into the cache buffers.
+   *
+   * @see OGlobalConfiguration#DISK_CACHE_MMAP_READS
+   */
+  private final boolean mmapReads = OGlobalConfiguration.DISK_CACHE_MMAP_READS.getValueAsBoolean();
+
+  /**
+   * Compression which is applied to the pages when they are written to the files, or <code>null</code> if pages are stored as is.
+   *
+   * @see OGlobalConfiguration#DISK_CACHE_PAGE_COMPRESSION
+   */
+  private final OCompression pageCompression = pageCompression();
+
+  /**
+   * Log which protects pages from torn writes, or <code>null</code> if it is switched off.
+   *
+   * @see OGlobalConfiguration#DISK_CACHE_DOUBLE_WRITE_LOG
+   */
+  private volatile ODoubleWriteLog doubleWriteLog;
+
   /**
    * Duration of flush of dirty pages to the disk in nano seconds
    */
@@ -446,6 +525,32 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
    */
   private static final ExecutorService cacheEventsPublisher;
 
+  /**
+   * Executors which write pages flushed from write cache to the disk and perform fsync of files. Each executor runs in single thread
+   * and all operations on the same file are performed by the same executor, so writes of the same page are never reordered.
+   *
+   * @see #pageWriter(long)
+   */
+  private static final ExecutorService[] pageWriters;
+
+  /**
+   * Buffers which are used by the threads of {@link #pageWriters} to pass content of the pages to the compression, so the page is
+   * not allocated in heap each time it is written.
+   */
+  private static final ThreadLocal<byte[]> compressionBuffers = new ThreadLocal<>();
+
+  /**
+   * Limits amount of chunks which are copied from write cache but not written to the disk yet.
+   */
+  private final Semaphore writesInFlightLimit = new Semaphore(pageWriters.length * WRITES_IN_FLIGHT_PER_WRITER);
+
+  /**
+   * Chunk writes submitted by flush thread which are not completed yet. Accessed only by the flush thread, each flush task waits
+   * till all of them are completed before it returns control, so dirty pages table is always consistent with content of the
+   * files once task is finished.
+   */
+  private final List<Future<Void>> writesInFlight = new ArrayList<>();
+
   private final AtomicBoolean stopFlush = new AtomicBoolean();
 
   private final    ConcurrentHashMap<PeriodicFlushTask, CountDownLatch> triggeredTasks = new ConcurrentHashMap<>();
@@ -453,12 +558,43 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   private final long pageFlushInterval;
 
+  /**
+   * Amount of pages written to the disk by flush thread, used to calculate {@link #flushRate}.
+   */
+  private final LongAdder flushedPagesCount = new LongAdder();
+
+  /**
+   * Distance in bytes between the oldest change which is not flushed to the disk and the end of WAL, as it was measured during last
+   * run of periodic flush task.
+   */
+  private volatile long checkpointAge;
+
+  /**
+   * Moving average of amount of pages written to the disk per second.
+   */
+  private volatile double flushRate;
+
+  /**
+   * Moving average of amount of bytes appended to WAL per second, accessed only by flush thread.
+   */
+  private double walGrowthRate;
+
+  private OLogSequenceNumber lastRateLSN;
+  private long               lastRateTs = -1;
+  private long               lastFlushedPagesCount;
+
   static {
     commitExecutor = new OScheduledThreadPoolExecutorWithLogging(1, new FlushThreadFactory());
     commitExecutor.setMaximumPoolSize(1);
 
     cacheEventsPublisher = new OThreadPoolExecutorWithLogging(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
         new CacheEventsPublisherFactory());
+
+    pageWriters = new ExecutorService[Math.max(1, OGlobalConfiguration.DISK_CACHE_FLUSH_WRITERS.getValueAsInteger())];
+    for (int i = 0; i < pageWriters.length; i++) {
+      pageWriters[i] = new OThreadPoolExecutorWithLogging(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+          new PageWriterThreadFactory(i));
+    }
   }
 
   public OWOWCache(int pageSize, OByteBufferPool bufferPool, OWriteAheadLog writeAheadLog, long pageFlushInterval,
@@ -515,11 +651,90 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     filesLock.acquireWriteLock();
     try {
       initNameIdMapping();
+      initDoubleWriteLog();
     } finally {
       filesLock.releaseWriteLock();
     }
   }
 
+  /**
+   * Restores pages from double write log left after previous session if any and opens log if it is enabled.
+   */
+  private void initDoubleWriteLog() throws IOException {
+    final Path path = storagePath.resolve(DOUBLE_WRITE_LOG);
+    final boolean enabled = OGlobalConfiguration.DISK_CACHE_DOUBLE_WRITE_LOG.getValueAsBoolean();
+
+    if (!enabled && !Files.exists(path))
+      return;
+
+    final ODoubleWriteLog log = new ODoubleWriteLog(path,
+        OGlobalConfiguration.DISK_CACHE_DOUBLE_WRITE_LOG_MAX_SIZE.getValueAsLong() * 1024 * 1024, pageSize, this::synchFilesInPlace);
+    log.open();
+
+    final int restoredPages = log.restore(this::restorePageInPlace);
+    if (restoredPages > 0)
+      OLogManager.instance()
+          .infoNoDb(this, "%d pages of storage %s were restored from double write log", restoredPages, storageLocal.getName());
+
+    log.checkpoint();
+
+    if (enabled)
+      doubleWriteLog = log;
+    else
+      log.delete();
+  }
+
+  private void restorePageInPlace(final int intId, final long pageIndex, final ByteBuffer page) throws IOException {
+    final OClosableEntry<Long, OFileClassic> entry = acquireFileInPlace(intId);
+    if (entry == null)
+      return;
+
+    try {
+      final OFileClassic fileClassic = entry.get();
+
+      //pages which were not allocated are restored from WAL
+      if ((pageIndex + 1) * pageSize > fileClassic.getFileSize())
+        return;
+
+      page.position(0);
+      fileClassic.write(pageIndex * pageSize, page);
+    } finally {
+      files.release(entry);
+    }
+  }
+
+  private void synchFilesInPlace(final Collection<Integer> intIds) {
+    for (int intId : intIds) {
+      final OClosableEntry<Long, OFileClassic> entry = acquireFileInPlace(intId);
+      if (entry == null)
+        continue;
+
+      try {
+        entry.get().synch();
+      } finally {
+        files.release(entry);
+      }
+    }
+  }
+
+  private OClosableEntry<Long, OFileClassic> acquireFileInPlace(final int intId) {
+    try {
+      return files.acquire(composeFileId(id, intId));
+    } catch (InterruptedException e) {
+      throw OException.wrapException(new OInterruptedException("Access to the file was interrupted"), e);
+    }
+  }
+
+  /**
+   * Forces all pages written in place to the disk and truncates double write log, so log does not contain pages which may be
+   * written over new content of the file. Has to be called before file is truncated, deleted or replaced.
+   */
+  private void checkpointDoubleWriteLog() throws IOException {
+    final ODoubleWriteLog log = doubleWriteLog;
+    if (log != null)
+      log.checkpoint();
+  }
+
   /**
    * Adds listener which is triggered if exception is cast inside background flush data thread.
    *
@@ -938,19 +1153,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
         writeAheadLog.logFuzzyCheckPointStart(startLSN);
 
-        for (Integer intId : nameIdMap.values()) {
-          if (intId < 0)
-            continue;
-
-          final long fileId = composeFileId(id, intId);
-          final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
-          try {
-            final OFileClassic fileClassic = entry.get();
-            fileClassic.synch();
-          } finally {
-            files.release(entry);
-          }
-        }
+        synchFiles(registeredFileIds());
 
         writeAheadLog.logFuzzyCheckPointEnd();
         writeAheadLog.flush();
@@ -1268,7 +1471,16 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   @Override
   public void flush(final long fileId) {
-    final Future<Void> future = commitExecutor.submit(new FileFlushTask(extractFileId(fileId)));
+    flushFiles(Collections.singletonList(extractFileId(fileId)));
+  }
+
+  @Override
+  public void flush() {
+    flushFiles(registeredFileIds());
+  }
+
+  private void flushFiles(final Collection<Integer> intIds) {
+    final Future<Void> future = commitExecutor.submit(new FileFlushTask(intIds));
     try {
       future.get();
     } catch (InterruptedException e) {
@@ -1279,14 +1491,16 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
-  @Override
-  public void flush() {
+  private Set<Integer> registeredFileIds() {
+    final Set<Integer> intIds = new HashSet<>();
     for (int intId : nameIdMap.values()) {
       if (intId < 0)
         continue;
 
-      flush(intId);
+      intIds.add(intId);
     }
+
+    return intIds;
   }
 
   @Override
@@ -1343,6 +1557,8 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      checkpointDoubleWriteLog();
+
       OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
         entry.get().shrink(0);
@@ -1356,6 +1572,31 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  @Override
+  public void shrinkFile(long fileId, long pageCount) throws IOException {
+    final int intId = extractFileId(fileId);
+    fileId = composeFileId(id, intId);
+
+    filesLock.acquireWriteLock();
+    try {
+      removeCachedPages(intId, pageCount);
+      checkpointDoubleWriteLog();
+
+      OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
+      try {
+        final OFileClassic fileClassic = entry.get();
+        if (fileClassic.getFileSize() > pageCount * pageSize)
+          fileClassic.shrink(pageCount * pageSize);
+      } finally {
+        files.release(entry);
+      }
+    } catch (InterruptedException e) {
+      throw OException.wrapException(new OStorageException("File shrink was interrupted"), e);
+    } finally {
+      filesLock.releaseWriteLock();
+    }
+  }
+
   @Override
   public void replaceFileContentWith(long fileId, Path newContentFile) throws IOException {
     final int intId = extractFileId(fileId);
@@ -1364,6 +1605,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      checkpointDoubleWriteLog();
 
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
@@ -1427,6 +1669,11 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
     filesLock.acquireWriteLock();
     try {
+      if (doubleWriteLog != null) {
+        doubleWriteLog.close();
+        doubleWriteLog = null;
+      }
+
       final Collection<Integer> fileIds = nameIdMap.values();
 
       final List<Long> closedIds = new ArrayList<>();
@@ -1438,6 +1685,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
           final OFileClassic fileClassic = files.remove(extId);
 
           idFileNameMap.put(intId, fileClassic.getName());
+          fileClassic.releaseMappedSegments();
           fileClassic.close();
           closedIds.add(extId);
         }
@@ -1491,6 +1739,11 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       else
         removeCachedPages(intId);
 
+      //read cache does not contain pages of the file at this point
+      final OFileClassic fileClassic = files.get(fileId);
+      if (fileClassic != null)
+        fileClassic.releaseMappedSegments();
+
       if (!files.close(fileId))
         throw new OStorageException("Can not close file with id " + internalFileId(fileId) + " because it is still in use");
     } finally {
@@ -1568,6 +1821,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
         byte[] data = new byte[pageSize];
 
         fileClassic.read(pos, data, data.length);
+        decompressPage(ByteBuffer.wrap(data).order(ByteOrder.nativeOrder()), externalId, pos / pageSize);
 
         long magicNumber = OLongSerializer.INSTANCE.deserializeNative(data, MAGIC_NUMBER_OFFSET);
 
@@ -1628,6 +1882,11 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     final List<Long> result = new ArrayList<>();
     filesLock.acquireWriteLock();
     try {
+      if (doubleWriteLog != null) {
+        doubleWriteLog.delete();
+        doubleWriteLog = null;
+      }
+
       for (int intId : nameIdMap.values()) {
         if (intId < 0)
           continue;
@@ -1724,6 +1983,20 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     return exclusiveWriteCacheSize.get();
   }
 
+  /**
+   * @return Distance in bytes between the oldest change which is not flushed to the disk and the end of WAL.
+   */
+  public long getCheckpointAge() {
+    return checkpointAge;
+  }
+
+  /**
+   * @return Amount of pages written to the disk per second by background flush.
+   */
+  public long getFlushRate() {
+    return Math.round(flushRate);
+  }
+
   private void openFile(final OFileClassic fileClassic) {
     if (fileClassic.exists()) {
       if (!fileClassic.isOpen())
@@ -2104,6 +2377,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     fileId = composeFileId(id, intId);
 
     removeCachedPages(intId);
+    checkpointDoubleWriteLog();
 
     final OFileClassic fileClassic = files.remove(fileId);
 
@@ -2119,7 +2393,11 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
   }
 
   private void removeCachedPages(int fileId) {
-    Future<Void> future = commitExecutor.submit(new RemoveFilePagesTask(fileId));
+    removeCachedPages(fileId, 0);
+  }
+
+  private void removeCachedPages(int fileId, long fromPageIndex) {
+    Future<Void> future = commitExecutor.submit(new RemoveFilePagesTask(fileId, fromPageIndex));
     try {
       future.get();
     } catch (InterruptedException e) {
@@ -2153,10 +2431,20 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
           int pagesRead = 0;
 
           try {
+            if (mmapReads) {
+              final OCachePointer[] dataPointers = mapFileContent(fileClassic, fileId, startPageIndex, pageCount, verifyChecksums);
+
+              if (dataPointers != null) {
+                pagesRead = dataPointers.length;
+                return dataPointers;
+              }
+            }
+
             if (pageCount == 1) {
               final ByteBuffer buffer = bufferPool.acquireDirect(false);
               assert buffer.position() == 0;
               fileClassic.read(firstPageStartPosition, buffer, false);
+              decompressPage(buffer, fileId, startPageIndex);
 
               if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
                   || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode))
@@ -2180,6 +2468,9 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
             fileClassic.read(firstPageStartPosition, buffers, false);
 
+            for (int i = 0; i < buffers.length; i++)
+              decompressPage(buffers[i], fileId, startPageIndex + i);
+
             if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
                 || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode))
               for (int i = 0; i < buffers.length; ++i)
@@ -2208,6 +2499,138 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  /**
+   * Creates pointers to the pages which are accessed directly through memory mapped file. Pages are copied into the pooled buffers
+   * only when they are changed.
+   *
+   * @return Pointers to the mapped pages or <code>null</code> if requested page can not be mapped and should be read from the file,
+   * for example if it is stored in compressed form.
+   */
+  private OCachePointer[] mapFileContent(final OFileClassic fileClassic, final long fileId, final long startPageIndex,
+      final int pageCount, final boolean verifyChecksums) throws IOException {
+    final long firstPageStartPosition = startPageIndex * pageSize;
+    final long maxPageCount = (fileClassic.getFileSize() - firstPageStartPosition) / pageSize;
+
+    final ByteBuffer[] buffers = new ByteBuffer[(int) Math.min(maxPageCount, pageCount)];
+    int mappedPages = 0;
+
+    while (mappedPages < buffers.length) {
+      final ByteBuffer buffer = fileClassic.map(firstPageStartPosition + mappedPages * (long) pageSize, pageSize);
+      //compressed pages can not be accessed directly
+      if (buffer == null || buffer.order(ByteOrder.nativeOrder()).getLong(MAGIC_NUMBER_OFFSET) == MAGIC_NUMBER_COMPRESSED)
+        break;
+
+      buffers[mappedPages] = buffer;
+      mappedPages++;
+    }
+
+    if (mappedPages == 0)
+      return null;
+
+    final OCachePointer[] dataPointers = new OCachePointer[mappedPages];
+    for (int n = 0; n < mappedPages; n++) {
+      final ByteBuffer buffer = buffers[n];
+
+      if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
+          || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode))
+        //mapped buffers are not allocated from the pool so there is nothing to release if verification is failed
+        verifyMagicAndChecksum(buffer, fileId, startPageIndex + n, new ByteBuffer[0]);
+
+      buffer.position(0);
+      dataPointers[n] = new OCachePointer(buffer, bufferPool, fileId, startPageIndex + n, true);
+    }
+
+    return dataPointers;
+  }
+
+  private static OCompression pageCompression() {
+    final String name = OGlobalConfiguration.DISK_CACHE_PAGE_COMPRESSION.getValueAsString();
+    if (name == null || name.isEmpty() || name.equals(ONothingCompression.NAME))
+      return null;
+
+    return OCompressionFactory.INSTANCE.getCompression(name, null);
+  }
+
+  /**
+   * Compresses content of the page if it is enabled.
+   *
+   * @return Compressed form of the page or <code>null</code> if page should be stored as is because compression does not allow
+   * to save disk space.
+   */
+  private ByteBuffer compressPage(final ByteBuffer buffer) {
+    byte[] content = compressionBuffers.get();
+    if (content == null || content.length != pageSize) {
+      content = new byte[pageSize];
+      compressionBuffers.set(content);
+    }
+
+    buffer.position(0);
+    buffer.get(content);
+    buffer.position(0);
+
+    final byte[] compressed = pageCompression.compress(content);
+    final byte[] name = pageCompression.name().getBytes(StandardCharsets.UTF_8);
+
+    final int size = COMPRESSION_NAME_OFFSET + 1 + name.length + compressed.length;
+    if (size > pageSize - 2 * FS_BLOCK_SIZE)
+      return null;
+
+    final ByteBuffer compressedPage = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+    compressedPage.putLong(MAGIC_NUMBER_COMPRESSED);
+    compressedPage.putInt(compressed.length);
+    compressedPage.put((byte) name.length);
+    compressedPage.put(name);
+    compressedPage.put(compressed);
+    compressedPage.flip();
+
+    return compressedPage;
+  }
+
+  /**
+   * Restores content of the page if it is stored in compressed form. Content of the page which can not be decompressed is
+   * zeroed, so it is reported as broken by verification of magic number.
+   */
+  private void decompressPage(final ByteBuffer buffer, final long fileId, final long pageIndex) {
+    assert buffer.order() == ByteOrder.nativeOrder();
+
+    if (buffer.getLong(MAGIC_NUMBER_OFFSET) != MAGIC_NUMBER_COMPRESSED)
+      return;
+
+    byte[] content = null;
+    try {
+      final int compressedLength = buffer.getInt(COMPRESSED_LENGTH_OFFSET);
+      final int nameLength = buffer.get(COMPRESSION_NAME_OFFSET) & 0xFF;
+      final int contentOffset = COMPRESSION_NAME_OFFSET + 1 + nameLength;
+
+      if (compressedLength >= 0 && contentOffset + compressedLength <= pageSize) {
+        final byte[] name = new byte[nameLength];
+        buffer.position(COMPRESSION_NAME_OFFSET + 1);
+        buffer.get(name);
+
+        final byte[] compressed = new byte[compressedLength];
+        buffer.get(compressed);
+
+        final OCompression compression = OCompressionFactory.INSTANCE
+            .getCompression(new String(name, StandardCharsets.UTF_8), null);
+        content = compression.uncompress(compressed);
+
+        if (content.length != pageSize)
+          content = null;
+      }
+    } catch (RuntimeException e) {
+      OLogManager.instance().error(this, "Error during decompression of page `%d` of `%s`", e, pageIndex, fileNameById(fileId));
+      content = null;
+    }
+
+    buffer.position(0);
+    if (content != null)
+      buffer.put(content);
+    else
+      buffer.put(new byte[pageSize]);
+
+    buffer.position(0);
+  }
+
   private void addMagicAndChecksum(final ByteBuffer buffer) {
     assert buffer.order() == ByteOrder.nativeOrder();
 
@@ -2290,31 +2713,6 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
-  private void flushPage(final int fileId, final long pageIndex, final ByteBuffer buffer) throws IOException, InterruptedException {
-    if (writeAheadLog != null) {
-      final OLogSequenceNumber lsn = ODurablePage.getLogSequenceNumberFromPage(buffer);
-      OLogSequenceNumber flushedLSN = writeAheadLog.getFlushedLsn();
-
-      while (flushedLSN == null || flushedLSN.compareTo(lsn) < 0) {
-        writeAheadLog.flush();
-        flushedLSN = writeAheadLog.getFlushedLsn();
-      }
-    }
-
-    final long externalId = composeFileId(id, fileId);
-    final OClosableEntry<Long, OFileClassic> entry = files.acquire(externalId);
-    try {
-      final OFileClassic fileClassic = entry.get();
-
-      addMagicAndChecksum(buffer);
-
-      buffer.position(0);
-      fileClassic.write(pageIndex * pageSize, buffer);
-    } finally {
-      files.release(entry);
-    }
-  }
-
   public void setChecksumMode(OChecksumMode checksumMode) { // for testing purposes only
     this.checksumMode = checksumMode;
   }
@@ -2509,7 +2907,9 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
           flushExclusivePagesIfNeeded();
 
           if (!flushMode.equals(FLUSH_MODE.EXCLUSIVE)) {
-            if (writeAheadLog != null) {
+            if (writeAheadLog != null && ADAPTIVE_FLUSH) {
+              flushAdaptively();
+            } else if (writeAheadLog != null) {
               long activeSegment = writeAheadLog.activeSegment();
 
               convertSharedDirtyPagesToLocal();
@@ -2551,6 +2951,8 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
             }
           }
         } finally {
+          updateRates();
+
           if (reschedule) {
             periodicFlushTask = commitExecutor.schedule(this, pageFlushInterval, TimeUnit.MILLISECONDS);
           }
@@ -2603,6 +3005,97 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  /**
+   * Flushes amount of dirty pages, starting from the page with the oldest change, which keeps distance between the oldest not flushed
+   * change and the end of WAL between {@link #WAL_SIZE_TO_STOP_FLUSH} and {@link #WAL_SIZE_TO_START_FLUSH}. Unlike flush modes
+   * which are switched on and off by those boundaries, pages are flushed in small portions on each run of periodic flush task, so
+   * flush does not compete with writers for the disk in bursts.
+   */
+  private void flushAdaptively() throws IOException, InterruptedException {
+    final OLogSequenceNumber endLSN = writeAheadLog.end();
+
+    convertSharedDirtyPagesToLocal();
+    final Map.Entry<OLogSequenceNumber, Set<PageKey>> lsnEntry = localDirtyPagesByLSN.firstEntry();
+
+    if (lsnEntry == null || endLSN == null) {
+      checkpointAge = 0;
+      return;
+    }
+
+    final long age = walDistance(lsnEntry.getKey(), endLSN);
+    checkpointAge = age;
+
+    final int pages = adaptiveFlushPages(age, WAL_SIZE_TO_STOP_FLUSH, WAL_SIZE_TO_START_FLUSH, localDirtyPages.size(),
+        walGrowthRate * pageFlushInterval / 1000);
+    if (pages > 0)
+      flushWriteCacheFromMinLSN(pages);
+  }
+
+  /**
+   * Calculates amount of dirty pages which should be flushed during single flush interval.
+   * <p>
+   * Below <code>lowBoundary</code> pages are not flushed at all, above <code>highBoundary</code> pages are flushed as fast as
+   * possible. In between, amount of pages is proportional to amount of dirty pages which correspond to bytes appended to WAL during
+   * single interval, multiplied by factor which grows from 0 at <code>lowBoundary</code> to 2 at <code>highBoundary</code>. So age
+   * of the oldest change stays near the middle of both boundaries under sustained load and is slowly reduced to the lower boundary
+   * once load stops.
+   *
+   * @param checkpointAge        Distance in bytes between the oldest not flushed change and the end of WAL
+   * @param dirtyPages           Amount of dirty pages in write cache
+   * @param walGrowthPerInterval Amount of bytes appended to WAL during single flush interval
+   *
+   * @return Amount of pages to flush, {@link Integer#MAX_VALUE} if pages should be flushed till the end of flush interval
+   */
+  static int adaptiveFlushPages(long checkpointAge, long lowBoundary, long highBoundary, int dirtyPages,
+      double walGrowthPerInterval) {
+    if (checkpointAge <= lowBoundary || dirtyPages == 0)
+      return 0;
+
+    if (checkpointAge >= highBoundary)
+      return Integer.MAX_VALUE;
+
+    final double pressure = 2.0 * (checkpointAge - lowBoundary) / (highBoundary - lowBoundary);
+    final double pagesPerWALByte = (double) dirtyPages / checkpointAge;
+    final double walBytes = Math
+        .max(walGrowthPerInterval, (double) (checkpointAge - lowBoundary) / ADAPTIVE_FLUSH_IDLE_INTERVALS);
+
+    final double pages = Math.ceil(pressure * walBytes * pagesPerWALByte);
+    return (int) Math.max(1, Math.min(dirtyPages, pages));
+  }
+
+  /**
+   * @return Approximate amount of bytes between two LSNs, all segments except the last one are considered to be full.
+   */
+  private static long walDistance(OLogSequenceNumber from, OLogSequenceNumber to) {
+    final long distance = (to.getSegment() - from.getSegment()) * WAL_SEGMENT_SIZE + to.getPosition() - from.getPosition();
+    return Math.max(0, distance);
+  }
+
+  /**
+   * Updates moving averages of WAL growth and flush rates, called by flush thread after each run of periodic flush task.
+   */
+  private void updateRates() {
+    final long ts = System.nanoTime();
+    final long flushedPages = flushedPagesCount.sum();
+    final OLogSequenceNumber endLSN = writeAheadLog != null ? writeAheadLog.end() : null;
+
+    if (lastRateTs >= 0 && ts > lastRateTs) {
+      final double seconds = (ts - lastRateTs) / 1_000_000_000.0;
+
+      flushRate = smooth(flushRate, (flushedPages - lastFlushedPagesCount) / seconds);
+      if (endLSN != null && lastRateLSN != null)
+        walGrowthRate = smooth(walGrowthRate, walDistance(lastRateLSN, endLSN) / seconds);
+    }
+
+    lastRateTs = ts;
+    lastFlushedPagesCount = flushedPages;
+    lastRateLSN = endLSN;
+  }
+
+  private static double smooth(double average, double value) {
+    return average + RATE_SMOOTHING_FACTOR * (value - average);
+  }
+
   final class FindMinDirtyLSN implements Callable<OLogSequenceNumber> {
     @Override
     public OLogSequenceNumber call() {
@@ -2665,6 +3158,14 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
   }
 
   private void flushWriteCacheFromMinLSN() throws IOException, InterruptedException {
+    flushWriteCacheFromMinLSN(Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param maxPages Maximum amount of pages to flush, flush is stopped earlier if it takes longer than {@link
+   *                 #backgroundFlushInterval}
+   */
+  private void flushWriteCacheFromMinLSN(int maxPages) throws IOException, InterruptedException {
     //first we try to find page which contains the oldest not flushed changes
     //that is needed to allow to compact WAL as earlier as possible
     convertSharedDirtyPagesToLocal();
@@ -2678,7 +3179,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     long endTs = startTs;
 
     flushCycle:
-    while ((endTs - startTs < backgroundFlushInterval)) {
+    while ((endTs - startTs < backgroundFlushInterval) && copiedPages < maxPages) {
       long lastFileId = -1;
       long lastPageIndex = -1;
 
@@ -2708,7 +3209,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       long firstFileId = -1;
 
       try {
-        while (chunk.size() < CHUNK_SIZE && (endTs - startTs < backgroundFlushInterval)) {
+        while (chunk.size() < CHUNK_SIZE && (endTs - startTs < backgroundFlushInterval) && copiedPages < maxPages) {
           //if we reached first part of the ring, swap iterator to next part of the ring
           if (!pageIterator.hasNext()) {
             flushedPages += flushPagesChunk(chunk);
@@ -2717,6 +3218,9 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
             if (lastFileId != firstFileId || lastPageIndex == -1 || (lastPageIndex - firstPageIndex) > MAX_CHUNK_DISTANCE) {
               continue flushCycle;
             } else {
+              //pages which are written at the moment are still in write cache, wait till they are removed before next iteration
+              waitForInFlightWrites();
+
               endTs = System.nanoTime();
               pageIterator = writeCachePages.entrySet().iterator();
 
@@ -2796,6 +3300,8 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       }
     }
 
+    waitForInFlightWrites();
+
     if (!chunk.isEmpty()) {
       throw new IllegalStateException("Chunk is not empty !");
     }
@@ -2811,77 +3317,103 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     double exclusiveWriteCacheThreshold = ((double) ewcSize) / exclusiveWriteCacheMaxSize;
 
     if (exclusiveWriteCacheThreshold <= EXCLUSIVE_BOUNDARY_UNLOCK_LIMIT) {
+      //latch is released by both flush and page writer threads, so only latch which was counted down may be removed
       final CountDownLatch latch = exclusivePagesLimitLatch.get();
-      if (latch != null)
+      if (latch != null) {
         latch.countDown();
-
-      exclusivePagesLimitLatch.set(null);
+        exclusivePagesLimitLatch.compareAndSet(latch, null);
+      }
     }
   }
 
-  private int flushPagesChunk(ArrayList<OTriple<Long, ByteBuffer, OCachePointer>> chunk) throws IOException, InterruptedException {
+  /**
+   * Submits write of chunk of continuous pages to the writer thread which is responsible for the file of those pages. Pages are
+   * removed from write cache once they are written to the disk, if they were not changed after they were copied into the chunk.
+   * <p>
+   * Chunks of different files are written in parallel, amount of chunks which are not written yet is limited by
+   * {@link OGlobalConfiguration#DISK_CACHE_FLUSH_WRITES_IN_FLIGHT}.
+   *
+   * @return Amount of pages submitted for write.
+   *
+   * @see #waitForInFlightWrites()
+   */
+  private int flushPagesChunk(ArrayList<OTriple<Long, ByteBuffer, OCachePointer>> chunk) throws InterruptedException {
     if (chunk.isEmpty())
       return 0;
 
-    ByteBuffer[] buffers = new ByteBuffer[chunk.size()];
-    for (int i = 0; i < buffers.length; i++) {
-      final ByteBuffer buffer = chunk.get(i).getValue().getKey();
-
-      addMagicAndChecksum(buffer);
+    final List<OTriple<Long, ByteBuffer, OCachePointer>> pages = new ArrayList<>(chunk);
+    chunk.clear();
 
-      buffer.position(0);
-      buffers[i] = buffer;
-    }
+    final long fileId = pages.get(0).getValue().getValue().getFileId();
 
-    final OTriple<Long, ByteBuffer, OCachePointer> firstChunk = chunk.get(0);
+    writesInFlightLimit.acquire();
+    writesInFlight.add(pageWriter(fileId).submit(new ChunkWriteTask(pages)));
+    flushedPagesCount.add(pages.size());
 
-    final OCachePointer firstCachePointer = firstChunk.getValue().getValue();
-    final long firstFileId = firstCachePointer.getFileId();
-    final long firstPageIndex = firstCachePointer.getPageIndex();
+    return pages.size();
+  }
 
-    OClosableEntry<Long, OFileClassic> fileEntry = files.acquire(firstFileId);
+  /**
+   * Waits till all chunks submitted by {@link #flushPagesChunk(ArrayList)} are written to the disk.
+   */
+  private void waitForInFlightWrites() throws IOException, InterruptedException {
     try {
-      OFileClassic file = fileEntry.get();
-      file.write(firstPageIndex * pageSize, buffers);
+      waitForCompletion(writesInFlight);
     } finally {
-      files.release(fileEntry);
+      writesInFlight.clear();
     }
+  }
 
-    for (ByteBuffer buffer : buffers) {
-      bufferPool.release(buffer);
-    }
+  /**
+   * Forces content of all passed in files to the disk. Files are synced in parallel by writer threads, each file is synced after all
+   * writes of this file which are already submitted are completed.
+   */
+  private void synchFiles(final Collection<Integer> intIds) throws IOException, InterruptedException {
+    final List<Future<Void>> syncs = new ArrayList<>(intIds.size());
+
+    for (int intId : intIds) {
+      final long fileId = composeFileId(id, intId);
 
-    for (OTriple<Long, ByteBuffer, OCachePointer> triple : chunk) {
-      final OCachePointer pointer = triple.getValue().getValue();
+      syncs.add(pageWriter(fileId).submit(() -> {
+        final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
+        try {
+          entry.get().synch();
+        } finally {
+          files.release(entry);
+        }
 
-      final PageKey pageKey = new PageKey(internalFileId(pointer.getFileId()), pointer.getPageIndex());
-      final long version = triple.getKey();
+        return null;
+      }));
+    }
 
-      final Lock lock = lockManager.acquireExclusiveLock(pageKey);
-      try {
-        if (!pointer.tryAcquireSharedLock())
-          continue;
+    waitForCompletion(syncs);
+  }
 
-        try {
-          if (version == pointer.getVersion()) {
-            writeCachePages.remove(pageKey);
-            writeCacheSize.decrement();
+  private static void waitForCompletion(final List<Future<Void>> futures) throws IOException, InterruptedException {
+    Throwable error = null;
 
-            pointer.decrementWritersReferrer();
-            pointer.setWritersListener(null);
-          }
-        } finally {
-          pointer.releaseSharedLock();
+    //we wait for all tasks even if one of them is failed to be sure that none of them is in progress once we exit
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (error == null) {
+          error = e.getCause();
         }
-      } finally {
-        lock.unlock();
       }
     }
 
-    final int flushedPages = chunk.size();
-    chunk.clear();
+    if (error != null) {
+      if (error instanceof IOException) {
+        throw (IOException) error;
+      }
 
-    return flushedPages;
+      throw OException.wrapException(new OWriteCacheException("Error during write of data of write cache to the disk"), error);
+    }
+  }
+
+  private static ExecutorService pageWriter(final long fileId) {
+    return pageWriters[(int) ((fileId & Long.MAX_VALUE) % pageWriters.length)];
   }
 
   private void flushExclusiveWriteCache() throws IOException, InterruptedException {
@@ -2907,6 +3439,9 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       while (chunk.size() < CHUNK_SIZE && flushedPages < pagesToFlush) {
         if (!iterator.hasNext()) {
           flushedPages += flushPagesChunk(chunk);
+
+          //pages which are written at the moment are still in write cache, wait till they are removed before next iteration
+          waitForInFlightWrites();
           releaseExclusiveLatch();
 
           iterator = exclusiveWritePages.iterator();
@@ -2970,6 +3505,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       releaseExclusiveLatch();
     }
 
+    waitForInFlightWrites();
     releaseExclusiveLatch();
 
     if (!chunk.isEmpty()) {
@@ -2982,11 +3518,15 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   }
 
+  /**
+   * Writes all pages of passed in files which are contained in write cache to the disk and then forces content of those files to
+   * the disk. Continuous pages are written by single gathering write and pages of different files are written in parallel.
+   */
   private final class FileFlushTask implements Callable<Void> {
-    private final int fileId;
+    private final Collection<Integer> fileIds;
 
-    private FileFlushTask(final int fileId) {
-      this.fileId = fileId;
+    private FileFlushTask(final Collection<Integer> fileIds) {
+      this.fileIds = fileIds;
     }
 
     @Override
@@ -2997,64 +3537,74 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
         return null;
       }
 
-      final PageKey firstKey = new PageKey(fileId, 0);
-      final PageKey lastKey = new PageKey(fileId, Long.MAX_VALUE);
+      final ArrayList<OTriple<Long, ByteBuffer, OCachePointer>> chunk = new ArrayList<>(CHUNK_SIZE);
 
-      final Iterator<Map.Entry<PageKey, OCachePointer>> entryIterator = writeCachePages.subMap(firstKey, true, lastKey, true)
-          .entrySet().iterator();
+      try {
+        for (int fileId : fileIds) {
+          final PageKey firstKey = new PageKey(fileId, 0);
+          final PageKey lastKey = new PageKey(fileId, Long.MAX_VALUE);
 
-      while (entryIterator.hasNext()) {
-        Map.Entry<PageKey, OCachePointer> entry = entryIterator.next();
-        final PageKey pageKey = entry.getKey();
-        final OCachePointer pagePointer = entry.getValue();
+          long lastPageIndex = -1;
 
-        final Lock groupLock = lockManager.acquireExclusiveLock(pageKey);
-        try {
-          if (!pagePointer.tryAcquireSharedLock())
-            continue;
+          for (Map.Entry<PageKey, OCachePointer> entry : writeCachePages.subMap(firstKey, true, lastKey, true).entrySet()) {
+            final PageKey pageKey = entry.getKey();
+            final OCachePointer pagePointer = entry.getValue();
 
-          try {
-            final ByteBuffer buffer = pagePointer.getBufferDuplicate();
-            flushPage(pageKey.fileId, pageKey.pageIndex, buffer);
+            if (!pagePointer.tryAcquireSharedLock())
+              continue;
 
-            removeFromDirtyPages(pageKey);
-          } finally {
-            pagePointer.releaseSharedLock();
-          }
+            final long version;
+            final ByteBuffer copy = bufferPool.acquireDirect(false);
+            try {
+              version = pagePointer.getVersion();
 
-          pagePointer.decrementWritersReferrer();
-          pagePointer.setWritersListener(null);
+              final ByteBuffer buffer = pagePointer.getBufferDuplicate();
 
-          entryIterator.remove();
-        } finally {
-          groupLock.unlock();
-        }
+              buffer.position(0);
+              copy.position(0);
 
-        writeCacheSize.decrement();
-      }
+              copy.put(buffer);
 
-      final long finalId = composeFileId(id, fileId);
-      final OClosableEntry<Long, OFileClassic> entry = files.acquire(finalId);
-      try {
-        entry.get().synch();
+              removeFromDirtyPages(pageKey);
+            } finally {
+              pagePointer.releaseSharedLock();
+            }
+
+            flushWALTillPageLSN(copy);
+            copy.position(0);
+
+            if (chunk.size() >= CHUNK_SIZE || lastPageIndex != pageKey.pageIndex - 1) {
+              flushPagesChunk(chunk);
+            }
+
+            chunk.add(new OTriple<>(version, copy, pagePointer));
+            lastPageIndex = pageKey.pageIndex;
+          }
+
+          flushPagesChunk(chunk);
+        }
       } finally {
-        files.release(entry);
+        waitForInFlightWrites();
       }
 
+      synchFiles(fileIds);
+
       return null;
     }
   }
 
   private final class RemoveFilePagesTask implements Callable<Void> {
-    private final int fileId;
+    private final int  fileId;
+    private final long fromPageIndex;
 
-    private RemoveFilePagesTask(int fileId) {
+    private RemoveFilePagesTask(int fileId, long fromPageIndex) {
       this.fileId = fileId;
+      this.fromPageIndex = fromPageIndex;
     }
 
     @Override
     public Void call() {
-      final PageKey firstKey = new PageKey(fileId, 0);
+      final PageKey firstKey = new PageKey(fileId, fromPageIndex);
       final PageKey lastKey = new PageKey(fileId, Long.MAX_VALUE);
 
       Iterator<Map.Entry<PageKey, OCachePointer>> entryIterator = writeCachePages.subMap(firstKey, true, lastKey, true).entrySet()
@@ -3088,6 +3638,123 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  /**
+   * Writes chunk of continuous pages of the same file by single gathering write and removes written pages from write cache if they
+   * were not changed after they were copied into the chunk.
+   */
+  private final class ChunkWriteTask implements Callable<Void> {
+    private final List<OTriple<Long, ByteBuffer, OCachePointer>> chunk;
+
+    private ChunkWriteTask(final List<OTriple<Long, ByteBuffer, OCachePointer>> chunk) {
+      this.chunk = chunk;
+    }
+
+    @Override
+    public Void call() throws Exception {
+      final ByteBuffer[] buffers = new ByteBuffer[chunk.size()];
+
+      try {
+        for (int i = 0; i < buffers.length; i++) {
+          final ByteBuffer buffer = chunk.get(i).getValue().getKey();
+
+          addMagicAndChecksum(buffer);
+
+          buffer.position(0);
+          buffers[i] = buffer;
+        }
+
+        final OCachePointer firstCachePointer = chunk.get(0).getValue().getValue();
+        final long firstFileId = firstCachePointer.getFileId();
+        final long firstPageIndex = firstCachePointer.getPageIndex();
+
+        final ODoubleWriteLog log = doubleWriteLog;
+        if (log != null)
+          log.startWrite(internalFileId(firstFileId), firstPageIndex, buffers);
+
+        try {
+          final OClosableEntry<Long, OFileClassic> fileEntry = files.acquire(firstFileId);
+          try {
+            final OFileClassic file = fileEntry.get();
+
+            if (pageCompression == null)
+              file.write(firstPageIndex * pageSize, buffers);
+            else
+              //compressed pages have variable size, so they are written one by one and rest of the each page is deallocated
+              for (int i = 0; i < buffers.length; i++) {
+                final long position = (firstPageIndex + i) * pageSize;
+                final ByteBuffer compressedPage = compressPage(buffers[i]);
+
+                if (compressedPage == null)
+                  file.write(position, buffers[i]);
+                else
+                  file.write(position, compressedPage, pageSize);
+              }
+          } finally {
+            files.release(fileEntry);
+          }
+        } finally {
+          if (log != null)
+            log.completeWrite();
+        }
+      } finally {
+        for (OTriple<Long, ByteBuffer, OCachePointer> triple : chunk) {
+          bufferPool.release(triple.getValue().getKey());
+        }
+
+        writesInFlightLimit.release();
+      }
+
+      for (OTriple<Long, ByteBuffer, OCachePointer> triple : chunk) {
+        final OCachePointer pointer = triple.getValue().getValue();
+
+        final PageKey pageKey = new PageKey(internalFileId(pointer.getFileId()), pointer.getPageIndex());
+        final long version = triple.getKey();
+
+        final Lock lock = lockManager.acquireExclusiveLock(pageKey);
+        try {
+          if (!pointer.tryAcquireSharedLock())
+            continue;
+
+          try {
+            //the same page may be copied into several chunks which are in flight, only the first write removes it from the cache
+            if (version == pointer.getVersion() && writeCachePages.remove(pageKey, pointer)) {
+              writeCacheSize.decrement();
+
+              pointer.decrementWritersReferrer();
+              pointer.setWritersListener(null);
+            }
+          } finally {
+            pointer.releaseSharedLock();
+          }
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      releaseExclusiveLatch();
+
+      return null;
+    }
+  }
+
+  private static class PageWriterThreadFactory implements ThreadFactory {
+    private final int index;
+
+    private PageWriterThreadFactory(final int index) {
+      this.index = index;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MAX_PRIORITY);
+      thread.setName("OrientDB Write Cache Page Writer " + index);
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    }
+  }
+
   private static class FlushThreadFactory implements ThreadFactory {
 
     private FlushThreadFactory() {
@@ -54,6 +54,11 @@ import java.util.concurrent.locks.Lock;
  * @since 7/24/13
  */
 public class O2QCache implements OReadCache {
+  /**
+   * Name of implementation which is used in {@link OGlobalConfiguration#DISK_CACHE_READ_CACHE_IMPLEMENTATION}.
+   */
+  public static final String NAME = "2Q";
+
   /**
    * Maximum amount of times when we will show message that limit of pinned pages was exhausted.
    */
@@ -113,6 +118,11 @@ public class O2QCache implements OReadCache {
 
   private final AtomicBoolean coldPagesRemovalInProgress = new AtomicBoolean();
 
+  /**
+   * Second tier of cache which keeps clean pages evicted from memory, may be <code>null</code>.
+   */
+  private final OSecondTierCache secondTier;
+
   /**
    * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
    * @param pageSize             Cache page size in bytes.
@@ -122,6 +132,23 @@ public class O2QCache implements OReadCache {
    * @see #MAX_PERCENT_OF_PINED_PAGES
    */
   public O2QCache(final long readCacheMaxMemory, final int pageSize, final boolean checkMinSize, final int percentOfPinnedPages) {
+    this(readCacheMaxMemory, pageSize, checkMinSize, percentOfPinnedPages, null);
+  }
+
+  /**
+   * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
+   * @param pageSize             Cache page size in bytes.
+   * @param checkMinSize         If this flat is set size of cache may be {@link #MIN_CACHE_SIZE} or bigger.
+   * @param percentOfPinnedPages Maximum percent of pinned pages which may be hold by this cache.
+   * @param secondTier           Second tier of cache which keeps pages evicted from memory or <code>null</code> if pages should
+   *                             be dropped.
+   *
+   * @see #MAX_PERCENT_OF_PINED_PAGES
+   */
+  public O2QCache(final long readCacheMaxMemory, final int pageSize, final boolean checkMinSize, final int percentOfPinnedPages,
+      final OSecondTierCache secondTier) {
+    this.secondTier = secondTier;
+
     if (percentOfPinnedPages > MAX_PERCENT_OF_PINED_PAGES)
       throw new IllegalArgumentException(
           "Percent of pinned pages cannot be more than " + percentOfPinnedPages + " but passed value is " + percentOfPinnedPages);
@@ -382,6 +409,7 @@ public class O2QCache implements OReadCache {
    *
    * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
    */
+  @Override
   public void changeMaximumAmountOfMemory(final long readCacheMaxMemory) throws IllegalStateException {
     MemoryData memoryData;
     MemoryData newMemoryData;
@@ -585,10 +613,13 @@ public class O2QCache implements OReadCache {
     try {
       fileLock = fileLockManager.acquireExclusiveLock(fileId);
       try {
+        //pages are removed first, so write cache may release memory mapped regions of the file
+        clearFile(fileId);
 
-        writeCache.truncateFile(fileId);
+        if (secondTier != null)
+          secondTier.removeFile(fileId);
 
-        clearFile(fileId);
+        writeCache.truncateFile(fileId);
       } finally {
         fileLock.unlock();
       }
@@ -598,18 +629,33 @@ public class O2QCache implements OReadCache {
   }
 
   private void clearFile(long fileId) {
+    clearFile(fileId, 0);
+  }
+
+  /**
+   * Removes pages of the file starting from the given page index. Pages which are mapped into memory directly from the file are
+   * removed regardless of their index, because mapped regions of the file are released once file is shrunk.
+   */
+  private void clearFile(long fileId, long fromPageIndex) {
     final Set<Long> pageEntries = filePages.get(fileId);
     if (pageEntries == null || pageEntries.isEmpty()) {
-      assert get(fileId, 0) == null;
+      assert get(fileId, fromPageIndex) == null;
       return;
     }
 
-    for (Long pageIndex : pageEntries) {
+    final Iterator<Long> pageIterator = pageEntries.iterator();
+    while (pageIterator.hasNext()) {
+      final long pageIndex = pageIterator.next();
+
       OCacheEntry cacheEntry = get(fileId, pageIndex);
 
       if (cacheEntry == null)
         cacheEntry = pinnedPages.get(new PinnedPage(fileId, pageIndex));
 
+      if (pageIndex < fromPageIndex && (cacheEntry == null || cacheEntry.getCachePointer() == null || !cacheEntry
+          .getCachePointer().isMapped()))
+        continue;
+
       if (cacheEntry != null) {
         if (cacheEntry.getUsagesCount() == 0) {
           cacheEntry = remove(fileId, pageIndex);
@@ -637,11 +683,34 @@ public class O2QCache implements OReadCache {
               "Page with index " + pageIndex + " for file with id " + fileId + " cannot be freed because it is used.");
       } else
         throw new OStorageException("Page with index " + pageIndex + " was  not found in cache for file with id " + fileId);
+
+      pageIterator.remove();
     }
 
-    assert get(fileId, 0) == null;
+    assert get(fileId, fromPageIndex) == null;
+  }
+
+  @Override
+  public void shrinkFile(long fileId, long pageCount, OWriteCache writeCache) throws IOException {
+    Lock fileLock;
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    cacheLock.acquireReadLock();
+    try {
+      fileLock = fileLockManager.acquireExclusiveLock(fileId);
+      try {
+        clearFile(fileId, pageCount);
+
+        if (secondTier != null)
+          secondTier.removeFile(fileId);
 
-    pageEntries.clear();
+        writeCache.shrinkFile(fileId, pageCount);
+      } finally {
+        fileLock.unlock();
+      }
+    } finally {
+      cacheLock.releaseReadLock();
+    }
   }
 
   @Override
@@ -653,10 +722,12 @@ public class O2QCache implements OReadCache {
     try {
       fileLock = fileLockManager.acquireExclusiveLock(fileId);
       try {
-        writeCache.close(fileId, flush);
-
         clearFile(fileId);
 
+        if (secondTier != null)
+          secondTier.removeFile(fileId);
+
+        writeCache.close(fileId, flush);
       } finally {
         fileLock.unlock();
       }
@@ -678,6 +749,10 @@ public class O2QCache implements OReadCache {
       try {
         clearFile(fileId);
         filePages.remove(fileId);
+
+        if (secondTier != null)
+          secondTier.removeFile(fileId);
+
         writeCache.deleteFile(fileId);
       } finally {
         fileLock.unlock();
@@ -693,6 +768,8 @@ public class O2QCache implements OReadCache {
    * <li>If flag {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code> saves state of all queues of
    * 2Q cache into file {@link #CACHE_STATE_FILE}.The only exception is pinned pages they need to pinned again.</li>
    * <li>Closes all files and flushes all data associated to them.</li>
+   * <li>Stores index of pages of storage kept in second tier of cache if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set or removes them from second tier otherwise.</li>
    * </ol>
    *
    * @param writeCache Write cache all files of which should be closed. In terms of cache write cache = storage.
@@ -704,11 +781,39 @@ public class O2QCache implements OReadCache {
 
     cacheLock.acquireWriteLock();
     try {
-      final long[] filesToClear = writeCache.close();
+      final Collection<Long> files = writeCache.files().values();
+      final long[] fileIds;
+      final String[] nativeFileNames;
+
+      if (secondTier != null) {
+        //names of files are not available once write cache is closed
+        fileIds = new long[files.size()];
+        nativeFileNames = new String[files.size()];
+
+        int i = 0;
+        for (long fileId : files) {
+          fileIds[i] = fileId;
+          nativeFileNames[i] = writeCache.nativeFileNameById(fileId);
+          i++;
+        }
+      } else {
+        fileIds = null;
+        nativeFileNames = null;
+      }
 
-      for (long fileId : filesToClear)
+      //pages are removed first, so write cache may release memory mapped regions of files
+      for (long fileId : files)
         clearFile(fileId);
 
+      writeCache.close();
+
+      if (secondTier != null) {
+        if (OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean())
+          secondTier.storeState(writeCache, fileIds, nativeFileNames);
+        else
+          for (long fileId : fileIds)
+            secondTier.removeFile(fileId);
+      }
     } finally {
       cacheLock.releaseWriteLock();
     }
@@ -731,6 +836,10 @@ public class O2QCache implements OReadCache {
 
     cacheLock.acquireWriteLock();
     try {
+      //index of second tier is restored first, so pages of restored queues are loaded from second tier if possible
+      if (secondTier != null)
+        secondTier.loadState(writeCache);
+
       final Path statePath = writeCache.getRootDirectory().resolve(CACHE_STATE_FILE);
 
       if (Files.exists(statePath)) {
@@ -936,7 +1045,7 @@ public class O2QCache implements OReadCache {
 
       //some queue items may be deleted because it reached size limit
       if (cacheEntry != null && cacheEntry.getCachePointer() == null) {
-        final OCachePointer[] pointers = writeCache.load(pageKey.fileId, pageKey.pageIndex, 1, false, cacheHit, true);
+        final OCachePointer[] pointers = loadPages(pageKey.fileId, pageKey.pageIndex, 1, false, writeCache, cacheHit, true);
 
         if (pointers.length == 0) {
           queue.remove(pageKey.fileId, pageKey.pageIndex);
@@ -1047,10 +1156,16 @@ public class O2QCache implements OReadCache {
   public void deleteStorage(OWriteCache writeCache) throws IOException {
     cacheLock.acquireWriteLock();
     try {
-      final long[] filesToClear = writeCache.delete();
-      for (long fileId : filesToClear)
+      //pages are removed first, so write cache may release memory mapped regions of files
+      for (long fileId : writeCache.files().values()) {
         clearFile(fileId);
 
+        if (secondTier != null)
+          secondTier.removeFile(fileId);
+      }
+
+      writeCache.delete();
+
       final Path rootDirectory = writeCache.getRootDirectory();
       final Path stateFile = rootDirectory.resolve(CACHE_STATE_FILE);
 
@@ -1058,6 +1173,8 @@ public class O2QCache implements OReadCache {
         Files.delete(stateFile);
       }
 
+      Files.deleteIfExists(rootDirectory.resolve(OSecondTierCache.CACHE_STATE_FILE));
+
     } finally {
       cacheLock.releaseWriteLock();
     }
@@ -1188,6 +1305,43 @@ public class O2QCache implements OReadCache {
     return new UpdateCacheResult(true, cacheEntry);
   }
 
+  /**
+   * Loads pages from second tier of cache if it contains requested page or from write cache otherwise.
+   */
+  private OCachePointer[] loadPages(final long fileId, final long pageIndex, final int pageCount, final boolean addNewPages,
+      final OWriteCache writeCache, final OModifiableBoolean cacheHit, final boolean verifyChecksums) throws IOException {
+    if (secondTier == null)
+      return writeCache.load(fileId, pageIndex, pageCount, addNewPages, cacheHit, verifyChecksums);
+
+    final OCachePointer pointer = secondTier.remove(fileId, pageIndex);
+    if (pointer != null)
+      return new OCachePointer[] { pointer };
+
+    final OCachePointer[] pointers = writeCache.load(fileId, pageIndex, pageCount, addNewPages, cacheHit, verifyChecksums);
+
+    //pages which were read ahead are put into memory, so their copies in second tier become stale once they are changed
+    for (int i = 1; i < pointers.length; i++) {
+      secondTier.discard(pointers[i].getFileId(), pointers[i].getPageIndex());
+    }
+
+    return pointers;
+  }
+
+  /**
+   * Puts page evicted from memory into the second tier of cache. Pages which are not flushed yet are not stored because they are
+   * not consistent with content of data files. Only copy of the page is queued here, it is written into the tier by background
+   * writer, so eviction does not wait for the drive.
+   */
+  private void spillToSecondTier(final OCachePointer cachePointer) {
+    if (secondTier == null)
+      return;
+
+    if (cachePointer.getWritersReferrer() == 0)
+      secondTier.put(cachePointer.getFileId(), cachePointer.getPageIndex(), cachePointer.getBuffer());
+    else
+      secondTier.discard(cachePointer.getFileId(), cachePointer.getPageIndex());
+  }
+
   private UpdateCacheResult updateCache(final long fileId, final long pageIndex, final boolean addNewPages, OWriteCache writeCache,
       final int pageCount, final OModifiableBoolean cacheHit, boolean verifyChecksums) throws IOException {
 
@@ -1206,7 +1360,7 @@ public class O2QCache implements OReadCache {
 
     cacheEntry = a1out.remove(fileId, pageIndex);
     if (cacheEntry != null) {
-      dataPointers = writeCache.load(fileId, pageIndex, pageCount, false, cacheHit, verifyChecksums);
+      dataPointers = loadPages(fileId, pageIndex, pageCount, false, writeCache, cacheHit, verifyChecksums);
 
       OCachePointer dataPointer = dataPointers[0];
       removeColdPages = entryWasInA1OutQueue(fileId, pageIndex, dataPointer, cacheEntry);
@@ -1217,7 +1371,7 @@ public class O2QCache implements OReadCache {
         removeColdPages = entryIsInA1InQueue(fileId, pageIndex);
         cacheHit.setValue(true);
       } else {
-        dataPointers = writeCache.load(fileId, pageIndex, pageCount, addNewPages, cacheHit, verifyChecksums);
+        dataPointers = loadPages(fileId, pageIndex, pageCount, addNewPages, writeCache, cacheHit, verifyChecksums);
 
         if (dataPointers.length == 0)
           return null;
@@ -1322,6 +1476,7 @@ public class O2QCache implements OReadCache {
           //cache pointer can be null if we load initial state of cache from disk
           //see #restoreQueueWithPageLoad for details
           if (cachePointer != null) {
+            spillToSecondTier(cachePointer);
             cachePointer.decrementReadersReferrer();
             removedFromAInEntry.clearCachePointer();
           }
@@ -1349,6 +1504,7 @@ public class O2QCache implements OReadCache {
           //cache pointer can be null if we load initial state of cache from disk
           //see #restoreQueueWithPageLoad for details
           if (cachePointer != null) {
+            spillToSecondTier(cachePointer);
             cachePointer.decrementReadersReferrer();
             removedEntry.clearCachePointer();
           }
@@ -1388,6 +1544,7 @@ public class O2QCache implements OReadCache {
               a1in.remove(removedFromAInEntry.getFileId(), removedFromAInEntry.getPageIndex());
 
               final OCachePointer cachePointer = removedFromAInEntry.getCachePointer();
+              spillToSecondTier(cachePointer);
               cachePointer.decrementReadersReferrer();
               removedFromAInEntry.clearCachePointer();
 
@@ -1445,6 +1602,7 @@ public class O2QCache implements OReadCache {
               am.remove(removedEntry.getFileId(), removedEntry.getPageIndex());
 
               final OCachePointer cachePointer = removedEntry.getCachePointer();
+              spillToSecondTier(cachePointer);
               cachePointer.decrementReadersReferrer();
               removedEntry.clearCachePointer();
 
@@ -0,0 +1,737 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache.local.twoq;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Second tier of {@link O2QCache} which is placed in single file on fast local drive (for example SSD) and keeps clean pages
+ * evicted from memory. Pages are consulted before they are read from data files of storage.
+ * <p>
+ * Tier file consists of header, table of slot headers and slots of page content. Slots are allocated in circular order, so the
+ * oldest pages are overwritten first and writes to the drive are mostly sequential. Each slot header contains unique stamp of
+ * content and its CRC32 checksum, both of them are kept in in-memory index too and are verified when page is loaded back, so page
+ * is never returned if slot was overwritten concurrently or content is broken.
+ * <p>
+ * Page is either kept in memory by {@link O2QCache} or in this tier but never in both of them. Page is removed from the tier once
+ * it is loaded back into memory, so content of the tier always matches content of data files and pages can not be changed while
+ * they are kept in the tier.
+ * <p>
+ * Evicted pages are copied into bounded queue and written into the tier by background writer, so eviction does not wait for the
+ * drive. Pages evicted while queue is full are dropped. Page which is loaded back into memory before it is written is removed from
+ * the queue, so stale copy of page is never put into the tier.
+ * <p>
+ * Index of tier is stored per storage during storage close inside of {@link #CACHE_STATE_FILE} and loaded back during storage open,
+ * so warm up of the cache after restart does not require to read pages from data files.
+ *
+ * @see OGlobalConfiguration#DISK_CACHE_SECOND_TIER_PATH
+ */
+public final class OSecondTierCache {
+  /**
+   * File which contains index of the second tier for pages of storage after storage close.
+   */
+  public static final String CACHE_STATE_FILE = "cache_tier.stt";
+
+  private static final long MAGIC_NUMBER = 0x4F32515469657231L;
+
+  private static final int FILE_HEADER_SIZE = 4096;
+  private static final int SLOT_HEADER_SIZE = 2 * Long.BYTES;
+
+  private final OByteBufferPool bufferPool;
+  private final int             pageSize;
+  private final int             slots;
+  private final long            dataOffset;
+
+  private final Path        path;
+  private final FileChannel channel;
+
+  private final ConcurrentHashMap<PageKey, Entry> index = new ConcurrentHashMap<>();
+
+  /**
+   * Pages which are queued to be written into the tier. Page is written and put into the index only if it is still mapped to the
+   * same spilled copy, so removal of the key cancels the write.
+   */
+  private final ConcurrentHashMap<PageKey, SpilledPage> spilledPages = new ConcurrentHashMap<>();
+
+  /**
+   * Single background writer of the tier, queue of writes is bounded, if it is full page is dropped.
+   */
+  private final ExecutorService              spillExecutor;
+  private final ArrayBlockingQueue<Runnable> spillQueue;
+
+  /**
+   * Entries which own slots, slot is owned by entry which was last written into it.
+   */
+  private final Entry[] owners;
+  private       long    nextSlot;
+
+  /**
+   * Source of unique stamps of page content, initial value is based on current time so stamps are not repeated after restart.
+   */
+  private final AtomicLong stamps = new AtomicLong(System.currentTimeMillis() << 20);
+
+  private final LongAdder hits   = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder spills = new LongAdder();
+  private final LongAdder drops  = new LongAdder();
+
+  /**
+   * @param path       Path to the file of the tier, file is created if it does not exist
+   * @param maxSize    Maximum size of tier in bytes
+   * @param pageSize   Size of page in bytes
+   * @param bufferPool Pool which is used to allocate buffers for pages loaded from the tier
+   *
+   * @see OGlobalConfiguration#DISK_CACHE_SECOND_TIER_QUEUE_SIZE
+   */
+  public OSecondTierCache(final Path path, final long maxSize, final int pageSize, final OByteBufferPool bufferPool)
+      throws IOException {
+    this(path, maxSize, pageSize, bufferPool, OGlobalConfiguration.DISK_CACHE_SECOND_TIER_QUEUE_SIZE.getValueAsInteger());
+  }
+
+  /**
+   * @param path       Path to the file of the tier, file is created if it does not exist
+   * @param maxSize    Maximum size of tier in bytes
+   * @param pageSize   Size of page in bytes
+   * @param bufferPool Pool which is used to allocate buffers for pages loaded from the tier and for copies of pages which wait to
+   *                   be written
+   * @param queueSize  Maximum amount of pages which wait to be written into the tier
+   */
+  public OSecondTierCache(final Path path, final long maxSize, final int pageSize, final OByteBufferPool bufferPool,
+      final int queueSize) throws IOException {
+    this.path = path;
+    this.pageSize = pageSize;
+    this.bufferPool = bufferPool;
+    this.slots = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, maxSize / pageSize));
+    this.owners = new Entry[slots];
+
+    final long slotHeadersSize = ((long) slots * SLOT_HEADER_SIZE + FILE_HEADER_SIZE - 1) / FILE_HEADER_SIZE * FILE_HEADER_SIZE;
+    this.dataOffset = FILE_HEADER_SIZE + slotHeadersSize;
+
+    if (path.getParent() != null)
+      Files.createDirectories(path.getParent());
+
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+    readFully(header, 0);
+    header.flip();
+
+    if (header.remaining() >= 3 * Long.BYTES && header.getLong() == MAGIC_NUMBER && header.getInt() == pageSize
+        && header.getInt() == slots) {
+      nextSlot = header.getLong() % slots;
+    } else {
+      channel.truncate(0);
+      nextSlot = 0;
+      writeHeader();
+    }
+
+    spillQueue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+    spillExecutor = new OThreadPoolExecutorWithLogging(1, 1, 0L, TimeUnit.MILLISECONDS, spillQueue, new SpillThreadFactory());
+  }
+
+  /**
+   * Queues copy of clean page evicted from memory to be written into the tier. Page is dropped if queue of writes is full.
+   *
+   * @param fileId    Id of the file of page
+   * @param pageIndex Index of page
+   * @param content   Content of page, position of buffer is not changed
+   */
+  public void put(final long fileId, final long pageIndex, final ByteBuffer content) {
+    if (spillQueue.remainingCapacity() == 0) {
+      drops.increment();
+      return;
+    }
+
+    final ByteBuffer data = bufferPool.acquireDirect(false);
+    final ByteBuffer source = content.duplicate();
+    source.position(0);
+    source.limit(pageSize);
+    data.position(0);
+    data.put(source);
+
+    final SpilledPage page = new SpilledPage(new PageKey(fileId, pageIndex), data);
+    spilledPages.put(page.key, page);
+
+    try {
+      spillExecutor.execute(page);
+    } catch (RejectedExecutionException e) {
+      spilledPages.remove(page.key, page);
+      bufferPool.release(data);
+      drops.increment();
+    }
+  }
+
+  /**
+   * Writes queued copy of page into the next slot and puts it into the index unless page was loaded back, discarded or queued
+   * again while it was written.
+   */
+  private void write(final SpilledPage page) {
+    final ByteBuffer data = page.data;
+    data.position(0);
+    data.limit(pageSize);
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(data.duplicate());
+
+    final PageKey key = page.key;
+    final Entry entry = new Entry(key, stamps.incrementAndGet(), (int) crc32.getValue());
+
+    synchronized (owners) {
+      entry.slot = (int) nextSlot;
+      nextSlot = (nextSlot + 1) % slots;
+
+      final Entry previous = owners[entry.slot];
+      if (previous != null)
+        index.remove(previous.key, previous);
+
+      owners[entry.slot] = entry;
+    }
+
+    final ByteBuffer slotHeader = ByteBuffer.allocate(SLOT_HEADER_SIZE);
+    slotHeader.putLong(entry.stamp);
+    slotHeader.putLong(entry.crc);
+    slotHeader.flip();
+
+    try {
+      writeFully(data, slotPosition(entry.slot));
+      writeFully(slotHeader, slotHeaderPosition(entry.slot));
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Cannot write page to the second tier of cache placed in %s", e, path);
+      spilledPages.remove(key, page);
+      releaseSlot(entry);
+      return;
+    }
+
+    synchronized (owners) {
+      //slot may be reused or page may be loaded back while content was written
+      if (owners[entry.slot] != entry || spilledPages.get(key) != page) {
+        if (owners[entry.slot] == entry)
+          owners[entry.slot] = null;
+
+        return;
+      }
+
+      final Entry previous = index.put(key, entry);
+      if (previous != null && owners[previous.slot] == previous)
+        owners[previous.slot] = null;
+
+      //page is removed from the queued pages only once it is in the index, see #cancelSpill
+      spilledPages.remove(key, page);
+    }
+
+    spills.increment();
+  }
+
+  /**
+   * Removes page from the tier and returns pointer to its content.
+   *
+   * @return Pointer to the page with incremented readers referrer or <code>null</code> if page is absent in the tier.
+   */
+  public OCachePointer remove(final long fileId, final long pageIndex) {
+    final PageKey key = new PageKey(fileId, pageIndex);
+    cancelSpill(key);
+
+    final Entry entry = index.remove(key);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+
+    synchronized (owners) {
+      if (owners[entry.slot] != entry) {
+        misses.increment();
+        return null;
+      }
+    }
+
+    final ByteBuffer buffer = bufferPool.acquireDirect(false);
+    try {
+      final ByteBuffer slotHeader = ByteBuffer.allocate(SLOT_HEADER_SIZE);
+      readFully(slotHeader, slotHeaderPosition(entry.slot));
+      slotHeader.flip();
+
+      buffer.position(0);
+      buffer.limit(pageSize);
+      readFully(buffer, slotPosition(entry.slot));
+      buffer.position(0);
+
+      final CRC32 crc32 = new CRC32();
+      crc32.update(buffer.duplicate());
+
+      final boolean valid = slotHeader.remaining() == SLOT_HEADER_SIZE && slotHeader.getLong() == entry.stamp
+          && slotHeader.getLong() == entry.crc && (int) crc32.getValue() == entry.crc;
+
+      synchronized (owners) {
+        if (owners[entry.slot] == entry)
+          owners[entry.slot] = null;
+        else if (valid)
+          //slot was overwritten while it was read
+          return releaseAndMiss(buffer);
+      }
+
+      if (!valid)
+        return releaseAndMiss(buffer);
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Cannot read page from the second tier of cache placed in %s", e, path);
+      return releaseAndMiss(buffer);
+    }
+
+    hits.increment();
+
+    final OCachePointer pointer = new OCachePointer(buffer, bufferPool, fileId, pageIndex);
+    pointer.incrementReadersReferrer();
+    return pointer;
+  }
+
+  /**
+   * Removes page from the tier without load of its content, it is used when page is loaded into memory from the data file.
+   */
+  public void discard(final long fileId, final long pageIndex) {
+    final PageKey key = new PageKey(fileId, pageIndex);
+    cancelSpill(key);
+
+    final Entry entry = index.remove(key);
+    if (entry != null)
+      releaseSlot(entry);
+  }
+
+  /**
+   * Removes all pages of given file from the tier.
+   */
+  public void removeFile(final long fileId) {
+    synchronized (owners) {
+      spilledPages.keySet().removeIf((key) -> key.fileId == fileId);
+    }
+
+    index.entrySet().removeIf((e) -> {
+      if (e.getKey().fileId == fileId) {
+        releaseSlot(e.getValue());
+        return true;
+      }
+
+      return false;
+    });
+  }
+
+  /**
+   * Stores index of pages of given files into the file {@link #CACHE_STATE_FILE} in root directory of storage and removes those
+   * pages from in-memory index, it is supposed that files are already closed. Last modification time of each file is stored
+   * together with the index, if file is modified before storage is open again pages of this file are not restored. Pages of given
+   * files which are not written yet are dropped.
+   * <p>
+   * Following format is used:
+   * <ol>
+   * <li>Magic number, page size and amount of slots of the tier (long, int, int)</li>
+   * <li>For each file: internal file id (int), last modification time of file (long), amount of pages (int) and for each page
+   * index of page, slot, stamp and checksum (long, int, long, int)</li>
+   * <li>-1 (int) as end marker</li>
+   * </ol>
+   *
+   * @param writeCache      Write cache of storage
+   * @param fileIds         Ids of files of storage
+   * @param nativeFileNames Names of files on the disk in the same order as ids
+   */
+  public void storeState(final OWriteCache writeCache, final long[] fileIds, final String[] nativeFileNames) {
+    final Path rootDirectory = writeCache.getRootDirectory();
+    final Path stateFile = rootDirectory.resolve(CACHE_STATE_FILE);
+
+    final Map<Long, Map<Long, Entry>> filesEntries = new HashMap<>();
+    for (long fileId : fileIds) {
+      filesEntries.put(fileId, new HashMap<>());
+    }
+
+    synchronized (owners) {
+      spilledPages.keySet().removeIf((key) -> filesEntries.containsKey(key.fileId));
+    }
+
+    index.entrySet().removeIf((e) -> {
+      final Map<Long, Entry> fileEntries = filesEntries.get(e.getKey().fileId);
+      if (fileEntries != null) {
+        fileEntries.put(e.getKey().pageIndex, e.getValue());
+        return true;
+      }
+
+      return false;
+    });
+
+    try {
+      Files.deleteIfExists(stateFile);
+
+      try (DataOutputStream stream = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(stateFile, StandardOpenOption.CREATE_NEW), 64 * 1024))) {
+        stream.writeLong(MAGIC_NUMBER);
+        stream.writeInt(pageSize);
+        stream.writeInt(slots);
+
+        for (int i = 0; i < fileIds.length; i++) {
+          final Map<Long, Entry> fileEntries = filesEntries.get(fileIds[i]);
+          if (fileEntries.isEmpty() || nativeFileNames[i] == null)
+            continue;
+
+          final Path file = rootDirectory.resolve(nativeFileNames[i]);
+          if (!Files.exists(file))
+            continue;
+
+          stream.writeInt(writeCache.internalFileId(fileIds[i]));
+          stream.writeLong(Files.getLastModifiedTime(file).toMillis());
+          stream.writeInt(fileEntries.size());
+
+          for (Map.Entry<Long, Entry> pageEntry : fileEntries.entrySet()) {
+            final Entry entry = pageEntry.getValue();
+
+            stream.writeLong(pageEntry.getKey());
+            stream.writeInt(entry.slot);
+            stream.writeLong(entry.stamp);
+            stream.writeInt(entry.crc);
+          }
+        }
+
+        stream.writeInt(-1);
+      }
+    } catch (IOException e) {
+      OLogManager.instance()
+          .error(this, "Cannot store state of second tier of cache for storage placed under %s", e, rootDirectory);
+    } finally {
+      for (Map<Long, Entry> fileEntries : filesEntries.values()) {
+        for (Entry entry : fileEntries.values()) {
+          releaseSlot(entry);
+        }
+      }
+    }
+  }
+
+  /**
+   * Loads index of pages of storage stored by {@link #storeState(OWriteCache, long[], String[])} and deletes state file, so stale
+   * state is never loaded twice.
+   *
+   * @param writeCache Write cache of storage
+   */
+  public void loadState(final OWriteCache writeCache) {
+    final Path rootDirectory = writeCache.getRootDirectory();
+    final Path stateFile = rootDirectory.resolve(CACHE_STATE_FILE);
+
+    if (!Files.exists(stateFile))
+      return;
+
+    try {
+      try (DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile), 64 * 1024))) {
+        if (stream.readLong() != MAGIC_NUMBER || stream.readInt() != pageSize || stream.readInt() != slots)
+          return;
+
+        int internalFileId = stream.readInt();
+        while (internalFileId >= 0) {
+          final long lastModified = stream.readLong();
+          final int pages = stream.readInt();
+
+          final long fileId = writeCache.externalFileId(internalFileId);
+          final String nativeFileName = writeCache.fileNameById(fileId) != null ? writeCache.nativeFileNameById(fileId) : null;
+          final boolean fileIsNotChanged = nativeFileName != null && Files.exists(rootDirectory.resolve(nativeFileName))
+              && Files.getLastModifiedTime(rootDirectory.resolve(nativeFileName)).toMillis() == lastModified;
+
+          for (int i = 0; i < pages; i++) {
+            final long pageIndex = stream.readLong();
+            final int slot = stream.readInt();
+            final long stamp = stream.readLong();
+            final int crc = stream.readInt();
+
+            if (fileIsNotChanged && slot >= 0 && slot < slots) {
+              final Entry entry = new Entry(new PageKey(fileId, pageIndex), stamp, crc);
+              entry.slot = slot;
+
+              synchronized (owners) {
+                //slot is already reused by other page
+                if (owners[slot] == null && !index.containsKey(entry.key)) {
+                  owners[slot] = entry;
+                  index.put(entry.key, entry);
+                }
+              }
+            }
+          }
+
+          internalFileId = stream.readInt();
+        }
+      }
+    } catch (IOException e) {
+      OLogManager.instance()
+          .warn(this, "Cannot restore state of second tier of cache for storage placed under %s", e, rootDirectory);
+    } finally {
+      try {
+        Files.deleteIfExists(stateFile);
+      } catch (IOException e) {
+        OLogManager.instance().error(this, "Cannot delete state of second tier of cache %s", e, stateFile);
+      }
+    }
+  }
+
+  /**
+   * Removes all pages from the tier.
+   */
+  public void clear() {
+    synchronized (owners) {
+      spilledPages.clear();
+      index.clear();
+      for (int i = 0; i < owners.length; i++) {
+        owners[i] = null;
+      }
+    }
+  }
+
+  /**
+   * Stores position of next slot to be allocated and closes file of the tier. Content of slots is kept, so it may be used after
+   * restart. Pages which are not written yet are dropped.
+   */
+  public void close() throws IOException {
+    clear();
+
+    spillExecutor.shutdown();
+    try {
+      if (!spillExecutor.awaitTermination(1, TimeUnit.MINUTES))
+        OLogManager.instance().warn(this, "Writer of the second tier of cache placed in %s was not stopped in time", path);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    writeHeader();
+    channel.force(true);
+    channel.close();
+  }
+
+  /**
+   * @return Amount of pages in the tier
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * @return Amount of pages which were loaded from the tier
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return Amount of pages which were not found in the tier
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return Amount of pages which were written into the tier
+   */
+  public long getSpills() {
+    return spills.sum();
+  }
+
+  /**
+   * @return Amount of evicted pages which were dropped because queue of writes was full
+   */
+  public long getDrops() {
+    return drops.sum();
+  }
+
+  /**
+   * Waits till all pages which are queued at the moment of call are written into the tier.
+   */
+  void flush() {
+    while (true) {
+      try {
+        spillExecutor.submit(() -> {
+        }).get();
+        return;
+      } catch (RejectedExecutionException e) {
+        Thread.yield();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Unexpected failure of writer of the second tier of cache", e);
+      }
+    }
+  }
+
+  /**
+   * Cancels write of the queued copy of page, it is called when page is loaded into memory, so the copy may become stale. Lock is
+   * taken to not interleave with publication of the page which is written at the moment. If page is absent in the queue it is
+   * either never queued or already put into the index, so the caller removes it from the index.
+   */
+  private void cancelSpill(final PageKey key) {
+    if (!spilledPages.containsKey(key))
+      return;
+
+    synchronized (owners) {
+      spilledPages.remove(key);
+    }
+  }
+
+  private OCachePointer releaseAndMiss(final ByteBuffer buffer) {
+    bufferPool.release(buffer);
+    misses.increment();
+    return null;
+  }
+
+  private void releaseSlot(final Entry entry) {
+    synchronized (owners) {
+      if (owners[entry.slot] == entry)
+        owners[entry.slot] = null;
+    }
+  }
+
+  private void writeHeader() throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+    header.putLong(MAGIC_NUMBER);
+    header.putInt(pageSize);
+    header.putInt(slots);
+
+    synchronized (owners) {
+      header.putLong(nextSlot);
+    }
+
+    header.position(0);
+    writeFully(header, 0);
+  }
+
+  private long slotPosition(final int slot) {
+    return dataOffset + (long) slot * pageSize;
+  }
+
+  private static long slotHeaderPosition(final int slot) {
+    return FILE_HEADER_SIZE + (long) slot * SLOT_HEADER_SIZE;
+  }
+
+  private void readFully(final ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0)
+        break;
+
+      position += read;
+    }
+  }
+
+  private void writeFully(final ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private final class SpilledPage implements Runnable {
+    private final PageKey    key;
+    private final ByteBuffer data;
+
+    private SpilledPage(final PageKey key, final ByteBuffer data) {
+      this.key = key;
+      this.data = data;
+    }
+
+    @Override
+    public void run() {
+      try {
+        if (spilledPages.get(key) == this)
+          write(this);
+      } finally {
+        bufferPool.release(data);
+      }
+    }
+  }
+
+  private static final class SpillThreadFactory implements ThreadFactory {
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Second Tier Cache Writer");
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    }
+  }
+
+  private static final class Entry {
+    private final PageKey key;
+    private final long    stamp;
+    private final int     crc;
+    private       int     slot;
+
+    private Entry(final PageKey key, final long stamp, final int crc) {
+      this.key = key;
+      this.stamp = stamp;
+      this.crc = crc;
+    }
+  }
+
+  private static final class PageKey {
+    private final long fileId;
+    private final long pageIndex;
+
+    private PageKey(final long fileId, final long pageIndex) {
+      this.fileId = fileId;
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      final PageKey pageKey = (PageKey) o;
+      return fileId == pageKey.fileId && pageIndex == pageKey.pageIndex;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = (int) (fileId ^ (fileId >>> 32));
+      result = 31 * result + (int) (pageIndex ^ (pageIndex >>> 32));
+      return result;
+    }
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entry of {@link OWTinyLFUCache}.
+ * <p>
+ * Entry combines usages counter and life cycle state into the single atomic field, so page may be acquired by user and prepared for
+ * eviction without any additional locks:
+ * <ol>
+ * <li>Value which is equal or bigger than zero is the amount of users of given page.</li>
+ * <li>{@link #FROZEN} state means that entry is going to be removed from cache and can not be acquired any more.</li>
+ * <li>{@link #DEAD} state means that entry is removed from cache.</li>
+ * </ol>
+ * <p>
+ * Entry also contains links which are used by {@link PageLRUList} to avoid allocation of list nodes. Those links are accessed only
+ * under eviction lock of the cache.
+ */
+final class CacheEntry implements OCacheEntry {
+  private static final int FROZEN = -1;
+  private static final int DEAD   = -2;
+
+  private final PageKey pageKey;
+
+  private volatile OCachePointer dataPointer;
+
+  private final AtomicInteger state = new AtomicInteger();
+
+  private volatile boolean pinned;
+
+  private CacheEntry  next;
+  private CacheEntry  prev;
+  private PageLRUList list;
+
+  CacheEntry(final PageKey pageKey, final OCachePointer dataPointer) {
+    this.pageKey = pageKey;
+    this.dataPointer = dataPointer;
+  }
+
+  PageKey getPageKey() {
+    return pageKey;
+  }
+
+  /**
+   * Increments amount of users of this entry if entry is not frozen or dead.
+   *
+   * @return <code>true</code> if entry is acquired and <code>false</code> if it is evicted from the cache.
+   */
+  boolean acquireEntry() {
+    int current = state.get();
+
+    while (current >= 0) {
+      if (state.compareAndSet(current, current + 1))
+        return true;
+
+      current = state.get();
+    }
+
+    return false;
+  }
+
+  void releaseEntry() {
+    final int result = state.decrementAndGet();
+    assert result >= 0;
+  }
+
+  /**
+   * Marks entry as one which is going to be removed from cache. Only entries which are not used may be frozen.
+   *
+   * @return <code>true</code> if entry was frozen.
+   */
+  boolean freeze() {
+    return state.compareAndSet(0, FROZEN);
+  }
+
+  void makeDead() {
+    if (!state.compareAndSet(FROZEN, DEAD))
+      throw new IllegalStateException("Only frozen entries may be marked as dead, entry " + this);
+  }
+
+  boolean isAlive() {
+    return state.get() >= 0;
+  }
+
+  boolean isPinned() {
+    return pinned;
+  }
+
+  void setPinned(final boolean pinned) {
+    this.pinned = pinned;
+  }
+
+  CacheEntry getNext() {
+    return next;
+  }
+
+  void setNext(final CacheEntry next) {
+    this.next = next;
+  }
+
+  CacheEntry getPrev() {
+    return prev;
+  }
+
+  void setPrev(final CacheEntry prev) {
+    this.prev = prev;
+  }
+
+  PageLRUList getList() {
+    return list;
+  }
+
+  void setList(final PageLRUList list) {
+    this.list = list;
+  }
+
+  @Override
+  public OCachePointer getCachePointer() {
+    return dataPointer;
+  }
+
+  @Override
+  public void clearCachePointer() {
+    dataPointer = null;
+  }
+
+  @Override
+  public void setCachePointer(final OCachePointer cachePointer) {
+    this.dataPointer = cachePointer;
+  }
+
+  @Override
+  public long getFileId() {
+    return pageKey.getFileId();
+  }
+
+  @Override
+  public long getPageIndex() {
+    return pageKey.getPageIndex();
+  }
+
+  @Override
+  public void acquireExclusiveLock() {
+    dataPointer.acquireExclusiveLock();
+  }
+
+  @Override
+  public void releaseExclusiveLock() {
+    dataPointer.releaseExclusiveLock();
+  }
+
+  @Override
+  public void acquireSharedLock() {
+    dataPointer.acquireSharedLock();
+  }
+
+  @Override
+  public void releaseSharedLock() {
+    dataPointer.releaseSharedLock();
+  }
+
+  @Override
+  public int getUsagesCount() {
+    return Math.max(state.get(), 0);
+  }
+
+  @Override
+  public void incrementUsages() {
+    if (!acquireEntry())
+      throw new IllegalStateException("Entry " + this + " is already removed from cache");
+  }
+
+  /**
+   * DEBUG only !!
+   *
+   * @return Whether lock acquired on current entry
+   */
+  @Override
+  public boolean isLockAcquiredByCurrentThread() {
+    return dataPointer.isLockAcquiredByCurrentThread();
+  }
+
+  @Override
+  public void decrementUsages() {
+    releaseEntry();
+  }
+
+  @Override
+  public OWALChanges getChanges() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheEntry{" + "dataPointer=" + dataPointer + ", fileId=" + pageKey.getFileId() + ", pageIndex=" + pageKey
+        .getPageIndex() + ", state=" + state + '}';
+  }
+}
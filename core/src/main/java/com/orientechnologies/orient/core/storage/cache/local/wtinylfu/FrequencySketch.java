@@ -0,0 +1,154 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+/**
+ * Probabilistic estimator of popularity of cache pages which is used by TinyLFU admission policy.
+ * <p>
+ * Estimator is implemented as Count-Min sketch with four hash functions and 4-bit counters, 16 counters are packed into single
+ * <code>long</code> value. To keep estimation adaptive all counters are halved once amount of additions reaches the sample size
+ * which is ten times bigger than maximum size of the cache.
+ * <p>
+ * This class is not thread safe and is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = new long[] { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+      0xcbf29ce484222325L };
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK   = 0x1111111111111111L;
+
+  /**
+   * Maximum value of 4-bit counter.
+   */
+  static final int MAX_FREQUENCY = 15;
+
+  private int    sampleSize;
+  private int    tableMask;
+  private long[] table;
+  private int    size;
+
+  FrequencySketch() {
+    ensureCapacity(1);
+  }
+
+  /**
+   * Resizes sketch if needed so it is able to estimate popularity of given amount of items. Content of sketch is dropped on resize.
+   *
+   * @param maximumSize Maximum amount of items in cache.
+   */
+  void ensureCapacity(final int maximumSize) {
+    final int maximum = Math.max(1, Math.min(maximumSize, Integer.MAX_VALUE >>> 1));
+    if (table != null && table.length >= maximum)
+      return;
+
+    table = new long[ceilingPowerOfTwo(maximum)];
+    tableMask = Math.max(0, table.length - 1);
+    sampleSize = 10 * maximum;
+    if (sampleSize <= 0)
+      sampleSize = Integer.MAX_VALUE;
+
+    size = 0;
+  }
+
+  /**
+   * @param itemHash Hash code of item.
+   *
+   * @return Estimated amount of accesses of given item, value may not be bigger than {@link #MAX_FREQUENCY}.
+   */
+  int frequency(final int itemHash) {
+    final int hash = spread(itemHash);
+    final int start = (hash & 3) << 2;
+
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+
+    return frequency;
+  }
+
+  /**
+   * Increments popularity of item.
+   *
+   * @param itemHash Hash code of item.
+   */
+  void increment(final int itemHash) {
+    final int hash = spread(itemHash);
+    final int start = (hash & 3) << 2;
+
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      added |= incrementAt(index, start + i);
+    }
+
+    if (added && ++size == sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(final int i, final int j) {
+    final int offset = j << 2;
+    final long mask = (0xfL << offset);
+
+    if ((table[i] & mask) != mask) {
+      table[i] += (1L << offset);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Halves all counters, so old popular items gradually lose their weight.
+   */
+  private void reset() {
+    int count = 0;
+    for (int i = 0; i < table.length; i++) {
+      count += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+
+    size = (size >>> 1) - (count >>> 2);
+  }
+
+  private int indexOf(final int item, final int i) {
+    long hash = (item + SEEDS[i]) * SEEDS[i];
+    hash += (hash >>> 32);
+    return ((int) hash) & tableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+
+  static int ceilingPowerOfTwo(final int x) {
+    if (x <= 1)
+      return 1;
+
+    return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(x - 1));
+  }
+}
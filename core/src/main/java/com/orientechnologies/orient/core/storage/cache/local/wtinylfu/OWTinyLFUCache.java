@@ -0,0 +1,986 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OLoadCacheStateException;
+import com.orientechnologies.orient.core.exception.OReadCacheException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read cache which uses W-TinyLFU admission and eviction policy (see {@link WTinyLFUPolicy}) and does not acquire any shared lock
+ * if requested page is already contained in cache.
+ * <p>
+ * Pages are stored inside of {@link ConcurrentHashMap}, life cycle of each page is controlled by the state of {@link CacheEntry} so
+ * page which is used can not be evicted and page which is evicted can not be acquired. Changes of state of eviction policy are
+ * recorded in buffers and replayed in batches by the thread which holds eviction lock:
+ * <ol>
+ * <li>Accesses to the pages are recorded in lossy {@link StripedReadBuffer}.</li>
+ * <li>Additions of new pages are recorded in write buffer which never drops records.</li>
+ * </ol>
+ * Buffers are drained if write buffer contains more than {@link #WRITE_BUFFER_DRAIN_THRESHOLD} records, stripe of read buffer is
+ * full or amount of pages in cache exceeds maximum size. If cache size exceeds its limit more than on {@link #MAX_CACHE_OVERFLOW}
+ * pages threads which add new pages wait till eviction will be completed.
+ * <p>
+ * Pinned pages are excluded from eviction policy and are never evicted till file will be closed or truncated.
+ *
+ * @see OGlobalConfiguration#DISK_CACHE_READ_CACHE_IMPLEMENTATION
+ */
+public final class OWTinyLFUCache implements OReadCache {
+  /**
+   * Name of implementation which is used in {@link OGlobalConfiguration#DISK_CACHE_READ_CACHE_IMPLEMENTATION}.
+   */
+  public static final String NAME = "W-TinyLFU";
+
+  /**
+   * Maximum amount of times when we will show message that limit of pinned pages was exhausted.
+   */
+  private static final int MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES = 10;
+
+  /**
+   * Maximum percent of pinned pages which may be contained in this cache.
+   */
+  private static final int MAX_PERCENT_OF_PINED_PAGES = 50;
+
+  /**
+   * Minimum size of memory which may be allocated by cache (in pages). This parameter is used only if related flag is set in
+   * constrictor of cache.
+   */
+  public static final int MIN_CACHE_SIZE = 256;
+
+  private static final int MAX_CACHE_OVERFLOW = Runtime.getRuntime().availableProcessors() * 8;
+
+  private static final int WRITE_BUFFER_DRAIN_THRESHOLD = 16;
+
+  /**
+   * File which contains stored state of disk cache after storage close.
+   */
+  public static final String CACHE_STATE_FILE = "cache_wtinylfu.stt";
+
+  private final int pageSize;
+
+  /**
+   * Maximum percent of pinned pages which may be hold in this cache.
+   *
+   * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#DISK_CACHE_PINNED_PAGES
+   */
+  private final int percentOfPinnedPages;
+
+  /**
+   * Counts how much time we warned user that limit of amount of pinned pages is reached.
+   */
+  private final AtomicInteger pinnedPagesWarningCounter = new AtomicInteger();
+
+  private final ConcurrentHashMap<PageKey, CacheEntry> data = new ConcurrentHashMap<>();
+
+  /**
+   * Placeholders of pages which are loaded from disk at the moment, they are released once page is published in {@link #data}.
+   */
+  private final ConcurrentHashMap<PageKey, CountDownLatch> loads = new ConcurrentHashMap<>();
+
+  private final StripedReadBuffer                 readBuffer      = new StripedReadBuffer();
+  private final ConcurrentLinkedQueue<CacheEntry> writeBuffer     = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger                     writeBufferSize = new AtomicInteger();
+
+  /**
+   * Amount of pages in cache including pinned pages.
+   */
+  private final AtomicInteger cacheSize = new AtomicInteger();
+
+  private final AtomicInteger pinnedPages = new AtomicInteger();
+
+  private volatile int maxSize;
+
+  private final ReentrantLock  evictionLock = new ReentrantLock();
+  private final WTinyLFUPolicy policy;
+
+  /**
+   * Serializes allocation of new pages and operations on whole file. It is never acquired during page load.
+   */
+  private final OPartitionedLockManager<Object> fileLockManager = new OPartitionedLockManager<>(true);
+
+  /**
+   * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
+   * @param pageSize             Cache page size in bytes.
+   * @param checkMinSize         If this flat is set size of cache may be {@link #MIN_CACHE_SIZE} or bigger.
+   * @param percentOfPinnedPages Maximum percent of pinned pages which may be hold by this cache.
+   *
+   * @see #MAX_PERCENT_OF_PINED_PAGES
+   */
+  public OWTinyLFUCache(final long readCacheMaxMemory, final int pageSize, final boolean checkMinSize,
+      final int percentOfPinnedPages) {
+    if (percentOfPinnedPages > MAX_PERCENT_OF_PINED_PAGES)
+      throw new IllegalArgumentException(
+          "Percent of pinned pages cannot be more than " + MAX_PERCENT_OF_PINED_PAGES + " but passed value is "
+              + percentOfPinnedPages);
+
+    this.percentOfPinnedPages = percentOfPinnedPages;
+    this.pageSize = pageSize;
+
+    int normalizedSize = normalizeMemory(readCacheMaxMemory, pageSize);
+
+    if (checkMinSize && normalizedSize < MIN_CACHE_SIZE)
+      normalizedSize = MIN_CACHE_SIZE;
+
+    this.maxSize = normalizedSize;
+    this.policy = new WTinyLFUPolicy(normalizedSize);
+  }
+
+  @Override
+  public long addFile(final String fileName, final OWriteCache writeCache) throws IOException {
+    return writeCache.addFile(fileName);
+  }
+
+  @Override
+  public long addFile(final String fileName, long fileId, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    return writeCache.addFile(fileName, fileId);
+  }
+
+  @Override
+  public OCacheEntry loadForWrite(final long fileId, final long pageIndex, final boolean checkPinnedPages,
+      final OWriteCache writeCache, final int pageCount, final boolean verifyChecksums) throws IOException {
+    final OCacheEntry cacheEntry = doLoad(fileId, pageIndex, writeCache, pageCount, false, verifyChecksums);
+
+    if (cacheEntry != null) {
+      cacheEntry.acquireExclusiveLock();
+      writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer());
+    }
+
+    return cacheEntry;
+  }
+
+  @Override
+  public OCacheEntry loadForRead(final long fileId, final long pageIndex, final boolean checkPinnedPages,
+      final OWriteCache writeCache, final int pageCount, final boolean verifyChecksums) throws IOException {
+    final OCacheEntry cacheEntry = doLoad(fileId, pageIndex, writeCache, pageCount, false, verifyChecksums);
+
+    if (cacheEntry != null) {
+      cacheEntry.acquireSharedLock();
+    }
+
+    return cacheEntry;
+  }
+
+  @Override
+  public void releaseFromRead(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
+    cacheEntry.releaseSharedLock();
+
+    ((CacheEntry) cacheEntry).releaseEntry();
+  }
+
+  @Override
+  public void releaseFromWrite(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
+    final OCachePointer cachePointer = cacheEntry.getCachePointer();
+    assert cachePointer != null;
+
+    final CountDownLatch latch;
+
+    final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+        .getSessionPerformanceStatistic();
+
+    if (sessionStoragePerformanceStatistic != null) {
+      sessionStoragePerformanceStatistic.startPageWriteInCacheTimer();
+    }
+
+    //page is stored in write cache while entry is still acquired so it can not be evicted, and its pointer released, before
+    //write cache will take ownership of the pointer
+    try {
+      latch = writeCache.store(cacheEntry.getFileId(), cacheEntry.getPageIndex(), cachePointer);
+    } finally {
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.stopPageWriteInCacheTimer();
+      }
+    }
+
+    //We need to release exclusive lock from cache pointer after we put it into the write cache so both "dirty pages" of write
+    //cache and write cache itself will contain actual values simultaneously.
+    //See O2QCache#releaseFromWrite for the details.
+    cachePointer.releaseExclusiveLock();
+    ((CacheEntry) cacheEntry).releaseEntry();
+
+    if (latch != null) {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.interrupted();
+        throw OException.wrapException(new OInterruptedException("File flush was interrupted"), e);
+      } catch (Exception e) {
+        throw OException.wrapException(new OReadCacheException("File flush was abnormally terminated"), e);
+      }
+    }
+  }
+
+  @Override
+  public void pinPage(final OCacheEntry cacheEntry) {
+    final CacheEntry entry = (CacheEntry) cacheEntry;
+
+    if ((100 * (pinnedPages.get() + 1)) / maxSize > percentOfPinnedPages) {
+      if (pinnedPagesWarningCounter.get() < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+
+        final long warnings = pinnedPagesWarningCounter.getAndIncrement();
+        if (warnings < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+          OLogManager.instance().warn(this, "Maximum amount of pinned pages is reached, given page " + cacheEntry
+              + " will not be marked as pinned which may lead to performance degradation. You may consider to increase the percent of pinned pages "
+              + "by changing the property '" + OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getKey() + "'");
+        }
+      }
+
+      return;
+    }
+
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      if (entry.isPinned() || !entry.isAlive())
+        return;
+
+      policy.onRemove(entry);
+      entry.setPinned(true);
+
+      pinnedPages.incrementAndGet();
+      policy.setMaxSize(maxSize - pinnedPages.get());
+
+      policy.evict(this::evict);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Changes amount of memory which may be used by given cache. This method may consume many resources if amount of memory provided
+   * in parameter is much less than current amount of memory.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
+   */
+  @Override
+  public void changeMaximumAmountOfMemory(final long readCacheMaxMemory) throws IllegalStateException {
+    final int newMemorySize = normalizeMemory(readCacheMaxMemory, pageSize);
+    final int oldMemorySize;
+
+    evictionLock.lock();
+    try {
+      oldMemorySize = maxSize;
+      if (oldMemorySize == newMemorySize)
+        return;
+
+      if ((100 * pinnedPages.get() / newMemorySize) > percentOfPinnedPages) {
+        throw new IllegalStateException("Cannot decrease amount of memory used by disk cache "
+            + "because limit of pinned pages will be more than allowed limit " + percentOfPinnedPages);
+      }
+
+      maxSize = newMemorySize;
+
+      drainBuffers();
+      policy.setMaxSize(newMemorySize - pinnedPages.get());
+      policy.evict(this::evict);
+    } finally {
+      evictionLock.unlock();
+    }
+
+    OLogManager.instance()
+        .info(this, "Disk cache size was changed from " + oldMemorySize + " pages to " + newMemorySize + " pages");
+  }
+
+  private OCacheEntry doLoad(long fileId, final long pageIndex, final OWriteCache writeCache, final int pageCount,
+      final boolean addNewPages, final boolean verifyChecksums) throws IOException {
+    if (pageCount < 1)
+      throw new IllegalArgumentException(
+          "Amount of pages to load from cache should be not less than 1 but passed value is " + pageCount);
+
+    final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+        .getSessionPerformanceStatistic();
+
+    if (sessionStoragePerformanceStatistic != null) {
+      sessionStoragePerformanceStatistic.startPageReadFromCacheTimer();
+    }
+
+    try {
+      fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+      final PageKey pageKey = new PageKey(fileId, pageIndex);
+
+      while (true) {
+        CacheEntry cacheEntry = data.get(pageKey);
+
+        if (cacheEntry != null) {
+          if (cacheEntry.acquireEntry()) {
+            afterRead(cacheEntry);
+
+            if (sessionStoragePerformanceStatistic != null)
+              sessionStoragePerformanceStatistic.incrementPageAccessOnCacheLevel(true);
+
+            return cacheEntry;
+          }
+
+          //entry is going to be evicted, wait till it will be removed from the map
+          Thread.yield();
+          continue;
+        }
+
+        //page is loaded outside of the map, so bins of the map are not locked during disk I/O, concurrent loads of the same page
+        //wait on the placeholder till the page will be published
+        final CountDownLatch loadLatch = new CountDownLatch(1);
+        final CountDownLatch concurrentLoad = loads.putIfAbsent(pageKey, loadLatch);
+        if (concurrentLoad != null) {
+          awaitLoad(concurrentLoad);
+          continue;
+        }
+
+        final OModifiableBoolean cacheHit = new OModifiableBoolean(false);
+        final OCachePointer[] pointers;
+        try {
+          //page may be published by other thread between the lookup and registration of the load
+          if (data.containsKey(pageKey))
+            continue;
+
+          pointers = writeCache.load(fileId, pageIndex, pageCount, addNewPages, cacheHit, verifyChecksums);
+          if (pointers.length == 0)
+            return null;
+
+          cacheEntry = new CacheEntry(pageKey, pointers[0]);
+
+          //entry is not visible for eviction policy yet, so it can not be frozen
+          final boolean acquired = cacheEntry.acquireEntry();
+          assert acquired;
+
+          //page still may be added by prefetch of other load
+          if (data.putIfAbsent(pageKey, cacheEntry) != null) {
+            pointers[0].decrementReadersReferrer();
+
+            for (int i = 1; i < pointers.length; i++) {
+              addPrefetchedPage(pointers[i]);
+            }
+
+            continue;
+          }
+        } finally {
+          loads.remove(pageKey, loadLatch);
+          loadLatch.countDown();
+        }
+
+        cacheSize.incrementAndGet();
+        writeBuffer.offer(cacheEntry);
+        writeBufferSize.incrementAndGet();
+
+        for (int i = 1; i < pointers.length; i++) {
+          addPrefetchedPage(pointers[i]);
+        }
+
+        afterWrite();
+
+        if (sessionStoragePerformanceStatistic != null)
+          sessionStoragePerformanceStatistic.incrementPageAccessOnCacheLevel(cacheHit.getValue());
+
+        return cacheEntry;
+      }
+    } finally {
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.stopPageReadFromCacheTimer();
+      }
+    }
+  }
+
+  private static void awaitLoad(final CountDownLatch loadLatch) {
+    try {
+      loadLatch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Wait for load of page was interrupted"), e);
+    }
+  }
+
+  private void addPrefetchedPage(final OCachePointer pointer) {
+    final PageKey pageKey = new PageKey(pointer.getFileId(), pointer.getPageIndex());
+    final CacheEntry entry = new CacheEntry(pageKey, pointer);
+
+    if (data.putIfAbsent(pageKey, entry) != null) {
+      pointer.decrementReadersReferrer();
+      return;
+    }
+
+    cacheSize.incrementAndGet();
+    writeBuffer.offer(entry);
+    writeBufferSize.incrementAndGet();
+  }
+
+  private void afterRead(final CacheEntry entry) {
+    final StripedReadBuffer.OfferResult result = readBuffer.offer(entry);
+
+    if (result == StripedReadBuffer.OfferResult.FULL || writeBufferSize.get() > WRITE_BUFFER_DRAIN_THRESHOLD) {
+      tryToDrainBuffers();
+    }
+  }
+
+  private void afterWrite() {
+    final int size = cacheSize.get();
+
+    if (size - maxSize > MAX_CACHE_OVERFLOW) {
+      //cache is overflowed, we need to wait till pages will be evicted
+      evictionLock.lock();
+      try {
+        drainBuffersAndEvict();
+      } finally {
+        evictionLock.unlock();
+      }
+    } else if (size > maxSize || writeBufferSize.get() > WRITE_BUFFER_DRAIN_THRESHOLD) {
+      tryToDrainBuffers();
+    }
+  }
+
+  private void tryToDrainBuffers() {
+    if (evictionLock.tryLock()) {
+      try {
+        drainBuffersAndEvict();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private void drainBuffersAndEvict() {
+    assert evictionLock.isHeldByCurrentThread();
+
+    drainBuffers();
+    policy.evict(this::evict);
+  }
+
+  private void drainBuffers() {
+    assert evictionLock.isHeldByCurrentThread();
+
+    CacheEntry entry;
+    while ((entry = writeBuffer.poll()) != null) {
+      writeBufferSize.decrementAndGet();
+
+      //entry may be removed from cache before it was added into the eviction policy
+      if (entry.isAlive() && !entry.isPinned() && entry.getList() == null) {
+        policy.onAdd(entry);
+      }
+    }
+
+    readBuffer.drainTo(this::onAccess);
+  }
+
+  private void onAccess(final CacheEntry entry) {
+    if (entry.isAlive() && !entry.isPinned() && entry.getList() != null) {
+      policy.onAccess(entry);
+    }
+  }
+
+  /**
+   * Removes entry from cache if it is not used.
+   *
+   * @return <code>true</code> if entry was removed from cache.
+   */
+  private boolean evict(final CacheEntry entry) {
+    if (!entry.freeze())
+      return false;
+
+    removeFrozenEntry(entry);
+    return true;
+  }
+
+  private void removeFrozenEntry(final CacheEntry entry) {
+    final boolean removed = data.remove(entry.getPageKey(), entry);
+    assert removed;
+
+    entry.makeDead();
+    cacheSize.decrementAndGet();
+
+    final OCachePointer cachePointer = entry.getCachePointer();
+    //cache pointer can be null if we load initial state of cache from disk
+    if (cachePointer != null) {
+      cachePointer.decrementReadersReferrer();
+      entry.clearCachePointer();
+    }
+  }
+
+  @Override
+  public OCacheEntry allocateNewPage(long fileId, final OWriteCache writeCache, final boolean verifyChecksums)
+      throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final OCacheEntry cacheEntry;
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      final long filledUpTo = writeCache.getFilledUpTo(fileId);
+      assert filledUpTo >= 0;
+
+      cacheEntry = doLoad(fileId, filledUpTo, writeCache, 1, true, verifyChecksums);
+    } finally {
+      fileLock.unlock();
+    }
+
+    assert cacheEntry != null;
+
+    cacheEntry.acquireExclusiveLock();
+    writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer());
+
+    return cacheEntry;
+  }
+
+  @Override
+  public long getUsedMemory() {
+    return ((long) cacheSize.get()) * pageSize;
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      for (CacheEntry entry : data.values()) {
+        removeEntry(entry);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void truncateFile(long fileId, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      //pages are removed first, so write cache may release memory mapped regions of the file
+      clearFiles(Collections.singleton(fileId));
+
+      writeCache.truncateFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void shrinkFile(long fileId, final long pageCount, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      evictionLock.lock();
+      try {
+        drainBuffers();
+
+        //mapped regions of the file are released once file is shrunk, so pages mapped from them are removed too
+        for (CacheEntry entry : data.values()) {
+          if (entry.getFileId() == fileId && (entry.getPageIndex() >= pageCount || isMapped(entry))) {
+            removeEntry(entry);
+          }
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+
+      writeCache.shrinkFile(fileId, pageCount);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void closeFile(long fileId, final boolean flush, final OWriteCache writeCache) {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      //pages are removed first, so write cache may release memory mapped regions of the file
+      clearFiles(Collections.singleton(fileId));
+
+      writeCache.close(fileId, flush);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void deleteFile(long fileId, final OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      clearFiles(Collections.singleton(fileId));
+
+      writeCache.deleteFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void closeStorage(final OWriteCache writeCache) throws IOException {
+    if (writeCache == null)
+      return;
+
+    //pages are removed first, so write cache may release memory mapped regions of files
+    clearFiles(new HashSet<>(writeCache.files().values()));
+
+    writeCache.close();
+  }
+
+  @Override
+  public void deleteStorage(final OWriteCache writeCache) throws IOException {
+    clearFiles(new HashSet<>(writeCache.files().values()));
+
+    writeCache.delete();
+
+    final Path rootDirectory = writeCache.getRootDirectory();
+    final Path stateFile = rootDirectory.resolve(CACHE_STATE_FILE);
+
+    if (Files.exists(stateFile)) {
+      Files.delete(stateFile);
+    }
+  }
+
+  private static boolean isMapped(final CacheEntry entry) {
+    final OCachePointer cachePointer = entry.getCachePointer();
+    return cachePointer != null && cachePointer.isMapped();
+  }
+
+  /**
+   * Removes all pages of given files from cache. Cache is scanned entirely because it is cheaper than to track pages of each file
+   * during page load.
+   */
+  private void clearFiles(final Set<Long> fileIds) {
+    if (fileIds.isEmpty())
+      return;
+
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      for (CacheEntry entry : data.values()) {
+        if (fileIds.contains(entry.getFileId())) {
+          removeEntry(entry);
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void removeEntry(final CacheEntry entry) {
+    assert evictionLock.isHeldByCurrentThread();
+
+    //entries are evicted only under eviction lock so entry may not be frozen only if it is used
+    if (!entry.freeze()) {
+      throw new OStorageException(
+          "Page with index " + entry.getPageIndex() + " for file with id " + entry.getFileId() + " cannot be freed because it is used.");
+    }
+
+    policy.onRemove(entry);
+
+    if (entry.isPinned()) {
+      entry.setPinned(false);
+      pinnedPages.decrementAndGet();
+      policy.setMaxSize(maxSize - pinnedPages.get());
+    }
+
+    removeFrozenEntry(entry);
+  }
+
+  /**
+   * Loads state of cache queues stored during storage close {@link #storeCacheState(OWriteCache)} back into memory if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>.
+   * If maximum size of cache was decreased cache state will not be restored.
+   *
+   * @param writeCache Write cache is used to load pages back into cache if needed.
+   */
+  @Override
+  public void loadCacheState(final OWriteCache writeCache) {
+    if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
+      return;
+    }
+
+    evictionLock.lock();
+    try {
+      final Path statePath = writeCache.getRootDirectory().resolve(CACHE_STATE_FILE);
+
+      if (Files.exists(statePath)) {
+        try (FileChannel channel = FileChannel.open(statePath, StandardOpenOption.READ)) {
+          final BufferedInputStream bufferedInputStream = new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024);
+          try (DataInputStream dataInputStream = new DataInputStream(bufferedInputStream)) {
+            final List<List<PageKey>> queues = new ArrayList<>(3);
+            final long maxCacheSize;
+
+            try {
+              maxCacheSize = dataInputStream.readLong();
+
+              for (int i = 0; i < 3; i++) {
+                queues.add(readQueueState(writeCache, dataInputStream));
+              }
+            } catch (IOException ioe) {
+              throw OException.wrapException(new OLoadCacheStateException("Can not restore state of cache from file"), ioe);
+            }
+
+            if (maxCacheSize > maxSize) {
+              OLogManager.instance().info(this,
+                  "Previous maximum cache size was %d current maximum cache size is %d. Cache state for storage %s will not be restored.",
+                  maxCacheSize, maxSize, writeCache.getRootDirectory());
+              return;
+            }
+
+            drainBuffers();
+            restoreQueues(writeCache, queues);
+          }
+        }
+      }
+    } catch (OLoadCacheStateException lcsException) {
+      OLogManager.instance()
+          .warn(this, "Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory(), lcsException);
+    } catch (Exception e) {
+      throw OException.wrapException(
+          new OStorageException("Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory()), e);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Following format is used to store queue state:
+   * <ol>
+   * <li>File id or -1 if end of queue is reached (int)</li>
+   * <li>Page index (long), is absent if end of the queue is reached</li>
+   * </ol>
+   */
+  private static List<PageKey> readQueueState(final OWriteCache writeCache, final DataInputStream dataInputStream)
+      throws IOException {
+    final List<PageKey> pageKeys = new ArrayList<>();
+
+    int internalFileId = dataInputStream.readInt();
+    while (internalFileId >= 0) {
+      final long pageIndex = dataInputStream.readLong();
+      final long fileId = writeCache.externalFileId(internalFileId);
+
+      // skip potentially outdated information about unknown files
+      if (writeCache.fileNameById(fileId) != null) {
+        pageKeys.add(new PageKey(fileId, pageIndex));
+      }
+
+      internalFileId = dataInputStream.readInt();
+    }
+
+    return pageKeys;
+  }
+
+  /**
+   * Loads pages sorted by position in a file and then puts them into the queues in the same order as they were stored, so state of
+   * queues is restored.
+   *
+   * @param queues Content of window, probation and protected queues accordingly.
+   */
+  private void restoreQueues(final OWriteCache writeCache, final List<List<PageKey>> queues) throws IOException {
+    final OModifiableBoolean cacheHit = new OModifiableBoolean();
+
+    final TreeSet<PageKey> filePositions = new TreeSet<>();
+    for (List<PageKey> queue : queues) {
+      for (PageKey pageKey : queue) {
+        if (!data.containsKey(pageKey)) {
+          filePositions.add(pageKey);
+        }
+      }
+    }
+
+    final Map<PageKey, OCachePointer> pointers = new HashMap<>();
+    int freeSpace = maxSize - pinnedPages.get() - cacheSize.get();
+
+    for (PageKey pageKey : filePositions) {
+      if (freeSpace <= 0)
+        break;
+
+      final OCachePointer[] loaded = writeCache.load(pageKey.getFileId(), pageKey.getPageIndex(), 1, false, cacheHit, true);
+      if (loaded.length > 0) {
+        pointers.put(pageKey, loaded[0]);
+        freeSpace--;
+      }
+    }
+
+    final PageLRUList[] lists = new PageLRUList[] { policy.getWindow(), policy.getProbation(), policy.getProtection() };
+    for (int i = 0; i < lists.length; i++) {
+      for (PageKey pageKey : queues.get(i)) {
+        final OCachePointer pointer = pointers.remove(pageKey);
+        if (pointer == null)
+          continue;
+
+        final CacheEntry entry = new CacheEntry(pageKey, pointer);
+        if (data.putIfAbsent(pageKey, entry) != null) {
+          pointer.decrementReadersReferrer();
+          continue;
+        }
+
+        cacheSize.incrementAndGet();
+        policy.onRestore(entry, lists[i]);
+      }
+    }
+
+    assert pointers.isEmpty();
+
+    policy.evict(this::evict);
+  }
+
+  /**
+   * Stores state of queues of cache inside of {@link #CACHE_STATE_FILE} file if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>.
+   * Following format is used to store queue state:
+   * <ol>
+   * <li>Max cache size, single item (long)</li>
+   * <li>File id or -1 if end of queue is reached (int)</li>
+   * <li>Page index (long), is absent if end of the queue is reached</li>
+   * </ol>
+   * Window, probation and protected queues are stored one by one, pinned pages are not stored.
+   *
+   * @param writeCache Write cache which manages files cache state of which is going to be stored.
+   */
+  @Override
+  public void storeCacheState(final OWriteCache writeCache) {
+    if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
+      return;
+    }
+
+    if (writeCache == null)
+      return;
+
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      final Path rootDirectory = writeCache.getRootDirectory();
+      final Path stateFile = rootDirectory.resolve(CACHE_STATE_FILE);
+
+      if (Files.exists(stateFile)) {
+        Files.delete(stateFile);
+      }
+
+      final Set<Long> filesToStore = new HashSet<>(writeCache.files().values());
+
+      try (final FileChannel channel = FileChannel.open(stateFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+        final BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+
+        try (DataOutputStream dataOutputStream = new DataOutputStream(bufferedOutputStream)) {
+          dataOutputStream.writeLong(maxSize);
+
+          for (PageLRUList list : Arrays.asList(policy.getWindow(), policy.getProbation(), policy.getProtection())) {
+            storeQueueState(writeCache, filesToStore, dataOutputStream, list);
+            dataOutputStream.writeInt(-1);
+          }
+        }
+      }
+    } catch (Exception e) {
+      OLogManager.instance()
+          .error(this, "Cannot store state of cache for storage placed under %s", e, writeCache.getRootDirectory());
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Stores state of single queue from least recently used to most recently used item.
+   */
+  private static void storeQueueState(final OWriteCache writeCache, final Set<Long> filesToStore,
+      final DataOutputStream dataOutputStream, final PageLRUList queue) throws IOException {
+    for (CacheEntry cacheEntry : queue) {
+      final long fileId = cacheEntry.getFileId();
+
+      if (filesToStore.contains(fileId)) {
+        dataOutputStream.writeInt(writeCache.internalFileId(fileId));
+        dataOutputStream.writeLong(cacheEntry.getPageIndex());
+      }
+    }
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return Amount of pages which are tracked by eviction policy, all buffers are drained before calculation of result.
+   */
+  int getPolicySize() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+      return policy.size();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  boolean isPinned(final long fileId, final long pageIndex) {
+    final CacheEntry entry = data.get(new PageKey(fileId, pageIndex));
+    return entry != null && entry.isPinned();
+  }
+
+  boolean contains(final long fileId, final long pageIndex) {
+    return data.containsKey(new PageKey(fileId, pageIndex));
+  }
+
+  private static int normalizeMemory(final long maxSize, final int pageSize) {
+    final long tmpMaxSize = maxSize / pageSize;
+    if (tmpMaxSize >= Integer.MAX_VALUE) {
+      return Integer.MAX_VALUE;
+    } else {
+      return (int) tmpMaxSize;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Intrusive LRU list of cache entries. Links between items are stored inside of entries themselves so no additional objects are
+ * allocated when item is moved between lists.
+ * <p>
+ * This class is not thread safe and is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class PageLRUList implements Iterable<CacheEntry> {
+  private int size;
+
+  /**
+   * Least recently used item.
+   */
+  private CacheEntry head;
+
+  /**
+   * Most recently used item.
+   */
+  private CacheEntry tail;
+
+  /**
+   * Moves entry to the most recently used position of this list. If entry is contained in other list it is removed from it first.
+   */
+  void moveToMRU(final CacheEntry entry) {
+    final PageLRUList list = entry.getList();
+    if (list == this && tail == entry)
+      return;
+
+    if (list != null)
+      list.remove(entry);
+
+    entry.setList(this);
+    entry.setPrev(tail);
+    entry.setNext(null);
+
+    if (tail == null) {
+      head = entry;
+    } else {
+      tail.setNext(entry);
+    }
+
+    tail = entry;
+    size++;
+  }
+
+  void remove(final CacheEntry entry) {
+    assert entry.getList() == this;
+
+    final CacheEntry prev = entry.getPrev();
+    final CacheEntry next = entry.getNext();
+
+    if (prev == null) {
+      head = next;
+    } else {
+      prev.setNext(next);
+    }
+
+    if (next == null) {
+      tail = prev;
+    } else {
+      next.setPrev(prev);
+    }
+
+    entry.setPrev(null);
+    entry.setNext(null);
+    entry.setList(null);
+
+    size--;
+  }
+
+  CacheEntry peekLRU() {
+    return head;
+  }
+
+  CacheEntry pollLRU() {
+    final CacheEntry entry = head;
+    if (entry != null)
+      remove(entry);
+
+    return entry;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return Iterator which traverses items from least recently used to most recently used one.
+   */
+  @Override
+  public Iterator<CacheEntry> iterator() {
+    return new Iterator<CacheEntry>() {
+      private CacheEntry next = head;
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public CacheEntry next() {
+        if (next == null)
+          throw new NoSuchElementException();
+
+        final CacheEntry result = next;
+        next = next.getNext();
+        return result;
+      }
+    };
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy buffer which records accesses to the cache pages, so they can be replayed on eviction policy later in a batch by thread
+ * which holds eviction lock.
+ * <p>
+ * Buffer is split on stripes, every thread writes into the stripe selected by its id, so threads do not contend on the same
+ * counters. If stripe is full access record is dropped, which is acceptable because eviction policy needs only approximate access
+ * statistic. Each stripe is a ring buffer with multiple producers and single consumer.
+ */
+final class StripedReadBuffer {
+  private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Amount of stripes, should be power of two.
+   */
+  private static final int STRIPES = FrequencySketch.ceilingPowerOfTwo(4 * NCPU);
+
+  private static final int STRIPES_MASK = STRIPES - 1;
+
+  /**
+   * Size of ring buffer of single stripe, should be power of two.
+   */
+  static final int BUFFER_SIZE = 16;
+
+  private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+  enum OfferResult {
+    SUCCESS, FULL, FAILED
+  }
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  StripedReadBuffer() {
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /**
+   * Records access of entry.
+   *
+   * @return {@link OfferResult#FULL} if stripe is full and should be drained, {@link OfferResult#FAILED} if record is dropped
+   * because of contention with other thread.
+   */
+  OfferResult offer(final CacheEntry entry) {
+    return stripes[stripeIndex()].offer(entry);
+  }
+
+  /**
+   * Replays all recorded accesses. Should be called only by single thread at the same time.
+   */
+  void drainTo(final Consumer<CacheEntry> consumer) {
+    for (Stripe stripe : stripes) {
+      stripe.drainTo(consumer);
+    }
+  }
+
+  private static int stripeIndex() {
+    int h = (int) Thread.currentThread().getId();
+    h ^= (h >>> 16);
+    h *= 0x85ebca6b;
+    h ^= (h >>> 13);
+
+    return h & STRIPES_MASK;
+  }
+
+  private static final class Stripe {
+    private final AtomicLong readCounter  = new AtomicLong();
+    private final AtomicLong writeCounter = new AtomicLong();
+
+    private final AtomicReferenceArray<CacheEntry> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+
+    private OfferResult offer(final CacheEntry entry) {
+      final long head = readCounter.get();
+      final long tail = writeCounter.get();
+
+      final long size = tail - head;
+      if (size >= BUFFER_SIZE) {
+        return OfferResult.FULL;
+      }
+
+      if (writeCounter.compareAndSet(tail, tail + 1)) {
+        final int index = (int) (tail & BUFFER_MASK);
+        buffer.lazySet(index, entry);
+
+        return OfferResult.SUCCESS;
+      }
+
+      return OfferResult.FAILED;
+    }
+
+    private void drainTo(final Consumer<CacheEntry> consumer) {
+      long head = readCounter.get();
+      final long tail = writeCounter.get();
+
+      final long size = tail - head;
+      if (size == 0) {
+        return;
+      }
+
+      do {
+        final int index = (int) (head & BUFFER_MASK);
+        final CacheEntry entry = buffer.get(index);
+        if (entry == null) {
+          //slot is reserved but entry is not published yet
+          break;
+        }
+
+        buffer.lazySet(index, null);
+        consumer.accept(entry);
+        head++;
+      } while (head != tail);
+
+      readCounter.lazySet(head);
+    }
+  }
+}
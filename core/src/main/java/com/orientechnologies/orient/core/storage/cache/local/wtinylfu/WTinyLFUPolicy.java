@@ -0,0 +1,218 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import java.util.function.Predicate;
+
+/**
+ * W-TinyLFU eviction policy.
+ * <p>
+ * New pages are placed into the small "window" LRU queue. Pages evicted from window become candidates to enter main space which is
+ * segmented LRU which consists of "probation" and "protected" queues. Candidate is admitted into main space only if its estimated
+ * popularity is higher than popularity of the probation victim, so single pass scans of big clusters do not wash out hot pages.
+ * Pages which are accessed inside of probation queue are promoted to protected queue.
+ * <p>
+ * This class is not thread safe and is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class WTinyLFUPolicy {
+  /**
+   * Percent of cache which is occupied by window queue.
+   */
+  private static final int WINDOW_PERCENT = 1;
+
+  /**
+   * Percent of main space which is occupied by protected queue.
+   */
+  private static final int PROTECTED_PERCENT = 80;
+
+  private final FrequencySketch sketch = new FrequencySketch();
+
+  private final PageLRUList window     = new PageLRUList();
+  private final PageLRUList probation  = new PageLRUList();
+  private final PageLRUList protection = new PageLRUList();
+
+  private int maxSize;
+  private int maxWindowSize;
+  private int maxProtectedSize;
+
+  WTinyLFUPolicy(final int maxSize) {
+    setMaxSize(maxSize);
+  }
+
+  void setMaxSize(final int maxSize) {
+    this.maxSize = Math.max(maxSize, 0);
+
+    maxWindowSize = Math.max(1, (int) ((long) this.maxSize * WINDOW_PERCENT / 100));
+    maxProtectedSize = (int) ((long) Math.max(this.maxSize - maxWindowSize, 0) * PROTECTED_PERCENT / 100);
+
+    sketch.ensureCapacity(this.maxSize);
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  int size() {
+    return window.size() + probation.size() + protection.size();
+  }
+
+  PageLRUList getWindow() {
+    return window;
+  }
+
+  PageLRUList getProbation() {
+    return probation;
+  }
+
+  PageLRUList getProtection() {
+    return protection;
+  }
+
+  /**
+   * Registers entry which was added into the cache.
+   */
+  void onAdd(final CacheEntry entry) {
+    assert entry.getList() == null;
+
+    sketch.increment(entry.getPageKey().hashCode());
+    window.moveToMRU(entry);
+  }
+
+  /**
+   * Registers access to the entry which is already contained in cache.
+   */
+  void onAccess(final CacheEntry entry) {
+    sketch.increment(entry.getPageKey().hashCode());
+
+    final PageLRUList list = entry.getList();
+    if (list == window) {
+      window.moveToMRU(entry);
+    } else if (list == probation) {
+      protection.moveToMRU(entry);
+      demoteFromProtection();
+    } else if (list == protection) {
+      protection.moveToMRU(entry);
+    }
+  }
+
+  /**
+   * Removes entry from the queues without eviction, for example if page is pinned or file is deleted.
+   */
+  void onRemove(final CacheEntry entry) {
+    final PageLRUList list = entry.getList();
+    if (list != null) {
+      list.remove(entry);
+    }
+  }
+
+  /**
+   * Restores entry into given queue during load of cache state.
+   */
+  void onRestore(final CacheEntry entry, final PageLRUList list) {
+    assert list == window || list == probation || list == protection;
+    list.moveToMRU(entry);
+  }
+
+  /**
+   * Evicts entries till size of the queues will not be less or equal to the maximum size of cache.
+   *
+   * @param evictor Removes entry from the cache. Returns <code>false</code> if entry can not be evicted because it is in use, such
+   *                entry is returned back into the queues.
+   */
+  void evict(final Predicate<CacheEntry> evictor) {
+    //amount of entries which are in use and were put back, guarantees that loop will stop if all entries are used
+    int attempts = size();
+
+    while (window.size() > maxWindowSize && attempts > 0) {
+      final CacheEntry candidate = window.pollLRU();
+
+      if (probation.size() + protection.size() < maxSize - maxWindowSize) {
+        probation.moveToMRU(candidate);
+        continue;
+      }
+
+      if (probation.isEmpty()) {
+        final CacheEntry demoted = protection.peekLRU();
+        if (demoted != null)
+          probation.moveToMRU(demoted);
+      }
+
+      final CacheEntry victim = probation.peekLRU();
+      if (victim == null) {
+        if (!evictOrRecycle(candidate, evictor, window))
+          attempts--;
+        continue;
+      }
+
+      if (admit(candidate, victim)) {
+        probation.remove(victim);
+
+        if (!evictOrRecycle(victim, evictor, window))
+          attempts--;
+
+        probation.moveToMRU(candidate);
+      } else {
+        if (!evictOrRecycle(candidate, evictor, window))
+          attempts--;
+      }
+    }
+
+    while (size() > maxSize && attempts > 0) {
+      final PageLRUList list;
+      if (!probation.isEmpty()) {
+        list = probation;
+      } else if (!protection.isEmpty()) {
+        list = protection;
+      } else {
+        list = window;
+      }
+
+      final CacheEntry victim = list.pollLRU();
+      if (!evictOrRecycle(victim, evictor, list))
+        attempts--;
+    }
+  }
+
+  private boolean admit(final CacheEntry candidate, final CacheEntry victim) {
+    final int candidateFrequency = sketch.frequency(candidate.getPageKey().hashCode());
+    final int victimFrequency = sketch.frequency(victim.getPageKey().hashCode());
+
+    return candidateFrequency > victimFrequency;
+  }
+
+  private static boolean evictOrRecycle(final CacheEntry entry, final Predicate<CacheEntry> evictor, final PageLRUList recycleList) {
+    assert entry.getList() == null;
+
+    if (evictor.test(entry))
+      return true;
+
+    //entry is in use and can not be evicted
+    recycleList.moveToMRU(entry);
+    return false;
+  }
+
+  private void demoteFromProtection() {
+    while (protection.size() > maxProtectedSize) {
+      final CacheEntry demoted = protection.pollLRU();
+      probation.moveToMRU(demoted);
+    }
+  }
+}
@@ -37,7 +37,10 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.RandomAccessFile;
 import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -62,6 +65,16 @@ public class OFileClassic implements OFile, OClosableItem {
 
   private static final int OPEN_RETRY_MAX = 10;
 
+  /**
+   * Size of the block of file system, space of the file may be deallocated only by whole blocks.
+   */
+  private static final int FS_BLOCK_SIZE = 4 * 1024;
+
+  /**
+   * Size of the region of the file which is mapped into memory at once by {@link #map(long, int)}.
+   */
+  private static final long MAPPED_SEGMENT_SIZE = 64L * 1024 * 1024;
+
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
   private volatile Path osFile;
@@ -77,6 +90,52 @@ public class OFileClassic implements OFile, OClosableItem {
   private AllocationMode allocationMode;
   private int            fd;
 
+  /**
+   * Whether unused parts of the file regions may be deallocated by {@link #write(long, ByteBuffer, int)}, switched off on first
+   * failure.
+   */
+  private volatile boolean punchHoleSupported = true;
+
+  /**
+   * Read-only regions of the file mapped into memory, key is index of the region. Only regions which are entirely inside of the
+   * file are mapped, so each region has size {@link #MAPPED_SEGMENT_SIZE} and is never mapped again while file grows.
+   */
+  private final ConcurrentHashMap<Long, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+
+  /**
+   * Releases memory mapped by {@link FileChannel#map(FileChannel.MapMode, long, long)} without waiting for garbage collector, or
+   * <code>null</code> if it is not supported by JVM.
+   */
+  private static final Method UNMAP_METHOD;
+  private static final Object UNMAP_TARGET;
+
+  static {
+    Method unmapMethod = null;
+    Object unmapTarget = null;
+
+    try {
+      //Java 9+
+      final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+
+      unmapMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      unmapTarget = theUnsafe.get(null);
+    } catch (NoSuchMethodException e) {
+      //Java 8, cleaner is called on the buffer itself
+      try {
+        unmapMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      } catch (ReflectiveOperationException | RuntimeException ex) {
+        OLogManager.instance().warnNoDb(OFileClassic.class, "Mapped regions of files can not be released explicitly", ex);
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      OLogManager.instance().warnNoDb(OFileClassic.class, "Mapped regions of files can not be released explicitly", e);
+    }
+
+    UNMAP_METHOD = unmapMethod;
+    UNMAP_TARGET = unmapTarget;
+  }
+
   /**
    * Map which calculates which files are opened and how many users they have
    */
@@ -171,6 +230,9 @@ public class OFileClassic implements OFile, OClosableItem {
       try {
         acquireWriteLock();
         try {
+          //mapped region prevents truncation of the file on some platforms
+          releaseMappedSegments();
+
           //noinspection resource
           channel.truncate(HEADER_SIZE + size);
           this.size = size;
@@ -194,6 +256,93 @@ public class OFileClassic implements OFile, OClosableItem {
     return size;
   }
 
+  /**
+   * Returns read-only view of the file content which is mapped into memory. All changes of the file content are visible through
+   * the view, so caller should guarantee that related region of the file is not changed while view is used. View is valid till
+   * {@link #releaseMappedSegments()} is called, which happens when file is shrunk, deleted or its content is replaced.
+   *
+   * @param offset Offset of the region from the beginning of the file data.
+   * @param length Length of the region.
+   *
+   * @return View of the file content, or <code>null</code> if region crosses boundary of mapped segments or lies in the tail of
+   * the file which does not fill the whole segment, such regions should be read by {@link #read(long, ByteBuffer, boolean)}.
+   */
+  public ByteBuffer map(final long offset, final int length) throws IOException {
+    final long segmentIndex = offset / MAPPED_SEGMENT_SIZE;
+    final int segmentOffset = (int) (offset - segmentIndex * MAPPED_SEGMENT_SIZE);
+
+    if (offset < 0 || segmentOffset + length > MAPPED_SEGMENT_SIZE || (segmentIndex + 1) * MAPPED_SEGMENT_SIZE > size)
+      return null;
+
+    final MappedByteBuffer segment;
+
+    acquireReadLock();
+    try {
+      if (channel == null || (segmentIndex + 1) * MAPPED_SEGMENT_SIZE > size)
+        return null;
+
+      MappedByteBuffer mappedSegment = mappedSegments.get(segmentIndex);
+      if (mappedSegment == null) {
+        mappedSegment = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + segmentIndex * MAPPED_SEGMENT_SIZE,
+            MAPPED_SEGMENT_SIZE);
+
+        final MappedByteBuffer concurrentSegment = mappedSegments.putIfAbsent(segmentIndex, mappedSegment);
+        if (concurrentSegment != null) {
+          //segment is mapped by other thread, view of this mapping was not passed to anyone
+          unmap(mappedSegment);
+          mappedSegment = concurrentSegment;
+        }
+      }
+
+      segment = mappedSegment;
+    } finally {
+      releaseReadLock();
+    }
+
+    final ByteBuffer view = segment.duplicate();
+    view.position(segmentOffset);
+    view.limit(segmentOffset + length);
+
+    return view.slice();
+  }
+
+  /**
+   * Releases all regions of the file mapped into memory by {@link #map(long, int)}. Caller should guarantee that none of the views
+   * returned by {@link #map(long, int)} is used anymore, access to the released view crashes JVM.
+   * <p>
+   * Regions are kept when file is closed, because file may be closed and opened again by the container of opened files while its
+   * pages are still cached, so owner of the file should call this method once it drops pages of the file which is closed for good.
+   */
+  public void releaseMappedSegments() {
+    acquireWriteLock();
+    try {
+      for (MappedByteBuffer segment : mappedSegments.values()) {
+        unmap(segment);
+      }
+
+      mappedSegments.clear();
+    } finally {
+      releaseWriteLock();
+    }
+  }
+
+  private static void unmap(final MappedByteBuffer segment) {
+    if (UNMAP_METHOD == null)
+      return;
+
+    try {
+      if (UNMAP_TARGET != null) {
+        UNMAP_METHOD.invoke(UNMAP_TARGET, segment);
+      } else {
+        final Object cleaner = UNMAP_METHOD.invoke(segment);
+        if (cleaner != null)
+          cleaner.getClass().getMethod("clean").invoke(cleaner);
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      OLogManager.instance().warnNoDb(OFileClassic.class, "Mapped region of file can not be released explicitly", e);
+    }
+  }
+
   @Override
   public void read(long offset, byte[] iData, int iLength, int iArrayOffset) throws IOException {
     int attempts = 0;
@@ -294,6 +443,67 @@ public class OFileClassic implements OFile, OClosableItem {
     }
   }
 
+  /**
+   * Writes content of the buffer at the beginning of the region of the file and deallocates disk space of the rest of the region,
+   * so file becomes sparse. Only file system blocks which are fully covered by the rest of the region are deallocated and they are
+   * read as zeros after that. Space is deallocated only if Linux native API is available, otherwise only content is written.
+   *
+   * @param offset     Offset of the region from the beginning of the file data.
+   * @param buffer     Content to write, should not be bigger than region.
+   * @param regionSize Size of the region.
+   */
+  public void write(long offset, ByteBuffer buffer, int regionSize) throws IOException {
+    assert buffer.remaining() <= regionSize;
+
+    int attempts = 0;
+
+    while (true) {
+      try {
+        acquireWriteLock();
+        try {
+          offset += HEADER_SIZE;
+
+          final long holeStart = offset + buffer.remaining();
+          writeByteBuffer(buffer, channel, offset);
+          punchHole(holeStart, offset + regionSize);
+
+          setDirty();
+
+          break;
+        } finally {
+          releaseWriteLock();
+          attempts++;
+        }
+      } catch (IOException e) {
+        OLogManager.instance().error(this, "Error during data write for file '" + getName() + "' " + attempts + "-th attempt", e);
+        reopenFile(attempts, e);
+      }
+    }
+  }
+
+  private void punchHole(final long start, final long end) {
+    if (!punchHoleSupported || allocationMode != AllocationMode.DESCRIPTOR)
+      return;
+
+    assert fd > 0;
+
+    final long holeStart = (start + FS_BLOCK_SIZE - 1) / FS_BLOCK_SIZE * FS_BLOCK_SIZE;
+    final long holeEnd = end / FS_BLOCK_SIZE * FS_BLOCK_SIZE;
+
+    if (holeEnd <= holeStart)
+      return;
+
+    try {
+      ONative.instance().punchHole(fd, holeStart, holeEnd - holeStart);
+    } catch (LastErrorException e) {
+      punchHoleSupported = false;
+
+      OLogManager.instance().warnNoDb(this,
+          "Can not deallocate space (error %d) of file %s using native Linux API, compressed pages will occupy full space on disk",
+          e.getErrorCode(), osFile.toAbsolutePath().toString());
+    }
+  }
+
   @Override
   public void write(long offset, ByteBuffer[] buffers) throws IOException {
     int attempts = 0;
@@ -786,6 +996,7 @@ public class OFileClassic implements OFile, OClosableItem {
       try {
         acquireWriteLock();
         try {
+          releaseMappedSegments();
           close();
           if (osFile != null) {
             Files.deleteIfExists(osFile);
@@ -939,6 +1150,8 @@ public class OFileClassic implements OFile, OClosableItem {
   public void replaceContentWith(Path newContentFile) throws IOException {
     acquireWriteLock();
     try {
+      //mapped region prevents replacement of the file on some platforms
+      releaseMappedSegments();
       close();
 
       Files.copy(newContentFile, osFile, StandardCopyOption.REPLACE_EXISTING);
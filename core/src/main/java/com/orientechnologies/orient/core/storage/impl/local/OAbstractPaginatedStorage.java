@@ -42,6 +42,7 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.command.OCommandRequestText;
 import com.orientechnologies.orient.core.config.*;
 import com.orientechnologies.orient.core.conflict.ORecordConflictStrategy;
+import com.orientechnologies.orient.core.conflict.OVersionRecordConflictStrategy;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseListener;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
@@ -77,6 +78,7 @@ import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationErro
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
+import com.orientechnologies.orient.core.storage.cache.local.OReadAheadManager;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.*;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
@@ -85,7 +87,9 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.*;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
+import com.orientechnologies.orient.core.storage.index.engine.OLSMIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTreeBulkLoader;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainerSBTree;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManager;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerAbstract;
@@ -104,6 +108,7 @@ import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.*;
 import java.util.concurrent.locks.Lock;
@@ -121,7 +126,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private static final int WAL_RESTORE_REPORT_INTERVAL = 30 * 1000; // milliseconds
 
   private static final Comparator<ORecordOperation> COMMIT_RECORD_OPERATION_COMPARATOR = Comparator
-      .comparing(o -> o.getRecord().getIdentity());
+      .comparing(ORecordOperation::getRID);
 
   @SuppressWarnings("CanBeFinal")
   private static volatile DataOutputStream journaledStream = null;
@@ -170,7 +175,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     fuzzyCheckpointExecutor.setMaximumPoolSize(1);
   }
 
-  private final OSimpleRWLockManager<ORID> lockManager;
+  private final ODeadlockDetectingRWLockManager<ORID> lockManager;
 
   /**
    * Lock is used to atomically update record versions.
@@ -202,6 +207,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected volatile OReadCache  readCache;
   protected volatile OWriteCache writeCache;
 
+  /**
+   * Manager which reads ahead pages of sequentially scanned files, <code>null</code> if storage does not support or read ahead is
+   * switched off.
+   */
+  protected volatile OReadAheadManager readAheadManager;
+
   private volatile ORecordConflictStrategy recordConflictStrategy = Orient.instance().getRecordConflictStrategy()
       .getDefaultImplementation();
 
@@ -226,6 +237,18 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private final List<OIndexEngine>        indexEngines              = new ArrayList<>();
   private       boolean                   wereDataRestoredAfterOpen = false;
 
+  /**
+   * Applies changes of pages concurrently during restore of data from WAL, <code>null</code> if restore is not in progress or
+   * changes are applied by the thread which reads WAL.
+   */
+  private volatile OPageChangesApplier pageChangesApplier;
+  private final    Object              restoredPagesAllocationLock = new Object();
+
+  private final OStorageSnapshotManager snapshotManager = new OStorageSnapshotManager();
+
+  private final ORecordVersionCache recordVersionCache = new ORecordVersionCache(
+      OGlobalConfiguration.STORAGE_RECORD_VERSION_CACHE_SIZE.getValueAsInteger());
+
   private final LongAdder fullCheckpointCount = new LongAdder();
 
   private final AtomicLong recordCreated = new AtomicLong(0);
@@ -244,7 +267,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     super(name, filePath, mode);
 
     this.id = id;
-    lockManager = new ONotThreadRWLockManager<>();
+    lockManager = new ODeadlockDetectingRWLockManager<>(OAbstractPaginatedStorage::recordLockOwnerName);
     recordVersionManager = new OPartitionedLockManager<>();
 
     registerProfilerHooks();
@@ -715,6 +738,92 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Compacts cluster without taking the database offline. Records are moved closer to the beginning of the cluster file by batches
+   * of {@link OGlobalConfiguration#STORAGE_CLUSTER_COMPACTION_BATCH_SIZE} records, each batch is moved inside of its own atomic
+   * operation and RIDs of records are not changed. Compaction may be throttled by pause between batches which is set by {@link
+   * OGlobalConfiguration#STORAGE_CLUSTER_COMPACTION_BATCH_DELAY}. If compaction is interrupted it is continued from the last
+   * processed record during the next call even after restart of storage. Once all records are processed, empty pages are removed
+   * from the end of the cluster file.
+   *
+   * @param clusterId Id of cluster to compact.
+   * @param listener  Listener which is notified about progress of compaction.
+   *
+   * @return Amount of pages removed from the end of cluster file.
+   */
+  public long compactCluster(final int clusterId, final OCommandOutputListener listener) {
+    try {
+      checkOpenness();
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        final OCluster cluster = doGetAndCheckCluster(clusterId);
+        if (!(cluster instanceof OPaginatedCluster))
+          throw new OStorageException("Cluster '" + cluster.getName() + "' does not support compaction");
+
+        final OPaginatedCluster paginatedCluster = (OPaginatedCluster) cluster;
+        final OContextConfiguration ctxCfg = getConfiguration().getContextConfiguration();
+        final int batchSize = ctxCfg.getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_BATCH_SIZE);
+        final int batchDelay = ctxCfg.getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_BATCH_DELAY);
+
+        listener.onMessage("Compaction of cluster '" + cluster.getName() + "' is started...");
+
+        final long start = System.currentTimeMillis();
+        final long lastPosition = paginatedCluster.getLastPosition();
+
+        long movedRecords = 0;
+        long reportedProgress = -1;
+
+        OPaginatedCluster.CompactionResult result;
+        do {
+          result = paginatedCluster.compactRecords(batchSize);
+          movedRecords += result.getMovedRecords();
+
+          if (!result.isCompleted()) {
+            final long progress = lastPosition > 0 ? Math.min(100 * result.getNextPosition() / (lastPosition + 1), 100) : 100;
+            if (progress != reportedProgress) {
+              listener.onMessage("Compaction of cluster '" + cluster.getName() + "': " + progress + "% of records are processed, "
+                  + movedRecords + " records are moved");
+              reportedProgress = progress;
+            }
+
+            if (batchDelay > 0)
+              Thread.sleep(batchDelay);
+          }
+        } while (!result.isCompleted());
+
+        final long removedPages;
+        final long lockId = atomicOperationsManager.freezeAtomicOperations(null, null);
+        try {
+          //pages are removed without logging into WAL so all changes of cluster should be flushed first
+          makeFullCheckpoint();
+          removedPages = paginatedCluster.truncateFreePages();
+        } finally {
+          atomicOperationsManager.releaseAtomicOperations(lockId);
+        }
+
+        listener.onMessage(
+            "Compaction of cluster '" + cluster.getName() + "' is completed in " + (System.currentTimeMillis() - start) + "ms, "
+                + movedRecords + " records are moved, " + removedPages + " pages are removed");
+
+        return removedPages;
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw logAndPrepareForRethrow(
+          OException.wrapException(new OInterruptedException("Compaction of cluster was interrupted"), e));
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public int addCluster(String clusterName, final Object... parameters) {
     try {
@@ -799,6 +908,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         if (iTruncate)
           cluster.truncate();
         cluster.delete();
+        recordVersionCache.removeCluster(clusterId);
 
         makeStorageDirty();
         clusterMap.remove(cluster.getName().toLowerCase(configuration.getLocaleInstance()));
@@ -894,6 +1004,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return writeCache;
   }
 
+  public OReadAheadManager getReadAheadManager() {
+    return readAheadManager;
+  }
+
   @Override
   public long count(final int iClusterId) {
     return count(iClusterId, false);
@@ -1538,6 +1652,33 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Opens snapshot of records of the storage for the current thread. Till {@link #endSnapshotRead()} is called, records read by
+   * this thread, including records found by iteration over clusters, are in state in which they were at the moment of call of this
+   * method. Changes of records are not blocked by snapshot, content of changed records is kept in memory while snapshot is open.
+   * <p>
+   * Snapshot covers only records, indexes are always read in their latest state.
+   */
+  public void startSnapshotRead() {
+    try {
+      checkOpenness();
+      snapshotManager.openSnapshot();
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Closes snapshot opened by {@link #startSnapshotRead()} by the current thread, does nothing if there is no such snapshot.
+   */
+  public void endSnapshotRead() {
+    snapshotManager.closeSnapshot();
+  }
+
   public OStorageOperationResult<Integer> updateRecord(final ORecordId rid, final boolean updateContent, final byte[] content,
       final int version, final byte recordType, @SuppressWarnings("unused") final int mode,
       final ORecordCallback<Integer> callback) {
@@ -1620,6 +1761,41 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return atomicOperationsManager;
   }
 
+  /**
+   * @return manager of record locks, it provides state of record locks and statistics of waits for them.
+   */
+  public ODeadlockDetectingRWLockManager<ORID> getRecordLockManager() {
+    return lockManager;
+  }
+
+  /**
+   * @return owner of record locks acquired by the given session, the current thread is used if there is no session. Session is
+   * taken from its transaction, so wrappers of the same session lock records on behalf of the same owner.
+   */
+  private static Object recordLockOwner(ODatabaseDocumentInternal db) {
+    return db == null ? Thread.currentThread() : db.getTransaction().getDatabase();
+  }
+
+  /**
+   * @return name of the session which owns record locks in the form of <code>user@database</code>, or <code>null</code> if locks
+   * are owned by the thread.
+   */
+  private static String recordLockOwnerName(Object owner) {
+    if (!(owner instanceof ODatabaseDocumentInternal))
+      return null;
+
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) owner;
+    final OSecurityUser user = db.getUser();
+    return (user == null ? "?" : user.getName()) + '@' + db.getName();
+  }
+
+  /**
+   * @return cache of the latest versions of records, it is updated by atomic operations once they are committed.
+   */
+  public ORecordVersionCache getRecordVersionCache() {
+    return recordVersionCache;
+  }
+
   public OWriteAheadLog getWALInstance() {
     return writeAheadLog;
   }
@@ -1982,6 +2158,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>();
+      OLogSequenceNumber commitLsn = null;
+      // locks may be not acquired if thread is chosen as a victim of deadlock, only acquired locks are released
+      final List<ORID> acquiredRecordLocks = new ArrayList<>();
+
       stateLock.acquireReadLock();
       try {
         if (modificationLock) {
@@ -1997,9 +2177,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
           Collections.sort(recordLocks);
           for (ORID rid : recordLocks) {
-            acquireWriteLock(rid);
+            acquireWriteLock(rid, database);
+            acquiredRecordLocks.add(rid);
           }
         }
+
+        final long snapshotChange = snapshotManager.beginChange();
         try {
           try {
 
@@ -2012,6 +2195,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
             checkReadOnlyConditions();
 
+            checkCachedRecordVersions(recordOperations);
+
             Map<ORecordOperation, OPhysicalPosition> positions = new IdentityHashMap<>();
             for (ORecordOperation recordOperation : newRecords) {
               ORecord rec = recordOperation.getRecord();
@@ -2068,6 +2253,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             commitIndexes(indexOperations);
 
             final OLogSequenceNumber lsn = endStorageTx();
+            commitLsn = lsn;
             final DataOutputStream journaledStream = OAbstractPaginatedStorage.journaledStream;
             if (journaledStream != null) { // send event to journaled tx stream if the streaming is on
               final int txId = transaction.getClientTransactionId();
@@ -2098,31 +2284,23 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         } finally {
           atomicOperationsManager.ensureThatComponentsUnlocked();
           database.getMetadata().clearThreadLocalSchemaSnapshot();
+          snapshotManager.endChange(snapshotChange);
         }
       } finally {
         try {
-          if (modificationLock) {
-            List<ORID> recordLocks = new ArrayList<>();
-            for (ORecordOperation recordOperation : recordOperations) {
-              if (recordOperation.type == ORecordOperation.UPDATED || recordOperation.type == ORecordOperation.DELETED) {
-                recordLocks.add(recordOperation.getRID());
-              }
-            }
-
-            Set<ORID> locked = transaction.getLockedRecords();
-            if (locked != null) {
-              recordLocks.removeAll(locked);
-            }
-
-            for (ORID rid : recordLocks) {
-              releaseWriteLock(rid);
-            }
+          for (ORID rid : acquiredRecordLocks) {
+            releaseWriteLock(rid, database);
           }
         } finally {
           stateLock.releaseReadLock();
         }
       }
 
+      // wait outside of locks, so records of concurrent transactions are synced together
+      if (commitLsn != null && writeAheadLog != null && getConfiguration().getContextConfiguration()
+          .getValueAsBoolean(OGlobalConfiguration.WAL_GROUP_COMMIT))
+        waitTillDurable(commitLsn);
+
       if (OLogManager.instance().isDebugEnabled())
         OLogManager.instance()
             .debug(this, "%d Committed transaction %d on database '%s' (result=%s)", Thread.currentThread().getId(),
@@ -2537,6 +2715,56 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   }
 
+  /**
+   * Creates loader which fills the empty index by entries which are sorted before they are written into the index.
+   *
+   * @return loader or <code>null</code> if engine of the index does not support bulk load
+   */
+  public OSBTreeBulkLoader<Object, Object> createIndexBulkLoader(int indexId) throws OInvalidIndexEngineIdException {
+    final OIndexEngine engine = getIndexEngine(indexId);
+    if (engine instanceof OSBTreeIndexEngine)
+      return ((OSBTreeIndexEngine) engine).createBulkLoader();
+
+    return null;
+  }
+
+  /**
+   * Writes entries collected by the loader into the index.
+   *
+   * @return amount of entries put into the index
+   *
+   * @see OSBTreeBulkLoader#load(OIndexEngine.Validator)
+   */
+  @SuppressWarnings("unchecked")
+  public long bulkLoadIndex(int indexId, OSBTreeBulkLoader<Object, Object> loader,
+      OIndexEngine.Validator<Object, OIdentifiable> validator) throws OInvalidIndexEngineIdException {
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+        checkIndexId(indexId);
+
+        makeStorageDirty();
+        return loader.load((OIndexEngine.Validator) validator);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   public Object getIndexValue(int indexId, Object key) throws OInvalidIndexEngineIdException {
     try {
       if (transaction.get() != null)
@@ -3770,7 +3998,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         checkOpenness();
 
         final OCluster cluster = getClusterById(currentClusterId);
-        return cluster.higherPositions(physicalPosition);
+        return snapshotPositions(cluster, physicalPosition, false, true);
       } catch (IOException ioe) {
         throw OException
             .wrapException(new OStorageException("Cluster Id " + currentClusterId + " is invalid in storage '" + name + '\''), ioe);
@@ -3799,7 +4027,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         checkOpenness();
 
         final OCluster cluster = getClusterById(clusterId);
-        return cluster.ceilingPositions(physicalPosition);
+        return snapshotPositions(cluster, physicalPosition, true, true);
       } catch (IOException ioe) {
         throw OException
             .wrapException(new OStorageException("Cluster Id " + clusterId + " is invalid in storage '" + name + '\''), ioe);
@@ -3829,7 +4057,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         final OCluster cluster = getClusterById(currentClusterId);
 
-        return cluster.lowerPositions(physicalPosition);
+        return snapshotPositions(cluster, physicalPosition, false, false);
       } catch (IOException ioe) {
         throw OException
             .wrapException(new OStorageException("Cluster Id " + currentClusterId + " is invalid in storage '" + name + '\''), ioe);
@@ -3859,7 +4087,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         final OCluster cluster = getClusterById(clusterId);
 
-        return cluster.floorPositions(physicalPosition);
+        return snapshotPositions(cluster, physicalPosition, true, false);
       } catch (IOException ioe) {
         throw OException
             .wrapException(new OStorageException("Cluster Id " + clusterId + " is invalid in storage '" + name + '\''), ioe);
@@ -3875,7 +4103,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  public void acquireWriteLock(final ORID rid, long timeout) {
+  /**
+   * Acquires exclusive lock of record on behalf of the given owner, usually the session which locks the record. Lock has to be
+   * released by the same owner, but not necessarily by the same thread.
+   */
+  public void acquireWriteLock(final ORID rid, final Object owner, long timeout) {
     if (!modificationLock) {
       throw new ODatabaseException(
           "Record write locks are off by configuration, set the configuration \"storage.pessimisticLock\" to \""
@@ -3883,7 +4115,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
 
     try {
-      lockManager.acquireWriteLock(rid, timeout);
+      lockManager.lock(rid, owner, false, timeout);
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
     } catch (Error ee) {
@@ -3893,7 +4125,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  public void acquireWriteLock(final ORID rid) {
+  public void acquireWriteLock(final ORID rid, final Object owner) {
     if (!modificationLock) {
       throw new ODatabaseException(
           "Record write locks are off by configuration, set the configuration \"storage.pessimisticLock\" to \""
@@ -3901,7 +4133,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
 
     try {
-      lockManager.acquireWriteLock(rid, 0);
+      lockManager.lock(rid, owner, false, 0);
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
     } catch (Error ee) {
@@ -3911,9 +4143,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  public void releaseWriteLock(final ORID rid) {
+  public void releaseWriteLock(final ORID rid, final Object owner) {
     try {
-      lockManager.releaseWriteLock(rid);
+      lockManager.unlock(rid, owner, false);
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
     } catch (Error ee) {
@@ -3923,7 +4155,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  public void acquireReadLock(final ORID rid) {
+  public void acquireReadLock(final ORID rid, final Object owner) {
     if (!readLock) {
       throw new ODatabaseException(
           "Record read locks are off by configuration, set the configuration \"storage.pessimisticLock\" to \""
@@ -3931,7 +4163,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
 
     try {
-      lockManager.acquireReadLock(rid, 0);
+      lockManager.lock(rid, owner, true, 0);
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
     } catch (Error ee) {
@@ -3941,7 +4173,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  public void acquireReadLock(final ORID rid, long timeout) {
+  public void acquireReadLock(final ORID rid, final Object owner, long timeout) {
     if (!readLock) {
       throw new ODatabaseException(
           "Record read locks are off by configuration, set the configuration \"storage.pessimisticLock\" to \""
@@ -3949,7 +4181,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
 
     try {
-      lockManager.acquireReadLock(rid, timeout);
+      lockManager.lock(rid, owner, true, timeout);
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
     } catch (Error ee) {
@@ -3959,9 +4191,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  public void releaseReadLock(final ORID rid) {
+  public void releaseReadLock(final ORID rid, final Object owner) {
     try {
-      lockManager.releaseReadLock(rid);
+      lockManager.unlock(rid, owner, true);
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
     } catch (Error ee) {
@@ -4159,12 +4391,21 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       return doReadRecordIfNotLatest(cluster, rid, recordVersion);
     }
 
+    if (snapshotManager.isSnapshotOpen()) {
+      final ORawBuffer buff = readRecord(cluster, rid, false);
+      if (buff == null)
+        throw new ORecordNotFoundException(rid, "Record for cluster with id " + rid.getClusterId() + " and position " + rid
+            .getClusterPosition() + " is absent in snapshot of database '" + name + '\'');
+
+      return buff.version == recordVersion ? null : buff;
+    }
+
     stateLock.acquireReadLock();
     try {
       if (readLock) {
         ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
         if (db == null || !((OTransactionAbstract) db.getTransaction()).getLockedRecords().contains(rid)) {
-          acquireReadLock(rid);
+          acquireReadLock(rid, recordLockOwner(db));
         }
       }
 
@@ -4178,7 +4419,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         if (readLock) {
           ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
           if (db == null || !((OTransactionAbstract) db.getTransaction()).getLockedRecords().contains(rid)) {
-            releaseReadLock(rid);
+            releaseReadLock(rid, recordLockOwner(db));
           }
         }
       } finally {
@@ -4205,17 +4446,18 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       if (readLock) {
         ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
         if (db == null || !((OTransactionAbstract) db.getTransaction()).getLockedRecords().contains(rid)) {
-          acquireReadLock(rid);
+          acquireReadLock(rid, recordLockOwner(db));
         }
       }
       checkOpenness();
-      return doReadRecord(clusterSegment, rid, prefetchRecords);
+      // latest state of record is read before saved content of record is looked up, see OStorageSnapshotManager.read()
+      return snapshotManager.read(rid, doReadRecord(clusterSegment, rid, prefetchRecords));
     } finally {
       try {
         if (readLock) {
           ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
           if (db == null || !((OTransactionAbstract) db.getTransaction()).getLockedRecords().contains(rid)) {
-            releaseReadLock(rid);
+            releaseReadLock(rid, recordLockOwner(db));
           }
         }
       } finally {
@@ -4224,6 +4466,47 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Returns positions found by the cluster, or positions of records which exist in snapshot opened by the current thread by {@link
+   * #startSnapshotRead()}.
+   */
+  private OPhysicalPosition[] snapshotPositions(final OCluster cluster, final OPhysicalPosition physicalPosition,
+      final boolean inclusive, final boolean ascending) throws IOException {
+    OPhysicalPosition[] positions = clusterPositions(cluster, physicalPosition, inclusive, ascending);
+    if (!snapshotManager.isSnapshotOpen())
+      return positions;
+
+    while (true) {
+      final OPhysicalPosition[] snapshotPositions = snapshotManager
+          .positions(cluster.getId(), physicalPosition.clusterPosition, inclusive, ascending, positions);
+
+      // all records of the batch may be created after snapshot was opened
+      if (snapshotPositions.length > 0 || positions.length == 0)
+        return snapshotPositions;
+
+      positions = clusterPositions(cluster, positions[positions.length - 1], false, ascending);
+    }
+  }
+
+  private static OPhysicalPosition[] clusterPositions(final OCluster cluster, final OPhysicalPosition physicalPosition,
+      final boolean inclusive, final boolean ascending) throws IOException {
+    if (ascending)
+      return inclusive ? cluster.ceilingPositions(physicalPosition) : cluster.higherPositions(physicalPosition);
+
+    return inclusive ? cluster.floorPositions(physicalPosition) : cluster.lowerPositions(physicalPosition);
+  }
+
+  private void waitTillDurable(OLogSequenceNumber lsn) {
+    try {
+      writeAheadLog.requestFlush(lsn).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Waiting for sync of transaction records was interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new OStorageException("Error during sync of transaction records"), e.getCause());
+    }
+  }
+
   private OLogSequenceNumber endStorageTx() throws IOException {
     final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(false, null);
     assert atomicOperationsManager.getCurrentOperation() == null;
@@ -4289,9 +4572,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       makeStorageDirty();
       atomicOperationsManager.startAtomicOperation((String) null, true);
+      final long snapshotChange = snapshotManager.beginChange();
       try {
         ppos = cluster.createRecord(content, recordVersion, recordType, allocated);
         rid.setClusterPosition(ppos.clusterPosition);
+        snapshotManager.saveBeforeImage(snapshotChange, new ORecordId(cluster.getId(), ppos.clusterPosition), null);
+        atomicOperationsManager.getCurrentOperation()
+            .addRecordVersion(new ORecordId(cluster.getId(), ppos.clusterPosition), ppos.recordVersion);
 
         final ORecordSerializationContext context = ORecordSerializationContext.getContext();
         if (context != null)
@@ -4313,6 +4600,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
 
         throw ODatabaseException.wrapException(new OStorageException("Error during creation of record"), e);
+      } finally {
+        snapshotManager.endChange(snapshotChange);
       }
 
       if (callback != null)
@@ -4336,7 +4625,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     Orient.instance().getProfiler().startChrono();
     try {
 
-      final OPhysicalPosition ppos = cluster.getPhysicalPosition(new OPhysicalPosition(rid.getClusterPosition()));
+      final OPhysicalPosition ppos = getPhysicalPositionForChange(rid, cluster);
       if (!checkForRecordValidity(ppos)) {
         final int recordVersion = -1;
         if (callback != null)
@@ -4365,9 +4654,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       makeStorageDirty();
       atomicOperationsManager.startAtomicOperation((String) null, true);
+      final long snapshotChange = snapshotManager.beginChange();
       try {
-        if (updateContent)
+        if (updateContent) {
+          snapshotManager.saveBeforeImage(snapshotChange, rid, () -> cluster.readRecord(rid.getClusterPosition(), false));
           cluster.updateRecord(rid.getClusterPosition(), content, ppos.recordVersion, recordType);
+          atomicOperationsManager.getCurrentOperation().addRecordVersion(rid, ppos.recordVersion);
+        }
 
         final ORecordSerializationContext context = ORecordSerializationContext.getContext();
         if (context != null)
@@ -4383,6 +4676,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           callback.call(rid, recordVersion);
 
         return new OStorageOperationResult<>(recordVersion);
+      } finally {
+        snapshotManager.endChange(snapshotChange);
       }
 
       //if we do not update content of the record we should keep version of the record the same
@@ -4416,14 +4711,79 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   }
 
+  /**
+   * Returns position of record which is going to be updated or deleted. Version of record is taken from changes of atomic operations
+   * of the current thread or from the cache of record versions, so page of the cluster is read only if record is absent in both.
+   */
+  private OPhysicalPosition getPhysicalPositionForChange(final ORecordId rid, final OCluster cluster) throws IOException {
+    final Integer uncommittedVersion = atomicOperationsManager.getUncommittedRecordVersion(rid);
+    final int version;
+    if (uncommittedVersion != null)
+      version = uncommittedVersion;
+    else
+      version = recordVersionCache.getVersion(rid);
+
+    if (version < 0)
+      return cluster.getPhysicalPosition(new OPhysicalPosition(rid.getClusterPosition()));
+
+    final OPhysicalPosition ppos = new OPhysicalPosition(rid.getClusterPosition());
+    ppos.recordVersion = version;
+    return ppos;
+  }
+
+  /**
+   * Checks versions of records updated or deleted by transaction against the cache of record versions before any change is done,
+   * so transaction which conflicts with a concurrent one is rolled back before pages of clusters are loaded. Records which are
+   * absent in the cache or belong to clusters with custom conflict strategy are checked during the change itself.
+   */
+  private void checkCachedRecordVersions(final Collection<ORecordOperation> recordOperations) {
+    for (ORecordOperation recordOperation : recordOperations) {
+      if (recordOperation.type != ORecordOperation.UPDATED && recordOperation.type != ORecordOperation.DELETED)
+        continue;
+
+      final ORecordId rid = (ORecordId) recordOperation.getRID();
+      if (rid.isNew())
+        continue;
+
+      final ORecord record = recordOperation.getRecord();
+      if (recordOperation.type == ORecordOperation.UPDATED && !(record.isDirty() && ORecordInternal.isContentChanged(record)))
+        continue;
+
+      // -1 and -2 mean that version is not checked, smaller values are used to overwrite the version
+      final int version = record.getVersion();
+      if (version < 0)
+        continue;
+
+      final OCluster cluster = getClusterById(rid.getClusterId());
+      final ORecordConflictStrategy strategy =
+          cluster.getRecordConflictStrategy() != null ? cluster.getRecordConflictStrategy() : recordConflictStrategy;
+      // subclasses of default strategy may resolve conflicts
+      if (strategy.getClass() != OVersionRecordConflictStrategy.class)
+        continue;
+
+      final int cachedVersion = recordVersionCache.getVersion(rid);
+      if (cachedVersion >= 0 && cachedVersion != version) {
+        recordConflict.incrementAndGet();
+
+        if (OFastConcurrentModificationException.enabled())
+          throw OFastConcurrentModificationException.instance();
+        else
+          throw new OConcurrentModificationException(rid, cachedVersion, version, recordOperation.type);
+      }
+    }
+  }
+
   private OStorageOperationResult<Integer> doRecycleRecord(final ORecordId rid, byte[] content, final int version,
       final OCluster cluster, final byte recordType) {
 
     try {
       makeStorageDirty();
       atomicOperationsManager.startAtomicOperation((String) null, true);
+      final long snapshotChange = snapshotManager.beginChange();
       try {
+        snapshotManager.saveBeforeImage(snapshotChange, rid, () -> cluster.readRecord(rid.getClusterPosition(), false));
         cluster.recycleRecord(rid.getClusterPosition(), content, version, recordType);
+        atomicOperationsManager.getCurrentOperation().addRecordVersion(rid, -1);
 
         final ORecordSerializationContext context = ORecordSerializationContext.getContext();
         if (context != null)
@@ -4439,6 +4799,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         throw OException
             .wrapException(new OStorageException("Error on recycling record " + rid + " (cluster: " + cluster + ")"), e);
+      } finally {
+        snapshotManager.endChange(snapshotChange);
       }
 
       if (OLogManager.instance().isDebugEnabled())
@@ -4458,7 +4820,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     Orient.instance().getProfiler().startChrono();
     try {
 
-      final OPhysicalPosition ppos = cluster.getPhysicalPosition(new OPhysicalPosition(rid.getClusterPosition()));
+      final OPhysicalPosition ppos = getPhysicalPositionForChange(rid, cluster);
 
       if (ppos == null)
         // ALREADY DELETED
@@ -4476,8 +4838,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       makeStorageDirty();
       atomicOperationsManager.startAtomicOperation((String) null, true);
+      final long snapshotChange = snapshotManager.beginChange();
       try {
+        snapshotManager.saveBeforeImage(snapshotChange, rid, () -> cluster.readRecord(ppos.clusterPosition, false));
         cluster.deleteRecord(ppos.clusterPosition);
+        atomicOperationsManager.getCurrentOperation().addRecordVersion(rid, -1);
 
         final ORecordSerializationContext context = ORecordSerializationContext.getContext();
         if (context != null)
@@ -4487,6 +4852,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         atomicOperationsManager.endAtomicOperation(true, e);
         OLogManager.instance().error(this, "Error on deleting record " + rid + "( cluster: " + cluster + ")", e);
         return new OStorageOperationResult<>(false);
+      } finally {
+        snapshotManager.endChange(snapshotChange);
       }
 
       if (OLogManager.instance().isDebugEnabled())
@@ -4511,8 +4878,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       makeStorageDirty();
       atomicOperationsManager.startAtomicOperation((String) null, true);
+      final long snapshotChange = snapshotManager.beginChange();
       try {
+        snapshotManager.saveBeforeImage(snapshotChange, rid, () -> cluster.readRecord(ppos.clusterPosition, false));
         cluster.hideRecord(ppos.clusterPosition);
+        atomicOperationsManager.getCurrentOperation().addRecordVersion(rid, -1);
 
         final ORecordSerializationContext context = ORecordSerializationContext.getContext();
         if (context != null)
@@ -4524,6 +4894,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         OLogManager.instance().error(this, "Error on deleting record " + rid + "( cluster: " + cluster + ")", e);
 
         return new OStorageOperationResult<>(false);
+      } finally {
+        snapshotManager.endChange(snapshotChange);
       }
 
       return new OStorageOperationResult<>(true);
@@ -4714,10 +5086,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         return;
 
       status = STATUS.CLOSING;
+      recordVersionCache.clear();
 
       if (jvmError.get() == null) {
         readCache.storeCacheState(writeCache);
 
+        // merges of LSM indexes and rebuilds of bloom filters start atomic operations which should be finished before checkpoint
+        for (OIndexEngine engine : indexEngines) {
+          if (engine instanceof OLSMIndexEngine)
+            ((OLSMIndexEngine) engine).stopCompaction();
+          else if (engine instanceof OSBTreeIndexEngine)
+            ((OSBTreeIndexEngine) engine).stopBloomFilterRebuild();
+        }
+
         if (!onDelete && jvmError.get() == null)
           makeFullCheckpoint();
 
@@ -4736,7 +5117,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               engine.delete();
             else
               engine.close();
-          }
+          } else if (engine instanceof OSBTreeIndexEngine && !onDelete)
+            ((OSBTreeIndexEngine) engine).storeBloomFilter();
         }
 
         indexEngines.clear();
@@ -5142,6 +5524,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   @SuppressWarnings("WeakerAccess")
   protected OLogSequenceNumber restoreFrom(OLogSequenceNumber lsn, OWriteAheadLog writeAheadLog) throws IOException {
+    // versions of records are changed by restored operations
+    recordVersionCache.clear();
+
     OLogSequenceNumber logSequenceNumber = null;
     OModifiableBoolean atLeastOnePageUpdate = new OModifiableBoolean();
 
@@ -5152,11 +5537,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
     long lastReportTime = 0;
 
+    final int restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    if (restoreThreads > 1)
+      pageChangesApplier = new OPageChangesApplier(restoreThreads, name, this::restorePageChanges);
+
+    final OWALRecordsPrefetcher prefetcher = new OWALRecordsPrefetcher(writeAheadLog, lsn,
+        OGlobalConfiguration.WAL_RESTORE_BATCH_SIZE.getValueAsInteger(), name);
     try {
-      while (lsn != null) {
+      OWALRecordsPrefetcher.Entry entry;
+      while ((entry = prefetcher.next()) != null) {
+        lsn = entry.lsn;
         logSequenceNumber = lsn;
 
-        OWALRecord walRecord = writeAheadLog.read(lsn);
+        OWALRecord walRecord = entry.record;
 
         if (walRecord instanceof OAtomicUnitEndRecord) {
           OAtomicUnitEndRecord atomicUnitEndRecord = (OAtomicUnitEndRecord) walRecord;
@@ -5208,10 +5601,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                   writeAheadLog.end());
           lastReportTime = currentTime;
         }
-
-        lsn = writeAheadLog.next(lsn);
       }
 
+      awaitPageChanges();
+
       OLogManager.instance()
           .infoNoDb(this, "There are %d unfinished atomic operations left, they will be rolled back", operationUnits.size());
 
@@ -5230,6 +5623,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.",
           e);
       backUpWAL(e);
+    } finally {
+      prefetcher.close();
+
+      if (pageChangesApplier != null) {
+        try {
+          pageChangesApplier.close();
+        } finally {
+          pageChangesApplier = null;
+        }
+      }
     }
 
     if (atLeastOnePageUpdate.getValue())
@@ -5328,6 +5731,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         } else {
           OLogManager.instance().infoNoDb(this, "File %d is absent and can not be deleted", fileCreatedWALRecord.getFileName());
         }
+      } else if (record instanceof OPageOperationRecord) {
+        // pages changed by page operations are not flushed till the end of atomic operation is logged, so they never contain
+        // changes of not finished atomic operations
+        //noinspection UnnecessaryContinue
+        continue;
       } else if (record instanceof OUpdatePageRecord) {
         final OUpdatePageRecord updatePageRecord = (OUpdatePageRecord) record;
 
@@ -5380,19 +5788,23 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
     for (OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord) {
+        awaitPageChanges();
+
         OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId()))
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
       } else if (walRecord instanceof OFileCreatedWALRecord) {
+        awaitPageChanges();
+
         OFileCreatedWALRecord fileCreatedCreatedWALRecord = (OFileCreatedWALRecord) walRecord;
 
         if (!writeCache.exists(fileCreatedCreatedWALRecord.getFileName())) {
           readCache.addFile(fileCreatedCreatedWALRecord.getFileName(), fileCreatedCreatedWALRecord.getFileId(), writeCache);
         }
-      } else if (walRecord instanceof OUpdatePageRecord) {
-        final OUpdatePageRecord updatePageRecord = (OUpdatePageRecord) walRecord;
+      } else if (walRecord instanceof OUpdatePageRecord || walRecord instanceof OPageOperationRecord) {
+        final OAbstractPageWALRecord pageRecord = (OAbstractPageWALRecord) walRecord;
 
-        long fileId = updatePageRecord.getFileId();
+        long fileId = pageRecord.getFileId();
         if (!writeCache.exists(fileId)) {
           String fileName = writeCache.restoreFileById(fileId);
 
@@ -5405,26 +5817,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
 
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null)
-              readCache.releaseFromWrite(cacheEntry, writeCache);
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, false);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          ODurablePage durablePage = new ODurablePage(cacheEntry);
-          durablePage.restoreChanges(updatePageRecord.getChanges());
-          durablePage.setLsn(updatePageRecord.getLsn());
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache);
-        }
+        final OPageChangesApplier applier = pageChangesApplier;
+        if (applier != null)
+          applier.apply(fileId, pageRecord);
+        else
+          restorePageChanges(fileId, pageRecord);
 
         atLeastOnePageUpdate.setValue(true);
       } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -5442,6 +5841,51 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private void restorePageChanges(long fileId, OAbstractPageWALRecord pageRecord) throws IOException {
+    final long pageIndex = pageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
+    if (cacheEntry == null) {
+      // changes of pages may be restored concurrently, so new pages are added to the files only by one thread at a time
+      synchronized (restoredPagesAllocationLock) {
+        cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
+
+        if (cacheEntry == null) {
+          do {
+            if (cacheEntry != null)
+              readCache.releaseFromWrite(cacheEntry, writeCache);
+
+            cacheEntry = readCache.allocateNewPage(fileId, writeCache, false);
+          } while (cacheEntry.getPageIndex() != pageIndex);
+        }
+      }
+    }
+
+    try {
+      // page which is flushed after the change already contains it, page operations, unlike changes of page content, can not be
+      // applied twice
+      final OLogSequenceNumber pageLsn = ODurablePage.getLogSequenceNumberFromPage(cacheEntry.getCachePointer().getBuffer());
+      if (pageLsn.compareTo(pageRecord.getLsn()) >= 0)
+        return;
+
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      if (pageRecord instanceof OUpdatePageRecord)
+        durablePage.restoreChanges(((OUpdatePageRecord) pageRecord).getChanges());
+      else
+        ((OPageOperationRecord) pageRecord).redo(cacheEntry);
+
+      durablePage.setLsn(pageRecord.getLsn());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+  }
+
+  private void awaitPageChanges() {
+    final OPageChangesApplier applier = pageChangesApplier;
+    if (applier != null)
+      applier.await();
+  }
+
   /**
    * Method which is called before any data modification operation to check alarm conditions such as: <ol> <li>Low disk space</li>
    * <li>Exception during data flush in background threads</li> <li>Broken files</li> </ol>
@@ -5568,11 +6012,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return ridsPerCluster;
   }
 
-  private static void lockIndexes(final TreeMap<String, OTransactionIndexChanges> indexes) {
+  private void lockIndexes(final TreeMap<String, OTransactionIndexChanges> indexes) {
+    final boolean pageLatching = getConfiguration().getContextConfiguration()
+        .getValueAsBoolean(OGlobalConfiguration.SBTREE_PAGE_LATCHING);
+
     for (OTransactionIndexChanges changes : indexes.values()) {
       assert changes.changesPerKey instanceof TreeMap;
 
       final OIndexInternal<?> index = changes.getAssociatedIndex();
+      if (pageLatching && acquireAtomicSharedIndexLock(index, changes))
+        continue;
 
       final List<Object> orderedIndexNames = new ArrayList<>(changes.changesPerKey.keySet());
       if (orderedIndexNames.size() > 1)
@@ -5593,6 +6042,27 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Locks unique SB-tree based index in shared mode, so transactions which change the same index are not serialized, if the index
+   * is not cleared by transaction and its changes are small enough, see {@link OSBTreeIndexEngine#acquireAtomicSharedLock(Collection)}.
+   *
+   * @return {@code true} if index was locked in shared mode.
+   */
+  private boolean acquireAtomicSharedIndexLock(final OIndexInternal<?> index, final OTransactionIndexChanges changes) {
+    if (!(index instanceof OIndexUnique) || changes.cleared || !changes.nullKeyChanges.entries.isEmpty())
+      return false;
+
+    final int indexId = ((OIndexUnique) index).getIndexId();
+    if (indexId < 0 || indexId >= indexEngines.size())
+      return false;
+
+    final OIndexEngine engine = indexEngines.get(indexId);
+    if (!(engine instanceof OSBTreeIndexEngine))
+      return false;
+
+    return ((OSBTreeIndexEngine) engine).acquireAtomicSharedLock(changes.changesPerKey.keySet());
+  }
+
   private static void lockClusters(final TreeMap<Integer, OCluster> clustersToLock) {
     for (OCluster cluster : clustersToLock.values())
       cluster.acquireAtomicExclusiveLock();
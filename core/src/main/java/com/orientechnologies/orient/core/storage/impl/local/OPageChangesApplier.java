@@ -0,0 +1,162 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAbstractPageWALRecord;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies changes of pages restored from WAL on several threads. Changes of the page are always applied by the same thread, which
+ * is chosen by file id and page index, in order in which they are passed to the {@link #apply(long, OAbstractPageWALRecord)}
+ * method, so order of LSNs of the page changes is preserved. Changes of different pages are applied concurrently.
+ * <p>
+ * Operations which affect whole files, like creation or deletion of file, should be performed only after {@link #await()} call, so
+ * all page changes which precede them are already applied.
+ */
+final class OPageChangesApplier implements AutoCloseable {
+  /**
+   * Amount of not applied page changes per thread, after which thread which reads WAL waits for appliers.
+   */
+  private static final int QUEUE_SIZE = 1024;
+
+  interface PageChangesRestore {
+    void restorePageChanges(long fileId, OAbstractPageWALRecord pageRecord) throws IOException;
+  }
+
+  private final ThreadPoolExecutor[] appliers;
+  private final PageChangesRestore   restore;
+
+  private volatile Throwable error;
+
+  OPageChangesApplier(int threads, String storageName, PageChangesRestore restore) {
+    this.restore = restore;
+
+    appliers = new ThreadPoolExecutor[threads];
+    for (int i = 0; i < threads; i++) {
+      final int index = i;
+
+      appliers[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE), r -> {
+        final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+        thread.setDaemon(true);
+        thread.setName("OrientDB WAL Restore Page Applier " + index + " (" + storageName + ")");
+        thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+        return thread;
+      }, (r, executor) -> {
+        // queue is full, wait for the applier instead of the rejection, so order of changes is kept
+        if (executor.isShutdown())
+          throw new RejectedExecutionException("Applier of page changes is shut down");
+
+        try {
+          executor.getQueue().put(r);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException.wrapException(new OInterruptedException("Restore of page changes was interrupted"), e);
+        }
+      });
+    }
+  }
+
+  /**
+   * Schedules application of changes of the page.
+   *
+   * @param fileId     Id of the file of the page as it is returned by {@link com.orientechnologies.orient.core.storage.cache.OWriteCache#externalFileId(int)}
+   * @param pageRecord Changes of the page or operation performed on the page
+   */
+  void apply(long fileId, OAbstractPageWALRecord pageRecord) {
+    checkError();
+
+    final int hash = 31 * Long.hashCode(fileId) + Long.hashCode(pageRecord.getPageIndex());
+    final int index = (hash & Integer.MAX_VALUE) % appliers.length;
+
+    appliers[index].execute(() -> {
+      if (error != null)
+        return;
+
+      try {
+        restore.restorePageChanges(fileId, pageRecord);
+      } catch (Throwable t) {
+        error = t;
+      }
+    });
+  }
+
+  /**
+   * Waits till all scheduled page changes are applied.
+   */
+  void await() {
+    final List<Future<?>> futures = new ArrayList<>(appliers.length);
+    for (ThreadPoolExecutor applier : appliers)
+      futures.add(applier.submit(() -> {
+      }));
+
+    try {
+      for (Future<?> future : futures)
+        future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Restore of page changes was interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new OStorageException("Error during restore of page changes"), e.getCause());
+    }
+
+    checkError();
+  }
+
+  @Override
+  public void close() {
+    for (ThreadPoolExecutor applier : appliers)
+      applier.shutdown();
+
+    try {
+      for (ThreadPoolExecutor applier : appliers)
+        applier.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Restore of page changes was interrupted"), e);
+    }
+  }
+
+  private void checkError() {
+    final Throwable t = error;
+    if (t != null) {
+      if (t instanceof RuntimeException)
+        throw (RuntimeException) t;
+      if (t instanceof Error)
+        throw (Error) t;
+
+      throw OException.wrapException(new OStorageException("Error during restore of page changes"), t);
+    }
+  }
+}
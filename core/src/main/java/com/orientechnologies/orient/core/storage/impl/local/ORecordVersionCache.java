@@ -0,0 +1,169 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the latest versions of records of the storage, it is used to check versions of records during commit without
+ * loading of pages of clusters.
+ * <p>
+ * Versions are put into the cache only once the atomic operation which changed the records is committed and while locks of the
+ * changed clusters are still held, so cache never contains versions which are not persisted. Deleted records are removed from the
+ * cache. Absence of a record in the cache means nothing, in such case version is read from the cluster.
+ * <p>
+ * Cache is split into segments, each of them is guarded by its own lock and evicts the least recently used records once its
+ * capacity is exceeded.
+ */
+public final class ORecordVersionCache {
+  private static final int SEGMENTS = 16;
+
+  private final Segment[] segments;
+
+  private final LongAdder hits   = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private static final class Segment extends LinkedHashMap<ORID, Integer> {
+    private static final long serialVersionUID = 0;
+
+    private final int capacity;
+
+    private Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ORID, Integer> eldest) {
+      return size() > capacity;
+    }
+  }
+
+  /**
+   * @param capacity maximum amount of records in the cache, cache is disabled if it is not positive
+   */
+  public ORecordVersionCache(int capacity) {
+    if (capacity <= 0) {
+      segments = null;
+      return;
+    }
+
+    segments = new Segment[SEGMENTS];
+    for (int i = 0; i < segments.length; i++)
+      segments[i] = new Segment(Math.max(1, capacity / SEGMENTS));
+  }
+
+  /**
+   * @return version of the record or <code>-1</code> if record is absent in the cache
+   */
+  public int getVersion(ORID rid) {
+    if (segments == null)
+      return -1;
+
+    final Segment segment = segment(rid);
+    final Integer version;
+    synchronized (segment) {
+      version = segment.get(rid);
+    }
+
+    if (version == null) {
+      misses.increment();
+      return -1;
+    }
+
+    hits.increment();
+    return version;
+  }
+
+  /**
+   * Applies versions of records changed by committed atomic operation.
+   *
+   * @param versions new versions of records, negative value means that record was deleted
+   */
+  public void update(Map<ORID, Integer> versions) {
+    if (segments == null)
+      return;
+
+    for (Map.Entry<ORID, Integer> entry : versions.entrySet()) {
+      final Segment segment = segment(entry.getKey());
+      synchronized (segment) {
+        if (entry.getValue() < 0)
+          segment.remove(entry.getKey());
+        else
+          segment.put(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Removes all records of the cluster, it is called when cluster is truncated or dropped.
+   */
+  public void removeCluster(int clusterId) {
+    if (segments == null)
+      return;
+
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        final Iterator<ORID> iterator = segment.keySet().iterator();
+        while (iterator.hasNext()) {
+          if (iterator.next().getClusterId() == clusterId)
+            iterator.remove();
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    if (segments == null)
+      return;
+
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  /**
+   * @return amount of version checks which were served by the cache
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return amount of version checks which required read of the record from the cluster
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private Segment segment(ORID rid) {
+    int hash = rid.hashCode();
+    hash ^= hash >>> 16;
+    return segments[hash & (SEGMENTS - 1)];
+  }
+}
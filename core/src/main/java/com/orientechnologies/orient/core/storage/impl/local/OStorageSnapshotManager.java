@@ -0,0 +1,382 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Provides snapshot isolation for reads of records of the storage.
+ * <p>
+ * Each change of records, either commit of transaction or single non transactional operation, is numbered by sequence which is
+ * assigned once change is started by {@link #beginChange()}. Snapshot opened by {@link #openSnapshot()} waits till all changes
+ * which are in progress are completed and remembers the last assigned sequence, so all changes with smaller or equal sequence are
+ * visible in the snapshot and none of the others.
+ * <p>
+ * While there are no open snapshots, changes are only counted by striped counter and are not numbered, so storages which do not
+ * use snapshots do not share any lock on the path of changes. Snapshot which is opened switches new changes to numbered mode and
+ * waits till counted changes are completed before it takes the lock of changes.
+ * <p>
+ * While at least one snapshot is open, content of records which existed before change is saved by {@link #saveBeforeImage(ORecordId,
+ * RecordReader)} before change is applied. Reader, which is bound to snapshot, reads the latest state of record first and then
+ * replaces it by content saved by the first change which is not visible in snapshot, if there is any. Saved content is removed once
+ * it is not needed by any open snapshot.
+ */
+final class OStorageSnapshotManager {
+  interface RecordReader {
+    ORawBuffer read() throws IOException;
+  }
+
+  /**
+   * Value returned by {@link #beginChange()} for changes which are started while there are no open snapshots.
+   */
+  private static final long UNNUMBERED_CHANGE = 0;
+
+  private final ReentrantReadWriteLock changesLock        = new ReentrantReadWriteLock();
+  private final AtomicLong             changeSequence     = new AtomicLong();
+  private final LongAdder              unnumberedChanges  = new LongAdder();
+
+  private final ThreadLocal<Long> currentSnapshot = new ThreadLocal<>();
+
+  /**
+   * Sequences of open snapshots and amount of snapshots with the same sequence.
+   */
+  private final TreeMap<Long, Integer> openSnapshots = new TreeMap<>();
+  private volatile boolean snapshotsAreOpen;
+
+  /**
+   * Amount of snapshots which are being opened, guarded by {@link #openSnapshots}.
+   */
+  private int openingSnapshots;
+
+  /**
+   * Whether snapshots are open or are being opened, if not changes are not numbered.
+   */
+  private volatile boolean changesAreNumbered;
+
+  private final ConcurrentSkipListMap<ORecordId, RecordHistory> histories = new ConcurrentSkipListMap<>();
+
+  /**
+   * Starts change of records on the current thread. Nested calls are allowed, snapshot can not be opened by the thread which
+   * performs change. Each call should be followed by {@link #endChange(long)}.
+   *
+   * @return Sequence of the change which should be passed to {@link #saveBeforeImage(long, ORecordId, RecordReader)} and {@link
+   * #endChange(long)}.
+   */
+  long beginChange() {
+    if (!changesAreNumbered) {
+      unnumberedChanges.increment();
+
+      // snapshot which starts to open either sees this change in counter or is seen by this check
+      if (!changesAreNumbered)
+        return UNNUMBERED_CHANGE;
+
+      unnumberedChanges.decrement();
+    }
+
+    changesLock.readLock().lock();
+    return changeSequence.incrementAndGet();
+  }
+
+  void endChange(final long change) {
+    if (change == UNNUMBERED_CHANGE)
+      unnumberedChanges.decrement();
+    else
+      changesLock.readLock().unlock();
+  }
+
+  /**
+   * Saves content of the record before it is changed by the current change, if there are open snapshots. Should be called before
+   * change becomes visible to other threads. Only the first content is saved if record is changed several times by the same
+   * change.
+   *
+   * @param reader Reads content of record, returns <code>null</code> if record does not exist yet. If <code>null</code> record is
+   *               considered to be absent.
+   */
+  void saveBeforeImage(final long change, final ORecordId rid, final RecordReader reader) throws IOException {
+    if (!snapshotsAreOpen)
+      return;
+
+    // snapshots are opened only once unnumbered changes are completed
+    assert change != UNNUMBERED_CHANGE;
+
+    final ORawBuffer beforeImage = reader != null ? reader.read() : null;
+    final ORecordId key = new ORecordId(rid.getClusterId(), rid.getClusterPosition());
+
+    while (true) {
+      final RecordHistory history = histories.computeIfAbsent(key, k -> new RecordHistory());
+
+      //noinspection SynchronizationOnLocalVariableOrMethodParameter
+      synchronized (history) {
+        if (history.removed)
+          continue;
+
+        history.add(change, beforeImage);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Opens snapshot and binds it to the current thread.
+   */
+  void openSnapshot() {
+    if (currentSnapshot.get() != null)
+      throw new OStorageException("Snapshot is already opened by the current thread");
+
+    synchronized (openSnapshots) {
+      openingSnapshots++;
+      changesAreNumbered = true;
+    }
+
+    while (unnumberedChanges.sum() != 0)
+      Thread.yield();
+
+    changesLock.writeLock().lock();
+    try {
+      final long sequence = changeSequence.get();
+
+      synchronized (openSnapshots) {
+        openingSnapshots--;
+        openSnapshots.merge(sequence, 1, Integer::sum);
+        snapshotsAreOpen = true;
+      }
+
+      currentSnapshot.set(sequence);
+    } finally {
+      changesLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Closes snapshot bound to the current thread, if any, and removes content of records which is not needed by open snapshots any
+   * more.
+   */
+  void closeSnapshot() {
+    final Long sequence = currentSnapshot.get();
+    if (sequence == null)
+      return;
+
+    currentSnapshot.remove();
+
+    // sequence is read before snapshots, so snapshots which are opened meanwhile will not need removed content
+    long threshold = changeSequence.get();
+    synchronized (openSnapshots) {
+      final int count = openSnapshots.get(sequence);
+      if (count == 1)
+        openSnapshots.remove(sequence);
+      else
+        openSnapshots.put(sequence, count - 1);
+
+      if (openSnapshots.isEmpty()) {
+        snapshotsAreOpen = false;
+
+        if (openingSnapshots == 0)
+          changesAreNumbered = false;
+      } else
+        threshold = Math.min(threshold, openSnapshots.firstKey());
+    }
+
+    for (Map.Entry<ORecordId, RecordHistory> entry : histories.entrySet()) {
+      final RecordHistory history = entry.getValue();
+
+      //noinspection SynchronizationOnLocalVariableOrMethodParameter
+      synchronized (history) {
+        history.removeVisible(threshold);
+
+        if (history.changes.isEmpty()) {
+          history.removed = true;
+          histories.remove(entry.getKey(), history);
+        }
+      }
+    }
+  }
+
+  boolean isSnapshotOpen() {
+    return currentSnapshot.get() != null;
+  }
+
+  /**
+   * @param current Content of the record which was read before call of this method, or <code>null</code> if record is absent.
+   *
+   * @return Content of the record in snapshot bound to the current thread, or passed in content if there is no snapshot.
+   */
+  ORawBuffer read(final ORecordId rid, final ORawBuffer current) {
+    final Long sequence = currentSnapshot.get();
+    if (sequence == null)
+      return current;
+
+    final RecordHistory history = histories.get(rid);
+    if (history == null)
+      return current;
+
+    //noinspection SynchronizationOnLocalVariableOrMethodParameter
+    synchronized (history) {
+      final RecordChange change = history.firstInvisible(sequence);
+      if (change == null)
+        return current;
+
+      return change.beforeImage;
+    }
+  }
+
+  /**
+   * Converts positions of records of the cluster, which are found in the latest state of the cluster, into positions of records
+   * which exist in snapshot bound to the current thread. Records which were created after snapshot was opened are removed, records
+   * which were deleted after snapshot was opened are added if they are inside of the range of passed in positions.
+   *
+   * @param from      Position from which search of positions was started.
+   * @param inclusive Whether position <code>from</code> itself is included in search.
+   * @param ascending Whether positions were searched in ascending order.
+   * @param positions Batch of positions found in cluster, sorted in order of search. If batch is empty, all records after
+   *                  <code>from</code> which exist in snapshot are returned.
+   */
+  OPhysicalPosition[] positions(final int clusterId, final long from, final boolean inclusive, final boolean ascending,
+      final OPhysicalPosition[] positions) {
+    final Long sequence = currentSnapshot.get();
+    if (sequence == null)
+      return positions;
+
+    final long to;
+    if (positions.length > 0)
+      to = positions[positions.length - 1].clusterPosition;
+    else
+      to = ascending ? Long.MAX_VALUE : 0;
+
+    final NavigableMap<ORecordId, RecordHistory> range;
+    if (ascending)
+      range = histories.subMap(new ORecordId(clusterId, from), inclusive, new ORecordId(clusterId, to), true);
+    else
+      range = histories.subMap(new ORecordId(clusterId, to), true, new ORecordId(clusterId, from), inclusive).descendingMap();
+
+    if (range.isEmpty())
+      return positions;
+
+    final List<OPhysicalPosition> result = new ArrayList<>(positions.length);
+    final Iterator<Map.Entry<ORecordId, RecordHistory>> changed = range.entrySet().iterator();
+    Map.Entry<ORecordId, RecordHistory> nextChanged = changed.next();
+
+    int index = 0;
+    while (index < positions.length || nextChanged != null) {
+      final OPhysicalPosition position = index < positions.length ? positions[index] : null;
+
+      final int order;
+      if (position == null)
+        order = 1;
+      else if (nextChanged == null)
+        order = -1;
+      else {
+        final int cmp = Long.compare(position.clusterPosition, nextChanged.getKey().getClusterPosition());
+        order = ascending ? cmp : -cmp;
+      }
+
+      if (order < 0) {
+        result.add(position);
+        index++;
+      } else {
+        final RecordHistory history = nextChanged.getValue();
+        final RecordChange change;
+
+        //noinspection SynchronizationOnLocalVariableOrMethodParameter
+        synchronized (history) {
+          change = history.firstInvisible(sequence);
+        }
+
+        if (change == null) {
+          if (order == 0)
+            result.add(position);
+        } else if (change.beforeImage != null) {
+          final OPhysicalPosition snapshotPosition = new OPhysicalPosition(nextChanged.getKey().getClusterPosition());
+          snapshotPosition.recordVersion = change.beforeImage.version;
+          snapshotPosition.recordType = change.beforeImage.recordType;
+          snapshotPosition.recordSize = change.beforeImage.buffer != null ? change.beforeImage.buffer.length : 0;
+
+          result.add(snapshotPosition);
+        }
+
+        if (order == 0)
+          index++;
+
+        nextChanged = changed.hasNext() ? changed.next() : null;
+      }
+    }
+
+    return result.toArray(new OPhysicalPosition[0]);
+  }
+
+  private static final class RecordChange {
+    private final long       sequence;
+    private final ORawBuffer beforeImage;
+
+    private RecordChange(long sequence, ORawBuffer beforeImage) {
+      this.sequence = sequence;
+      this.beforeImage = beforeImage;
+    }
+  }
+
+  /**
+   * Changes of the record in order in which they were applied. Changes which are visible in snapshot always precede changes which
+   * are not, because snapshot waits for completion of changes which are in progress.
+   */
+  private static final class RecordHistory {
+    private final Deque<RecordChange> changes = new ArrayDeque<>();
+    private       boolean             removed;
+
+    private void add(long sequence, ORawBuffer beforeImage) {
+      // records are changed by single change at once, so only the last change may have the same sequence. Nested changes have
+      // own sequences, only the first before image is used by snapshots which do not see the outer change
+      if (!changes.isEmpty() && changes.peekLast().sequence == sequence)
+        return;
+
+      changes.add(new RecordChange(sequence, beforeImage));
+    }
+
+    private RecordChange firstInvisible(long snapshotSequence) {
+      for (RecordChange change : changes) {
+        if (change.sequence > snapshotSequence)
+          return change;
+      }
+
+      return null;
+    }
+
+    private void removeVisible(long snapshotSequence) {
+      while (!changes.isEmpty() && changes.peekFirst().sequence <= snapshotSequence)
+        changes.pollFirst();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads WAL records in background thread during data restore, so reading and deserialization of the records which follow are
+ * overlapped with application of already read ones. Up to <code>batchSize</code> records are read ahead.
+ */
+final class OWALRecordsPrefetcher implements AutoCloseable {
+  private static final Entry END = new Entry(null, null);
+
+  private final OWriteAheadLog       writeAheadLog;
+  private final BlockingQueue<Entry> entries;
+  private final Thread               reader;
+
+  private volatile boolean   stopped;
+  private volatile Throwable error;
+
+  private boolean finished;
+
+  OWALRecordsPrefetcher(OWriteAheadLog writeAheadLog, OLogSequenceNumber startLsn, int batchSize, String storageName) {
+    this.writeAheadLog = writeAheadLog;
+    this.entries = new ArrayBlockingQueue<>(Math.max(batchSize, 1));
+
+    reader = new Thread(OStorageAbstract.storageThreadGroup, () -> readRecords(startLsn));
+    reader.setDaemon(true);
+    reader.setName("OrientDB WAL Restore Prefetcher (" + storageName + ")");
+    reader.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+    reader.start();
+  }
+
+  /**
+   * @return Next entry of WAL or <code>null</code> if end of WAL is reached. Record of entry is <code>null</code> if it can not be
+   * read.
+   */
+  Entry next() throws IOException {
+    if (finished)
+      return null;
+
+    final Entry entry;
+    try {
+      entry = entries.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Read of WAL records was interrupted"), e);
+    }
+
+    if (entry == END) {
+      finished = true;
+
+      final Throwable readError = error;
+      if (readError != null) {
+        if (readError instanceof IOException)
+          throw (IOException) readError;
+        if (readError instanceof RuntimeException)
+          throw (RuntimeException) readError;
+
+        throw (Error) readError;
+      }
+
+      return null;
+    }
+
+    return entry;
+  }
+
+  @Override
+  public void close() {
+    stopped = true;
+    entries.clear();
+
+    try {
+      reader.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void readRecords(OLogSequenceNumber startLsn) {
+    try {
+      OLogSequenceNumber lsn = startLsn;
+
+      while (lsn != null && !stopped) {
+        put(new Entry(lsn, writeAheadLog.read(lsn)));
+        lsn = writeAheadLog.next(lsn);
+      }
+    } catch (Throwable t) {
+      error = t;
+    }
+
+    put(END);
+  }
+
+  private void put(Entry entry) {
+    try {
+      while (!stopped) {
+        if (entries.offer(entry, 100, TimeUnit.MILLISECONDS))
+          return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  static final class Entry {
+    final OLogSequenceNumber lsn;
+    final OWALRecord         record;
+
+    private Entry(OLogSequenceNumber lsn, OWALRecord record) {
+      this.lsn = lsn;
+      this.record = record;
+    }
+  }
+}
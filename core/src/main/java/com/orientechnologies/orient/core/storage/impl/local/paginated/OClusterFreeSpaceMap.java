@@ -0,0 +1,365 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OClusterFreeSpaceMapException;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+
+import java.io.IOException;
+
+/**
+ * Free space map of {@link OPaginatedCluster}. Keeps free space class (amount of free space measured in 1/256 of page size) of
+ * every page of cluster file, so page which is able to hold a record of given size is found without iteration over cluster pages.
+ * <p>
+ * Map consists of two levels of {@link OFreeSpaceMapPage}s. First page of the file is the root of the map, it tracks maximum free
+ * space class of every leaf page. Leaf page with index <code>i</code> tracks free space classes of cluster pages from
+ * <code>(i - 1) * LEAVES_COUNT</code> till <code>i * LEAVES_COUNT - 1</code>. All changes of the map are done inside of atomic
+ * operations, so map is restored from WAL together with cluster data. Pages of the map are added lazily, once the first page
+ * which they track gets free space.
+ */
+public class OClusterFreeSpaceMap extends ODurableComponent {
+  public static final String DEF_EXTENSION = ".fsm";
+
+  public static final int MAX_FREE_SPACE_CLASS = 0xFF;
+
+  private static final long ROOT_PAGE_INDEX = 0;
+
+  private long fileId;
+
+  public OClusterFreeSpaceMap(OAbstractPaginatedStorage storage, String name, String lockName) {
+    super(storage, name, DEF_EXTENSION, lockName);
+  }
+
+  public boolean exists() {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          return isFileExists(atomicOperation, getFullName());
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void open() throws IOException {
+    startOperation();
+    try {
+      acquireExclusiveLock();
+      try {
+        OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        fileId = openFile(atomicOperation, getFullName());
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void create() throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(false);
+
+      acquireExclusiveLock();
+      try {
+        fileId = addFile(atomicOperation, getFullName());
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException
+            .wrapException(new OClusterFreeSpaceMapException("Error during creation of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void flush() {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          writeCache.flush(fileId);
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void close(boolean flush) throws IOException {
+    startOperation();
+    try {
+      acquireExclusiveLock();
+      try {
+        readCache.closeFile(fileId, flush, writeCache);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void truncate() throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        truncateFile(atomicOperation, fileId);
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException
+            .wrapException(new OClusterFreeSpaceMapException("Error during truncation of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void delete() throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(false);
+
+      acquireExclusiveLock();
+      try {
+        deleteFile(atomicOperation, fileId);
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException
+            .wrapException(new OClusterFreeSpaceMapException("Error during deletion of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void rename(String newName) throws IOException {
+    startOperation();
+    try {
+      startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        writeCache.renameFile(fileId, newName + getExtension());
+        setName(newName);
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException
+            .wrapException(new OClusterFreeSpaceMapException("Error during rename of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * Finds cluster page which has free space class not less than passed in value.
+   *
+   * @return Index of cluster page or <code>-1</code> if there is no such page.
+   */
+  public long findPage(int freeSpaceClass) throws IOException {
+    if (freeSpaceClass > MAX_FREE_SPACE_CLASS)
+      return -1;
+
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+          if (filledUpTo == 0)
+            return -1;
+
+          final int leafPageIndex;
+          final OCacheEntry rootEntry = loadPageForRead(atomicOperation, fileId, ROOT_PAGE_INDEX, false);
+          try {
+            final OFreeSpaceMapPage rootPage = new OFreeSpaceMapPage(rootEntry);
+            leafPageIndex = rootPage.findLeaf(freeSpaceClass);
+          } finally {
+            releasePageFromRead(atomicOperation, rootEntry);
+          }
+
+          if (leafPageIndex < 0 || leafPageIndex + 1 >= filledUpTo)
+            return -1;
+
+          final int leafIndex;
+          final OCacheEntry leafEntry = loadPageForRead(atomicOperation, fileId, leafPageIndex + 1, false);
+          try {
+            final OFreeSpaceMapPage leafPage = new OFreeSpaceMapPage(leafEntry);
+            leafIndex = leafPage.findLeaf(freeSpaceClass);
+          } finally {
+            releasePageFromRead(atomicOperation, leafEntry);
+          }
+
+          if (leafIndex < 0)
+            return -1;
+
+          return (long) leafPageIndex * OFreeSpaceMapPage.LEAVES_COUNT + leafIndex;
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * @return Free space class of cluster page which is stored in the map, or <code>0</code> if the page is not tracked.
+   */
+  public int getFreeSpaceClass(long pageIndex) throws IOException {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          final long leafPageIndex = pageIndex / OFreeSpaceMapPage.LEAVES_COUNT + 1;
+
+          if (leafPageIndex >= getFilledUpTo(atomicOperation, fileId))
+            return 0;
+
+          final OCacheEntry leafEntry = loadPageForRead(atomicOperation, fileId, leafPageIndex, false);
+          try {
+            final OFreeSpaceMapPage leafPage = new OFreeSpaceMapPage(leafEntry);
+            return leafPage.getFreeSpaceClass((int) (pageIndex % OFreeSpaceMapPage.LEAVES_COUNT));
+          } finally {
+            releasePageFromRead(atomicOperation, leafEntry);
+          }
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * Stores new free space class of cluster page. Pages which are outside of the range covered by the root of the map are not
+   * tracked, so records are not placed on them once they are filled.
+   */
+  public void updatePage(long pageIndex, int freeSpaceClass) throws IOException {
+    final long leafPageIndex = pageIndex / OFreeSpaceMapPage.LEAVES_COUNT + 1;
+    if (leafPageIndex > OFreeSpaceMapPage.LEAVES_COUNT)
+      return;
+
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(true);
+
+      acquireExclusiveLock();
+      try {
+        long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+        if (leafPageIndex >= filledUpTo && freeSpaceClass == 0) {
+          endAtomicOperation(false, null);
+          return;
+        }
+
+        while (filledUpTo <= leafPageIndex) {
+          final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+          releasePageFromWrite(atomicOperation, cacheEntry);
+          filledUpTo++;
+        }
+
+        final int leafMax;
+        final OCacheEntry leafEntry = loadPageForWrite(atomicOperation, fileId, leafPageIndex, false);
+        try {
+          final OFreeSpaceMapPage leafPage = new OFreeSpaceMapPage(leafEntry);
+          leafMax = leafPage.setFreeSpaceClass((int) (pageIndex % OFreeSpaceMapPage.LEAVES_COUNT), freeSpaceClass);
+        } finally {
+          releasePageFromWrite(atomicOperation, leafEntry);
+        }
+
+        final OCacheEntry rootEntry = loadPageForWrite(atomicOperation, fileId, ROOT_PAGE_INDEX, false);
+        try {
+          final OFreeSpaceMapPage rootPage = new OFreeSpaceMapPage(rootEntry);
+          rootPage.setFreeSpaceClass((int) (leafPageIndex - 1), leafMax);
+        } finally {
+          releasePageFromWrite(atomicOperation, rootEntry);
+        }
+
+        endAtomicOperation(false, null);
+      } catch (IOException | RuntimeException e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(
+            new OClusterFreeSpaceMapException("Error during update of free space of page " + pageIndex + " in free space map",
+                this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+}
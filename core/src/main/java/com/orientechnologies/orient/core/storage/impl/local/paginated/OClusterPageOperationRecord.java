@@ -0,0 +1,231 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperationRecord;
+
+/**
+ * Logical WAL record of operation on {@link OClusterPage}. Only content of the record and position of it inside of the page are
+ * logged, instead of all changes of page (index of records, free list, free space counters and so on) which are done by the
+ * operation.
+ */
+public final class OClusterPageOperationRecord extends OPageOperationRecord {
+  private static final byte ADD_RECORD            = 1;
+  private static final byte REPLACE_RECORD        = 2;
+  private static final byte DELETE_RECORD         = 3;
+  private static final byte SET_RECORD_LONG_VALUE = 4;
+
+  private byte   type;
+  private int    recordPosition;
+  private int    recordVersion;
+  private byte[] record;
+  private int    offset;
+  private long   value;
+
+  @SuppressWarnings("WeakerAccess")
+  public OClusterPageOperationRecord() {
+  }
+
+  private OClusterPageOperationRecord(OOperationUnitId operationUnitId, OCacheEntry cacheEntry, byte type, int recordPosition) {
+    super(cacheEntry.getPageIndex(), cacheEntry.getFileId(), operationUnitId);
+    this.type = type;
+    this.recordPosition = recordPosition;
+  }
+
+  /**
+   * @see OClusterPage#appendRecord(int, byte[])
+   */
+  public static OClusterPageOperationRecord addRecord(OOperationUnitId operationUnitId, OCacheEntry cacheEntry, int recordVersion,
+      byte[] record) {
+    final OClusterPageOperationRecord operation = new OClusterPageOperationRecord(operationUnitId, cacheEntry, ADD_RECORD, -1);
+    operation.recordVersion = recordVersion;
+    operation.record = record;
+    return operation;
+  }
+
+  /**
+   * @see OClusterPage#replaceRecord(int, byte[], int)
+   */
+  public static OClusterPageOperationRecord replaceRecord(OOperationUnitId operationUnitId, OCacheEntry cacheEntry,
+      int recordPosition, byte[] record, int recordVersion) {
+    final OClusterPageOperationRecord operation = new OClusterPageOperationRecord(operationUnitId, cacheEntry, REPLACE_RECORD,
+        recordPosition);
+    operation.recordVersion = recordVersion;
+    operation.record = record;
+    return operation;
+  }
+
+  /**
+   * @see OClusterPage#deleteRecord(int)
+   */
+  public static OClusterPageOperationRecord deleteRecord(OOperationUnitId operationUnitId, OCacheEntry cacheEntry,
+      int recordPosition) {
+    return new OClusterPageOperationRecord(operationUnitId, cacheEntry, DELETE_RECORD, recordPosition);
+  }
+
+  /**
+   * @see OClusterPage#setRecordLongValue(int, int, long)
+   */
+  public static OClusterPageOperationRecord setRecordLongValue(OOperationUnitId operationUnitId, OCacheEntry cacheEntry,
+      int recordPosition, int offset, long value) {
+    final OClusterPageOperationRecord operation = new OClusterPageOperationRecord(operationUnitId, cacheEntry,
+        SET_RECORD_LONG_VALUE, recordPosition);
+    operation.offset = offset;
+    operation.value = value;
+    return operation;
+  }
+
+  /**
+   * @return Position of the record inside of the page, for addition of record it is known only after operation is performed,
+   * <code>-1</code> means that page does not have enough space to add the record.
+   */
+  public int getRecordPosition() {
+    return recordPosition;
+  }
+
+  @Override
+  public void redo(OCacheEntry cacheEntry) {
+    final OClusterPage page = new OClusterPage(cacheEntry, false);
+
+    switch (type) {
+    case ADD_RECORD:
+      final int position = page.appendRecord(recordVersion, record);
+
+      // position is already known if the operation is restored from WAL
+      if (getLsn() != null && position != recordPosition)
+        throw new OStorageException(
+            "Record was added at position " + position + " instead of position " + recordPosition + " of page " + getPageIndex()
+                + " of file " + getFileId() + ", content of the page is inconsistent with WAL");
+
+      recordPosition = position;
+      break;
+    case REPLACE_RECORD:
+      page.replaceRecord(recordPosition, record, recordVersion);
+      break;
+    case DELETE_RECORD:
+      page.deleteRecord(recordPosition);
+      break;
+    case SET_RECORD_LONG_VALUE:
+      page.setRecordLongValue(recordPosition, offset, value);
+      break;
+    default:
+      throw new IllegalStateException("Unknown type of operation on cluster page " + type);
+    }
+  }
+
+  @Override
+  public int serializedSize() {
+    int size = super.serializedSize() + OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE;
+
+    switch (type) {
+    case ADD_RECORD:
+    case REPLACE_RECORD:
+      size += 2 * OIntegerSerializer.INT_SIZE + record.length;
+      break;
+    case SET_RECORD_LONG_VALUE:
+      size += OIntegerSerializer.INT_SIZE + OLongSerializer.LONG_SIZE;
+      break;
+    }
+
+    return size;
+  }
+
+  @Override
+  public int toStream(byte[] content, int offset) {
+    offset = super.toStream(content, offset);
+
+    content[offset] = type;
+    offset += OByteSerializer.BYTE_SIZE;
+
+    OIntegerSerializer.INSTANCE.serializeNative(recordPosition, content, offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    switch (type) {
+    case ADD_RECORD:
+    case REPLACE_RECORD:
+      OIntegerSerializer.INSTANCE.serializeNative(recordVersion, content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      OIntegerSerializer.INSTANCE.serializeNative(record.length, content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      System.arraycopy(record, 0, content, offset, record.length);
+      offset += record.length;
+      break;
+    case SET_RECORD_LONG_VALUE:
+      OIntegerSerializer.INSTANCE.serializeNative(this.offset, content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      OLongSerializer.INSTANCE.serializeNative(value, content, offset);
+      offset += OLongSerializer.LONG_SIZE;
+      break;
+    }
+
+    return offset;
+  }
+
+  @Override
+  public int fromStream(byte[] content, int offset) {
+    offset = super.fromStream(content, offset);
+
+    type = content[offset];
+    offset += OByteSerializer.BYTE_SIZE;
+
+    recordPosition = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    switch (type) {
+    case ADD_RECORD:
+    case REPLACE_RECORD:
+      recordVersion = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      final int recordLength = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      record = new byte[recordLength];
+      System.arraycopy(content, offset, record, 0, recordLength);
+      offset += recordLength;
+      break;
+    case SET_RECORD_LONG_VALUE:
+      this.offset = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      value = OLongSerializer.INSTANCE.deserializeNative(content, offset);
+      offset += OLongSerializer.LONG_SIZE;
+      break;
+    }
+
+    return offset;
+  }
+
+  @Override
+  public String toString() {
+    return toString("type=" + type + ", pageIndex=" + getPageIndex() + ", fileId=" + getFileId() + ", recordPosition="
+        + recordPosition);
+  }
+}
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.util.OCommonConst;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OClusterPositionMapException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
@@ -40,10 +41,17 @@ public class OClusterPositionMap extends ODurableComponent {
   public static final String DEF_EXTENSION = ".cpm";
   private long fileId;
 
+  private final boolean logicalWAL = OGlobalConfiguration.STORAGE_CLUSTER_LOGICAL_WAL.getValueAsBoolean();
+
   public OClusterPositionMap(OAbstractPaginatedStorage storage, String name, String lockName) {
     super(storage, name, DEF_EXTENSION, lockName);
   }
 
+  @Override
+  protected boolean isPageOperationsLogged() {
+    return logicalWAL;
+  }
+
   public void open() throws IOException {
     startOperation();
     try {
@@ -107,6 +115,7 @@ public class OClusterPositionMap extends ODurableComponent {
     try {
       acquireExclusiveLock();
       try {
+        cancelReadAhead(fileId);
         readCache.closeFile(fileId, flush, writeCache);
       } finally {
         releaseExclusiveLock();
@@ -203,16 +212,18 @@ public class OClusterPositionMap extends ODurableComponent {
 
         Exception exception = null;
         try {
-          OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
+          final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
           if (bucket.isFull()) {
             releasePageFromWrite(atomicOperation, cacheEntry);
 
             cacheEntry = addPage(atomicOperation, fileId);
-
-            bucket = new OClusterPositionMapBucket(cacheEntry);
           }
 
-          final long index = bucket.add(pageIndex, recordPosition);
+          final OClusterPositionMapOperationRecord operation = OClusterPositionMapOperationRecord
+              .add(atomicOperation.getOperationUnitId(), cacheEntry, pageIndex, recordPosition);
+          applyPageOperation(atomicOperation, cacheEntry, operation);
+
+          final long index = operation.getIndex();
           return index + cacheEntry.getPageIndex() * OClusterPositionMapBucket.MAX_ENTRIES;
         } catch (Exception e) {
           exception = e;
@@ -251,16 +262,18 @@ public class OClusterPositionMap extends ODurableComponent {
         Exception exception = null;
         try {
 
-          OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
+          final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
           if (bucket.isFull()) {
             releasePageFromWrite(atomicOperation, cacheEntry);
 
             cacheEntry = addPage(atomicOperation, fileId);
-
-            bucket = new OClusterPositionMapBucket(cacheEntry);
           }
 
-          final long index = bucket.allocate();
+          final OClusterPositionMapOperationRecord operation = OClusterPositionMapOperationRecord
+              .allocate(atomicOperation.getOperationUnitId(), cacheEntry);
+          applyPageOperation(atomicOperation, cacheEntry, operation);
+
+          final long index = operation.getIndex();
           return index + cacheEntry.getPageIndex() * OClusterPositionMapBucket.MAX_ENTRIES;
         } catch (Exception e) {
           exception = e;
@@ -298,8 +311,8 @@ public class OClusterPositionMap extends ODurableComponent {
 
         final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false, 1);
         try {
-          final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
-          bucket.set(index, entry);
+          applyPageOperation(atomicOperation, cacheEntry,
+              OClusterPositionMapOperationRecord.set(atomicOperation.getOperationUnitId(), cacheEntry, index, entry));
         } finally {
           releasePageFromWrite(atomicOperation, cacheEntry);
         }
@@ -333,8 +346,8 @@ public class OClusterPositionMap extends ODurableComponent {
 
         final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false, 1);
         try {
-          final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
-          bucket.resurrect(index, entry);
+          applyPageOperation(atomicOperation, cacheEntry,
+              OClusterPositionMapOperationRecord.resurrect(atomicOperation.getOperationUnitId(), cacheEntry, index, entry));
         } finally {
           releasePageFromWrite(atomicOperation, cacheEntry);
         }
@@ -399,9 +412,8 @@ public class OClusterPositionMap extends ODurableComponent {
         Exception exception = null;
         final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false, 1);
         try {
-          final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
-
-          bucket.remove(index);
+          applyPageOperation(atomicOperation, cacheEntry,
+              OClusterPositionMapOperationRecord.remove(atomicOperation.getOperationUnitId(), cacheEntry, index));
         } catch (Exception e) {
           exception = e;
           throw OException.wrapException(
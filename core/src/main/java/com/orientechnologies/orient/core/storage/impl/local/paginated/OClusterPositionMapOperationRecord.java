@@ -0,0 +1,191 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperationRecord;
+
+/**
+ * Logical WAL record of operation on {@link OClusterPositionMapBucket}, only index of the entry and its new value are logged.
+ */
+public final class OClusterPositionMapOperationRecord extends OPageOperationRecord {
+  private static final byte ADD       = 1;
+  private static final byte ALLOCATE  = 2;
+  private static final byte SET       = 3;
+  private static final byte RESURRECT = 4;
+  private static final byte REMOVE    = 5;
+
+  private byte type;
+  private int  index;
+  private long recordPageIndex;
+  private int  recordPosition;
+
+  @SuppressWarnings("WeakerAccess")
+  public OClusterPositionMapOperationRecord() {
+  }
+
+  private OClusterPositionMapOperationRecord(OOperationUnitId operationUnitId, OCacheEntry cacheEntry, byte type, int index,
+      long recordPageIndex, int recordPosition) {
+    super(cacheEntry.getPageIndex(), cacheEntry.getFileId(), operationUnitId);
+    this.type = type;
+    this.index = index;
+    this.recordPageIndex = recordPageIndex;
+    this.recordPosition = recordPosition;
+  }
+
+  /**
+   * @see OClusterPositionMapBucket#add(long, int)
+   */
+  public static OClusterPositionMapOperationRecord add(OOperationUnitId operationUnitId, OCacheEntry cacheEntry,
+      long recordPageIndex, int recordPosition) {
+    return new OClusterPositionMapOperationRecord(operationUnitId, cacheEntry, ADD, -1, recordPageIndex, recordPosition);
+  }
+
+  /**
+   * @see OClusterPositionMapBucket#allocate()
+   */
+  public static OClusterPositionMapOperationRecord allocate(OOperationUnitId operationUnitId, OCacheEntry cacheEntry) {
+    return new OClusterPositionMapOperationRecord(operationUnitId, cacheEntry, ALLOCATE, -1, -1, -1);
+  }
+
+  /**
+   * @see OClusterPositionMapBucket#set(int, OClusterPositionMapBucket.PositionEntry)
+   */
+  public static OClusterPositionMapOperationRecord set(OOperationUnitId operationUnitId, OCacheEntry cacheEntry, int index,
+      OClusterPositionMapBucket.PositionEntry entry) {
+    return new OClusterPositionMapOperationRecord(operationUnitId, cacheEntry, SET, index, entry.getPageIndex(),
+        entry.getRecordPosition());
+  }
+
+  /**
+   * @see OClusterPositionMapBucket#resurrect(int, OClusterPositionMapBucket.PositionEntry)
+   */
+  public static OClusterPositionMapOperationRecord resurrect(OOperationUnitId operationUnitId, OCacheEntry cacheEntry, int index,
+      OClusterPositionMapBucket.PositionEntry entry) {
+    return new OClusterPositionMapOperationRecord(operationUnitId, cacheEntry, RESURRECT, index, entry.getPageIndex(),
+        entry.getRecordPosition());
+  }
+
+  /**
+   * @see OClusterPositionMapBucket#remove(int)
+   */
+  public static OClusterPositionMapOperationRecord remove(OOperationUnitId operationUnitId, OCacheEntry cacheEntry, int index) {
+    return new OClusterPositionMapOperationRecord(operationUnitId, cacheEntry, REMOVE, index, -1, -1);
+  }
+
+  /**
+   * @return Index of the entry inside of the bucket, for addition and allocation of entries it is known only after operation is
+   * performed.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  @Override
+  public void redo(OCacheEntry cacheEntry) {
+    final OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
+
+    switch (type) {
+    case ADD:
+      checkIndex(bucket.add(recordPageIndex, recordPosition));
+      break;
+    case ALLOCATE:
+      checkIndex(bucket.allocate());
+      break;
+    case SET:
+      bucket.set(index, new OClusterPositionMapBucket.PositionEntry(recordPageIndex, recordPosition));
+      break;
+    case RESURRECT:
+      bucket.resurrect(index, new OClusterPositionMapBucket.PositionEntry(recordPageIndex, recordPosition));
+      break;
+    case REMOVE:
+      bucket.remove(index);
+      break;
+    default:
+      throw new IllegalStateException("Unknown type of operation on cluster position map bucket " + type);
+    }
+  }
+
+  private void checkIndex(int addedIndex) {
+    // index is already known if the operation is restored from WAL
+    if (getLsn() != null && addedIndex != index)
+      throw new OStorageException(
+          "Entry was added at index " + addedIndex + " instead of index " + index + " of page " + getPageIndex() + " of file "
+              + getFileId() + ", content of the page is inconsistent with WAL");
+
+    index = addedIndex;
+  }
+
+  @Override
+  public int serializedSize() {
+    return super.serializedSize() + OByteSerializer.BYTE_SIZE + 2 * OIntegerSerializer.INT_SIZE + OLongSerializer.LONG_SIZE;
+  }
+
+  @Override
+  public int toStream(byte[] content, int offset) {
+    offset = super.toStream(content, offset);
+
+    content[offset] = type;
+    offset += OByteSerializer.BYTE_SIZE;
+
+    OIntegerSerializer.INSTANCE.serializeNative(index, content, offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    OLongSerializer.INSTANCE.serializeNative(recordPageIndex, content, offset);
+    offset += OLongSerializer.LONG_SIZE;
+
+    OIntegerSerializer.INSTANCE.serializeNative(recordPosition, content, offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    return offset;
+  }
+
+  @Override
+  public int fromStream(byte[] content, int offset) {
+    offset = super.fromStream(content, offset);
+
+    type = content[offset];
+    offset += OByteSerializer.BYTE_SIZE;
+
+    index = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    recordPageIndex = OLongSerializer.INSTANCE.deserializeNative(content, offset);
+    offset += OLongSerializer.LONG_SIZE;
+
+    recordPosition = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    return offset;
+  }
+
+  @Override
+  public String toString() {
+    return toString(
+        "type=" + type + ", pageIndex=" + getPageIndex() + ", fileId=" + getFileId() + ", index=" + index + ", recordPageIndex="
+            + recordPageIndex + ", recordPosition=" + recordPosition);
+  }
+}
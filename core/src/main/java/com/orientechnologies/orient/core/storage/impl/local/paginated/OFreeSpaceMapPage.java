@@ -0,0 +1,137 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * Page of {@link OClusterFreeSpaceMap}. Page contains binary max-tree of free space classes, each node occupies single byte. Node
+ * with index <code>i</code> has children with indexes <code>2 * i + 1</code> and <code>2 * i + 2</code>, leaves of the tree hold
+ * free space classes of tracked pages and every inner node holds maximum value of its children, so root of the tree contains
+ * maximum free space class of all pages tracked by this page.
+ * <p>
+ * Because of that page which has enough space to hold a record is found in O(log(n)) steps and update of free space class of any
+ * tracked page changes at most O(log(n)) bytes which are logged in WAL as usual page changes.
+ */
+public final class OFreeSpaceMapPage extends ODurablePage {
+  private static final int TREE_OFFSET = NEXT_FREE_POSITION;
+
+  /**
+   * Amount of pages (leaves of the tree) tracked by single page of free space map.
+   */
+  public static final int LEAVES_COUNT = calculateLeavesCount();
+
+  public OFreeSpaceMapPage(OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  /**
+   * @return Maximum free space class of all pages tracked by this page.
+   */
+  public int getMaxFreeSpaceClass() {
+    return getNode(0);
+  }
+
+  public int getFreeSpaceClass(int leafIndex) {
+    checkLeafIndex(leafIndex);
+    return getNode(LEAVES_COUNT - 1 + leafIndex);
+  }
+
+  /**
+   * Updates free space class of tracked page and all nodes on the path to the root of the tree.
+   *
+   * @param leafIndex      Index of tracked page inside of this page.
+   * @param freeSpaceClass New free space class of tracked page, value in range [0, 255].
+   *
+   * @return New maximum free space class of all pages tracked by this page.
+   */
+  public int setFreeSpaceClass(int leafIndex, int freeSpaceClass) {
+    checkLeafIndex(leafIndex);
+    assert freeSpaceClass >= 0 && freeSpaceClass <= 0xFF;
+
+    int nodeIndex = LEAVES_COUNT - 1 + leafIndex;
+    if (getNode(nodeIndex) == freeSpaceClass)
+      return getNode(0);
+
+    setNode(nodeIndex, freeSpaceClass);
+
+    while (nodeIndex > 0) {
+      final int parentIndex = (nodeIndex - 1) >>> 1;
+      final int leftChild = 2 * parentIndex + 1;
+
+      final int max = Math.max(getNode(leftChild), getNode(leftChild + 1));
+      if (getNode(parentIndex) == max)
+        break;
+
+      setNode(parentIndex, max);
+      nodeIndex = parentIndex;
+    }
+
+    return getNode(0);
+  }
+
+  /**
+   * Finds leftmost tracked page which has free space class not less than passed in value. Leftmost pages are preferred to keep
+   * data in the beginning of the file.
+   *
+   * @return Index of tracked page inside of this page or <code>-1</code> if there is no such page.
+   */
+  public int findLeaf(int freeSpaceClass) {
+    if (getNode(0) < freeSpaceClass)
+      return -1;
+
+    int nodeIndex = 0;
+    while (nodeIndex < LEAVES_COUNT - 1) {
+      final int leftChild = 2 * nodeIndex + 1;
+
+      if (getNode(leftChild) >= freeSpaceClass)
+        nodeIndex = leftChild;
+      else
+        nodeIndex = leftChild + 1;
+    }
+
+    return nodeIndex - (LEAVES_COUNT - 1);
+  }
+
+  private int getNode(int nodeIndex) {
+    return getByteValue(TREE_OFFSET + nodeIndex) & 0xFF;
+  }
+
+  private void setNode(int nodeIndex, int value) {
+    setByteValue(TREE_OFFSET + nodeIndex, (byte) value);
+  }
+
+  private static void checkLeafIndex(int leafIndex) {
+    if (leafIndex < 0 || leafIndex >= LEAVES_COUNT)
+      throw new IllegalArgumentException("Index of page " + leafIndex + " is outside of range [0, " + LEAVES_COUNT + ")");
+  }
+
+  private static int calculateLeavesCount() {
+    final int treeSize = MAX_PAGE_SIZE_BYTES - TREE_OFFSET;
+
+    int leaves = 1;
+    while (4 * leaves - 1 <= treeSize)
+      leaves <<= 1;
+
+    return leaves;
+  }
+}
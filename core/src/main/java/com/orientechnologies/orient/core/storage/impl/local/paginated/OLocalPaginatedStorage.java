@@ -34,8 +34,11 @@ import com.orientechnologies.orient.core.engine.local.OEngineLocalPaginated;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.local.OReadAheadManager;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.OSecondTierCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OStorageConfigurationSegment;
@@ -44,6 +47,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.ODiskW
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
+import com.orientechnologies.orient.core.storage.index.engine.OLSMIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainer;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerShared;
@@ -79,9 +83,12 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       ".oet", ".fl", ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION, ODiskWriteAheadLog.MASTER_RECORD_EXTENSION,
       OHashTableIndexEngine.BUCKET_FILE_EXTENSION, OHashTableIndexEngine.METADATA_FILE_EXTENSION,
       OHashTableIndexEngine.TREE_FILE_EXTENSION, OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
-      OClusterPositionMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION, OWOWCache.NAME_ID_MAP_EXTENSION,
-      OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION,
-      OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION };
+      OClusterPositionMap.DEF_EXTENSION, OClusterFreeSpaceMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION,
+      OWOWCache.NAME_ID_MAP_EXTENSION, OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION,
+      OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION,
+      OWOWCache.DOUBLE_WRITE_LOG_EXTENSION, OLSMIndexEngine.DATA_FILE_EXTENSION, OLSMIndexEngine.NULL_BUCKET_FILE_EXTENSION,
+      OSBTreeIndexEngine.BLOOM_FILTER_FILE_EXTENSION, OLSMIndexEngine.BLOOM_FILTER_FILE_EXTENSION,
+      OLSMIndexEngine.SIZE_FILE_EXTENSION };
 
   private static final int ONE_KB = 1024;
 
@@ -212,7 +219,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
               zos.setLevel(compressionLevel);
 
               final List<String> names = OZIPCompressionUtil.compressDirectory(getStoragePath().toString(), zos,
-                  new String[] { ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION, ".lock" }, iOutput);
+                  new String[] { ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION, OWOWCache.DOUBLE_WRITE_LOG_EXTENSION, ".lock" },
+                  iOutput);
               OPaginatedStorageDirtyFlag.addFileToArchive(zos, "dirty.fl");
               names.add("dirty.fl");
               return names;
@@ -265,21 +273,23 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
 
         OZIPCompressionUtil.uncompressDirectory(in, getStoragePath().toString(), iListener);
 
-        final Path cacheStateFile = getStoragePath().resolve(O2QCache.CACHE_STATE_FILE);
-        if (Files.exists(cacheStateFile)) {
-          String message = "the cache state file (" + O2QCache.CACHE_STATE_FILE + ") is found in the backup, deleting the file";
-          OLogManager.instance().warn(this, message);
-          if (iListener != null)
-            iListener.onMessage('\n' + message);
-
-          try {
-            Files.deleteIfExists(cacheStateFile); // delete it, if it still exists
-          } catch (IOException e) {
-            message =
-                "unable to delete the backed up cache state file (" + O2QCache.CACHE_STATE_FILE + "), please delete it manually";
-            OLogManager.instance().warn(this, message, e);
+        for (String cacheStateFileName : new String[] { O2QCache.CACHE_STATE_FILE, OWTinyLFUCache.CACHE_STATE_FILE,
+            OSecondTierCache.CACHE_STATE_FILE }) {
+          final Path cacheStateFile = getStoragePath().resolve(cacheStateFileName);
+          if (Files.exists(cacheStateFile)) {
+            String message = "the cache state file (" + cacheStateFileName + ") is found in the backup, deleting the file";
+            OLogManager.instance().warn(this, message);
             if (iListener != null)
               iListener.onMessage('\n' + message);
+
+            try {
+              Files.deleteIfExists(cacheStateFile); // delete it, if it still exists
+            } catch (IOException e) {
+              message = "unable to delete the backed up cache state file (" + cacheStateFileName + "), please delete it manually";
+              OLogManager.instance().warn(this, message, e);
+              if (iListener != null)
+                iListener.onMessage('\n' + message);
+            }
           }
         }
 
@@ -418,6 +428,10 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     if (fuzzyCheckpointTask != null) {
       fuzzyCheckpointTask.cancel(false);
     }
+
+    if (readAheadManager != null) {
+      readAheadManager.close();
+    }
   }
 
   @Override
@@ -534,6 +548,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     wowCache.addPageIsBrokenListener(this);
 
     writeCache = wowCache;
+
+    if (OGlobalConfiguration.DISK_CACHE_READ_AHEAD.getValueAsBoolean())
+      readAheadManager = new OReadAheadManager(readCache, wowCache);
+    else
+      readAheadManager = null;
   }
 
   public static boolean exists(final Path path) {
@@ -72,6 +72,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   }
 
   private final boolean addRidMetadata = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
+  private final boolean logicalWAL     = OGlobalConfiguration.STORAGE_CLUSTER_LOGICAL_WAL.getValueAsBoolean();
 
   public static final  String DEF_EXTENSION            = ".pcl";
   private static final int    DISK_PAGE_SIZE           = DISK_CACHE_PAGE_SIZE.getValueAsInteger();
@@ -80,11 +81,14 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   private static final int    PAGE_INDEX_OFFSET        = 16;
   private static final int    RECORD_POSITION_MASK     = 0xFFFF;
   private static final int    ONE_KB                   = 1024;
+  private static final int    FREE_SPACE_CLASS_SIZE    = OClusterPage.PAGE_SIZE / (OClusterFreeSpaceMap.MAX_FREE_SPACE_CLASS + 1);
+  private static final int    LOWEST_TRACKED_SPACE     = LOWEST_FREELIST_BOUNDARY * ONE_KB;
 
   private volatile OCompression                          compression;
   private volatile OEncryption                           encryption;
   private final    boolean                               systemCluster;
   private          OClusterPositionMap                   clusterPositionMap;
+  private          OClusterFreeSpaceMap                  freeSpaceMap;
   private          OAbstractPaginatedStorage             storageLocal;
   private volatile int                                   id;
   private          long                                  fileId;
@@ -107,13 +111,42 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     }
   }
 
-  private static final class FindFreePageResult {
-    private final long pageIndex;
-    private final int  freePageIndex;
+  /**
+   * Result of processing of single batch of records by {@link #compactRecords(int)}.
+   */
+  public static final class CompactionResult {
+    private final int     processedRecords;
+    private final int     movedRecords;
+    private final long    nextPosition;
+    private final boolean completed;
+
+    private CompactionResult(int processedRecords, int movedRecords, long nextPosition, boolean completed) {
+      this.processedRecords = processedRecords;
+      this.movedRecords = movedRecords;
+      this.nextPosition = nextPosition;
+      this.completed = completed;
+    }
 
-    private FindFreePageResult(long pageIndex, int freePageIndex) {
-      this.pageIndex = pageIndex;
-      this.freePageIndex = freePageIndex;
+    public int getProcessedRecords() {
+      return processedRecords;
+    }
+
+    public int getMovedRecords() {
+      return movedRecords;
+    }
+
+    /**
+     * @return Cluster position from which next batch of records will be processed.
+     */
+    public long getNextPosition() {
+      return nextPosition;
+    }
+
+    /**
+     * @return <code>true</code> if all records of cluster were processed.
+     */
+    public boolean isCompleted() {
+      return completed;
     }
   }
 
@@ -193,6 +226,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         initCusterState(atomicOperation);
 
         clusterPositionMap.create();
+        freeSpaceMap.create();
 
         endAtomicOperation(false, null);
       } catch (Exception e) {
@@ -230,6 +264,12 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         }
 
         clusterPositionMap.open();
+
+        if (freeSpaceMap.exists())
+          freeSpaceMap.open();
+        else
+          // cluster was created before free space map was introduced
+          rebuildFreeSpaceMap(true);
       } finally {
         releaseExclusiveLock();
       }
@@ -248,9 +288,12 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
           final long tempFileId = writeCache.addFile(tempFileName);
           writeCache.replaceFileContentWith(tempFileId, file.toPath());
 
+          cancelReadAhead(fileId);
           readCache.deleteFile(fileId, writeCache);
           writeCache.renameFile(tempFileId, getFullName());
           fileId = tempFileId;
+
+          rebuildFreeSpaceMap(false);
         } finally {
           // If, for some reason, the temp file is still exists, wipe it out.
 
@@ -276,6 +319,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
           final long tempFileId = writeCache.addFile(tempFileName);
           writeCache.replaceFileContentWith(tempFileId, file.toPath());
 
+          cancelReadAhead(clusterPositionMap.getFileId());
           readCache.deleteFile(clusterPositionMap.getFileId(), writeCache);
           writeCache.renameFile(tempFileId, clusterPositionMap.getFullName());
           clusterPositionMap.replaceFileId(tempFileId);
@@ -306,8 +350,10 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         if (flush)
           synch();
 
+        cancelReadAhead(fileId);
         readCache.closeFile(fileId, flush, writeCache);
         clusterPositionMap.close(flush);
+        freeSpaceMap.close(flush);
       } finally {
         releaseExclusiveLock();
       }
@@ -326,6 +372,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         deleteFile(atomicOperation, fileId);
 
         clusterPositionMap.delete();
+        freeSpaceMap.delete();
 
         endAtomicOperation(false, null);
       } catch (IOException ioe) {
@@ -574,8 +621,8 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
                 final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
                 try {
-                  final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
-                  prevPage.setRecordLongValue(prevPageRecordPosition, -OLongSerializer.LONG_SIZE, addedPagePointer);
+                  setPageRecordLongValue(atomicOperation, prevPageCacheEntry, prevPageRecordPosition, -OLongSerializer.LONG_SIZE,
+                      addedPagePointer);
                 } finally {
                   releasePageFromWrite(atomicOperation, prevPageCacheEntry);
                 }
@@ -805,10 +852,9 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         do {
           boolean cacheEntryReleased = false;
           OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
-          int initialFreePageIndex;
+          int freeSpaceClass;
           try {
             OClusterPage localPage = new OClusterPage(cacheEntry, false);
-            initialFreePageIndex = calculateFreePageIndex(localPage);
 
             if (localPage.isDeleted(recordPosition)) {
               if (removedContentSize == 0) {
@@ -833,17 +879,19 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
             byte[] content = localPage.getRecordBinaryValue(recordPosition, 0, localPage.getRecordSize(recordPosition));
 
             int initialFreeSpace = localPage.getFreeSpace();
-            localPage.deleteRecord(recordPosition);
+            deletePageRecord(atomicOperation, cacheEntry, recordPosition);
 
             removedContentSize += localPage.getFreeSpace() - initialFreeSpace;
             nextPagePointer = OLongSerializer.INSTANCE.deserializeNative(content, content.length - OLongSerializer.LONG_SIZE);
+
+            freeSpaceClass = calculateFreeSpaceClass(localPage);
           } finally {
             if (!cacheEntryReleased) {
               releasePageFromWrite(atomicOperation, cacheEntry);
             }
           }
 
-          updateFreePagesIndex(initialFreePageIndex, pageIndex, atomicOperation);
+          freeSpaceMap.updatePage(pageIndex, freeSpaceClass);
 
           pageIndex = getPageIndex(nextPagePointer);
           recordPosition = getRecordPosition(nextPagePointer);
@@ -996,13 +1044,8 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
             }
           }
 
-          int freePageIndex = -1;
-
-          if (nextPageIndex < 0) {
-            FindFreePageResult findFreePageResult = findFreePage(entrySize, atomicOperation);
-            nextPageIndex = findFreePageResult.pageIndex;
-            freePageIndex = findFreePageResult.freePageIndex;
-          }
+          if (nextPageIndex < 0)
+            nextPageIndex = findFreePage(entrySize, atomicOperation);
 
           boolean isNew = false;
           OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
@@ -1011,15 +1054,11 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
             isNew = true;
           }
 
+          final int freeSpaceClass;
           try {
             final OClusterPage localPage = new OClusterPage(cacheEntry, isNew);
             final int pageFreeSpace = localPage.getFreeSpace();
 
-            if (freePageIndex < 0)
-              freePageIndex = calculateFreePageIndex(localPage);
-            else
-              assert isNew || freePageIndex == calculateFreePageIndex(localPage);
-
             if (nextRecordPosition >= 0) {
               if (localPage.isDeleted(nextRecordPosition))
                 throw new OPaginatedClusterException("Record with rid " + new ORecordId(id, clusterPosition) + " was deleted",
@@ -1029,19 +1068,19 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
               nextEntryPointer = localPage.getRecordLongValue(nextRecordPosition, currentEntrySize - OLongSerializer.LONG_SIZE);
 
               if (currentEntrySize == entrySize) {
-                localPage.replaceRecord(nextRecordPosition, updateEntry, recordVersion);
+                replacePageRecord(atomicOperation, cacheEntry, nextRecordPosition, updateEntry, recordVersion);
                 updatedEntryPosition = nextRecordPosition;
               } else {
-                localPage.deleteRecord(nextRecordPosition);
+                deletePageRecord(atomicOperation, cacheEntry, nextRecordPosition);
 
                 if (localPage.getMaxRecordSize() >= entrySize) {
-                  updatedEntryPosition = localPage.appendRecord(recordVersion, updateEntry);
+                  updatedEntryPosition = appendPageRecord(atomicOperation, cacheEntry, recordVersion, updateEntry);
 
                   if (updatedEntryPosition < 0) {
                     localPage.dumpToLog();
                     throw new IllegalStateException("Page " + cacheEntry.getPageIndex()
-                        + " does not have enough free space to add record content, freePageIndex=" + freePageIndex
-                        + ", updateEntry.length=" + updateEntry.length + ", content.length=" + content.length);
+                        + " does not have enough free space to add record content, freeSpaceClass=" + calculateFreeSpaceClass(
+                        localPage) + ", updateEntry.length=" + updateEntry.length + ", content.length=" + content.length);
                   }
                 } else {
                   updatedEntryPosition = -1;
@@ -1058,13 +1097,14 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
             } else {
               assert localPage.getFreeSpace() >= entrySize;
-              updatedEntryPosition = localPage.appendRecord(recordVersion, updateEntry);
+              updatedEntryPosition = appendPageRecord(atomicOperation, cacheEntry, recordVersion, updateEntry);
 
               if (updatedEntryPosition < 0) {
                 localPage.dumpToLog();
                 throw new IllegalStateException(
-                    "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freePageIndex="
-                        + freePageIndex + ", updateEntry.length=" + updateEntry.length + ", content.length=" + content.length);
+                    "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freeSpaceClass="
+                        + calculateFreeSpaceClass(localPage) + ", updateEntry.length=" + updateEntry.length + ", content.length="
+                        + content.length);
               }
 
               nextPageIndex = -1;
@@ -1072,12 +1112,12 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
             }
 
             sizeDiff += pageFreeSpace - localPage.getFreeSpace();
-
+            freeSpaceClass = calculateFreeSpaceClass(localPage);
           } finally {
             releasePageFromWrite(atomicOperation, cacheEntry);
           }
 
-          updateFreePagesIndex(freePageIndex, cacheEntry.getPageIndex(), atomicOperation);
+          freeSpaceMap.updatePage(cacheEntry.getPageIndex(), freeSpaceClass);
 
           if (updatedEntryPosition >= 0) {
             if (from == 0) {
@@ -1090,8 +1130,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
             if (prevPageIndex >= 0) {
               OCacheEntry prevCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
               try {
-                OClusterPage prevPage = new OClusterPage(prevCacheEntry, false);
-                prevPage.setRecordLongValue(prevRecordPosition, -OLongSerializer.LONG_SIZE,
+                setPageRecordLongValue(atomicOperation, prevCacheEntry, prevRecordPosition, -OLongSerializer.LONG_SIZE,
                     createPagePointer(cacheEntry.getPageIndex(), updatedEntryPosition));
               } finally {
                 releasePageFromWrite(atomicOperation, prevCacheEntry);
@@ -1110,24 +1149,24 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
           nextPageIndex = getPageIndex(nextEntryPointer);
           nextRecordPosition = getRecordPosition(nextEntryPointer);
 
-          final int freePagesIndex;
+          final int freeSpaceClass;
           final int freeSpace;
 
           OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
           try {
             final OClusterPage localPage = new OClusterPage(cacheEntry, false);
             freeSpace = localPage.getFreeSpace();
-            freePagesIndex = calculateFreePageIndex(localPage);
 
             nextEntryPointer = localPage.getRecordLongValue(nextRecordPosition, -OLongSerializer.LONG_SIZE);
-            localPage.deleteRecord(nextRecordPosition);
+            deletePageRecord(atomicOperation, cacheEntry, nextRecordPosition);
 
             sizeDiff += freeSpace - localPage.getFreeSpace();
+            freeSpaceClass = calculateFreeSpaceClass(localPage);
           } finally {
             releasePageFromWrite(atomicOperation, cacheEntry);
           }
 
-          updateFreePagesIndex(freePagesIndex, nextPageIndex, atomicOperation);
+          freeSpaceMap.updatePage(nextPageIndex, freeSpaceClass);
         }
 
         assert newPageIndex >= 0;
@@ -1264,8 +1303,8 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
                 final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
                 try {
-                  final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
-                  prevPage.setRecordLongValue(prevPageRecordPosition, -OLongSerializer.LONG_SIZE, addedPagePointer);
+                  setPageRecordLongValue(atomicOperation, prevPageCacheEntry, prevPageRecordPosition, -OLongSerializer.LONG_SIZE,
+                      addedPagePointer);
                 } finally {
                   releasePageFromWrite(atomicOperation, prevPageCacheEntry);
                 }
@@ -1329,9 +1368,12 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
       try {
         truncateFile(atomicOperation, fileId);
         clusterPositionMap.truncate();
+        freeSpaceMap.truncate();
 
         initCusterState(atomicOperation);
 
+        storage.getRecordVersionCache().removeCluster(id);
+
         endAtomicOperation(false, null);
 
       } catch (Exception e) {
@@ -1345,6 +1387,120 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     }
   }
 
+  /**
+   * Moves records to the pages which are closer to the beginning of the cluster file if such pages have enough free space to hold
+   * them, so empty pages are accumulated at the end of the file and may be removed by {@link #truncateFreePages()}. Only entries of
+   * position map are changed during the move, so RIDs of records stay the same.
+   * <p>
+   * Records are processed in order of their cluster positions. Position at which processing is stopped is stored in the state page
+   * of the cluster together with moved records, so compaction may be continued from the same position even after restart of
+   * storage.
+   *
+   * @param batchSize Maximum amount of records which are processed by the call, all of them are moved inside of single atomic
+   *                  operation.
+   */
+  public CompactionResult compactRecords(final int batchSize) throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(false);
+      acquireExclusiveLock();
+      try {
+        long nextPosition;
+        OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
+        try {
+          nextPosition = new OPaginatedClusterState(pinnedStateEntry).getCompactionPosition();
+        } finally {
+          releasePageFromRead(atomicOperation, pinnedStateEntry);
+        }
+
+        int processedRecords = 0;
+        int movedRecords = 0;
+
+        long[] positions = clusterPositionMap.ceilingPositions(nextPosition);
+        while (positions.length > 0 && processedRecords < batchSize) {
+          for (int i = 0; i < positions.length && processedRecords < batchSize; i++) {
+            if (moveRecord(positions[i], atomicOperation))
+              movedRecords++;
+
+            processedRecords++;
+            nextPosition = positions[i] + 1;
+          }
+
+          if (processedRecords < batchSize)
+            positions = clusterPositionMap.ceilingPositions(nextPosition);
+        }
+
+        final boolean completed = positions.length == 0;
+
+        pinnedStateEntry = loadPageForWrite(atomicOperation, fileId, pinnedStateEntryIndex, true);
+        try {
+          new OPaginatedClusterState(pinnedStateEntry).setCompactionPosition(completed ? 0 : nextPosition);
+        } finally {
+          releasePageFromWrite(atomicOperation, pinnedStateEntry);
+        }
+
+        endAtomicOperation(false, null);
+
+        return new CompactionResult(processedRecords, movedRecords, nextPosition, completed);
+      } catch (IOException | RuntimeException e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(new OPaginatedClusterException("Error during cluster compaction", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * Removes empty pages from the end of the cluster file.
+   * <p>
+   * Removal of pages is not logged into WAL, so this method should be called only when start of atomic operations is prohibited
+   * and all changes of the cluster are flushed to the disk by full checkpoint. Otherwise pages may be restored back during WAL
+   * replay. Free space map is not updated by this method, entries of removed pages are cleaned lazily during search of free page.
+   *
+   * @return Amount of removed pages.
+   */
+  public long truncateFreePages() throws IOException {
+    startOperation();
+    try {
+      acquireExclusiveLock();
+      try {
+        final long filledUpTo = getFilledUpTo(null, fileId);
+
+        long pageCount = filledUpTo;
+        while (pageCount - 1 > pinnedStateEntryIndex) {
+          final boolean empty;
+          final OCacheEntry cacheEntry = loadPageForRead(null, fileId, pageCount - 1, false);
+          try {
+            empty = new OClusterPage(cacheEntry, false).getRecordsCount() == 0;
+          } finally {
+            releasePageFromRead(null, cacheEntry);
+          }
+
+          if (!empty)
+            break;
+
+          pageCount--;
+        }
+
+        if (pageCount < filledUpTo) {
+          cancelReadAhead(fileId);
+          readCache.shrinkFile(fileId, pageCount, writeCache);
+        }
+
+        return filledUpTo - pageCount;
+      } catch (IOException | RuntimeException e) {
+        throw OException.wrapException(new OPaginatedClusterException("Error during removal of free pages of cluster", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   @Override
   public OPhysicalPosition getPhysicalPosition(OPhysicalPosition position) throws IOException {
     startOperation();
@@ -1572,6 +1728,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         try {
           writeCache.flush(fileId);
           clusterPositionMap.flush();
+          freeSpaceMap.flush();
         } finally {
           releaseSharedLock();
         }
@@ -1752,6 +1909,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     this.id = config.getId();
 
     clusterPositionMap = new OClusterPositionMap(storage, getName(), getFullName());
+    freeSpaceMap = new OClusterFreeSpaceMap(storage, getName(), getFullName());
   }
 
   private void setEncryptionInternal(final String iMethod, final String iKey) {
@@ -1799,6 +1957,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
     writeCache.renameFile(fileId, newName + getExtension());
     clusterPositionMap.rename(newName);
+    freeSpaceMap.rename(newName);
 
     config.name = newName;
     storageLocal.renameCluster(getName(), newName);
@@ -1885,214 +2044,312 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     return nextPagePointer >>> PAGE_INDEX_OFFSET;
   }
 
-  private AddEntryResult addEntry(final int recordVersion, byte[] entryContent, OAtomicOperation atomicOperation)
-      throws IOException {
-    final FindFreePageResult findFreePageResult = findFreePage(entryContent.length, atomicOperation);
+  @Override
+  protected boolean isPageOperationsLogged() {
+    return logicalWAL;
+  }
+
+  private int appendPageRecord(OAtomicOperation atomicOperation, OCacheEntry cacheEntry, int recordVersion, byte[] record) {
+    final OClusterPageOperationRecord operation = OClusterPageOperationRecord
+        .addRecord(atomicOperation.getOperationUnitId(), cacheEntry, recordVersion, record);
+    applyPageOperation(atomicOperation, cacheEntry, operation);
 
-    int freePageIndex = findFreePageResult.freePageIndex;
-    long pageIndex = findFreePageResult.pageIndex;
+    return operation.getRecordPosition();
+  }
 
-    boolean newRecord = freePageIndex >= FREE_LIST_SIZE;
+  private void replacePageRecord(OAtomicOperation atomicOperation, OCacheEntry cacheEntry, int recordPosition, byte[] record,
+      int recordVersion) {
+    applyPageOperation(atomicOperation, cacheEntry, OClusterPageOperationRecord
+        .replaceRecord(atomicOperation.getOperationUnitId(), cacheEntry, recordPosition, record, recordVersion));
+  }
+
+  private void deletePageRecord(OAtomicOperation atomicOperation, OCacheEntry cacheEntry, int recordPosition) {
+    applyPageOperation(atomicOperation, cacheEntry,
+        OClusterPageOperationRecord.deleteRecord(atomicOperation.getOperationUnitId(), cacheEntry, recordPosition));
+  }
+
+  private void setPageRecordLongValue(OAtomicOperation atomicOperation, OCacheEntry cacheEntry, int recordPosition, int offset,
+      long value) {
+    applyPageOperation(atomicOperation, cacheEntry, OClusterPageOperationRecord
+        .setRecordLongValue(atomicOperation.getOperationUnitId(), cacheEntry, recordPosition, offset, value));
+  }
+
+  private AddEntryResult addEntry(final int recordVersion, byte[] entryContent, OAtomicOperation atomicOperation)
+      throws IOException {
+    final long pageIndex = findFreePage(entryContent.length, atomicOperation);
 
     OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
-    if (cacheEntry == null)
+    final boolean newPage = cacheEntry == null;
+    if (newPage)
       cacheEntry = addPage(atomicOperation, fileId);
 
     int recordSizesDiff;
     int position;
     final int finalVersion;
+    final int freeSpaceClass;
 
     try {
-      final OClusterPage localPage = new OClusterPage(cacheEntry, newRecord);
-      assert newRecord || freePageIndex == calculateFreePageIndex(localPage);
+      final OClusterPage localPage = new OClusterPage(cacheEntry, newPage);
 
       int initialFreeSpace = localPage.getFreeSpace();
 
-      position = localPage.appendRecord(recordVersion, entryContent);
+      position = appendPageRecord(atomicOperation, cacheEntry, recordVersion, entryContent);
 
       if (position < 0) {
         localPage.dumpToLog();
         throw new IllegalStateException(
-            "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freePageIndex="
-                + freePageIndex + ", entryContent.length=" + entryContent.length);
+            "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freeSpaceClass="
+                + calculateFreeSpaceClass(localPage) + ", entryContent.length=" + entryContent.length);
       }
 
       finalVersion = localPage.getRecordVersion(position);
 
       int freeSpace = localPage.getFreeSpace();
       recordSizesDiff = initialFreeSpace - freeSpace;
+
+      freeSpaceClass = calculateFreeSpaceClass(localPage);
     } finally {
       releasePageFromWrite(atomicOperation, cacheEntry);
     }
 
-    updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
+    freeSpaceMap.updatePage(cacheEntry.getPageIndex(), freeSpaceClass);
 
-    return new AddEntryResult(pageIndex, position, finalVersion, recordSizesDiff);
+    return new AddEntryResult(cacheEntry.getPageIndex(), position, finalVersion, recordSizesDiff);
   }
 
-  private FindFreePageResult findFreePage(int contentSize, OAtomicOperation atomicOperation) throws IOException {
-    while (true) {
-      int freePageIndex = contentSize / ONE_KB;
-      freePageIndex -= PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
-      if (freePageIndex < 0)
-        freePageIndex = 0;
+  /**
+   * Moves record to the page which is closer to the beginning of cluster file, if there is such page with enough free space.
+   *
+   * @return <code>true</code> if record was moved.
+   */
+  private boolean moveRecord(final long clusterPosition, final OAtomicOperation atomicOperation) throws IOException {
+    final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPosition, 1);
+    if (positionEntry == null)
+      return false;
 
-      long pageIndex;
+    final long pageIndex = positionEntry.getPageIndex();
+    final int recordPosition = positionEntry.getRecordPosition();
 
-      final OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
-      if (pinnedStateEntry == null) {
-        loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
-      }
-      try {
-        OPaginatedClusterState freePageLists = new OPaginatedClusterState(pinnedStateEntry);
-        do {
-          pageIndex = freePageLists.getFreeListPage(freePageIndex);
-          freePageIndex++;
-        } while (pageIndex < 0 && freePageIndex < FREE_LIST_SIZE);
+    if (getFilledUpTo(atomicOperation, fileId) <= pageIndex)
+      return false;
 
-      } finally {
-        releasePageFromRead(atomicOperation, pinnedStateEntry);
-      }
+    final int recordVersion;
+    final int firstEntrySize;
 
-      if (pageIndex < 0)
-        pageIndex = getFilledUpTo(atomicOperation, fileId);
-      else
-        freePageIndex--;
+    final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+      if (localPage.isDeleted(recordPosition))
+        return false;
+
+      recordVersion = localPage.getRecordVersion(recordPosition);
+      firstEntrySize = localPage.getRecordSize(recordPosition);
+    } finally {
+      releasePageFromRead(atomicOperation, cacheEntry);
+    }
 
-      if (freePageIndex < FREE_LIST_SIZE) {
-        OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+    if (findFreePage(firstEntrySize, atomicOperation) >= pageIndex)
+      return false;
 
-        //free list is broken automatically fix it
-        if (cacheEntry == null) {
-          updateFreePagesList(freePageIndex, -1, atomicOperation);
+    final byte[] fullEntry = readFullEntry(clusterPosition, pageIndex, recordPosition, atomicOperation, 1);
+    if (fullEntry == null)
+      return false;
 
-          continue;
-        } else {
-          int realFreePageIndex;
-          try {
-            OClusterPage localPage = new OClusterPage(cacheEntry, false);
-            realFreePageIndex = calculateFreePageIndex(localPage);
-          } finally {
-            releasePageFromWrite(atomicOperation, cacheEntry);
-          }
+    final int removedContentSize = deleteEntry(clusterPosition, pageIndex, recordPosition, atomicOperation);
+    final AddEntryResult addEntryResult = addFullEntry(recordVersion, fullEntry,
+        fullEntry.length - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE, atomicOperation);
 
-          if (realFreePageIndex != freePageIndex) {
-            OLogManager.instance()
-                .warn(this, "Page in file %s with index %d was placed in wrong free list, this error will be fixed automatically",
-                    getFullName(), pageIndex);
+    updateClusterState(0, addEntryResult.recordsSizeDiff - removedContentSize, atomicOperation);
+    clusterPositionMap
+        .update(clusterPosition, new OClusterPositionMapBucket.PositionEntry(addEntryResult.pageIndex, addEntryResult.pagePosition));
 
-            updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
-            continue;
-          }
-        }
+    addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
+    return true;
+  }
+
+  /**
+   * Removes all chunks of record starting from the passed in one.
+   *
+   * @return Amount of space released in cluster pages.
+   */
+  private int deleteEntry(final long clusterPosition, long pageIndex, int recordPosition, final OAtomicOperation atomicOperation)
+      throws IOException {
+    int removedContentSize = 0;
+    long nextPagePointer;
+
+    do {
+      final int freeSpaceClass;
+      final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+      try {
+        final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+        if (localPage.isDeleted(recordPosition))
+          throw new OPaginatedClusterException("Content of record " + new ORecordId(id, clusterPosition) + " was broken", this);
+
+        nextPagePointer = localPage.getRecordLongValue(recordPosition, -OLongSerializer.LONG_SIZE);
+
+        final int initialFreeSpace = localPage.getFreeSpace();
+        deletePageRecord(atomicOperation, cacheEntry, recordPosition);
+        removedContentSize += localPage.getFreeSpace() - initialFreeSpace;
+
+        freeSpaceClass = calculateFreeSpaceClass(localPage);
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
       }
 
-      return new FindFreePageResult(pageIndex, freePageIndex);
-    }
+      freeSpaceMap.updatePage(pageIndex, freeSpaceClass);
+
+      pageIndex = getPageIndex(nextPagePointer);
+      recordPosition = getRecordPosition(nextPagePointer);
+    } while (nextPagePointer >= 0);
+
+    return removedContentSize;
   }
 
-  private void updateFreePagesIndex(int prevFreePageIndex, long pageIndex, OAtomicOperation atomicOperation) throws IOException {
-    final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+  /**
+   * Splits full entry of record on chunks which fit into cluster page and adds them to the cluster in the same way as it is done
+   * during creation of record.
+   *
+   * @return Result of addition of the first chunk, size difference of records is calculated for all chunks.
+   */
+  private AddEntryResult addFullEntry(final int recordVersion, final byte[] fullEntry, final int fullEntrySize,
+      final OAtomicOperation atomicOperation) throws IOException {
+    final int maxChunkSize = OClusterPage.MAX_RECORD_SIZE - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE;
+
+    AddEntryResult firstEntryResult = null;
+    long prevPageRecordPointer = -1;
+    int recordsSizeDiff = 0;
 
-    try {
-      final OClusterPage localPage = new OClusterPage(cacheEntry, false);
-      int newFreePageIndex = calculateFreePageIndex(localPage);
+    int from = 0;
+    do {
+      final int to = Math.min(from + maxChunkSize, fullEntrySize);
+
+      final byte[] entryContent = new byte[to - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE];
+      System.arraycopy(fullEntry, from, entryContent, 0, to - from);
+
+      entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = (byte) (from == 0 ? 1 : 0);
+      OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
 
-      if (prevFreePageIndex == newFreePageIndex)
-        return;
+      final AddEntryResult addEntryResult = addEntry(recordVersion, entryContent, atomicOperation);
+      recordsSizeDiff += addEntryResult.recordsSizeDiff;
 
-      long nextPageIndex = localPage.getNextPage();
-      long prevPageIndex = localPage.getPrevPage();
+      if (firstEntryResult == null)
+        firstEntryResult = addEntryResult;
 
-      if (prevPageIndex >= 0) {
-        final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
+      final long addedPagePointer = createPagePointer(addEntryResult.pageIndex, addEntryResult.pagePosition);
+      if (prevPageRecordPointer >= 0) {
+        final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, getPageIndex(prevPageRecordPointer), false);
         try {
-          final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
-          assert calculateFreePageIndex(prevPage) == prevFreePageIndex;
-          prevPage.setNextPage(nextPageIndex);
+          setPageRecordLongValue(atomicOperation, prevPageCacheEntry, getRecordPosition(prevPageRecordPointer),
+              -OLongSerializer.LONG_SIZE, addedPagePointer);
         } finally {
           releasePageFromWrite(atomicOperation, prevPageCacheEntry);
         }
       }
 
-      if (nextPageIndex >= 0) {
-        final OCacheEntry nextPageCacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
-        try {
-          final OClusterPage nextPage = new OClusterPage(nextPageCacheEntry, false);
-          if (calculateFreePageIndex(nextPage) != prevFreePageIndex)
-            calculateFreePageIndex(nextPage);
-
-          assert calculateFreePageIndex(nextPage) == prevFreePageIndex;
-          nextPage.setPrevPage(prevPageIndex);
+      prevPageRecordPointer = addedPagePointer;
+      from = to;
+    } while (from < fullEntrySize);
 
-        } finally {
-          releasePageFromWrite(atomicOperation, nextPageCacheEntry);
-        }
-      }
+    return new AddEntryResult(firstEntryResult.pageIndex, firstEntryResult.pagePosition, firstEntryResult.recordVersion,
+        recordsSizeDiff);
+  }
 
-      localPage.setNextPage(-1);
-      localPage.setPrevPage(-1);
+  /**
+   * Finds page which is able to hold entry of passed in size using free space map of cluster. If there is no such page, index of
+   * page which will be appended to the cluster file is returned.
+   */
+  private long findFreePage(int contentSize, OAtomicOperation atomicOperation) throws IOException {
+    // entries which are bigger than the highest free space class fit only into empty (or almost empty) pages
+    final int requiredFreeSpaceClass = Math.min(Math.max((contentSize + FREE_SPACE_CLASS_SIZE - 1) / FREE_SPACE_CLASS_SIZE, 1),
+        OClusterFreeSpaceMap.MAX_FREE_SPACE_CLASS);
 
-      if (prevFreePageIndex < 0 && newFreePageIndex < 0)
-        return;
+    while (true) {
+      final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+      final long pageIndex = freeSpaceMap.findPage(requiredFreeSpaceClass);
 
-      if (prevFreePageIndex >= 0 && prevFreePageIndex < FREE_LIST_SIZE) {
-        if (prevPageIndex < 0)
-          updateFreePagesList(prevFreePageIndex, nextPageIndex, atomicOperation);
-      }
+      if (pageIndex < 0)
+        return filledUpTo;
 
-      if (newFreePageIndex >= 0) {
-        long oldFreePage;
-        OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
+      int realFreeSpaceClass = 0;
+      int maxRecordSize = 0;
+      if (pageIndex != pinnedStateEntryIndex && pageIndex < filledUpTo) {
+        final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
         try {
-          OPaginatedClusterState clusterFreeList = new OPaginatedClusterState(pinnedStateEntry);
-          oldFreePage = clusterFreeList.getFreeListPage(newFreePageIndex);
+          final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+          realFreeSpaceClass = calculateFreeSpaceClass(localPage);
+          maxRecordSize = localPage.getMaxRecordSize();
         } finally {
-          releasePageFromRead(atomicOperation, pinnedStateEntry);
+          releasePageFromRead(atomicOperation, cacheEntry);
         }
+      }
 
-        if (oldFreePage >= 0) {
-          final OCacheEntry oldFreePageCacheEntry = loadPageForWrite(atomicOperation, fileId, oldFreePage, false);
-          try {
-            final OClusterPage oldFreeLocalPage = new OClusterPage(oldFreePageCacheEntry, false);
-            assert calculateFreePageIndex(oldFreeLocalPage) == newFreePageIndex;
+      if (realFreeSpaceClass >= requiredFreeSpaceClass) {
+        if (maxRecordSize >= contentSize)
+          return pageIndex;
 
-            oldFreeLocalPage.setPrevPage(pageIndex);
-          } finally {
-            releasePageFromWrite(atomicOperation, oldFreePageCacheEntry);
-          }
+        return filledUpTo;
+      }
 
-          localPage.setNextPage(oldFreePage);
-          localPage.setPrevPage(-1);
-        }
+      //entries of pages removed from the end of the file by compaction are cleaned lazily, otherwise
+      //free space map is broken automatically fix it
+      if (pageIndex < filledUpTo)
+        OLogManager.instance()
+            .warn(this, "Free space of page in file %s with index %d is wrongly stored in free space map, "
+                + "this error will be fixed automatically", getFullName(), pageIndex);
 
-        updateFreePagesList(newFreePageIndex, pageIndex, atomicOperation);
-      }
-    } finally {
-      releasePageFromWrite(atomicOperation, cacheEntry);
+      freeSpaceMap.updatePage(pageIndex, realFreeSpaceClass);
     }
   }
 
-  private void updateFreePagesList(int freeListIndex, long pageIndex, OAtomicOperation atomicOperation) throws IOException {
-    final OCacheEntry pinnedStateEntry = loadPageForWrite(atomicOperation, fileId, pinnedStateEntryIndex, true);
-    try {
-      OPaginatedClusterState paginatedClusterState = new OPaginatedClusterState(pinnedStateEntry);
-      paginatedClusterState.setFreeListPage(freeListIndex, pageIndex);
-    } finally {
-      releasePageFromWrite(atomicOperation, pinnedStateEntry);
-    }
+  /**
+   * Free space class of cluster page, it is amount of space available for a new record measured in
+   * <code>FREE_SPACE_CLASS_SIZE</code> units. Pages which have less than <code>storage.lowestFreeListBound</code> kilobytes of
+   * free space are not tracked.
+   */
+  private static int calculateFreeSpaceClass(OClusterPage localPage) {
+    if (localPage.isEmpty())
+      return OClusterFreeSpaceMap.MAX_FREE_SPACE_CLASS;
+
+    final int maxRecordSize = localPage.getMaxRecordSize();
+    if (maxRecordSize < LOWEST_TRACKED_SPACE)
+      return 0;
+
+    return Math.min(maxRecordSize / FREE_SPACE_CLASS_SIZE, OClusterFreeSpaceMap.MAX_FREE_SPACE_CLASS);
   }
 
-  private int calculateFreePageIndex(OClusterPage localPage) {
-    int newFreePageIndex;
-    if (localPage.isEmpty())
-      newFreePageIndex = FREE_LIST_SIZE - 1;
-    else {
-      newFreePageIndex = (localPage.getMaxRecordSize() - (ONE_KB - 1)) / ONE_KB;
+  /**
+   * Recalculates free space map using content of cluster pages. It is used when content of cluster file was replaced or when
+   * cluster which was created before free space map was introduced is opened.
+   */
+  private void rebuildFreeSpaceMap(boolean create) throws IOException {
+    final OAtomicOperation atomicOperation = startAtomicOperation(false);
+    try {
+      if (create)
+        freeSpaceMap.create();
+      else
+        freeSpaceMap.truncate();
+
+      final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+      for (long pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
+        if (pageIndex == pinnedStateEntryIndex)
+          continue;
+
+        final int freeSpaceClass;
+        final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        try {
+          freeSpaceClass = calculateFreeSpaceClass(new OClusterPage(cacheEntry, false));
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
+        }
+
+        freeSpaceMap.updatePage(pageIndex, freeSpaceClass);
+      }
 
-      newFreePageIndex -= LOWEST_FREELIST_BOUNDARY;
+      endAtomicOperation(false, null);
+    } catch (IOException | RuntimeException e) {
+      endAtomicOperation(true, e);
+      throw OException.wrapException(new OPaginatedClusterException("Error during rebuild of free space map", this), e);
     }
-    return newFreePageIndex;
   }
 
   private void initCusterState(OAtomicOperation atomicOperation) throws IOException {
@@ -2242,9 +2499,10 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
           OClusterPositionMap.OClusterPositionEntry[] nextPositions = clusterPositionMap.higherPositionsEntries(lastPosition);
           if (nextPositions.length > 0) {
             long newLastPosition = nextPositions[nextPositions.length - 1].getPosition();
+            final int pageCount = Math.max(1, OGlobalConfiguration.QUERY_SCAN_PREFETCH_PAGES.getValueAsInteger());
             List<OClusterBrowseEntry> nexv = new ArrayList<>();
             for (OClusterPositionMap.OClusterPositionEntry pos : nextPositions) {
-              final ORawBuffer buff = internalReadRecord(pos.getPosition(), pos.getPage(), pos.getOffset(), 1);
+              final ORawBuffer buff = internalReadRecord(pos.getPosition(), pos.getPage(), pos.getOffset(), pageCount);
               nexv.add(new OClusterBrowseEntry(pos.getPosition(), buff));
             }
             return new OClusterBrowsePage(nexv, newLastPosition);
@@ -33,6 +33,13 @@ public class OPaginatedClusterState extends ODurablePage {
   private static final int SIZE_OFFSET         = RECORDS_SIZE_OFFSET + OLongSerializer.LONG_SIZE;
   private static final int FREE_LIST_OFFSET    = SIZE_OFFSET + OLongSerializer.LONG_SIZE;
 
+  /**
+   * Free list can not contain more entries than amount of kilobytes in cluster page, so position of compaction is stored right
+   * after the biggest possible free list.
+   */
+  private static final int COMPACTION_POSITION_OFFSET =
+      FREE_LIST_OFFSET + (OClusterPage.PAGE_SIZE / 1024) * OLongSerializer.LONG_SIZE;
+
   public OPaginatedClusterState(OCacheEntry cacheEntry) {
     super(cacheEntry);
   }
@@ -60,4 +67,16 @@ public class OPaginatedClusterState extends ODurablePage {
   public long getFreeListPage(int index) {
     return getLongValue(FREE_LIST_OFFSET + index * OLongSerializer.LONG_SIZE);
   }
+
+  public void setCompactionPosition(long clusterPosition) {
+    setLongValue(COMPACTION_POSITION_OFFSET, clusterPosition);
+  }
+
+  /**
+   * @return Cluster position from which interrupted compaction of cluster should be continued, or 0 if compaction was not started
+   * or was completed.
+   */
+  public long getCompactionPosition() {
+    return getLongValue(COMPACTION_POSITION_OFFSET);
+  }
 }
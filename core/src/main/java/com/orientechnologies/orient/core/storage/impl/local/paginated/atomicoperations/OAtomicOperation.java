@@ -21,29 +21,36 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.atomicope
 
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileCreatedWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OFileDeletedWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperationRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Note: all atomic operations methods are designed in context that all operations on single files will be wrapped in shared lock.
@@ -62,6 +69,7 @@ public class OAtomicOperation {
   private Exception rollbackException;
 
   private final Set<String>            lockedObjects        = new HashSet<>();
+  private final Set<String>            lockedPages          = new HashSet<>();
   private final Map<Long, FileChanges> fileChanges          = new HashMap<>();
   private final Map<String, Long>      newFileNamesId       = new HashMap<>();
   private final Set<Long>              deletedFiles         = new HashSet<>();
@@ -74,8 +82,48 @@ public class OAtomicOperation {
 
   private final Map<String, OAtomicOperationMetadata<?>> metadata = new LinkedHashMap<>();
 
+  /**
+   * Components which are modified with page level locking, they are locked in shared mode till the end of atomic operation. Sorted
+   * by lock name, so they are always locked exclusively during commit in the same order.
+   */
+  private final Map<String, ODurableComponent> sharedLockedComponents = new TreeMap<>();
+
+  /**
+   * Changes of counters of components locked in shared mode. Pages which contain such counters are modified by all concurrent
+   * atomic operations, so counters are updated only during commit, see {@link ODurableComponent#applyDeferredChanges(OAtomicOperation)}.
+   */
+  private final Map<String, Long> deferredCounterChanges = new HashMap<>();
+
+  /**
+   * New versions of records changed by this atomic operation, negative version means that record was deleted. They are applied to
+   * {@link com.orientechnologies.orient.core.storage.impl.local.ORecordVersionCache} once operation is committed.
+   */
+  private final Map<ORID, Integer> recordVersions = new HashMap<>();
+
+  /**
+   * Actions which are executed once this atomic operation is committed, see {@link #addCommitListener(Runnable)}.
+   */
+  private final List<Runnable> commitListeners = new ArrayList<>();
+
+  /**
+   * Atomic operation which was active in current thread when this one was started as nested one, or <code>null</code>.
+   */
+  private final OAtomicOperation outerOperation;
+
+  /**
+   * Pages changes of which were logged as page operations, they are kept locked till the end of atomic operation is logged.
+   */
+  private final List<OCacheEntry>        operationPages    = new ArrayList<>();
+  private final List<OLogSequenceNumber> operationPagesLsn = new ArrayList<>();
+
   public OAtomicOperation(OLogSequenceNumber startLSN, OOperationUnitId operationUnitId, OReadCache readCache,
       OWriteCache writeCache, int storageId, OPerformanceStatisticManager performanceStatisticManager) {
+    this(startLSN, operationUnitId, readCache, writeCache, storageId, performanceStatisticManager, null);
+  }
+
+  OAtomicOperation(OLogSequenceNumber startLSN, OOperationUnitId operationUnitId, OReadCache readCache, OWriteCache writeCache,
+      int storageId, OPerformanceStatisticManager performanceStatisticManager, OAtomicOperation outerOperation) {
+    this.outerOperation = outerOperation;
     this.storageId = storageId;
     this.startLSN = startLSN;
     this.operationUnitId = operationUnitId;
@@ -206,6 +254,71 @@ public class OAtomicOperation {
     return Collections.unmodifiableMap(metadata);
   }
 
+  /**
+   * @return <code>true</code> if content of the page was changed inside of this atomic operation.
+   */
+  public boolean isPageChanged(long fileId, long pageIndex) {
+    fileId = checkFileIdCompatibility(fileId, storageId);
+
+    final FileChanges changesContainer = fileChanges.get(fileId);
+    if (changesContainer == null)
+      return false;
+
+    final OCacheEntryChanges pageChangesContainer = changesContainer.pageChangesMap.get(pageIndex);
+    return pageChangesContainer != null && pageChangesContainer.changes.hasChanges();
+  }
+
+  /**
+   * Adds change of the counter of the component locked in shared mode, it is applied by the component during commit.
+   *
+   * @see ODurableComponent#applyDeferredChanges(OAtomicOperation)
+   */
+  public void addDeferredCounterChange(String lockName, long diff) {
+    deferredCounterChanges.merge(lockName, diff, Long::sum);
+  }
+
+  /**
+   * @return Sum of changes of the counter of the component added by {@link #addDeferredCounterChange(String, long)}.
+   */
+  public long getDeferredCounterChange(String lockName) {
+    final Long diff = deferredCounterChanges.get(lockName);
+    return diff == null ? 0 : diff;
+  }
+
+  /**
+   * Registers new version of record changed by this atomic operation.
+   *
+   * @param version new version of record or <code>-1</code> if record was deleted
+   */
+  public void addRecordVersion(ORID rid, int version) {
+    recordVersions.put(rid.copy(), version);
+  }
+
+  /**
+   * @return version of record registered by {@link #addRecordVersion(ORID, int)} or <code>null</code> if record was not changed by
+   * this atomic operation.
+   */
+  public Integer getRecordVersion(ORID rid) {
+    return recordVersions.get(rid);
+  }
+
+  public Map<ORID, Integer> getRecordVersions() {
+    return recordVersions;
+  }
+
+  /**
+   * Registers action which is executed once this atomic operation is committed, while locks acquired by the operation are still
+   * held. It is used by components which keep state outside of pages, like counters of entries, so this state is not changed by
+   * rolled back operations.
+   */
+  public void addCommitListener(Runnable listener) {
+    commitListeners.add(listener);
+  }
+
+  List<Runnable> getCommitListeners() {
+    return commitListeners;
+  }
+
   public void pinPage(OCacheEntry cacheEntry) {
     if (deletedFiles.contains(cacheEntry.getFileId()))
       throw new OStorageException("File with id " + cacheEntry.getFileId() + " is deleted.");
@@ -219,6 +332,17 @@ public class OAtomicOperation {
     pageChangesContainer.pinPage = true;
   }
 
+  /**
+   * Performs operation on the page loaded inside of this atomic operation. If all changes of the page are done by such operations,
+   * operations are logged into WAL instead of changes of the page during commit of atomic operation.
+   *
+   * @param cacheEntry Page which is loaded for write inside of this atomic operation
+   * @param operation  Operation which is performed on the page
+   */
+  public void applyPageOperation(OCacheEntry cacheEntry, OPageOperationRecord operation) {
+    ((OCacheEntryChanges) cacheEntry).applyOperation(operation);
+  }
+
   public OCacheEntry addPage(long fileId) {
     fileId = checkFileIdCompatibility(fileId, storageId);
 
@@ -446,6 +570,11 @@ public class OAtomicOperation {
               final long pageIndex = filePageChangesEntry.getKey();
               final OCacheEntryChanges filePageChanges = filePageChangesEntry.getValue();
 
+              if (!filePageChanges.isNew && filePageChanges.isChangedByOperationsOnly()) {
+                logPageOperations(writeAheadLog, fileId, pageIndex, filePageChanges);
+                continue;
+              }
+
               OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, true);
               if (cacheEntry == null) {
                 assert filePageChanges.isNew;
@@ -529,6 +658,54 @@ public class OAtomicOperation {
     }
   }
 
+  private void logPageOperations(OWriteAheadLog writeAheadLog, long fileId, long pageIndex, OCacheEntryChanges filePageChanges)
+      throws IOException {
+    final OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, true);
+    assert cacheEntry != null;
+
+    // page is released only after the end of atomic operation is logged, so WAL is flushed at least till the end of atomic
+    // operation before the page is written to the disk
+    operationPages.add(cacheEntry);
+    operationPagesLsn.add(ODurablePage.getLogSequenceNumberFromPage(cacheEntry.getCachePointer().getBuffer()));
+
+    OLogSequenceNumber operationLSN = null;
+    for (OPageOperationRecord operation : filePageChanges.pageOperations)
+      operationLSN = writeAheadLog.log(operation);
+
+    operationPagesLsn.set(operationPagesLsn.size() - 1, operationLSN);
+
+    final ODurablePage durablePage = new ODurablePage(cacheEntry);
+    durablePage.restoreChanges(filePageChanges.changes);
+
+    if (filePageChanges.pinPage)
+      readCache.pinPage(cacheEntry);
+  }
+
+  /**
+   * Releases pages changes of which were logged as page operations during commit of atomic operation. LSN of such pages is set to
+   * the LSN of the end of atomic operation, so pages are not written to the disk till atomic operation is durable and page
+   * operations never should be rolled back during restore of data.
+   *
+   * @param endLSN LSN of the record of the end of atomic operation or <code>null</code> if record was not logged, in such case LSN
+   *               of the last operation of the page is used.
+   */
+  public void releaseOperationPages(OLogSequenceNumber endLSN) {
+    for (int i = 0; i < operationPages.size(); i++) {
+      final OCacheEntry cacheEntry = operationPages.get(i);
+
+      try {
+        final OLogSequenceNumber pageLSN = endLSN != null ? endLSN : operationPagesLsn.get(i);
+        if (pageLSN != null)
+          new ODurablePage(cacheEntry).setLsn(pageLSN);
+      } finally {
+        readCache.releaseFromWrite(cacheEntry, writeCache);
+      }
+    }
+
+    operationPages.clear();
+    operationPagesLsn.clear();
+  }
+
   void incrementCounter() {
     startCounter++;
   }
@@ -566,6 +743,34 @@ public class OAtomicOperation {
     return lockedObjects;
   }
 
+  void addSharedLockedComponent(ODurableComponent component) {
+    sharedLockedComponents.put(component.getLockName(), component);
+  }
+
+  boolean containsInSharedLockedComponents(String lockName) {
+    return sharedLockedComponents.containsKey(lockName);
+  }
+
+  Collection<ODurableComponent> sharedLockedComponents() {
+    return sharedLockedComponents.values();
+  }
+
+  void addLockedPage(String pageLock) {
+    lockedPages.add(pageLock);
+  }
+
+  boolean containsInLockedPages(String pageLock) {
+    return lockedPages.contains(pageLock);
+  }
+
+  Iterable<String> lockedPages() {
+    return lockedPages;
+  }
+
+  OAtomicOperation getOuterOperation() {
+    return outerOperation;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -29,6 +29,7 @@ import com.orientechnologies.orient.core.OOrientListenerAbstract;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -54,8 +55,10 @@ import java.io.StringWriter;
 import java.lang.management.ManagementFactory;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -111,6 +114,14 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
   private final OWriteAheadLog            writeAheadLog;
   private final OOneEntryPerKeyLockManager<String> lockManager = new OOneEntryPerKeyLockManager<>(true, -1,
       OGlobalConfiguration.COMPONENTS_LOCK_CACHE.getValueAsInteger());
+
+  /**
+   * Locks of pages of components which are modified in shared mode, see {@link #acquireSharedLockTillOperationComplete(ODurableComponent)}.
+   */
+  private final OOneEntryPerKeyLockManager<String> pageLockManager = new OOneEntryPerKeyLockManager<>(true, -1,
+      OGlobalConfiguration.COMPONENTS_LOCK_CACHE.getValueAsInteger());
+  private final int                                pageLockTimeout = OGlobalConfiguration.SBTREE_PAGE_LOCK_TIMEOUT
+      .getValueAsInteger();
   private final OReadCache  readCache;
   private final OWriteCache writeCache;
 
@@ -212,16 +223,40 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
     try {
       storage.checkReadOnlyConditions();
     } catch (RuntimeException | Error e) {
-      final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
+      releaseLocks(operation);
+      throw e;
+    }
 
-      while (lockedObjectIterator.hasNext()) {
-        final String lockedObject = lockedObjectIterator.next();
-        lockedObjectIterator.remove();
+    return operation;
+  }
 
-        lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
-      }
+  /**
+   * Starts atomic operation which is independent from the atomic operation active in current thread, it becomes active in current
+   * thread instead of the outer one till it is completed by {@link #endAtomicOperation(boolean, Exception)}. Changes of nested
+   * atomic operation are committed or rolled back regardless of the outcome of outer atomic operation, so it is used to perform
+   * structure modifications of components which are modified in shared mode, like split of pages, and which have to be visible to
+   * all concurrent atomic operations immediately.
+   * <p>Nested atomic operation does not wait for release of frozen atomic operations, because outer atomic operation is already
+   * taken into account by freeze, and does not acquire locks of components. Caller is responsible for exclusive access to the
+   * pages which are changed.
+   */
+  public OAtomicOperation startNestedAtomicOperation() throws IOException {
+    final OAtomicOperation outerOperation = currentOperation.get();
+    assert outerOperation != null;
 
-      throw e;
+    atomicOperationsCount.increment();
+
+    final boolean useWal = useWal();
+    final OOperationUnitId unitId = OOperationUnitId.generateId();
+    final OLogSequenceNumber lsn = useWal ? writeAheadLog.logAtomicOperationStartRecord(true, unitId) : null;
+
+    final OAtomicOperation operation = new OAtomicOperation(lsn, unitId, readCache, writeCache, storage.getId(),
+        performanceStatisticManager, outerOperation);
+    currentOperation.set(operation);
+
+    if (trackAtomicOperations) {
+      final Thread thread = Thread.currentThread();
+      activeAtomicOperations.put(unitId, new OPair<>(thread.getName(), thread.getStackTrace()));
     }
 
     return operation;
@@ -366,6 +401,25 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
     return currentOperation.get();
   }
 
+  /**
+   * @return version of record which was changed by one of atomic operations active in the current thread and is not committed yet,
+   * or <code>null</code> if record was not changed by them.
+   *
+   * @see OAtomicOperation#addRecordVersion(ORID, int)
+   */
+  public Integer getUncommittedRecordVersion(ORID rid) {
+    OAtomicOperation operation = currentOperation.get();
+    while (operation != null) {
+      final Integer version = operation.getRecordVersion(rid);
+      if (version != null)
+        return version;
+
+      operation = operation.getOuterOperation();
+    }
+
+    return null;
+  }
+
   /**
    * Ends the current atomic operation on this manager.
    *
@@ -399,16 +453,8 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
       operation.decrementCounter();
 
       if (counter == 1) {
-        final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
-
-        while (lockedObjectIterator.hasNext()) {
-          final String lockedObject = lockedObjectIterator.next();
-          lockedObjectIterator.remove();
-
-          lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
-        }
-
-        currentOperation.set(null);
+        releaseLocks(operation);
+        currentOperation.set(operation.getOuterOperation());
       }
 
 
@@ -421,14 +467,38 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
       try {
         final boolean useWal = useWal();
 
-        if (!operation.isRollback())
-          operation.commitChanges(useWal ? writeAheadLog : null);
+        // components modified in shared mode are locked exclusively till the end of atomic operation is logged, so changes of
+        // pages shared by concurrent atomic operations are logged and applied in the same order
+        final List<ODurableComponent> committedComponents = new ArrayList<>();
+        try {
+          if (!operation.isRollback()) {
+            for (ODurableComponent component : operation.sharedLockedComponents()) {
+              component.startSharedModeCommit(operation);
+              committedComponents.add(component);
+            }
+
+            operation.commitChanges(useWal ? writeAheadLog : null);
+          }
+
+          if (useWal)
+            lsn = writeAheadLog.logAtomicOperationEndRecord(operation.getOperationUnitId(), rollback, operation.getStartLSN(),
+                operation.getMetadata());
+          else
+            lsn = null;
+
+          operation.releaseOperationPages(lsn);
 
-        if (useWal)
-          lsn = writeAheadLog.logAtomicOperationEndRecord(operation.getOperationUnitId(), rollback, operation.getStartLSN(),
-              operation.getMetadata());
-        else
-          lsn = null;
+          // versions are applied while locks are held, so they are in sync with content of clusters
+          if (!operation.isRollback()) {
+            storage.getRecordVersionCache().update(operation.getRecordVersions());
+
+            for (Runnable listener : operation.getCommitListeners())
+              listener.run();
+          }
+        } finally {
+          for (ODurableComponent component : committedComponents)
+            component.completeSharedModeCommit();
+        }
 
         // We have to decrement the counter after the disk operations, otherwise, if they
         // fail, we will be unable to rollback the atomic operation later.
@@ -442,16 +512,11 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
         storage.handleJVMError(e);
         throw e;
       } finally {
-        final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
+        // pages are still locked if the end of atomic operation was not logged because of exception
+        operation.releaseOperationPages(null);
 
-        while (lockedObjectIterator.hasNext()) {
-          final String lockedObject = lockedObjectIterator.next();
-          lockedObjectIterator.remove();
-
-          lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
-        }
-
-        currentOperation.set(null);
+        releaseLocks(operation);
+        currentOperation.set(operation.getOuterOperation());
       }
 
     } else {
@@ -464,15 +529,36 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
 
   public void ensureThatComponentsUnlocked() {
     final OAtomicOperation operation = currentOperation.get();
-    if (operation != null) {
-      final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
+    if (operation != null)
+      releaseLocks(operation);
+  }
 
-      while (lockedObjectIterator.hasNext()) {
-        final String lockedObject = lockedObjectIterator.next();
-        lockedObjectIterator.remove();
+  private void releaseLocks(OAtomicOperation operation) {
+    final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
 
-        lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
-      }
+    while (lockedObjectIterator.hasNext()) {
+      final String lockedObject = lockedObjectIterator.next();
+      lockedObjectIterator.remove();
+
+      lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
+    }
+
+    final Iterator<ODurableComponent> sharedComponentsIterator = operation.sharedLockedComponents().iterator();
+
+    while (sharedComponentsIterator.hasNext()) {
+      final ODurableComponent component = sharedComponentsIterator.next();
+      sharedComponentsIterator.remove();
+
+      lockManager.releaseLock(this, component.getLockName(), OOneEntryPerKeyLockManager.LOCK.SHARED);
+    }
+
+    final Iterator<String> lockedPagesIterator = operation.lockedPages().iterator();
+
+    while (lockedPagesIterator.hasNext()) {
+      final String lockedPage = lockedPagesIterator.next();
+      lockedPagesIterator.remove();
+
+      pageLockManager.releaseLock(this, lockedPage, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
     }
   }
 
@@ -486,6 +572,10 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
     if (operation.containsInLockedObjects(lockName))
       return;
 
+    if (operation.containsInSharedLockedComponents(lockName))
+      throw new OStorageException(
+          "Component '" + lockName + "' is locked in shared mode by current atomic operation and can not be locked exclusively");
+
     lockManager.acquireLock(lockName, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
     operation.addLockedObject(lockName);
   }
@@ -499,6 +589,75 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
     acquireExclusiveLockTillOperationComplete(operation, durableComponent.getLockName());
   }
 
+  /**
+   * Acquires shared lock of the component in the active atomic operation running on the current thread. Several atomic operations
+   * may modify such component concurrently, each of them has to lock pages which it changes by {@link
+   * #acquirePageLockTillOperationComplete(ODurableComponent, long)} and to defer changes of pages which are modified by all of them,
+   * see {@link ODurableComponent#applyDeferredChanges(OAtomicOperation)}. Exclusive lock of the component is not acquired if
+   * component is already locked in shared mode.
+   */
+  public void acquireSharedLockTillOperationComplete(ODurableComponent durableComponent) {
+    final OAtomicOperation operation = currentOperation.get();
+    assert operation != null;
+
+    final String lockName = durableComponent.getLockName();
+    if (operation.containsInLockedObjects(lockName) || operation.containsInSharedLockedComponents(lockName))
+      return;
+
+    lockManager.acquireLock(lockName, OOneEntryPerKeyLockManager.LOCK.SHARED);
+    operation.addSharedLockedComponent(durableComponent);
+  }
+
+  /**
+   * @return <code>true</code> if atomic operation running on the current thread holds shared lock of the component acquired by
+   * {@link #acquireSharedLockTillOperationComplete(ODurableComponent)}.
+   */
+  public boolean isSharedLockedTillOperationComplete(ODurableComponent durableComponent) {
+    final OAtomicOperation operation = currentOperation.get();
+    return operation != null && operation.containsInSharedLockedComponents(durableComponent.getLockName());
+  }
+
+  /**
+   * Acquires exclusive lock of the page of the component in the active atomic operation running on the current thread, if page is
+   * not locked by other atomic operations.
+   *
+   * @return <code>true</code> if lock is held by the atomic operation.
+   */
+  public boolean tryAcquirePageLockTillOperationComplete(ODurableComponent durableComponent, long pageIndex) {
+    final OAtomicOperation operation = currentOperation.get();
+    assert operation != null;
+
+    final String pageLock = pageLockName(durableComponent, pageIndex);
+    if (operation.containsInLockedPages(pageLock))
+      return true;
+
+    if (!pageLockManager.tryAcquireLock(pageLock, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE))
+      return false;
+
+    operation.addLockedPage(pageLock);
+    return true;
+  }
+
+  /**
+   * Acquires exclusive lock of the page of the component in the active atomic operation running on the current thread, waiting
+   * for release of the page by other atomic operations not longer than {@link OGlobalConfiguration#SBTREE_PAGE_LOCK_TIMEOUT}.
+   */
+  public void acquirePageLockTillOperationComplete(ODurableComponent durableComponent, long pageIndex) {
+    final OAtomicOperation operation = currentOperation.get();
+    assert operation != null;
+
+    final String pageLock = pageLockName(durableComponent, pageIndex);
+    if (operation.containsInLockedPages(pageLock))
+      return;
+
+    pageLockManager.acquireLock(pageLock, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE, pageLockTimeout);
+    operation.addLockedPage(pageLock);
+  }
+
+  private static String pageLockName(ODurableComponent durableComponent, long pageIndex) {
+    return durableComponent.getLockName() + '#' + pageIndex;
+  }
+
   public void acquireReadLock(ODurableComponent durableComponent) {
     assert durableComponent.getLockName() != null;
 
@@ -3,19 +3,31 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.atomicope
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperationRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALPageChangesPortion;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Created by tglman on 23/06/16.
  */
 public class OCacheEntryChanges implements OCacheEntry {
 
   OCacheEntry delegate;
-  final OWALChanges changes = new OWALPageChangesPortion();
+  final OWALPageChangesPortion changes = new OWALPageChangesPortion();
 
   boolean isNew   = false;
   boolean pinPage = false;
 
+  /**
+   * Operations which were performed on the page, or <code>null</code> if page is changed not only by page operations.
+   */
+  List<OPageOperationRecord> pageOperations;
+
+  private boolean changedNotByOperations;
+  private int     operationsUpdatesCount;
+
   public OCacheEntryChanges(OCacheEntry entry) {
     delegate = entry;
   }
@@ -101,4 +113,34 @@ public class OCacheEntryChanges implements OCacheEntry {
   public OCacheEntry getDelegate() {
     return delegate;
   }
+
+  void applyOperation(OPageOperationRecord operation) {
+    if (changes.getUpdatesCount() != operationsUpdatesCount)
+      changedNotByOperations = true;
+
+    operation.redo(this);
+
+    final int updatesCount = changes.getUpdatesCount();
+    if (updatesCount == operationsUpdatesCount)
+      return;
+
+    operationsUpdatesCount = updatesCount;
+
+    if (changedNotByOperations) {
+      pageOperations = null;
+    } else {
+      if (pageOperations == null)
+        pageOperations = new ArrayList<>();
+
+      pageOperations.add(operation);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if all changes of the page were done by page operations, so operations may be logged into WAL
+   * instead of changes of the page.
+   */
+  boolean isChangedByOperationsOnly() {
+    return pageOperations != null && !changedNotByOperations && changes.getUpdatesCount() == operationsUpdatesCount;
+  }
 }
@@ -24,9 +24,11 @@ import com.orientechnologies.common.concur.resource.OSharedResourceAdaptive;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.local.OReadAheadManager;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperationRecord;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 
@@ -114,6 +116,39 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
     return atomicOperationsManager.startAtomicOperation(this, trackNonTxOperations);
   }
 
+  /**
+   * Acquires exclusive lock of this component and applies changes deferred by atomic operation which modified this component in
+   * shared mode. Changes of such atomic operation are applied to the cache under this lock, so readers and structure
+   * modifications of the component, which hold the same lock, never observe them partially applied.
+   *
+   * @see OAtomicOperationsManager#acquireSharedLockTillOperationComplete(ODurableComponent)
+   */
+  public void startSharedModeCommit(OAtomicOperation atomicOperation) throws IOException {
+    acquireExclusiveLock();
+    try {
+      applyDeferredChanges(atomicOperation);
+    } catch (IOException | RuntimeException e) {
+      releaseExclusiveLock();
+      throw e;
+    }
+  }
+
+  /**
+   * Releases lock acquired by {@link #startSharedModeCommit(OAtomicOperation)}.
+   */
+  public void completeSharedModeCommit() {
+    releaseExclusiveLock();
+  }
+
+  /**
+   * Applies changes of pages which are shared by all atomic operations modifying this component in shared mode, like counters of
+   * entries, and which therefore are postponed till commit of atomic operation.
+   *
+   * @see OAtomicOperation#addDeferredCounterChange(String, long)
+   */
+  protected void applyDeferredChanges(OAtomicOperation atomicOperation) throws IOException {
+  }
+
   protected long getFilledUpTo(OAtomicOperation atomicOperation, long fileId) throws IOException {
     if (atomicOperation == null)
       return writeCache.getFilledUpTo(fileId);
@@ -139,14 +174,50 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
     return loadPageForRead(atomicOperation, fileId, pageIndex, checkPinnedPages, 1);
   }
 
+  /**
+   * Loads page for read. If more than one page is requested, it is treated as a hint that file is scanned sequentially, in such
+   * case, if read ahead is enabled, only requested page is loaded synchronously and following pages are read ahead in background.
+   * Otherwise requested amount of pages is loaded into the cache synchronously.
+   */
   protected OCacheEntry loadPageForRead(OAtomicOperation atomicOperation, long fileId, long pageIndex, boolean checkPinnedPages,
-      final int pageCount) throws IOException {
+      int pageCount) throws IOException {
+    if (pageCount > 1) {
+      final OReadAheadManager readAheadManager = storage.getReadAheadManager();
+      if (readAheadManager != null) {
+        readAheadManager.pageRead(fileId, pageIndex);
+        pageCount = 1;
+      }
+    }
+
     if (atomicOperation == null)
       return readCache.loadForRead(fileId, pageIndex, checkPinnedPages, writeCache, pageCount, true);
 
     return atomicOperation.loadPageForRead(fileId, pageIndex, checkPinnedPages, pageCount);
   }
 
+  /**
+   * Loads page which is read during sequential scan of the file and notifies read ahead manager about it, if read ahead is enabled.
+   */
+  protected OCacheEntry loadPageForScan(final OAtomicOperation atomicOperation, final long fileId, final long pageIndex)
+      throws IOException {
+    final OReadAheadManager readAheadManager = storage.getReadAheadManager();
+    if (readAheadManager != null)
+      readAheadManager.pageRead(fileId, pageIndex);
+
+    return loadPageForRead(atomicOperation, fileId, pageIndex, false, 1);
+  }
+
+  /**
+   * Cancels read ahead of pages of the file and waits till running read ahead of its pages is completed. Should be called before
+   * the file is closed or shrunk, it is called automatically by {@link #deleteFile(OAtomicOperation, long)} and {@link
+   * #truncateFile(OAtomicOperation, long)}.
+   */
+  protected void cancelReadAhead(long fileId) {
+    final OReadAheadManager readAheadManager = storage.getReadAheadManager();
+    if (readAheadManager != null)
+      readAheadManager.cancelReadAhead(fileId);
+  }
+
   protected void pinPage(OAtomicOperation atomicOperation, OCacheEntry cacheEntry) {
     if (atomicOperation == null)
       readCache.pinPage(cacheEntry);
@@ -175,6 +246,24 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
       atomicOperation.releasePageFromRead(cacheEntry);
   }
 
+  /**
+   * Performs operation on the page. If {@link #isPageOperationsLogged()} returns <code>true</code> operation is logged into WAL
+   * instead of changes of the page, unless the page is changed also by other means inside of the same atomic operation.
+   */
+  protected void applyPageOperation(OAtomicOperation atomicOperation, OCacheEntry cacheEntry, OPageOperationRecord operation) {
+    if (atomicOperation == null || !isPageOperationsLogged())
+      operation.redo(cacheEntry);
+    else
+      atomicOperation.applyPageOperation(cacheEntry, operation);
+  }
+
+  /**
+   * @return <code>true</code> if page operations of this component are logged into WAL instead of changes of pages.
+   */
+  protected boolean isPageOperationsLogged() {
+    return false;
+  }
+
   protected long addFile(OAtomicOperation atomicOperation, String fileName) throws IOException {
     if (atomicOperation == null)
       return readCache.addFile(fileName, writeCache);
@@ -190,6 +279,8 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
   }
 
   protected void deleteFile(OAtomicOperation atomicOperation, long fileId) throws IOException {
+    cancelReadAhead(fileId);
+
     if (atomicOperation == null)
       readCache.deleteFile(fileId, writeCache);
     else
@@ -211,6 +302,8 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
   }
 
   protected void truncateFile(OAtomicOperation atomicOperation, long filedId) throws IOException {
+    cancelReadAhead(filedId);
+
     if (atomicOperation == null)
       readCache.truncateFile(filedId, writeCache);
     else
@@ -131,6 +131,17 @@ public class ODurablePage {
     return changes.getIntValue(pointer.getBufferDuplicate(), pageOffset);
   }
 
+  protected short getShortValue(int pageOffset) {
+    assert cacheEntry.getCachePointer().getBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
+
+    if (changes == null) {
+      final ByteBuffer buffer = pointer.getBuffer();
+      return buffer.getShort(pageOffset);
+    }
+
+    return changes.getShortValue(pointer.getBufferDuplicate(), pageOffset);
+  }
+
   protected long getLongValue(int pageOffset) {
     assert cacheEntry.getCachePointer().getBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
 
@@ -30,6 +30,10 @@ import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.thread.OScheduledThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.OStorageAbstract;
@@ -64,9 +68,11 @@ import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
 import java.util.stream.Stream;
 import java.util.zip.CRC32;
@@ -156,6 +162,24 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
   private final ConcurrentNavigableMap<OLogSequenceNumber, Runnable> events = new ConcurrentSkipListMap<>();
 
+  /**
+   * Writer of group commits, it is started on the first request of flush of records.
+   */
+  private final OWALGroupCommitter groupCommitter;
+  private final AtomicBoolean      groupCommitterStarted = new AtomicBoolean();
+
+  /**
+   * Compression which is applied to the records bigger than {@link #recordCompressionThreshold} or <code>null</code> if records
+   * are stored as is.
+   */
+  private final OCompression recordCompression;
+  private final int          recordCompressionThreshold;
+
+  /**
+   * Whether CRC32C instead of CRC32 is used to calculate checksums of pages of new segments.
+   */
+  private final boolean pageCRC32C;
+
   public ODiskWriteAheadLog(OLocalPaginatedStorage storage) throws IOException {
     this(storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_CACHE_SIZE),
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_COMMIT_TIMEOUT),
@@ -166,6 +190,18 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_FILE_AUTOCLOSE_INTERVAL));
   }
 
+  private static OCompression recordCompression(OContextConfiguration configuration) {
+    final String name = configuration.getValueAsString(OGlobalConfiguration.WAL_RECORD_COMPRESSION);
+    if (name == null || name.isEmpty() || name.equals(ONothingCompression.NAME))
+      return null;
+
+    return OCompressionFactory.INSTANCE.getCompression(name, null);
+  }
+
+  boolean isPageCRC32C() {
+    return pageCRC32C;
+  }
+
   @Override
   public void addLowDiskSpaceListener(OLowDiskSpaceListener listener) {
     lowDiskSpaceListeners.add(new WeakReference<>(listener));
@@ -213,6 +249,12 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     this.maxSegmentSize = maxSegmentSize;
     this.storage = storage;
     this.performanceStatisticManager = storage.getPerformanceStatisticManager();
+    this.groupCommitter = new OWALGroupCommitter(this, storage.getName());
+
+    final OContextConfiguration configuration = storage.getConfiguration().getContextConfiguration();
+    this.recordCompression = recordCompression(configuration);
+    this.recordCompressionThreshold = configuration.getValueAsInteger(OGlobalConfiguration.WAL_RECORD_COMPRESSION_THRESHOLD);
+    this.pageCRC32C = configuration.getValueAsBoolean(OGlobalConfiguration.WAL_PAGE_CRC32C);
 
 
     try {
@@ -493,7 +535,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       statistic.startWALLogRecordTimer();
     try {
       OAtomicUnitStartRecord record = new OAtomicUnitStartRecord(isRollbackSupported, unitId);
-      byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+      byte[] content = OWALRecordsFactory.INSTANCE.toStream(record, recordCompression, recordCompressionThreshold);
       syncObject.lock();
       try {
         checkForClose();
@@ -519,7 +561,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       statistic.startWALLogRecordTimer();
     try {
       OAtomicUnitEndRecord record = new OAtomicUnitEndRecord(operationUnitId, rollback, atomicOperationMetadata);
-      byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+      byte[] content = OWALRecordsFactory.INSTANCE.toStream(record, recordCompression, recordCompressionThreshold);
       syncObject.lock();
       try {
         checkForClose();
@@ -543,7 +585,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     if (statistic != null)
       statistic.startWALLogRecordTimer();
     try {
-      return internalLog(record, OWALRecordsFactory.INSTANCE.toStream(record));
+      return internalLog(record, OWALRecordsFactory.INSTANCE.toStream(record, recordCompression, recordCompressionThreshold));
     } finally {
       if (statistic != null)
         statistic.stopWALRecordTimer(false, false);
@@ -779,6 +821,8 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
   @Override
   public void close(boolean flush) throws IOException {
+    stopGroupCommitter();
+
     syncObject.lock();
     try {
       if (closed) {
@@ -812,6 +856,8 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
   @Override
   public void delete(boolean flush) throws IOException {
+    stopGroupCommitter();
+
     syncObject.lock();
     try {
       close(flush);
@@ -1193,6 +1239,37 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     }
   }
 
+  @Override
+  public CompletableFuture<OLogSequenceNumber> requestFlush(OLogSequenceNumber lsn) {
+    if (!groupCommitterStarted.get() && groupCommitterStarted.compareAndSet(false, true))
+      groupCommitter.start();
+
+    return groupCommitter.requestFlush(lsn);
+  }
+
+  /**
+   * @return Histogram of amount of flush requests served by single sync of WAL, bucket <code>i</code> contains amount of batches
+   * which size is in range <code>[2^(i-1), 2^i)</code>
+   */
+  public long[] getGroupCommitBatchSizeHistogram() {
+    return groupCommitter.getBatchSizeHistogram();
+  }
+
+  /**
+   * @return Histogram of time (in microseconds) spent on flush and sync of WAL by group commit, bucket <code>i</code> contains
+   * amount of syncs which time is in range <code>[2^(i-1), 2^i)</code>
+   */
+  public long[] getGroupCommitSyncTimeHistogram() {
+    return groupCommitter.getSyncTimeHistogram();
+  }
+
+  private void stopGroupCommitter() {
+    // writer flushes WAL, so it should be stopped before WAL lock is acquired,
+    // flag is set to prevent start of writer by requests which come after close
+    groupCommitterStarted.set(true);
+    groupCommitter.stop();
+  }
+
   /**
    * @inheritDoc
    */
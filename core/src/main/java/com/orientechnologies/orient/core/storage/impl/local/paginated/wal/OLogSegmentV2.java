@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
 
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.hash.OCRC32C;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
@@ -26,6 +27,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 
 final class OLogSegmentV2 implements OLogSegment {
   private final ODiskWriteAheadLog writeAheadLog;
@@ -41,6 +43,11 @@ final class OLogSegmentV2 implements OLogSegment {
 
   private final OWALSegmentCache segmentCache;
 
+  /**
+   * Whether CRC32C instead of CRC32 is used to calculate checksums of pages which are written into this segment.
+   */
+  private final boolean pageCRC32C;
+
   private final    Lock             cacheLock  = new ReentrantLock();
   private volatile List<OLogRecord> writeCache = new ArrayList<>();
 
@@ -228,6 +235,7 @@ final class OLogSegmentV2 implements OLogSegment {
     this.path = path;
     this.maxPagesCacheSize = maxPagesCacheSize;
     this.commitExecutor = commitExecutor;
+    this.pageCRC32C = writeAheadLog.isPageCRC32C();
 
     order = extractOrder(path.getFileName().toString());
 
@@ -270,15 +278,15 @@ final class OLogSegmentV2 implements OLogSegment {
   }
 
   private void preparePageForFlush(ByteBuffer content) {
-    content.putLong(OWALPage.MAGIC_NUMBER_OFFSET, OWALPageV2.MAGIC_NUMBER);
+    content.putLong(OWALPage.MAGIC_NUMBER_OFFSET, pageCRC32C ? OWALPageV2.MAGIC_NUMBER_CRC32C : OWALPageV2.MAGIC_NUMBER);
 
     final byte[] data = new byte[OWALPage.PAGE_SIZE - OWALPage.MAGIC_NUMBER_OFFSET];
     content.position(OWALPage.MAGIC_NUMBER_OFFSET);
     content.get(data);
 
-    CRC32 crc32 = new CRC32();
-    crc32.update(data);
-    content.putInt(OWALPage.CRC_OFFSET, (int) crc32.getValue());
+    final Checksum checksum = pageCRC32C ? OCRC32C.create() : new CRC32();
+    checksum.update(data, 0, data.length);
+    content.putInt(OWALPage.CRC_OFFSET, (int) checksum.getValue());
   }
 
   /**
@@ -733,13 +741,17 @@ final class OLogSegmentV2 implements OLogSegment {
 
   private boolean isPageBroken(byte[] content) {
     final long magicNumber = OLongSerializer.INSTANCE.deserializeNative(content, OWALPage.MAGIC_NUMBER_OFFSET);
-    if (magicNumber != OWALPageV2.MAGIC_NUMBER)
+    final Checksum checksum;
+    if (magicNumber == OWALPageV2.MAGIC_NUMBER_CRC32C)
+      checksum = OCRC32C.create();
+    else if (magicNumber == OWALPageV2.MAGIC_NUMBER)
+      checksum = new CRC32();
+    else
       return true;
 
-    final CRC32 crc32 = new CRC32();
-    crc32.update(content, OIntegerSerializer.INT_SIZE, OWALPage.PAGE_SIZE - OIntegerSerializer.INT_SIZE);
+    checksum.update(content, OIntegerSerializer.INT_SIZE, OWALPage.PAGE_SIZE - OIntegerSerializer.INT_SIZE);
 
-    return ((int) crc32.getValue()) != OIntegerSerializer.INSTANCE.deserializeNative(content, 0);
+    return ((int) checksum.getValue()) != OIntegerSerializer.INSTANCE.deserializeNative(content, 0);
   }
 
 }
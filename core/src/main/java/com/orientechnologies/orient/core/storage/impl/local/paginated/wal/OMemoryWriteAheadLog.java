@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -163,6 +164,11 @@ public class OMemoryWriteAheadLog extends OAbstractWriteAheadLog {
     event.run();
   }
 
+  @Override
+  public CompletableFuture<OLogSequenceNumber> requestFlush(OLogSequenceNumber lsn) {
+    return CompletableFuture.completedFuture(lsn);
+  }
+
   @Override
   public boolean appendNewSegment() {
     return false;
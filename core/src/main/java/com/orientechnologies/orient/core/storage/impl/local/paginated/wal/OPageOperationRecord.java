@@ -0,0 +1,57 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+
+/**
+ * Logical record of operation which is performed on the single page, like addition of record to the page of cluster. Instead of
+ * the changes of page content only the operation and its arguments are logged, and the operation is performed again on the page
+ * during restore of data, if LSN of the page is less than LSN of the record.
+ * <p>
+ * The same {@link #redo(OCacheEntry)} method is used both during normal execution of the operation and during data restore, so
+ * results of operation are the same in both cases if state of the page is the same. Pages changed by such operations are not
+ * flushed to the disk till the end of atomic operation is logged, so operations never have to be rolled back during data
+ * restore.
+ *
+ * @see com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation#applyPageOperation(OCacheEntry,
+ * OPageOperationRecord)
+ */
+public abstract class OPageOperationRecord extends OAbstractPageWALRecord {
+  protected OPageOperationRecord() {
+  }
+
+  protected OPageOperationRecord(long pageIndex, long fileId, OOperationUnitId operationUnitId) {
+    super(pageIndex, fileId, operationUnitId);
+  }
+
+  /**
+   * Performs operation on the page.
+   *
+   * @param cacheEntry Page on which operation is performed, it is locked for write by caller.
+   */
+  public abstract void redo(OCacheEntry cacheEntry);
+
+  @Override
+  public boolean isUpdateMasterRecord() {
+    return false;
+  }
+}
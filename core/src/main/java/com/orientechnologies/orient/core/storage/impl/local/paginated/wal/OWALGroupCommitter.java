@@ -0,0 +1,207 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group commit of WAL records. Threads which need their records to be durable put flush requests into lock free queue and wait on
+ * returned futures. The single writer thread takes all requests accumulated so far, flushes and fsyncs WAL once for all of them
+ * and completes futures by the LSN which is durable after the sync. So the more transactions are committed concurrently, the more
+ * of them are made durable by the single fsync.
+ * <p>
+ * Sizes of batches and duration of WAL syncs are gathered into histograms. Index of bucket of histogram is the amount of
+ * significant bits of measured value, so bucket <code>i</code> contains values in range <code>[2^(i-1), 2^i)</code>.
+ */
+final class OWALGroupCommitter {
+  /**
+   * Amount of buckets in histograms.
+   */
+  static final int HISTOGRAM_BUCKETS = 32;
+
+  private final ODiskWriteAheadLog writeAheadLog;
+
+  private final ConcurrentLinkedQueue<FlushRequest> requests = new ConcurrentLinkedQueue<>();
+
+  private final Thread writer;
+
+  private volatile boolean stopped;
+
+  private final AtomicLongArray batchSizeHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+  private final AtomicLongArray syncTimeHistogram  = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+  OWALGroupCommitter(ODiskWriteAheadLog writeAheadLog, String storageName) {
+    this.writeAheadLog = writeAheadLog;
+
+    writer = new Thread(OStorageAbstract.storageThreadGroup, this::writeRequests);
+    writer.setDaemon(true);
+    writer.setName("OrientDB WAL Group Commit (" + storageName + ")");
+    writer.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+  }
+
+  void start() {
+    writer.start();
+  }
+
+  /**
+   * Requests durability of all WAL records up to passed LSN.
+   *
+   * @param lsn LSN of the last record which should be made durable
+   *
+   * @return Future which is completed by LSN which is durable when all records up to passed LSN are flushed and synced
+   */
+  CompletableFuture<OLogSequenceNumber> requestFlush(OLogSequenceNumber lsn) {
+    final OLogSequenceNumber flushedLsn = writeAheadLog.getFlushedLsn();
+    if (flushedLsn != null && flushedLsn.compareTo(lsn) >= 0)
+      return CompletableFuture.completedFuture(flushedLsn);
+
+    final FlushRequest request = new FlushRequest(lsn);
+    requests.add(request);
+
+    if (stopped) {
+      // writer may not see this request any more, fail it ourselves if it is still in the queue
+      if (requests.remove(request))
+        request.future.completeExceptionally(new OStorageException("WAL is closed, records can not be flushed"));
+    } else {
+      LockSupport.unpark(writer);
+    }
+
+    return request.future;
+  }
+
+  /**
+   * Stops writer thread. All requests which are already in queue are processed before thread exits.
+   */
+  void stop() {
+    stopped = true;
+    LockSupport.unpark(writer);
+
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      OLogManager.instance().error(this, "WAL group commit thread was not stopped because of interruption", e);
+    }
+  }
+
+  long[] getBatchSizeHistogram() {
+    return toArray(batchSizeHistogram);
+  }
+
+  long[] getSyncTimeHistogram() {
+    return toArray(syncTimeHistogram);
+  }
+
+  private void writeRequests() {
+    final List<FlushRequest> batch = new ArrayList<>();
+
+    while (true) {
+      FlushRequest request;
+      while ((request = requests.poll()) != null)
+        batch.add(request);
+
+      if (batch.isEmpty()) {
+        if (stopped)
+          return;
+
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+        continue;
+      }
+
+      final long start = System.nanoTime();
+      try {
+        writeAheadLog.flush();
+      } catch (RuntimeException e) {
+        for (FlushRequest failedRequest : batch)
+          failedRequest.future.completeExceptionally(e);
+
+        batch.clear();
+        continue;
+      }
+
+      final long syncTime = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+      syncTimeHistogram.incrementAndGet(bucket(syncTime));
+
+      final OLogSequenceNumber flushedLsn = writeAheadLog.getFlushedLsn();
+
+      int batchSize = 0;
+      final Iterator<FlushRequest> requestIterator = batch.iterator();
+      while (requestIterator.hasNext()) {
+        final FlushRequest flushRequest = requestIterator.next();
+
+        // records are logged before flush is requested, so the only reason of not durable record is a switch of WAL segment
+        // during the flush, it will be covered by the next one
+        if (flushedLsn != null && flushedLsn.compareTo(flushRequest.lsn) >= 0) {
+          flushRequest.future.complete(flushedLsn);
+          requestIterator.remove();
+          batchSize++;
+        }
+      }
+
+      if (batchSize > 0)
+        batchSizeHistogram.incrementAndGet(bucket(batchSize));
+
+      if (stopped && !batch.isEmpty() && requests.isEmpty()) {
+        for (FlushRequest failedRequest : batch)
+          failedRequest.future.completeExceptionally(new OStorageException("WAL is closed, records can not be flushed"));
+
+        return;
+      }
+
+      // records are not durable yet, give a chance to the switch of WAL segment to finish instead of repeating of sync at once,
+      // new request wakes up the writer earlier
+      if (batchSize == 0)
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  }
+
+  private static int bucket(long value) {
+    return Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+  }
+
+  private static long[] toArray(AtomicLongArray histogram) {
+    final long[] result = new long[histogram.length()];
+    for (int i = 0; i < result.length; i++)
+      result[i] = histogram.get(i);
+
+    return result;
+  }
+
+  private static final class FlushRequest {
+    private final OLogSequenceNumber                    lsn;
+    private final CompletableFuture<OLogSequenceNumber> future = new CompletableFuture<>();
+
+    private FlushRequest(OLogSequenceNumber lsn) {
+      this.lsn = lsn;
+    }
+  }
+}
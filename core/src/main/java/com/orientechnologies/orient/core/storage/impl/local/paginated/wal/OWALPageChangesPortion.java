@@ -25,6 +25,8 @@ public class OWALPageChangesPortion implements OWALChanges {
 
   private final int pageSize;
 
+  private int updatesCount;
+
   public OWALPageChangesPortion() {
     this(PAGE_SIZE);
   }
@@ -309,6 +311,8 @@ public class OWALPageChangesPortion implements OWALChanges {
   }
 
   private void updateData(ByteBuffer pointer, int offset, byte[] data) {
+    updatesCount++;
+
     if (pageChunks == null) {
       pageChunks = new byte[(pageSize + (PORTION_BYTES - 1)) / PORTION_BYTES][][];
       originalChunks = new byte[(pageSize + (PORTION_BYTES - 1)) / PORTION_BYTES][][];
@@ -370,4 +374,12 @@ public class OWALPageChangesPortion implements OWALChanges {
   public boolean hasChanges() {
     return pageChunks != null;
   }
+
+  /**
+   * @return Amount of updates of page content done so far, it is used to check whether all changes of the page were done by page
+   * operations.
+   */
+  public int getUpdatesCount() {
+    return updatesCount;
+  }
 }
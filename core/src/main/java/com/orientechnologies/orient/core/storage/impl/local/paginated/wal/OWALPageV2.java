@@ -24,8 +24,10 @@ import java.nio.ByteBuffer;
  * WAL page is organized using following format:
  * <p>
  * <ol>
- * <li>CRC32 code of page content, it is used to check whether data are broken on disk. 4 bytes</li>
- * <li>Magic number, randomly generated number which is used to check whether page is broken on disk. 8 bytes</li>
+ * <li>CRC32C (or CRC32 for pages which were written by previous versions) code of page content, it is used to check whether data
+ * are broken on disk. 4 bytes</li>
+ * <li>Magic number, randomly generated number which is used to check whether page is broken on disk. Magic number also
+ * indicates which checksum is used for the page, see {@link #MAGIC_NUMBER} and {@link #MAGIC_NUMBER_CRC32C}. 8 bytes</li>
  * <li>Amount of free space left on page, which can be used to add new records, 4 bytes</li>
  * <li>Position of LSN of last record which end is stored on this page, 8 bytes</li>
  * <li>End of the last record stored in page, 4 bytes</li>
@@ -55,6 +57,15 @@ public class OWALPageV2 implements OWALPage {
    */
   static final long MAGIC_NUMBER = 0xEF30BCAFL;
 
+  /**
+   * Value of magic number for v2 version of binary format if CRC32C instead of CRC32 is used to calculate checksum of the page.
+   * The rest of page format is the same for both magic numbers, so pages of both types may be present in the same segment.
+   *
+   * @see OWALPage#MAGIC_NUMBER_OFFSET
+   * @see com.orientechnologies.common.hash.OCRC32C
+   */
+  static final long MAGIC_NUMBER_CRC32C = 0x5A2E91C3L;
+
   /**
    * Information about position of LSN of last record which end is stored on this page. If only begging of the record is stored on
    * this page its position is not stored.
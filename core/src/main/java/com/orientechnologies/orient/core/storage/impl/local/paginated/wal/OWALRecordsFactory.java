@@ -20,6 +20,12 @@
 
 package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
 
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterPageOperationRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterPositionMapOperationRecord;
+
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,12 +34,59 @@ import java.util.Map;
  * @since 25.04.13
  */
 public class OWALRecordsFactory {
+  /**
+   * Id which is stored instead of id of record type if content of record is compressed. Such record is stored using following
+   * format:
+   * <ol>
+   * <li>Id of compressed record, 1 byte</li>
+   * <li>Length of name of compression algorithm, 1 byte</li>
+   * <li>Name of compression algorithm in ASCII encoding, variable size</li>
+   * <li>Compressed content of the record including id of record type, variable size</li>
+   * </ol>
+   */
+  private static final byte COMPRESSED_RECORD_ID = -1;
+
   private final Map<Byte, Class> idToTypeMap = new HashMap<>();
   private final Map<Class, Byte> typeToIdMap = new HashMap<>();
 
   public static final OWALRecordsFactory INSTANCE    = new OWALRecordsFactory();
 
   public byte[] toStream(OWALRecord walRecord) {
+    return toStream(walRecord, null, 0);
+  }
+
+  /**
+   * Serializes record and compresses its content if size of serialized record is not less than passed in threshold and
+   * compression allows to make record smaller at least by 1/8 of its size. Otherwise record is stored as is, to avoid
+   * decompression of records which are almost incompressible during data restore.
+   *
+   * @param compression          Compression which is applied to the record, or <code>null</code> if record should not be
+   *                             compressed.
+   * @param compressionThreshold Minimum size of serialized record which is compressed.
+   */
+  public byte[] toStream(OWALRecord walRecord, OCompression compression, int compressionThreshold) {
+    final byte[] content = serializeRecord(walRecord);
+
+    if (compression == null || content.length < compressionThreshold)
+      return content;
+
+    final byte[] name = compression.name().getBytes(StandardCharsets.US_ASCII);
+    final byte[] compressed = compression.compress(content);
+
+    final int compressedSize = 2 + name.length + compressed.length;
+    if (compressedSize > content.length - content.length / 8)
+      return content;
+
+    final byte[] result = new byte[compressedSize];
+    result[0] = COMPRESSED_RECORD_ID;
+    result[1] = (byte) name.length;
+    System.arraycopy(name, 0, result, 2, name.length);
+    System.arraycopy(compressed, 0, result, 2 + name.length, compressed.length);
+
+    return result;
+  }
+
+  private byte[] serializeRecord(OWALRecord walRecord) {
     int contentSize = walRecord.serializedSize() + 1;
     byte[] content = new byte[contentSize];
 
@@ -59,6 +112,10 @@ public class OWALRecordsFactory {
       content[0] = 12;
     else if (walRecord instanceof OFileTruncatedWALRecord)
       content[0] = 13;
+    else if (walRecord instanceof OClusterPageOperationRecord)
+      content[0] = 14;
+    else if (walRecord instanceof OClusterPositionMapOperationRecord)
+      content[0] = 15;
     else if (typeToIdMap.containsKey(walRecord.getClass())) {
       content[0] = typeToIdMap.get(walRecord.getClass());
     } else
@@ -70,6 +127,9 @@ public class OWALRecordsFactory {
   }
 
   public OWALRecord fromStream(byte[] content) {
+    if (content[0] == COMPRESSED_RECORD_ID)
+      content = uncompress(content);
+
     OWALRecord walRecord;
     switch (content[0]) {
     case 0:
@@ -105,6 +165,12 @@ public class OWALRecordsFactory {
     case 13:
       walRecord = new OFileTruncatedWALRecord();
       break;
+    case 14:
+      walRecord = new OClusterPageOperationRecord();
+      break;
+    case 15:
+      walRecord = new OClusterPositionMapOperationRecord();
+      break;
     default:
       if (idToTypeMap.containsKey(content[0]))
         try {
@@ -121,7 +187,20 @@ public class OWALRecordsFactory {
     return walRecord;
   }
 
+  private static byte[] uncompress(byte[] content) {
+    final int nameLength = content[1];
+    final String name = new String(content, 2, nameLength, StandardCharsets.US_ASCII);
+
+    final OCompression compression = OCompressionFactory.INSTANCE.getCompression(name, null);
+    final int offset = 2 + nameLength;
+
+    return compression.uncompress(content, offset, content.length - offset);
+  }
+
   public void registerNewRecord(byte id, Class<? extends OWALRecord> type) {
+    if (id == COMPRESSED_RECORD_ID)
+      throw new IllegalArgumentException("Id " + id + " is reserved for compressed records");
+
     typeToIdMap.put(type, id);
     idToTypeMap.put(id, type);
   }
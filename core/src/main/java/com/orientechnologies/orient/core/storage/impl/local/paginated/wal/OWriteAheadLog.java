@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -145,6 +146,17 @@ public interface OWriteAheadLog {
    */
   void addEventAt(OLogSequenceNumber lsn, Runnable event);
 
+  /**
+   * Requests all records up to the given LSN to be flushed and synced to the disk. Requests of concurrent threads may be grouped
+   * together to be served by single sync of the log.
+   *
+   * @param lsn the LSN of the last record which should become durable.
+   *
+   * @return future which is completed by the LSN up to which this write ahead log is durable, once it is greater than or equal
+   * to the given LSN.
+   */
+  CompletableFuture<OLogSequenceNumber> requestFlush(OLogSequenceNumber lsn);
+
   /**
    * Adds new segment so all subsequent log entries will be added to this new segment.
    * New segment can not be appended if:
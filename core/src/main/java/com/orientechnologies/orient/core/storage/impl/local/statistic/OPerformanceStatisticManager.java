@@ -28,6 +28,7 @@ import com.orientechnologies.orient.core.storage.OIdentifiableStorage;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.local.OReadAheadManager;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -181,6 +182,20 @@ public class OPerformanceStatisticManager {
    */
   private long walCacheOverflowCount = -1;
 
+  /**
+   * Histogram of amount of transactions which records are synced by single group commit of WAL.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long[] walGroupCommitBatchSizes;
+
+  /**
+   * Histogram of time (in microseconds) which is spent on sync of WAL by group commit.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long[] walGroupCommitSyncTimes;
+
   /**
    * Size of read cache in bytes.
    * Value is updated on demand if monitoring is switched on.
@@ -209,6 +224,53 @@ public class OPerformanceStatisticManager {
    */
   private long writeCacheOverflowCount = -1;
 
+  /**
+   * Distance in bytes between the oldest change which is not flushed to the disk and the end of WAL.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long checkpointAge = -1;
+
+  /**
+   * Amount of pages written to the disk per second by background flush of write cache.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long writeCacheFlushRate = -1;
+
+  /**
+   * Amount of read ahead requests which were issued because of sequential scan of file.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long readAheadRequestsCount = -1;
+
+  /**
+   * Amount of pages which were read ahead into the read cache.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long readAheadPagesCount = -1;
+
+  /**
+   * Amount of read ahead requests which were dropped because queue of read ahead requests was full.
+   * Value is updated on demand if monitoring is switched on.
+   * Supported only for disk based storage.
+   */
+  private long readAheadDroppedRequestsCount = -1;
+
+  /**
+   * Histogram of time (in microseconds) which is spent waiting for record locks.
+   * Value is updated on demand if monitoring is switched on.
+   */
+  private long[] recordLockWaitTimes;
+
+  /**
+   * Amount of deadlocks of record locks which were detected and resolved.
+   * Value is updated on demand if monitoring is switched on.
+   */
+  private long recordLockDeadlocksCount = -1;
+
   /**
    * Instance of storage to which performance manager belongs to.
    */
@@ -1005,6 +1067,150 @@ public class OPerformanceStatisticManager {
     }
   }
 
+  /**
+   * @return Distance in bytes between the oldest change which is not flushed to the disk and the end of WAL, or <code>-1</code> if
+   * this value is undefined.
+   */
+  public long getCheckpointAge() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OWOWCache cache = getWowCache();
+        if (cache != null) {
+          checkpointAge = cache.getCheckpointAge();
+        }
+
+        return checkpointAge;
+      } else {
+        return checkpointAge;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Amount of pages written to the disk per second by background flush of write cache, or <code>-1</code> if this value
+   * is undefined.
+   */
+  public long getWriteCacheFlushRate() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OWOWCache cache = getWowCache();
+        if (cache != null) {
+          writeCacheFlushRate = cache.getFlushRate();
+        }
+
+        return writeCacheFlushRate;
+      } else {
+        return writeCacheFlushRate;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Amount of read ahead requests issued because of sequential scan of files or <code>-1</code> if value is undefined.
+   */
+  public long getReadAheadRequestsCount() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OReadAheadManager readAheadManager = storage.getReadAheadManager();
+        if (readAheadManager != null) {
+          readAheadRequestsCount = readAheadManager.getRequestsCount();
+        }
+
+        return readAheadRequestsCount;
+      } else {
+        return readAheadRequestsCount;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Amount of pages read ahead into the read cache or <code>-1</code> if value is undefined.
+   */
+  public long getReadAheadPagesCount() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OReadAheadManager readAheadManager = storage.getReadAheadManager();
+        if (readAheadManager != null) {
+          readAheadPagesCount = readAheadManager.getPagesCount();
+        }
+
+        return readAheadPagesCount;
+      } else {
+        return readAheadPagesCount;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Amount of read ahead requests dropped because queue of requests was full or <code>-1</code> if value is undefined.
+   */
+  public long getReadAheadDroppedRequestsCount() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OReadAheadManager readAheadManager = storage.getReadAheadManager();
+        if (readAheadManager != null) {
+          readAheadDroppedRequestsCount = readAheadManager.getDroppedRequestsCount();
+        }
+
+        return readAheadDroppedRequestsCount;
+      } else {
+        return readAheadDroppedRequestsCount;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Histogram of time (in microseconds) spent waiting for record locks, bucket <code>i</code> contains amount of waits
+   * which time is in range <code>[2^(i-1), 2^i)</code>, or <code>null</code> if value is undefined
+   */
+  public long[] getRecordLockWaitTimes() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        recordLockWaitTimes = storage.getRecordLockManager().getWaitTimeHistogram();
+
+        return recordLockWaitTimes;
+      } else {
+        return recordLockWaitTimes;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Amount of deadlocks of record locks which were detected and resolved, or <code>-1</code> if value is undefined
+   */
+  public long getRecordLockDeadlocksCount() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        recordLockDeadlocksCount = storage.getRecordLockManager().getDeadlocksCount();
+
+        return recordLockDeadlocksCount;
+      } else {
+        return recordLockDeadlocksCount;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
   /**
    * @return Size of WAL in bytes or <code>-1</code> if value is undefined
    */
@@ -1047,6 +1253,48 @@ public class OPerformanceStatisticManager {
     }
   }
 
+  /**
+   * @return Histogram of amount of transactions synced by single group commit of WAL, bucket <code>i</code> contains amount of
+   * group commits which size is in range <code>[2^(i-1), 2^i)</code>, or <code>null</code> if value is undefined
+   */
+  public long[] getWALGroupCommitBatchSizes() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final ODiskWriteAheadLog wal = getWriteAheadLog();
+        if (wal != null)
+          walGroupCommitBatchSizes = wal.getGroupCommitBatchSizeHistogram();
+
+        return walGroupCommitBatchSizes;
+      } else {
+        return walGroupCommitBatchSizes;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Histogram of time (in microseconds) spent on sync of WAL by group commit, bucket <code>i</code> contains amount of
+   * syncs which time is in range <code>[2^(i-1), 2^i)</code>, or <code>null</code> if value is undefined
+   */
+  public long[] getWALGroupCommitSyncTimes() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final ODiskWriteAheadLog wal = getWriteAheadLog();
+        if (wal != null)
+          walGroupCommitSyncTimes = wal.getGroupCommitSyncTimeHistogram();
+
+        return walGroupCommitSyncTimes;
+      } else {
+        return walGroupCommitSyncTimes;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
   /**
    * @return time which is spent on logging of single record or <code>-1</code> if value is undefined.
    */
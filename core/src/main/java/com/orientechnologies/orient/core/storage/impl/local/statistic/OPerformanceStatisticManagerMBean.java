@@ -122,6 +122,31 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
    */
   private static final String WRITE_CACHE_OVERFLOW_COUNT = "writeCacheOverflowCount";
 
+  /**
+   * Name of "checkpointAge" performance attribute
+   */
+  private static final String CHECKPOINT_AGE = "checkpointAge";
+
+  /**
+   * Name of "writeCacheFlushRate" performance attribute
+   */
+  private static final String WRITE_CACHE_FLUSH_RATE = "writeCacheFlushRate";
+
+  /**
+   * Name of "readAheadRequestsCount" performance attribute
+   */
+  private static final String READ_AHEAD_REQUESTS_COUNT = "readAheadRequestsCount";
+
+  /**
+   * Name of "readAheadPagesCount" performance attribute
+   */
+  private static final String READ_AHEAD_PAGES_COUNT = "readAheadPagesCount";
+
+  /**
+   * Name of "readAheadDroppedRequestsCount" performance attribute
+   */
+  private static final String READ_AHEAD_DROPPED_REQUESTS_COUNT = "readAheadDroppedRequestsCount";
+
   /**
    * Name of "walSize" performance attribute
    */
@@ -132,6 +157,16 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
    */
   private static final String WAL_CACHE_OVERFLOW_COUNT = "walCacheOverflowCount";
 
+  /**
+   * Name of "walGroupCommitBatchSizes" performance attribute
+   */
+  private static final String WAL_GROUP_COMMIT_BATCH_SIZES = "walGroupCommitBatchSizes";
+
+  /**
+   * Name of "walGroupCommitSyncTimes" performance attribute
+   */
+  private static final String WAL_GROUP_COMMIT_SYNC_TIMES = "walGroupCommitSyncTimes";
+
   /**
    * Name of "walLogTime" performance attribute
    */
@@ -152,6 +187,16 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
    */
   private static final String WAL_FLUSH_TIME = "walFlushTime";
 
+  /**
+   * Name of "recordLockWaitTimes" performance attribute
+   */
+  private static final String RECORD_LOCK_WAIT_TIMES = "recordLockWaitTimes";
+
+  /**
+   * Name of "recordLockDeadlocksCount" performance attribute
+   */
+  private static final String RECORD_LOCK_DEADLOCKS_COUNT = "recordLockDeadlocksCount";
+
   /**
    * Reference to related performance manager
    */
@@ -279,6 +324,36 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
       else
         throwComponentsAreNotSupported(WAL_CACHE_OVERFLOW_COUNT);
       break;
+    case CHECKPOINT_AGE:
+      if (componentName == null)
+        return manager.getCheckpointAge();
+      else
+        throwComponentsAreNotSupported(CHECKPOINT_AGE);
+      break;
+    case WRITE_CACHE_FLUSH_RATE:
+      if (componentName == null)
+        return manager.getWriteCacheFlushRate();
+      else
+        throwComponentsAreNotSupported(WRITE_CACHE_FLUSH_RATE);
+      break;
+    case READ_AHEAD_REQUESTS_COUNT:
+      if (componentName == null)
+        return manager.getReadAheadRequestsCount();
+      else
+        throwComponentsAreNotSupported(READ_AHEAD_REQUESTS_COUNT);
+      break;
+    case READ_AHEAD_PAGES_COUNT:
+      if (componentName == null)
+        return manager.getReadAheadPagesCount();
+      else
+        throwComponentsAreNotSupported(READ_AHEAD_PAGES_COUNT);
+      break;
+    case READ_AHEAD_DROPPED_REQUESTS_COUNT:
+      if (componentName == null)
+        return manager.getReadAheadDroppedRequestsCount();
+      else
+        throwComponentsAreNotSupported(READ_AHEAD_DROPPED_REQUESTS_COUNT);
+      break;
     case WAL_SIZE:
       if (componentName == null)
         return manager.getWALSize();
@@ -291,6 +366,18 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
       else
         throwComponentsAreNotSupported(WAL_CACHE_OVERFLOW_COUNT);
       break;
+    case WAL_GROUP_COMMIT_BATCH_SIZES:
+      if (componentName == null)
+        return manager.getWALGroupCommitBatchSizes();
+      else
+        throwComponentsAreNotSupported(WAL_GROUP_COMMIT_BATCH_SIZES);
+      break;
+    case WAL_GROUP_COMMIT_SYNC_TIMES:
+      if (componentName == null)
+        return manager.getWALGroupCommitSyncTimes();
+      else
+        throwComponentsAreNotSupported(WAL_GROUP_COMMIT_SYNC_TIMES);
+      break;
     case WAL_LOG_TIME:
       if (componentName == null)
         return manager.getWALLogRecordTime();
@@ -315,6 +402,18 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
       else
         throwComponentsAreNotSupported(WAL_FLUSH_TIME);
       break;
+    case RECORD_LOCK_WAIT_TIMES:
+      if (componentName == null)
+        return manager.getRecordLockWaitTimes();
+      else
+        throwComponentsAreNotSupported(RECORD_LOCK_WAIT_TIMES);
+      break;
+    case RECORD_LOCK_DEADLOCKS_COUNT:
+      if (componentName == null)
+        return manager.getRecordLockDeadlocksCount();
+      else
+        throwComponentsAreNotSupported(RECORD_LOCK_DEADLOCKS_COUNT);
+      break;
     }
 
     throw new AttributeNotFoundException("Cannot find " + attribute + " attribute in " + getClass().getSimpleName());
@@ -430,13 +529,24 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     populateWriteCacheSize(performanceAttributes);
     populateExclusiveWriteCacheSize(performanceAttributes);
     populateWriteCacheOverflowCount(performanceAttributes);
+    populateCheckpointAge(performanceAttributes);
+    populateWriteCacheFlushRate(performanceAttributes);
+
+    populateReadAheadRequestsCount(performanceAttributes);
+    populateReadAheadPagesCount(performanceAttributes);
+    populateReadAheadDroppedRequestsCount(performanceAttributes);
 
     populateWALSize(performanceAttributes);
     populateWALCacheOverflowCount(performanceAttributes);
+    populateWALGroupCommitBatchSizes(performanceAttributes);
+    populateWALGroupCommitSyncTimes(performanceAttributes);
     populateWALLogTime(performanceAttributes);
     populateWALEndAOLogTime(performanceAttributes);
     populateWALStartAOLogTime(performanceAttributes);
     populateWALFlushTime(performanceAttributes);
+
+    populateRecordLockWaitTimes(performanceAttributes);
+    populateRecordLockDeadlocksCount(performanceAttributes);
   }
 
   private void populateWriteSpeedInCache(List<MBeanAttributeInfo> performanceAttributes, Collection<String> components) {
@@ -568,6 +678,42 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     performanceAttributes.add(writeCacheOverflowCount);
   }
 
+  private void populateCheckpointAge(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo checkpointAge = new ModelMBeanAttributeInfo(CHECKPOINT_AGE, long.class.getName(),
+        "Distance in bytes between the oldest change which is not flushed to the disk and the end of WAL", true, false, false);
+
+    performanceAttributes.add(checkpointAge);
+  }
+
+  private void populateWriteCacheFlushRate(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo writeCacheFlushRate = new ModelMBeanAttributeInfo(WRITE_CACHE_FLUSH_RATE, long.class.getName(),
+        "Amount of pages written to the disk per second by background flush of write cache", true, false, false);
+
+    performanceAttributes.add(writeCacheFlushRate);
+  }
+
+  private void populateReadAheadRequestsCount(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo readAheadRequestsCount = new ModelMBeanAttributeInfo(READ_AHEAD_REQUESTS_COUNT, long.class.getName(),
+        "Count of read ahead requests issued because of sequential scan of files", true, false, false);
+
+    performanceAttributes.add(readAheadRequestsCount);
+  }
+
+  private void populateReadAheadPagesCount(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo readAheadPagesCount = new ModelMBeanAttributeInfo(READ_AHEAD_PAGES_COUNT, long.class.getName(),
+        "Count of pages read ahead into the read cache", true, false, false);
+
+    performanceAttributes.add(readAheadPagesCount);
+  }
+
+  private void populateReadAheadDroppedRequestsCount(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo readAheadDroppedRequestsCount = new ModelMBeanAttributeInfo(READ_AHEAD_DROPPED_REQUESTS_COUNT,
+        long.class.getName(), "Count of read ahead requests dropped because queue of read ahead requests was full", true, false,
+        false);
+
+    performanceAttributes.add(readAheadDroppedRequestsCount);
+  }
+
   private void populateWALSize(List<MBeanAttributeInfo> performanceAttributes) {
     final MBeanAttributeInfo walSize = new ModelMBeanAttributeInfo(WAL_SIZE, long.class.getName(), "WAL size in bytes", true, false,
         false);
@@ -582,6 +728,20 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     performanceAttributes.add(walCacheOverflowCount);
   }
 
+  private void populateWALGroupCommitBatchSizes(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo walGroupCommitBatchSizes = new ModelMBeanAttributeInfo(WAL_GROUP_COMMIT_BATCH_SIZES,
+        long[].class.getName(), "Histogram of amount of transactions synced by single group commit of WAL", true, false, false);
+
+    performanceAttributes.add(walGroupCommitBatchSizes);
+  }
+
+  private void populateWALGroupCommitSyncTimes(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo walGroupCommitSyncTimes = new ModelMBeanAttributeInfo(WAL_GROUP_COMMIT_SYNC_TIMES,
+        long[].class.getName(), "Histogram of time (in microseconds) spent on sync of WAL by group commit", true, false, false);
+
+    performanceAttributes.add(walGroupCommitSyncTimes);
+  }
+
   private void populateWALLogTime(List<MBeanAttributeInfo> performanceAttributes) {
     final MBeanAttributeInfo walLogTime = new ModelMBeanAttributeInfo(WAL_LOG_TIME, long.class.getName(),
         "Time which is spent to log single record in WAL", true, false, false);
@@ -610,4 +770,18 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     performanceAttributes.add(walFlushTime);
   }
 
+  private void populateRecordLockWaitTimes(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo recordLockWaitTimes = new ModelMBeanAttributeInfo(RECORD_LOCK_WAIT_TIMES, long[].class.getName(),
+        "Histogram of time (in microseconds) spent waiting for record locks", true, false, false);
+
+    performanceAttributes.add(recordLockWaitTimes);
+  }
+
+  private void populateRecordLockDeadlocksCount(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo recordLockDeadlocksCount = new ModelMBeanAttributeInfo(RECORD_LOCK_DEADLOCKS_COUNT,
+        long.class.getName(), "Count of deadlocks of record locks which were detected and resolved", true, false, false);
+
+    performanceAttributes.add(recordLockDeadlocksCount);
+  }
+
 }
@@ -47,6 +47,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
@@ -370,6 +371,14 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     file.clear();
   }
 
+  @Override
+  public void shrinkFile(long fileId, long pageCount) {
+    int intId = extractFileId(fileId);
+
+    final MemoryFile file = getFile(intId);
+    file.shrink(pageCount);
+  }
+
   @Override
   public void flush() {
   }
@@ -558,11 +567,17 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     }
 
     private void clear() {
+      shrink(0);
+    }
+
+    private void shrink(long pageCount) {
       boolean thereAreNotReleased = false;
 
       clearLock.writeLock().lock();
       try {
-        for (OCacheEntry entry : content.values()) {
+        final ConcurrentNavigableMap<Long, OCacheEntry> removedContent = content.tailMap(pageCount, true);
+
+        for (OCacheEntry entry : removedContent.values()) {
           //noinspection SynchronizationOnLocalVariableOrMethodParameter
           synchronized (entry) {
             thereAreNotReleased |= entry.getUsagesCount() > 0;
@@ -570,7 +585,7 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
           }
         }
 
-        content.clear();
+        removedContent.clear();
       } finally {
         clearLock.writeLock().unlock();
       }
@@ -589,6 +604,13 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     return totalPages * pageSize;
   }
 
+  /**
+   * Not implemented because has no sense, all pages of in memory storage are always kept in memory.
+   */
+  @Override
+  public void changeMaximumAmountOfMemory(long readCacheMaxMemory) {
+  }
+
   @Override
   public boolean checkLowDiskSpace() throws IOException {
     return true;
@@ -680,6 +702,11 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     truncateFile(fileId);
   }
 
+  @Override
+  public void shrinkFile(long fileId, long pageCount, OWriteCache writeCache) {
+    shrinkFile(fileId, pageCount);
+  }
+
   @Override
   public int getId() {
     return id;
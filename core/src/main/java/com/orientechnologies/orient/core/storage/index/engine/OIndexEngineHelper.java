@@ -0,0 +1,112 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Routines shared by index engines which keep bloom filters of their keys and maintain them in background.
+ */
+final class OIndexEngineHelper {
+  /**
+   * Single background thread shared by all index engines, it merges components of LSM indexes and rebuilds bloom filters of
+   * indexes.
+   */
+  private static final ExecutorService maintenanceExecutor = Executors.newSingleThreadExecutor(r -> {
+    final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+    thread.setDaemon(true);
+    thread.setName("OrientDB Index Maintenance");
+    thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+    return thread;
+  });
+
+  private OIndexEngineHelper() {
+  }
+
+  static Future<?> submitMaintenance(Runnable task) {
+    return maintenanceExecutor.submit(task);
+  }
+
+  /**
+   * Serializes key in the form which is put into bloom filters of the index.
+   */
+  static byte[] serializeKey(OBinarySerializer<Object> keySerializer, OType[] keyTypes, Object key) {
+    key = keySerializer.preprocess(key, (Object[]) keyTypes);
+
+    final byte[] serializedKey = new byte[keySerializer.getObjectSize(key, (Object[]) keyTypes)];
+    keySerializer.serializeNativeObject(key, serializedKey, 0, (Object[]) keyTypes);
+    return serializedKey;
+  }
+
+  /**
+   * @return Path of the file with the given name in the directory of the storage, or <code>null</code> if storage does not keep
+   * its files on disk.
+   */
+  static Path storageFilePath(OAbstractPaginatedStorage storage, String fileName) {
+    if (!(storage instanceof OLocalPaginatedStorage))
+      return null;
+
+    return ((OLocalPaginatedStorage) storage).getStoragePath().resolve(fileName);
+  }
+
+  static void deleteFile(Path path, String indexName) {
+    if (path == null)
+      return;
+
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      OLogManager.instance().warn(OIndexEngineHelper.class, "File %s of index %s cannot be deleted", e, path, indexName);
+    }
+  }
+
+  static void startAtomicOperation(OAtomicOperationsManager atomicOperationsManager, String indexName) {
+    try {
+      atomicOperationsManager.startAtomicOperation((String) null, true);
+    } catch (IOException e) {
+      throw OException.wrapException(new OIndexException("Error during start of atomic operation on index " + indexName), e);
+    }
+  }
+
+  static void endAtomicOperation(OAtomicOperationsManager atomicOperationsManager, String indexName, boolean rollback,
+      Exception exception) {
+    try {
+      atomicOperationsManager.endAtomicOperation(rollback, exception);
+    } catch (IOException e) {
+      throw OException.wrapException(new OIndexException("Error during end of atomic operation on index " + indexName), e);
+    }
+  }
+}
@@ -0,0 +1,1218 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.hash.OBloomFilter;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndexAbstractCursor;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.OIndexKeyCursor;
+import com.orientechnologies.orient.core.index.OIndexKeyUpdater;
+import com.orientechnologies.orient.core.index.OIndexUpdateAction;
+import com.orientechnologies.orient.core.iterator.OEmptyIterator;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Index engine based on log-structured merge tree. Index consists of several components, each of them is {@link OSBTree} stored in
+ * its own files:
+ * <ol>
+ * <li>memtable - tree into which all changes are put, removed keys are marked by the tombstone value,</li>
+ * <li>frozen memtables - memtables which were filled up to {@link OGlobalConfiguration#INDEX_LSM_MEMTABLE_SIZE} changes and are not
+ * changed any more,</li>
+ * <li>runs - immutable trees which are built bottom-up by {@link OSBTree#bulkLoad(Iterator)} from sorted merge of newer components,
+ * lookup of absent key in the run is filtered out by the bloom filter of the run.</li>
+ * </ol>
+ * <p>
+ * Bloom filter of the run is stored in the directory of the storage next to the files of the run once the run is written, so it is
+ * not rebuilt during load of the index. Amount of keys of the index is maintained by its changes and is stored during close.
+ * <p>
+ * Frozen memtables and runs are merged by single background thread shared by all index engines. Runs are merged with newer ones
+ * when their size becomes comparable, so index contains logarithmic amount of runs. Value of the key is taken from the newest
+ * component which contains this key.
+ * <p>
+ * Each component covers range of generations of memtables, it is reflected in the name of its files. Merge is committed once the
+ * newest of the merged components is removed, so state of interrupted merge is recovered during load of the index.
+ * <p>
+ * Components of the index are published by immutable snapshots. Readers mark snapshot as used while they access its components, so
+ * components replaced by the merge are removed only once they are not used anymore. Cursors reopen themselves after the last
+ * returned key once the snapshot is changed.
+ */
+public class OLSMIndexEngine implements OIndexEngine {
+  public static final int VERSION = 1;
+
+  public static final String DATA_FILE_EXTENSION        = ".lsm";
+  public static final String NULL_BUCKET_FILE_EXTENSION = ".nlsm";
+  public static final String BLOOM_FILTER_FILE_EXTENSION = ".lbf";
+  public static final String SIZE_FILE_EXTENSION         = ".lsz";
+
+  private static final String MEMTABLE_SEPARATOR = "$m";
+  private static final String RUN_SEPARATOR      = "$r";
+
+  /**
+   * Value which is put into the memtable instead of removed value.
+   */
+  private static final ORecordId TOMBSTONE = new ORecordId(ORecordId.CLUSTER_ID_INVALID, Long.MIN_VALUE);
+
+  private final String                    name;
+  private final String                    lockName;
+  private final OAbstractPaginatedStorage storage;
+  private final OAtomicOperationsManager  atomicOperationsManager;
+  private final int                       version;
+
+  private OBinarySerializer<Object> keySerializer;
+  private OBinarySerializer<Object> valueSerializer;
+  private OType[]                   keyTypes;
+  private int                       keySize;
+  private boolean                   nullPointerSupport;
+  private OEncryption               encryption;
+
+  private int   memtableSize;
+  private float falsePositiveRate;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Snapshots which were replaced by newer ones, but still may be used by readers, accessed only by the thread which changes
+   * components of the index.
+   */
+  private final List<Snapshot> retiredSnapshots = new ArrayList<>();
+  private       long           nextGeneration;
+
+  private final AtomicLong memtableChanges = new AtomicLong();
+  private final AtomicLong keysCount       = new AtomicLong();
+  private final Object     compactionLock  = new Object();
+  private       Future<?>  compaction;
+  private volatile boolean closed;
+
+  public OLSMIndexEngine(String name, OAbstractPaginatedStorage storage, int version) {
+    this.name = name;
+    this.lockName = name + DATA_FILE_EXTENSION;
+    this.storage = storage;
+    this.version = version;
+    this.atomicOperationsManager = storage.getAtomicOperationsManager();
+  }
+
+  @Override
+  public void init(String indexName, String indexType, OIndexDefinition indexDefinition, boolean isAutomatic, ODocument metadata) {
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public int getVersion() {
+    return version;
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Override
+  public void create(OBinarySerializer valueSerializer, boolean isAutomatic, OType[] keyTypes, boolean nullPointerSupport,
+      OBinarySerializer keySerializer, int keySize, Set<String> clustersToIndex, Map<String, String> engineProperties,
+      ODocument metadata, OEncryption encryption) {
+    init(keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+
+    nextGeneration = 1;
+    snapshot = new Snapshot(Collections.singletonList(createComponent(true, 0, 0)));
+    keysCount.set(0);
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Override
+  public void load(String indexName, OBinarySerializer valueSerializer, boolean isAutomatic, OBinarySerializer keySerializer,
+      OType[] keyTypes, boolean nullPointerSupport, int keySize, Map<String, String> engineProperties, OEncryption encryption) {
+    init(keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+
+    final List<Component> components = new ArrayList<>();
+    for (Component component : recover(findComponents())) {
+      component.tree.load(component.tree.getName(), this.keySerializer, this.valueSerializer, keyTypes, keySize, nullPointerSupport,
+          encryption);
+      components.add(component);
+    }
+
+    if (components.isEmpty()) {
+      nextGeneration = 1;
+      snapshot = new Snapshot(Collections.singletonList(createComponent(true, 0, 0)));
+      OIndexEngineHelper.deleteFile(sizeFilePath(), name);
+      keysCount.set(0);
+      return;
+    }
+
+    // newest first
+    components.sort((first, second) -> Long.compare(second.to, first.to));
+    nextGeneration = components.get(0).to + 1;
+
+    if (components.get(0).memtable) {
+      for (Component component : components.subList(1, components.size()))
+        component.bloomFilter = loadBloomFilter(component);
+    } else {
+      // changes of the index are not put into the runs
+      for (Component component : components)
+        component.bloomFilter = loadBloomFilter(component);
+
+      components.add(0, createComponent(true, nextGeneration, nextGeneration));
+      nextGeneration++;
+    }
+
+    snapshot = new Snapshot(components);
+    loadKeysCount();
+
+    // each key of the memtable was put by at least one change
+    memtableChanges.set(components.get(0).tree.size());
+
+    if (memtableChanges.get() >= memtableSize || !selectMergeInputs(components).isEmpty())
+      scheduleCompaction();
+  }
+
+  private void init(OBinarySerializer<?> keySerializer, OBinarySerializer<?> valueSerializer, OType[] keyTypes, int keySize,
+      boolean nullPointerSupport, OEncryption encryption) {
+    this.keySerializer = objectSerializer(keySerializer);
+    this.valueSerializer = objectSerializer(valueSerializer);
+    this.keyTypes = keyTypes;
+    this.keySize = keySize;
+    this.nullPointerSupport = nullPointerSupport;
+    this.encryption = encryption;
+
+    final OContextConfiguration configuration = storage.getConfiguration().getContextConfiguration();
+    memtableSize = configuration.getValueAsInteger(OGlobalConfiguration.INDEX_LSM_MEMTABLE_SIZE);
+    falsePositiveRate = configuration.getValueAsFloat(OGlobalConfiguration.INDEX_LSM_BLOOM_FILTER_FALSE_POSITIVE_RATE);
+
+    closed = false;
+    memtableChanges.set(0);
+  }
+
+  /**
+   * Serializers of the index are applied to keys and values of any type, index passes only instances of the types they are
+   * created for.
+   */
+  @SuppressWarnings("unchecked")
+  private static OBinarySerializer<Object> objectSerializer(OBinarySerializer<?> serializer) {
+    return (OBinarySerializer<Object>) serializer;
+  }
+
+  @Override
+  public void delete() {
+    stopCompaction();
+
+    for (Component component : snapshot.components)
+      deleteComponent(component);
+
+    OIndexEngineHelper.deleteFile(sizeFilePath(), name);
+  }
+
+  @Override
+  public void deleteWithoutLoad(String indexName) {
+    for (Component component : findComponents())
+      deleteComponentWithoutLoad(component);
+
+    OIndexEngineHelper.deleteFile(sizeFilePath(), name);
+  }
+
+  @Override
+  public void close() {
+    stopCompaction();
+    storeKeysCount();
+
+    for (Component component : snapshot.components)
+      component.tree.close();
+  }
+
+  /**
+   * Replaces all components of the index by the new empty memtable. Compaction is stopped till components are replaced, replaced
+   * components are removed in the same atomic operation once they are not used by readers anymore.
+   */
+  @Override
+  public void clear() {
+    stopCompaction();
+    try {
+      final Component memtable = createComponent(true, nextGeneration, nextGeneration);
+      nextGeneration++;
+
+      // waits till the end of atomic operations which change the replaced memtable
+      atomicOperationsManager.startAtomicOperation(lockName, false);
+      try {
+        final List<Component> replaced = snapshot.components;
+
+        publish(Collections.singletonList(memtable));
+        memtableChanges.set(0);
+        awaitRetiredSnapshots();
+
+        for (Component component : replaced)
+          deleteComponent(component);
+
+        // changes of the index made earlier by the same atomic operation are applied before this one
+        atomicOperationsManager.getCurrentOperation().addCommitListener(() -> keysCount.set(0));
+
+        atomicOperationsManager.endAtomicOperation(false, null);
+      } catch (RuntimeException e) {
+        atomicOperationsManager.endAtomicOperation(true, e);
+        throw e;
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new OIndexException("Error during clear of index " + name), e);
+    } finally {
+      synchronized (compactionLock) {
+        closed = false;
+      }
+    }
+  }
+
+  @Override
+  public boolean contains(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public Object get(Object key) {
+    final Snapshot current = acquireSnapshot();
+    try {
+      byte[] serializedKey = null;
+
+      for (Component component : current.components) {
+        if (key != null && component.bloomFilter != null) {
+          if (serializedKey == null)
+            serializedKey = OIndexEngineHelper.serializeKey(keySerializer, keyTypes, key);
+
+          if (!component.bloomFilter.mightContain(serializedKey))
+            continue;
+        }
+
+        final Object value = component.tree.get(key);
+        if (value != null)
+          return isTombstone(value) ? null : value;
+      }
+
+      return null;
+    } finally {
+      current.users.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    put(key, value, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public boolean validatedPut(Object key, OIdentifiable value, Validator<Object, OIdentifiable> validator) {
+    return put(key, value, (Validator) validator);
+  }
+
+  private boolean put(Object key, Object value, Validator<Object, Object> validator) {
+    OIndexEngineHelper.startAtomicOperation(atomicOperationsManager, name);
+    try {
+      final OSBTree<Object, Object> memtable = lockMemtable();
+      final Object oldValue = get(key);
+
+      if (validator != null) {
+        final Object result = validator.validate(key, oldValue, value);
+        if (result == Validator.IGNORE) {
+          OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, false, null);
+          return false;
+        }
+
+        value = result;
+      }
+
+      memtable.put(key, value);
+      if (oldValue == null)
+        changeKeysCount(1);
+
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, false, null);
+    } catch (RuntimeException e) {
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, true, e);
+      throw e;
+    }
+
+    onMemtableChange();
+    return true;
+  }
+
+  @Override
+  public void update(Object key, OIndexKeyUpdater<Object> updater) {
+    final boolean changed;
+
+    OIndexEngineHelper.startAtomicOperation(atomicOperationsManager, name);
+    try {
+      final OSBTree<Object, Object> memtable = lockMemtable();
+
+      final Object oldValue = get(key);
+      final OIndexUpdateAction<Object> action = updater.update(oldValue, new AtomicLong(-1));
+
+      if (action.isChange()) {
+        memtable.put(key, action.getValue());
+        if (oldValue == null)
+          changeKeysCount(1);
+
+        changed = true;
+      } else if (action.isRemove() && oldValue != null) {
+        memtable.put(key, TOMBSTONE);
+        changeKeysCount(-1);
+        changed = true;
+      } else
+        changed = false;
+
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, false, null);
+    } catch (RuntimeException e) {
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, true, e);
+      throw e;
+    }
+
+    if (changed)
+      onMemtableChange();
+  }
+
+  @Override
+  public boolean remove(Object key) {
+    final boolean removed;
+
+    OIndexEngineHelper.startAtomicOperation(atomicOperationsManager, name);
+    try {
+      final OSBTree<Object, Object> memtable = lockMemtable();
+
+      removed = get(key) != null;
+      if (removed) {
+        memtable.put(key, TOMBSTONE);
+        changeKeysCount(-1);
+      }
+
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, false, null);
+    } catch (RuntimeException e) {
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, true, e);
+      throw e;
+    }
+
+    if (removed)
+      onMemtableChange();
+
+    return removed;
+  }
+
+  @Override
+  public Object getFirstKey() {
+    final Map.Entry<Object, OIdentifiable> entry = new LSMIndexCursor(Range.ALL_ASC, null).nextEntry();
+    return entry != null ? entry.getKey() : null;
+  }
+
+  @Override
+  public Object getLastKey() {
+    final Map.Entry<Object, OIdentifiable> entry = new LSMIndexCursor(Range.ALL_DESC, null).nextEntry();
+    return entry != null ? entry.getKey() : null;
+  }
+
+  @Override
+  public OIndexCursor iterateEntriesBetween(Object rangeFrom, boolean fromInclusive, Object rangeTo, boolean toInclusive,
+      boolean ascSortOrder, ValuesTransformer transformer) {
+    return new LSMIndexCursor(new Range(rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder), transformer);
+  }
+
+  @Override
+  public OIndexCursor iterateEntriesMajor(Object fromKey, boolean isInclusive, boolean ascSortOrder,
+      ValuesTransformer transformer) {
+    return new LSMIndexCursor(new Range(fromKey, isInclusive, null, false, ascSortOrder), transformer);
+  }
+
+  @Override
+  public OIndexCursor iterateEntriesMinor(Object toKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
+    return new LSMIndexCursor(new Range(null, false, toKey, isInclusive, ascSortOrder), transformer);
+  }
+
+  @Override
+  public OIndexCursor cursor(ValuesTransformer valuesTransformer) {
+    return new LSMIndexCursor(Range.ALL_ASC, valuesTransformer);
+  }
+
+  @Override
+  public OIndexCursor descCursor(ValuesTransformer valuesTransformer) {
+    return new LSMIndexCursor(Range.ALL_DESC, valuesTransformer);
+  }
+
+  @Override
+  public OIndexKeyCursor keyCursor() {
+    return new OIndexKeyCursor() {
+      private final LSMIndexCursor cursor = new LSMIndexCursor(Range.ALL_ASC, null);
+
+      @Override
+      public Object next(int prefetchSize) {
+        cursor.setPrefetchSize(prefetchSize);
+
+        final Map.Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+        return entry != null ? entry.getKey() : null;
+      }
+    };
+  }
+
+  /**
+   * Amount of keys is maintained by changes of the index, size of the index with values transformer is calculated by iteration over
+   * merged entries of all components.
+   */
+  @Override
+  public long size(ValuesTransformer transformer) {
+    if (transformer == null)
+      return keysCount.get();
+
+    return countEntries(transformer);
+  }
+
+  private long countEntries(ValuesTransformer transformer) {
+    long counter = 0;
+
+    if (nullPointerSupport) {
+      final Object nullValue = get(null);
+      if (nullValue != null)
+        counter += transformer == null ? 1 : transformer.transformFromValue(nullValue).size();
+    }
+
+    final LSMIndexCursor cursor = new LSMIndexCursor(Range.ALL_ASC, null);
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null)
+      counter += transformer == null ? 1 : transformer.transformFromValue(entry.getValue()).size();
+
+    return counter;
+  }
+
+  @Override
+  public boolean hasRangeQuerySupport() {
+    return true;
+  }
+
+  @Override
+  public boolean acquireAtomicExclusiveLock(Object key) {
+    lockMemtable();
+    return true;
+  }
+
+  @Override
+  public String getIndexNameByKey(Object key) {
+    return name;
+  }
+
+  /**
+   * Acquires exclusive lock of the index in the active atomic operation running on the current thread. Memtable is frozen under the
+   * same lock, so memtable returned by this method is not frozen till the end of the operation. Changes of the memtable are
+   * serialized by its own lock anyway, so this lock does not decrease concurrency of writers.
+   */
+  private OSBTree<Object, Object> lockMemtable() {
+    atomicOperationsManager.acquireExclusiveLockTillOperationComplete(atomicOperationsManager.getCurrentOperation(), lockName);
+    return snapshot.components.get(0).tree;
+  }
+
+  /**
+   * Changes amount of keys once the current atomic operation is committed, so changes which are rolled back are not counted.
+   */
+  private void changeKeysCount(long diff) {
+    atomicOperationsManager.getCurrentOperation().addCommitListener(() -> keysCount.addAndGet(diff));
+  }
+
+  private void onMemtableChange() {
+    if (memtableChanges.incrementAndGet() >= memtableSize)
+      scheduleCompaction();
+  }
+
+  private Snapshot acquireSnapshot() {
+    while (true) {
+      final Snapshot current = snapshot;
+      current.users.incrementAndGet();
+
+      if (current == snapshot)
+        return current;
+
+      current.users.decrementAndGet();
+    }
+  }
+
+  private void publish(List<Component> components) {
+    retiredSnapshots.add(snapshot);
+    snapshot = new Snapshot(components);
+  }
+
+  /**
+   * Waits till components of retired snapshots are not used by readers anymore.
+   */
+  private void awaitRetiredSnapshots() {
+    for (Snapshot retired : retiredSnapshots) {
+      while (retired.users.get() > 0)
+        LockSupport.parkNanos(100000);
+    }
+
+    retiredSnapshots.clear();
+  }
+
+  private void scheduleCompaction() {
+    synchronized (compactionLock) {
+      if (closed || (compaction != null && !compaction.isDone()))
+        return;
+
+      compaction = OIndexEngineHelper.submitMaintenance(this::compact);
+    }
+  }
+
+  /**
+   * Waits for the end of running merge of components and prevents scheduling of new ones. Called by the storage before its final
+   * checkpoint, so no atomic operation of the merge is active at that moment.
+   */
+  public void stopCompaction() {
+    final Future<?> future;
+    synchronized (compactionLock) {
+      closed = true;
+      future = compaction;
+      compaction = null;
+    }
+
+    if (future == null)
+      return;
+
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OIndexException("Wait of compaction of index " + name + " was interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new OIndexException("Error during compaction of index " + name), e.getCause());
+    }
+  }
+
+  private void compact() {
+    try {
+      while (!closed) {
+        if (memtableChanges.get() >= memtableSize)
+          freeze();
+
+        final List<Component> inputs = selectMergeInputs(snapshot.components);
+        if (inputs.isEmpty())
+          break;
+
+        merge(inputs);
+      }
+    } catch (RuntimeException | IOException e) {
+      OLogManager.instance().error(this, "Error during compaction of LSM index %s", e, name);
+    }
+  }
+
+  private void freeze() throws IOException {
+    final Component memtable = createComponent(true, nextGeneration, nextGeneration);
+    nextGeneration++;
+
+    final Component frozen;
+    // waits till the end of atomic operations which change the frozen memtable
+    atomicOperationsManager.startAtomicOperation(lockName, false);
+    try {
+      frozen = snapshot.components.get(0);
+
+      final List<Component> components = new ArrayList<>(snapshot.components.size() + 1);
+      components.add(memtable);
+      components.addAll(snapshot.components);
+
+      publish(components);
+      memtableChanges.set(0);
+    } finally {
+      atomicOperationsManager.endAtomicOperation(false, null);
+    }
+
+    // frozen memtable is not changed anymore, look ups ask its tree till the filter is built
+    frozen.bloomFilter = buildBloomFilter(frozen.tree);
+  }
+
+  /**
+   * Selects the newest immutable components which have to be merged together: frozen memtables are always merged, older runs are
+   * added to the merge while their size does not exceed twice the size of newer merged components.
+   *
+   * @param components Components of the index, the newest first.
+   *
+   * @return Components which should be merged, the newest first, or empty list if merge is not needed.
+   */
+  private static List<Component> selectMergeInputs(List<Component> components) {
+    if (components.size() < 2)
+      return Collections.emptyList();
+
+    final List<Component> inputs = new ArrayList<>();
+    inputs.add(components.get(1));
+    long size = components.get(1).tree.size();
+
+    for (Component component : components.subList(2, components.size())) {
+      final long componentSize = component.tree.size();
+      if (!component.memtable && componentSize > 2 * size)
+        break;
+
+      inputs.add(component);
+      size += componentSize;
+    }
+
+    if (inputs.size() == 1 && !inputs.get(0).memtable)
+      return Collections.emptyList();
+
+    return inputs;
+  }
+
+  private void merge(List<Component> inputs) {
+    final List<Component> components = snapshot.components;
+    final boolean dropTombstones = inputs.contains(components.get(components.size() - 1));
+
+    long size = 0;
+    for (Component input : inputs)
+      size += input.tree.size();
+
+    final Component run = createComponent(false, inputs.get(inputs.size() - 1).from, inputs.get(0).to);
+    final OBloomFilter bloomFilter = new OBloomFilter(size, falsePositiveRate);
+
+    final List<OSBTree<Object, Object>> trees = new ArrayList<>(inputs.size());
+    for (Component input : inputs)
+      trees.add(input.tree);
+
+    final MergingIterator entries = new MergingIterator(trees, Range.ALL_ASC, dropTombstones);
+    run.tree.bulkLoad(new Iterator<Map.Entry<Object, Object>>() {
+      @Override
+      public boolean hasNext() {
+        return entries.hasNext();
+      }
+
+      @Override
+      public Map.Entry<Object, Object> next() {
+        final Map.Entry<Object, Object> entry = entries.next();
+        bloomFilter.add(OIndexEngineHelper.serializeKey(keySerializer, keyTypes, entry.getKey()));
+        return entry;
+      }
+    });
+
+    if (nullPointerSupport) {
+      for (Component input : inputs) {
+        final Object nullValue = input.tree.get(null);
+        if (nullValue != null) {
+          if (!dropTombstones || !isTombstone(nullValue))
+            run.tree.put(null, nullValue);
+          break;
+        }
+      }
+    }
+
+    run.bloomFilter = bloomFilter;
+    storeBloomFilter(run);
+
+    final List<Component> merged = new ArrayList<>(components.size() - inputs.size() + 1);
+    for (Component component : components) {
+      if (component == inputs.get(0))
+        merged.add(run);
+      else if (!inputs.contains(component))
+        merged.add(component);
+    }
+
+    publish(merged);
+    awaitRetiredSnapshots();
+
+    // removal of the newest merged component commits the merge
+    for (Component input : inputs)
+      deleteComponent(input);
+  }
+
+  /**
+   * Removes components left by interrupted merges. Run which is created by the merge has the same last generation as the newest
+   * merged component, which is removed first, so run is not complete if there is other component with the same last generation.
+   * Components which are covered by the complete run were not removed after the merge.
+   */
+  private List<Component> recover(List<Component> components) {
+    final List<Component> result = new ArrayList<>();
+
+    for (Component component : components) {
+      boolean complete = true;
+      for (Component other : components) {
+        if (other != component && other.to == component.to && (other.from > component.from || (other.from == component.from
+            && other.memtable))) {
+          complete = false;
+          break;
+        }
+      }
+
+      if (complete)
+        result.add(component);
+      else
+        deleteComponentWithoutLoad(component);
+    }
+
+    final List<Component> uncovered = new ArrayList<>();
+    for (Component component : result) {
+      boolean covered = false;
+      for (Component other : result) {
+        if (other != component && other.from <= component.from && other.to >= component.to) {
+          covered = true;
+          break;
+        }
+      }
+
+      if (covered)
+        deleteComponentWithoutLoad(component);
+      else
+        uncovered.add(component);
+    }
+
+    return uncovered;
+  }
+
+  private List<Component> findComponents() {
+    final List<Component> components = new ArrayList<>();
+
+    for (String fileName : storage.getWriteCache().files().keySet()) {
+      if (!fileName.startsWith(name) || !fileName.endsWith(DATA_FILE_EXTENSION))
+        continue;
+
+      final String componentName = fileName.substring(0, fileName.length() - DATA_FILE_EXTENSION.length());
+      final String generations = componentName.substring(name.length());
+
+      try {
+        if (generations.startsWith(MEMTABLE_SEPARATOR)) {
+          final long generation = Long.parseLong(generations.substring(MEMTABLE_SEPARATOR.length()));
+          components.add(new Component(newTree(componentName), true, generation, generation));
+        } else if (generations.startsWith(RUN_SEPARATOR)) {
+          final String[] range = generations.substring(RUN_SEPARATOR.length()).split("_");
+          if (range.length == 2)
+            components.add(new Component(newTree(componentName), false, Long.parseLong(range[0]), Long.parseLong(range[1])));
+        }
+      } catch (NumberFormatException ignore) {
+        // file of other index
+      }
+    }
+
+    return components;
+  }
+
+  private Component createComponent(boolean memtable, long from, long to) {
+    final String componentName = memtable ? name + MEMTABLE_SEPARATOR + to : name + RUN_SEPARATOR + from + '_' + to;
+
+    final OSBTree<Object, Object> tree = newTree(componentName);
+    tree.create(keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+
+    return new Component(tree, memtable, from, to);
+  }
+
+  private OSBTree<Object, Object> newTree(String componentName) {
+    return new OSBTree<>(componentName, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+  }
+
+  private void deleteComponent(Component component) {
+    component.tree.delete();
+    OIndexEngineHelper.deleteFile(bloomFilterPath(component.tree.getName()), name);
+  }
+
+  private void deleteComponentWithoutLoad(Component component) {
+    component.tree.deleteWithoutLoad(component.tree.getName());
+    OIndexEngineHelper.deleteFile(bloomFilterPath(component.tree.getName()), name);
+  }
+
+  /**
+   * Stores bloom filter of the run next to the files of the run. Run is not changed after it is written, so the filter is kept till
+   * the run is removed. Size of the run and checksum of the file are stored together with the filter, so filter which is broken or
+   * does not match the run is not loaded.
+   */
+  private void storeBloomFilter(Component run) {
+    final Path path = bloomFilterPath(run.tree.getName());
+    if (path == null)
+      return;
+
+    try (CheckedOutputStream checkedOutput = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(path)),
+        new CRC32()); DataOutputStream output = new DataOutputStream(checkedOutput)) {
+      output.writeLong(run.tree.size());
+      run.bloomFilter.write(output);
+      output.writeLong(checkedOutput.getChecksum().getValue());
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Bloom filter of run %s cannot be stored, it will be rebuilt", e, run.tree.getName());
+      OIndexEngineHelper.deleteFile(path, name);
+    }
+  }
+
+  /**
+   * Loads bloom filter of the run stored by {@link #storeBloomFilter(Component)}. Filter is rebuilt and stored again if it is absent
+   * or does not match the run. Filters of frozen memtables are not stored, they are limited by the size of memtable and are always
+   * rebuilt.
+   */
+  private OBloomFilter loadBloomFilter(Component component) {
+    if (component.memtable)
+      return buildBloomFilter(component.tree);
+
+    final Path path = bloomFilterPath(component.tree.getName());
+    if (path != null && Files.exists(path)) {
+      try (CheckedInputStream checkedInput = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)),
+          new CRC32()); DataInputStream input = new DataInputStream(checkedInput)) {
+        final long size = input.readLong();
+        final OBloomFilter bloomFilter = OBloomFilter.read(input);
+        final long checksum = checkedInput.getChecksum().getValue();
+
+        if (input.readLong() == checksum && size == component.tree.size())
+          return bloomFilter;
+
+        OLogManager.instance()
+            .warn(this, "Bloom filter of run %s does not match content of the run, it will be rebuilt", component.tree.getName());
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Bloom filter of run %s cannot be loaded, it will be rebuilt", e, component.tree.getName());
+      }
+    }
+
+    component.bloomFilter = buildBloomFilter(component.tree);
+    storeBloomFilter(component);
+    return component.bloomFilter;
+  }
+
+  /**
+   * Stores amount of keys of the index in the directory of the storage, so keys are not counted during next load of the index.
+   */
+  private void storeKeysCount() {
+    final Path path = sizeFilePath();
+    if (path == null)
+      return;
+
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      output.writeLong(keysCount.get());
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Size of index %s cannot be stored, it will be recalculated", e, name);
+      OIndexEngineHelper.deleteFile(path, name);
+    }
+  }
+
+  /**
+   * Restores amount of keys stored by {@link #storeKeysCount()}. File is removed once it is loaded, so amount which is not up to
+   * date is never used after crash, in such case keys are counted by iteration over merged entries of all components.
+   */
+  private void loadKeysCount() {
+    final Path path = sizeFilePath();
+    if (path != null && Files.exists(path)) {
+      try {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+          keysCount.set(input.readLong());
+          return;
+        } finally {
+          Files.delete(path);
+        }
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Size of index %s cannot be loaded, it will be recalculated", e, name);
+      }
+    }
+
+    keysCount.set(countEntries(null));
+  }
+
+  private Path bloomFilterPath(String componentName) {
+    return OIndexEngineHelper.storageFilePath(storage, componentName + BLOOM_FILTER_FILE_EXTENSION);
+  }
+
+  private Path sizeFilePath() {
+    return OIndexEngineHelper.storageFilePath(storage, name + SIZE_FILE_EXTENSION);
+  }
+
+  private OBloomFilter buildBloomFilter(OSBTree<Object, Object> tree) {
+    final OBloomFilter bloomFilter = new OBloomFilter(tree.size(), falsePositiveRate);
+
+    final OSBTree.OSBTreeKeyCursor<Object> cursor = tree.keyCursor();
+    Object key;
+    while ((key = cursor.next(-1)) != null)
+      bloomFilter.add(OIndexEngineHelper.serializeKey(keySerializer, keyTypes, key));
+
+    return bloomFilter;
+  }
+
+  private static boolean isTombstone(Object value) {
+    return value instanceof OIdentifiable && TOMBSTONE.equals(((OIdentifiable) value).getIdentity());
+  }
+
+  private static final class Component {
+    private final OSBTree<Object, Object> tree;
+    private final boolean                 memtable;
+    private final long                    from;
+    private final long                    to;
+
+    /**
+     * Set once component is not changed anymore.
+     */
+    private volatile OBloomFilter bloomFilter;
+
+    private Component(OSBTree<Object, Object> tree, boolean memtable, long from, long to) {
+      this.tree = tree;
+      this.memtable = memtable;
+      this.from = from;
+      this.to = to;
+    }
+  }
+
+  private static final class Snapshot {
+    /**
+     * Components of the index, the newest first, the first one is the memtable.
+     */
+    private final List<Component> components;
+    private final AtomicInteger   users = new AtomicInteger();
+
+    private Snapshot(List<Component> components) {
+      this.components = components;
+    }
+  }
+
+  private static final class Range {
+    private static final Range ALL_ASC  = new Range(null, false, null, false, true);
+    private static final Range ALL_DESC = new Range(null, false, null, false, false);
+
+    private final Object  from;
+    private final boolean fromInclusive;
+    private final Object  to;
+    private final boolean toInclusive;
+    private final boolean ascSortOrder;
+
+    private Range(Object from, boolean fromInclusive, Object to, boolean toInclusive, boolean ascSortOrder) {
+      this.from = from;
+      this.fromInclusive = fromInclusive;
+      this.to = to;
+      this.toInclusive = toInclusive;
+      this.ascSortOrder = ascSortOrder;
+    }
+
+    /**
+     * @return Rest of the range which follows the given key in the order of iteration.
+     */
+    private Range after(Object key) {
+      if (ascSortOrder)
+        return new Range(key, false, to, toInclusive, true);
+
+      return new Range(from, fromInclusive, key, false, false);
+    }
+
+    private OSBTree.OSBTreeCursor<Object, Object> open(OSBTree<Object, Object> tree) {
+      if (from != null && to != null)
+        return tree.iterateEntriesBetween(from, fromInclusive, to, toInclusive, ascSortOrder);
+
+      if (from != null)
+        return tree.iterateEntriesMajor(from, fromInclusive, ascSortOrder);
+
+      if (to != null)
+        return tree.iterateEntriesMinor(to, toInclusive, ascSortOrder);
+
+      final Object firstKey = ascSortOrder ? tree.firstKey() : tree.lastKey();
+      if (firstKey == null)
+        return null;
+
+      return ascSortOrder ? tree.iterateEntriesMajor(firstKey, true, true) : tree.iterateEntriesMinor(firstKey, true, false);
+    }
+  }
+
+  /**
+   * Merges entries of several trees, value of the key is taken from the first tree which contains it.
+   */
+  private static final class MergingIterator implements Iterator<Map.Entry<Object, Object>> {
+    private final List<OSBTree.OSBTreeCursor<Object, Object>> cursors;
+    private final List<Map.Entry<Object, Object>>             heads;
+    private final boolean                                     ascSortOrder;
+    private final boolean                                     skipTombstones;
+
+    private int                       prefetchSize = -1;
+    private Map.Entry<Object, Object> nextEntry;
+    private boolean                   fetched;
+
+    private MergingIterator(List<OSBTree<Object, Object>> trees, Range range, boolean skipTombstones) {
+      this.ascSortOrder = range.ascSortOrder;
+      this.skipTombstones = skipTombstones;
+
+      cursors = new ArrayList<>(trees.size());
+      heads = new ArrayList<>(trees.size());
+
+      for (int i = 0; i < trees.size(); i++) {
+        final OSBTree.OSBTreeCursor<Object, Object> cursor = range.open(trees.get(i));
+        cursors.add(cursor);
+
+        heads.add(cursor != null ? cursor.next(prefetchSize) : null);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!fetched) {
+        nextEntry = fetch();
+        fetched = true;
+      }
+
+      return nextEntry != null;
+    }
+
+    @Override
+    public Map.Entry<Object, Object> next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      fetched = false;
+      return nextEntry;
+    }
+
+    private Map.Entry<Object, Object> fetch() {
+      while (true) {
+        int first = -1;
+        for (int i = 0; i < heads.size(); i++) {
+          if (heads.get(i) == null)
+            continue;
+
+          if (first < 0) {
+            first = i;
+            continue;
+          }
+
+          final int compare = ODefaultComparator.INSTANCE.compare(heads.get(i).getKey(), heads.get(first).getKey());
+          if (ascSortOrder ? compare < 0 : compare > 0)
+            first = i;
+        }
+
+        if (first < 0)
+          return null;
+
+        final Map.Entry<Object, Object> entry = heads.get(first);
+        for (int i = 0; i < heads.size(); i++) {
+          if (heads.get(i) != null && (i == first || ODefaultComparator.INSTANCE.compare(heads.get(i).getKey(), entry.getKey()) == 0))
+            heads.set(i, cursors.get(i).next(prefetchSize));
+        }
+
+        if (!skipTombstones || !isTombstone(entry.getValue()))
+          return entry;
+      }
+    }
+  }
+
+  private final class LSMIndexCursor extends OIndexAbstractCursor {
+    private final Range             range;
+    private final ValuesTransformer valuesTransformer;
+
+    private Snapshot        openedSnapshot;
+    private MergingIterator entries;
+    private Object          lastKey;
+
+    private Iterator<OIdentifiable> currentIterator = OEmptyIterator.IDENTIFIABLE_INSTANCE;
+    private Object                  currentKey      = null;
+
+    private LSMIndexCursor(Range range, ValuesTransformer valuesTransformer) {
+      this.range = range;
+      this.valuesTransformer = valuesTransformer;
+    }
+
+    @Override
+    public Map.Entry<Object, OIdentifiable> nextEntry() {
+      if (valuesTransformer == null) {
+        // values of indexes without transformer are single records
+        final Map.Entry<Object, Object> entry = nextTreeEntry();
+        if (entry == null)
+          return null;
+
+        return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), (OIdentifiable) entry.getValue());
+      }
+
+      if (currentIterator == null)
+        return null;
+
+      while (!currentIterator.hasNext()) {
+        final Map.Entry<Object, Object> entry = nextTreeEntry();
+
+        if (entry == null) {
+          currentIterator = null;
+          return null;
+        }
+
+        currentKey = entry.getKey();
+        currentIterator = valuesTransformer.transformFromValue(entry.getValue()).iterator();
+      }
+
+      final OIdentifiable value = currentIterator.next();
+
+      return new Map.Entry<Object, OIdentifiable>() {
+        @Override
+        public Object getKey() {
+          return currentKey;
+        }
+
+        @Override
+        public OIdentifiable getValue() {
+          return value;
+        }
+
+        @Override
+        public OIdentifiable setValue(OIdentifiable value) {
+          throw new UnsupportedOperationException("setValue");
+        }
+      };
+    }
+
+    private Map.Entry<Object, Object> nextTreeEntry() {
+      final Snapshot current = acquireSnapshot();
+      try {
+        if (current != openedSnapshot) {
+          final List<OSBTree<Object, Object>> trees = new ArrayList<>(current.components.size());
+          for (Component component : current.components)
+            trees.add(component.tree);
+
+          entries = new MergingIterator(trees, lastKey == null ? range : range.after(lastKey), true);
+          openedSnapshot = current;
+        }
+
+        entries.prefetchSize = getPrefetchSize();
+        if (!entries.hasNext())
+          return null;
+
+        final Map.Entry<Object, Object> entry = entries.next();
+        lastKey = entry.getKey();
+        return entry;
+      } finally {
+        current.users.decrementAndGet();
+      }
+    }
+  }
+}
@@ -20,24 +20,43 @@
 
 package com.orientechnologies.orient.core.storage.index.engine;
 
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.hash.OBloomFilter;
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.index.OIndexAbstractCursor;
 import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.index.OIndexKeyCursor;
 import com.orientechnologies.orient.core.index.OIndexKeyUpdater;
 import com.orientechnologies.orient.core.iterator.OEmptyIterator;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTree;
-
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTreeBulkLoader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -48,14 +67,49 @@ public class OSBTreeIndexEngine implements OIndexEngine {
 
   public static final String DATA_FILE_EXTENSION        = ".sbt";
   public static final String NULL_BUCKET_FILE_EXTENSION = ".nbt";
-
-  private final OSBTree<Object, Object> sbTree;
-  private       int                     version;
-  private final String                  name;
+  public static final String BLOOM_FILTER_FILE_EXTENSION = ".bfl";
+
+  /**
+   * Name of the flag of index metadata and of the engine property which enables bloom filter of index keys. Bloom filter allows to
+   * answer look ups of absent keys without reading of pages of the tree, it is kept in memory, stored on disk on close of the
+   * storage and rebuilt from the tree in background if it was not stored or is overfilled.
+   */
+  public static final String BLOOM_FILTER = "bloomFilter";
+
+  private static final long MIN_BLOOM_FILTER_KEYS = 1024;
+
+  private final OSBTree<Object, Object>   sbTree;
+  private       int                       version;
+  private final String                    name;
+  private final OAbstractPaginatedStorage storage;
+  private final OAtomicOperationsManager  atomicOperationsManager;
+
+  private OBinarySerializer<Object> keySerializer;
+  private OType[]                   keyTypes;
+
+  private          boolean      bloomFilterEnabled;
+  private          float        falsePositiveRate;
+  /**
+   * Filter of all keys of the tree, or <code>null</code> if filter has to be rebuilt.
+   */
+  private volatile OBloomFilter bloomFilter;
+  private volatile long         bloomFilterCapacity;
+  private final AtomicLong bloomFilterKeys = new AtomicLong();
+
+  /**
+   * Filter which is rebuilt in background, put keys are added to it till it replaces the filter of the tree.
+   */
+  private volatile OBloomFilter rebuiltBloomFilter;
+  private final AtomicLong rebuiltBloomFilterKeys   = new AtomicLong();
+  private final Object     bloomFilterRebuildLock   = new Object();
+  private       Future<?>  bloomFilterRebuild;
+  private volatile boolean bloomFilterRebuildStopped;
 
   public OSBTreeIndexEngine(String name, OAbstractPaginatedStorage storage, int version) {
     this.name = name;
     this.version = version;
+    this.storage = storage;
+    this.atomicOperationsManager = storage.getAtomicOperationsManager();
 
     sbTree = new OSBTree<>(name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
   }
@@ -78,27 +132,42 @@ public class OSBTreeIndexEngine implements OIndexEngine {
       OBinarySerializer keySerializer, int keySize, Set<String> clustersToIndex, Map<String, String> engineProperties,
       ODocument metadata, OEncryption encryption) {
     sbTree.create(keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+
+    if (metadata != null && Boolean.TRUE.equals(metadata.field(BLOOM_FILTER)))
+      engineProperties.put(BLOOM_FILTER, Boolean.TRUE.toString());
+
+    initBloomFilter(keySerializer, keyTypes, engineProperties);
+    if (bloomFilterEnabled)
+      resetBloomFilter(MIN_BLOOM_FILTER_KEYS);
   }
 
   @Override
   public void delete() {
+    stopBloomFilterRebuild();
+
     sbTree.delete();
+    OIndexEngineHelper.deleteFile(bloomFilterPath(name), name);
   }
 
   @Override
   public void deleteWithoutLoad(String indexName) {
     sbTree.deleteWithoutLoad(indexName);
+    OIndexEngineHelper.deleteFile(bloomFilterPath(indexName), indexName);
   }
 
   @Override
   public void load(String indexName, OBinarySerializer valueSerializer, boolean isAutomatic, OBinarySerializer keySerializer,
       OType[] keyTypes, boolean nullPointerSupport, int keySize, Map<String, String> engineProperties, OEncryption encryption) {
     sbTree.load(indexName, keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+
+    initBloomFilter(keySerializer, keyTypes, engineProperties);
+    if (bloomFilterEnabled)
+      loadBloomFilter();
   }
 
   @Override
   public boolean contains(Object key) {
-    return sbTree.get(key) != null;
+    return get(key) != null;
   }
 
   @Override
@@ -114,15 +183,26 @@ public class OSBTreeIndexEngine implements OIndexEngine {
   @Override
   public void clear() {
     sbTree.clear();
+
+    if (bloomFilterEnabled)
+      bloomFilter = null;
   }
 
   @Override
   public void close() {
+    stopBloomFilterRebuild();
+    storeBloomFilter();
     sbTree.close();
   }
 
   @Override
   public Object get(Object key) {
+    if (key != null) {
+      final OBloomFilter filter = bloomFilter;
+      if (filter != null && !filter.mightContain(OIndexEngineHelper.serializeKey(keySerializer, keyTypes, key)))
+        return null;
+    }
+
     return sbTree.get(key);
   }
 
@@ -158,20 +238,79 @@ public class OSBTreeIndexEngine implements OIndexEngine {
 
   @Override
   public void put(Object key, Object value) {
-    sbTree.put(key, value);
+    if (bloomFilterEnabled)
+      putKey(key, () -> {
+        sbTree.put(key, value);
+        return null;
+      });
+    else
+      sbTree.put(key, value);
   }
 
   @Override
   public void update(Object key, OIndexKeyUpdater<Object> updater) {
-    sbTree.update(key, updater, null);
+    if (bloomFilterEnabled)
+      putKey(key, () -> {
+        sbTree.update(key, updater, null);
+        return null;
+      });
+    else
+      sbTree.update(key, updater, null);
   }
 
   @SuppressWarnings("unchecked")
   @Override
   public boolean validatedPut(Object key, OIdentifiable value, Validator<Object, OIdentifiable> validator) {
+    if (bloomFilterEnabled)
+      return putKey(key, () -> sbTree.validatedPut(key, value, (Validator) validator));
+
     return sbTree.validatedPut(key, value, (Validator) validator);
   }
 
+  /**
+   * @see OSBTree#createBulkLoader()
+   */
+  public OSBTreeBulkLoader<Object, Object> createBulkLoader() {
+    // keys are loaded directly into the tree, so filter is rebuilt after the next put, once they are visible in the tree
+    if (bloomFilterEnabled) {
+      awaitBloomFilterRebuild();
+      bloomFilter = null;
+    }
+
+    return sbTree.createBulkLoader();
+  }
+
+  /**
+   * Stores bloom filter of index keys in the directory of the storage, so it is not rebuilt on next load of the index. Filter file
+   * is removed once it is loaded, so filter which is not up to date is never used after crash. Size of the tree is stored together
+   * with the filter, filter which does not match the tree it is loaded for is discarded. Filter which is still rebuilt is not
+   * stored, see {@link #stopBloomFilterRebuild()}.
+   */
+  public void storeBloomFilter() {
+    final OBloomFilter filter = bloomFilter;
+    final Path path = bloomFilterPath(name);
+    if (filter == null || path == null)
+      return;
+
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      output.writeLong(sbTree.size());
+      output.writeLong(bloomFilterCapacity);
+      output.writeLong(bloomFilterKeys.get());
+      filter.write(output);
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Bloom filter of index %s cannot be stored, it will be rebuilt", e, name);
+      OIndexEngineHelper.deleteFile(path, name);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if look ups are filtered by bloom filter, <code>false</code> if filter is disabled or is not rebuilt
+   * yet.
+   */
+  boolean isBloomFilterBuilt() {
+    return bloomFilter != null;
+  }
+
   @Override
   public Object getFirstKey() {
     return sbTree.firstKey();
@@ -243,11 +382,199 @@ public class OSBTreeIndexEngine implements OIndexEngine {
     return true;
   }
 
+  /**
+   * Acquires shared lock in the active atomic operation running on the current thread for this index engine, if changes of the given
+   * keys may be applied concurrently with other atomic operations.
+   *
+   * @return {@code true} if shared lock was acquired, {@code false} if exclusive lock has to be acquired instead.
+   *
+   * @see OSBTree#acquireAtomicSharedLock(Collection)
+   */
+  public boolean acquireAtomicSharedLock(Collection<?> keys) {
+    return sbTree.acquireAtomicSharedLock(keys);
+  }
+
   @Override
   public String getIndexNameByKey(Object key) {
     return name;
   }
 
+  @SuppressWarnings("unchecked")
+  private void initBloomFilter(OBinarySerializer keySerializer, OType[] keyTypes, Map<String, String> engineProperties) {
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+
+    bloomFilterEnabled = engineProperties != null && Boolean.parseBoolean(engineProperties.get(BLOOM_FILTER));
+    falsePositiveRate = storage.getConfiguration().getContextConfiguration()
+        .getValueAsFloat(OGlobalConfiguration.INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE);
+    bloomFilter = null;
+    rebuiltBloomFilter = null;
+    bloomFilterRebuildStopped = false;
+  }
+
+  private void resetBloomFilter(long capacity) {
+    bloomFilterCapacity = capacity;
+    bloomFilterKeys.set(0);
+    bloomFilter = new OBloomFilter(capacity, falsePositiveRate);
+  }
+
+  private void loadBloomFilter() {
+    final Path path = bloomFilterPath(name);
+    if (path == null || !Files.exists(path))
+      return;
+
+    try {
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+        final long size = input.readLong();
+        if (size != sbTree.size()) {
+          OLogManager.instance().warn(this, "Bloom filter of index %s does not match index content, it will be rebuilt", name);
+          return;
+        }
+
+        final long capacity = input.readLong();
+        final long keys = input.readLong();
+        final OBloomFilter filter = OBloomFilter.read(input);
+
+        bloomFilterCapacity = capacity;
+        bloomFilterKeys.set(keys);
+        bloomFilter = filter;
+      } finally {
+        Files.delete(path);
+      }
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Bloom filter of index %s cannot be loaded, it will be rebuilt", e, name);
+      bloomFilter = null;
+    }
+  }
+
+  /**
+   * Puts key into the tree together with the bloom filter. Key is added into the filter before the tree is changed, so filter
+   * never misses keys which are visible in the tree. Filter is rebuilt in background if it was not loaded or is overfilled, look
+   * ups are answered by the tree till the filter is rebuilt.
+   */
+  private <T> T putKey(Object key, Supplier<T> put) {
+    OIndexEngineHelper.startAtomicOperation(atomicOperationsManager, name);
+    try {
+      if (key != null) {
+        if (!atomicOperationsManager.isSharedLockedTillOperationComplete(sbTree))
+          sbTree.acquireAtomicExclusiveLock();
+
+        // filter which is rebuilt is read first, it becomes the filter of the tree before it is cleared
+        final OBloomFilter rebuilt = rebuiltBloomFilter;
+        final OBloomFilter filter = bloomFilter;
+        final byte[] serializedKey = OIndexEngineHelper.serializeKey(keySerializer, keyTypes, key);
+
+        if (rebuilt != null && rebuilt != filter) {
+          rebuilt.add(serializedKey);
+          rebuiltBloomFilterKeys.incrementAndGet();
+        }
+
+        if (filter != null) {
+          filter.add(serializedKey);
+          if (bloomFilterKeys.incrementAndGet() >= bloomFilterCapacity && rebuilt == null)
+            scheduleBloomFilterRebuild();
+        } else if (rebuilt == null)
+          scheduleBloomFilterRebuild();
+      }
+
+      final T result = put.get();
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, false, null);
+      return result;
+    } catch (RuntimeException e) {
+      OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, true, e);
+      throw e;
+    }
+  }
+
+  private void scheduleBloomFilterRebuild() {
+    synchronized (bloomFilterRebuildLock) {
+      if (bloomFilterRebuildStopped || (bloomFilterRebuild != null && !bloomFilterRebuild.isDone()))
+        return;
+
+      bloomFilterRebuild = OIndexEngineHelper.submitMaintenance(this::rebuildBloomFilter);
+    }
+  }
+
+  /**
+   * Waits for the end of running rebuild of bloom filter and prevents scheduling of new ones. Called by the storage before its final
+   * checkpoint, so no atomic operation of the rebuild is active at that moment.
+   */
+  public void stopBloomFilterRebuild() {
+    bloomFilterRebuildStopped = true;
+    awaitBloomFilterRebuild();
+  }
+
+  private void awaitBloomFilterRebuild() {
+    final Future<?> future;
+    synchronized (bloomFilterRebuildLock) {
+      future = bloomFilterRebuild;
+      bloomFilterRebuild = null;
+    }
+
+    if (future == null)
+      return;
+
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OIndexException("Wait of rebuild of bloom filter of index " + name + " was interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new OIndexException("Error during rebuild of bloom filter of index " + name), e.getCause());
+    }
+  }
+
+  /**
+   * Rebuilds bloom filter from keys of the tree without lock of the tree. Filter is published to writers under exclusive lock of
+   * the tree, so atomic operations which put keys without it are finished before the tree is scanned and keys put after that are
+   * added to the filter by writers. Amount of keys of the filter is approximate, it only triggers the next rebuild.
+   */
+  private void rebuildBloomFilter() {
+    try {
+      final OBloomFilter filter;
+      final long capacity;
+
+      OIndexEngineHelper.startAtomicOperation(atomicOperationsManager, name);
+      try {
+        sbTree.acquireAtomicExclusiveLock();
+
+        capacity = Math.max(MIN_BLOOM_FILTER_KEYS, 2 * sbTree.size());
+        filter = new OBloomFilter(capacity, falsePositiveRate);
+
+        rebuiltBloomFilterKeys.set(0);
+        rebuiltBloomFilter = filter;
+      } finally {
+        OIndexEngineHelper.endAtomicOperation(atomicOperationsManager, name, false, null);
+      }
+
+      long keys = 0;
+      final OSBTree.OSBTreeKeyCursor<Object> cursor = sbTree.keyCursor();
+      Object key = cursor.next(-1);
+      while (key != null) {
+        if (bloomFilterRebuildStopped) {
+          rebuiltBloomFilter = null;
+          return;
+        }
+
+        filter.add(OIndexEngineHelper.serializeKey(keySerializer, keyTypes, key));
+        keys++;
+        key = cursor.next(-1);
+      }
+
+      bloomFilterCapacity = capacity;
+      bloomFilterKeys.set(keys + rebuiltBloomFilterKeys.get());
+      bloomFilter = filter;
+      rebuiltBloomFilter = null;
+    } catch (RuntimeException e) {
+      rebuiltBloomFilter = null;
+      OLogManager.instance().error(this, "Error during rebuild of bloom filter of index %s", e, name);
+    }
+  }
+
+  private Path bloomFilterPath(String indexName) {
+    return OIndexEngineHelper.storageFilePath(storage, indexName + BLOOM_FILTER_FILE_EXTENSION);
+  }
+
   private static final class OSBTreeIndexCursor extends OIndexAbstractCursor {
     private final OSBTree.OSBTreeCursor<Object, Object> treeCursor;
     private final ValuesTransformer                     valuesTransformer;
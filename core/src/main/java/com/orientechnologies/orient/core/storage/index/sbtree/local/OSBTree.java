@@ -40,11 +40,13 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -72,6 +74,12 @@ import java.util.concurrent.atomic.AtomicLong;
  * When new key-value pair is added we append binary presentation of this pair to the second part of array which grows from end of
  * page to start, remember value of offset for this pair, and find proper position of this offset inside of first part of array.
  * Such approach allows to minimize amount of memory involved in performing of operations and as result speed up data processing.
+ * <p>
+ * By default tree is locked exclusively till the end of atomic operation which changes it. If tree is locked by {@link
+ * #acquireAtomicSharedLock(Collection)} several atomic operations may change it concurrently. In such case each of them locks only
+ * leaf pages which it changes, size of the tree stored in the root page is updated during commit, and pages which do not have
+ * enough free space for the changes are split in nested atomic operations which are committed immediately, so other atomic
+ * operations never see private changes of internal pages.
  *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
@@ -85,6 +93,17 @@ public class OSBTree<K, V> extends ODurableComponent {
 
   private static final int MAX_PATH_LENGTH = OGlobalConfiguration.SBTREE_MAX_DEPTH.getValueAsInteger();
 
+  /**
+   * Free space which leaf page should have when it is locked by atomic operation which modifies tree in shared mode, and maximum
+   * summary size of entries which such atomic operation may add.
+   */
+  private static final int SHARED_MODE_RESERVED_SPACE = ODurablePage.MAX_PAGE_SIZE_BYTES / 8;
+
+  /**
+   * Amount of pages which are written by single atomic operation during bulk load of the tree.
+   */
+  private static final int BULK_LOAD_PAGES_PER_OPERATION = 256;
+
   private final static long                  ROOT_INDEX       = 0;
   private final        Comparator<? super K> comparator       = ODefaultComparator.INSTANCE;
   private final        String                nullFileExtension;
@@ -266,6 +285,9 @@ public class OSBTree<K, V> extends ODurableComponent {
     if (statistic != null)
       statistic.startIndexEntryUpdateTimer();
     try {
+      if (key != null && atomicOperationsManager.isSharedLockedTillOperationComplete(this))
+        return updateInSharedMode(key, updater, validator);
+
       final OAtomicOperation atomicOperation;
       try {
         atomicOperation = startAtomicOperation(true);
@@ -455,11 +477,92 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * Creates loader which fills this tree, if it is empty, by entries sorted in temporary files.
+   *
+   * @see OSBTreeBulkLoader
+   */
+  public OSBTreeBulkLoader<K, V> createBulkLoader() {
+    return new OSBTreeBulkLoader<K, V>(this, keySerializer, keyTypes, valueSerializer, encryption);
+  }
+
+  /**
+   * Checks size of the key which is going to be bulk loaded and converts it into the form in which it is stored in the tree.
+   */
+  K prepareBulkLoadKey(K key) {
+    final int keySize = keySerializer.getObjectSize(key, (Object[]) keyTypes);
+
+    if (keySize > MAX_KEY_SIZE)
+      throw new OTooBigIndexKeyException(
+          "Key size is more than allowed, operation was canceled. Current key size " + keySize + ", allowed  " + MAX_KEY_SIZE,
+          getName());
+
+    return keySerializer.preprocess(key, (Object[]) keyTypes);
+  }
+
+  /**
+   * Fills the empty tree bottom-up. Leaf pages are filled completely one after another and entries of pages of upper levels are
+   * appended once their children are filled, so each page is written only once and no page is split. Tree is locked exclusively
+   * till the end of the load, but pages are written by a series of nested atomic operations, so changes of the whole load are not
+   * accumulated in memory.
+   *
+   * @param entries entries with non null keys prepared by {@link #prepareBulkLoadKey(Object)} or read from other tree with the same
+   *                key serializer, keys should be unique and sorted in ascending order
+   *
+   * @return amount of loaded entries or <code>-1</code> if tree is not empty and nothing was loaded
+   */
+  public long bulkLoad(Iterator<Map.Entry<K, V>> entries) {
+    startOperation();
+    try {
+      try {
+        startAtomicOperation(true);
+      } catch (IOException e) {
+        throw OException.wrapException(new OSBTreeException("Error during bulk load of sbtree with name " + getName(), this), e);
+      }
+
+      acquireExclusiveLock();
+      try {
+        if (!isEmpty()) {
+          endAtomicOperation(false, null);
+          return -1;
+        }
+
+        final long size = new BulkLoad().load(entries);
+
+        endAtomicOperation(false, null);
+        return size;
+      } catch (IOException e) {
+        rollback(e);
+        throw OException.wrapException(new OSBTreeException("Error during bulk load of sbtree with name " + getName(), this), e);
+      } catch (RuntimeException e) {
+        rollback(e);
+        throw e;
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  private boolean isEmpty() throws IOException {
+    final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+    final OCacheEntry rootCacheEntry = loadPageForRead(atomicOperation, fileId, ROOT_INDEX, false);
+    try {
+      final OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
+          encryption);
+      return rootBucket.getTreeSize() == 0 && rootBucket.isLeaf() && rootBucket.size() == 0;
+    } finally {
+      releasePageFromRead(atomicOperation, rootCacheEntry);
+    }
+  }
+
   public void close(boolean flush) {
     startOperation();
     try {
       acquireExclusiveLock();
       try {
+        cancelReadAhead(fileId);
         readCache.closeFile(fileId, flush, writeCache);
 
         if (nullPointerSupport)
@@ -663,6 +766,9 @@ public class OSBTree<K, V> extends ODurableComponent {
     if (statistic != null)
       statistic.startIndexEntryDeletionTimer();
     try {
+      if (key != null && atomicOperationsManager.isSharedLockedTillOperationComplete(this))
+        return removeInSharedMode(key);
+
       final OAtomicOperation atomicOperation;
       try {
         atomicOperation = startAtomicOperation(true);
@@ -997,6 +1103,271 @@ public class OSBTree<K, V> extends ODurableComponent {
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
   }
 
+  /**
+   * Acquires shared lock in the active atomic operation running on the current thread for this SB-tree if entries with given keys
+   * may be put into the tree or removed from it concurrently with other atomic operations. Only trees of fixed size values, which
+   * are always embedded into leaf pages, are supported, null keys and encrypted keys are not supported. Summary size of entries
+   * should not exceed the space reserved in each leaf page locked by atomic operation, so changes of atomic operation never require
+   * split of pages locked by it.
+   *
+   * @param keys Keys which are going to be changed in the atomic operation.
+   *
+   * @return <code>true</code> if shared lock was acquired, otherwise tree should be locked by {@link #acquireAtomicExclusiveLock()}.
+   */
+  @SuppressWarnings("unchecked")
+  public boolean acquireAtomicSharedLock(Collection<?> keys) {
+    acquireSharedLock();
+    try {
+      if (encryption != null || !valueSerializer.isFixedLength())
+        return false;
+
+      final int valueSize = valueSerializer.getFixedLength();
+      if (valueSize > MAX_EMBEDDED_VALUE_SIZE)
+        return false;
+
+      int entriesSize = 0;
+      for (Object key : keys) {
+        if (key == null)
+          return false;
+
+        final K preprocessedKey = keySerializer.preprocess((K) key, (Object[]) keyTypes);
+        final int keySize = keySerializer.getObjectSize(preprocessedKey, (Object[]) keyTypes);
+        if (keySize > MAX_KEY_SIZE)
+          return false;
+
+        entriesSize += OSBTreeBucket.leafEntrySize(keySize, valueSize);
+        if (entriesSize > SHARED_MODE_RESERVED_SPACE)
+          return false;
+      }
+    } finally {
+      releaseSharedLock();
+    }
+
+    atomicOperationsManager.acquireSharedLockTillOperationComplete(this);
+    return true;
+  }
+
+  @Override
+  protected void applyDeferredChanges(OAtomicOperation atomicOperation) throws IOException {
+    final long sizeDiff = atomicOperation.getDeferredCounterChange(getLockName());
+    if (sizeDiff != 0)
+      updateSize(sizeDiff, atomicOperation);
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean updateInSharedMode(K key, OIndexKeyUpdater<V> updater, OIndexEngine.Validator<K, V> validator) {
+    final OAtomicOperation atomicOperation;
+    try {
+      atomicOperation = atomicOperationsManager.startAtomicOperation((String) null, true);
+    } catch (IOException e) {
+      throw OException.wrapException(new OSBTreeException("Error during sbtree entrie put", this), e);
+    }
+
+    try {
+      final int keySize = keySerializer.getObjectSize(key, (Object[]) keyTypes);
+
+      if (keySize > MAX_KEY_SIZE)
+        throw new OTooBigIndexKeyException(
+            "Key size is more than allowed, operation was canceled. Current key size " + keySize + ", allowed  " + MAX_KEY_SIZE,
+            getName());
+
+      key = keySerializer.preprocess(key, (Object[]) keyTypes);
+
+      final boolean ignored;
+      final BucketSearchResult bucketSearchResult = findAndLockBucket(key, true, atomicOperation);
+      try {
+        final long pageIndex = bucketSearchResult.getLastPathItem();
+        final OCacheEntry keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+        try {
+          final OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes,
+              valueSerializer, encryption);
+          final V oldValue = bucketSearchResult.itemIndex > -1 ?
+              readValue(keyBucket.getValue(bucketSearchResult.itemIndex), atomicOperation) :
+              null;
+
+          final OIndexUpdateAction<V> updatedValue = updater.update(oldValue, bonsayFileId);
+          if (updatedValue.isChange()) {
+            V value = updatedValue.getValue();
+
+            final Object result = validator != null ? validator.validate(key, oldValue, value) : value;
+            ignored = result == OIndexEngine.Validator.IGNORE;
+
+            if (!ignored) {
+              value = (V) result;
+
+              final OSBTreeValue<V> treeValue = new OSBTreeValue<V>(false, -1, value);
+              if (bucketSearchResult.itemIndex >= 0) {
+                if (keyBucket.updateValue(bucketSearchResult.itemIndex, treeValue) < 0) {
+                  keyBucket.remove(bucketSearchResult.itemIndex);
+                  addEntryInSharedMode(keyBucket, pageIndex, bucketSearchResult.itemIndex, key, treeValue);
+                }
+              } else {
+                addEntryInSharedMode(keyBucket, pageIndex, -bucketSearchResult.itemIndex - 1, key, treeValue);
+                atomicOperation.addDeferredCounterChange(getLockName(), 1);
+              }
+            }
+          } else {
+            ignored = false;
+
+            if (updatedValue.isRemove() && bucketSearchResult.itemIndex >= 0) {
+              keyBucket.remove(bucketSearchResult.itemIndex);
+              atomicOperation.addDeferredCounterChange(getLockName(), -1);
+            }
+          }
+        } finally {
+          releasePageFromWrite(atomicOperation, keyBucketCacheEntry);
+        }
+      } finally {
+        releaseExclusiveLock();
+      }
+
+      endAtomicOperation(false, null);
+      return !ignored;
+    } catch (IOException e) {
+      rollback(e);
+      throw OException.wrapException(new OSBTreeException("Error during index update with key " + key, this), e);
+    } catch (RuntimeException e) {
+      rollback(e);
+      throw e;
+    }
+  }
+
+  private void addEntryInSharedMode(OSBTreeBucket<K, V> keyBucket, long pageIndex, int insertionIndex, K key,
+      OSBTreeValue<V> treeValue) throws IOException {
+    if (!keyBucket.addEntry(insertionIndex, new OSBTreeBucket.SBTreeEntry<K, V>(-1, -1, key, treeValue), true))
+      throw new OSBTreeException(
+          "Page " + pageIndex + " does not have enough free space for the entry with key " + key
+              + ", page should have been split before it was locked by atomic operation", this);
+  }
+
+  private V removeInSharedMode(K key) {
+    final OAtomicOperation atomicOperation;
+    try {
+      atomicOperation = atomicOperationsManager.startAtomicOperation((String) null, true);
+    } catch (IOException e) {
+      throw OException.wrapException(new OSBTreeException("Error during sbtree entrie remove", this), e);
+    }
+
+    try {
+      key = keySerializer.preprocess(key, (Object[]) keyTypes);
+
+      V removedValue = null;
+      final BucketSearchResult bucketSearchResult = findAndLockBucket(key, false, atomicOperation);
+      try {
+        if (bucketSearchResult.itemIndex >= 0) {
+          final OCacheEntry keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, bucketSearchResult.getLastPathItem(),
+              false);
+          try {
+            final OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes,
+                valueSerializer, encryption);
+
+            removedValue = readValue(keyBucket.getEntry(bucketSearchResult.itemIndex).value, atomicOperation);
+            keyBucket.remove(bucketSearchResult.itemIndex);
+          } finally {
+            releasePageFromWrite(atomicOperation, keyBucketCacheEntry);
+          }
+
+          atomicOperation.addDeferredCounterChange(getLockName(), -1);
+        }
+      } finally {
+        releaseExclusiveLock();
+      }
+
+      endAtomicOperation(false, null);
+      return removedValue;
+    } catch (IOException e) {
+      rollback(e);
+      throw OException
+          .wrapException(new OSBTreeException("Error during removing key " + key + " from sbtree " + getName(), this), e);
+    } catch (RuntimeException e) {
+      rollback(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Finds leaf page which contains the key and locks it till the end of atomic operation which modifies the tree in shared mode.
+   * Lock of the page held by other atomic operation is waited for without exclusive lock of the tree, the search is repeated after
+   * that because page may be split meanwhile. Exclusive lock of the tree is held when method returns, it has to be released by
+   * caller.
+   *
+   * @param reserveSpace If <code>true</code> and the page is not changed yet by current atomic operation, but has less than {@link
+   *                     #SHARED_MODE_RESERVED_SPACE} bytes of free space, the page is split in nested atomic operation and the
+   *                     search is repeated. The right sibling of the page, whose link to the left sibling is changed by split, is
+   *                     locked too.
+   */
+  private BucketSearchResult findAndLockBucket(K key, boolean reserveSpace, OAtomicOperation atomicOperation) throws IOException {
+    long pageToWait = -1;
+
+    while (true) {
+      if (pageToWait >= 0)
+        atomicOperationsManager.acquirePageLockTillOperationComplete(this, pageToWait);
+
+      acquireExclusiveLock();
+      boolean found = false;
+      try {
+        final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
+        final long pageIndex = bucketSearchResult.getLastPathItem();
+
+        if (!atomicOperationsManager.tryAcquirePageLockTillOperationComplete(this, pageIndex)) {
+          pageToWait = pageIndex;
+          continue;
+        }
+
+        if (reserveSpace && !atomicOperation.isPageChanged(fileId, pageIndex)) {
+          final int freeSpace;
+          final int bucketSize;
+          final long rightSibling;
+
+          final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+          try {
+            final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+                encryption);
+            freeSpace = bucket.getFreeSpace();
+            bucketSize = bucket.size();
+            rightSibling = bucket.getRightSibling();
+          } finally {
+            releasePageFromRead(atomicOperation, cacheEntry);
+          }
+
+          if (freeSpace < SHARED_MODE_RESERVED_SPACE && bucketSize > 1) {
+            if (rightSibling >= 0 && !atomicOperationsManager.tryAcquirePageLockTillOperationComplete(this, rightSibling)) {
+              pageToWait = rightSibling;
+              continue;
+            }
+
+            // sibling which was changed by this atomic operation can not be changed by split, the page should have enough space
+            // anyway, because keys are changed in sorted order and space is reserved when page is locked first time
+            if (rightSibling < 0 || !atomicOperation.isPageChanged(fileId, rightSibling)) {
+              splitBucketInNestedOperation(bucketSearchResult, key);
+              pageToWait = -1;
+              continue;
+            }
+          }
+        }
+
+        found = true;
+        return bucketSearchResult;
+      } finally {
+        if (!found)
+          releaseExclusiveLock();
+      }
+    }
+  }
+
+  private void splitBucketInNestedOperation(BucketSearchResult bucketSearchResult, K key) throws IOException {
+    final OAtomicOperation atomicOperation = atomicOperationsManager.startNestedAtomicOperation();
+    try {
+      final int keyIndex = bucketSearchResult.itemIndex >= 0 ? bucketSearchResult.itemIndex : -bucketSearchResult.itemIndex - 1;
+      splitBucket(bucketSearchResult.path, keyIndex, key, atomicOperation);
+    } catch (IOException | RuntimeException e) {
+      rollback(e);
+      throw e;
+    }
+
+    endAtomicOperation(false, null);
+  }
+
   private void checkNullSupport(K key) {
     if (key == null && !nullPointerSupport)
       throw new OSBTreeException("Null keys are not supported.", this);
@@ -1534,7 +1905,11 @@ public class OSBTree<K, V> extends ODurableComponent {
       final int bucketSize = bucketToSplit.size();
 
       int indexToSplit = bucketSize >>> 1;
-      final K separationKey = bucketToSplit.getKey(indexToSplit);
+      final K separationKey;
+      if (splitLeaf && indexToSplit > 0)
+        separationKey = separationKey(bucketToSplit.getKey(indexToSplit - 1), bucketToSplit.getKey(indexToSplit));
+      else
+        separationKey = bucketToSplit.getKey(indexToSplit);
       final List<OSBTreeBucket.SBTreeEntry<K, V>> rightEntries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>(indexToSplit);
 
       final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1554,6 +1929,53 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * Separation key of leaf buckets is the shortest key which is bigger than the last key of the left bucket and is not bigger than the
+   * first key of the right bucket, so parts of keys which are not needed to route search are not stored in non-leaf buckets. Keys
+   * are shortened if they are strings or composite keys which differ only by last string item.
+   */
+  @SuppressWarnings("unchecked")
+  private K separationKey(K leftKey, K rightKey) {
+    if (leftKey instanceof String && rightKey instanceof String)
+      return (K) separationString((String) leftKey, (String) rightKey);
+
+    if (leftKey instanceof OCompositeKey && rightKey instanceof OCompositeKey) {
+      final List<Object> leftKeys = ((OCompositeKey) leftKey).getKeys();
+      final List<Object> rightKeys = ((OCompositeKey) rightKey).getKeys();
+
+      final int size = rightKeys.size();
+      if (size == 0 || leftKeys.size() != size)
+        return rightKey;
+
+      for (int i = 0; i < size - 1; i++)
+        if (ODefaultComparator.INSTANCE.compare(leftKeys.get(i), rightKeys.get(i)) != 0)
+          return rightKey;
+
+      final Object leftItem = leftKeys.get(size - 1);
+      final Object rightItem = rightKeys.get(size - 1);
+      if (!(leftItem instanceof String && rightItem instanceof String))
+        return rightKey;
+
+      final OCompositeKey separationKey = new OCompositeKey(rightKeys.subList(0, size - 1));
+      separationKey.addKey(separationString((String) leftItem, (String) rightItem));
+      return (K) separationKey;
+    }
+
+    return rightKey;
+  }
+
+  private static String separationString(String left, String right) {
+    final int maxLength = Math.min(left.length(), right.length());
+    int commonLength = 0;
+    while (commonLength < maxLength && left.charAt(commonLength) == right.charAt(commonLength))
+      commonLength++;
+
+    if (commonLength + 1 >= right.length())
+      return right;
+
+    return right.substring(0, commonLength + 1);
+  }
+
   private BucketSearchResult splitNonRootBucket(List<Long> path, int keyIndex, K keyToInsert, long pageIndex,
       OSBTreeBucket<K, V> bucketToSplit, boolean splitLeaf, int indexToSplit, K separationKey,
       List<OSBTreeBucket.SBTreeEntry<K, V>> rightEntries, OAtomicOperation atomicOperation) throws IOException {
@@ -1845,6 +2267,259 @@ public class OSBTree<K, V> extends ODurableComponent {
     K next(int prefetchSize);
   }
 
+  /**
+   * State of the level of the tree during bulk load. Each level has a single page which is filled at the moment. Pages of internal
+   * levels can not be started without entry, so once such page is full, the separator key which does not fit into it is kept till
+   * the next child of the level is completed, and the new page is started by the entry which contains both of them.
+   */
+  private static final class BulkLoadLevel<K> {
+    private final boolean leaf;
+    private       long    pageIndex;
+    private       long    lastChild = -1;
+    private       K       pendingKey;
+
+    private BulkLoadLevel(boolean leaf, long pageIndex) {
+      this.leaf = leaf;
+      this.pageIndex = pageIndex;
+    }
+  }
+
+  /**
+   * Bottom-up load of the empty tree. The topmost level always occupies the root page, once the page of the topmost level is full its
+   * content is moved to the new page and the root page becomes the page of the new topmost level.
+   */
+  private final class BulkLoad {
+    private final List<BulkLoadLevel<K>> levels = new ArrayList<BulkLoadLevel<K>>();
+
+    private OAtomicOperation atomicOperation;
+    private int              pagesInOperation;
+    private K                lastKey;
+    private long             size;
+
+    private long load(Iterator<Map.Entry<K, V>> entries) throws IOException {
+      startNestedOperation();
+      try {
+        levels.add(new BulkLoadLevel<K>(true, ROOT_INDEX));
+
+        while (entries.hasNext())
+          addLeafEntry(entries.next());
+
+        completeLevels();
+        setSize(size, atomicOperation);
+
+        atomicOperation = null;
+        endAtomicOperation(false, null);
+      } catch (IOException | RuntimeException e) {
+        if (atomicOperation != null)
+          rollback(e);
+        throw e;
+      }
+
+      return size;
+    }
+
+    private void addLeafEntry(Map.Entry<K, V> entry) throws IOException {
+      final K key = entry.getKey();
+      if (lastKey != null && comparator.compare(lastKey, key) >= 0)
+        throw new OSBTreeException(
+            "Keys of bulk load should be unique and sorted in ascending order, but key " + key + " follows key " + lastKey,
+            OSBTree.this);
+
+      final V value = entry.getValue();
+      final boolean createLinkToTheValue = valueSerializer.getObjectSize(value) > MAX_EMBEDDED_VALUE_SIZE;
+      final long valueLink = createLinkToTheValue ? createLinkToTheValue(value, atomicOperation) : -1;
+      final OSBTreeBucket.SBTreeEntry<K, V> treeEntry = new OSBTreeBucket.SBTreeEntry<K, V>(-1, -1, key,
+          new OSBTreeValue<V>(createLinkToTheValue, valueLink, createLinkToTheValue ? null : value));
+
+      final BulkLoadLevel<K> level = levels.get(0);
+
+      boolean added;
+      OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, level.pageIndex, false);
+      try {
+        final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+            encryption);
+        added = bucket.addEntry(bucket.size(), treeEntry, false);
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+
+      if (!added) {
+        startNextOperationIfNeeded();
+        if (level.pageIndex == ROOT_INDEX)
+          moveRootContent(level);
+
+        final long fullPageIndex = level.pageIndex;
+
+        cacheEntry = addPage(atomicOperation, fileId);
+        pagesInOperation++;
+        try {
+          final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, true, keySerializer, keyTypes, valueSerializer,
+              encryption);
+          added = bucket.addEntry(0, treeEntry, false);
+          assert added;
+
+          bucket.setLeftSibling(fullPageIndex);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        level.pageIndex = cacheEntry.getPageIndex();
+
+        cacheEntry = loadPageForWrite(atomicOperation, fileId, fullPageIndex, false);
+        try {
+          final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+              encryption);
+          bucket.setRightSibling(level.pageIndex);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        addChild(1, separationKey(lastKey, key), fullPageIndex, level.pageIndex);
+      }
+
+      lastKey = key;
+      size++;
+    }
+
+    private void addChild(int levelIndex, K key, long leftChild, long rightChild) throws IOException {
+      final BulkLoadLevel<K> level = levels.get(levelIndex);
+
+      if (level.pendingKey != null) {
+        startNextOperationIfNeeded();
+        if (level.pageIndex == ROOT_INDEX)
+          moveRootContent(level);
+
+        final long fullPageIndex = level.pageIndex;
+        final K separator = level.pendingKey;
+
+        level.pageIndex = addInternalPage(new OSBTreeBucket.SBTreeEntry<K, V>(level.lastChild, rightChild, key, null));
+        level.lastChild = rightChild;
+        level.pendingKey = null;
+
+        addChild(levelIndex + 1, separator, fullPageIndex, level.pageIndex);
+        return;
+      }
+
+      final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, level.pageIndex, false);
+      try {
+        final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+            encryption);
+        if (!bucket.addEntry(bucket.size(), new OSBTreeBucket.SBTreeEntry<K, V>(leftChild, rightChild, key, null), false))
+          level.pendingKey = key;
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+
+      level.lastChild = rightChild;
+    }
+
+    /**
+     * Completes pages of internal levels which have pending separator keys. Last entry of the full page is moved to the new page, so
+     * the new page contains both the last child of the full page and the child which follows pending separator.
+     */
+    private void completeLevels() throws IOException {
+      for (int levelIndex = 1; levelIndex < levels.size(); levelIndex++) {
+        final BulkLoadLevel<K> level = levels.get(levelIndex);
+        if (level.pendingKey == null)
+          continue;
+
+        startNextOperationIfNeeded();
+        if (level.pageIndex == ROOT_INDEX)
+          moveRootContent(level);
+
+        final long fullPageIndex = level.pageIndex;
+        final OSBTreeBucket.SBTreeEntry<K, V> lastEntry;
+
+        final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, fullPageIndex, false);
+        try {
+          final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+              encryption);
+          lastEntry = bucket.getEntry(bucket.size() - 1);
+          bucket.shrink(bucket.size() - 1);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        level.pageIndex = addInternalPage(
+            new OSBTreeBucket.SBTreeEntry<K, V>(lastEntry.rightChild, level.lastChild, level.pendingKey, null));
+        level.pendingKey = null;
+
+        addChild(levelIndex + 1, lastEntry.key, fullPageIndex, level.pageIndex);
+      }
+    }
+
+    private long addInternalPage(OSBTreeBucket.SBTreeEntry<K, V> entry) throws IOException {
+      final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+      pagesInOperation++;
+      try {
+        final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, false, keySerializer, keyTypes, valueSerializer,
+            encryption);
+        final boolean added = bucket.addEntry(0, entry, false);
+        assert added;
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+
+      return cacheEntry.getPageIndex();
+    }
+
+    /**
+     * Moves content of the root page which is full into the new page and makes root page the empty page of the new topmost level.
+     */
+    private void moveRootContent(BulkLoadLevel<K> level) throws IOException {
+      assert levels.get(levels.size() - 1) == level;
+
+      final OCacheEntry rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
+      try {
+        OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
+            encryption);
+
+        final List<OSBTreeBucket.SBTreeEntry<K, V>> entries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>(rootBucket.size());
+        for (int i = 0; i < rootBucket.size(); i++)
+          entries.add(rootBucket.getEntry(i));
+
+        final long freeListPage = rootBucket.getValuesFreeListFirstIndex();
+
+        final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+        pagesInOperation++;
+        try {
+          final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, level.leaf, keySerializer, keyTypes,
+              valueSerializer, encryption);
+          bucket.addAll(entries);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        level.pageIndex = cacheEntry.getPageIndex();
+
+        rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, false, keySerializer, keyTypes, valueSerializer, encryption);
+        rootBucket.setValuesFreeListFirstIndex(freeListPage);
+      } finally {
+        releasePageFromWrite(atomicOperation, rootCacheEntry);
+      }
+
+      levels.add(new BulkLoadLevel<K>(false, ROOT_INDEX));
+    }
+
+    private void startNextOperationIfNeeded() throws IOException {
+      if (pagesInOperation < BULK_LOAD_PAGES_PER_OPERATION)
+        return;
+
+      atomicOperation = null;
+      endAtomicOperation(false, null);
+
+      startNestedOperation();
+      pagesInOperation = 0;
+    }
+
+    private void startNestedOperation() throws IOException {
+      atomicOperation = atomicOperationsManager.startNestedAtomicOperation();
+
+      // registers file of the tree in atomic operation, so pages of values may be added before any page of the tree is loaded
+      getFilledUpTo(atomicOperation, fileId);
+    }
+  }
+
   private static class BucketSearchResult {
     private final int             itemIndex;
     private final ArrayList<Long> path;
@@ -1917,7 +2592,7 @@ public class OSBTree<K, V> extends ODurableComponent {
                 break;
               }
 
-              final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+              final OCacheEntry cacheEntry = loadPageForScan(atomicOperation, fileId, pageIndex);
               try {
                 final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
                     encryption);
@@ -2049,7 +2724,7 @@ public class OSBTree<K, V> extends ODurableComponent {
                 break;
               }
 
-              final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+              final OCacheEntry cacheEntry = loadPageForScan(atomicOperation, fileId, pageIndex);
               try {
                 final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
                     encryption);
@@ -21,18 +21,35 @@
 package com.orientechnologies.orient.core.storage.index.sbtree.local;
 
 import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OBooleanSerializer;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.ODoubleSerializer;
+import com.orientechnologies.common.serialization.types.OFloatSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.ONullSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.OBinarySerializerFactory;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OSimpleKeySerializer;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -60,7 +77,33 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
   private static final int POSITIONS_ARRAY_OFFSET = FREE_VALUES_LIST_OFFSET + OLongSerializer.LONG_SIZE;
 
+  /**
+   * Values of flag stored at {@link #IS_LEAF_OFFSET}. Leaf buckets with compressed keys store common prefix of all their keys only
+   * once at the end of the page and entries of such buckets contain only remaining parts of keys. Leaf buckets without compression,
+   * created before compression was introduced, are still read and updated in their own format and are converted once they are
+   * rewritten during split.
+   */
+  private static final byte NON_LEAF_BUCKET               = 0;
+  private static final byte LEAF_BUCKET                   = 1;
+  private static final byte PREFIX_COMPRESSED_LEAF_BUCKET = 2;
+
+  /**
+   * Size of serialized prefix of keys of compressed leaf bucket, prefix itself precedes its size.
+   */
+  private static final int PREFIX_SIZE_OFFSET = MAX_PAGE_SIZE_BYTES - OIntegerSerializer.INT_SIZE;
+
+  /**
+   * Returned by in place comparison of keys if key has to be deserialized to be compared.
+   */
+  private static final int KEY_IS_NOT_COMPARABLE = Integer.MIN_VALUE;
+
   private final boolean isLeaf;
+  private       boolean prefixCompressed;
+
+  /**
+   * Common prefix of keys of compressed leaf bucket, it is read from the page on first access.
+   */
+  private K prefix;
 
   private final OBinarySerializer<K> keySerializer;
   private final OBinarySerializer<V> valueSerializer;
@@ -81,11 +124,16 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     this.keyTypes = keyTypes;
     this.valueSerializer = valueSerializer;
     this.encryption = encryption;
+    this.prefixCompressed = isLeaf && isPrefixCompressionSupported();
 
     setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
     setIntValue(SIZE_OFFSET, 0);
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+    if (prefixCompressed) {
+      setByteValue(IS_LEAF_OFFSET, PREFIX_COMPRESSED_LEAF_BUCKET);
+      setPrefix(emptyPrefix());
+    } else
+      setByteValue(IS_LEAF_OFFSET, isLeaf ? LEAF_BUCKET : NON_LEAF_BUCKET);
     setLongValue(LEFT_SIBLING_OFFSET, -1);
     setLongValue(RIGHT_SIBLING_OFFSET, -1);
 
@@ -103,7 +151,9 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     this.keyTypes = keyTypes;
     this.encryption = encryption;
 
-    this.isLeaf = getByteValue(IS_LEAF_OFFSET) > 0;
+    final byte bucketType = getByteValue(IS_LEAF_OFFSET);
+    this.isLeaf = bucketType > 0;
+    this.prefixCompressed = bucketType == PREFIX_COMPRESSED_LEAF_BUCKET;
     this.keySerializer = keySerializer;
     this.valueSerializer = valueSerializer;
   }
@@ -134,8 +184,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
     while (low <= high) {
       int mid = (low + high) >>> 1;
-      K midVal = getKey(mid);
-      int cmp = comparator.compare(midVal, key);
+      int cmp = compareKey(mid, key);
 
       if (cmp < 0)
         low = mid + 1;
@@ -147,6 +196,238 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return -(low + 1); // key not found.
   }
 
+  /**
+   * Compares key of entry with given index with passed in key. If it is possible key stored in page is compared in place without
+   * deserialization, so search in bucket does not create objects for every key it passes through.
+   */
+  private int compareKey(int index, K key) {
+    if (encryption == null && key != null) {
+      int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+
+      if (!isLeaf)
+        entryPosition += 2 * OLongSerializer.LONG_SIZE;
+
+      final int result;
+      if (prefixCompressed)
+        result = compareCompressedKey(entryPosition, key);
+      else
+        result = compareSerializedKey(keySerializer.getId(), entryPosition, key);
+
+      if (result != KEY_IS_NOT_COMPARABLE)
+        return result;
+    }
+
+    return comparator.compare(getKey(index), key);
+  }
+
+  /**
+   * Compares serialized key which is stored in page at given position with passed in key using the same rules as {@link
+   * ODefaultComparator} does.
+   *
+   * @return {@link #KEY_IS_NOT_COMPARABLE} if key is serialized by serializer which is not supported by in place comparison or type of
+   * passed in key does not match serializer, so key has to be deserialized to be compared.
+   */
+  private int compareSerializedKey(byte serializerId, int position, Object key) {
+    switch (serializerId) {
+    case OBooleanSerializer.ID:
+      if (key instanceof Boolean)
+        return Boolean.compare(getByteValue(position) > 0, (Boolean) key);
+      break;
+    case OByteSerializer.ID:
+      if (key instanceof Byte)
+        return Byte.compare(getByteValue(position), (Byte) key);
+      break;
+    case OShortSerializer.ID:
+      if (key instanceof Short)
+        return Short.compare(getShortValue(position), (Short) key);
+      break;
+    case OIntegerSerializer.ID:
+      if (key instanceof Integer)
+        return Integer.compare(getIntValue(position), (Integer) key);
+      break;
+    case OLongSerializer.ID:
+      if (key instanceof Long)
+        return Long.compare(getLongValue(position), (Long) key);
+      break;
+    case OFloatSerializer.ID:
+      if (key instanceof Float)
+        return Float.compare(Float.intBitsToFloat(getIntValue(position)), (Float) key);
+      break;
+    case ODoubleSerializer.ID:
+      if (key instanceof Double)
+        return Double.compare(Double.longBitsToDouble(getLongValue(position)), (Double) key);
+      break;
+    case OStringSerializer.ID:
+      if (key instanceof String)
+        return compareSerializedString(position, (String) key);
+      break;
+    case OLinkSerializer.ID:
+      if (key instanceof OIdentifiable)
+        return compareSerializedLink(position, ((OIdentifiable) key).getIdentity());
+      break;
+    case OSimpleKeySerializer.ID:
+      return compareSerializedKey(getByteValue(position), position + OBinarySerializerFactory.TYPE_IDENTIFIER_SIZE, key);
+    case OCompositeKeySerializer.ID:
+      if (key instanceof OCompositeKey)
+        return compareSerializedCompositeKey(position, ((OCompositeKey) key).getKeys(), 0);
+      break;
+    }
+
+    return KEY_IS_NOT_COMPARABLE;
+  }
+
+  /**
+   * Compares key stored in compressed leaf bucket at given position with passed in key, the common prefix of keys of the bucket is
+   * compared first and then the rest of stored key is compared with the rest of passed in key.
+   */
+  private int compareCompressedKey(int position, K key) {
+    final int prefixPosition = getPrefixPosition();
+
+    if (key instanceof String) {
+      final String stringKey = (String) key;
+
+      final int prefixLength = getIntValue(prefixPosition);
+      int result = compareSerializedChars(prefixPosition + OIntegerSerializer.INT_SIZE, prefixLength, stringKey, 0);
+      if (result != 0)
+        return result;
+
+      final int suffixLength = getIntValue(position);
+      result = compareSerializedChars(position + OIntegerSerializer.INT_SIZE, suffixLength, stringKey, prefixLength);
+      if (result != 0)
+        return result;
+
+      return prefixLength + suffixLength - stringKey.length();
+    }
+
+    if (key instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) key).getKeys();
+
+      final int result = compareSerializedCompositeKey(prefixPosition, keys, 0);
+      if (result != 0)
+        return result;
+
+      return compareSerializedCompositeKey(position, keys, getIntValue(prefixPosition + OIntegerSerializer.INT_SIZE));
+    }
+
+    return KEY_IS_NOT_COMPARABLE;
+  }
+
+  private int compareSerializedString(int position, String key) {
+    final int length = getIntValue(position);
+
+    final int result = compareSerializedChars(position + OIntegerSerializer.INT_SIZE, length, key, 0);
+    if (result != 0)
+      return result;
+
+    return length - key.length();
+  }
+
+  /**
+   * Compares serialized characters with characters of passed in key which start from given index, till one of them ends.
+   */
+  private int compareSerializedChars(int position, int length, String key, int keyIndex) {
+    final int minLength = Math.min(length, key.length() - keyIndex);
+    for (int i = 0; i < minLength; i++) {
+      final char character = (char) ((0xFF & getByteValue(position)) | ((0xFF & getByteValue(position + 1)) << 8));
+      position += 2;
+
+      final char keyCharacter = key.charAt(keyIndex + i);
+      if (character != keyCharacter)
+        return character - keyCharacter;
+    }
+
+    return 0;
+  }
+
+  private int compareSerializedLink(int position, ORID key) {
+    final int clusterId = getShortValue(position);
+    if (clusterId != key.getClusterId())
+      return clusterId > key.getClusterId() ? 1 : -1;
+
+    position += OShortSerializer.SHORT_SIZE;
+
+    // cluster position is stored in big endian order whatever the native order is
+    long clusterPosition = 0;
+    for (int i = 0; i < OLongSerializer.LONG_SIZE; i++)
+      clusterPosition = (clusterPosition << 8) | (0xFF & getByteValue(position + i));
+
+    return Long.compare(clusterPosition, key.getClusterPosition());
+  }
+
+  /**
+   * Compares items of serialized composite key with items of passed in key which start from given index, till one of them ends.
+   */
+  private int compareSerializedCompositeKey(int position, List<Object> keys, int keyIndex) {
+    position += OIntegerSerializer.INT_SIZE;
+
+    final int keysSize = getIntValue(position);
+    position += OIntegerSerializer.INT_SIZE;
+
+    final int minSize = Math.min(keysSize, keys.size() - keyIndex);
+
+    for (int i = 0; i < minSize; i++) {
+      final Object keyItem = keys.get(keyIndex + i);
+
+      if (keyItem instanceof OAlwaysGreaterKey)
+        return -1;
+
+      if (keyItem instanceof OAlwaysLessKey)
+        return 1;
+
+      final byte serializerId = getByteValue(position);
+      position += OBinarySerializerFactory.TYPE_IDENTIFIER_SIZE;
+
+      if (serializerId == ONullSerializer.ID) {
+        if (keyItem != null)
+          return -1;
+
+        continue;
+      }
+
+      if (keyItem == null)
+        return 1;
+
+      final int result = compareSerializedKey(serializerId, position, keyItem);
+      if (result != 0)
+        return result;
+
+      position += serializedItemSize(serializerId, position);
+    }
+
+    return 0;
+  }
+
+  /**
+   * @return Size of item of composite key which was already compared in place, so its serializer is one of supported by {@link
+   * #compareSerializedKey(byte, int, Object)}.
+   */
+  private int serializedItemSize(byte serializerId, int position) {
+    switch (serializerId) {
+    case OBooleanSerializer.ID:
+    case OByteSerializer.ID:
+      return OByteSerializer.BYTE_SIZE;
+    case OShortSerializer.ID:
+      return OShortSerializer.SHORT_SIZE;
+    case OIntegerSerializer.ID:
+    case OFloatSerializer.ID:
+      return OIntegerSerializer.INT_SIZE;
+    case OLongSerializer.ID:
+    case ODoubleSerializer.ID:
+      return OLongSerializer.LONG_SIZE;
+    case OLinkSerializer.ID:
+      return OLinkSerializer.RID_SIZE;
+    case OStringSerializer.ID:
+      return getIntValue(position) * 2 + OIntegerSerializer.INT_SIZE;
+    case OSimpleKeySerializer.ID:
+      return OBinarySerializerFactory.TYPE_IDENTIFIER_SIZE + serializedItemSize(getByteValue(position),
+          position + OBinarySerializerFactory.TYPE_IDENTIFIER_SIZE);
+    case OCompositeKeySerializer.ID:
+      return getIntValue(position);
+    default:
+      throw new IllegalStateException("Size of key serialized by serializer with id " + serializerId + " is unknown");
+    }
+  }
+
   public long remove(int entryIndex) throws IOException {
     int entryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
     int keySize;
@@ -210,6 +491,29 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return getIntValue(SIZE_OFFSET);
   }
 
+  /**
+   * @return Amount of bytes available for new entries together with their positions in the array of offsets. For compressed leaf
+   * bucket it is the amount which is left after the insertion of the key which does not share prefix with keys of the bucket, such
+   * insertion extends all stored keys by the prefix.
+   */
+  public int getFreeSpace() {
+    final int size = size();
+    final int freeSpace = getIntValue(FREE_POINTER_OFFSET) - size * OIntegerSerializer.INT_SIZE - POSITIONS_ARRAY_OFFSET;
+
+    if (!prefixCompressed || size < 2)
+      return freeSpace;
+
+    return freeSpace - (size - 1) * (getIntValue(PREFIX_SIZE_OFFSET) - keySerializer.getObjectSize(emptyPrefix()));
+  }
+
+  /**
+   * @return Amount of bytes occupied in leaf bucket by entry with key and embedded value of given sizes, including its position in
+   * the array of offsets.
+   */
+  static int leafEntrySize(int keySize, int valueSize) {
+    return keySize + valueSize + OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE;
+  }
+
   public SBTreeEntry<K, V> getEntry(int entryIndex) {
     int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
 
@@ -217,6 +521,8 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
       K key;
       if (encryption == null) {
         key = deserializeFromDirectMemory(keySerializer, entryPosition);
+        if (prefixCompressed)
+          key = joinPrefix(getPrefix(), key);
 
         entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
       } else {
@@ -306,7 +612,11 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
       entryPosition += 2 * OLongSerializer.LONG_SIZE;
 
     if (encryption == null) {
-      return deserializeFromDirectMemory(keySerializer, entryPosition);
+      final K key = deserializeFromDirectMemory(keySerializer, entryPosition);
+      if (prefixCompressed)
+        return joinPrefix(getPrefix(), key);
+
+      return key;
     } else {
       final int encryptedSize = getIntValue(entryPosition);
       entryPosition += OIntegerSerializer.INT_SIZE;
@@ -321,9 +631,21 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return isLeaf;
   }
 
+  /**
+   * Adds sorted entries to the empty bucket, compressed leaf bucket stores common prefix of all added keys.
+   */
   public void addAll(List<SBTreeEntry<K, V>> entries) throws IOException {
+    assert size() == 0;
+
+    if (prefixCompressed) {
+      if (entries.isEmpty())
+        setPrefix(emptyPrefix());
+      else
+        setPrefix(commonPrefix(initialPrefix(entries.get(0).key), entries.get(entries.size() - 1).key));
+    }
+
     for (int i = 0; i < entries.size(); i++)
-      addEntry(i, entries.get(i), false);
+      insertEntry(i, entries.get(i), false);
   }
 
   public void shrink(int newSize) throws IOException {
@@ -336,19 +658,81 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
     setIntValue(SIZE_OFFSET, 0);
 
-    int index = 0;
-    for (SBTreeEntry<K, V> entry : treeEntries) {
-      addEntry(index, entry, false);
-      index++;
+    if (isLeaf && !prefixCompressed && isPrefixCompressionSupported()) {
+      prefixCompressed = true;
+      setByteValue(IS_LEAF_OFFSET, PREFIX_COMPRESSED_LEAF_BUCKET);
     }
+
+    addAll(treeEntries);
   }
 
   public boolean addEntry(int index, SBTreeEntry<K, V> treeEntry, boolean updateNeighbors) throws IOException {
+    if (prefixCompressed) {
+      if (size() == 0)
+        setPrefix(initialPrefix(treeEntry.key));
+      else {
+        final K prefix = getPrefix();
+        if (!startsWith(treeEntry.key, prefix))
+          return addEntryWithShorterPrefix(index, treeEntry, commonPrefix(prefix, treeEntry.key));
+      }
+    }
+
+    return insertEntry(index, treeEntry, updateNeighbors);
+  }
+
+  /**
+   * Rewrites compressed leaf bucket with shorter prefix of keys, so the entry with key which does not share current prefix can be
+   * added.
+   */
+  private boolean addEntryWithShorterPrefix(int index, SBTreeEntry<K, V> treeEntry, K newPrefix) throws IOException {
+    final int size = size();
+
+    // every stored key is extended by the part of the prefix which is not common any more, while the prefix is shortened by the same
+    // amount of bytes
+    final int prefixSizeDiff =
+        getIntValue(PREFIX_SIZE_OFFSET) - keySerializer.getObjectSize(newPrefix, (Object[]) keyTypes);
+    final int keySize = keySerializer.getObjectSize(stripPrefix(treeEntry.key, newPrefix), (Object[]) suffixKeyTypes(newPrefix));
+
+    final int freeSpace = getIntValue(FREE_POINTER_OFFSET) - size * OIntegerSerializer.INT_SIZE - POSITIONS_ARRAY_OFFSET;
+    if (freeSpace < (size - 1) * prefixSizeDiff + leafEntrySize(keySize, valueSize(treeEntry.value)))
+      return false;
+
+    final List<SBTreeEntry<K, V>> treeEntries = new ArrayList<SBTreeEntry<K, V>>(size + 1);
+    for (int i = 0; i < size; i++)
+      treeEntries.add(getEntry(i));
+
+    treeEntries.add(index, treeEntry);
+
+    setIntValue(SIZE_OFFSET, 0);
+    setPrefix(newPrefix);
+
+    for (int i = 0; i < treeEntries.size(); i++) {
+      final boolean added = insertEntry(i, treeEntries.get(i), false);
+      assert added;
+    }
+
+    return true;
+  }
+
+  private boolean insertEntry(int index, SBTreeEntry<K, V> treeEntry, boolean updateNeighbors) throws IOException {
+    final K key;
+    final OType[] types;
+
+    if (prefixCompressed) {
+      final K prefix = getPrefix();
+
+      key = stripPrefix(treeEntry.key, prefix);
+      types = suffixKeyTypes(prefix);
+    } else {
+      key = treeEntry.key;
+      types = keyTypes;
+    }
+
     final int keySize;
     byte[] encryptedKey = null;
 
     if (encryption == null) {
-      keySize = keySerializer.getObjectSize(treeEntry.key, (Object[]) keyTypes);
+      keySize = keySerializer.getObjectSize(key, (Object[]) types);
     } else {
       final int serializedKeySize = keySerializer.getObjectSize(treeEntry.key, (Object[]) keyTypes);
       final byte[] serializedKey = new byte[serializedKeySize];
@@ -362,14 +746,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     int entrySize = keySize;
 
     if (isLeaf) {
-      if (valueSerializer.isFixedLength())
-        valueSize = valueSerializer.getFixedLength();
-      else {
-        if (treeEntry.value.isLink())
-          valueSize = OLongSerializer.LONG_SIZE;
-        else
-          valueSize = valueSerializer.getObjectSize(treeEntry.value.getValue());
-      }
+      valueSize = valueSize(treeEntry.value);
 
       entrySize += valueSize + OByteSerializer.BYTE_SIZE;
     } else
@@ -394,7 +771,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     if (isLeaf) {
       if (encryption == null) {
         byte[] serializedKey = new byte[keySize];
-        keySerializer.serializeNativeObject(treeEntry.key, serializedKey, 0, (Object[]) keyTypes);
+        keySerializer.serializeNativeObject(key, serializedKey, 0, (Object[]) types);
 
         freePointer += setBinaryValue(freePointer, serializedKey);
       } else {
@@ -446,6 +823,16 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return true;
   }
 
+  private int valueSize(OSBTreeValue<V> value) {
+    if (valueSerializer.isFixedLength())
+      return valueSerializer.getFixedLength();
+
+    if (value.isLink())
+      return OLongSerializer.LONG_SIZE;
+
+    return valueSerializer.getObjectSize(value.getValue());
+  }
+
   public int updateValue(int index, OSBTreeValue<V> value) throws IOException {
     int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
 
@@ -491,6 +878,140 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return 1;
   }
 
+  /**
+   * Prefix compression is applied to keys of string and composite types, composite keys share leading items.
+   */
+  private boolean isPrefixCompressionSupported() {
+    return encryption == null && (keySerializer.getId() == OStringSerializer.ID || keySerializer.getId() == OCompositeKeySerializer.ID);
+  }
+
+  private int getPrefixPosition() {
+    return PREFIX_SIZE_OFFSET - getIntValue(PREFIX_SIZE_OFFSET);
+  }
+
+  private K getPrefix() {
+    if (prefix == null)
+      prefix = deserializeFromDirectMemory(keySerializer, getPrefixPosition());
+
+    return prefix;
+  }
+
+  /**
+   * Stores prefix of keys at the end of the page, may be called only if the bucket is empty.
+   */
+  private void setPrefix(K newPrefix) throws IOException {
+    assert size() == 0;
+
+    final byte[] serializedPrefix = new byte[keySerializer.getObjectSize(newPrefix, (Object[]) keyTypes)];
+    keySerializer.serializeNativeObject(newPrefix, serializedPrefix, 0, (Object[]) keyTypes);
+
+    final int prefixPosition = PREFIX_SIZE_OFFSET - serializedPrefix.length;
+    setBinaryValue(prefixPosition, serializedPrefix);
+    setIntValue(PREFIX_SIZE_OFFSET, serializedPrefix.length);
+    setIntValue(FREE_POINTER_OFFSET, prefixPosition);
+
+    prefix = newPrefix;
+  }
+
+  @SuppressWarnings("unchecked")
+  private K emptyPrefix() {
+    if (keySerializer.getId() == OStringSerializer.ID)
+      return (K) "";
+
+    return (K) new OCompositeKey();
+  }
+
+  /**
+   * @return Prefix of the first key added to the empty bucket, it is the whole key if key is a string or all items of key except the
+   * last one if key is composite.
+   */
+  @SuppressWarnings("unchecked")
+  private K initialPrefix(K key) {
+    if (key instanceof String)
+      return key;
+
+    final List<Object> keys = ((OCompositeKey) key).getKeys();
+    return (K) new OCompositeKey(keys.subList(0, Math.max(keys.size() - 1, 0)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private K commonPrefix(K prefix, K key) {
+    if (key instanceof String) {
+      final String stringPrefix = (String) prefix;
+      final String stringKey = (String) key;
+
+      final int maxLength = Math.min(stringPrefix.length(), stringKey.length());
+      int length = 0;
+      while (length < maxLength && stringPrefix.charAt(length) == stringKey.charAt(length))
+        length++;
+
+      return (K) stringPrefix.substring(0, length);
+    }
+
+    final List<Object> prefixKeys = ((OCompositeKey) prefix).getKeys();
+    final List<Object> keys = ((OCompositeKey) key).getKeys();
+
+    // at least one item of key is always stored in the entry
+    final int maxSize = Math.min(prefixKeys.size(), keys.size() - 1);
+    int size = 0;
+    while (size < maxSize && ODefaultComparator.INSTANCE.compare(prefixKeys.get(size), keys.get(size)) == 0)
+      size++;
+
+    return (K) new OCompositeKey(prefixKeys.subList(0, size));
+  }
+
+  private boolean startsWith(K key, K prefix) {
+    if (key instanceof String)
+      return ((String) key).startsWith((String) prefix);
+
+    final List<Object> prefixKeys = ((OCompositeKey) prefix).getKeys();
+    final List<Object> keys = ((OCompositeKey) key).getKeys();
+    if (keys.size() <= prefixKeys.size())
+      return false;
+
+    for (int i = 0; i < prefixKeys.size(); i++)
+      if (ODefaultComparator.INSTANCE.compare(prefixKeys.get(i), keys.get(i)) != 0)
+        return false;
+
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private K stripPrefix(K key, K prefix) {
+    if (key instanceof String)
+      return (K) ((String) key).substring(((String) prefix).length());
+
+    final List<Object> keys = ((OCompositeKey) key).getKeys();
+    return (K) new OCompositeKey(keys.subList(((OCompositeKey) prefix).getKeys().size(), keys.size()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private K joinPrefix(K prefix, K suffix) {
+    if (suffix instanceof String)
+      return (K) ((String) prefix).concat((String) suffix);
+
+    final OCompositeKey key = new OCompositeKey(((OCompositeKey) prefix).getKeys());
+    key.addKey(suffix);
+    return (K) key;
+  }
+
+  /**
+   * @return Types of items of composite key which are stored in the entry after the prefix of the key.
+   */
+  private OType[] suffixKeyTypes(K prefix) {
+    if (keyTypes == null || !(prefix instanceof OCompositeKey))
+      return keyTypes;
+
+    final int prefixSize = ((OCompositeKey) prefix).getKeys().size();
+    if (prefixSize == 0)
+      return keyTypes;
+
+    if (prefixSize >= keyTypes.length)
+      return OCommonConst.EMPTY_TYPES_ARRAY;
+
+    return Arrays.copyOfRange(keyTypes, prefixSize, keyTypes.length);
+  }
+
   public void setLeftSibling(long pageIndex) throws IOException {
     setLongValue(LEFT_SIBLING_OFFSET, pageIndex);
   }
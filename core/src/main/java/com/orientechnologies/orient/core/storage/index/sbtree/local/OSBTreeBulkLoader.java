@@ -0,0 +1,405 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Fills the empty {@link OSBTree} by entries which are sorted before they are written into the tree. Entries are added by
+ * {@link Writer}s, each thread which extracts entries uses its own writer. Writer collects entries in memory and once its buffer
+ * is full, sorts them and writes them as a sorted run into a temporary file. During {@link #load(OIndexEngine.Validator)} runs are
+ * merged, duplicated keys are resolved by validator and the resulting sorted sequence is written into the tree bottom-up by
+ * {@link OSBTree#bulkLoad(Iterator)}. Keys stored in temporary files are encrypted if the tree is encrypted.
+ */
+public final class OSBTreeBulkLoader<K, V> {
+  /**
+   * Maximum amount of runs which are merged at once, if there are more runs they are merged in several passes.
+   */
+  private static final int MAX_MERGED_RUNS = 64;
+
+  /**
+   * Approximate amount of heap consumed by buffered entry besides of its serialized content.
+   */
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private final OSBTree<K, V>         tree;
+  private final OBinarySerializer<K>  keySerializer;
+  private final OType[]               keyTypes;
+  private final OBinarySerializer<V>  valueSerializer;
+  private final OEncryption           encryption;
+  private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
+  private final long                  bufferSize;
+
+  private final List<Run> runs = new ArrayList<Run>();
+
+  OSBTreeBulkLoader(OSBTree<K, V> tree, OBinarySerializer<K> keySerializer, OType[] keyTypes, OBinarySerializer<V> valueSerializer,
+      OEncryption encryption) {
+    this.tree = tree;
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    this.valueSerializer = valueSerializer;
+    this.encryption = encryption;
+    this.bufferSize = OGlobalConfiguration.INDEX_BULK_LOAD_BUFFER_SIZE.getValueAsLong() * 1024 * 1024;
+  }
+
+  /**
+   * @return new writer of entries, writer is not thread safe and should be used by a single thread
+   */
+  public Writer newWriter() {
+    return new Writer();
+  }
+
+  /**
+   * Merges entries added by all writers and writes them into the tree. If several entries have the same key, validator is called
+   * with value of the entry which is kept and with value of the next entry, if validator returns {@link
+   * OIndexEngine.Validator#IGNORE} the next entry is skipped, otherwise value returned by validator replaces kept value.
+   * <p>
+   * If entries were put into the tree concurrently with extraction of entries by writers, tree is not empty and can not be filled
+   * bottom-up, in such case merged entries are put into the tree one by one using the same validator. Temporary files are deleted
+   * once load is completed.
+   *
+   * @return amount of entries put into the tree
+   */
+  public long load(OIndexEngine.Validator<K, V> validator) {
+    MergeIterator iterator = null;
+    try {
+      while (runs.size() > MAX_MERGED_RUNS) {
+        final List<Run> merged = new ArrayList<Run>(runs.subList(0, MAX_MERGED_RUNS));
+
+        iterator = new MergeIterator(merged, null);
+        final Run run = writeRun(iterator);
+        iterator = null;
+
+        for (Run mergedRun : merged)
+          mergedRun.delete();
+
+        runs.removeAll(merged);
+        runs.add(run);
+      }
+
+      iterator = new MergeIterator(new ArrayList<Run>(runs), validator);
+
+      final long size = tree.bulkLoad(iterator);
+      if (size >= 0)
+        return size;
+
+      long count = 0;
+      while (iterator.hasNext()) {
+        final Map.Entry<K, V> entry = iterator.next();
+        if (tree.validatedPut(entry.getKey(), entry.getValue(), validator))
+          count++;
+      }
+
+      return count;
+    } catch (IOException e) {
+      throw OException.wrapException(new OSBTreeException("Error during bulk load of sbtree with name " + tree.getName(), tree), e);
+    } finally {
+      if (iterator != null)
+        iterator.close();
+
+      close();
+    }
+  }
+
+  /**
+   * Deletes temporary files of the loader, loader can not be used after this call.
+   */
+  public synchronized void close() {
+    for (Run run : runs)
+      run.delete();
+
+    runs.clear();
+  }
+
+  private synchronized void addRun(Run run) {
+    runs.add(run);
+  }
+
+  private Run writeRun(Iterator<Map.Entry<K, V>> entries) throws IOException {
+    final File directory = new File(Orient.getTempPath());
+    if (!directory.exists() && !directory.mkdirs() && !directory.exists())
+      throw new OSBTreeException("Directory for temporary files of bulk load '" + directory + "' can not be created", tree);
+
+    final File file = File.createTempFile("sbtbulk", ".tmp", directory);
+    final Run run = new Run(file);
+
+    try {
+      final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+      try {
+        while (entries.hasNext()) {
+          final Map.Entry<K, V> entry = entries.next();
+
+          byte[] key = new byte[keySerializer.getObjectSize(entry.getKey(), (Object[]) keyTypes)];
+          keySerializer.serializeNativeObject(entry.getKey(), key, 0, (Object[]) keyTypes);
+          if (encryption != null)
+            key = encryption.encrypt(key);
+
+          final byte[] value = new byte[valueSerializer.getObjectSize(entry.getValue())];
+          valueSerializer.serializeNativeObject(entry.getValue(), value, 0);
+
+          output.writeInt(key.length);
+          output.write(key);
+          output.writeInt(value.length);
+          output.write(value);
+
+          run.size++;
+        }
+      } finally {
+        output.close();
+      }
+    } catch (IOException | RuntimeException e) {
+      run.delete();
+      throw e;
+    }
+
+    return run;
+  }
+
+  /**
+   * Collects entries extracted by a single thread.
+   */
+  public final class Writer {
+    private final List<Map.Entry<K, V>> buffer = new ArrayList<Map.Entry<K, V>>();
+    private       long                  size;
+
+    private Writer() {
+    }
+
+    /**
+     * Adds entry which should be written into the tree.
+     *
+     * @throws com.orientechnologies.orient.core.exception.OTooBigIndexKeyException if the key is bigger than the tree allows
+     */
+    public void add(K key, V value) {
+      if (key == null)
+        throw new IllegalArgumentException("Null keys can not be bulk loaded");
+
+      key = tree.prepareBulkLoadKey(key);
+      buffer.add(new AbstractMap.SimpleImmutableEntry<K, V>(key, value));
+
+      size += keySerializer.getObjectSize(key, (Object[]) keyTypes) + valueSerializer.getObjectSize(value) + ENTRY_OVERHEAD;
+      if (size >= bufferSize)
+        flush();
+    }
+
+    /**
+     * Sorts buffered entries and writes them into temporary file, it should be called once all entries are added.
+     */
+    public void flush() {
+      if (buffer.isEmpty())
+        return;
+
+      // sort is stable, so entries with the same key are kept in the order of addition
+      buffer.sort((first, second) -> comparator.compare(first.getKey(), second.getKey()));
+
+      try {
+        addRun(writeRun(buffer.iterator()));
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OSBTreeException("Error during writing of entries for bulk load of sbtree with name " + tree.getName(), tree), e);
+      }
+
+      buffer.clear();
+      size = 0;
+    }
+  }
+
+  private static final class Run {
+    private final File file;
+    private       long size;
+
+    private Run(File file) {
+      this.file = file;
+    }
+
+    private void delete() {
+      if (file.exists() && !file.delete())
+        OLogManager.instance().warn(this, "Temporary file '%s' of bulk load of index can not be deleted", file);
+    }
+  }
+
+  /**
+   * Sequential reader of entries of the run.
+   */
+  private final class RunReader {
+    private final int             order;
+    private final DataInputStream input;
+    private       long            remaining;
+
+    private K key;
+    private V value;
+
+    private RunReader(Run run, int order) throws IOException {
+      this.order = order;
+      this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file)));
+      this.remaining = run.size;
+    }
+
+    private boolean next() throws IOException {
+      if (remaining == 0) {
+        input.close();
+        return false;
+      }
+
+      byte[] serializedKey = new byte[input.readInt()];
+      input.readFully(serializedKey);
+      if (encryption != null)
+        serializedKey = encryption.decrypt(serializedKey);
+
+      final byte[] serializedValue = new byte[input.readInt()];
+      input.readFully(serializedValue);
+
+      key = keySerializer.deserializeNativeObject(serializedKey, 0);
+      value = valueSerializer.deserializeNativeObject(serializedValue, 0);
+      remaining--;
+
+      return true;
+    }
+
+    private void close() {
+      try {
+        input.close();
+      } catch (IOException e) {
+        OLogManager.instance().error(this, "Error on closing of temporary file of bulk load of index", e);
+      }
+    }
+  }
+
+  /**
+   * Merges sorted runs into a single sorted sequence. If validator is passed, entries with the same key are merged into a single
+   * entry by the validator, otherwise all of them are returned in the order of runs.
+   */
+  private final class MergeIterator implements Iterator<Map.Entry<K, V>> {
+    private final OIndexEngine.Validator<K, V> validator;
+    private final PriorityQueue<RunReader>     queue;
+
+    private Map.Entry<K, V> next;
+
+    private MergeIterator(List<Run> runs, OIndexEngine.Validator<K, V> validator) throws IOException {
+      this.validator = validator;
+      this.queue = new PriorityQueue<RunReader>(Math.max(1, runs.size()), (first, second) -> {
+        final int result = comparator.compare(first.key, second.key);
+        if (result != 0)
+          return result;
+
+        return Integer.compare(first.order, second.order);
+      });
+
+      try {
+        for (int i = 0; i < runs.size(); i++) {
+          final RunReader reader = new RunReader(runs.get(i), i);
+          if (reader.next())
+            queue.add(reader);
+        }
+      } catch (IOException | RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean hasNext() {
+      if (next != null)
+        return true;
+
+      if (queue.isEmpty())
+        return false;
+
+      try {
+        final K key = queue.peek().key;
+        V value = poll();
+
+        if (validator != null) {
+          while (!queue.isEmpty() && comparator.compare(queue.peek().key, key) == 0) {
+            final V duplicate = poll();
+
+            final Object result = validator.validate(key, value, duplicate);
+            if (result != OIndexEngine.Validator.IGNORE)
+              value = (V) result;
+          }
+        }
+
+        next = new AbstractMap.SimpleImmutableEntry<K, V>(key, value);
+        return true;
+      } catch (IOException e) {
+        close();
+        throw OException.wrapException(
+            new OSBTreeException("Error during reading of entries for bulk load of sbtree with name " + tree.getName(), tree), e);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      final Map.Entry<K, V> result = next;
+      next = null;
+      return result;
+    }
+
+    private V poll() throws IOException {
+      final RunReader reader = queue.poll();
+      final V value = reader.value;
+
+      if (reader.next())
+        queue.add(reader);
+
+      return value;
+    }
+
+    private void close() {
+      for (RunReader reader : queue)
+        reader.close();
+
+      queue.clear();
+    }
+  }
+}
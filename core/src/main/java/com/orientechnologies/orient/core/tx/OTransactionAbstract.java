@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.OStorageProxy;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -61,13 +62,18 @@ public abstract class OTransactionAbstract implements OTransaction {
     for (ORecordOperation txEntry : entries) {
       if (!updateStrategy)
         // ALWAYS REMOVE THE RECORD FROM CACHE
-        dbCache.deleteRecord(txEntry.getRecord().getIdentity());
+        dbCache.deleteRecord(txEntry.getRID());
       else if (txEntry.type == ORecordOperation.DELETED)
         // DELETION
-        dbCache.deleteRecord(txEntry.getRecord().getIdentity());
-      else if (txEntry.type == ORecordOperation.UPDATED || txEntry.type == ORecordOperation.CREATED)
-        // UDPATE OR CREATE
-        dbCache.updateRecord(txEntry.getRecord());
+        dbCache.deleteRecord(txEntry.getRID());
+      else if (txEntry.type == ORecordOperation.UPDATED || txEntry.type == ORecordOperation.CREATED) {
+        // UDPATE OR CREATE, RECORDS MOVED OUT OF HEAP ARE NOT LOADED BACK ONLY TO BE CACHED
+        final ORecord record = OTransactionSpillBuffer.getLoadedRecord(txEntry);
+        if (record != null)
+          dbCache.updateRecord(record);
+        else
+          dbCache.deleteRecord(txEntry.getRID());
+      }
     }
   }
 
@@ -107,9 +113,9 @@ public abstract class OTransactionAbstract implements OTransaction {
         final LockedRecordMetadata lockedRecordMetadata = lock.getValue();
 
         if (lockedRecordMetadata.strategy.equals(OStorage.LOCKING_STRATEGY.EXCLUSIVE_LOCK)) {
-          ((OAbstractPaginatedStorage) getDatabase().getStorage().getUnderlying()).releaseWriteLock(lock.getKey());
+          ((OAbstractPaginatedStorage) getDatabase().getStorage().getUnderlying()).releaseWriteLock(lock.getKey(), getDatabase());
         } else if (lockedRecordMetadata.strategy.equals(OStorage.LOCKING_STRATEGY.SHARED_LOCK)) {
-          ((OAbstractPaginatedStorage) getDatabase().getStorage().getUnderlying()).releaseReadLock(lock.getKey());
+          ((OAbstractPaginatedStorage) getDatabase().getStorage().getUnderlying()).releaseReadLock(lock.getKey(), getDatabase());
         }
       } catch (Exception e) {
         OLogManager.instance().debug(this, "Error on releasing lock against record " + lock.getKey(), e);
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.tx;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase.OPERATION_MODE;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.LatestVersionRecordReader;
@@ -60,6 +61,8 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
   private        boolean       usingLog       = true;
   private        int           txStartCounter;
 
+  private OTransactionSpillBuffer spillBuffer;
+
   public OTransactionOptimistic(final ODatabaseDocumentInternal iDatabase) {
     super(iDatabase, txSerial.incrementAndGet());
   }
@@ -123,8 +126,9 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
 
     // REMOVE ALL THE DIRTY ENTRIES AND UNDO ANY DIRTY DOCUMENT IF POSSIBLE.
     for (ORecordOperation v : allEntries.values()) {
-      final ORecord rec = v.getRecord();
-      rec.unload();
+      final ORecord rec = OTransactionSpillBuffer.getLoadedRecord(v);
+      if (rec != null)
+        rec.unload();
     }
 
     close();
@@ -357,6 +361,10 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
       if (iRecordUpdatedCallback != null)
         recordOperation.updatedCallback = iRecordUpdatedCallback;
     }
+
+    if (spillBuffer != null)
+      spillBuffer.spillIfNeeded();
+
     return iRecord;
   }
 
@@ -472,6 +480,9 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
           }
         }
 
+        if (txEntry != null && (iStatus == ORecordOperation.CREATED || iStatus == ORecordOperation.UPDATED))
+          addToSpillBuffer(txEntry);
+
         switch (iStatus) {
         case ORecordOperation.CREATED:
           database.afterCreateOperations(iRecord);
@@ -546,13 +557,38 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
 
   private void invokeCallbacks() {
     for (ORecordOperation recordOperation : allEntries.values()) {
-      final ORecord record = recordOperation.getRecord();
-      final ORID identity = record.getIdentity();
+      final ORID identity = recordOperation.getRID();
       locks.keySet();
       if (recordOperation.type == ORecordOperation.CREATED && recordOperation.createdCallback != null)
         recordOperation.createdCallback.call(new ORecordId(identity), identity.getClusterPosition());
       else if (recordOperation.type == ORecordOperation.UPDATED && recordOperation.updatedCallback != null)
-        recordOperation.updatedCallback.call(new ORecordId(identity), record.getVersion());
+        recordOperation.updatedCallback.call(new ORecordId(identity), recordOperation.getRecord().getVersion());
+    }
+  }
+
+  /**
+   * Registers created or updated record in buffer which moves content of records out of heap if transaction is too big, buffer is
+   * created once the first record is registered.
+   */
+  private void addToSpillBuffer(final ORecordOperation recordOperation) {
+    if (spillBuffer == null) {
+      final int threshold = database.getConfiguration().getValueAsInteger(OGlobalConfiguration.TX_SPILL_THRESHOLD);
+      if (threshold <= 0 || database.getStorage().isRemote())
+        return;
+
+      spillBuffer = new OTransactionSpillBuffer(database, threshold);
+    }
+
+    spillBuffer.add(recordOperation);
+  }
+
+  @Override
+  public void close() {
+    super.close();
+
+    if (spillBuffer != null) {
+      spillBuffer.close();
+      spillBuffer = null;
     }
   }
 
@@ -74,7 +74,7 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract impl
     super.close();
 
     for (final ORecordOperation recordOperation : getRecordOperations()) {
-      final ORecord record = recordOperation.getRecord();
+      final ORecord record = OTransactionSpillBuffer.getLoadedRecord(recordOperation);
       if (record instanceof ODocument) {
         final ODocument document = (ODocument) record;
 
@@ -0,0 +1,371 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.tx;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.ORecordListener;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves content of records created or updated by a big transaction out of heap into a temporary file. Once amount of records
+ * which were saved in transaction since the last check exceeds the threshold, content of each of them is serialized and appended
+ * to the file, and the record itself is replaced inside of its {@link ORecordOperation} by a {@link OSpilledRecord} placeholder.
+ * <p>
+ * The placeholder keeps only identity, version and position of the content in the file. Record instance is referenced weakly, so
+ * the same instance is returned by the placeholder while the user code holds it, otherwise a new instance is read from the file.
+ * Once the instance is changed after its content was written, the content in the file is stale, so the instance is referenced
+ * strongly till the record is saved again or the transaction is finished. That keeps transactional reads of own changes and commit
+ * of the transaction working in the same way as for records kept in heap, while only the records which are used at the moment
+ * are loaded.
+ * <p>
+ * Only records which may be serialized before the commit without side effects are moved out of heap: documents which link only
+ * persistent records and do not contain rid bags. Identities of new records are assigned only during commit and rid bags create
+ * their trees during serialization, so documents which contain such values are kept in heap. Content of binary records may be
+ * replaced without notification about the change, so they are kept in heap too.
+ */
+final class OTransactionSpillBuffer {
+  private final ODatabaseDocumentInternal database;
+  private final int                       threshold;
+
+  /**
+   * Operations saved since the last check, they are candidates to be moved out of heap.
+   */
+  private final List<ORecordOperation> pending = new ArrayList<>();
+
+  private File        file;
+  private FileChannel channel;
+  private long        size;
+
+  OTransactionSpillBuffer(final ODatabaseDocumentInternal database, final int threshold) {
+    this.database = database;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Registers operation of record which was created or updated in transaction.
+   */
+  void add(final ORecordOperation operation) {
+    pending.add(operation);
+  }
+
+  /**
+   * Moves content of all registered records to the file if amount of them exceeds threshold.
+   */
+  void spillIfNeeded() {
+    if (pending.size() > threshold)
+      spill();
+  }
+
+  void close() {
+    pending.clear();
+
+    if (channel == null)
+      return;
+
+    try {
+      channel.close();
+    } catch (IOException e) {
+      OLogManager.instance().error(this, "Error on closing of transaction buffer file '%s'", e, file);
+    }
+
+    if (!file.delete())
+      OLogManager.instance().warn(this, "Transaction buffer file '%s' can not be deleted", file);
+
+    channel = null;
+    file = null;
+    size = 0;
+  }
+
+  /**
+   * Returns record of the operation without loading of it from the transaction buffer.
+   *
+   * @return record of the operation or <code>null</code> if record was moved out of heap and its instance is not used any more.
+   */
+  static ORecord getLoadedRecord(final ORecordOperation operation) {
+    if (operation.record instanceof OSpilledRecord)
+      return ((OSpilledRecord) operation.record).loaded.get();
+
+    return operation.getRecord();
+  }
+
+  private void spill() {
+    for (ORecordOperation operation : pending) {
+      if (!(operation.record instanceof ORecord))
+        continue;
+
+      if (operation.type != ORecordOperation.CREATED && operation.type != ORecordOperation.UPDATED)
+        continue;
+
+      // callbacks are called after commit and need up to date state of the record
+      if (operation.createdCallback != null || operation.updatedCallback != null)
+        continue;
+
+      final ORecord record = (ORecord) operation.record;
+      if (!isSelfContained(record))
+        continue;
+
+      final byte[] content = database.getSerializer().toStream(record, false);
+      final long position = write(content);
+
+      operation.record = new OSpilledRecord(this, (ORecordId) record.getIdentity(), record.getVersion(),
+          ORecordInternal.getRecordType(record), position, content.length, record);
+    }
+
+    pending.clear();
+  }
+
+  private static boolean isSelfContained(final ORecord record) {
+    if (!(record instanceof ODocument))
+      return false;
+
+    final ODocument document = (ODocument) record;
+    if (document.isEmbedded())
+      return false;
+
+    return isDocumentSelfContained(document);
+  }
+
+  private static boolean isDocumentSelfContained(final ODocument document) {
+    for (String fieldName : document.fieldNames()) {
+      if (!isValueSelfContained(document.rawField(fieldName)))
+        return false;
+    }
+
+    return true;
+  }
+
+  private static boolean isValueSelfContained(final Object value) {
+    if (value == null)
+      return true;
+
+    if (value instanceof ORidBag)
+      return false;
+
+    if (value instanceof ODocument && ((ODocument) value).isEmbedded())
+      return isDocumentSelfContained((ODocument) value);
+
+    if (value instanceof OIdentifiable)
+      return ((OIdentifiable) value).getIdentity().isPersistent();
+
+    if (value instanceof Collection) {
+      for (Object item : (Collection<?>) value) {
+        if (!isValueSelfContained(item))
+          return false;
+      }
+
+      return true;
+    }
+
+    if (value instanceof Map) {
+      for (Object item : ((Map<?, ?>) value).values()) {
+        if (!isValueSelfContained(item))
+          return false;
+      }
+
+      return true;
+    }
+
+    if (value instanceof Object[]) {
+      for (Object item : (Object[]) value) {
+        if (!isValueSelfContained(item))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private long write(final byte[] content) {
+    try {
+      if (channel == null) {
+        final File directory = new File(Orient.getTempPath());
+        if (!directory.exists() && !directory.mkdirs() && !directory.exists())
+          throw new ODatabaseException("Directory for transaction buffer files '" + directory + "' can not be created");
+
+        file = File.createTempFile("txbuf", ".tmp", directory);
+        channel = new RandomAccessFile(file, "rw").getChannel();
+      }
+
+      final long position = size;
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining())
+        channel.write(buffer, position + buffer.position());
+
+      size += content.length;
+      return position;
+    } catch (IOException e) {
+      throw OException.wrapException(new ODatabaseException("Error on writing of record into transaction buffer"), e);
+    }
+  }
+
+  private byte[] read(final long position, final int length) {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    try {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0)
+          throw new ODatabaseException("Unexpected end of transaction buffer file '" + file + "'");
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new ODatabaseException("Error on reading of record from transaction buffer"), e);
+    }
+
+    return buffer.array();
+  }
+
+  /**
+   * Placeholder of record which content was moved out of heap. Identity is shared with the record instances, so the changes of
+   * identity done during commit are visible to all of them.
+   */
+  static final class OSpilledRecord implements OIdentifiable {
+    private final OTransactionSpillBuffer buffer;
+    private final ORecordId               rid;
+    private final int                     version;
+    private final byte                    recordType;
+    private final long                    position;
+    private final int                     length;
+
+    private WeakReference<ORecord> loaded;
+
+    /**
+     * Instance changed after its content was written to the file, it is kept in heap because content in the file is stale.
+     */
+    private ORecord changed;
+
+    /**
+     * Listener is referenced weakly by the record, so it is held by the placeholder, it is not the placeholder itself because
+     * placeholders are equal to each other if they have the same identity.
+     */
+    private final ORecordListener changeListener = (record, event) -> {
+      if (event == ORecordListener.EVENT.CONTENT_CHANGED)
+        changed = record;
+    };
+
+    private OSpilledRecord(final OTransactionSpillBuffer buffer, final ORecordId rid, final int version, final byte recordType,
+        final long position, final int length, final ORecord record) {
+      this.buffer = buffer;
+      this.rid = rid;
+      this.version = version;
+      this.recordType = recordType;
+      this.position = position;
+      this.length = length;
+      this.loaded = new WeakReference<>(record);
+
+      ORecordInternal.addListener(record, changeListener);
+    }
+
+    @Override
+    public ORID getIdentity() {
+      return rid;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends ORecord> T getRecord() {
+      if (changed != null)
+        return (T) changed;
+
+      ORecord record = loaded.get();
+      if (record == null) {
+        record = Orient.instance().getRecordFactoryManager().newInstance(recordType, rid.getClusterId(), buffer.database);
+        ORecordInternal.setIdentity(record, rid);
+        ORecordInternal.fill(record, rid, version, buffer.read(position, length), true);
+        ORecordInternal.addListener(record, changeListener);
+
+        loaded = new WeakReference<>(record);
+      }
+
+      return (T) record;
+    }
+
+    @Override
+    public void lock(final boolean iExclusive) {
+      rid.lock(iExclusive);
+    }
+
+    @Override
+    public boolean isLocked() {
+      return rid.isLocked();
+    }
+
+    @Override
+    public OStorage.LOCKING_STRATEGY lockingStrategy() {
+      return rid.lockingStrategy();
+    }
+
+    @Override
+    public void unlock() {
+      rid.unlock();
+    }
+
+    @Override
+    public int compareTo(final OIdentifiable other) {
+      return rid.compareTo(other);
+    }
+
+    @Override
+    public int compare(final OIdentifiable first, final OIdentifiable second) {
+      return rid.compare(first, second);
+    }
+
+    @Override
+    public int hashCode() {
+      return rid.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj)
+        return true;
+
+      if (!(obj instanceof OIdentifiable))
+        return false;
+
+      return rid.equals(((OIdentifiable) obj).getIdentity());
+    }
+
+    @Override
+    public String toString() {
+      return rid.toString();
+    }
+  }
+}
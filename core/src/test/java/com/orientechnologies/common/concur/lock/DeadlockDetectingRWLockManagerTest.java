@@ -0,0 +1,246 @@
+package com.orientechnologies.common.concur.lock;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlockDetectingRWLockManagerTest {
+  private ODeadlockDetectingRWLockManager<String> manager;
+  private ExecutorService                         executor;
+
+  @Before
+  public void before() {
+    manager = new ODeadlockDetectingRWLockManager<>();
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void after() throws InterruptedException {
+    executor.shutdownNow();
+    Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCrossLockDeadlockIsResolved() throws Exception {
+    final CountDownLatch firstLocked = new CountDownLatch(1);
+    final CountDownLatch secondLocked = new CountDownLatch(1);
+
+    // the first thread holds more locks, so the second one is chosen as a victim
+    final Future<Void> first = executor.submit(() -> {
+      manager.acquireWriteLock("a", 0);
+      manager.acquireWriteLock("c", 0);
+      firstLocked.countDown();
+      secondLocked.await();
+
+      manager.acquireWriteLock("b", 0);
+
+      manager.releaseWriteLock("b");
+      manager.releaseWriteLock("c");
+      manager.releaseWriteLock("a");
+      return null;
+    });
+
+    final Future<Void> second = executor.submit(() -> {
+      manager.acquireWriteLock("b", 0);
+      secondLocked.countDown();
+      firstLocked.await();
+
+      waitForWaiter("b");
+      try {
+        manager.acquireWriteLock("a", 0);
+      } finally {
+        manager.releaseWriteLock("b");
+      }
+      return null;
+    });
+
+    try {
+      second.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof ODeadlockException);
+    }
+
+    first.get(10, TimeUnit.SECONDS);
+
+    Assert.assertEquals(1, manager.getDeadlocksCount());
+    Assert.assertTrue(manager.getLocks().isEmpty());
+  }
+
+  @Test
+  public void testLockUpgradeDeadlockIsResolved() throws Exception {
+    // lock held by the thread which requests its upgrade closes the cycle, so that thread is the victim
+    manager.acquireReadLock("a", 0);
+    manager.acquireWriteLock("b", 0);
+
+    final Future<Void> other = executor.submit(() -> {
+      manager.acquireReadLock("a", 0);
+      try {
+        manager.acquireWriteLock("b", 0);
+        manager.releaseWriteLock("b");
+      } finally {
+        manager.releaseReadLock("a");
+      }
+      return null;
+    });
+
+    waitForWaiter("b");
+
+    try {
+      manager.acquireWriteLock("a", 0);
+      Assert.fail();
+    } catch (ODeadlockException e) {
+      // expected
+    }
+
+    manager.releaseWriteLock("b");
+    manager.releaseReadLock("a");
+
+    other.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(1, manager.getDeadlocksCount());
+  }
+
+  @Test
+  public void testWaitChainIsNotDeadlock() throws Exception {
+    manager.acquireWriteLock("a", 0);
+
+    final CountDownLatch bLocked = new CountDownLatch(1);
+    final Future<Void> holder = executor.submit(() -> {
+      manager.acquireWriteLock("b", 0);
+      bLocked.countDown();
+      try {
+        manager.acquireWriteLock("a", 0);
+        manager.releaseWriteLock("a");
+      } finally {
+        manager.releaseWriteLock("b");
+      }
+      return null;
+    });
+
+    bLocked.await();
+    final Future<Void> waiter = executor.submit(() -> {
+      manager.acquireReadLock("b", 0);
+      manager.releaseReadLock("b");
+      return null;
+    });
+
+    waitForWaiter("a");
+    waitForWaiter("b");
+
+    final List<ODeadlockDetectingRWLockManager.LockInfo<String>> locks = manager.getLocks();
+    Assert.assertEquals(2, locks.size());
+    for (ODeadlockDetectingRWLockManager.LockInfo<String> lock : locks) {
+      Assert.assertFalse(lock.isShared());
+      Assert.assertEquals(1, lock.getHolders().size());
+      Assert.assertEquals(1, lock.getWaiters().size());
+    }
+
+    manager.releaseWriteLock("a");
+
+    holder.get(10, TimeUnit.SECONDS);
+    waiter.get(10, TimeUnit.SECONDS);
+
+    Assert.assertEquals(0, manager.getDeadlocksCount());
+
+    long waits = 0;
+    for (long count : manager.getWaitTimeHistogram())
+      waits += count;
+    Assert.assertEquals(2, waits);
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    manager.acquireWriteLock("a", 0);
+
+    final Future<Void> waiter = executor.submit(() -> {
+      manager.acquireReadLock("a", 10);
+      return null;
+    });
+
+    try {
+      waiter.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof OLockException);
+      Assert.assertFalse(e.getCause() instanceof ODeadlockException);
+    }
+
+    manager.releaseWriteLock("a");
+    Assert.assertTrue(manager.getLocks().isEmpty());
+  }
+
+  @Test
+  public void testLockIsReleasedByOtherThreadOfOwner() throws Exception {
+    final Object session = new Object();
+    executor.submit(() -> manager.lock("a", session, false, 0)).get(10, TimeUnit.SECONDS);
+
+    final List<ODeadlockDetectingRWLockManager.LockInfo<String>> locks = manager.getLocks();
+    Assert.assertEquals(1, locks.size());
+    Assert.assertEquals(1, locks.get(0).getHolders().size());
+
+    manager.unlock("a", session, false);
+    manager.acquireWriteLock("a", 10);
+    manager.releaseWriteLock("a");
+
+    Assert.assertTrue(manager.getLocks().isEmpty());
+  }
+
+  @Test
+  public void testLockIsNotReleasedByOtherOwner() throws Exception {
+    executor.submit(() -> manager.acquireWriteLock("a", 0)).get(10, TimeUnit.SECONDS);
+
+    try {
+      manager.releaseWriteLock("a");
+      Assert.fail();
+    } catch (OLockException e) {
+      // expected
+    }
+
+    Assert.assertEquals(1, manager.getLocks().size());
+  }
+
+  @Test
+  public void testSessionsOfSameThreadDoNotDeadlock() {
+    final Object first = new Object();
+    final Object second = new Object();
+
+    // a thread which serves several sessions waits for a lock of another session, it is not a deadlock
+    manager.lock("a", first, false, 0);
+    try {
+      manager.lock("a", second, false, 10);
+      Assert.fail();
+    } catch (OLockException e) {
+      Assert.assertFalse(e instanceof ODeadlockException);
+    }
+
+    manager.lock("b", second, true, 0);
+    manager.lock("b", first, true, 0);
+
+    manager.unlock("b", first, true);
+    manager.unlock("b", second, true);
+    manager.unlock("a", first, false);
+
+    Assert.assertEquals(0, manager.getDeadlocksCount());
+    Assert.assertTrue(manager.getLocks().isEmpty());
+  }
+
+  private void waitForWaiter(String key) throws InterruptedException {
+    while (true) {
+      for (ODeadlockDetectingRWLockManager.LockInfo<String> lock : manager.getLocks()) {
+        if (lock.getKey().equals(key) && !lock.getWaiters().isEmpty())
+          return;
+      }
+
+      Thread.sleep(1);
+    }
+  }
+}
@@ -1,8 +1,11 @@
 package com.orientechnologies.common.directmemory;
 
+import com.orientechnologies.common.jna.ONative;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.sun.jna.Platform;
 import org.junit.AfterClass;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -188,6 +191,113 @@ public class OByteBufferPoolTest {
     byteBufferPool.checkMemoryLeaks();
   }
 
+  @Test
+  public void testPagesAreReusedFromThreadLocalCache() throws Exception {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(42, allocator, 16, 4, false, false);
+
+    final ByteBuffer bufferOne = byteBufferPool.acquireDirect(false);
+    final ByteBuffer bufferTwo = byteBufferPool.acquireDirect(false);
+    Assert.assertEquals(2, byteBufferPool.getAllocationsCount());
+
+    bufferOne.put(0, (byte) 1);
+    bufferTwo.put(0, (byte) 2);
+
+    byteBufferPool.release(bufferOne);
+    byteBufferPool.release(bufferTwo);
+    Assert.assertEquals(2, byteBufferPool.getPoolSize());
+
+    //the last released page is returned first
+    final ByteBuffer reusedBuffer = byteBufferPool.acquireDirect(false);
+    Assert.assertEquals(2, reusedBuffer.get(0));
+    Assert.assertEquals(1, byteBufferPool.getThreadLocalHitsCount());
+    Assert.assertEquals(1, byteBufferPool.getPoolSize());
+
+    //page released by terminated thread is reused by other threads
+    final Thread thread = new Thread(() -> byteBufferPool.release(reusedBuffer));
+    thread.start();
+    thread.join();
+
+    Assert.assertEquals(2, byteBufferPool.getPoolSize());
+
+    final ByteBuffer bufferThree = byteBufferPool.acquireDirect(false);
+    final ByteBuffer bufferFour = byteBufferPool.acquireDirect(false);
+    Assert.assertEquals(2, byteBufferPool.getThreadLocalHitsCount());
+    Assert.assertEquals(1, byteBufferPool.getSharedPoolHitsCount());
+    Assert.assertEquals(2, byteBufferPool.getAllocationsCount());
+    Assert.assertEquals(0, byteBufferPool.getPoolSize());
+    Assert.assertEquals(84, allocator.getMemoryConsumption());
+
+    byteBufferPool.release(bufferThree);
+    byteBufferPool.release(bufferFour);
+
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertEquals(0, byteBufferPool.getPoolSize());
+
+    byteBufferPool.checkMemoryLeaks();
+  }
+
+  @Test
+  public void testMagazinesOfTerminatedThreadsAreRemoved() throws Exception {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(42, allocator, 16, 4, false, false);
+
+    for (int i = 0; i < 10; i++) {
+      final Thread thread = new Thread(() -> byteBufferPool.release(byteBufferPool.acquireDirect(false)));
+      thread.start();
+      thread.join();
+    }
+
+    //magazine of each thread is removed once the next thread creates its own one, and page cached by it is reused
+    Assert.assertEquals(1, byteBufferPool.getMagazinesCount());
+    Assert.assertEquals(1, byteBufferPool.getAllocationsCount());
+    Assert.assertEquals(9, byteBufferPool.getSharedPoolHitsCount());
+    Assert.assertEquals(1, byteBufferPool.getPoolSize());
+
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    byteBufferPool.checkMemoryLeaks();
+  }
+
+  @Test
+  public void testPagesAreAllocatedInHugePagesArena() {
+    Assume.assumeTrue(Platform.isLinux());
+
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(4096, allocator, 0, 0, false, true);
+
+    final List<ByteBuffer> buffers = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final ByteBuffer buffer = byteBufferPool.acquireDirect(true);
+      Assert.assertEquals(4096, buffer.capacity());
+      assertBufferIsClear(buffer);
+
+      buffers.add(buffer);
+    }
+
+    Assert.assertEquals(ONative.HUGE_PAGE_SIZE, allocator.getMemoryConsumption());
+    Assert.assertEquals(ONative.HUGE_PAGE_SIZE, allocator.getHugePagesMemoryConsumption());
+    Assert.assertEquals(1, allocator.getAllocationsCount());
+
+    //pages of arena are kept in the pool even if pool limit is exceeded
+    for (ByteBuffer buffer : buffers) {
+      byteBufferPool.release(buffer);
+    }
+
+    Assert.assertEquals(3, byteBufferPool.getPoolSize());
+    Assert.assertEquals(ONative.HUGE_PAGE_SIZE, allocator.getMemoryConsumption());
+
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertEquals(0, allocator.getHugePagesMemoryConsumption());
+
+    byteBufferPool.checkMemoryLeaks();
+  }
+
   @Test
   @Ignore
   public void mtTest() throws Exception {
@@ -0,0 +1,53 @@
+package com.orientechnologies.common.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class OBloomFilterTest {
+  private static final int KEYS = 10000;
+
+  @Test
+  public void testAddedKeysAreFound() {
+    final OBloomFilter filter = new OBloomFilter(KEYS, 0.01);
+    for (int i = 0; i < KEYS; i++)
+      filter.add(key(i));
+
+    for (int i = 0; i < KEYS; i++)
+      Assert.assertTrue(filter.mightContain(key(i)));
+
+    int falsePositives = 0;
+    for (int i = KEYS; i < 2 * KEYS; i++) {
+      if (filter.mightContain(key(i)))
+        falsePositives++;
+    }
+
+    Assert.assertTrue("False positives " + falsePositives, falsePositives < KEYS * 0.03);
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    final OBloomFilter filter = new OBloomFilter(KEYS, 0.01);
+    for (int i = 0; i < KEYS; i += 2)
+      filter.add(key(i));
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      filter.write(output);
+    }
+
+    final OBloomFilter read = OBloomFilter.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    for (int i = 0; i < KEYS; i++)
+      Assert.assertEquals(filter.mightContain(key(i)), read.mightContain(key(i)));
+  }
+
+  private static byte[] key(int i) {
+    return ByteBuffer.allocate(4).putInt(i).array();
+  }
+}
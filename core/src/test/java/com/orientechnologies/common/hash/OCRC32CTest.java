@@ -0,0 +1,58 @@
+package com.orientechnologies.common.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Checksum;
+
+public class OCRC32CTest {
+  @Test
+  public void testKnownValues() {
+    Assert.assertEquals(0xE3069283L, crc(new OCRC32C(), "123456789".getBytes(StandardCharsets.US_ASCII)));
+    Assert.assertEquals(0x8A9136AAL, crc(new OCRC32C(), new byte[32]));
+    Assert.assertEquals(0x00000000L, crc(new OCRC32C(), new byte[0]));
+
+    final byte[] ones = new byte[32];
+    for (int i = 0; i < ones.length; i++)
+      ones[i] = (byte) 0xFF;
+    Assert.assertEquals(0x62A8AB43L, crc(new OCRC32C(), ones));
+
+    Assert.assertEquals(0xE3069283L, crc(OCRC32C.create(), "123456789".getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  @Test
+  public void testUpdateByPartsAndReset() {
+    final Random random = new Random();
+    final long seed = random.nextLong();
+    System.out.println("testUpdateByPartsAndReset seed : " + seed);
+    random.setSeed(seed);
+
+    final byte[] data = new byte[65536];
+    random.nextBytes(data);
+
+    final OCRC32C expected = new OCRC32C();
+    for (byte b : data)
+      expected.update(b);
+
+    final OCRC32C checksum = new OCRC32C();
+    int offset = 0;
+    while (offset < data.length) {
+      final int len = Math.min(random.nextInt(100), data.length - offset);
+      checksum.update(data, offset, len);
+      offset += len;
+    }
+
+    Assert.assertEquals(expected.getValue(), checksum.getValue());
+    Assert.assertEquals(expected.getValue(), crc(OCRC32C.create(), data));
+
+    checksum.reset();
+    Assert.assertEquals(0xE3069283L, crc(checksum, "123456789".getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  private static long crc(Checksum checksum, byte[] data) {
+    checksum.update(data, 0, data.length);
+    return checksum.getValue();
+  }
+}
@@ -0,0 +1,89 @@
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class OLZ4CompressionTest {
+  @Test
+  public void testCompressionIsRegistered() {
+    Assert.assertSame(OLZ4Compression.class, OCompressionFactory.INSTANCE.getCompression(OLZ4Compression.NAME, null).getClass());
+  }
+
+  @Test
+  public void testEmptyContent() {
+    assertRoundTrip(new byte[0]);
+    assertRoundTrip(new byte[] { 42 });
+  }
+
+  @Test
+  public void testRandomContent() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+
+    for (int i = 0; i < 100; i++) {
+      final byte[] content = new byte[random.nextInt(70000)];
+      random.nextBytes(content);
+
+      assertRoundTrip(content);
+    }
+  }
+
+  @Test
+  public void testRepetitiveContentIsCompressed() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+
+    for (int i = 0; i < 100; i++) {
+      final byte[] content = new byte[random.nextInt(70000) + 1024];
+      final byte[] pattern = new byte[random.nextInt(64) + 1];
+      random.nextBytes(pattern);
+
+      for (int n = 0; n < content.length; n++) {
+        //runs of zeros are mixed with repeated pattern
+        content[n] = (n / 4096) % 2 == 0 ? 0 : pattern[n % pattern.length];
+      }
+
+      final byte[] compressed = assertRoundTrip(content);
+      Assert.assertTrue("Seed " + seed, compressed.length < content.length / 10);
+    }
+  }
+
+  @Test
+  public void testCompressionWithOffset() {
+    final byte[] content = new byte[10000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i % 100);
+    }
+
+    final byte[] compressed = OLZ4Compression.INSTANCE.compress(content, 100, 5000);
+    final byte[] buffer = new byte[compressed.length + 20];
+    System.arraycopy(compressed, 0, buffer, 10, compressed.length);
+
+    Assert.assertArrayEquals(Arrays.copyOfRange(content, 100, 5100),
+        OLZ4Compression.INSTANCE.uncompress(buffer, 10, compressed.length));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMalformedContent() {
+    final byte[] content = new byte[10000];
+    final byte[] compressed = OLZ4Compression.INSTANCE.compress(content);
+
+    //length of original content is followed by token and single literal, offset of the first match points before the start of
+    //the content
+    compressed[6] = (byte) 0xFF;
+    compressed[7] = (byte) 0xFF;
+
+    OLZ4Compression.INSTANCE.uncompress(compressed);
+  }
+
+  private static byte[] assertRoundTrip(final byte[] content) {
+    final byte[] compressed = OLZ4Compression.INSTANCE.compress(content);
+    Assert.assertArrayEquals(content, OLZ4Compression.INSTANCE.uncompress(compressed));
+
+    return compressed;
+  }
+}
@@ -0,0 +1,133 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class IndexBulkLoadTest {
+  private static final int RECORDS = 10000;
+
+  private OrientDB        orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:",
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.INDEX_BULK_LOAD_THREADS, 2).build());
+    orientDB.create("indexBulkLoadTest", ODatabaseType.MEMORY);
+    db = orientDB.open("indexBulkLoadTest", "admin", "admin");
+
+    final OClass item = db.createClass("Item");
+    item.createProperty("key", OType.INTEGER);
+    item.createProperty("name", OType.STRING);
+    item.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+
+    // records are spread over several clusters, so they are scanned by several threads
+    for (int i = 0; i < 3; i++)
+      item.addCluster("item_" + i);
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop("indexBulkLoadTest");
+    orientDB.close();
+  }
+
+  @Test
+  public void testUniqueIndexIsCreatedAndRebuilt() {
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++)
+      rids.add(db.save(new ODocument("Item").field("key", RECORDS - i)).getIdentity());
+
+    final OIndex<?> index = db.getMetadata().getSchema().getClass("Item").getProperty("key").createIndex(OClass.INDEX_TYPE.UNIQUE);
+    assertIndex(index, rids);
+
+    Assert.assertEquals(RECORDS, index.rebuild());
+    assertIndex(index, rids);
+
+    // index is updated as usual after the load
+    db.save(new ODocument("Item").field("key", RECORDS + 1));
+    Assert.assertEquals(RECORDS + 1, index.getSize());
+    try {
+      db.save(new ODocument("Item").field("key", 1));
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testCollectionItemsAreIndexed() {
+    final ORID first = db.save(new ODocument("Item").field("tags", Arrays.asList("a", "b"))).getIdentity();
+    final ORID second = db.save(new ODocument("Item").field("tags", Arrays.asList("c"))).getIdentity();
+
+    final OIndex<?> index = db.getMetadata().getSchema().getClass("Item").getProperty("tags")
+        .createIndex(OClass.INDEX_TYPE.UNIQUE);
+    Assert.assertEquals(3, index.getSize());
+    Assert.assertEquals(first, index.get("a"));
+    Assert.assertEquals(first, index.get("b"));
+    Assert.assertEquals(second, index.get("c"));
+  }
+
+  @Test
+  public void testNullKeysAreIndexed() {
+    final ORID nameless = db.save(new ODocument("Item").field("name", (String) null)).getIdentity();
+    final ORID named = db.save(new ODocument("Item").field("name", "name")).getIdentity();
+
+    final OIndex<?> index = db.getMetadata().getSchema().getClass("Item")
+        .createIndex("Item.name", OClass.INDEX_TYPE.UNIQUE.toString(), null, new ODocument().field("ignoreNullValues", false),
+            new String[] { "name" });
+    Assert.assertEquals(2, index.getSize());
+    Assert.assertEquals(named, index.get("name"));
+    Assert.assertEquals(nameless, index.get(null));
+  }
+
+  @Test
+  public void testDuplicatedKeysFailIndexCreation() {
+    for (int i = 0; i < 100; i++)
+      db.save(new ODocument("Item").field("key", i % 50));
+
+    try {
+      db.getMetadata().getSchema().getClass("Item").getProperty("key").createIndex(OClass.INDEX_TYPE.UNIQUE);
+      Assert.fail();
+    } catch (RuntimeException e) {
+      Throwable cause = e;
+      while (cause != null && !(cause instanceof ORecordDuplicatedException))
+        cause = cause.getCause();
+      Assert.assertNotNull(cause);
+    }
+  }
+
+  private void assertIndex(OIndex<?> index, List<ORID> rids) {
+    Assert.assertEquals(RECORDS, index.getSize());
+    for (int i = 0; i < RECORDS; i++)
+      Assert.assertEquals(rids.get(i), index.get(RECORDS - i));
+
+    final OIndexCursor cursor = index.iterateEntriesBetween(1, true, RECORDS, true, true);
+    int expected = 1;
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null) {
+      Assert.assertEquals(expected, entry.getKey());
+      expected++;
+    }
+    Assert.assertEquals(RECORDS + 1, expected);
+  }
+}
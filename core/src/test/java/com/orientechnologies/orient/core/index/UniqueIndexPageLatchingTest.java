@@ -0,0 +1,172 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class UniqueIndexPageLatchingTest {
+  private static final String DATABASE_URL = "memory:" + UniqueIndexPageLatchingTest.class.getSimpleName();
+  private static final int    THREADS      = 4;
+
+  private ODatabaseDocumentTx db;
+  private ExecutorService     executor;
+  private boolean             pageLatching;
+
+  @Before
+  public void before() {
+    pageLatching = OGlobalConfiguration.SBTREE_PAGE_LATCHING.getValueAsBoolean();
+    OGlobalConfiguration.SBTREE_PAGE_LATCHING.setValue(true);
+
+    db = new ODatabaseDocumentTx(DATABASE_URL);
+    db.create();
+
+    final OClass clazz = db.getMetadata().getSchema().createClass("Account");
+    clazz.createProperty("number", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+
+    executor = Executors.newFixedThreadPool(THREADS);
+  }
+
+  @After
+  public void after() throws Exception {
+    executor.shutdownNow();
+    Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    db.activateOnCurrentThread();
+    db.drop();
+
+    OGlobalConfiguration.SBTREE_PAGE_LATCHING.setValue(pageLatching);
+  }
+
+  @Test
+  public void testConcurrentTransactions() throws Exception {
+    final int transactions = 200;
+    final int recordsPerTransaction = 5;
+
+    final List<Future<Void>> futures = new ArrayList<>();
+    for (int n = 0; n < THREADS; n++) {
+      final int thread = n;
+      futures.add(executor.submit(() -> {
+        final ODatabaseDocumentTx threadDb = new ODatabaseDocumentTx(DATABASE_URL);
+        threadDb.open("admin", "admin");
+        try {
+          for (int i = 0; i < transactions; i++) {
+            threadDb.begin();
+            for (int j = 0; j < recordsPerTransaction; j++) {
+              final ODocument document = new ODocument("Account");
+              document.field("number", ((i * recordsPerTransaction + j) * THREADS) + thread);
+              document.save();
+            }
+            threadDb.commit();
+          }
+        } finally {
+          threadDb.close();
+        }
+        return null;
+      }));
+    }
+
+    for (Future<Void> future : futures)
+      future.get(5, TimeUnit.MINUTES);
+
+    db.activateOnCurrentThread();
+    final int total = THREADS * transactions * recordsPerTransaction;
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Account.number");
+
+    Assert.assertEquals(total, db.countClass("Account"));
+    Assert.assertEquals(total, index.getSize());
+
+    for (int i = 0; i < total; i++) {
+      final ODocument document = db.load(((OIdentifiable) index.get(i)).getIdentity());
+      Assert.assertEquals(i, (int) document.<Integer>field("number"));
+    }
+  }
+
+  @Test
+  public void testConcurrentDuplicatesAreRejected() throws Exception {
+    final int keys = 100;
+
+    final List<Future<Integer>> futures = new ArrayList<>();
+    for (int n = 0; n < THREADS; n++) {
+      futures.add(executor.submit(() -> {
+        final ODatabaseDocumentTx threadDb = new ODatabaseDocumentTx(DATABASE_URL);
+        threadDb.open("admin", "admin");
+        int inserted = 0;
+        try {
+          for (int i = 0; i < keys; i++) {
+            threadDb.begin();
+            final ODocument document = new ODocument("Account");
+            document.field("number", i);
+            document.save();
+            try {
+              threadDb.commit();
+              inserted++;
+            } catch (ORecordDuplicatedException e) {
+              // expected, other thread has inserted the same key
+            }
+          }
+        } finally {
+          threadDb.close();
+        }
+        return inserted;
+      }));
+    }
+
+    int inserted = 0;
+    for (Future<Integer> future : futures)
+      inserted += future.get(5, TimeUnit.MINUTES);
+
+    db.activateOnCurrentThread();
+    Assert.assertEquals(keys, inserted);
+    Assert.assertEquals(keys, db.countClass("Account"));
+    Assert.assertEquals(keys, db.getMetadata().getIndexManager().getIndex("Account.number").getSize());
+  }
+
+  @Test
+  public void testKeyUpdate() {
+    final ODocument document = new ODocument("Account");
+    document.field("number", 1);
+    db.save(document);
+
+    final ODocument other = new ODocument("Account");
+    other.field("number", 2);
+    db.save(other);
+
+    db.begin();
+    document.field("number", 3);
+    db.save(document);
+    db.commit();
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Account.number");
+    Assert.assertNull(index.get(1));
+    Assert.assertEquals(document.getIdentity(), index.get(3));
+    Assert.assertEquals(2, index.getSize());
+
+    try {
+      db.begin();
+      other.field("number", 3);
+      db.save(other);
+      db.commit();
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException e) {
+    }
+
+    Assert.assertEquals(other.getIdentity(), index.get(2));
+    Assert.assertEquals(document.getIdentity(), index.get(3));
+    Assert.assertEquals(2, index.getSize());
+  }
+}
@@ -0,0 +1,81 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OCompactClusterStatementExecutionTest {
+  static ODatabaseDocument database;
+
+  @BeforeClass
+  public static void beforeClass() {
+    database = new ODatabaseDocumentTx("memory:OCompactClusterStatementExecutionTest");
+    database.create();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    database.close();
+  }
+
+  @Test
+  public void testCompactCluster() {
+    final String clusterName = "CompactClusterTest";
+    final int clusterId = database.addCluster(clusterName);
+
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      final ODocument document = new ODocument();
+      document.field("value", i);
+      document.field("payload", new String(new char[512]).replace('\0', 'x'));
+      document.save(clusterName);
+
+      rids.add(document.getIdentity());
+    }
+
+    // keep only every tenth record so most of pages become sparse
+    for (int i = 0; i < rids.size(); i++) {
+      if (i % 10 != 0)
+        database.delete(rids.get(i));
+    }
+
+    final OResultSet result = database.command("compact cluster " + clusterName);
+    Assert.assertTrue(result.hasNext());
+    final OResult item = result.next();
+    Assert.assertEquals("compact cluster", item.getProperty("operation"));
+    Assert.assertEquals(clusterId, (int) item.<Integer>getProperty("clusterId"));
+    Assert.assertTrue(item.<Long>getProperty("removedPages") > 0);
+    Assert.assertFalse(result.hasNext());
+    result.close();
+
+    Assert.assertEquals(200, database.countClusterElements(clusterId));
+    for (int i = 0; i < rids.size(); i += 10) {
+      final ODocument document = database.load(rids.get(i));
+      Assert.assertNotNull(document);
+      Assert.assertEquals(i, (int) document.<Integer>field("value"));
+    }
+  }
+
+  @Test
+  public void testCompactClusterById() {
+    final int clusterId = database.addCluster("CompactClusterByIdTest");
+
+    final ODocument document = new ODocument();
+    document.field("value", "val");
+    document.save("CompactClusterByIdTest");
+
+    final OResultSet result = database.command("compact cluster " + clusterId);
+    Assert.assertEquals("compactclusterbyidtest", result.next().getProperty("clusterName"));
+    result.close();
+
+    Assert.assertEquals("val", ((ODocument) database.load(document.getIdentity())).field("value"));
+  }
+}
@@ -1,5 +1,7 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.concur.lock.ODeadlockDetectingRWLockManager;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -12,6 +14,7 @@ import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.OVertex;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import org.junit.*;
 
 import java.lang.reflect.Array;
@@ -940,6 +943,48 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testQueryMetadataLocks() {
+    ORID rid = db.save(new ODocument(), "default").getIdentity();
+    ODeadlockDetectingRWLockManager<ORID> lockManager = ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage()
+        .getUnderlying()).getRecordLockManager();
+
+    lockManager.acquireWriteLock(rid, 0);
+    try (OResultSet result = db.query("select from metadata:locks")) {
+      printExecutionPlan(result);
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals(rid, item.getProperty("rid"));
+      Assert.assertEquals("exclusive", item.getProperty("mode"));
+      Assert.assertEquals(Collections.singletonList(Thread.currentThread().getName()), item.getProperty("holders"));
+      Assert.assertTrue(((List) item.getProperty("waiters")).isEmpty());
+      Assert.assertFalse(result.hasNext());
+    } finally {
+      lockManager.releaseWriteLock(rid);
+    }
+
+    try (OResultSet result = db.query("select from metadata:locks")) {
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testQueryMetadataLocksOfSession() {
+    ORID rid = db.save(new ODocument(), "default").getIdentity();
+    ODeadlockDetectingRWLockManager<ORID> lockManager = ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage()
+        .getUnderlying()).getRecordLockManager();
+    Object session = ((ODatabaseDocumentInternal) db).getTransaction().getDatabase();
+
+    lockManager.lock(rid, session, false, 0);
+    try (OResultSet result = db.query("select from metadata:locks")) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals(Collections.singletonList("admin@" + db.getName()), item.getProperty("holders"));
+    } finally {
+      lockManager.unlock(rid, session, false);
+    }
+  }
+
   @Test
   public void testNonExistingRids() {
     OResultSet result = db.query("select from #0:100000000");
@@ -0,0 +1,217 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.io.OFileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ODoubleWriteLogTest {
+  private static final int PAGE_SIZE = 1024;
+
+  private Path root;
+  private Path logPath;
+
+  private final Set<Integer> synchedFiles = new HashSet<>();
+
+  @Before
+  public void before() throws IOException {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    root = Paths.get(buildDirectory, "ODoubleWriteLogTest");
+    OFileUtils.deleteRecursively(root.toFile());
+    Files.createDirectories(root);
+
+    logPath = root.resolve("double_write.dwl");
+    synchedFiles.clear();
+  }
+
+  @After
+  public void after() {
+    OFileUtils.deleteRecursively(root.toFile());
+  }
+
+  @Test
+  public void testLatestPageImagesAreRestored() throws IOException {
+    ODoubleWriteLog log = createLog(1024 * PAGE_SIZE);
+
+    write(log, 1, 0, 1, 2, 3);
+    write(log, 2, 5, 4);
+    write(log, 1, 1, 5);
+
+    log = reopen(log, 1024 * PAGE_SIZE);
+
+    final List<RestoredPage> pages = restore(log);
+    Assert.assertEquals(5, pages.size());
+
+    assertPage(pages.get(0), 1, 0, 1);
+    assertPage(pages.get(1), 1, 1, 2);
+    assertPage(pages.get(2), 1, 2, 3);
+    assertPage(pages.get(3), 2, 5, 4);
+    //the latest image of the page is the last one
+    assertPage(pages.get(4), 1, 1, 5);
+
+    log.checkpoint();
+    Assert.assertEquals(0, Files.size(logPath));
+    Assert.assertEquals(new HashSet<>(Arrays.asList(1, 2)), synchedFiles);
+
+    log.delete();
+    Assert.assertFalse(Files.exists(logPath));
+  }
+
+  @Test
+  public void testBrokenRecordIsSkipped() throws IOException {
+    final ODoubleWriteLog crashedLog = createLog(1024 * PAGE_SIZE);
+
+    write(crashedLog, 1, 0, 1);
+    write(crashedLog, 1, 1, 2, 3);
+    final long size = crashedLog.getSize();
+
+    //emulate torn write of the last record
+    try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] { 42 }), size - PAGE_SIZE);
+    }
+
+    final ODoubleWriteLog log = createLog(1024 * PAGE_SIZE);
+
+    final List<RestoredPage> pages = restore(log);
+    Assert.assertEquals(1, pages.size());
+    assertPage(pages.get(0), 1, 0, 1);
+
+    log.delete();
+    crashedLog.delete();
+  }
+
+  @Test
+  public void testTruncatedRecordIsSkipped() throws IOException {
+    final ODoubleWriteLog crashedLog = createLog(1024 * PAGE_SIZE);
+
+    write(crashedLog, 1, 0, 1);
+    write(crashedLog, 1, 1, 2, 3);
+    final long size = crashedLog.getSize();
+
+    try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] { 42 }), size - 1);
+      channel.truncate(size - PAGE_SIZE);
+    }
+
+    final ODoubleWriteLog log = createLog(1024 * PAGE_SIZE);
+
+    final List<RestoredPage> pages = restore(log);
+    Assert.assertEquals(1, pages.size());
+    assertPage(pages.get(0), 1, 0, 1);
+
+    log.delete();
+    crashedLog.delete();
+  }
+
+  @Test
+  public void testLogIsCheckpointedOnOverflow() throws IOException {
+    final ODoubleWriteLog log = createLog(4 * PAGE_SIZE);
+
+    write(log, 1, 0, 1, 2);
+    Assert.assertTrue(synchedFiles.isEmpty());
+
+    write(log, 2, 0, 3, 4);
+    Assert.assertEquals(Collections.singleton(1), synchedFiles);
+
+    final List<RestoredPage> pages = restore(log);
+    Assert.assertEquals(2, pages.size());
+    assertPage(pages.get(0), 2, 0, 3);
+    assertPage(pages.get(1), 2, 1, 4);
+
+    log.close();
+    Assert.assertEquals(0, Files.size(logPath));
+  }
+
+  private ODoubleWriteLog createLog(long maxSize) throws IOException {
+    final ODoubleWriteLog log = new ODoubleWriteLog(logPath, maxSize, PAGE_SIZE, synchedFiles::addAll);
+    log.open();
+    return log;
+  }
+
+  private ODoubleWriteLog reopen(ODoubleWriteLog log, long maxSize) throws IOException {
+    //log is closed without checkpoint as it happens in case of crash
+    final long size = log.getSize();
+    Assert.assertEquals(size, Files.size(logPath));
+
+    final ODoubleWriteLog reopened = createLog(maxSize);
+    Assert.assertEquals(size, reopened.getSize());
+    return reopened;
+  }
+
+  private static void write(ODoubleWriteLog log, int intId, long startPageIndex, int... seeds) throws IOException {
+    final ByteBuffer[] pages = new ByteBuffer[seeds.length];
+    for (int i = 0; i < seeds.length; i++) {
+      pages[i] = page(seeds[i]);
+    }
+
+    log.startWrite(intId, startPageIndex, pages);
+    log.completeWrite();
+
+    for (ByteBuffer page : pages) {
+      Assert.assertEquals(0, page.position());
+    }
+  }
+
+  private static List<RestoredPage> restore(ODoubleWriteLog log) throws IOException {
+    final List<RestoredPage> pages = new ArrayList<>();
+    final int restored = log.restore((intId, pageIndex, page) -> {
+      final byte[] content = new byte[page.remaining()];
+      page.get(content);
+      pages.add(new RestoredPage(intId, pageIndex, content));
+    });
+
+    Assert.assertEquals(pages.size(), restored);
+    return pages;
+  }
+
+  private static ByteBuffer page(int seed) {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      buffer.put((byte) (seed + i));
+    }
+
+    buffer.position(0);
+    return buffer;
+  }
+
+  private static void assertPage(RestoredPage page, int intId, long pageIndex, int seed) {
+    Assert.assertEquals(intId, page.intId);
+    Assert.assertEquals(pageIndex, page.pageIndex);
+    Assert.assertEquals(PAGE_SIZE, page.content.length);
+
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      Assert.assertEquals((byte) (seed + i), page.content[i]);
+    }
+  }
+
+  private static final class RestoredPage {
+    private final int    intId;
+    private final long   pageIndex;
+    private final byte[] content;
+
+    private RestoredPage(int intId, long pageIndex, byte[] content) {
+      this.intId = intId;
+      this.pageIndex = pageIndex;
+      this.content = content;
+    }
+  }
+}
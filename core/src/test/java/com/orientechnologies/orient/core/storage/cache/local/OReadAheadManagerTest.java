@@ -0,0 +1,157 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class OReadAheadManagerTest {
+  private static final long FILE_ID      = 42;
+  private static final long FILLED_UP_TO = 1000;
+  private static final long WAIT_TIMEOUT = 10000;
+
+  @Test
+  public void testWindowGrowsOnSequentialScan() throws Exception {
+    final List<List<Long>> requests = Collections.synchronizedList(new ArrayList<>());
+    final OReadAheadManager manager = new OReadAheadManager(readCache(requests), writeCache(), 4, 16);
+
+    for (long pageIndex = 0; pageIndex <= 10; pageIndex++) {
+      manager.pageRead(FILE_ID, pageIndex);
+    }
+
+    waitForRequests(requests, 3);
+    Assert.assertEquals(Arrays.asList(Arrays.asList(2L, 4L), Arrays.asList(6L, 8L), Arrays.asList(14L, 16L)), sorted(requests));
+
+    //waits till all running requests are completed
+    manager.close();
+
+    Assert.assertEquals(3, manager.getRequestsCount());
+    Assert.assertEquals(28, manager.getPagesCount());
+    Assert.assertEquals(0, manager.getDroppedRequestsCount());
+  }
+
+  @Test
+  public void testNoReadAheadOnRandomAccess() throws Exception {
+    final List<List<Long>> requests = Collections.synchronizedList(new ArrayList<>());
+    final OReadAheadManager manager = new OReadAheadManager(readCache(requests), writeCache(), 4, 16);
+
+    for (long pageIndex : new long[] { 10, 50, 3, 70, 71, 20, 21, 5 }) {
+      manager.pageRead(FILE_ID, pageIndex);
+    }
+
+    manager.close();
+
+    Assert.assertTrue(requests.isEmpty());
+    Assert.assertEquals(0, manager.getRequestsCount());
+  }
+
+  @Test
+  public void testReadAheadIsClampedByFileSize() throws Exception {
+    final List<List<Long>> requests = Collections.synchronizedList(new ArrayList<>());
+    final OReadAheadManager manager = new OReadAheadManager(readCache(requests), writeCache(), 4, 16);
+
+    manager.pageRead(FILE_ID, FILLED_UP_TO - 4);
+    manager.pageRead(FILE_ID, FILLED_UP_TO - 3);
+    manager.pageRead(FILE_ID, FILLED_UP_TO - 2);
+
+    waitForRequests(requests, 1);
+    Assert.assertEquals(Collections.singletonList(Arrays.asList(FILLED_UP_TO - 1, 1L)), sorted(requests));
+
+    manager.close();
+  }
+
+  @Test
+  public void testNoReadAheadAfterClose() throws Exception {
+    final List<List<Long>> requests = Collections.synchronizedList(new ArrayList<>());
+    final OReadAheadManager manager = new OReadAheadManager(readCache(requests), writeCache(), 4, 16);
+
+    manager.close();
+
+    for (long pageIndex = 0; pageIndex <= 10; pageIndex++) {
+      manager.pageRead(FILE_ID, pageIndex);
+    }
+
+    Assert.assertTrue(requests.isEmpty());
+    Assert.assertEquals(0, manager.getRequestsCount());
+  }
+
+  @Test
+  public void testCancelWaitsForRunningReadAhead() throws Exception {
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch loadReleased = new CountDownLatch(1);
+
+    final OReadCache readCache = (OReadCache) Proxy
+        .newProxyInstance(OReadCache.class.getClassLoader(), new Class<?>[] { OReadCache.class }, (proxy, method, args) -> {
+          if (method.getName().equals("loadForRead")) {
+            loadStarted.countDown();
+            loadReleased.await();
+          }
+
+          return null;
+        });
+    final OReadAheadManager manager = new OReadAheadManager(readCache, writeCache(), 4, 16);
+
+    for (long pageIndex = 0; pageIndex <= 2; pageIndex++) {
+      manager.pageRead(FILE_ID, pageIndex);
+    }
+
+    Assert.assertTrue(loadStarted.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+    final CompletableFuture<Void> cancel = CompletableFuture.runAsync(() -> manager.cancelReadAhead(FILE_ID));
+    Thread.sleep(100);
+    Assert.assertFalse(cancel.isDone());
+
+    loadReleased.countDown();
+    cancel.get(WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+
+    manager.close();
+  }
+
+  private static void waitForRequests(List<List<Long>> requests, int count) throws InterruptedException {
+    final long end = System.currentTimeMillis() + WAIT_TIMEOUT;
+    while (requests.size() < count && System.currentTimeMillis() < end) {
+      Thread.sleep(10);
+    }
+
+    Assert.assertEquals(count, requests.size());
+  }
+
+  private static List<List<Long>> sorted(List<List<Long>> requests) {
+    final List<List<Long>> result = new ArrayList<>(requests);
+    result.sort((first, second) -> Long.compare(first.get(0), second.get(0)));
+    return result;
+  }
+
+  /**
+   * @return Read cache which records start page index and amount of pages of each load and reports that pages are absent
+   */
+  private static OReadCache readCache(final List<List<Long>> requests) {
+    return (OReadCache) Proxy
+        .newProxyInstance(OReadCache.class.getClassLoader(), new Class<?>[] { OReadCache.class }, (proxy, method, args) -> {
+          if (method.getName().equals("loadForRead")) {
+            requests.add(Arrays.asList((Long) args[1], ((Integer) args[4]).longValue()));
+          }
+
+          return null;
+        });
+  }
+
+  private static OWriteCache writeCache() {
+    return (OWriteCache) Proxy
+        .newProxyInstance(OWriteCache.class.getClassLoader(), new Class<?>[] { OWriteCache.class }, (proxy, method, args) -> {
+          if (method.getName().equals("getFilledUpTo"))
+            return FILLED_UP_TO;
+
+          return null;
+        });
+  }
+}
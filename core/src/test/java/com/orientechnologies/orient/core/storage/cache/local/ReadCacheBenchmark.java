@@ -0,0 +1,138 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of read cache implementations on concurrent workload where 80% of requests hit 20% of pages and rest of
+ * requests are spread over whole data set which is four times bigger than read cache.
+ * <p>
+ * Benchmark is not executed during build, to run it use {@link #main(String[])} from test class path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@Threads(8)
+public class ReadCacheBenchmark {
+  private static final int PAGE_SIZE        = 4 * 1024;
+  private static final int READ_CACHE_PAGES = 16 * 1024;
+  private static final int DATA_PAGES       = 4 * READ_CACHE_PAGES;
+  private static final int HOT_PAGES        = DATA_PAGES / 5;
+
+  @Param({ O2QCache.NAME, OWTinyLFUCache.NAME })
+  public String cacheImplementation;
+
+  private final OByteBufferPool                              bufferPool = new OByteBufferPool(PAGE_SIZE);
+  private final OClosableLinkedContainer<Long, OFileClassic> files      = new OClosableLinkedContainer<>(1024);
+
+  private OLocalPaginatedStorage storage;
+  private OWOWCache              writeCache;
+  private OReadCache             readCache;
+  private long                   fileId;
+
+  public static void main(String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder().include(ReadCacheBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    storage = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(buildDirectory + "/ReadCacheBenchmark", null);
+    storage.create(new OContextConfiguration());
+    storage.close(true, false);
+
+    writeCache = new OWOWCache(PAGE_SIZE, bufferPool, null, -1, 2L * DATA_PAGES * PAGE_SIZE, storage, false, files, 1,
+        OChecksumMode.Off);
+    writeCache.loadRegisteredFiles();
+
+    if (OWTinyLFUCache.NAME.equals(cacheImplementation)) {
+      readCache = new OWTinyLFUCache((long) READ_CACHE_PAGES * PAGE_SIZE, PAGE_SIZE, false, 20);
+    } else {
+      readCache = new O2QCache((long) READ_CACHE_PAGES * PAGE_SIZE, PAGE_SIZE, false, 20);
+    }
+
+    fileId = readCache.addFile("readCacheBenchmark.tst", writeCache);
+    for (int i = 0; i < DATA_PAGES; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, false);
+      cacheEntry.getCachePointer().getBuffer().putLong(64, i);
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+
+    writeCache.flush();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    readCache.deleteStorage(writeCache);
+    readCache.clear();
+    files.clear();
+
+    storage.delete();
+    bufferPool.clear();
+
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.TRUE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Benchmark
+  public long loadForRead() throws IOException {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    final long pageIndex;
+    if (random.nextInt(10) < 8) {
+      pageIndex = random.nextInt(HOT_PAGES);
+    } else {
+      pageIndex = random.nextInt(DATA_PAGES);
+    }
+
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, false);
+    try {
+      return cacheEntry.getCachePointer().getBufferDuplicate().getLong(64);
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WOWCacheAdaptiveFlushTest {
+  private static final long LOW_BOUNDARY  = 2L * 1024 * 1024 * 1024;
+  private static final long HIGH_BOUNDARY = 6L * 1024 * 1024 * 1024;
+
+  @Test
+  public void testNothingIsFlushedBelowLowBoundary() {
+    Assert.assertEquals(0, OWOWCache.adaptiveFlushPages(0, LOW_BOUNDARY, HIGH_BOUNDARY, 1000, 1024 * 1024));
+    Assert.assertEquals(0, OWOWCache.adaptiveFlushPages(LOW_BOUNDARY, LOW_BOUNDARY, HIGH_BOUNDARY, 1000, 1024 * 1024));
+  }
+
+  @Test
+  public void testNothingIsFlushedWithoutDirtyPages() {
+    Assert.assertEquals(0, OWOWCache.adaptiveFlushPages(HIGH_BOUNDARY + 1, LOW_BOUNDARY, HIGH_BOUNDARY, 0, 1024 * 1024));
+  }
+
+  @Test
+  public void testEverythingIsFlushedAboveHighBoundary() {
+    Assert.assertEquals(Integer.MAX_VALUE, OWOWCache.adaptiveFlushPages(HIGH_BOUNDARY, LOW_BOUNDARY, HIGH_BOUNDARY, 1000, 0));
+  }
+
+  @Test
+  public void testFlushMatchesWALGrowthInTheMiddle() {
+    final long age = (LOW_BOUNDARY + HIGH_BOUNDARY) / 2;
+    final int dirtyPages = 100_000;
+
+    // 1/1000 of WAL which is not flushed yet is appended during each interval, so 1/1000 of dirty pages has to be flushed
+    final int pages = OWOWCache.adaptiveFlushPages(age, LOW_BOUNDARY, HIGH_BOUNDARY, dirtyPages, age / 1000.0);
+    Assert.assertEquals(dirtyPages / 1000, pages);
+  }
+
+  @Test
+  public void testFlushGrowsWithCheckpointAge() {
+    final int dirtyPages = 100_000;
+    final double walGrowth = 64 * 1024 * 1024;
+
+    int previousPages = 0;
+    for (long age = LOW_BOUNDARY + 1; age < HIGH_BOUNDARY; age += 256L * 1024 * 1024) {
+      final int pages = OWOWCache.adaptiveFlushPages(age, LOW_BOUNDARY, HIGH_BOUNDARY, dirtyPages, walGrowth);
+
+      Assert.assertTrue(pages >= 1);
+      Assert.assertTrue(pages <= dirtyPages);
+      Assert.assertTrue(pages >= previousPages);
+
+      previousPages = pages;
+    }
+  }
+
+  @Test
+  public void testPagesAreFlushedWhenWALDoesNotGrow() {
+    final long age = LOW_BOUNDARY + (HIGH_BOUNDARY - LOW_BOUNDARY) / 4;
+    final int pages = OWOWCache.adaptiveFlushPages(age, LOW_BOUNDARY, HIGH_BOUNDARY, 100_000, 0);
+
+    Assert.assertTrue(pages > 1);
+  }
+}
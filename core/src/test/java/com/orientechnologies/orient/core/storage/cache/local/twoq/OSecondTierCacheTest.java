@@ -0,0 +1,269 @@
+package com.orientechnologies.orient.core.storage.cache.local.twoq;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+public class OSecondTierCacheTest {
+  private static final int PAGE_SIZE  = 1024;
+  private static final int QUEUE_SIZE = 64;
+
+  private static final OByteBufferPool BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+
+  private Path root;
+  private Path tierPath;
+
+  @Before
+  public void before() throws IOException {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    root = Paths.get(buildDirectory, "OSecondTierCacheTest");
+    OFileUtils.deleteRecursively(root.toFile());
+    Files.createDirectories(root);
+
+    tierPath = root.resolve("tier.cache");
+  }
+
+  @After
+  public void after() {
+    OFileUtils.deleteRecursively(root.toFile());
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    BUFFER_POOL.clear();
+  }
+
+  @Test
+  public void testPageIsLoadedOnlyOnce() throws IOException {
+    final OSecondTierCache tier = new OSecondTierCache(tierPath, 4 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+
+    tier.put(1, 3, page(3));
+    tier.flush();
+    Assert.assertEquals(1, tier.size());
+
+    assertPage(tier.remove(1, 3), 3);
+    Assert.assertNull(tier.remove(1, 3));
+
+    Assert.assertEquals(0, tier.size());
+    Assert.assertEquals(1, tier.getSpills());
+    Assert.assertEquals(1, tier.getHits());
+    Assert.assertEquals(1, tier.getMisses());
+
+    tier.close();
+  }
+
+  @Test
+  public void testOldestPagesAreOverwritten() throws IOException {
+    final OSecondTierCache tier = new OSecondTierCache(tierPath, 4 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+
+    for (int i = 0; i < 6; i++) {
+      tier.put(1, i, page(i));
+    }
+
+    tier.flush();
+    Assert.assertEquals(4, tier.size());
+    Assert.assertNull(tier.remove(1, 0));
+    Assert.assertNull(tier.remove(1, 1));
+
+    for (int i = 2; i < 6; i++) {
+      assertPage(tier.remove(1, i), i);
+    }
+
+    tier.close();
+  }
+
+  @Test
+  public void testFilePagesAreRemoved() throws IOException {
+    final OSecondTierCache tier = new OSecondTierCache(tierPath, 8 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+
+    tier.put(1, 0, page(0));
+    tier.put(1, 1, page(1));
+    tier.put(2, 0, page(2));
+    tier.put(2, 1, page(3));
+    tier.flush();
+
+    tier.removeFile(1);
+    tier.discard(2, 1);
+
+    Assert.assertEquals(1, tier.size());
+    Assert.assertNull(tier.remove(1, 0));
+    Assert.assertNull(tier.remove(1, 1));
+    Assert.assertNull(tier.remove(2, 1));
+    assertPage(tier.remove(2, 0), 2);
+
+    tier.close();
+  }
+
+  @Test
+  public void testQueuedPageIsNotStoredAfterDiscard() throws IOException {
+    final OSecondTierCache tier = new OSecondTierCache(tierPath, 8 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+
+    for (int i = 0; i < 4; i++) {
+      tier.put(1, i, page(i));
+      tier.discard(1, i);
+    }
+
+    tier.put(2, 0, page(4));
+    Assert.assertNull(tier.remove(2, 0));
+
+    tier.flush();
+
+    Assert.assertEquals(0, tier.size());
+    for (int i = 0; i < 4; i++) {
+      Assert.assertNull(tier.remove(1, i));
+    }
+    Assert.assertNull(tier.remove(2, 0));
+
+    tier.close();
+  }
+
+  @Test
+  public void testPagesAreDroppedIfQueueIsFull() throws IOException {
+    final OSecondTierCache tier = new OSecondTierCache(tierPath, 64 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, 1);
+
+    for (int i = 0; i < 64; i++) {
+      tier.put(1, i, page(i));
+    }
+
+    tier.flush();
+
+    Assert.assertEquals(64, tier.getSpills() + tier.getDrops());
+    Assert.assertEquals(tier.getSpills(), tier.size());
+
+    for (int i = 0; i < 64; i++) {
+      final OCachePointer pointer = tier.remove(1, i);
+      if (pointer != null)
+        assertPage(pointer, i);
+    }
+
+    tier.close();
+  }
+
+  @Test
+  public void testBrokenPageIsNotLoaded() throws IOException {
+    final OSecondTierCache tier = new OSecondTierCache(tierPath, 4 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+
+    tier.put(1, 0, page(0));
+    tier.flush();
+
+    //last page of the file is content of the first slot
+    try (FileChannel channel = FileChannel.open(tierPath, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] { 42 }), channel.size() - PAGE_SIZE / 2);
+    }
+
+    Assert.assertNull(tier.remove(1, 0));
+    Assert.assertEquals(0, tier.size());
+
+    tier.close();
+  }
+
+  @Test
+  public void testStateIsRestoredAfterReopen() throws IOException {
+    final Path dataFile = root.resolve("data.pcl");
+    Files.write(dataFile, new byte[] { 1 });
+
+    final OWriteCache writeCache = writeCache("data.pcl");
+
+    OSecondTierCache tier = new OSecondTierCache(tierPath, 8 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+    tier.put(1, 0, page(0));
+    tier.put(1, 1, page(1));
+    tier.put(3, 0, page(2));
+    tier.flush();
+
+    tier.storeState(writeCache, new long[] { 1 }, new String[] { "data.pcl" });
+    Assert.assertEquals(1, tier.size());
+    tier.close();
+
+    tier = new OSecondTierCache(tierPath, 8 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+    Assert.assertEquals(0, tier.size());
+
+    tier.loadState(writeCache);
+    Assert.assertFalse(Files.exists(root.resolve(OSecondTierCache.CACHE_STATE_FILE)));
+    Assert.assertEquals(2, tier.size());
+
+    assertPage(tier.remove(1, 0), 0);
+    assertPage(tier.remove(1, 1), 1);
+    Assert.assertNull(tier.remove(3, 0));
+
+    tier.put(1, 2, page(4));
+    tier.flush();
+    tier.storeState(writeCache, new long[] { 1 }, new String[] { "data.pcl" });
+    tier.close();
+
+    //file is changed after close, so state is dropped
+    Files.setLastModifiedTime(dataFile, FileTime.fromMillis(Files.getLastModifiedTime(dataFile).toMillis() - 10000));
+
+    tier = new OSecondTierCache(tierPath, 8 * PAGE_SIZE, PAGE_SIZE, BUFFER_POOL, QUEUE_SIZE);
+    tier.loadState(writeCache);
+
+    Assert.assertEquals(0, tier.size());
+    Assert.assertFalse(Files.exists(root.resolve(OSecondTierCache.CACHE_STATE_FILE)));
+
+    tier.close();
+  }
+
+  private static ByteBuffer page(int seed) {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      buffer.put((byte) (seed + i));
+    }
+
+    buffer.position(0);
+    return buffer;
+  }
+
+  private static void assertPage(OCachePointer pointer, int seed) {
+    Assert.assertNotNull(pointer);
+
+    final ByteBuffer buffer = pointer.getBufferDuplicate();
+    buffer.position(0);
+
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      Assert.assertEquals((byte) (seed + i), buffer.get());
+    }
+
+    pointer.decrementReadersReferrer();
+  }
+
+  /**
+   * @return Write cache which contains single file with id 1 and given native name, internal and external ids are the same
+   */
+  private OWriteCache writeCache(final String nativeFileName) {
+    return (OWriteCache) Proxy
+        .newProxyInstance(OWriteCache.class.getClassLoader(), new Class<?>[] { OWriteCache.class }, (proxy, method, args) -> {
+          switch (method.getName()) {
+          case "getRootDirectory":
+            return root;
+          case "internalFileId":
+            return (int) (long) (Long) args[0];
+          case "externalFileId":
+            return (long) (Integer) args[0];
+          case "fileNameById":
+          case "nativeFileNameById":
+            return ((Long) args[0]) == 1 ? nativeFileName : null;
+          default:
+            return null;
+          }
+        });
+  }
+}
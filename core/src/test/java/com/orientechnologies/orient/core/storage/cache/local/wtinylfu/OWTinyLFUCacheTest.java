@@ -0,0 +1,236 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OWTinyLFUCacheTest {
+  private static final int userDataSize          = 8;
+  private static final int systemOffset          = OIntegerSerializer.INT_SIZE + 3 * OLongSerializer.LONG_SIZE;
+  private static final int PAGE_SIZE             = userDataSize + systemOffset;
+  private static final int READ_CACHE_PAGES      = 16;
+  private static final int READ_CACHE_MAX_MEMORY = READ_CACHE_PAGES * PAGE_SIZE;
+  private static final int WRITE_CACHE_MAX_SIZE  = 15000 * PAGE_SIZE;
+
+  private static final OByteBufferPool                              BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+  private static final OClosableLinkedContainer<Long, OFileClassic> files       = new OClosableLinkedContainer<>(1024);
+
+  private static OLocalPaginatedStorage storageLocal;
+
+  private OWTinyLFUCache readCache;
+  private OWOWCache      writeCache;
+  private long           fileId;
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    storageLocal = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(buildDirectory + "/OWTinyLFUCacheTest", null);
+    storageLocal.create(new OContextConfiguration());
+    storageLocal.close(true, false);
+  }
+
+  @AfterClass
+  public static void afterClass() throws IOException {
+    storageLocal.delete();
+
+    BUFFER_POOL.clear();
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.TRUE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Before
+  public void beforeMethod() throws Exception {
+    writeCache = new OWOWCache(PAGE_SIZE, BUFFER_POOL, null, -1, WRITE_CACHE_MAX_SIZE, storageLocal, false, files, 1,
+        OChecksumMode.StoreAndThrow);
+    writeCache.loadRegisteredFiles();
+
+    readCache = new OWTinyLFUCache(READ_CACHE_MAX_MEMORY, PAGE_SIZE, false, 50);
+    fileId = readCache.addFile("wTinyLFUCacheTest.tst", writeCache);
+  }
+
+  @After
+  public void afterMethod() throws Exception {
+    readCache.deleteStorage(writeCache);
+    readCache.clear();
+    files.clear();
+  }
+
+  @Test
+  public void testWrittenPagesCanBeReadBack() throws Exception {
+    final int pages = 4 * READ_CACHE_PAGES;
+    writePages(pages);
+
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry entry = readCache.loadForRead(fileId, i, false, writeCache, 1, true);
+      Assert.assertNotNull(entry);
+      Assert.assertEquals(i, entry.getPageIndex());
+
+      final ByteBuffer buffer = entry.getCachePointer().getBufferDuplicate();
+      buffer.position(systemOffset);
+      Assert.assertEquals(i, buffer.getLong());
+
+      readCache.releaseFromRead(entry, writeCache);
+    }
+
+    Assert.assertTrue(readCache.getPolicySize() <= READ_CACHE_PAGES);
+    Assert.assertTrue(readCache.getUsedMemory() <= READ_CACHE_MAX_MEMORY);
+  }
+
+  @Test
+  public void testFrequentlyUsedPagesSurviveScan() throws Exception {
+    final int hotPages = 4;
+    final int pages = 8 * READ_CACHE_PAGES;
+    writePages(pages);
+
+    for (int n = 0; n < 10; n++) {
+      for (int i = 0; i < hotPages; i++) {
+        readCache.releaseFromRead(readCache.loadForRead(fileId, i, false, writeCache, 1, true), writeCache);
+      }
+
+      //flush accesses into eviction policy
+      readCache.getPolicySize();
+    }
+
+    for (int i = hotPages; i < pages; i++) {
+      readCache.releaseFromRead(readCache.loadForRead(fileId, i, false, writeCache, 1, true), writeCache);
+    }
+
+    Assert.assertTrue(readCache.getPolicySize() <= READ_CACHE_PAGES);
+
+    for (int i = 0; i < hotPages; i++) {
+      Assert.assertTrue(readCache.contains(fileId, i));
+    }
+  }
+
+  @Test
+  public void testPinnedPageIsNotEvicted() throws Exception {
+    final int pages = 4 * READ_CACHE_PAGES;
+    writePages(pages);
+
+    final OCacheEntry pinned = readCache.loadForRead(fileId, 0, false, writeCache, 1, true);
+    readCache.pinPage(pinned);
+    readCache.releaseFromRead(pinned, writeCache);
+
+    Assert.assertTrue(readCache.isPinned(fileId, 0));
+
+    for (int i = 1; i < pages; i++) {
+      readCache.releaseFromRead(readCache.loadForRead(fileId, i, false, writeCache, 1, true), writeCache);
+    }
+
+    Assert.assertTrue(readCache.contains(fileId, 0));
+    Assert.assertTrue(readCache.isPinned(fileId, 0));
+    Assert.assertTrue(readCache.getPolicySize() <= READ_CACHE_PAGES - 1);
+  }
+
+  @Test
+  public void testTruncateFileRemovesPages() throws Exception {
+    writePages(READ_CACHE_PAGES / 2);
+
+    for (int i = 0; i < READ_CACHE_PAGES / 2; i++) {
+      Assert.assertTrue(readCache.contains(fileId, i));
+    }
+
+    readCache.truncateFile(fileId, writeCache);
+
+    for (int i = 0; i < READ_CACHE_PAGES / 2; i++) {
+      Assert.assertFalse(readCache.contains(fileId, i));
+    }
+
+    Assert.assertEquals(0, readCache.getPolicySize());
+    Assert.assertEquals(0, readCache.getUsedMemory());
+    Assert.assertNull(readCache.loadForRead(fileId, 0, false, writeCache, 1, true));
+  }
+
+  @Test
+  public void testChangeMaximumAmountOfMemory() throws Exception {
+    writePages(READ_CACHE_PAGES);
+
+    readCache.changeMaximumAmountOfMemory(READ_CACHE_MAX_MEMORY / 2);
+
+    Assert.assertEquals(READ_CACHE_PAGES / 2, readCache.getMaxSize());
+    Assert.assertTrue(readCache.getPolicySize() <= READ_CACHE_PAGES / 2);
+    Assert.assertTrue(readCache.getUsedMemory() <= READ_CACHE_MAX_MEMORY / 2);
+  }
+
+  @Test
+  public void testConcurrentLoadsOfSamePages() throws Exception {
+    final int pages = 4 * READ_CACHE_PAGES;
+    writePages(pages);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < 4; n++) {
+        futures.add(executor.submit(() -> {
+          for (int k = 0; k < 10; k++) {
+            for (int i = 0; i < pages; i++) {
+              //prefetch of neighbour pages races with loads of the same pages by other threads
+              final OCacheEntry entry = readCache.loadForRead(fileId, i, false, writeCache, 4, true);
+              Assert.assertEquals(i, entry.getPageIndex());
+
+              final ByteBuffer buffer = entry.getCachePointer().getBufferDuplicate();
+              buffer.position(systemOffset);
+              Assert.assertEquals(i, buffer.getLong());
+
+              readCache.releaseFromRead(entry, writeCache);
+            }
+          }
+
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertTrue(readCache.getPolicySize() <= READ_CACHE_PAGES);
+    Assert.assertTrue(readCache.getUsedMemory() <= READ_CACHE_MAX_MEMORY);
+  }
+
+  private void writePages(final int pages) throws IOException {
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry entry = readCache.allocateNewPage(fileId, writeCache, true);
+      Assert.assertEquals(i, entry.getPageIndex());
+
+      final ByteBuffer buffer = entry.getCachePointer().getBuffer();
+      buffer.position(systemOffset);
+      buffer.putLong(i);
+
+      readCache.releaseFromWrite(entry, writeCache);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OPageChangesApplierTest {
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() {
+    final Map<String, List<Long>> appliedChanges = new ConcurrentHashMap<>();
+
+    final OPageChangesApplier applier = new OPageChangesApplier(4, "applierTest", (fileId, updatePageRecord) -> appliedChanges
+        .computeIfAbsent(fileId + ":" + updatePageRecord.getPageIndex(), key -> new ArrayList<>())
+        .add(updatePageRecord.getLsn().getPosition()));
+
+    try {
+      for (int i = 0; i < 10000; i++)
+        applier.apply(i % 3, updatePageRecord(i % 17, i));
+
+      applier.await();
+    } finally {
+      applier.close();
+    }
+
+    int applied = 0;
+    for (List<Long> positions : appliedChanges.values()) {
+      for (int i = 1; i < positions.size(); i++)
+        Assert.assertTrue(positions.get(i - 1) < positions.get(i));
+
+      applied += positions.size();
+    }
+
+    Assert.assertEquals(10000, applied);
+  }
+
+  @Test
+  public void testAwaitWaitsForAllChanges() {
+    final AtomicInteger applied = new AtomicInteger();
+
+    final OPageChangesApplier applier = new OPageChangesApplier(3, "applierTest", (fileId, updatePageRecord) -> {
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      applied.incrementAndGet();
+    });
+
+    try {
+      for (int i = 0; i < 300; i++)
+        applier.apply(1, updatePageRecord(i, i));
+
+      applier.await();
+      Assert.assertEquals(300, applied.get());
+    } finally {
+      applier.close();
+    }
+  }
+
+  @Test
+  public void testErrorOfApplierIsRethrown() {
+    final OPageChangesApplier applier = new OPageChangesApplier(2, "applierTest", (fileId, updatePageRecord) -> {
+      throw new IOException("Page can not be restored");
+    });
+
+    try {
+      applier.apply(1, updatePageRecord(1, 1));
+      applier.await();
+      Assert.fail();
+    } catch (OStorageException e) {
+      Assert.assertTrue(e.getCause() instanceof IOException);
+    } finally {
+      applier.close();
+    }
+  }
+
+  private static OUpdatePageRecord updatePageRecord(long pageIndex, long position) {
+    final OUpdatePageRecord record = new OUpdatePageRecord(pageIndex, 1, new OOperationUnitId(1, 1), null, null);
+    record.setLsn(new OLogSequenceNumber(0, position));
+    return record;
+  }
+}
@@ -0,0 +1,156 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RecordVersionCacheTest {
+  private OrientDB            orientDb;
+  private ODatabaseSession    db;
+  private ORecordVersionCache cache;
+
+  @Before
+  public void before() {
+    orientDb = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDb.create("recordVersionCacheTest", ODatabaseType.MEMORY);
+    db = orientDb.open("recordVersionCacheTest", "admin", "admin");
+
+    final OClass account = db.createClass("Account");
+    account.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.UNIQUE);
+
+    cache = ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage()).getRecordVersionCache();
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDb.drop("recordVersionCacheTest");
+    orientDb.close();
+  }
+
+  @Test
+  public void testVersionsOfChangedRecordsAreCached() {
+    final ODocument document = db.save(new ODocument("Account").field("name", "first"));
+    final ORID rid = document.getIdentity();
+    Assert.assertEquals(document.getVersion(), cache.getVersion(rid));
+
+    document.field("amount", 10);
+    db.save(document);
+    Assert.assertEquals(document.getVersion(), cache.getVersion(rid));
+
+    db.begin();
+    document.field("amount", 20);
+    db.save(document);
+    db.commit();
+    Assert.assertEquals(document.getVersion(), cache.getVersion(rid));
+
+    db.delete(document);
+    Assert.assertEquals(-1, cache.getVersion(rid));
+  }
+
+  @Test
+  public void testConflictIsDetectedByCache() {
+    final ORID rid = db.save(new ODocument("Account").field("name", "first")).getIdentity();
+
+    final ODocument stale = db.load(rid);
+    final ODocument current = stale.copy();
+    current.field("amount", 10);
+    db.save(current);
+
+    final long hits = cache.getHits();
+    final long misses = cache.getMisses();
+
+    stale.field("amount", 20);
+    db.begin();
+    db.save(stale);
+    try {
+      db.commit();
+      Assert.fail();
+    } catch (OConcurrentModificationException e) {
+      Assert.assertEquals(current.getVersion(), e.getEnhancedDatabaseVersion());
+    }
+
+    Assert.assertTrue(cache.getHits() > hits);
+    Assert.assertEquals(misses, cache.getMisses());
+
+    db.getLocalCache().clear();
+    final ODocument loaded = db.load(rid);
+    Assert.assertEquals(current.getVersion(), loaded.getVersion());
+    Assert.assertEquals(10, (int) loaded.<Integer>field("amount"));
+  }
+
+  @Test
+  public void testVersionsOfRolledBackTransactionAreNotCached() {
+    final ODocument document = db.save(new ODocument("Account").field("name", "first"));
+    db.save(new ODocument("Account").field("name", "second"));
+    final int version = document.getVersion();
+
+    db.begin();
+    document.field("amount", 10);
+    db.save(document);
+    db.save(new ODocument("Account").field("name", "second"));
+    try {
+      db.commit();
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    Assert.assertEquals(version, cache.getVersion(document.getIdentity()));
+
+    db.getLocalCache().clear();
+    final ODocument loaded = db.load(document.getIdentity());
+    Assert.assertEquals(version, loaded.getVersion());
+    loaded.field("amount", 20);
+    db.save(loaded);
+    Assert.assertEquals(version + 1, cache.getVersion(document.getIdentity()));
+  }
+
+  @Test
+  public void testTruncatedClusterIsRemovedFromCache() {
+    final ORID rid = db.save(new ODocument("Account").field("name", "first")).getIdentity();
+    Assert.assertTrue(cache.getVersion(rid) >= 0);
+
+    db.command("truncate class Account").close();
+    Assert.assertEquals(-1, cache.getVersion(rid));
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    final ORecordVersionCache bounded = new ORecordVersionCache(160);
+
+    final Map<ORID, Integer> versions = new HashMap<>();
+    for (int i = 0; i < 10000; i++)
+      versions.put(new ORecordId(1, i), 1);
+    bounded.update(versions);
+
+    int cached = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (bounded.getVersion(new ORecordId(1, i)) >= 0)
+        cached++;
+    }
+
+    Assert.assertTrue(cached > 0);
+    Assert.assertTrue(cached <= 160);
+
+    final ORecordVersionCache disabled = new ORecordVersionCache(0);
+    disabled.update(versions);
+    Assert.assertEquals(-1, disabled.getVersion(new ORecordId(1, 0)));
+  }
+}
@@ -0,0 +1,219 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class StorageSnapshotReadTest {
+  private OrientDB                  orientDb;
+  private ODatabaseSession          db;
+  private OAbstractPaginatedStorage storage;
+  private ExecutorService           executor;
+
+  @Before
+  public void before() {
+    orientDb = new OrientDB("embedded:",
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.CLASS_MINIMUM_CLUSTERS, 1).build());
+    orientDb.create("storageSnapshotReadTest", ODatabaseType.MEMORY);
+    db = orientDb.open("storageSnapshotReadTest", "admin", "admin");
+    db.createClass("Account");
+
+    storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void after() throws Exception {
+    executor.shutdownNow();
+    Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    db.close();
+    orientDb.drop("storageSnapshotReadTest");
+    orientDb.close();
+  }
+
+  @Test
+  public void testChangedRecordsAreReadFromSnapshot() throws Exception {
+    final ORecordId updated = (ORecordId) db.save(new ODocument("Account").field("amount", 10)).getIdentity();
+    final ORecordId deleted = (ORecordId) db.save(new ODocument("Account").field("amount", 20)).getIdentity();
+
+    final ORawBuffer updatedBefore = read(updated);
+    final ORawBuffer deletedBefore = read(deleted);
+
+    storage.startSnapshotRead();
+    try {
+      final ORecordId created = inOtherThread(session -> {
+        final ODocument document = session.load(updated);
+        document.field("amount", 11);
+        session.save(document);
+
+        session.delete(deleted);
+        return (ORecordId) session.save(new ODocument("Account").field("amount", 30)).getIdentity();
+      });
+
+      assertSameRecord(updatedBefore, read(updated));
+      assertSameRecord(deletedBefore, read(deleted));
+      Assert.assertNull(read(created));
+
+      // changes of the current thread are not visible either till snapshot is closed
+      db.save(new ODocument("Account").field("amount", 40));
+      Assert.assertEquals(2, browse(updated.getClusterId()).size());
+    } finally {
+      storage.endSnapshotRead();
+    }
+
+    Assert.assertEquals(updatedBefore.version + 1, read(updated).version);
+    Assert.assertNull(read(deleted));
+    Assert.assertEquals(3, browse(updated.getClusterId()).size());
+  }
+
+  @Test
+  public void testClusterIterationIsConsistentWithSnapshot() throws Exception {
+    final List<ORecordId> rids = new ArrayList<>();
+    for (int i = 0; i < 100; i++)
+      rids.add((ORecordId) db.save(new ODocument("Account").field("amount", i)).getIdentity());
+
+    final int clusterId = rids.get(0).getClusterId();
+
+    storage.startSnapshotRead();
+    try {
+      inOtherThread(session -> {
+        // delete every record except the last one, so iteration has to skip over deleted records in snapshot
+        for (int i = 0; i < rids.size() - 1; i++)
+          session.delete(rids.get(i));
+
+        for (int i = 0; i < 50; i++)
+          session.save(new ODocument("Account").field("amount", i));
+        return null;
+      });
+
+      Assert.assertEquals(new HashSet<>(rids), browse(clusterId));
+    } finally {
+      storage.endSnapshotRead();
+    }
+
+    final Set<ORecordId> afterChanges = browse(clusterId);
+    Assert.assertEquals(51, afterChanges.size());
+    Assert.assertTrue(afterChanges.contains(rids.get(rids.size() - 1)));
+  }
+
+  @Test
+  public void testTransactionsAreEitherVisibleOrNotInSnapshot() throws Exception {
+    final ORecordId first = (ORecordId) db.save(new ODocument("Account").field("amount", 1000)).getIdentity();
+    final ORecordId second = (ORecordId) db.save(new ODocument("Account").field("amount", 1000)).getIdentity();
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final Future<Void> transfers = executor.submit(() -> {
+      try (ODatabaseSession session = orientDb.open("storageSnapshotReadTest", "admin", "admin")) {
+        int n = 0;
+        while (!stop.get()) {
+          session.begin();
+          final ODocument from = session.load(n % 2 == 0 ? first : second);
+          final ODocument to = session.load(n % 2 == 0 ? second : first);
+          from.field("amount", from.<Integer>field("amount") - 1);
+          to.field("amount", to.<Integer>field("amount") + 1);
+          session.save(from);
+          session.save(to);
+          session.commit();
+          n++;
+        }
+      }
+      return null;
+    });
+
+    try {
+      for (int i = 0; i < 200; i++) {
+        storage.startSnapshotRead();
+        try {
+          final int firstAmount = amount(first);
+          Thread.yield();
+          final int secondAmount = amount(second);
+
+          Assert.assertEquals(2000, firstAmount + secondAmount);
+        } finally {
+          storage.endSnapshotRead();
+        }
+      }
+    } finally {
+      stop.set(true);
+    }
+
+    transfers.get(30, TimeUnit.SECONDS);
+  }
+
+  @Test(expected = OStorageException.class)
+  public void testSnapshotCanNotBeOpenedTwice() {
+    storage.startSnapshotRead();
+    try {
+      storage.startSnapshotRead();
+    } finally {
+      storage.endSnapshotRead();
+    }
+  }
+
+  private ORawBuffer read(ORecordId rid) {
+    return storage.readRecord(rid, null, false, false, null).getResult();
+  }
+
+  private int amount(ORecordId rid) {
+    final ODocument document = new ODocument();
+    document.fromStream(read(rid).buffer);
+    return document.<Integer>field("amount");
+  }
+
+  private Set<ORecordId> browse(int clusterId) {
+    final Set<ORecordId> rids = new HashSet<>();
+    OPhysicalPosition[] positions = storage.ceilingPhysicalPositions(clusterId, new OPhysicalPosition(0));
+    while (positions.length > 0) {
+      for (OPhysicalPosition position : positions) {
+        final ORecordId rid = new ORecordId(clusterId, position.clusterPosition);
+        Assert.assertNotNull(read(rid));
+        Assert.assertTrue(rids.add(rid));
+      }
+
+      positions = storage.higherPhysicalPositions(clusterId, positions[positions.length - 1]);
+    }
+    return rids;
+  }
+
+  private void assertSameRecord(ORawBuffer expected, ORawBuffer actual) {
+    Assert.assertNotNull(actual);
+    Assert.assertEquals(expected.version, actual.version);
+    Assert.assertEquals(expected.recordType, actual.recordType);
+    Assert.assertArrayEquals(expected.buffer, actual.buffer);
+  }
+
+  private <T> T inOtherThread(SessionTask<T> task) throws Exception {
+    return executor.submit(() -> {
+      try (ODatabaseSession session = orientDb.open("storageSnapshotReadTest", "admin", "admin")) {
+        return task.execute(session);
+      }
+    }).get(30, TimeUnit.SECONDS);
+  }
+
+  private interface SessionTask<T> {
+    T execute(ODatabaseSession session) throws Exception;
+  }
+}
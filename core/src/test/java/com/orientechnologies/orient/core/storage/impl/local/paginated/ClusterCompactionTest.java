@@ -0,0 +1,210 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class ClusterCompactionTest {
+  private ODatabaseDocumentTx db;
+  private String              dbPath;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    dbPath = buildDirectory + File.separator + ClusterCompactionTest.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(dbPath));
+
+    db = new ODatabaseDocumentTx("plocal:" + dbPath);
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testRecordsAreMovedAndFreePagesAreRemoved() throws IOException {
+    final OPaginatedCluster cluster = createCluster("compactionMove");
+    final Random random = new Random();
+
+    final Map<Long, byte[]> records = new HashMap<Long, byte[]>();
+    final Map<Long, Integer> versions = new HashMap<Long, Integer>();
+
+    final List<Long> positions = new ArrayList<Long>();
+    for (int i = 0; i < 2000; i++) {
+      final byte[] record = new byte[1024 + random.nextInt(2048)];
+      random.nextBytes(record);
+
+      final long position = cluster.createRecord(record, i, (byte) 1, null).clusterPosition;
+      positions.add(position);
+
+      if (i % 5 == 0) {
+        records.put(position, record);
+        versions.put(position, i);
+      }
+    }
+
+    for (long position : positions) {
+      if (!records.containsKey(position))
+        Assert.assertTrue(cluster.deleteRecord(position));
+    }
+
+    final long filledUpTo = filledUpTo(cluster);
+
+    long movedRecords = 0;
+    OPaginatedCluster.CompactionResult result;
+    do {
+      result = cluster.compactRecords(50);
+      movedRecords += result.getMovedRecords();
+    } while (!result.isCompleted());
+
+    Assert.assertTrue(movedRecords > 0);
+
+    final long removedPages = truncateFreePages(cluster);
+    Assert.assertTrue(removedPages > 0);
+    Assert.assertEquals(filledUpTo - removedPages, filledUpTo(cluster));
+
+    assertRecords(cluster, records, versions);
+
+    // pages removed from the end of the file are still registered in free space map
+    for (int i = 0; i < 1000; i++) {
+      final byte[] record = new byte[1024 + random.nextInt(2048)];
+      random.nextBytes(record);
+
+      final long position = cluster.createRecord(record, 1, (byte) 1, null).clusterPosition;
+      records.put(position, record);
+      versions.put(position, 1);
+    }
+
+    assertRecords(cluster, records, versions);
+  }
+
+  @Test
+  public void testBigRecordsAreMoved() throws IOException {
+    final OPaginatedCluster cluster = createCluster("compactionBigRecords");
+    final Random random = new Random();
+
+    final Map<Long, byte[]> records = new HashMap<Long, byte[]>();
+    final Map<Long, Integer> versions = new HashMap<Long, Integer>();
+
+    final long[] fillers = new long[10];
+    for (int i = 0; i < fillers.length; i++)
+      fillers[i] = cluster.createRecord(new byte[3 * OClusterPage.PAGE_SIZE], 1, (byte) 1, null).clusterPosition;
+
+    for (int i = 0; i < 5; i++) {
+      final byte[] record = new byte[2 * OClusterPage.PAGE_SIZE + random.nextInt(OClusterPage.PAGE_SIZE)];
+      random.nextBytes(record);
+
+      final long position = cluster.createRecord(record, 42, (byte) 1, null).clusterPosition;
+      records.put(position, record);
+      versions.put(position, 42);
+    }
+
+    for (long filler : fillers)
+      Assert.assertTrue(cluster.deleteRecord(filler));
+
+    final OPaginatedCluster.CompactionResult result = cluster.compactRecords(100);
+    Assert.assertTrue(result.isCompleted());
+    Assert.assertTrue(result.getMovedRecords() > 0);
+
+    truncateFreePages(cluster);
+    assertRecords(cluster, records, versions);
+  }
+
+  @Test
+  public void testCompactionIsContinuedAfterReopen() throws IOException {
+    final OPaginatedCluster cluster = createCluster("compactionResume");
+
+    final Map<Long, byte[]> records = new HashMap<Long, byte[]>();
+    final Map<Long, Integer> versions = new HashMap<Long, Integer>();
+
+    final List<Long> positions = new ArrayList<Long>();
+    for (int i = 0; i < 1000; i++) {
+      final byte[] record = new byte[2048];
+      record[0] = (byte) i;
+
+      final long position = cluster.createRecord(record, 1, (byte) 1, null).clusterPosition;
+      positions.add(position);
+
+      if (i % 2 == 0) {
+        records.put(position, record);
+        versions.put(position, 1);
+      }
+    }
+
+    for (long position : positions) {
+      if (!records.containsKey(position))
+        Assert.assertTrue(cluster.deleteRecord(position));
+    }
+
+    OPaginatedCluster.CompactionResult result = cluster.compactRecords(100);
+    Assert.assertFalse(result.isCompleted());
+    Assert.assertEquals(100, result.getProcessedRecords());
+
+    final long nextPosition = result.getNextPosition();
+
+    cluster.close(true);
+    cluster.open();
+
+    result = cluster.compactRecords(1);
+    Assert.assertEquals(1, result.getProcessedRecords());
+    Assert.assertTrue(result.getNextPosition() > nextPosition);
+
+    do {
+      result = cluster.compactRecords(100);
+    } while (!result.isCompleted());
+
+    // once compaction is completed the next one is started from the beginning of the cluster
+    result = cluster.compactRecords(1);
+    Assert.assertEquals(0, result.getMovedRecords());
+    Assert.assertEquals(1, result.getNextPosition());
+
+    assertRecords(cluster, records, versions);
+  }
+
+  private static void assertRecords(OPaginatedCluster cluster, Map<Long, byte[]> records, Map<Long, Integer> versions)
+      throws IOException {
+    Assert.assertEquals(records.size(), cluster.getEntries());
+
+    for (Map.Entry<Long, byte[]> entry : records.entrySet()) {
+      final ORawBuffer rawBuffer = cluster.readRecord(entry.getKey(), false);
+      Assert.assertNotNull(rawBuffer);
+
+      Assert.assertArrayEquals(entry.getValue(), rawBuffer.buffer);
+      Assert.assertEquals(versions.get(entry.getKey()).intValue(), rawBuffer.version);
+    }
+  }
+
+  private long truncateFreePages(OPaginatedCluster cluster) throws IOException {
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage();
+    storage.synch();
+
+    return cluster.truncateFreePages();
+  }
+
+  private OPaginatedCluster createCluster(String name) {
+    db.addCluster(name);
+    return (OPaginatedCluster) ((OAbstractPaginatedStorage) db.getStorage()).getClusterByName(name);
+  }
+
+  private long filledUpTo(OPaginatedCluster cluster) {
+    return ((OAbstractPaginatedStorage) db.getStorage()).getWriteCache().getFilledUpTo(cluster.getFileId());
+  }
+}
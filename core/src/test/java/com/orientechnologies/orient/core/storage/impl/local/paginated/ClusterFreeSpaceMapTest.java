@@ -0,0 +1,130 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ClusterFreeSpaceMapTest {
+  private ODatabaseDocumentTx db;
+  private String              dbPath;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    dbPath = buildDirectory + File.separator + ClusterFreeSpaceMapTest.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(dbPath));
+
+    db = new ODatabaseDocumentTx("plocal:" + dbPath);
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testSpaceOfDeletedRecordsIsReused() throws IOException {
+    final OPaginatedCluster cluster = createCluster("freeSpaceReuse");
+    final Random random = new Random();
+
+    final List<Long> positions = new ArrayList<Long>();
+    for (int i = 0; i < 1000; i++) {
+      final byte[] record = new byte[1024 + random.nextInt(2048)];
+      random.nextBytes(record);
+
+      positions.add(cluster.createRecord(record, 1, (byte) 1, null).clusterPosition);
+    }
+
+    final long filledUpTo = filledUpTo(cluster);
+
+    for (int i = 0; i < positions.size(); i += 2)
+      Assert.assertTrue(cluster.deleteRecord(positions.get(i)));
+
+    for (int i = 0; i < positions.size() / 2; i++) {
+      final byte[] record = new byte[1024];
+      random.nextBytes(record);
+
+      cluster.createRecord(record, 1, (byte) 1, null);
+    }
+
+    Assert.assertEquals(filledUpTo, filledUpTo(cluster));
+  }
+
+  @Test
+  public void testContinuationPagesAreReused() throws IOException {
+    final OPaginatedCluster cluster = createCluster("continuationReuse");
+    final Random random = new Random();
+
+    final byte[] bigRecord = new byte[3 * OClusterPage.PAGE_SIZE];
+    random.nextBytes(bigRecord);
+
+    final OPhysicalPosition bigPosition = cluster.createRecord(bigRecord, 1, (byte) 1, null);
+    final long filledUpTo = filledUpTo(cluster);
+
+    Assert.assertTrue(cluster.deleteRecord(bigPosition.clusterPosition));
+
+    random.nextBytes(bigRecord);
+    final OPhysicalPosition position = cluster.createRecord(bigRecord, 1, (byte) 1, null);
+
+    Assert.assertEquals(filledUpTo, filledUpTo(cluster));
+
+    final ORawBuffer rawBuffer = cluster.readRecord(position.clusterPosition, false);
+    Assert.assertArrayEquals(bigRecord, rawBuffer.buffer);
+  }
+
+  @Test
+  public void testFreeSpaceMapIsRebuiltOnOpen() throws IOException {
+    final OPaginatedCluster cluster = createCluster("freeSpaceRebuild");
+
+    final List<Long> positions = new ArrayList<Long>();
+    for (int i = 0; i < 500; i++)
+      positions.add(cluster.createRecord(new byte[2048], 1, (byte) 1, null).clusterPosition);
+
+    for (int i = 0; i < positions.size(); i += 2)
+      Assert.assertTrue(cluster.deleteRecord(positions.get(i)));
+
+    final long filledUpTo = filledUpTo(cluster);
+    cluster.close(true);
+
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage();
+    final OWriteCache writeCache = storage.getWriteCache();
+    final String fsmName = cluster.getName() + OClusterFreeSpaceMap.DEF_EXTENSION;
+
+    storage.getReadCache().deleteFile(writeCache.fileIdByName(fsmName), writeCache);
+    Assert.assertFalse(writeCache.exists(fsmName));
+
+    cluster.open();
+    Assert.assertTrue(writeCache.exists(fsmName));
+
+    for (int i = 0; i < positions.size() / 2; i++)
+      cluster.createRecord(new byte[2048], 1, (byte) 1, null);
+
+    Assert.assertEquals(filledUpTo, filledUpTo(cluster));
+  }
+
+  private OPaginatedCluster createCluster(String name) {
+    db.addCluster(name);
+    return (OPaginatedCluster) ((OAbstractPaginatedStorage) db.getStorage()).getClusterByName(name);
+  }
+
+  private long filledUpTo(OPaginatedCluster cluster) {
+    return ((OAbstractPaginatedStorage) db.getStorage()).getWriteCache().getFilledUpTo(cluster.getFileId());
+  }
+}
@@ -0,0 +1,150 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OCacheEntryChanges;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public class FreeSpaceMapPageTest {
+  @Test
+  public void testEmptyPage() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+    final OCachePointer cachePointer = new OCachePointer(bufferPool.acquireDirect(true), bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(cacheEntry);
+
+      Assert.assertEquals(0, page.getMaxFreeSpaceClass());
+      Assert.assertEquals(0, page.findLeaf(0));
+      Assert.assertEquals(-1, page.findLeaf(1));
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+
+  @Test
+  public void testFindLeftmostLeaf() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+    final OCachePointer cachePointer = new OCachePointer(bufferPool.acquireDirect(true), bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(cacheEntry);
+
+      Assert.assertEquals(10, page.setFreeSpaceClass(100, 10));
+      Assert.assertEquals(20, page.setFreeSpaceClass(OFreeSpaceMapPage.LEAVES_COUNT - 1, 20));
+      Assert.assertEquals(20, page.setFreeSpaceClass(5, 15));
+
+      Assert.assertEquals(5, page.findLeaf(1));
+      Assert.assertEquals(5, page.findLeaf(15));
+      Assert.assertEquals(OFreeSpaceMapPage.LEAVES_COUNT - 1, page.findLeaf(16));
+      Assert.assertEquals(-1, page.findLeaf(21));
+
+      Assert.assertEquals(20, page.setFreeSpaceClass(5, 0));
+      Assert.assertEquals(100, page.findLeaf(1));
+
+      Assert.assertEquals(10, page.setFreeSpaceClass(OFreeSpaceMapPage.LEAVES_COUNT - 1, 0));
+      Assert.assertEquals(-1, page.findLeaf(11));
+
+      Assert.assertEquals(0, page.setFreeSpaceClass(100, 0));
+      Assert.assertEquals(-1, page.findLeaf(1));
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+
+  @Test
+  public void testRandomUpdates() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+    final OCachePointer cachePointer = new OCachePointer(bufferPool.acquireDirect(true), bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+
+    final long seed = System.nanoTime();
+    System.out.println("testRandomUpdates seed : " + seed);
+    final Random random = new Random(seed);
+
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(cacheEntry);
+      final int[] classes = new int[OFreeSpaceMapPage.LEAVES_COUNT];
+
+      for (int i = 0; i < 10000; i++) {
+        final int leaf = random.nextInt(classes.length);
+        final int freeSpaceClass = random.nextInt(256);
+
+        classes[leaf] = freeSpaceClass;
+        final int max = page.setFreeSpaceClass(leaf, freeSpaceClass);
+
+        final int requested = random.nextInt(256);
+        int expectedMax = 0;
+        int expectedLeaf = -1;
+        for (int n = 0; n < classes.length; n++) {
+          expectedMax = Math.max(expectedMax, classes[n]);
+          if (expectedLeaf < 0 && classes[n] >= requested)
+            expectedLeaf = n;
+        }
+
+        Assert.assertEquals(expectedMax, max);
+        Assert.assertEquals(expectedLeaf, page.findLeaf(requested));
+        Assert.assertEquals(freeSpaceClass, page.getFreeSpaceClass(leaf));
+      }
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+
+  @Test
+  public void testChangesTracking() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+
+    final ByteBuffer buffer = bufferPool.acquireDirect(true);
+    final OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+
+    final ByteBuffer restoredBuffer = bufferPool.acquireDirect(true);
+    final OCachePointer restoredCachePointer = new OCachePointer(restoredBuffer, bufferPool, 0, 0);
+    restoredCachePointer.incrementReferrer();
+    final OCacheEntry restoredCacheEntry = new OCacheEntryImpl(0, 0, restoredCachePointer);
+    restoredCacheEntry.acquireExclusiveLock();
+
+    try {
+      final OFreeSpaceMapPage page = new OFreeSpaceMapPage(new OCacheEntryChanges(cacheEntry));
+      page.setFreeSpaceClass(1, 42);
+      page.setFreeSpaceClass(1000, 255);
+      page.setFreeSpaceClass(1000, 12);
+
+      final OFreeSpaceMapPage restoredPage = new OFreeSpaceMapPage(restoredCacheEntry);
+      restoredPage.restoreChanges(page.getChanges());
+
+      Assert.assertEquals(42, restoredPage.getMaxFreeSpaceClass());
+      Assert.assertEquals(42, restoredPage.getFreeSpaceClass(1));
+      Assert.assertEquals(12, restoredPage.getFreeSpaceClass(1000));
+      Assert.assertEquals(1, restoredPage.findLeaf(12));
+      Assert.assertEquals(-1, restoredPage.findLeaf(43));
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+
+      restoredCacheEntry.releaseExclusiveLock();
+      restoredCachePointer.decrementReferrer();
+    }
+  }
+}
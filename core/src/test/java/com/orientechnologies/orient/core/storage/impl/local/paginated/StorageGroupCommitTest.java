@@ -0,0 +1,105 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.ODiskWriteAheadLog;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class StorageGroupCommitTest {
+  private ODatabaseDocumentTx db;
+  private String              dbPath;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    dbPath = buildDirectory + File.separator + StorageGroupCommitTest.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(dbPath));
+
+    db = new ODatabaseDocumentTx("plocal:" + dbPath);
+    db.create();
+    db.getStorage().getConfiguration().getContextConfiguration().setValue(OGlobalConfiguration.WAL_GROUP_COMMIT, true);
+    db.getMetadata().getSchema().createClass("GroupCommit");
+  }
+
+  @After
+  public void after() {
+    db.activateOnCurrentThread();
+    db.drop();
+  }
+
+  @Test
+  public void testCommitsWaitForGroupCommit() throws Exception {
+    final int threads = 4;
+    final int transactions = 100;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+    for (int n = 0; n < threads; n++) {
+      futures.add(executor.submit(() -> {
+        final ODatabaseDocumentTx database = new ODatabaseDocumentTx("plocal:" + dbPath);
+        database.open("admin", "admin");
+        try {
+          for (int i = 0; i < transactions; i++) {
+            database.begin();
+            database.save(new ODocument("GroupCommit").field("value", i));
+            database.commit();
+          }
+        } finally {
+          database.close();
+        }
+
+        return null;
+      }));
+    }
+
+    for (Future<Void> future : futures)
+      future.get();
+
+    executor.shutdown();
+
+    db.activateOnCurrentThread();
+    Assert.assertEquals(threads * transactions, db.countClass("GroupCommit"));
+
+    final ODiskWriteAheadLog writeAheadLog = (ODiskWriteAheadLog) ((OAbstractPaginatedStorage) db.getStorage().getUnderlying())
+        .getWALInstance();
+
+    long batchedTransactions = 0;
+    long groupedBatches = 0;
+    final long[] batchSizes = writeAheadLog.getGroupCommitBatchSizeHistogram();
+    for (int i = 0; i < batchSizes.length; i++) {
+      batchedTransactions += batchSizes[i] * (i == 0 ? 0 : 1L << (i - 1));
+
+      // bucket 1 contains batches of single transaction
+      if (i > 1)
+        groupedBatches += batchSizes[i];
+    }
+
+    long syncs = 0;
+    for (long syncCount : writeAheadLog.getGroupCommitSyncTimeHistogram())
+      syncs += syncCount;
+
+    // lower bound of every bucket is counted, so it may be less than amount of committed transactions
+    Assert.assertTrue(batchedTransactions > 0);
+    Assert.assertTrue(batchedTransactions <= threads * transactions);
+
+    // several transactions were made durable by single sync
+    Assert.assertTrue(groupedBatches > 0);
+    Assert.assertTrue(syncs < threads * transactions);
+  }
+}
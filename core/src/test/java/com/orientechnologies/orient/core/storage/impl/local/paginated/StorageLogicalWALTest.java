@@ -0,0 +1,203 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecordsFactory;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class StorageLogicalWALTest {
+  private static final String BASE_NAME = "baseLogicalWAL";
+  private static final String TEST_NAME = "testLogicalWAL";
+
+  private File                buildDir;
+  private ODatabaseDocumentTx baseDb;
+  private ODatabaseDocumentTx testDb;
+
+  private boolean logicalWAL;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    buildDir = new File(buildDirectory, StorageLogicalWALTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+
+    logicalWAL = OGlobalConfiguration.STORAGE_CLUSTER_LOGICAL_WAL.getValueAsBoolean();
+    OGlobalConfiguration.STORAGE_CLUSTER_LOGICAL_WAL.setValue(true);
+
+    baseDb = new ODatabaseDocumentTx("plocal:" + new File(buildDir, BASE_NAME).getAbsolutePath());
+    baseDb.create();
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.STORAGE_CLUSTER_LOGICAL_WAL.setValue(logicalWAL);
+
+    if (testDb != null) {
+      testDb.activateOnCurrentThread();
+      testDb.drop();
+    }
+
+    baseDb.activateOnCurrentThread();
+    baseDb.drop();
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Test
+  public void testRecordOperationsAreRestoredFromLogicalRecords() throws Exception {
+    baseDb.getMetadata().getSchema().createClass("LogicalWAL");
+
+    final OWriteAheadLog writeAheadLog = ((OAbstractPaginatedStorage) baseDb.getStorage().getUnderlying()).getWALInstance();
+    final OLogSequenceNumber startLsn = writeAheadLog.end();
+
+    final Random random = new Random();
+    final List<ORID> rids = new ArrayList<ORID>();
+    for (int i = 0; i < 2000; i++) {
+      baseDb.begin();
+
+      // big records are split between several pages
+      final byte[] data = new byte[i % 100 == 0 ? 3 * OClusterPage.PAGE_SIZE : random.nextInt(1024)];
+      random.nextBytes(data);
+
+      final ODocument document = new ODocument("LogicalWAL").field("id", i).field("data", data);
+      baseDb.save(document);
+      rids.add(document.getIdentity());
+
+      if (i % 10 == 9)
+        baseDb.delete(rids.get(i - 5));
+
+      if (i % 10 == 3) {
+        final ODocument updated = baseDb.load(rids.get(i - 2));
+        final byte[] updatedData = new byte[random.nextInt(2048)];
+        random.nextBytes(updatedData);
+
+        updated.field("data", updatedData);
+        baseDb.save(updated);
+      }
+
+      baseDb.commit();
+    }
+
+    int pageOperations = 0;
+    int positionMapOperations = 0;
+
+    OLogSequenceNumber lsn = writeAheadLog.next(startLsn);
+    while (lsn != null) {
+      final OWALRecord record = writeAheadLog.read(lsn);
+      if (record instanceof OClusterPageOperationRecord)
+        pageOperations++;
+      else if (record instanceof OClusterPositionMapOperationRecord)
+        positionMapOperations++;
+
+      lsn = writeAheadLog.next(lsn);
+    }
+
+    Assert.assertTrue(pageOperations > 0);
+    Assert.assertTrue(positionMapOperations > 0);
+
+    final long count = baseDb.countClass("LogicalWAL");
+
+    writeAheadLog.flush();
+    copyFilesOfOpenedStorage();
+
+    testDb = new ODatabaseDocumentTx("plocal:" + new File(buildDir, TEST_NAME).getAbsolutePath());
+    testDb.open("admin", "admin");
+    Assert.assertEquals(count, testDb.countClass("LogicalWAL"));
+
+    final ODatabaseCompare databaseCompare = new ODatabaseCompare(testDb.getURL(), baseDb.getURL(), "admin", "admin",
+        text -> System.out.println(text));
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  @Test
+  public void testLogicalRecordsAreSmallerThanPageChanges() throws Exception {
+    final long logicalSize = insertAndMeasureWAL(baseDb);
+
+    OGlobalConfiguration.STORAGE_CLUSTER_LOGICAL_WAL.setValue(false);
+
+    testDb = new ODatabaseDocumentTx("plocal:" + new File(buildDir, TEST_NAME).getAbsolutePath());
+    testDb.create();
+
+    final long physicalSize = insertAndMeasureWAL(testDb);
+
+    Assert.assertTrue("logical " + logicalSize + " physical " + physicalSize, logicalSize < physicalSize * 3 / 4);
+  }
+
+  private static long insertAndMeasureWAL(ODatabaseDocumentTx db) throws IOException {
+    db.activateOnCurrentThread();
+    db.getMetadata().getSchema().createClass("WALSize");
+
+    final OWriteAheadLog writeAheadLog = ((OAbstractPaginatedStorage) db.getStorage().getUnderlying()).getWALInstance();
+    final OLogSequenceNumber startLsn = writeAheadLog.end();
+
+    final byte[] data = new byte[1024];
+    new Random(42).nextBytes(data);
+
+    for (int i = 0; i < 500; i++) {
+      db.begin();
+      db.save(new ODocument("WALSize").field("id", i).field("data", data));
+      db.commit();
+    }
+
+    long size = 0;
+    int pageChanges = 0;
+
+    OLogSequenceNumber lsn = writeAheadLog.next(startLsn);
+    while (lsn != null) {
+      final OWALRecord record = writeAheadLog.read(lsn);
+      size += OWALRecordsFactory.INSTANCE.toStream(record).length;
+
+      if (record instanceof OUpdatePageRecord)
+        pageChanges++;
+
+      lsn = writeAheadLog.next(lsn);
+    }
+
+    Assert.assertTrue(pageChanges > 0);
+    return size;
+  }
+
+  private void copyFilesOfOpenedStorage() throws IOException {
+    final File baseDir = new File(buildDir, BASE_NAME);
+    final File testDir = new File(buildDir, TEST_NAME);
+    Assert.assertTrue(testDir.mkdir());
+
+    final File[] files = baseDir.listFiles();
+    Assert.assertNotNull(files);
+
+    for (File file : files) {
+      if (file.getName().equals("dirty.fl"))
+        continue;
+
+      // WAL segments and master records are named by storage
+      String name = file.getName();
+      if (name.startsWith(BASE_NAME + "."))
+        name = TEST_NAME + name.substring(BASE_NAME.length());
+
+      Files.copy(file.toPath(), new File(testDir, name).toPath());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class StorageParallelRestoreTest {
+  private static final String BASE_NAME = "baseParallelRestore";
+  private static final String TEST_NAME = "testParallelRestore";
+
+  private File                buildDir;
+  private ODatabaseDocumentTx baseDb;
+  private ODatabaseDocumentTx testDb;
+
+  private int restoreThreads;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    buildDir = new File(buildDirectory, StorageParallelRestoreTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+
+    restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+
+    baseDb = new ODatabaseDocumentTx("plocal:" + new File(buildDir, BASE_NAME).getAbsolutePath());
+    baseDb.create();
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(restoreThreads);
+
+    if (testDb != null) {
+      testDb.activateOnCurrentThread();
+      testDb.drop();
+    }
+
+    baseDb.activateOnCurrentThread();
+    baseDb.drop();
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Test
+  public void testDataAreRestoredByConcurrentAppliers() throws Exception {
+    final OClass clazz = baseDb.getMetadata().getSchema().createClass("ParallelRestore");
+    clazz.createProperty("id", OType.INTEGER);
+    clazz.createIndex("ParallelRestoreIdIndex", OClass.INDEX_TYPE.UNIQUE, "id");
+
+    final Random random = new Random();
+    final List<ORID> rids = new ArrayList<ORID>();
+    for (int i = 0; i < 3000; i++) {
+      baseDb.begin();
+      final byte[] data = new byte[random.nextInt(2048)];
+      random.nextBytes(data);
+
+      final ODocument document = new ODocument("ParallelRestore").field("id", i).field("data", data);
+      baseDb.save(document);
+      if (i % 10 == 9)
+        baseDb.delete(rids.get(i - 5));
+      baseDb.commit();
+
+      rids.add(document.getIdentity());
+    }
+
+    final long count = baseDb.countClass("ParallelRestore");
+
+    ((OAbstractPaginatedStorage) baseDb.getStorage().getUnderlying()).getWALInstance().flush();
+    copyFilesOfOpenedStorage();
+
+    testDb = new ODatabaseDocumentTx("plocal:" + new File(buildDir, TEST_NAME).getAbsolutePath());
+    testDb.open("admin", "admin");
+    Assert.assertEquals(count, testDb.countClass("ParallelRestore"));
+
+    final ODatabaseCompare databaseCompare = new ODatabaseCompare(testDb.getURL(), baseDb.getURL(), "admin", "admin",
+        text -> System.out.println(text));
+    databaseCompare.setCompareIndexMetadata(true);
+
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  private void copyFilesOfOpenedStorage() throws IOException {
+    final File baseDir = new File(buildDir, BASE_NAME);
+    final File testDir = new File(buildDir, TEST_NAME);
+    Assert.assertTrue(testDir.mkdir());
+
+    final File[] files = baseDir.listFiles();
+    Assert.assertNotNull(files);
+
+    for (File file : files) {
+      if (file.getName().equals("dirty.fl"))
+        continue;
+
+      // WAL segments and master records are named by storage
+      String name = file.getName();
+      if (name.startsWith(BASE_NAME + "."))
+        name = TEST_NAME + name.substring(BASE_NAME.length());
+
+      Files.copy(file.toPath(), new File(testDir, name).toPath());
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageConfigurationImpl;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WALRecordCompressionTest {
+  private File testDir;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    testDir = new File(buildDirectory, "walRecordCompressionTest");
+    OFileUtils.deleteRecursively(testDir);
+    Assert.assertTrue(testDir.mkdirs());
+  }
+
+  @After
+  public void after() {
+    OFileUtils.deleteRecursively(testDir);
+  }
+
+  @Test
+  public void testCompressedRecordRoundTrip() {
+    final Random random = new Random(42);
+    final OUpdatePageRecord record = createRecord(random);
+
+    final byte[] plain = OWALRecordsFactory.INSTANCE.toStream(record);
+    final byte[] compressed = OWALRecordsFactory.INSTANCE.toStream(record, OLZ4Compression.INSTANCE, 0);
+
+    Assert.assertTrue(compressed.length < plain.length);
+    Assert.assertArrayEquals(plain, OWALRecordsFactory.INSTANCE.toStream(OWALRecordsFactory.INSTANCE.fromStream(compressed)));
+
+    Assert.assertArrayEquals(plain, OWALRecordsFactory.INSTANCE.toStream(record, OLZ4Compression.INSTANCE, plain.length + 1));
+  }
+
+  @Test
+  public void testIncompressibleRecordIsStoredAsIs() {
+    final Random random = new Random(42);
+    final byte[] data = new byte[1024];
+    random.nextBytes(data);
+
+    // original content of the page is logged too, so it should be random as well
+    final byte[] pageContent = new byte[OWALPage.PAGE_SIZE];
+    random.nextBytes(pageContent);
+
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion();
+    changes.setBinaryValue(ByteBuffer.wrap(pageContent).order(ByteOrder.nativeOrder()), data, 128);
+    final OUpdatePageRecord record = new OUpdatePageRecord(1, 2, OOperationUnitId.generateId(), changes,
+        new OLogSequenceNumber(0, 0));
+
+    Assert.assertArrayEquals(OWALRecordsFactory.INSTANCE.toStream(record),
+        OWALRecordsFactory.INSTANCE.toStream(record, OLZ4Compression.INSTANCE, 0));
+  }
+
+  @Test
+  public void testCompressedRecordsInPagesWithBothChecksums() throws Exception {
+    final Object compression = OGlobalConfiguration.WAL_RECORD_COMPRESSION.getValue();
+    final Object threshold = OGlobalConfiguration.WAL_RECORD_COMPRESSION_THRESHOLD.getValue();
+    final Object crc32c = OGlobalConfiguration.WAL_PAGE_CRC32C.getValue();
+
+    final Random random = new Random(42);
+    final List<byte[]> written = new ArrayList<>();
+    final List<OLogSequenceNumber> lsns = new ArrayList<>();
+
+    try {
+      OGlobalConfiguration.WAL_RECORD_COMPRESSION.setValue(OLZ4Compression.NAME);
+      OGlobalConfiguration.WAL_RECORD_COMPRESSION_THRESHOLD.setValue(64);
+
+      long plainSize = 0;
+      for (int n = 0; n < 2; n++) {
+        // pages of the first session use CRC32 and pages of the second session use CRC32C
+        OGlobalConfiguration.WAL_PAGE_CRC32C.setValue(n > 0);
+
+        final ODiskWriteAheadLog wal = createWAL();
+        for (int i = 0; i < 500; i++) {
+          final OUpdatePageRecord record = createRecord(random);
+          final byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+          plainSize += content.length;
+
+          lsns.add(wal.log(record));
+          written.add(content);
+        }
+
+        wal.close();
+      }
+
+      OGlobalConfiguration.WAL_RECORD_COMPRESSION.setValue("nothing");
+
+      final ODiskWriteAheadLog wal = createWAL();
+      try {
+        Assert.assertTrue(wal.size() < plainSize / 2);
+
+        OLogSequenceNumber lsn = wal.begin();
+        int index = 0;
+        while (lsn != null) {
+          final OWALRecord record = wal.read(lsn);
+          if (record instanceof OUpdatePageRecord) {
+            Assert.assertEquals(lsns.get(index), lsn);
+            Assert.assertArrayEquals(written.get(index), OWALRecordsFactory.INSTANCE.toStream(record));
+            index++;
+          }
+
+          lsn = wal.next(lsn);
+        }
+
+        Assert.assertEquals(written.size(), index);
+      } finally {
+        wal.delete();
+      }
+    } finally {
+      OGlobalConfiguration.WAL_RECORD_COMPRESSION.setValue(compression);
+      OGlobalConfiguration.WAL_RECORD_COMPRESSION_THRESHOLD.setValue(threshold);
+      OGlobalConfiguration.WAL_PAGE_CRC32C.setValue(crc32c);
+    }
+  }
+
+  private static OUpdatePageRecord createRecord(Random random) {
+    final ByteBuffer page = ByteBuffer.allocate(OWALPage.PAGE_SIZE).order(ByteOrder.nativeOrder());
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion();
+
+    final int changesCount = random.nextInt(10) + 1;
+    for (int i = 0; i < changesCount; i++) {
+      final byte[] value = new byte[random.nextInt(200) + 50];
+      for (int k = 0; k < value.length; k++)
+        value[k] = (byte) ('a' + random.nextInt(4));
+
+      changes.setBinaryValue(page, value, random.nextInt(OWALPage.PAGE_SIZE - value.length));
+    }
+
+    return new OUpdatePageRecord(random.nextInt(100), random.nextInt(10), OOperationUnitId.generateId(), changes,
+        new OLogSequenceNumber(random.nextInt(10), random.nextInt(100000)));
+  }
+
+  private ODiskWriteAheadLog createWAL() throws IOException {
+    OLocalPaginatedStorage paginatedStorage = mock(OLocalPaginatedStorage.class);
+    when(paginatedStorage.getName()).thenReturn("WALRecordCompressionTest");
+    when(paginatedStorage.getStoragePath()).thenReturn(Paths.get(testDir.getAbsolutePath()));
+    OStorageConfigurationImpl configurationMock = mock(OStorageConfigurationImpl.class);
+    when(configurationMock.getLocaleInstance()).thenReturn(Locale.getDefault());
+    when(configurationMock.getContextConfiguration()).thenReturn(new OContextConfiguration());
+    when(paginatedStorage.getConfiguration()).thenReturn(configurationMock);
+    when(paginatedStorage.getPerformanceStatisticManager())
+        .thenReturn(new OPerformanceStatisticManager(paginatedStorage, Long.MAX_VALUE, -1));
+
+    return new ODiskWriteAheadLog(2, -1, OWALPage.PAGE_SIZE * 16, null, true, paginatedStorage, 16 * OWALPage.PAGE_SIZE, 1);
+  }
+}
@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OStorageConfigurationImpl;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
@@ -15,6 +16,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -56,6 +58,7 @@ public class WriteAheadLogTest {
     when(paginatedStorage.getStoragePath()).thenReturn(Paths.get(testDir.getAbsolutePath()));
     OStorageConfigurationImpl configurationMock = mock(OStorageConfigurationImpl.class);
     when(configurationMock.getLocaleInstance()).thenReturn(Locale.getDefault());
+    when(configurationMock.getContextConfiguration()).thenReturn(new OContextConfiguration());
     when(paginatedStorage.getConfiguration()).thenReturn(configurationMock);
     when(paginatedStorage.getPerformanceStatisticManager())
         .thenReturn(new OPerformanceStatisticManager(paginatedStorage, Long.MAX_VALUE, -1));
@@ -2425,6 +2428,72 @@ public class WriteAheadLogTest {
       }
   }
 
+  @Test
+  public void testRequestFlushCompletesWithDurableLsn() throws Exception {
+    OLogSequenceNumber lsn = null;
+    for (int i = 0; i < 10; i++)
+      lsn = writeAheadLog.log(new TestRecord(-1, SEGMENT_SIZE, 30, false, true));
+
+    final OLogSequenceNumber durableLsn = writeAheadLog.requestFlush(lsn).get();
+
+    Assert.assertTrue(durableLsn.compareTo(lsn) >= 0);
+    Assert.assertTrue(writeAheadLog.getFlushedLsn().compareTo(lsn) >= 0);
+
+    // already durable records do not need flush
+    Assert.assertTrue(writeAheadLog.requestFlush(lsn).isDone());
+  }
+
+  @Test
+  public void testFlushRequestsOfConcurrentThreadsAreGrouped() throws Exception {
+    final int threads = 8;
+    final int requests = 100;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+    for (int n = 0; n < threads; n++) {
+      futures.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          for (int i = 0; i < requests; i++) {
+            final OLogSequenceNumber lsn = writeAheadLog.log(new TestRecord(-1, SEGMENT_SIZE, 30, false, true));
+            Assert.assertTrue(writeAheadLog.requestFlush(lsn).get().compareTo(lsn) >= 0);
+          }
+          return null;
+        }
+      }));
+    }
+
+    for (Future<Void> future : futures)
+      future.get();
+
+    executor.shutdown();
+
+    long batches = 0;
+    for (long count : writeAheadLog.getGroupCommitBatchSizeHistogram())
+      batches += count;
+
+    long syncs = 0;
+    for (long count : writeAheadLog.getGroupCommitSyncTimeHistogram())
+      syncs += count;
+
+    Assert.assertTrue(batches > 0);
+    Assert.assertTrue(batches <= threads * requests);
+    Assert.assertTrue(syncs >= batches);
+  }
+
+  @Test
+  public void testFlushIsNotServedAfterClose() throws Exception {
+    final OLogSequenceNumber lsn = writeAheadLog.log(new TestRecord(-1, SEGMENT_SIZE, 30, false, true));
+    writeAheadLog.close(false);
+
+    try {
+      writeAheadLog.requestFlush(lsn).get();
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof OStorageException);
+    }
+  }
+
   public static final class TestRecord extends OAbstractWALRecord {
     private byte[]  data;
     private boolean updateMasterRecord;
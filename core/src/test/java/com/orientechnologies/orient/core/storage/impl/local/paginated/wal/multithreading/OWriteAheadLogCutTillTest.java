@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.multi
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OStorageConfigurationImpl;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.*;
@@ -55,6 +56,7 @@ public class OWriteAheadLogCutTillTest {
     when(paginatedStorage.getStoragePath()).thenReturn(Paths.get(testDir.getAbsolutePath()));
     OStorageConfigurationImpl configurationMock = mock(OStorageConfigurationImpl.class);
     when(configurationMock.getLocaleInstance()).thenReturn(Locale.getDefault());
+    when(configurationMock.getContextConfiguration()).thenReturn(new OContextConfiguration());
     when(paginatedStorage.getConfiguration()).thenReturn(configurationMock);
     when(paginatedStorage.getPerformanceStatisticManager())
         .thenReturn(new OPerformanceStatisticManager(paginatedStorage, Long.MAX_VALUE, -1));
@@ -26,7 +26,7 @@ public class PerformanceStatisticManagerMBeanTest {
     assertOperation(operations, "stopMonitoring");
 
     final MBeanAttributeInfo[] attributes = mBeanInfo.getAttributes();
-    Assert.assertEquals(attributes.length, 30);
+    Assert.assertEquals(attributes.length, 39);
 
     assertAttribute(attributes, "cacheHits", int.class);
     assertAttribute(attributes, "cacheHits_com1", int.class);
@@ -52,6 +52,16 @@ public class PerformanceStatisticManagerMBeanTest {
 
     assertAttribute(attributes, "fullCheckpointTime", long.class);
 
+    assertAttribute(attributes, "checkpointAge", long.class);
+    assertAttribute(attributes, "writeCacheFlushRate", long.class);
+
+    assertAttribute(attributes, "readAheadRequestsCount", long.class);
+    assertAttribute(attributes, "readAheadPagesCount", long.class);
+    assertAttribute(attributes, "readAheadDroppedRequestsCount", long.class);
+
+    assertArrayAttribute(attributes, "walGroupCommitBatchSizes", long[].class);
+    assertArrayAttribute(attributes, "walGroupCommitSyncTimes", long[].class);
+
     Assert.assertEquals(mBeanInfo.getConstructors().length, 0);
     Assert.assertEquals(mBeanInfo.getNotifications().length, 0);
   }
@@ -339,6 +349,20 @@ public class PerformanceStatisticManagerMBeanTest {
     Assert.assertTrue("Operation with name " + name + " was not found", found);
   }
 
+  private void assertArrayAttribute(MBeanAttributeInfo[] attributes, String name, Class clazz) {
+    boolean found = false;
+    for (MBeanAttributeInfo actual : attributes) {
+      if (actual.getName().equals(name)) {
+        Assert.assertEquals(actual.getType(), clazz.getName());
+        Assert.assertEquals(actual.isReadable(), true);
+        Assert.assertEquals(actual.isWritable(), false);
+        found = true;
+      }
+    }
+
+    Assert.assertTrue("Property with name " + name + " was not found", found);
+  }
+
   private void assertAttribute(MBeanAttributeInfo[] attributes, String name, Class clazz) {
     boolean found = false;
     for (MBeanAttributeInfo actual : attributes) {
@@ -0,0 +1,295 @@
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OLSMIndexFactory;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class LSMIndexEngineTest {
+  private static final int RECORDS = 3000;
+
+  private OrientDB         orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    open();
+    orientDB.create(LSMIndexEngineTest.class.getSimpleName(), ODatabaseType.PLOCAL);
+    db = orientDB.open(LSMIndexEngineTest.class.getSimpleName(), "admin", "admin");
+
+    final OClass item = db.createClass("Item");
+    item.createProperty("key", OType.INTEGER);
+    item.createProperty("name", OType.STRING);
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(LSMIndexEngineTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testChangesAreMergedIntoRuns() throws Exception {
+    db.getMetadata().getSchema().getClass("Item")
+        .createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE.toString(), null, null, OLSMIndexFactory.LSM_ALGORITHM,
+            new String[] { "key" });
+
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i++)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+
+    for (int i = 0; i < RECORDS; i += 3)
+      db.delete(expected.remove(i));
+
+    for (int i = 1; i < RECORDS; i += 5) {
+      if (!expected.containsKey(i))
+        continue;
+
+      final ODocument document = db.load(expected.remove(i));
+      document.field("key", RECORDS + i);
+      expected.put(RECORDS + i, db.save(document).getIdentity());
+    }
+
+    try {
+      db.save(new ODocument("Item").field("key", 2));
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    // removed key may be added again
+    expected.put(0, db.save(new ODocument("Item").field("key", 0)).getIdentity());
+
+    assertIndex(expected);
+    waitForRun("Item.key");
+    assertIndex(expected);
+
+    reopen();
+    assertIndex(expected);
+
+    expected.put(-1, db.save(new ODocument("Item").field("key", -1)).getIdentity());
+    db.delete(expected.remove(RECORDS - 1));
+    assertIndex(expected);
+  }
+
+  @Test
+  public void testNullKeys() {
+    db.getMetadata().getSchema().getClass("Item")
+        .createIndex("Item.name", OClass.INDEX_TYPE.UNIQUE.toString(), null, new ODocument().field("ignoreNullValues", false),
+            OLSMIndexFactory.LSM_ALGORITHM, new String[] { "name" });
+
+    final ORID nameless = db.save(new ODocument("Item").field("name", (String) null)).getIdentity();
+    for (int i = 0; i < RECORDS; i++)
+      db.save(new ODocument("Item").field("name", "name" + i));
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Item.name");
+    Assert.assertEquals(RECORDS + 1, index.getSize());
+    Assert.assertEquals(nameless, index.get(null));
+
+    reopen();
+
+    final OIndex<?> reopened = db.getMetadata().getIndexManager().getIndex("Item.name");
+    Assert.assertEquals(nameless, reopened.get(null));
+
+    db.delete(nameless);
+    Assert.assertNull(reopened.get(null));
+    Assert.assertEquals(RECORDS, reopened.getSize());
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    db.getMetadata().getSchema().getClass("Item")
+        .createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE.toString(), null, null, OLSMIndexFactory.LSM_ALGORITHM,
+            new String[] { "key" });
+
+    for (int i = 0; i < RECORDS; i++)
+      db.save(new ODocument("Item").field("key", i));
+    waitForRun("Item.key");
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Item.key");
+    index.clear();
+
+    Assert.assertEquals(0, index.getSize());
+    Assert.assertNull(index.get(1));
+    Assert.assertNull(index.iterateEntriesMajor(0, true, true).nextEntry());
+
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i += 2)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+    assertIndex(expected);
+
+    reopen();
+    assertIndex(expected);
+  }
+
+  @Test
+  public void testBloomFiltersAreStoredWithRuns() throws Exception {
+    db.getMetadata().getSchema().getClass("Item")
+        .createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE.toString(), null, null, OLSMIndexFactory.LSM_ALGORITHM,
+            new String[] { "key" });
+
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i++)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+    waitForRun("Item.key");
+
+    List<Path> bloomFilters = bloomFilterFiles("Item.key");
+    Assert.assertFalse(bloomFilters.isEmpty());
+
+    reopen();
+    assertIndex(expected);
+
+    // broken filter is rebuilt
+    bloomFilters = bloomFilterFiles("Item.key");
+    Assert.assertFalse(bloomFilters.isEmpty());
+    final Path bloomFilter = bloomFilters.get(0);
+    final byte[] content = Files.readAllBytes(bloomFilter);
+    for (int i = Long.BYTES; i < content.length - Long.BYTES; i++)
+      content[i] = 0;
+    Files.write(bloomFilter, content);
+
+    reopen();
+    assertIndex(expected);
+    Assert.assertTrue(Files.exists(bloomFilter));
+  }
+
+  @Test
+  public void testSizeIsNotChangedByFailedCommit() {
+    db.getMetadata().getSchema().getClass("Item")
+        .createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE.toString(), null, null, OLSMIndexFactory.LSM_ALGORITHM,
+            new String[] { "key" });
+
+    for (int i = 0; i < 10; i++)
+      db.save(new ODocument("Item").field("key", i));
+
+    db.begin();
+    db.save(new ODocument("Item").field("key", 10));
+    db.save(new ODocument("Item").field("key", 11));
+    db.save(new ODocument("Item").field("key", 5));
+    try {
+      db.commit();
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Item.key");
+    Assert.assertEquals(10, index.getSize());
+    Assert.assertNull(index.get(10));
+
+    reopen();
+    Assert.assertEquals(10, db.getMetadata().getIndexManager().getIndex("Item.key").getSize());
+  }
+
+  private List<Path> bloomFilterFiles(String indexName) throws InterruptedException {
+    final OLocalPaginatedStorage storage = (OLocalPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage().getUnderlying();
+
+    // filter is stored once the merge which writes the run is finished
+    final long deadline = System.currentTimeMillis() + 60000;
+    while (System.currentTimeMillis() < deadline) {
+      final List<Path> files = new ArrayList<>();
+      for (String fileName : storage.getWriteCache().files().keySet()) {
+        if (fileName.startsWith(indexName + "$r") && fileName.endsWith(OLSMIndexEngine.DATA_FILE_EXTENSION)) {
+          final String componentName = fileName.substring(0, fileName.length() - OLSMIndexEngine.DATA_FILE_EXTENSION.length());
+          files.add(storage.getStoragePath().resolve(componentName + OLSMIndexEngine.BLOOM_FILTER_FILE_EXTENSION));
+        }
+      }
+
+      if (files.stream().allMatch(Files::exists))
+        return files;
+
+      Thread.sleep(10);
+    }
+
+    Assert.fail("Bloom filters of runs of index " + indexName + " were not stored");
+    return null;
+  }
+
+  private void assertIndex(TreeMap<Integer, ORID> expected) {
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Item.key");
+    Assert.assertEquals(OLSMIndexFactory.LSM_ALGORITHM, index.getAlgorithm());
+
+    Assert.assertEquals(expected.size(), index.getSize());
+    for (int i = -1; i < 2 * RECORDS; i++)
+      Assert.assertEquals(expected.get(i), index.get(i));
+
+    Assert.assertEquals(expected.firstKey(), index.getFirstKey());
+    Assert.assertEquals(expected.lastKey(), index.getLastKey());
+
+    assertCursor(expected.subMap(100, true, 2000, false), index.iterateEntriesBetween(100, true, 2000, false, true));
+    assertCursor(expected.subMap(100, false, 2000, true).descendingMap(),
+        index.iterateEntriesBetween(100, false, 2000, true, false));
+    assertCursor(expected.tailMap(RECORDS, true), index.iterateEntriesMajor(RECORDS, true, true));
+    assertCursor(expected.headMap(500, true).descendingMap(), index.iterateEntriesMinor(500, true, false));
+
+    try (OResultSet result = db.query("select from Item where key >= ? and key < ?", 100, 2000)) {
+      Assert.assertEquals(expected.subMap(100, 2000).size(), result.stream().count());
+    }
+  }
+
+  private static void assertCursor(Map<Integer, ORID> expected, OIndexCursor cursor) {
+    for (Map.Entry<Integer, ORID> entry : expected.entrySet()) {
+      final Map.Entry<Object, OIdentifiable> indexEntry = cursor.nextEntry();
+      Assert.assertNotNull(indexEntry);
+      Assert.assertEquals(entry.getKey(), indexEntry.getKey());
+      Assert.assertEquals(entry.getValue(), indexEntry.getValue().getIdentity());
+    }
+
+    Assert.assertNull(cursor.nextEntry());
+  }
+
+  private void waitForRun(String indexName) throws InterruptedException {
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage()
+        .getUnderlying();
+
+    final long deadline = System.currentTimeMillis() + 60000;
+    while (System.currentTimeMillis() < deadline) {
+      for (String fileName : storage.getWriteCache().files().keySet()) {
+        if (fileName.startsWith(indexName + "$r") && fileName.endsWith(OLSMIndexEngine.DATA_FILE_EXTENSION))
+          return;
+      }
+
+      Thread.sleep(10);
+    }
+
+    Assert.fail("Changes of index " + indexName + " were not merged into run");
+  }
+
+  private void open() {
+    orientDB = new OrientDB("embedded:./target/databases",
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.INDEX_LSM_MEMTABLE_SIZE, 100).build());
+  }
+
+  private void reopen() {
+    db.close();
+    orientDB.close();
+
+    open();
+    db = orientDB.open(LSMIndexEngineTest.class.getSimpleName(), "admin", "admin");
+  }
+}
@@ -0,0 +1,209 @@
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SBTreeIndexEngineBloomFilterTest {
+  private static final int    RECORDS = 3000;
+  private static final String DB_NAME = SBTreeIndexEngineBloomFilterTest.class.getSimpleName();
+
+  private OrientDB         orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:./target/databases", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.PLOCAL);
+    db = orientDB.open(DB_NAME, "admin", "admin");
+
+    final OClass item = db.createClass("Item");
+    item.createProperty("key", OType.INTEGER);
+    item.createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE.toString(), null,
+        new ODocument().field(OSBTreeIndexEngine.BLOOM_FILTER, true), new String[] { "key" });
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Test
+  public void testBloomFilterIsStoredAndRebuilt() throws Exception {
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i += 2)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+
+    db.begin();
+    for (int i = RECORDS; i < RECORDS + 10; i++)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+    db.commit();
+
+    for (int i = 0; i < RECORDS; i += 10)
+      db.delete(expected.remove(i));
+
+    assertIndex(expected);
+
+    final Path bloomFilterFile = Paths.get("./target/databases", DB_NAME, "Item.key" + OSBTreeIndexEngine.BLOOM_FILTER_FILE_EXTENSION);
+    close();
+    Assert.assertTrue(Files.exists(bloomFilterFile));
+
+    open();
+    Assert.assertFalse(Files.exists(bloomFilterFile));
+    assertIndex(expected);
+
+    for (int i = 1; i < RECORDS; i += 4)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+    assertIndex(expected);
+
+    // filter which is not stored is rebuilt from the index on the first change
+    close();
+    Files.delete(bloomFilterFile);
+
+    open();
+    assertIndex(expected);
+
+    expected.put(-5, db.save(new ODocument("Item").field("key", -5)).getIdentity());
+    assertIndex(expected);
+  }
+
+  @Test
+  public void testBloomFilterIsRebuiltInBackground() throws Exception {
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i += 2)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+
+    close();
+    Files.delete(Paths.get("./target/databases", DB_NAME, "Item.key" + OSBTreeIndexEngine.BLOOM_FILTER_FILE_EXTENSION));
+
+    open();
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage()
+        .getUnderlying();
+    final OSBTreeIndexEngine engine = (OSBTreeIndexEngine) storage.getIndexEngine(storage.loadIndexEngine("Item.key"));
+    Assert.assertFalse(engine.isBloomFilterBuilt());
+
+    // keys which are put while the filter is rebuilt are not missed by it
+    final int threads = 4;
+    final List<Future<Map<Integer, ORID>>> futures = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    for (int n = 0; n < threads; n++) {
+      final int first = 2 * n + 1;
+      futures.add(executor.submit(() -> {
+        final Map<Integer, ORID> added = new TreeMap<>();
+        try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+          for (int i = first; i < RECORDS; i += 2 * threads)
+            added.put(i, session.save(new ODocument("Item").field("key", i)).getIdentity());
+        }
+        return added;
+      }));
+    }
+
+    for (Future<Map<Integer, ORID>> future : futures)
+      expected.putAll(future.get());
+    executor.shutdown();
+
+    final long deadline = System.currentTimeMillis() + 60000;
+    while (!engine.isBloomFilterBuilt() && System.currentTimeMillis() < deadline)
+      Thread.sleep(10);
+    Assert.assertTrue(engine.isBloomFilterBuilt());
+
+    assertIndex(expected);
+  }
+
+  @Test
+  public void testBloomFilterOfRestoredDatabaseIsNotStale() throws Exception {
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i += 2)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+
+    final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+    db.backup(backup, null, null, null, 1, 1024);
+
+    // filter of the cleared index contains none of the keys of the backup
+    db.command("truncate class Item").close();
+    for (int i = RECORDS + 100; i < RECORDS + 200; i++)
+      db.save(new ODocument("Item").field("key", i));
+
+    db.restore(new ByteArrayInputStream(backup.toByteArray()), null, null, null);
+    close();
+
+    open();
+    assertIndex(expected);
+  }
+
+  @Test
+  public void testBloomFilterOfOtherIndexContentIsDiscarded() throws Exception {
+    final TreeMap<Integer, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < RECORDS; i += 2)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+
+    final Path bloomFilterFile = Paths.get("./target/databases", DB_NAME, "Item.key" + OSBTreeIndexEngine.BLOOM_FILTER_FILE_EXTENSION);
+    final Path staleBloomFilterFile = Paths.get("./target/databases", DB_NAME + OSBTreeIndexEngine.BLOOM_FILTER_FILE_EXTENSION);
+    close();
+    Files.copy(bloomFilterFile, staleBloomFilterFile, StandardCopyOption.REPLACE_EXISTING);
+
+    open();
+    for (int i = 1; i < RECORDS; i += 4)
+      expected.put(i, db.save(new ODocument("Item").field("key", i)).getIdentity());
+    close();
+    Files.move(staleBloomFilterFile, bloomFilterFile, StandardCopyOption.REPLACE_EXISTING);
+
+    open();
+    assertIndex(expected);
+  }
+
+  private void assertIndex(TreeMap<Integer, ORID> expected) {
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Item.key");
+
+    Assert.assertEquals(expected.size(), index.getSize());
+    for (int i = -10; i < RECORDS + 20; i++) {
+      Assert.assertEquals(expected.get(i), index.get(i));
+      Assert.assertEquals(expected.containsKey(i), index.contains(i));
+    }
+
+    try {
+      db.save(new ODocument("Item").field("key", expected.firstKey()));
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+  }
+
+  private void open() {
+    orientDB = new OrientDB("embedded:./target/databases", OrientDBConfig.defaultConfig());
+    db = orientDB.open(DB_NAME, "admin", "admin");
+  }
+
+  private void close() {
+    db.close();
+    orientDB.close();
+  }
+}
@@ -0,0 +1,217 @@
+package com.orientechnologies.orient.core.storage.index.hashindex.local.cache;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class WOWCachePageCompressionTestIT {
+  private static final int systemOffset = 2 * (OIntegerSerializer.INT_SIZE + OLongSerializer.LONG_SIZE);
+  private static final int pageSize     = 16 * 1024;
+
+  private static final String fileName = "wowCacheCompressionTest.tst";
+
+  private static OLocalPaginatedStorage storageLocal;
+  private static final OByteBufferPool bufferPool = new OByteBufferPool(pageSize);
+
+  private static String pageCompression;
+
+  private OWOWCache wowCache;
+  private final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+
+    pageCompression = OGlobalConfiguration.DISK_CACHE_PAGE_COMPRESSION.getValueAsString();
+    OGlobalConfiguration.DISK_CACHE_PAGE_COMPRESSION.setValue(OLZ4Compression.NAME);
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+
+    storageLocal = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal").
+        createStorage(buildDirectory + "/WOWCachePageCompressionTest", null);
+    storageLocal.create(new OContextConfiguration());
+  }
+
+  @Before
+  public void beforeMethod() throws Exception {
+    Files.createDirectories(storageLocal.getStoragePath());
+    openCache();
+  }
+
+  @After
+  public void afterMethod() throws IOException {
+    wowCache.delete();
+    wowCache = null;
+  }
+
+  @AfterClass
+  public static void afterClass() throws IOException {
+    storageLocal.delete();
+
+    final File directory = new File(storageLocal.getConfiguration().getDirectory());
+    if (directory.exists())
+      Assert.assertTrue(directory.delete());
+
+    bufferPool.clear();
+
+    OGlobalConfiguration.DISK_CACHE_PAGE_COMPRESSION.setValue(pageCompression);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.TRUE);
+  }
+
+  @Test
+  public void testCompressedPagesAreLoadedAfterReopen() throws IOException, InterruptedException {
+    final Random random = new Random();
+
+    long fileId = wowCache.addFile(fileName);
+    final String nativeFileName = wowCache.nativeFileNameById(fileId);
+
+    final byte[][] pageData = new byte[100][];
+    for (int i = 0; i < pageData.length; i++) {
+      final byte[] data = new byte[pageSize - systemOffset];
+
+      // the last page can not be compressed
+      if (i == pageData.length - 1)
+        random.nextBytes(data);
+      else {
+        final byte[] prefix = new byte[64];
+        random.nextBytes(prefix);
+        System.arraycopy(prefix, 0, data, 0, prefix.length);
+      }
+
+      pageData[i] = data;
+      storePage(fileId, i, data);
+    }
+
+    wowCache.flush();
+
+    for (int i = 0; i < pageData.length; i++) {
+      final byte[] content = readStoredPage(nativeFileName, i);
+      final long magicNumber = OLongSerializer.INSTANCE.deserializeNative(content, 0);
+
+      if (i == pageData.length - 1)
+        Assert.assertEquals(OWOWCache.MAGIC_NUMBER_WITH_CHECKSUM, magicNumber);
+      else
+        Assert.assertNotEquals(OWOWCache.MAGIC_NUMBER_WITH_CHECKSUM, magicNumber);
+    }
+
+    wowCache.close();
+    openCache();
+
+    fileId = wowCache.loadFile(fileName);
+    Assert.assertEquals(pageData.length, wowCache.getFilledUpTo(fileId));
+
+    for (int i = 0; i < pageData.length; i++) {
+      final OCachePointer cachePointer = wowCache.load(fileId, i, 1, false, new OModifiableBoolean(), true)[0];
+      final byte[] data = new byte[pageSize - systemOffset];
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      buffer.position(systemOffset);
+      buffer.get(data);
+      cachePointer.decrementReadersReferrer();
+
+      Assert.assertArrayEquals(pageData[i], data);
+    }
+  }
+
+  @Test
+  public void testChecksumFailureOfCompressedPage() throws IOException, InterruptedException {
+    wowCache.setChecksumMode(OChecksumMode.StoreAndThrow);
+
+    final long fileId = wowCache.addFile(fileName);
+    final String nativeFileName = wowCache.nativeFileNameById(fileId);
+
+    final byte[] data = new byte[pageSize - systemOffset];
+    data[data.length - 1] = 1;
+    storePage(fileId, 0, data);
+
+    wowCache.flush();
+
+    // page is loaded without errors till its stored form is broken
+    wowCache.close();
+    openCache();
+    wowCache.setChecksumMode(OChecksumMode.StoreAndThrow);
+    wowCache.loadFile(fileName);
+    wowCache.load(fileId, 0, 1, false, new OModifiableBoolean(), true)[0].decrementReadersReferrer();
+    wowCache.close();
+
+    // last bytes of LZ4 block are always literals, so they are the last bytes of original page
+    final byte[] content = readStoredPage(nativeFileName, 0);
+    final int compressedLength = OIntegerSerializer.INSTANCE.deserializeNative(content, OLongSerializer.LONG_SIZE);
+    final int nameLength = content[OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE];
+    final int lastByte = OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE + 1 + nameLength + compressedLength - 1;
+    Assert.assertEquals(1, content[lastByte]);
+
+    final OFileClassic file = new OFileClassic(storageLocal.getStoragePath().resolve(nativeFileName));
+    file.open();
+    file.writeByte(lastByte, (byte) 2);
+    file.close();
+
+    openCache();
+    wowCache.setChecksumMode(OChecksumMode.StoreAndThrow);
+    wowCache.loadFile(fileName);
+
+    try {
+      wowCache.load(fileId, 0, 1, false, new OModifiableBoolean(), true);
+      Assert.fail();
+    } catch (OStorageException e) {
+      // ok
+    }
+  }
+
+  private void openCache() throws IOException, InterruptedException {
+    wowCache = new OWOWCache(pageSize, bufferPool, null, 10, 100, storageLocal, false, files, 1, OChecksumMode.StoreAndVerify);
+    wowCache.loadRegisteredFiles();
+  }
+
+  private void storePage(final long fileId, final long pageIndex, final byte[] data) throws IOException {
+    final OCachePointer cachePointer = wowCache.load(fileId, pageIndex, 1, true, new OModifiableBoolean(), true)[0];
+    cachePointer.acquireExclusiveLock();
+
+    final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+    buffer.position(systemOffset);
+    buffer.put(data);
+    cachePointer.releaseExclusiveLock();
+
+    wowCache.store(fileId, pageIndex, cachePointer);
+    cachePointer.decrementReadersReferrer();
+  }
+
+  private static byte[] readStoredPage(final String nativeFileName, final long pageIndex) throws IOException {
+    final Path path = storageLocal.getStoragePath().resolve(nativeFileName);
+    final OFileClassic file = new OFileClassic(path);
+    file.open();
+    try {
+      final byte[] content = new byte[pageSize];
+      file.read(pageIndex * pageSize, content, pageSize);
+      return content;
+    } finally {
+      file.close();
+    }
+  }
+}
@@ -22,6 +22,7 @@ import org.junit.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -257,6 +258,61 @@ public class WOWCacheTestIT {
 
   }
 
+  @Test
+  public void testFlushOfSeveralFiles() throws IOException {
+    final Random random = new Random();
+
+    final long[] fileIds = new long[4];
+    final String[] nativeFileNames = new String[fileIds.length];
+    final byte[][][] pageData = new byte[fileIds.length][100][];
+
+    for (int n = 0; n < fileIds.length; n++) {
+      fileIds[n] = wowCache.addFile("severalFilesFlush" + n + ".tst");
+      nativeFileNames[n] = wowCache.nativeFileNameById(fileIds[n]);
+    }
+
+    //pages of different files are interleaved and some of them are skipped to get several chunks per file
+    for (int i = 0; i < pageData[0].length; i++) {
+      for (int n = 0; n < fileIds.length; n++) {
+        byte[] data = new byte[8];
+        random.nextBytes(data);
+
+        pageData[n][i] = data;
+
+        final OCachePointer cachePointer = wowCache.load(fileIds[n], i, 1, true, new OModifiableBoolean(), true)[0];
+        if (i % 7 == 3) {
+          cachePointer.decrementReadersReferrer();
+          continue;
+        }
+
+        cachePointer.acquireExclusiveLock();
+
+        ByteBuffer buffer = cachePointer.getBufferDuplicate();
+        buffer.position(systemOffset);
+        buffer.put(data);
+        cachePointer.releaseExclusiveLock();
+
+        wowCache.store(fileIds[n], i, cachePointer);
+        cachePointer.decrementReadersReferrer();
+      }
+    }
+
+    wowCache.flush();
+
+    for (int n = 0; n < fileIds.length; n++) {
+      for (int i = 0; i < pageData[n].length; i++) {
+        if (i % 7 == 3)
+          continue;
+
+        assertFile(i, pageData[n][i], new OLogSequenceNumber(0, 0), nativeFileNames[n]);
+      }
+    }
+
+    for (long fileId : fileIds) {
+      wowCache.deleteFile(fileId);
+    }
+  }
+
   @Test
   public void testFileRestore() throws IOException {
     final long nonDelFileId = wowCache.addFile(fileName);
@@ -282,6 +338,93 @@ public class WOWCacheTestIT {
     Assert.assertTrue(!deletedFile.exists());
   }
 
+  @Test
+  public void testMappedReads() throws Exception {
+    final Random random = new Random();
+    final byte[][] pageData = new byte[20][];
+
+    long fileId = wowCache.addFile(fileName);
+    final String nativeFileName = wowCache.nativeFileNameById(fileId);
+
+    for (int i = 0; i < pageData.length; i++) {
+      final byte[] data = new byte[8];
+      random.nextBytes(data);
+      pageData[i] = data;
+
+      final OCachePointer cachePointer = wowCache.load(fileId, i, 1, true, new OModifiableBoolean(), true)[0];
+      cachePointer.acquireExclusiveLock();
+
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      buffer.position(systemOffset);
+      buffer.put(data);
+      cachePointer.releaseExclusiveLock();
+
+      wowCache.store(fileId, i, cachePointer);
+      cachePointer.decrementReadersReferrer();
+    }
+
+    wowCache.close();
+
+    //only complete segments of the file are mapped, so file is extended past the end of the first segment
+    final long segmentSize = 64L * 1024 * 1024;
+    try (RandomAccessFile file = new RandomAccessFile(
+        Paths.get(storageLocal.getConfiguration().getDirectory(), nativeFileName).toFile(), "rw")) {
+      file.setLength(OFileClassic.HEADER_SIZE + segmentSize + 4 * pageSize);
+    }
+
+    OGlobalConfiguration.DISK_CACHE_MMAP_READS.setValue(true);
+    try {
+      initBuffer();
+    } finally {
+      OGlobalConfiguration.DISK_CACHE_MMAP_READS.setValue(false);
+    }
+
+    fileId = wowCache.fileIdByName(fileName);
+
+    //tail of the file which does not fill the whole segment is read into the pooled buffer
+    final OCachePointer tailPointer = wowCache
+        .load(fileId, segmentSize / pageSize + 1, 1, false, new OModifiableBoolean(), false)[0];
+    Assert.assertFalse(tailPointer.isMapped());
+    tailPointer.decrementReadersReferrer();
+
+    for (int i = 0; i < pageData.length; i++) {
+      final OCachePointer cachePointer = wowCache.load(fileId, i, 1, false, new OModifiableBoolean(), true)[0];
+      Assert.assertTrue(cachePointer.isMapped());
+
+      final byte[] data = new byte[8];
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      buffer.position(systemOffset);
+      buffer.get(data);
+      cachePointer.decrementReadersReferrer();
+
+      Assert.assertArrayEquals(pageData[i], data);
+    }
+
+    final byte[] newData = new byte[8];
+    random.nextBytes(newData);
+
+    final OCachePointer cachePointer = wowCache.load(fileId, 3, 1, false, new OModifiableBoolean(), true)[0];
+    Assert.assertTrue(cachePointer.isMapped());
+
+    cachePointer.acquireExclusiveLock();
+    Assert.assertFalse(cachePointer.isMapped());
+
+    final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+    buffer.position(systemOffset);
+    buffer.put(newData);
+    cachePointer.releaseExclusiveLock();
+
+    wowCache.store(fileId, 3, cachePointer);
+    cachePointer.decrementReadersReferrer();
+
+    assertFile(3, pageData[3], new OLogSequenceNumber(0, 0), nativeFileName);
+
+    wowCache.flush();
+
+    assertFile(3, newData, new OLogSequenceNumber(0, 0), nativeFileName);
+    assertFile(4, pageData[4], new OLogSequenceNumber(0, 0), nativeFileName);
+  }
+
   @Test
   public void testFileRestoreAfterClose() throws Exception {
     final long nonDelFileId = wowCache.addFile(fileName);
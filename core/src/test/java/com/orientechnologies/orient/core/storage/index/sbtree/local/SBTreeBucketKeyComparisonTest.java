@@ -0,0 +1,162 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.ODoubleSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OSimpleKeySerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class SBTreeBucketKeyComparisonTest {
+  @Test
+  public void testIntegerKeys() throws Exception {
+    final Random random = new Random(17);
+    final List<Integer> keys = new ArrayList<Integer>();
+    for (int i = 0; i < 200; i++)
+      keys.add(random.nextInt());
+
+    final List<Integer> probes = new ArrayList<Integer>(keys);
+    probes.add(Integer.MIN_VALUE);
+    probes.add(Integer.MAX_VALUE);
+    probes.add(0);
+
+    assertFind(OIntegerSerializer.INSTANCE, null, keys, probes);
+  }
+
+  @Test
+  public void testDoubleKeys() throws Exception {
+    final List<Double> keys = Arrays.asList(-1.5, -0.0, 0.0, 1e-9, 3.25, Double.MAX_VALUE, Double.POSITIVE_INFINITY);
+    final List<Double> probes = new ArrayList<Double>(keys);
+    probes.add(Double.NEGATIVE_INFINITY);
+    probes.add(2.0);
+
+    assertFind(ODoubleSerializer.INSTANCE, null, keys, probes);
+  }
+
+  @Test
+  public void testStringKeys() throws Exception {
+    final List<String> keys = Arrays.asList("", "a", "ab", "abc", "b", "z", "\u00e9t\u00e9", "\u0100", "\uffff");
+    final List<String> probes = new ArrayList<String>(keys);
+    probes.add("aa");
+    probes.add("abcd");
+    probes.add("\u00e9");
+    probes.add("\u00ff");
+
+    assertFind(OStringSerializer.INSTANCE, null, keys, probes);
+  }
+
+  @Test
+  public void testLinkKeys() throws Exception {
+    final List<OIdentifiable> keys = new ArrayList<OIdentifiable>();
+    for (int clusterId = 0; clusterId < 3; clusterId++)
+      for (long position : new long[] { 0, 1, 255, 256, 1L << 40 })
+        keys.add(new ORecordId(clusterId, position));
+
+    final List<OIdentifiable> probes = new ArrayList<OIdentifiable>(keys);
+    probes.add(new ORecordId(1, 128));
+    probes.add(new ORecordId(5, 0));
+
+    assertFind(OLinkSerializer.INSTANCE, null, keys, probes);
+  }
+
+  @Test
+  public void testSimpleKeys() throws Exception {
+    final List<String> keys = Arrays.asList("a", "b", "c");
+    final List<String> probes = Arrays.asList("a", "bb", "c", "d");
+
+    assertFind(new OSimpleKeySerializer<String>(), new OType[] { OType.STRING }, keys, probes);
+  }
+
+  @Test
+  public void testCompositeKeys() throws Exception {
+    final List<OCompositeKey> keys = new ArrayList<OCompositeKey>();
+    for (int i = 0; i < 10; i++) {
+      keys.add(new OCompositeKey(i, null));
+      keys.add(new OCompositeKey(i, "a"));
+      keys.add(new OCompositeKey(i, "b"));
+    }
+
+    final List<OCompositeKey> probes = new ArrayList<OCompositeKey>(keys);
+    probes.add(new OCompositeKey(5));
+    probes.add(new OCompositeKey(5, new OAlwaysLessKey()));
+    probes.add(new OCompositeKey(5, new OAlwaysGreaterKey()));
+    probes.add(new OCompositeKey(5, "ab"));
+    probes.add(new OCompositeKey(11, "a"));
+
+    assertFind(OCompositeKeySerializer.INSTANCE, new OType[] { OType.INTEGER, OType.STRING }, keys, probes);
+  }
+
+  private static <K> void assertFind(OBinarySerializer<K> keySerializer, OType[] keyTypes, List<? extends K> keys,
+      List<? extends K> probes) throws Exception {
+    final List<K> sortedKeys = new ArrayList<K>(keys);
+    sortedKeys.sort(ODefaultComparator.INSTANCE);
+
+    for (boolean isLeaf : new boolean[] { true, false }) {
+      final OByteBufferPool bufferPool = OByteBufferPool.instance();
+      final ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+      final OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+      cachePointer.incrementReferrer();
+
+      final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+      cacheEntry.acquireExclusiveLock();
+
+      final OSBTreeBucket<K, OIdentifiable> bucket = new OSBTreeBucket<K, OIdentifiable>(cacheEntry, isLeaf, keySerializer,
+          keyTypes, OLinkSerializer.INSTANCE, null);
+
+      for (int i = 0; i < sortedKeys.size(); i++) {
+        final OSBTreeValue<OIdentifiable> value = isLeaf ? new OSBTreeValue<OIdentifiable>(false, -1, new ORecordId(1, i)) : null;
+        Assert.assertTrue(bucket.addEntry(i, new OSBTreeBucket.SBTreeEntry<K, OIdentifiable>(i, i + 1, sortedKeys.get(i), value),
+            true));
+      }
+
+      for (K probe : probes)
+        Assert.assertEquals("Search of " + probe, find(bucket, probe), bucket.find(probe));
+
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+
+  /**
+   * Binary search which compares deserialized keys.
+   */
+  private static <K> int find(OSBTreeBucket<K, ?> bucket, K key) {
+    int low = 0;
+    int high = bucket.size() - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int cmp = ODefaultComparator.INSTANCE.compare(bucket.getKey(mid), key);
+
+      if (cmp < 0)
+        low = mid + 1;
+      else if (cmp > 0)
+        high = mid - 1;
+      else
+        return mid;
+    }
+
+    return -(low + 1);
+  }
+}
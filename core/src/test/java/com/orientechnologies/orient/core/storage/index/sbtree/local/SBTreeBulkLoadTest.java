@@ -0,0 +1,192 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SBTreeBulkLoadTest extends DatabaseAbstractTest {
+
+  @Test
+  public void testShuffledKeysAreLoadedFromSeveralWriters() throws Exception {
+    final int keys = 200000;
+    final OSBTree<Integer, OIdentifiable> sbTree = createTree("sbTreeBulkLoadShuffled", OIntegerSerializer.INSTANCE,
+        OLinkSerializer.INSTANCE);
+
+    final List<Integer> shuffled = new ArrayList<>();
+    for (int i = 0; i < keys; i++)
+      shuffled.add(i);
+    Collections.shuffle(shuffled, new Random(42));
+
+    final OSBTreeBulkLoader<Integer, OIdentifiable> loader = sbTree.createBulkLoader();
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int part = 0; part < 2; part++) {
+        final List<Integer> partKeys = shuffled.subList(part * keys / 2, (part + 1) * keys / 2);
+        futures.add(executor.submit(() -> {
+          final OSBTreeBulkLoader<Integer, OIdentifiable>.Writer writer = loader.newWriter();
+          for (int key : partKeys)
+            writer.add(key, new ORecordId(1, key));
+          writer.flush();
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures)
+        future.get();
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals(keys, loader.load(null));
+    Assert.assertEquals(keys, sbTree.size());
+
+    for (int i = 0; i < keys; i++)
+      Assert.assertEquals(new ORecordId(1, i), sbTree.get(i));
+
+    assertOrder(sbTree, keys);
+
+    // tree is modified as usual after the load
+    sbTree.put(keys, new ORecordId(1, keys));
+    sbTree.put(-1, new ORecordId(1, 0));
+    Assert.assertEquals(new ORecordId(1, 10), sbTree.remove(10));
+    Assert.assertEquals(keys + 1, sbTree.size());
+    Assert.assertEquals(-1, (int) sbTree.firstKey());
+    Assert.assertEquals(keys, (int) sbTree.lastKey());
+
+    sbTree.delete();
+  }
+
+  @Test
+  public void testMultiLevelTreeWithLinkedValues() {
+    final int keys = 40000;
+    final OSBTree<String, String> sbTree = createTree("sbTreeBulkLoadMultiLevel", OStringSerializer.INSTANCE,
+        OStringSerializer.INSTANCE);
+
+    final StringBuilder padding = new StringBuilder();
+    for (int i = 0; i < 500; i++)
+      padding.append('k');
+
+    final StringBuilder bigValue = new StringBuilder();
+    for (int i = 0; i < 30000; i++)
+      bigValue.append('v');
+
+    final OSBTreeBulkLoader<String, String> loader = sbTree.createBulkLoader();
+    final OSBTreeBulkLoader<String, String>.Writer writer = loader.newWriter();
+    for (int i = keys - 1; i >= 0; i--)
+      writer.add(key(padding, i), i % 1000 == 0 ? bigValue + "-" + i : "value-" + i);
+    writer.flush();
+
+    Assert.assertEquals(keys, loader.load(null));
+    Assert.assertEquals(keys, sbTree.size());
+
+    for (int i = 0; i < keys; i++)
+      Assert.assertEquals(i % 1000 == 0 ? bigValue + "-" + i : "value-" + i, sbTree.get(key(padding, i)));
+
+    Assert.assertEquals(key(padding, 0), sbTree.firstKey());
+    Assert.assertEquals(key(padding, keys - 1), sbTree.lastKey());
+
+    final OSBTree.OSBTreeCursor<String, String> cursor = sbTree.iterateEntriesMajor(key(padding, 0), true, true);
+    int count = 0;
+    Map.Entry<String, String> entry;
+    while ((entry = cursor.next(-1)) != null) {
+      Assert.assertEquals(key(padding, count), entry.getKey());
+      count++;
+    }
+    Assert.assertEquals(keys, count);
+
+    sbTree.delete();
+  }
+
+  @Test
+  public void testDuplicatedKeysAreResolvedByValidator() {
+    final OSBTree<Integer, OIdentifiable> sbTree = createTree("sbTreeBulkLoadDuplicates", OIntegerSerializer.INSTANCE,
+        OLinkSerializer.INSTANCE);
+
+    final OSBTreeBulkLoader<Integer, OIdentifiable> loader = sbTree.createBulkLoader();
+    final OSBTreeBulkLoader<Integer, OIdentifiable>.Writer writer = loader.newWriter();
+    for (int i = 0; i < 1000; i++) {
+      writer.add(i, new ORecordId(1, i));
+      writer.add(i % 10, new ORecordId(2, i));
+    }
+    writer.flush();
+
+    // the biggest value wins, the same value is ignored
+    final OIndexEngine.Validator<Integer, OIdentifiable> validator = (key, oldValue, newValue) -> {
+      if (oldValue.equals(newValue))
+        return OIndexEngine.Validator.IGNORE;
+      return oldValue.getIdentity().compareTo(newValue.getIdentity()) > 0 ? oldValue : newValue;
+    };
+
+    Assert.assertEquals(1000, loader.load(validator));
+    Assert.assertEquals(1000, sbTree.size());
+
+    for (int i = 0; i < 10; i++)
+      Assert.assertEquals(new ORecordId(2, 990 + i), sbTree.get(i));
+    for (int i = 10; i < 1000; i++)
+      Assert.assertEquals(new ORecordId(1, i), sbTree.get(i));
+
+    sbTree.delete();
+  }
+
+  @Test
+  public void testEntriesArePutIfTreeIsNotEmpty() {
+    final OSBTree<Integer, OIdentifiable> sbTree = createTree("sbTreeBulkLoadNotEmpty", OIntegerSerializer.INSTANCE,
+        OLinkSerializer.INSTANCE);
+    sbTree.put(5, new ORecordId(3, 5));
+
+    final OSBTreeBulkLoader<Integer, OIdentifiable> loader = sbTree.createBulkLoader();
+    final OSBTreeBulkLoader<Integer, OIdentifiable>.Writer writer = loader.newWriter();
+    for (int i = 0; i < 100; i++)
+      writer.add(i, new ORecordId(1, i));
+    writer.flush();
+
+    // value which is already in the tree is kept
+    Assert.assertEquals(99, loader.load((key, oldValue, newValue) -> oldValue != null ? OIndexEngine.Validator.IGNORE : newValue));
+    Assert.assertEquals(100, sbTree.size());
+
+    Assert.assertEquals(new ORecordId(3, 5), sbTree.get(5));
+    Assert.assertEquals(new ORecordId(1, 6), sbTree.get(6));
+
+    sbTree.delete();
+  }
+
+  private <K, V> OSBTree<K, V> createTree(String name, OBinarySerializer<K> keySerializer, OBinarySerializer<V> valueSerializer) {
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    final OSBTree<K, V> sbTree = new OSBTree<>(name, ".sbt", ".nbt", storage);
+    sbTree.create(keySerializer, valueSerializer, null, 1, false, null);
+    return sbTree;
+  }
+
+  private static String key(StringBuilder padding, int i) {
+    return padding + String.format("%08d", i);
+  }
+
+  private static void assertOrder(OSBTree<Integer, OIdentifiable> sbTree, int keys) {
+    final OSBTree.OSBTreeKeyCursor<Integer> cursor = sbTree.keyCursor();
+    int expected = 0;
+    Integer key;
+    while ((key = cursor.next(-1)) != null) {
+      Assert.assertEquals(expected, (int) key);
+      expected++;
+    }
+    Assert.assertEquals(keys, expected);
+  }
+}
@@ -0,0 +1,226 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class SBTreePrefixCompressionTest extends DatabaseAbstractTest {
+  private static final String TENANT_PREFIX;
+
+  static {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 300; i++)
+      builder.append('t');
+    TENANT_PREFIX = builder.toString();
+  }
+
+  @Test
+  public void testCompressedLeafBucketContainsMoreEntriesThanFullKeys() throws Exception {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+    final ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+    final OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+
+    final OSBTreeBucket<String, OIdentifiable> bucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true,
+        OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE, null);
+
+    // keys are added in random order, so the prefix is shortened while the bucket is filled
+    final List<String> keys = new ArrayList<String>();
+    for (int i = 0; i < 1000; i++)
+      keys.add(TENANT_PREFIX + String.format("%08d", i));
+    Collections.shuffle(keys, new Random(7));
+
+    final TreeMap<String, OIdentifiable> added = new TreeMap<String, OIdentifiable>();
+    for (String key : keys) {
+      final int index = -bucket.find(key) - 1;
+      final ORecordId value = new ORecordId(1, added.size());
+      if (!bucket.addEntry(index, new OSBTreeBucket.SBTreeEntry<String, OIdentifiable>(-1, -1, key,
+          new OSBTreeValue<OIdentifiable>(false, -1, value)), true))
+        break;
+
+      added.put(key, value);
+    }
+
+    final int fullKeySize = OStringSerializer.INSTANCE.getObjectSize(keys.get(0));
+    Assert.assertTrue(added.size() > 2 * ODurablePage.MAX_PAGE_SIZE_BYTES / fullKeySize);
+
+    assertBucket(bucket, added);
+
+    cacheEntry.releaseExclusiveLock();
+    cachePointer.decrementReferrer();
+  }
+
+  @Test
+  public void testBucketWithoutCompressionIsReadAndConverted() throws Exception {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+    final ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+    final OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer);
+    cacheEntry.acquireExclusiveLock();
+
+    new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE, null);
+
+    // bucket of the format without compression has no prefix at the end of the page and is marked as usual leaf bucket
+    buffer.putInt(ODurablePage.NEXT_FREE_POSITION, ODurablePage.MAX_PAGE_SIZE_BYTES);
+    buffer.put(ODurablePage.NEXT_FREE_POSITION + 2 * OIntegerSerializer.INT_SIZE, (byte) 1);
+
+    OSBTreeBucket<String, OIdentifiable> bucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, OStringSerializer.INSTANCE,
+        null, OLinkSerializer.INSTANCE, null);
+    final int freeSpace = bucket.getFreeSpace();
+
+    final TreeMap<String, OIdentifiable> added = new TreeMap<String, OIdentifiable>();
+    for (int i = 0; i < 10; i++) {
+      final String key = TENANT_PREFIX + i;
+      final ORecordId value = new ORecordId(1, i);
+      Assert.assertTrue(bucket.addEntry(i, new OSBTreeBucket.SBTreeEntry<String, OIdentifiable>(-1, -1, key,
+          new OSBTreeValue<OIdentifiable>(false, -1, value)), true));
+      added.put(key, value);
+    }
+
+    final int entrySize = OSBTreeBucket.leafEntrySize(OStringSerializer.INSTANCE.getObjectSize(TENANT_PREFIX + 0),
+        OLinkSerializer.RID_SIZE);
+    Assert.assertEquals(freeSpace - 10 * entrySize, bucket.getFreeSpace());
+    assertBucket(bucket, added);
+
+    bucket.shrink(8);
+    added.remove(TENANT_PREFIX + 8);
+    added.remove(TENANT_PREFIX + 9);
+
+    assertBucket(bucket, added);
+
+    // key which does not share prefix of the converted bucket
+    Assert.assertTrue(bucket.addEntry(0, new OSBTreeBucket.SBTreeEntry<String, OIdentifiable>(-1, -1, "a",
+        new OSBTreeValue<OIdentifiable>(false, -1, new ORecordId(2, 0))), true));
+    added.put("a", new ORecordId(2, 0));
+    assertBucket(bucket, added);
+
+    bucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE, null);
+    assertBucket(bucket, added);
+
+    cacheEntry.releaseExclusiveLock();
+    cachePointer.decrementReferrer();
+  }
+
+  @Test
+  public void testStringKeysWithCommonPrefix() {
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    final OSBTree<String, OIdentifiable> sbTree = new OSBTree<String, OIdentifiable>("sbTreePrefixCompression", ".sbt", ".nbt",
+        storage);
+    sbTree.create(OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+
+    final Random random = new Random(11);
+    final TreeMap<String, OIdentifiable> expected = new TreeMap<String, OIdentifiable>();
+    for (int i = 0; i < 20000; i++) {
+      final String key = TENANT_PREFIX + random.nextInt(8) + "-" + random.nextInt(100000);
+      final ORecordId value = new ORecordId(1, i);
+      sbTree.put(key, value);
+      expected.put(key, value);
+    }
+
+    int removed = 0;
+    for (String key : new ArrayList<String>(expected.keySet())) {
+      if (removed++ % 3 == 0) {
+        Assert.assertEquals(expected.remove(key), sbTree.remove(key));
+      }
+    }
+
+    Assert.assertEquals(expected.size(), sbTree.size());
+    for (Map.Entry<String, OIdentifiable> entry : expected.entrySet())
+      Assert.assertEquals(entry.getValue(), sbTree.get(entry.getKey()));
+
+    Assert.assertNull(sbTree.get(TENANT_PREFIX));
+    Assert.assertEquals(expected.firstKey(), sbTree.firstKey());
+    Assert.assertEquals(expected.lastKey(), sbTree.lastKey());
+
+    final String from = TENANT_PREFIX + "3";
+    final OSBTree.OSBTreeCursor<String, OIdentifiable> cursor = sbTree.iterateEntriesMajor(from, true, true);
+    for (Map.Entry<String, OIdentifiable> entry : expected.tailMap(from, true).entrySet()) {
+      final Map.Entry<String, OIdentifiable> treeEntry = cursor.next(-1);
+      Assert.assertEquals(entry.getKey(), treeEntry.getKey());
+      Assert.assertEquals(entry.getValue(), treeEntry.getValue());
+    }
+    Assert.assertNull(cursor.next(-1));
+
+    sbTree.delete();
+  }
+
+  @Test
+  public void testCompositeKeysWithCommonLeadingItems() {
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    final OSBTree<OCompositeKey, OIdentifiable> sbTree = new OSBTree<OCompositeKey, OIdentifiable>("sbTreeCompositePrefix",
+        ".sbt", ".nbt", storage);
+    sbTree.create(OCompositeKeySerializer.INSTANCE, OLinkSerializer.INSTANCE, new OType[] { OType.STRING, OType.INTEGER,
+        OType.STRING }, 3, false, null);
+
+    final Random random = new Random(13);
+    final TreeMap<OCompositeKey, OIdentifiable> expected = new TreeMap<OCompositeKey, OIdentifiable>();
+    for (int i = 0; i < 20000; i++) {
+      final OCompositeKey key = new OCompositeKey(TENANT_PREFIX + random.nextInt(3), random.nextInt(20),
+          "name-" + random.nextInt(100000));
+      final ORecordId value = new ORecordId(1, i);
+      sbTree.put(key, value);
+      expected.put(key, value);
+    }
+
+    Assert.assertEquals(expected.size(), sbTree.size());
+    for (Map.Entry<OCompositeKey, OIdentifiable> entry : expected.entrySet())
+      Assert.assertEquals(entry.getValue(), sbTree.get(entry.getKey()));
+
+    // partial key search goes through compressed leading items
+    final OCompositeKey partialKey = new OCompositeKey(TENANT_PREFIX + 1, 5);
+    final OSBTree.OSBTreeCursor<OCompositeKey, OIdentifiable> cursor = sbTree.iterateEntriesBetween(partialKey, true, partialKey,
+        true, true);
+    int count = 0;
+    while (cursor.next(-1) != null)
+      count++;
+
+    Assert.assertEquals(expected.subMap(new OCompositeKey(TENANT_PREFIX + 1, 5, ""), new OCompositeKey(TENANT_PREFIX + 1, 6, ""))
+        .size(), count);
+
+    sbTree.delete();
+  }
+
+  private static void assertBucket(OSBTreeBucket<String, OIdentifiable> bucket, TreeMap<String, OIdentifiable> expected) {
+    Assert.assertEquals(expected.size(), bucket.size());
+
+    int index = 0;
+    for (Map.Entry<String, OIdentifiable> entry : expected.entrySet()) {
+      Assert.assertEquals(index, bucket.find(entry.getKey()));
+      Assert.assertEquals(entry.getKey(), bucket.getKey(index));
+      Assert.assertEquals(entry.getKey(), bucket.getEntry(index).key);
+      Assert.assertEquals(entry.getValue(), bucket.getValue(index).getValue());
+      index++;
+    }
+
+    Assert.assertTrue(bucket.find(TENANT_PREFIX) < 0);
+  }
+}
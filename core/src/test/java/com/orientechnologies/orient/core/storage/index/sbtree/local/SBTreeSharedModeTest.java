@@ -0,0 +1,259 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class SBTreeSharedModeTest extends DatabaseAbstractTest {
+  private static final int INITIAL_KEYS = 20000;
+
+  private OSBTree<Integer, OIdentifiable> sbTree;
+  private OAtomicOperationsManager        atomicOperationsManager;
+  private ExecutorService                 executor;
+
+  @Before
+  public void beforeMethod() {
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+
+    sbTree = new OSBTree<>("sbTreeSharedModeTest", ".sbt", ".nbt", storage);
+    sbTree.create(OIntegerSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+
+    // only even keys, so odd keys may be inserted in the middle of any leaf page
+    for (int i = 0; i < INITIAL_KEYS; i++)
+      sbTree.put(i * 2, new ORecordId(1, i * 2));
+
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void afterMethod() throws Exception {
+    executor.shutdownNow();
+    Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    sbTree.delete();
+  }
+
+  @Test
+  public void testOperationsOnDifferentLeavesDoNotBlockEachOther() throws Exception {
+    final CountDownLatch firstPut = new CountDownLatch(1);
+    final CountDownLatch commitFirst = new CountDownLatch(1);
+
+    final Future<Void> first = executor.submit(() -> {
+      atomicOperationsManager.startAtomicOperation((String) null, false);
+      try {
+        Assert.assertTrue(sbTree.acquireAtomicSharedLock(Arrays.asList(1)));
+        sbTree.put(1, new ORecordId(2, 1));
+        firstPut.countDown();
+
+        Assert.assertTrue(commitFirst.await(30, TimeUnit.SECONDS));
+      } finally {
+        atomicOperationsManager.endAtomicOperation(false, null);
+      }
+      return null;
+    });
+
+    Assert.assertTrue(firstPut.await(30, TimeUnit.SECONDS));
+
+    // exclusive lock of the tree would wait for the first atomic operation which is not completed yet
+    final Future<Void> second = executor.submit(() -> {
+      putInSharedMode(INITIAL_KEYS * 2 - 1);
+      return null;
+    });
+    second.get(30, TimeUnit.SECONDS);
+
+    Assert.assertNull(sbTree.get(1));
+    Assert.assertEquals(new ORecordId(2, INITIAL_KEYS * 2 - 1), sbTree.get(INITIAL_KEYS * 2 - 1));
+
+    commitFirst.countDown();
+    first.get(30, TimeUnit.SECONDS);
+
+    Assert.assertEquals(new ORecordId(2, 1), sbTree.get(1));
+    Assert.assertEquals(INITIAL_KEYS + 2, sbTree.size());
+  }
+
+  @Test
+  public void testLeafIsLockedTillOperationIsCompleted() throws Exception {
+    final CountDownLatch firstPut = new CountDownLatch(1);
+    final CountDownLatch commitFirst = new CountDownLatch(1);
+
+    final Future<Void> first = executor.submit(() -> {
+      atomicOperationsManager.startAtomicOperation((String) null, false);
+      try {
+        Assert.assertTrue(sbTree.acquireAtomicSharedLock(Arrays.asList(1)));
+        sbTree.put(1, new ORecordId(2, 1));
+        firstPut.countDown();
+
+        Assert.assertTrue(commitFirst.await(30, TimeUnit.SECONDS));
+      } finally {
+        atomicOperationsManager.endAtomicOperation(false, null);
+      }
+      return null;
+    });
+
+    Assert.assertTrue(firstPut.await(30, TimeUnit.SECONDS));
+
+    final Future<Void> second = executor.submit(() -> {
+      putInSharedMode(3);
+      return null;
+    });
+
+    Thread.sleep(500);
+    Assert.assertFalse(second.isDone());
+
+    commitFirst.countDown();
+    first.get(30, TimeUnit.SECONDS);
+    second.get(30, TimeUnit.SECONDS);
+
+    Assert.assertEquals(new ORecordId(2, 1), sbTree.get(1));
+    Assert.assertEquals(new ORecordId(2, 3), sbTree.get(3));
+    Assert.assertEquals(INITIAL_KEYS + 2, sbTree.size());
+  }
+
+  @Test
+  public void testRollbackDiscardsChangesAndReleasesLeaf() throws Exception {
+    executor.submit(() -> {
+      atomicOperationsManager.startAtomicOperation((String) null, false);
+      try {
+        Assert.assertTrue(sbTree.acquireAtomicSharedLock(Arrays.asList(1, 2)));
+        sbTree.put(1, new ORecordId(2, 1));
+        Assert.assertEquals(new ORecordId(1, 2), sbTree.remove(2));
+      } finally {
+        atomicOperationsManager.endAtomicOperation(true, null);
+      }
+      return null;
+    }).get(30, TimeUnit.SECONDS);
+
+    Assert.assertNull(sbTree.get(1));
+    Assert.assertEquals(new ORecordId(1, 2), sbTree.get(2));
+    Assert.assertEquals(INITIAL_KEYS, sbTree.size());
+
+    executor.submit(() -> {
+      putInSharedMode(1);
+      return null;
+    }).get(30, TimeUnit.SECONDS);
+
+    Assert.assertEquals(new ORecordId(2, 1), sbTree.get(1));
+    Assert.assertEquals(INITIAL_KEYS + 1, sbTree.size());
+  }
+
+  @Test
+  public void testRemoveInSharedMode() throws Exception {
+    executor.submit(() -> {
+      atomicOperationsManager.startAtomicOperation((String) null, false);
+      try {
+        Assert.assertTrue(sbTree.acquireAtomicSharedLock(Arrays.asList(2, 3, 4)));
+        Assert.assertEquals(new ORecordId(1, 2), sbTree.remove(2));
+        Assert.assertNull(sbTree.remove(3));
+        Assert.assertEquals(new ORecordId(1, 4), sbTree.remove(4));
+      } finally {
+        atomicOperationsManager.endAtomicOperation(false, null);
+      }
+      return null;
+    }).get(30, TimeUnit.SECONDS);
+
+    Assert.assertNull(sbTree.get(2));
+    Assert.assertNull(sbTree.get(4));
+    Assert.assertEquals(INITIAL_KEYS - 2, sbTree.size());
+  }
+
+  @Test
+  public void testBigChangesAreNotAllowedInSharedMode() throws Exception {
+    final List<Integer> keys = new ArrayList<>();
+    for (int i = 0; i < 100000; i++)
+      keys.add(i);
+
+    final boolean sharedLock = executor.submit(() -> {
+      atomicOperationsManager.startAtomicOperation((String) null, false);
+      try {
+        return sbTree.acquireAtomicSharedLock(keys);
+      } finally {
+        atomicOperationsManager.endAtomicOperation(false, null);
+      }
+    }).get(30, TimeUnit.SECONDS);
+
+    Assert.assertFalse(sharedLock);
+  }
+
+  @Test
+  public void testConcurrentInsertionsSplitPages() throws Exception {
+    final int threads = 4;
+    final int keysPerThread = 5000;
+    final int keysPerOperation = 5;
+
+    final List<Future<Void>> futures = new ArrayList<>();
+    for (int n = 0; n < threads; n++) {
+      final int thread = n;
+
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < keysPerThread; i += keysPerOperation) {
+          final List<Integer> keys = new ArrayList<>();
+          for (int j = i; j < i + keysPerOperation; j++)
+            keys.add(INITIAL_KEYS * 2 + j * threads + thread);
+
+          atomicOperationsManager.startAtomicOperation((String) null, false);
+          try {
+            Assert.assertTrue(sbTree.acquireAtomicSharedLock(keys));
+            for (Integer key : keys)
+              sbTree.put(key, new ORecordId(3, key));
+          } finally {
+            atomicOperationsManager.endAtomicOperation(false, null);
+          }
+        }
+        return null;
+      }));
+    }
+
+    for (Future<Void> future : futures)
+      future.get(5, TimeUnit.MINUTES);
+
+    final int lastKey = INITIAL_KEYS * 2 + threads * keysPerThread - 1;
+    Assert.assertEquals(INITIAL_KEYS + threads * keysPerThread, sbTree.size());
+
+    for (int key = INITIAL_KEYS * 2; key <= lastKey; key++)
+      Assert.assertEquals(new ORecordId(3, key), sbTree.get(key));
+
+    final OSBTree.OSBTreeCursor<Integer, OIdentifiable> cursor = sbTree.iterateEntriesMajor(0, true, true);
+    int count = 0;
+    int previousKey = -1;
+    Map.Entry<Integer, OIdentifiable> entry = cursor.next(-1);
+    while (entry != null) {
+      Assert.assertTrue(entry.getKey() > previousKey);
+      previousKey = entry.getKey();
+      count++;
+
+      entry = cursor.next(-1);
+    }
+
+    Assert.assertEquals(INITIAL_KEYS + threads * keysPerThread, count);
+    Assert.assertEquals(lastKey, previousKey);
+  }
+
+  private void putInSharedMode(int key) throws Exception {
+    atomicOperationsManager.startAtomicOperation((String) null, false);
+    try {
+      Assert.assertTrue(sbTree.acquireAtomicSharedLock(Arrays.asList(key)));
+      sbTree.put(key, new ORecordId(2, key));
+    } finally {
+      atomicOperationsManager.endAtomicOperation(false, null);
+    }
+  }
+}
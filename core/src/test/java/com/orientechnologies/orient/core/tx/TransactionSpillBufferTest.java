@@ -0,0 +1,218 @@
+package com.orientechnologies.orient.core.tx;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TransactionSpillBufferTest {
+  private static final int THRESHOLD = 10;
+
+  private OrientDB          orientDB;
+  private ODatabaseDocument db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:",
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.TX_SPILL_THRESHOLD, THRESHOLD).build());
+    orientDB.create("transactionSpillBufferTest", ODatabaseType.MEMORY);
+    db = orientDB.open("transactionSpillBufferTest", "admin", "admin");
+
+    final OClass item = db.getMetadata().getSchema().createClass("Item");
+    item.createProperty("key", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop("transactionSpillBufferTest");
+    orientDB.close();
+  }
+
+  @Test
+  public void testCreatedRecordsAreCommitted() {
+    final int buffersBefore = countBufferFiles();
+
+    final List<ORID> rids = new ArrayList<>();
+    db.begin();
+    for (int i = 0; i < 1000; i++)
+      rids.add(db.save(new ODocument("Item").field("key", i).field("value", "value " + i)).getIdentity());
+
+    Assert.assertTrue(isSpilled(rids.get(0)));
+    Assert.assertEquals(buffersBefore + 1, countBufferFiles());
+
+    System.gc();
+
+    // own changes are visible inside of transaction
+    final ODocument loaded = db.load(rids.get(500));
+    Assert.assertEquals("value 500", loaded.field("value"));
+    try (OResultSet resultSet = db.query("select from Item where key = ?", 700)) {
+      Assert.assertEquals("value 700", resultSet.next().getProperty("value"));
+    }
+
+    db.commit();
+
+    Assert.assertEquals(buffersBefore, countBufferFiles());
+    Assert.assertEquals(1000, db.countClass("Item"));
+
+    db.getLocalCache().clear();
+    for (int i = 0; i < rids.size(); i++) {
+      final ORID rid = rids.get(i);
+      Assert.assertTrue(rid.isPersistent());
+
+      final ODocument document = db.load(rid);
+      Assert.assertEquals(i, (int) document.<Integer>field("key"));
+      Assert.assertEquals("value " + i, document.field("value"));
+    }
+
+    try (OResultSet resultSet = db.query("select from Item where key = ?", 300)) {
+      Assert.assertEquals(rids.get(300), resultSet.next().getIdentity().get());
+    }
+  }
+
+  @Test
+  public void testUpdatedRecordsAreCommitted() {
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < 100; i++)
+      rids.add(db.save(new ODocument("Item").field("key", i).field("value", 0)).getIdentity().copy());
+
+    db.begin();
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      document.field("value", 1);
+      db.save(document);
+    }
+
+    Assert.assertTrue(isSpilled(rids.get(0)));
+    System.gc();
+
+    // change record moved out of heap once again
+    final ODocument first = db.load(rids.get(0));
+    Assert.assertEquals(1, (int) first.<Integer>field("value"));
+    first.field("value", 2);
+    db.save(first);
+
+    db.commit();
+
+    // versions of records are consistent, so records may be updated again
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      Assert.assertEquals(2, document.getVersion());
+      Assert.assertEquals(rid.equals(rids.get(0)) ? 2 : 1, (int) document.<Integer>field("value"));
+
+      document.field("value", 3);
+      db.save(document);
+    }
+
+    db.getLocalCache().clear();
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      Assert.assertEquals(3, document.getVersion());
+      Assert.assertEquals(3, (int) document.<Integer>field("value"));
+    }
+  }
+
+  @Test
+  public void testRecordChangedAfterSpillIsCommitted() {
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < 100; i++)
+      rids.add(db.save(new ODocument("Item").field("key", i).field("value", 0)).getIdentity().copy());
+
+    db.begin();
+    ODocument changed = null;
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      document.field("value", 1);
+      db.save(document);
+
+      if (changed == null)
+        changed = document;
+    }
+
+    Assert.assertTrue(isSpilled(rids.get(0)));
+    Assert.assertTrue(isSpilled(rids.get(1)));
+
+    // record is changed without save after its content was moved out of heap
+    changed.field("value", 2);
+    changed = null;
+
+    final WeakReference<ORecord> unchanged = new WeakReference<>(
+        OTransactionSpillBuffer.getLoadedRecord(((OTransactionOptimistic) db.getTransaction()).getRecordEntry(rids.get(1))));
+    for (int i = 0; i < 10 && unchanged.get() != null; i++)
+      System.gc();
+    Assert.assertNull(unchanged.get());
+
+    db.commit();
+
+    db.getLocalCache().clear();
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      Assert.assertEquals(rid.equals(rids.get(0)) ? 2 : 1, (int) document.<Integer>field("value"));
+    }
+  }
+
+  @Test
+  public void testRecordsWhichLinkNewRecordsAreKeptInHeap() {
+    db.begin();
+    final ODocument target = db.save(new ODocument("Item").field("key", -1));
+
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < 100; i++)
+      rids.add(db.save(new ODocument("Item").field("key", i).field("link", target)).getIdentity());
+
+    for (ORID rid : rids)
+      Assert.assertFalse(isSpilled(rid));
+
+    db.commit();
+
+    Assert.assertTrue(target.getIdentity().isPersistent());
+    db.getLocalCache().clear();
+    for (ORID rid : rids) {
+      final ODocument document = db.load(rid);
+      Assert.assertEquals(target.getIdentity(), document.<ODocument>field("link").getIdentity());
+    }
+  }
+
+  @Test
+  public void testRollbackDiscardsRecords() {
+    final int buffersBefore = countBufferFiles();
+
+    db.begin();
+    for (int i = 0; i < 100; i++)
+      db.save(new ODocument("Item").field("key", i));
+
+    Assert.assertEquals(buffersBefore + 1, countBufferFiles());
+    db.rollback();
+
+    Assert.assertEquals(buffersBefore, countBufferFiles());
+    Assert.assertEquals(0, db.countClass("Item"));
+  }
+
+  private boolean isSpilled(ORID rid) {
+    final ORecordOperation operation = ((OTransactionOptimistic) db.getTransaction()).getRecordEntry(rid);
+    return operation.getRecordContainer() instanceof OTransactionSpillBuffer.OSpilledRecord;
+  }
+
+  private static int countBufferFiles() {
+    final File[] files = new File(Orient.getTempPath()).listFiles((dir, name) -> name.startsWith("txbuf") && name.endsWith(".tmp"));
+    return files == null ? 0 : files.length;
+  }
+}
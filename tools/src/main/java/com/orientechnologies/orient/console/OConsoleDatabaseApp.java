@@ -60,6 +60,8 @@ import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
 import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.OBlob;
@@ -518,6 +520,35 @@ public class OConsoleDatabaseApp extends OrientConsole implements OCommandOutput
     sqlCommand("truncate", iCommandText, "\nTruncated %d record(s) in %f sec(s).\n", true);
   }
 
+  @ConsoleCommand(description = "Compact the cluster moving its records to the free space at the beginning of the cluster and "
+      + "removing empty pages from its end. RIDs of records are not changed and the cluster stays available during compaction")
+  public void compactCluster(
+      @ConsoleParameter(name = "cluster-name", description = "The name or the id of the cluster to compact") String iClusterName) {
+    checkForDatabase();
+
+    final OStorage storage = currentDatabase.getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      // PROGRESS OF REMOTE COMPACTION IS REPORTED IN THE SERVER LOG
+      sqlCommand("compact", "cluster " + iClusterName, "\nCluster compacted with result '%s' in %f sec(s).\n", true);
+      return;
+    }
+
+    final int clusterId =
+        Character.isDigit(iClusterName.charAt(0)) ? Integer.parseInt(iClusterName) : currentDatabase.getClusterIdByName(iClusterName);
+    final String clusterName = clusterId >= 0 ? currentDatabase.getClusterNameById(clusterId) : null;
+    if (clusterName == null) {
+      message("\nCluster '%s' does not exist in the current database.\n", iClusterName);
+      return;
+    }
+
+    currentDatabase.checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_UPDATE, clusterName);
+
+    final long start = System.currentTimeMillis();
+    final long removedPages = ((OAbstractPaginatedStorage) storage).compactCluster(clusterId, this);
+
+    message("\nCluster compacted in %f sec(s), %d page(s) removed.\n", getElapsedSecs(start), removedPages);
+  }
+
   @ConsoleCommand(description = "Load a record in memory using passed fetch plan")
   public void loadRecord(
       @ConsoleParameter(name = "record-id", description = "The unique Record Id of the record to load. If you do not have the Record Id, execute a query first") String iRecordId,